@@ -0,0 +1,212 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.connection.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.pravega.shared.protocol.netty.Append;
+import io.pravega.shared.protocol.netty.AppendBatchSizeTracker;
+import io.pravega.shared.protocol.netty.AppendDecoder;
+import io.pravega.shared.protocol.netty.CommandDecoder;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.WireCommands;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.pravega.shared.metrics.MetricNotifier.NO_OP_METRIC_NOTIFIER;
+import static io.pravega.shared.protocol.netty.WireCommands.MAX_WIRECOMMAND_SIZE;
+
+/**
+ * Benchmarks for encoding commands with the client's {@link CommandEncoder} and decoding them with the Segment Store's
+ * decoding stack ({@link CommandDecoder} and {@link AppendDecoder}), and for encoding replies with the Segment Store's
+ * {@link io.pravega.shared.protocol.netty.CommandEncoder} and decoding them the way the client's connection does.
+ * No sockets are involved: encoded bytes are handed directly to the decoders.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CommandCodecBenchmark {
+    private static final String SEGMENT = "scope/stream/0.#epoch.0";
+    private static final int EVENTS_PER_BATCH = 100;
+
+    @Param({"100", "1000", "10000"})
+    public int eventLength;
+
+    /**
+     * Append block size used by the client's encoder; 0 disables batching (one block per event).
+     */
+    @Param({"0", "262144"})
+    public int blockSize;
+
+    private EmbeddedChannel serverInbound;
+    private EmbeddedChannel serverOutbound;
+    private CommandEncoder clientEncoder;
+    private IoBuffer clientBuffer;
+    private UUID writerId;
+    private byte[] eventData;
+    private long eventNumber;
+    private long requestId;
+
+    @Setup
+    public void setup() throws IOException {
+        this.serverInbound = new EmbeddedChannel(new LengthFieldBasedFrameDecoder(MAX_WIRECOMMAND_SIZE, 4, 4),
+                new CommandDecoder(), new AppendDecoder());
+        this.serverOutbound = new EmbeddedChannel(new io.pravega.shared.protocol.netty.CommandEncoder(null, NO_OP_METRIC_NOTIFIER));
+        AppendBatchSizeTracker batchSizeTracker = new FixedBatchSizeTracker(this.blockSize);
+        this.clientEncoder = new CommandEncoder(flowId -> batchSizeTracker, NO_OP_METRIC_NOTIFIER,
+                new ChannelOutputStream(this.serverInbound), null, new PravegaNodeUri("localhost", 12345));
+        this.clientBuffer = new IoBuffer();
+        this.writerId = UUID.randomUUID();
+        this.eventData = new byte[this.eventLength];
+        new Random(0).nextBytes(this.eventData);
+
+        this.clientEncoder.write(new WireCommands.SetupAppend(0, this.writerId, SEGMENT, ""));
+        drainServerInbound();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.serverInbound.finishAndReleaseAll();
+        this.serverOutbound.finishAndReleaseAll();
+    }
+
+    /**
+     * Encodes a batch of appends from a single writer and decodes them on the server side.
+     */
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_BATCH)
+    public int appendRoundTrip() throws IOException {
+        for (int i = 0; i < EVENTS_PER_BATCH; i++) {
+            WireCommands.Event event = new WireCommands.Event(Unpooled.wrappedBuffer(this.eventData));
+            this.clientEncoder.write(new Append(SEGMENT, this.writerId, ++this.eventNumber, event, 0));
+        }
+
+        // Close the open block, as the connection's batch timeout would (the first call only fetches the current token).
+        this.clientEncoder.batchTimeout(this.clientEncoder.batchTimeout(-1));
+        return drainServerInbound();
+    }
+
+    @Benchmark
+    public int readRequestRoundTrip() throws IOException {
+        this.clientEncoder.write(new WireCommands.ReadSegment(SEGMENT, 0, this.eventLength, "", ++this.requestId));
+        return drainServerInbound();
+    }
+
+    @Benchmark
+    public long readReplyRoundTrip() throws IOException {
+        ByteBuf data = Unpooled.wrappedBuffer(this.eventData);
+        this.serverOutbound.writeOutbound(new WireCommands.SegmentRead(SEGMENT, 0, true, false, data, ++this.requestId));
+        CompositeByteBuf encoded = Unpooled.compositeBuffer();
+        ByteBuf b;
+        while ((b = this.serverOutbound.readOutbound()) != null) {
+            encoded.addComponent(true, b);
+        }
+
+        try (InputStream in = new ByteBufInputStream(encoded, true)) {
+            WireCommands.SegmentRead reply = (WireCommands.SegmentRead) TcpClientConnection.ConnectionReader.readCommand(in, this.clientBuffer);
+            reply.release();
+            return reply.getRequestId();
+        }
+    }
+
+    private int drainServerInbound() {
+        int count = 0;
+        Object command;
+        while ((command = this.serverInbound.readInbound()) != null) {
+            if (command instanceof Append) {
+                ((Append) command).getData().release();
+            }
+            count++;
+        }
+        return count;
+    }
+
+    //region Helper Classes
+
+    /**
+     * Hands all bytes written to it to the decoding stack of a channel.
+     */
+    private static class ChannelOutputStream extends OutputStream {
+        private final EmbeddedChannel channel;
+
+        ChannelOutputStream(EmbeddedChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            this.channel.writeInbound(Unpooled.copiedBuffer(b, off, len));
+        }
+    }
+
+    private static class FixedBatchSizeTracker implements AppendBatchSizeTracker {
+        private final int blockSize;
+
+        FixedBatchSizeTracker(int blockSize) {
+            this.blockSize = blockSize;
+        }
+
+        @Override
+        public void recordAppend(long eventNumber, int size) {
+        }
+
+        @Override
+        public long recordAck(long eventNumber) {
+            return 0;
+        }
+
+        @Override
+        public int getAppendBlockSize() {
+            return this.blockSize;
+        }
+
+        @Override
+        public int getBatchTimeout() {
+            return MAX_BATCH_TIME_MILLIS;
+        }
+    }
+
+    //endregion
+}
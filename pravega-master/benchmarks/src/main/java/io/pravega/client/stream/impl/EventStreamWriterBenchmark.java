@@ -0,0 +1,227 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream.impl;
+
+import io.pravega.client.connection.impl.ClientConnection;
+import io.pravega.client.connection.impl.ConnectionPool;
+import io.pravega.client.connection.impl.Flow;
+import io.pravega.client.control.impl.Controller;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.segment.impl.SegmentOutputStreamFactoryImpl;
+import io.pravega.client.stream.EventWriterConfig;
+import io.pravega.client.stream.Stream;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.shared.protocol.netty.Append;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.Reply;
+import io.pravega.shared.protocol.netty.ReplyProcessor;
+import io.pravega.shared.protocol.netty.WireCommand;
+import io.pravega.shared.protocol.netty.WireCommands;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Benchmarks for the {@link EventStreamWriterImpl} class, writing to a single-segment Stream. Instead of connecting to
+ * a Segment Store, the writer uses an in-process {@link ConnectionPool} whose connections acknowledge every append
+ * asynchronously, so these measure the client-side overhead of writing (and waiting for) events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventStreamWriterBenchmark {
+    private static final String SCOPE = "scope";
+    private static final String STREAM = "stream";
+    private static final int EVENTS_PER_BATCH = 100;
+    private static final PravegaNodeUri ENDPOINT = new PravegaNodeUri("localhost", 12345);
+
+    @Param({"100", "1000", "10000"})
+    public int eventLength;
+
+    private ScheduledExecutorService executor;
+    private AckingConnectionPool connectionPool;
+    private EventStreamWriterImpl<byte[]> writer;
+    private byte[] event;
+
+    @Setup
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "writer-benchmark");
+        this.connectionPool = new AckingConnectionPool(this.executor);
+        Stream stream = Stream.of(SCOPE, STREAM);
+        Segment segment = new Segment(SCOPE, STREAM, 0);
+        TreeMap<Double, SegmentWithRange> segments = new TreeMap<>();
+        segments.put(1.0, new SegmentWithRange(segment, 0.0, 1.0));
+
+        Controller controller = mock(Controller.class);
+        doReturn(CompletableFuture.completedFuture(new StreamSegments(segments)))
+                .when(controller).getCurrentSegments(SCOPE, STREAM);
+        doReturn(CompletableFuture.completedFuture(ENDPOINT)).when(controller).getEndpointForSegment(anyString());
+        doReturn(CompletableFuture.completedFuture("")).when(controller).getOrRefreshDelegationTokenFor(anyString(), anyString(), any());
+
+        this.writer = new EventStreamWriterImpl<>(stream, "writer", controller,
+                new SegmentOutputStreamFactoryImpl(controller, this.connectionPool), new ByteArraySerializer(),
+                EventWriterConfig.builder().build(), this.executor, this.executor, this.connectionPool);
+        this.event = new byte[this.eventLength];
+        new Random(0).nextBytes(this.event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.writer.close();
+        this.connectionPool.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    /**
+     * Writes an event and waits for it to be acknowledged.
+     */
+    @Benchmark
+    public void writeEventAndWait() {
+        this.writer.writeEvent(this.event).join();
+    }
+
+    /**
+     * Writes a batch of events without waiting for each of them, then waits for all of them to be acknowledged.
+     */
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_BATCH)
+    public void writeEventsAndFlush() {
+        for (int i = 0; i < EVENTS_PER_BATCH; i++) {
+            this.writer.writeEvent(this.event);
+        }
+        this.writer.flush();
+    }
+
+    //region AckingConnectionPool
+
+    /**
+     * {@link ConnectionPool} with in-process connections that acknowledge every {@link WireCommands.SetupAppend} and
+     * {@link Append} they are sent. Replies are delivered on a separate thread, as they would be by a real connection.
+     */
+    private static class AckingConnectionPool implements ConnectionPool {
+        private final ScheduledExecutorService internalExecutor;
+        private final ScheduledExecutorService replyExecutor;
+
+        AckingConnectionPool(ScheduledExecutorService internalExecutor) {
+            this.internalExecutor = internalExecutor;
+            this.replyExecutor = ExecutorServiceHelpers.newScheduledThreadPool(1, "writer-benchmark-replies");
+        }
+
+        @Override
+        public CompletableFuture<ClientConnection> getClientConnection(Flow flow, PravegaNodeUri uri, ReplyProcessor rp) {
+            return getClientConnection(uri, rp);
+        }
+
+        @Override
+        public CompletableFuture<ClientConnection> getClientConnection(PravegaNodeUri uri, ReplyProcessor rp) {
+            return CompletableFuture.completedFuture(new AckingConnection(uri, rp, this.replyExecutor));
+        }
+
+        @Override
+        public void getClientConnection(Flow flow, PravegaNodeUri uri, ReplyProcessor rp, CompletableFuture<ClientConnection> connection) {
+            connection.complete(new AckingConnection(uri, rp, this.replyExecutor));
+        }
+
+        @Override
+        public ScheduledExecutorService getInternalExecutor() {
+            return this.internalExecutor;
+        }
+
+        @Override
+        public void close() {
+            ExecutorServiceHelpers.shutdown(this.replyExecutor);
+        }
+    }
+
+    private static class AckingConnection implements ClientConnection {
+        private final PravegaNodeUri location;
+        private final ReplyProcessor replyProcessor;
+        private final ScheduledExecutorService replyExecutor;
+        private long lastEventNumber = WireCommands.NULL_ATTRIBUTE_VALUE;
+        private long segmentLength;
+
+        AckingConnection(PravegaNodeUri location, ReplyProcessor replyProcessor, ScheduledExecutorService replyExecutor) {
+            this.location = location;
+            this.replyProcessor = replyProcessor;
+            this.replyExecutor = replyExecutor;
+        }
+
+        @Override
+        public synchronized void send(WireCommand cmd) {
+            if (cmd instanceof WireCommands.SetupAppend) {
+                WireCommands.SetupAppend setup = (WireCommands.SetupAppend) cmd;
+                reply(new WireCommands.AppendSetup(setup.getRequestId(), setup.getSegment(), setup.getWriterId(),
+                        WireCommands.NULL_ATTRIBUTE_VALUE));
+            }
+        }
+
+        @Override
+        public synchronized void send(Append append) {
+            long previousEventNumber = this.lastEventNumber;
+            this.lastEventNumber = append.getEventNumber();
+            this.segmentLength += append.getData().readableBytes();
+            reply(new WireCommands.DataAppended(append.getFlowId(), append.getWriterId(), append.getEventNumber(),
+                    previousEventNumber, this.segmentLength));
+        }
+
+        @Override
+        public void sendAsync(List<Append> appends, CompletedCallback callback) {
+            appends.forEach(this::send);
+            callback.complete(null);
+        }
+
+        @Override
+        public PravegaNodeUri getLocation() {
+            return this.location;
+        }
+
+        @Override
+        public void close() {
+            // Nothing to release.
+        }
+
+        private void reply(Reply reply) {
+            // Replies are delivered by a single thread, in the order in which they were generated.
+            this.replyExecutor.execute(() -> this.replyProcessor.process(reply));
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.common.io.serialization;
+
+import com.google.common.collect.ImmutableList;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.stream.RetentionPolicy;
+import io.pravega.client.stream.ScalingPolicy;
+import io.pravega.client.stream.Stream;
+import io.pravega.client.stream.StreamConfiguration;
+import io.pravega.client.stream.impl.StreamCutImpl;
+import io.pravega.controller.store.stream.records.EpochRecord;
+import io.pravega.controller.store.stream.records.StreamConfigurationRecord;
+import io.pravega.controller.store.stream.records.StreamSegmentRecord;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link VersionedSerializer} serialization and deserialization of frequently used records: Controller
+ * epoch and stream configuration records and client Stream Cuts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VersionedSerializerBenchmark {
+    private static final String SCOPE = "scope";
+    private static final String STREAM = "stream";
+
+    @Param({"1", "10", "100"})
+    public int segmentCount;
+
+    private EpochRecord epochRecord;
+    private byte[] epochRecordBytes;
+    private StreamConfigurationRecord configurationRecord;
+    private byte[] configurationRecordBytes;
+    private StreamCutImpl streamCut;
+    private ByteBuffer streamCutBytes;
+
+    @Setup
+    public void setup() {
+        ImmutableList.Builder<StreamSegmentRecord> segments = ImmutableList.builder();
+        Map<Segment, Long> positions = new HashMap<>();
+        double keyRange = 1.0 / this.segmentCount;
+        for (int i = 0; i < this.segmentCount; i++) {
+            segments.add(StreamSegmentRecord.builder().segmentNumber(i).creationEpoch(0).creationTime(System.currentTimeMillis())
+                                            .keyStart(i * keyRange).keyEnd((i + 1) * keyRange).build());
+            positions.put(new Segment(SCOPE, STREAM, i), i * 1024L * 1024L);
+        }
+
+        this.epochRecord = new EpochRecord(0, 0, segments.build(), System.currentTimeMillis(), 0L, 0L);
+        this.epochRecordBytes = this.epochRecord.toBytes();
+
+        StreamConfiguration configuration = StreamConfiguration.builder()
+                                                               .scalingPolicy(ScalingPolicy.byEventRate(100, 2, this.segmentCount))
+                                                               .retentionPolicy(RetentionPolicy.bySizeBytes(1024L * 1024L * 1024L))
+                                                               .build();
+        this.configurationRecord = StreamConfigurationRecord.complete(SCOPE, STREAM, configuration);
+        this.configurationRecordBytes = this.configurationRecord.toBytes();
+
+        this.streamCut = new StreamCutImpl(Stream.of(SCOPE, STREAM), positions);
+        this.streamCutBytes = this.streamCut.toBytes();
+    }
+
+    @Benchmark
+    public byte[] serializeEpochRecord() {
+        return this.epochRecord.toBytes();
+    }
+
+    @Benchmark
+    public EpochRecord deserializeEpochRecord() {
+        return EpochRecord.fromBytes(this.epochRecordBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeStreamConfigurationRecord() {
+        return this.configurationRecord.toBytes();
+    }
+
+    @Benchmark
+    public StreamConfigurationRecord deserializeStreamConfigurationRecord() {
+        return StreamConfigurationRecord.fromBytes(this.configurationRecordBytes);
+    }
+
+    @Benchmark
+    public ByteBuffer serializeStreamCut() {
+        return this.streamCut.toBytes();
+    }
+
+    @Benchmark
+    public Object deserializeStreamCut() {
+        return StreamCutImpl.fromBytes(this.streamCutBytes.duplicate());
+    }
+}
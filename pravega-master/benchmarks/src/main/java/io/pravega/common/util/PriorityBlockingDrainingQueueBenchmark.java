@@ -0,0 +1,101 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.common.util;
+
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the queueing latency of a tenant with a light load when another tenant floods a
+ * {@link PriorityBlockingDrainingQueue}, as done by the Segment Store's OperationProcessor. Each invocation measures the
+ * time it takes to drain the queue (in batches) until the light tenant's item is returned. Compare the FIFO queue
+ * (fairQueuing = false), where this grows with the flooding tenant's backlog, against the fair queue, where it does not.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PriorityBlockingDrainingQueueBenchmark {
+    private static final byte MAX_PRIORITY = 3;
+    private static final byte PRIORITY = 2;
+    private static final int BATCH_SIZE = 100;
+    private static final String FLOODING_TENANT = "flooding";
+    private static final String NORMAL_TENANT = "normal";
+
+    @Param({"false", "true"})
+    public boolean fairQueuing;
+
+    @Param({"1000", "100000"})
+    public int floodingBacklog;
+
+    private PriorityBlockingDrainingQueue<TenantItem> queue;
+    private TenantItem normalItem;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        this.queue = this.fairQueuing
+                ? new PriorityBlockingDrainingQueue<>(MAX_PRIORITY, tenant -> 1)
+                : new PriorityBlockingDrainingQueue<>(MAX_PRIORITY);
+        for (int i = 0; i < this.floodingBacklog; i++) {
+            this.queue.add(new TenantItem(FLOODING_TENANT));
+        }
+
+        this.normalItem = new TenantItem(NORMAL_TENANT);
+        this.queue.add(this.normalItem);
+    }
+
+    /**
+     * Drains the queue until the normal tenant's item is returned.
+     *
+     * @return The number of items returned before (and including) the normal tenant's item.
+     */
+    @Benchmark
+    public int normalTenantLatency() {
+        int count = 0;
+        while (true) {
+            for (TenantItem item : this.queue.poll(BATCH_SIZE)) {
+                count++;
+                if (item == this.normalItem) {
+                    return count;
+                }
+            }
+        }
+    }
+
+    @Data
+    private static class TenantItem implements PriorityBlockingDrainingQueue.Item {
+        private final String fairnessKey;
+
+        @Override
+        public byte getPriorityValue() {
+            return PRIORITY;
+        }
+    }
+}
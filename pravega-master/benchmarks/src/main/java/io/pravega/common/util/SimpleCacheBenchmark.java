@@ -0,0 +1,79 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.common.util;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link SimpleCache} lookups and updates made by many threads at once, as done by the Client's segment
+ * endpoint cache and the Segment Store's per-segment statistics caches. Compare a single shard (concurrencyLevel = 1)
+ * against a sharded cache to see the effect of lock contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class SimpleCacheBenchmark {
+    private static final int MAX_SIZE = 100000;
+    private static final Duration EXPIRATION_TIME = Duration.ofMinutes(10);
+
+    @Param({"1", "16"})
+    public int concurrencyLevel;
+
+    private SimpleCache<Integer, Integer> cache;
+
+    @Setup
+    public void setup() {
+        this.cache = new SimpleCache<>(MAX_SIZE, this.concurrencyLevel, EXPIRATION_TIME, null);
+        for (int i = 0; i < MAX_SIZE; i++) {
+            this.cache.put(i, i);
+        }
+    }
+
+    /**
+     * Looks up a random key that exists in the cache.
+     */
+    @Benchmark
+    public Integer get() {
+        return this.cache.get(ThreadLocalRandom.current().nextInt(MAX_SIZE));
+    }
+
+    /**
+     * Updates a random key that exists in the cache.
+     */
+    @Benchmark
+    public Integer put() {
+        int key = ThreadLocalRandom.current().nextInt(MAX_SIZE);
+        return this.cache.put(key, key);
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.common.util.btree;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@link BTreeIndex} class, using the same key, value and page sizes as the Segment Attribute Index.
+ * Pages are stored in memory, so these measure the cost of the index itself and not that of the underlying storage.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BTreeIndexBenchmark {
+    private static final int KEY_LENGTH = 16;
+    private static final int VALUE_LENGTH = Long.BYTES;
+    private static final int MAX_PAGE_SIZE = Short.MAX_VALUE;
+    private static final int LOAD_BATCH_SIZE = 10000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"10000", "1000000"})
+    public int entryCount;
+
+    @Param({"1", "100"})
+    public int updateBatchSize;
+
+    private ScheduledExecutorService executor;
+    private InMemoryPageStore dataSource;
+    private BTreeIndex index;
+    private ByteArraySegment[] keys;
+    private Random random;
+    private long nextValue;
+
+    @Setup
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "btree-benchmark");
+        this.dataSource = new InMemoryPageStore();
+        this.index = BTreeIndex.builder()
+                               .maxPageSize(MAX_PAGE_SIZE)
+                               .keyLength(KEY_LENGTH)
+                               .valueLength(VALUE_LENGTH)
+                               .readPage(this.dataSource::read)
+                               .writePages(this.dataSource::write)
+                               .getLength(this.dataSource::getLength)
+                               .executor(this.executor)
+                               .build();
+        this.index.initialize(TIMEOUT).join();
+
+        this.random = new Random(0);
+        this.keys = new ByteArraySegment[this.entryCount];
+        List<PageEntry> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+        for (int i = 0; i < this.keys.length; i++) {
+            byte[] key = new byte[KEY_LENGTH];
+            this.random.nextBytes(key);
+            this.keys[i] = new ByteArraySegment(key);
+            batch.add(new PageEntry(this.keys[i], newValue()));
+            if (batch.size() == LOAD_BATCH_SIZE || i == this.keys.length - 1) {
+                this.index.update(batch, TIMEOUT).join();
+                batch = new ArrayList<>(LOAD_BATCH_SIZE);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    @Benchmark
+    public ByteArraySegment get() {
+        return this.index.get(randomKey(), TIMEOUT).join();
+    }
+
+    /**
+     * Updates the values of existing keys, so that the index does not keep growing.
+     */
+    @Benchmark
+    public long update() {
+        Collection<PageEntry> entries;
+        if (this.updateBatchSize == 1) {
+            entries = Collections.singletonList(new PageEntry(randomKey(), newValue()));
+        } else {
+            // The index does not accept duplicate keys in the same update, so pick consecutive (distinct) keys.
+            entries = new ArrayList<>(this.updateBatchSize);
+            int start = this.random.nextInt(this.keys.length);
+            for (int i = 0; i < this.updateBatchSize; i++) {
+                entries.add(new PageEntry(this.keys[(start + i) % this.keys.length], newValue()));
+            }
+        }
+        return this.index.update(entries, TIMEOUT).join();
+    }
+
+    private ByteArraySegment randomKey() {
+        return this.keys[this.random.nextInt(this.keys.length)];
+    }
+
+    private ByteArraySegment newValue() {
+        ByteArraySegment value = new ByteArraySegment(new byte[VALUE_LENGTH]);
+        value.setLong(0, this.nextValue++);
+        return value;
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.common.util.btree;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.AsyncIterator;
+import io.pravega.common.util.BufferViewComparator;
+import io.pravega.common.util.ByteArraySegment;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for loading sorted entries into an empty {@link BTreeIndex}, either with {@link BTreeIndex#bulkLoad} or
+ * with successive {@link BTreeIndex#update} calls. Besides the time it takes, every run reports (as secondary results)
+ * the number of bytes written per entry and the write amplification (bytes written divided by the final size of the
+ * index).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BTreeIndexLoadBenchmark {
+    private static final int KEY_LENGTH = 16;
+    private static final int VALUE_LENGTH = Long.BYTES;
+    private static final int MAX_PAGE_SIZE = Short.MAX_VALUE;
+    private static final int LOAD_BATCH_SIZE = 10000;
+    private static final Duration TIMEOUT = Duration.ofMinutes(5);
+    private static final BufferViewComparator KEY_COMPARATOR = BufferViewComparator.create();
+
+    @Param({"100000", "1000000"})
+    public int entryCount;
+
+    @Param({"bulkLoad", "update"})
+    public String loadMode;
+
+    private ScheduledExecutorService executor;
+    private List<PageEntry> entries;
+    private InMemoryPageStore dataSource;
+    private BTreeIndex index;
+
+    @Setup
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "btree-load-benchmark");
+        Random random = new Random(0);
+        this.entries = new ArrayList<>(this.entryCount);
+        for (int i = 0; i < this.entryCount; i++) {
+            byte[] key = new byte[KEY_LENGTH];
+            random.nextBytes(key);
+            ByteArraySegment value = new ByteArraySegment(new byte[VALUE_LENGTH]);
+            value.setLong(0, i);
+            this.entries.add(new PageEntry(new ByteArraySegment(key), value));
+        }
+
+        // Both modes load the same sorted entries, as bulk loads require. The keys are random 16-byte values, so we do
+        // not expect any duplicates.
+        this.entries.sort((e1, e2) -> KEY_COMPARATOR.compare(e1.getKey(), e2.getKey()));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupIndex() {
+        this.dataSource = new InMemoryPageStore();
+        this.index = BTreeIndex.builder()
+                               .maxPageSize(MAX_PAGE_SIZE)
+                               .keyLength(KEY_LENGTH)
+                               .valueLength(VALUE_LENGTH)
+                               .readPage(this.dataSource::read)
+                               .writePages(this.dataSource::write)
+                               .getLength(this.dataSource::getLength)
+                               .executor(this.executor)
+                               .build();
+        this.index.initialize(TIMEOUT).join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    @Benchmark
+    public long load(WriteCounters counters) {
+        long result;
+        if ("bulkLoad".equals(this.loadMode)) {
+            Iterator<List<PageEntry>> batches = batches();
+            AsyncIterator<List<PageEntry>> source = () -> CompletableFuture.completedFuture(batches.hasNext() ? batches.next() : null);
+            result = this.index.bulkLoad(source, TIMEOUT).join();
+        } else {
+            result = 0;
+            for (Iterator<List<PageEntry>> batches = batches(); batches.hasNext(); ) {
+                result = this.index.update(batches.next(), TIMEOUT).join();
+            }
+        }
+
+        counters.record(this.dataSource, this.entries.size());
+        return result;
+    }
+
+    private Iterator<List<PageEntry>> batches() {
+        List<List<PageEntry>> result = new ArrayList<>();
+        for (int i = 0; i < this.entries.size(); i += LOAD_BATCH_SIZE) {
+            result.add(this.entries.subList(i, Math.min(i + LOAD_BATCH_SIZE, this.entries.size())));
+        }
+        return result.iterator();
+    }
+
+    //region WriteCounters
+
+    /**
+     * Secondary results describing how much data each load wrote to the page store.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WriteCounters {
+        /**
+         * Number of bytes written per loaded entry.
+         */
+        public double bytesPerEntry;
+        /**
+         * Number of bytes written divided by the size of the resulting index.
+         */
+        public double writeAmplification;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.bytesPerEntry = 0;
+            this.writeAmplification = 0;
+        }
+
+        void record(InMemoryPageStore dataSource, int entryCount) {
+            this.bytesPerEntry = (double) dataSource.getBytesWritten() / entryCount;
+            this.writeAmplification = (double) dataSource.getBytesWritten() / dataSource.getLiveBytes();
+        }
+    }
+
+    //endregion
+}
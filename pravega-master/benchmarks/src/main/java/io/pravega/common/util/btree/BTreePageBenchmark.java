@@ -0,0 +1,131 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.common.util.btree;
+
+import io.pravega.common.util.BufferViewComparator;
+import io.pravega.common.util.ByteArraySegment;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@link BTreePage} class, with and without Key Prefix Compression, using full leaf pages with the
+ * same key, value and page sizes as the Segment Attribute Index. The keys in each page share a prefix of configurable
+ * length (as would be the case for attribute ids allocated from a common range).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BTreePageBenchmark {
+    private static final int KEY_LENGTH = 16;
+    private static final int VALUE_LENGTH = Long.BYTES;
+    private static final int MAX_PAGE_SIZE = Short.MAX_VALUE;
+
+    @Param({"false", "true"})
+    public boolean keyPrefixCompression;
+
+    @Param({"0", "8", "12"})
+    public int sharedPrefixLength;
+
+    private BTreePage page;
+    private ByteArraySegment[] keys;
+    private Random random;
+    private long nextValue;
+
+    @Setup
+    public void setup() {
+        BTreePage.Config config = new BTreePage.Config(KEY_LENGTH, VALUE_LENGTH, MAX_PAGE_SIZE, false, this.keyPrefixCompression);
+        this.random = new Random(0);
+        byte[] prefix = new byte[this.sharedPrefixLength];
+        this.random.nextBytes(prefix);
+
+        // Fill the page with as many (sorted) entries as it can hold without splitting.
+        int count = (MAX_PAGE_SIZE - 64) / (KEY_LENGTH + VALUE_LENGTH);
+        this.keys = new ByteArraySegment[count];
+        List<PageEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] key = new byte[KEY_LENGTH];
+            this.random.nextBytes(key);
+            System.arraycopy(prefix, 0, key, 0, prefix.length);
+            this.keys[i] = new ByteArraySegment(key);
+        }
+
+        Arrays.sort(this.keys, BufferViewComparator.create()::compare);
+        for (ByteArraySegment key : this.keys) {
+            entries.add(new PageEntry(key, newValue()));
+        }
+
+        this.page = new BTreePage(config);
+        this.page.update(entries);
+        System.out.printf("%nPage length = %d bytes, %.2f bytes/entry.%n", this.page.getLength(),
+                (double) this.page.getLength() / this.page.getCount());
+    }
+
+    @Benchmark
+    public int search() {
+        return this.page.search(randomKey(), 0).getPosition();
+    }
+
+    @Benchmark
+    public ByteArraySegment searchExact() {
+        return this.page.searchExact(randomKey());
+    }
+
+    /**
+     * Updates the value of an existing key, which is done in place.
+     */
+    @Benchmark
+    public int update() {
+        return this.page.update(Collections.singletonList(new PageEntry(randomKey(), newValue())));
+    }
+
+    /**
+     * Removes a key and inserts it back, which rewrites the page twice.
+     */
+    @Benchmark
+    public int removeAndInsert() {
+        ByteArraySegment key = randomKey();
+        return this.page.update(Collections.singletonList(PageEntry.noValue(key)))
+                + this.page.update(Collections.singletonList(new PageEntry(key, newValue())));
+    }
+
+    private ByteArraySegment randomKey() {
+        return this.keys[this.random.nextInt(this.keys.length)];
+    }
+
+    private ByteArraySegment newValue() {
+        ByteArraySegment value = new ByteArraySegment(new byte[VALUE_LENGTH]);
+        value.setLong(0, this.nextValue++);
+        return value;
+    }
+}
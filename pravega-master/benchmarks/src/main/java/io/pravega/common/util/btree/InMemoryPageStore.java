@@ -0,0 +1,79 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.common.util.btree;
+
+import io.pravega.common.util.ByteArraySegment;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory page store for {@link BTreeIndex} benchmarks. Obsolete pages are discarded, so its size is proportional to
+ * the size of the index.
+ */
+class InMemoryPageStore {
+    private final Map<Long, ByteArraySegment> pages = new ConcurrentHashMap<>();
+    private final AtomicLong length = new AtomicLong();
+    private final AtomicLong rootPointer = new AtomicLong(BTreeIndex.IndexInfo.EMPTY.getRootPointer());
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    /**
+     * Gets the total number of bytes written to this store, including pages that have since become obsolete.
+     *
+     * @return The number of bytes.
+     */
+    long getBytesWritten() {
+        return this.bytesWritten.get();
+    }
+
+    /**
+     * Gets the number of bytes that are still in use by the index.
+     *
+     * @return The number of bytes.
+     */
+    long getLiveBytes() {
+        return this.pages.values().stream().mapToLong(ByteArraySegment::getLength).sum();
+    }
+
+    CompletableFuture<BTreeIndex.IndexInfo> getLength(Duration timeout) {
+        return CompletableFuture.completedFuture(new BTreeIndex.IndexInfo(this.length.get(), this.rootPointer.get()));
+    }
+
+    CompletableFuture<ByteArraySegment> read(long offset, int length, boolean shouldCache, Duration timeout) {
+        // Copy the page, as would be the case when reading it from the cache or from Storage.
+        return CompletableFuture.completedFuture(new ByteArraySegment(this.pages.get(offset).getCopy()));
+    }
+
+    CompletableFuture<Long> write(List<BTreeIndex.WritePage> toWrite, Collection<Long> obsoleteOffsets,
+                                  long truncateOffset, Duration timeout) {
+        for (BTreeIndex.WritePage page : toWrite) {
+            this.pages.put(page.getOffset(), new ByteArraySegment(page.getContents().getCopy()));
+            this.length.set(page.getOffset() + page.getContents().getLength());
+            this.bytesWritten.addAndGet(page.getContents().getLength());
+        }
+
+        obsoleteOffsets.forEach(this.pages::remove);
+        if (!toWrite.isEmpty()) {
+            // The last page to be written is always the footer.
+            this.rootPointer.set(toWrite.get(toWrite.size() - 1).getOffset());
+        }
+        return CompletableFuture.completedFuture(this.length.get());
+    }
+}
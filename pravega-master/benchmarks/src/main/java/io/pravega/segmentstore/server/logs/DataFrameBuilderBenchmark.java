@@ -0,0 +1,118 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.function.Callbacks;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.AttributeId;
+import io.pravega.segmentstore.contracts.AttributeUpdate;
+import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
+import io.pravega.segmentstore.contracts.AttributeUpdateType;
+import io.pravega.segmentstore.server.logs.operations.Operation;
+import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
+import io.pravega.segmentstore.storage.DurableDataLog;
+import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for serializing {@link StreamSegmentAppendOperation}s into Data Frames using the {@link DataFrameBuilder}
+ * class. Data Frames are committed to an in-memory {@link DurableDataLog}, which is truncated after every commit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataFrameBuilderBenchmark {
+    private static final int MAX_FRAME_LENGTH = 1024 * 1024;
+    private static final long SEGMENT_ID = 1L;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"100", "1000", "10000"})
+    public int appendLength;
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private ScheduledExecutorService executor;
+    private InMemoryDurableDataLogFactory dataLogFactory;
+    private DurableDataLog dataLog;
+    private DataFrameBuilder<Operation> builder;
+    private StreamSegmentAppendOperation operation;
+    private long sequenceNumber;
+
+    @Setup
+    public void setup() throws Exception {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "data-frame-benchmark");
+        this.dataLogFactory = new InMemoryDurableDataLogFactory(MAX_FRAME_LENGTH, this.executor);
+        this.dataLog = this.dataLogFactory.createDurableDataLog(0);
+        this.dataLog.initialize(TIMEOUT);
+        val args = new DataFrameBuilder.Args(Callbacks::doNothing, this::commitSuccess, (ex, commitArgs) -> this.failure.set(ex), this.executor);
+        this.builder = new DataFrameBuilder<>(this.dataLog, OperationSerializer.DEFAULT, args);
+
+        // The same operation is serialized over and over, which is fine since the serializer does not look at its contents.
+        byte[] data = new byte[this.appendLength];
+        new Random(0).nextBytes(data);
+        val attributeUpdates = AttributeUpdateCollection.from(
+                new AttributeUpdate(AttributeId.fromUUID(UUID.randomUUID()), AttributeUpdateType.Replace, 0L));
+        this.operation = new StreamSegmentAppendOperation(SEGMENT_ID, 0L, new ByteArraySegment(data), attributeUpdates);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.builder.close();
+        this.operation.close();
+        this.dataLog.close();
+        this.dataLogFactory.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+        if (this.failure.get() != null) {
+            throw new IllegalStateException("Unable to commit Data Frames.", this.failure.get());
+        }
+    }
+
+    @Benchmark
+    public long append() throws IOException {
+        this.operation.resetSequenceNumber(++this.sequenceNumber);
+        this.operation.setStreamSegmentOffset(this.sequenceNumber * this.appendLength);
+        this.builder.append(this.operation);
+        return this.sequenceNumber;
+    }
+
+    private void commitSuccess(DataFrameBuilder.CommitArgs commitArgs) {
+        // Discard committed Data Frames so that the log does not keep growing.
+        this.dataLog.truncate(commitArgs.getLogAddress(), TIMEOUT);
+    }
+}
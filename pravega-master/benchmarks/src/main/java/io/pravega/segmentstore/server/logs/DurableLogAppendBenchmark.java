@@ -0,0 +1,149 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.StreamSegmentInformation;
+import io.pravega.segmentstore.server.CacheManager;
+import io.pravega.segmentstore.server.CachePolicy;
+import io.pravega.segmentstore.server.ReadIndex;
+import io.pravega.segmentstore.server.containers.StreamSegmentContainerMetadata;
+import io.pravega.segmentstore.server.logs.operations.OperationPriority;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentMapOperation;
+import io.pravega.segmentstore.server.reading.ContainerReadIndex;
+import io.pravega.segmentstore.server.reading.ReadIndexConfig;
+import io.pravega.segmentstore.storage.AsyncStorageWrapper;
+import io.pravega.segmentstore.storage.Storage;
+import io.pravega.segmentstore.storage.cache.CacheStorage;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.mocks.InMemoryDurableDataLogFactory;
+import io.pravega.segmentstore.storage.mocks.InMemoryStorage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the throughput (appends/sec) of a {@link DurableLog} for small appends spread across many Segments, with
+ * and without coalescing them into shared DurableDataLog records (see {@link DurableLogConfig#APPEND_COALESCE_MAX_LENGTH}).
+ * Each invocation submits a batch of appends (round-robin across all Segments) and waits for all of them to be acknowledged.
+ *
+ * The DurableLog is recreated for every iteration, since nothing truncates it (and its data would otherwise keep piling
+ * up in memory).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DurableLogAppendBenchmark {
+    private static final int CONTAINER_ID = 0;
+    private static final int SEGMENT_COUNT = 100;
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_DATA_LOG_APPEND_SIZE = 1024 * 1024;
+    private static final long CACHE_SIZE = 4L * 1024 * 1024 * 1024;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Param({"50", "100", "500"})
+    public int appendLength;
+
+    @Param({"0", "1024"})
+    public int appendCoalesceMaxLength;
+
+    private ScheduledExecutorService executor;
+    private CacheStorage cacheStorage;
+    private CacheManager cacheManager;
+    private Storage storage;
+    private InMemoryDurableDataLogFactory dataLogFactory;
+    private ReadIndex readIndex;
+    private DurableLog durableLog;
+    private long[] segmentIds;
+    private ByteArraySegment data;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(4, "durable-log-benchmark");
+        this.cacheStorage = new DirectMemoryCache(CACHE_SIZE);
+        this.cacheManager = new CacheManager(CachePolicy.INFINITE, this.cacheStorage, this.executor);
+        this.storage = new AsyncStorageWrapper(new InMemoryStorage(), this.executor);
+        this.dataLogFactory = new InMemoryDurableDataLogFactory(MAX_DATA_LOG_APPEND_SIZE, this.executor);
+        val metadata = new StreamSegmentContainerMetadata(CONTAINER_ID, SEGMENT_COUNT * 2);
+        this.readIndex = new ContainerReadIndex(ReadIndexConfig.builder().build(), metadata, this.storage, this.cacheManager, this.executor);
+        val config = DurableLogConfig
+                .builder()
+                .with(DurableLogConfig.APPEND_COALESCE_MAX_LENGTH, this.appendCoalesceMaxLength)
+                .with(DurableLogConfig.OPERATION_LOG_MAX_SIZE, Integer.MAX_VALUE)
+                .with(DurableLogConfig.OPERATION_LOG_TARGET_SIZE, Integer.MAX_VALUE - 1)
+                .build();
+        this.durableLog = new DurableLog(config, metadata, this.dataLogFactory, this.readIndex, this.executor);
+        this.durableLog.startAsync().awaitRunning();
+
+        this.segmentIds = new long[SEGMENT_COUNT];
+        for (int i = 0; i < this.segmentIds.length; i++) {
+            val mapOp = new StreamSegmentMapOperation(StreamSegmentInformation.builder().name("Segment_" + i).build());
+            this.durableLog.add(mapOp, OperationPriority.Normal, TIMEOUT).join();
+            this.segmentIds[i] = mapOp.getStreamSegmentId();
+        }
+
+        byte[] contents = new byte[this.appendLength];
+        new Random(0).nextBytes(contents);
+        this.data = new ByteArraySegment(contents);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        this.durableLog.close();
+        this.readIndex.close();
+        this.cacheManager.close();
+        this.dataLogFactory.close();
+        this.storage.close();
+        this.cacheStorage.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void append() {
+        val futures = new ArrayList<CompletableFuture<Void>>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            val op = new StreamSegmentAppendOperation(this.segmentIds[i % this.segmentIds.length], this.data, null);
+            futures.add(this.durableLog.add(op, OperationPriority.Normal, TIMEOUT));
+        }
+
+        Futures.allOf(futures).join();
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
+import io.pravega.segmentstore.server.logs.operations.OperationPriority;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentSealOperation;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the overhead that {@link OperationLatencyTracker} adds to every operation going through the
+ * {@link OperationProcessor}, at various sampling rates (0 disables tracing, 1 traces every operation). Each invocation
+ * creates an operation and takes it through all the tracing stages, as the {@link OperationProcessor} would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationLatencyTrackerBenchmark {
+    private static final int SLOW_OPERATION_COUNT = 32;
+
+    @Param({"0", "1000", "100", "1"})
+    public int samplingRate;
+
+    private SegmentStoreMetrics.OperationProcessor metrics;
+    private OperationLatencyTracker tracker;
+    private StreamSegmentSealOperation operation;
+
+    @Setup
+    public void setup() {
+        this.metrics = new SegmentStoreMetrics.OperationProcessor(0);
+        this.tracker = new OperationLatencyTracker(this.samplingRate, SLOW_OPERATION_COUNT, this.metrics);
+        this.operation = new StreamSegmentSealOperation(1L);
+        this.operation.setSequenceNumber(1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.metrics.close();
+    }
+
+    @Benchmark
+    public CompletableOperation traceOperation() {
+        CompletableOperation o = new CompletableOperation(this.operation, OperationPriority.Normal, new CompletableFuture<>());
+        this.tracker.sample(o);
+        this.tracker.dequeued(o);
+        if (this.tracker.isEnabled()) {
+            o.traceFrameSealed();
+            o.traceDurable();
+            this.tracker.committed(o);
+        }
+
+        return o;
+    }
+}
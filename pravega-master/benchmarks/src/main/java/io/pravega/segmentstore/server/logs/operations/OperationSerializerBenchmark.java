@@ -0,0 +1,89 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs.operations;
+
+import io.pravega.common.io.ByteBufferOutputStream;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.AttributeId;
+import io.pravega.segmentstore.contracts.AttributeUpdate;
+import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
+import io.pravega.segmentstore.contracts.AttributeUpdateType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for serializing {@link StreamSegmentAppendOperation}s using the {@link OperationSerializer}, both into a
+ * seekable ({@link ByteBufferOutputStream}) and a non-seekable ({@link ByteArrayOutputStream}) output.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationSerializerBenchmark {
+    private static final long SEGMENT_ID = 1L;
+
+    @Param({"100", "1000", "10000"})
+    public int appendLength;
+
+    private StreamSegmentAppendOperation operation;
+    private ByteArrayOutputStream nonSeekableOutput;
+
+    @Setup
+    public void setup() {
+        byte[] data = new byte[this.appendLength];
+        new Random(0).nextBytes(data);
+        val attributeUpdates = AttributeUpdateCollection.from(
+                new AttributeUpdate(AttributeId.fromUUID(UUID.randomUUID()), AttributeUpdateType.Replace, 0L));
+        this.operation = new StreamSegmentAppendOperation(SEGMENT_ID, 0L, new ByteArraySegment(data), attributeUpdates);
+        this.operation.setSequenceNumber(1L);
+        this.nonSeekableOutput = new ByteArrayOutputStream(this.appendLength * 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.operation.close();
+    }
+
+    @Benchmark
+    public ByteArraySegment serialize() throws IOException {
+        return OperationSerializer.DEFAULT.serialize(this.operation);
+    }
+
+    @Benchmark
+    public int serializeNonSeekable() throws IOException {
+        this.nonSeekableOutput.reset();
+        OperationSerializer.DEFAULT.serialize(this.nonSeekableOutput, this.operation);
+        return this.nonSeekableOutput.size();
+    }
+}
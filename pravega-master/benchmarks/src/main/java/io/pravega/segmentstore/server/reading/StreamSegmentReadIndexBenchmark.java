@@ -0,0 +1,149 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.reading;
+
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.ReadResult;
+import io.pravega.segmentstore.contracts.ReadResultEntry;
+import io.pravega.segmentstore.server.containers.StreamSegmentMetadata;
+import io.pravega.segmentstore.storage.AsyncStorageWrapper;
+import io.pravega.segmentstore.storage.Storage;
+import io.pravega.segmentstore.storage.cache.CacheStorage;
+import io.pravega.segmentstore.storage.cache.DirectMemoryCache;
+import io.pravega.segmentstore.storage.mocks.InMemoryStorage;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for appending to and reading from a {@link StreamSegmentReadIndex} whose data is entirely in the cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamSegmentReadIndexBenchmark {
+    private static final int CONTAINER_ID = 0;
+    private static final long CACHE_SIZE = 1024 * 1024 * 1024;
+    private static final long SEGMENT_LENGTH = 64 * 1024 * 1024;
+    private static final int READ_LENGTH = 64 * 1024;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final ReadIndexConfig CONFIG = ReadIndexConfig.builder().build();
+
+    @Param({"100", "1000", "10000"})
+    public int appendLength;
+
+    private ScheduledExecutorService executor;
+    private CacheStorage cacheStorage;
+    private Storage storage;
+    private BufferView data;
+    private Random random;
+    private long segmentId;
+    private StreamSegmentReadIndex readIndex;
+    private StreamSegmentReadIndex appendIndex;
+    private StreamSegmentMetadata appendMetadata;
+
+    @Setup
+    public void setup() {
+        this.executor = ExecutorServiceHelpers.newScheduledThreadPool(2, "read-index-benchmark");
+        this.cacheStorage = new DirectMemoryCache(CACHE_SIZE);
+        this.storage = new AsyncStorageWrapper(new InMemoryStorage(), this.executor);
+        this.random = new Random(0);
+        byte[] contents = new byte[this.appendLength];
+        this.random.nextBytes(contents);
+        this.data = new ByteArraySegment(contents);
+
+        // Populate the index to read from.
+        StreamSegmentMetadata metadata = createMetadata();
+        this.readIndex = createIndex(metadata);
+        for (long offset = 0; offset + this.appendLength <= SEGMENT_LENGTH; offset += this.appendLength) {
+            metadata.setLength(offset + this.appendLength);
+            this.readIndex.append(offset, this.data);
+        }
+
+        this.appendMetadata = createMetadata();
+        this.appendIndex = createIndex(this.appendMetadata);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.readIndex.close(true);
+        this.appendIndex.close(true);
+        this.storage.close();
+        this.cacheStorage.close();
+        ExecutorServiceHelpers.shutdown(this.executor);
+    }
+
+    @Benchmark
+    public long append() {
+        long offset = this.appendMetadata.getLength();
+        if (offset + this.appendLength > SEGMENT_LENGTH) {
+            // Start over with a new segment so that the cache does not keep growing. This happens rarely enough that it
+            // does not affect the results.
+            this.appendIndex.close(true);
+            this.appendMetadata = createMetadata();
+            this.appendIndex = createIndex(this.appendMetadata);
+            offset = 0;
+        }
+
+        this.appendMetadata.setLength(offset + this.appendLength);
+        this.appendIndex.append(offset, this.data);
+        return offset;
+    }
+
+    @Benchmark
+    public int read() {
+        long offset = (long) (this.random.nextDouble() * (this.readIndex.getSegmentLength() - READ_LENGTH));
+        int readLength = 0;
+        try (ReadResult result = this.readIndex.read(offset, READ_LENGTH, TIMEOUT)) {
+            while (result.hasNext()) {
+                ReadResultEntry entry = result.next();
+                entry.requestContent(TIMEOUT);
+                readLength += entry.getContent().join().getLength();
+            }
+        }
+        return readLength;
+    }
+
+    private StreamSegmentMetadata createMetadata() {
+        long id = ++this.segmentId;
+        StreamSegmentMetadata metadata = new StreamSegmentMetadata("Segment" + id, id, CONTAINER_ID);
+        metadata.setStorageLength(0);
+        metadata.setLength(0);
+        return metadata;
+    }
+
+    private StreamSegmentReadIndex createIndex(StreamSegmentMetadata metadata) {
+        return new StreamSegmentReadIndex(CONFIG, metadata, this.cacheStorage, this.storage, this.executor, false);
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.tables;
+
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.segmentstore.contracts.tables.TableEntry;
+import io.pravega.segmentstore.contracts.tables.TableKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for serializing Table Entry updates and removals using the {@link EntrySerializer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntrySerializerBenchmark {
+    private static final int KEY_LENGTH = 64;
+    private static final int VALUE_LENGTH = 256;
+
+    @Param({"1", "10", "100"})
+    public int entryCount;
+
+    private final EntrySerializer serializer = new EntrySerializer();
+    private List<TableEntry> entries;
+    private List<TableKey> keys;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(0);
+        this.entries = new ArrayList<>(this.entryCount);
+        this.keys = new ArrayList<>(this.entryCount);
+        for (int i = 0; i < this.entryCount; i++) {
+            byte[] key = new byte[KEY_LENGTH];
+            byte[] value = new byte[VALUE_LENGTH];
+            rnd.nextBytes(key);
+            rnd.nextBytes(value);
+            this.entries.add(TableEntry.versioned(new ByteArraySegment(key), new ByteArraySegment(value), i));
+            this.keys.add(TableKey.versioned(new ByteArraySegment(key), i));
+        }
+    }
+
+    @Benchmark
+    public BufferView serializeUpdate() {
+        return this.serializer.serializeUpdate(this.entries);
+    }
+
+    @Benchmark
+    public BufferView serializeRemoval() {
+        return this.serializer.serializeRemoval(this.keys);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.cache;
+
+import io.pravega.common.util.BufferView;
+import io.pravega.common.util.ByteArraySegment;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@link DirectMemoryCache} class.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DirectMemoryCacheBenchmark {
+    private static final long CACHE_SIZE = 512 * 1024 * 1024;
+    private static final int ENTRY_COUNT = 10000;
+
+    @Param({"100", "1000", "10000"})
+    public int entryLength;
+
+    private DirectMemoryCache cache;
+    private BufferView data;
+    private int[] addresses;
+    private ByteBuffer readBuffer;
+    private Random random;
+    private int insertIndex;
+    private int appendAddress;
+    private int appendLength;
+
+    @Setup
+    public void setup() {
+        this.cache = new DirectMemoryCache(CACHE_SIZE);
+        this.random = new Random(0);
+        byte[] contents = new byte[this.entryLength];
+        this.random.nextBytes(contents);
+        this.data = new ByteArraySegment(contents);
+        this.readBuffer = ByteBuffer.allocate(this.entryLength);
+        this.addresses = new int[ENTRY_COUNT];
+        for (int i = 0; i < this.addresses.length; i++) {
+            this.addresses[i] = this.cache.insert(this.data);
+        }
+
+        this.appendAddress = this.cache.insert(this.data);
+        this.appendLength = this.data.getLength();
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.cache.close();
+    }
+
+    /**
+     * Replaces the oldest entry with a new one, so that the cache size remains constant.
+     */
+    @Benchmark
+    public int insertAndDelete() {
+        this.cache.delete(this.addresses[this.insertIndex]);
+        int address = this.cache.insert(this.data);
+        this.addresses[this.insertIndex] = address;
+        this.insertIndex = (this.insertIndex + 1) % this.addresses.length;
+        return address;
+    }
+
+    @Benchmark
+    public int get() {
+        BufferView result = this.cache.get(this.addresses[this.random.nextInt(this.addresses.length)]);
+        this.readBuffer.clear();
+        return result.copyTo(this.readBuffer);
+    }
+
+    /**
+     * Appends to the same entry until its last block is full, then continues in a new entry (as the Read Index does).
+     */
+    @Benchmark
+    public int append() {
+        int length = Math.min(this.cache.getAppendableLength(this.appendLength), this.data.getLength());
+        if (length > 0) {
+            this.appendLength += this.cache.append(this.appendAddress, this.appendLength, this.data.slice(0, length));
+        }
+
+        if (length < this.data.getLength()) {
+            // Delete the full entry so that the cache does not keep growing.
+            this.cache.delete(this.appendAddress);
+            BufferView remainder = this.data.slice(length, this.data.getLength() - length);
+            this.appendAddress = this.cache.insert(remainder);
+            this.appendLength = remainder.getLength();
+        }
+        return this.appendLength;
+    }
+}
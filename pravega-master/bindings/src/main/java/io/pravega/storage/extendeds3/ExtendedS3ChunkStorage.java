@@ -20,14 +20,17 @@ import com.emc.object.s3.S3Client;
 import com.emc.object.s3.S3Exception;
 import com.emc.object.s3.S3ObjectMetadata;
 import com.emc.object.s3.bean.CopyPartResult;
+import com.emc.object.s3.bean.DeleteError;
 import com.emc.object.s3.bean.MultipartPartETag;
 import com.emc.object.s3.bean.Permission;
 import com.emc.object.s3.request.AbortMultipartUploadRequest;
 import com.emc.object.s3.request.CompleteMultipartUploadRequest;
 import com.emc.object.s3.request.CopyPartRequest;
+import com.emc.object.s3.request.DeleteObjectsRequest;
 import com.emc.object.s3.request.PutObjectRequest;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import io.pravega.common.io.StreamHelpers;
 import io.pravega.segmentstore.storage.chunklayer.BaseChunkStorage;
 import io.pravega.segmentstore.storage.chunklayer.ChunkAlreadyExistsException;
@@ -45,6 +48,9 @@ import org.apache.http.HttpStatus;
 
 import java.io.InputStream;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.Executor;
@@ -62,6 +68,11 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Slf4j
 public class ExtendedS3ChunkStorage extends BaseChunkStorage {
 
+    /**
+     * Maximum number of keys accepted in a single multi-object delete request.
+     */
+    static final int MAX_KEYS_PER_DELETE_REQUEST = 1000;
+
     //region members
     private final ExtendedS3StorageConfig config;
     private final S3Client client;
@@ -99,6 +110,11 @@ public class ExtendedS3ChunkStorage extends BaseChunkStorage {
         return false;
     }
 
+    @Override
+    public boolean supportsBatchDelete() {
+        return true;
+    }
+
     //endregion
 
     //region implementation
@@ -306,6 +322,39 @@ public class ExtendedS3ChunkStorage extends BaseChunkStorage {
         }
     }
 
+    @Override
+    protected Map<String, Throwable> doDeleteBatch(List<ChunkHandle> handles) {
+        val failures = new HashMap<String, Throwable>();
+        for (val partition : Lists.partition(handles, MAX_KEYS_PER_DELETE_REQUEST)) {
+            val pathToChunkName = new HashMap<String, String>();
+            partition.forEach(handle -> pathToChunkName.put(getObjectPath(handle.getChunkName()), handle.getChunkName()));
+            try {
+                val request = new DeleteObjectsRequest(config.getBucket())
+                        .withKeys(pathToChunkName.keySet().toArray(new String[0]));
+                request.getDeleteObjects().setQuiet(true);
+                val result = client.deleteObjects(request);
+                if (result.getResults() != null) {
+                    for (val item : result.getResults()) {
+                        if (item instanceof DeleteError) {
+                            val error = (DeleteError) item;
+                            val chunkName = pathToChunkName.getOrDefault(error.getKey(), error.getKey());
+                            if ("NoSuchKey".equals(error.getCode())) {
+                                failures.put(chunkName, new ChunkNotFoundException(chunkName, "doDeleteBatch"));
+                            } else {
+                                failures.put(chunkName, new ChunkStorageException(chunkName,
+                                        String.format("doDeleteBatch - %s: %s", error.getCode(), error.getMessage())));
+                            }
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                // The whole request failed. Report every chunk in it so that callers can retry them individually.
+                pathToChunkName.values().forEach(chunkName -> failures.put(chunkName, convertException(chunkName, "doDeleteBatch", e)));
+            }
+        }
+        return failures;
+    }
+
     @Override
     @SneakyThrows
     public void close() {
@@ -29,6 +29,7 @@ import io.pravega.segmentstore.storage.chunklayer.InvalidOffsetException;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
@@ -44,8 +45,10 @@ import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
  * {@link ChunkStorage} for file system based storage.
@@ -112,6 +115,11 @@ public class FileSystemChunkStorage extends BaseChunkStorage {
         return false;
     }
 
+    @Override
+    public boolean supportsListing() {
+        return true;
+    }
+
     //endregion
 
     //region
@@ -304,6 +312,18 @@ public class FileSystemChunkStorage extends BaseChunkStorage {
         }
     }
 
+    @Override
+    protected List<String> doListChunks() throws ChunkStorageException {
+        try {
+            val root = Paths.get(config.getRoot());
+            return fileSystem.listFiles(root).stream()
+                    .map(path -> path.toString().replace(File.separatorChar, '/'))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw convertException("", "doListChunks", e);
+        }
+    }
+
     private ChunkStorageException convertException(String chunkName, String message, Exception e) {
         if (e instanceof ChunkStorageException) {
             return (ChunkStorageException) e;
@@ -26,7 +26,11 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Wrapper for File System calls.
@@ -149,4 +153,21 @@ public class FileSystemWrapper {
     Path setPermissions(Path path, Set<PosixFilePermission>  permissions) throws IOException {
         return Files.setPosixFilePermissions(path, permissions);
     }
+
+    /**
+     * Lists all regular files under given directory and its sub directories by calling {@link Files#walk(Path, java.nio.file.FileVisitOption...)}.
+     * @param root Path of the directory.
+     * @return List of paths of regular files, relative to root. Empty if root does not exist.
+     * @throws IOException Exception thrown by file system call.
+     */
+    List<Path> listFiles(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(path -> Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS))
+                    .map(root::relativize)
+                    .collect(Collectors.toList());
+        }
+    }
 }
@@ -24,6 +24,7 @@ import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageException;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import io.pravega.segmentstore.storage.chunklayer.BaseChunkStorage;
 import io.pravega.segmentstore.storage.chunklayer.ChunkHandle;
 import io.pravega.segmentstore.storage.chunklayer.ChunkInfo;
@@ -36,6 +37,10 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 
 /**
@@ -53,6 +58,11 @@ public class GCPChunkStorage extends BaseChunkStorage {
      */
     private static final int FILE_NOT_FOUND = 404;
 
+    /**
+     * Maximum number of calls that google cloud storage accepts in a single batch request.
+     */
+    private static final int MAX_BLOBS_PER_DELETE_BATCH = 100;
+
     //region members
     /**
      * GCPStorageConfig contains config values.
@@ -91,6 +101,11 @@ public class GCPChunkStorage extends BaseChunkStorage {
         return false;
     }
 
+    @Override
+    public boolean supportsBatchDelete() {
+        return true;
+    }
+
     //endregion
 
     //region implementation
@@ -190,6 +205,46 @@ public class GCPChunkStorage extends BaseChunkStorage {
         }
     }
 
+    @Override
+    protected Map<String, Throwable> doDeleteBatch(List<ChunkHandle> handles) {
+        Map<String, Throwable> failures = new HashMap<>();
+        for (List<ChunkHandle> partition : Lists.partition(handles, MAX_BLOBS_PER_DELETE_BATCH)) {
+            List<BlobId> blobIds = new ArrayList<>(partition.size());
+            partition.forEach(handle -> blobIds.add(BlobId.of(this.config.getBucket(), getObjectPath(handle.getChunkName()))));
+            try {
+                // Results are returned in request order. False means the blob was not found or could not be deleted.
+                List<Boolean> results = this.storage.delete(blobIds);
+                for (int i = 0; i < partition.size(); i++) {
+                    if (!results.get(i)) {
+                        String chunkName = partition.get(i).getChunkName();
+                        failures.put(chunkName, getDeleteFailure(chunkName, blobIds.get(i)));
+                    }
+                }
+            } catch (Exception e) {
+                partition.forEach(handle -> failures.put(handle.getChunkName(), convertException(handle.getChunkName(), "doDeleteBatch", e)));
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Determines why a blob in a batch delete was not deleted. Only a blob that is confirmed to be missing is reported
+     * as not found.
+     * @param chunkName - Name of the chunk
+     * @param blobId - Id of the blob that was not deleted
+     * @return ChunkNotFoundException if the blob does not exist, ChunkStorageException otherwise
+     */
+    private ChunkStorageException getDeleteFailure(String chunkName, BlobId blobId) {
+        try {
+            if (null == this.storage.get(blobId)) {
+                return new ChunkNotFoundException(chunkName, "doDeleteBatch", null);
+            }
+            return new ChunkStorageException(chunkName, "doDeleteBatch - object could not be deleted.");
+        } catch (Exception e) {
+            return new ChunkStorageException(chunkName, "doDeleteBatch - object could not be deleted.", e);
+        }
+    }
+
     /**
      * This method takes exception instance and converts it to a meaningful exception.
      * @param chunkName - Name of the chunk
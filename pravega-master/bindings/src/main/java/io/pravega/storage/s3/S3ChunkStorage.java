@@ -28,6 +28,7 @@ import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import io.pravega.common.io.StreamHelpers;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -38,10 +39,13 @@ import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.Permission;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
@@ -49,7 +53,9 @@ import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
 
 import java.io.InputStream;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -72,6 +78,11 @@ public class S3ChunkStorage extends BaseChunkStorage {
     public static final String ACCESS_DENIED = "AccessDenied";
     public static final String INVALID_PART = "InvalidPart";
 
+    /**
+     * Maximum number of keys S3 accepts in a single multi-object delete request.
+     */
+    static final int MAX_KEYS_PER_DELETE_REQUEST = 1000;
+
     //region members
     private final S3StorageConfig config;
     private final S3Client client;
@@ -107,6 +118,11 @@ public class S3ChunkStorage extends BaseChunkStorage {
         return false;
     }
 
+    @Override
+    public boolean supportsBatchDelete() {
+        return true;
+    }
+
     //endregion
 
     //region implementation
@@ -329,6 +345,40 @@ public class S3ChunkStorage extends BaseChunkStorage {
         }
     }
 
+    @Override
+    protected Map<String, Throwable> doDeleteBatch(List<ChunkHandle> handles) {
+        val failures = new HashMap<String, Throwable>();
+        for (val partition : Lists.partition(handles, MAX_KEYS_PER_DELETE_REQUEST)) {
+            val pathToChunkName = new HashMap<String, String>();
+            partition.forEach(handle -> pathToChunkName.put(getObjectPath(handle.getChunkName()), handle.getChunkName()));
+            try {
+                val objects = pathToChunkName.keySet().stream()
+                        .map(path -> ObjectIdentifier.builder().key(path).build())
+                        .collect(Collectors.toList());
+                val deleteRequest = DeleteObjectsRequest.builder()
+                        .bucket(this.config.getBucket())
+                        .delete(Delete.builder().objects(objects).quiet(true).build())
+                        .build();
+                val response = client.deleteObjects(deleteRequest);
+                if (response.hasErrors()) {
+                    for (val error : response.errors()) {
+                        val chunkName = pathToChunkName.getOrDefault(error.key(), error.key());
+                        if (NO_SUCH_KEY.equals(error.code())) {
+                            failures.put(chunkName, new ChunkNotFoundException(chunkName, "doDeleteBatch"));
+                        } else {
+                            failures.put(chunkName, new ChunkStorageException(chunkName,
+                                    String.format("doDeleteBatch - %s: %s", error.code(), error.message())));
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                // The whole request failed. Report every chunk in it so that callers can retry them individually.
+                pathToChunkName.values().forEach(chunkName -> failures.put(chunkName, convertException(chunkName, "doDeleteBatch", e)));
+            }
+        }
+        return failures;
+    }
+
     @Override
     @SneakyThrows
     public void close() {
@@ -106,6 +106,12 @@ public class ExtendedS3SimpleStorageTests extends SimpleStorageTests {
             return new ExtendedS3ChunkStorage(testContext.client, testContext.adapterConfig, executorService(), true, false);
         }
 
+        @Override
+        protected boolean injectDeleteBatchFailure(String chunkName) {
+            this.testContext.s3Mock.failDeleteObjects(chunkName);
+            return true;
+        }
+
         /**
          * Test default capabilities.
          */
@@ -20,7 +20,9 @@ import com.emc.object.s3.S3Exception;
 import com.emc.object.s3.S3ObjectMetadata;
 import com.emc.object.s3.bean.AccessControlList;
 import com.emc.object.s3.bean.CompleteMultipartUploadResult;
+import com.emc.object.s3.bean.AbstractDeleteResult;
 import com.emc.object.s3.bean.CopyPartResult;
+import com.emc.object.s3.bean.DeleteError;
 import com.emc.object.s3.bean.DeleteObjectsResult;
 import com.emc.object.s3.bean.GetObjectResult;
 import com.emc.object.s3.bean.ListObjectsResult;
@@ -38,12 +40,15 @@ import io.pravega.common.util.BufferView;
 import io.pravega.common.util.ByteArraySegment;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -64,6 +69,10 @@ public class S3Mock {
     private final AtomicLong multipartNextId = new AtomicLong(0);
     @GuardedBy("objects")
     private final Map<String, ObjectData> objects;
+    /**
+     * Suffixes of keys that multi-object deletes report as failed (without deleting them).
+     */
+    private final Set<String> failingDeleteKeySuffixes = ConcurrentHashMap.newKeySet();
 
     //endregion
 
@@ -202,10 +211,33 @@ public class S3Mock {
     }
 
     public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
-        for (ObjectKey obj : request.getDeleteObjects().getKeys()) {
-            deleteObject(request.getBucketName(), obj.getKey());
+        val errors = new ArrayList<AbstractDeleteResult>();
+        // Like S3, a multi-object delete reports missing keys as deleted.
+        synchronized (this.objects) {
+            for (ObjectKey obj : request.getDeleteObjects().getKeys()) {
+                if (this.failingDeleteKeySuffixes.stream().anyMatch(obj.getKey()::endsWith)) {
+                    val error = new DeleteError();
+                    error.setKey(obj.getKey());
+                    error.setCode("InternalError");
+                    error.setMessage("Injected failure.");
+                    errors.add(error);
+                    continue;
+                }
+                this.objects.remove(getObjectName(request.getBucketName(), obj.getKey()));
+            }
         }
-        return new DeleteObjectsResult();
+        val result = new DeleteObjectsResult();
+        result.setResults(errors);
+        return result;
+    }
+
+    /**
+     * Makes subsequent multi-object deletes report a failure for any key ending with the given suffix.
+     *
+     * @param keySuffix The key suffix.
+     */
+    public void failDeleteObjects(String keySuffix) {
+        this.failingDeleteKeySuffixes.add(keySuffix);
     }
 
     public ListObjectsResult listObjects(String bucketName, String prefix) {
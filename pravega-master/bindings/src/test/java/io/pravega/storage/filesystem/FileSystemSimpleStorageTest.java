@@ -20,12 +20,16 @@ import io.pravega.segmentstore.storage.chunklayer.ChunkStorage;
 import io.pravega.segmentstore.storage.chunklayer.ChunkStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.SimpleStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.SystemJournalTests;
+import io.pravega.segmentstore.storage.chunklayer.TieredChunkStorage;
+import io.pravega.segmentstore.storage.chunklayer.TieredChunkStorageConfig;
+import io.pravega.segmentstore.storage.mocks.InMemoryChunkStorage;
 import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.Assert.assertEquals;
 
@@ -79,6 +83,23 @@ public class FileSystemSimpleStorageTest extends SimpleStorageTests {
         }
     }
 
+    /**
+     * {@link SimpleStorageTests} tests for {@link TieredChunkStorage} with {@link FileSystemChunkStorage} as hot tier and
+     * {@link InMemoryChunkStorage} standing in for an object store as cold tier.
+     */
+    public static class FileSystemTieredStorageTests extends SimpleStorageTests {
+        @Override
+        protected ChunkStorage getChunkStorage() throws Exception {
+            return newTieredChunkStorage(executorService());
+        }
+
+        private static ChunkStorage newTieredChunkStorage(ScheduledExecutorService executor) throws IOException {
+            InMemoryChunkStorage coldTier = new InMemoryChunkStorage(executor);
+            coldTier.setShouldSupportAppend(false);
+            return new TieredChunkStorage(newChunkStorage(executor), coldTier, TieredChunkStorageConfig.builder().build(), executor);
+        }
+    }
+
     /**
      * {@link SystemJournalTests} tests for {@link FileSystemChunkStorage} based {@link io.pravega.segmentstore.storage.Storage}.
      */
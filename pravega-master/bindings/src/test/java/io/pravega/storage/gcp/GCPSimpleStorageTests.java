@@ -15,12 +15,20 @@
  */
 package io.pravega.storage.gcp;
 
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
 import io.pravega.segmentstore.storage.chunklayer.ChunkStorage;
 import io.pravega.segmentstore.storage.chunklayer.ChunkStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.ChunkedRollingStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.ChunkedSegmentStorageConfig;
 import io.pravega.segmentstore.storage.chunklayer.SimpleStorageTests;
 import io.pravega.segmentstore.storage.chunklayer.SystemJournalTests;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -87,6 +95,7 @@ public class GCPSimpleStorageTests extends SimpleStorageTests {
      */
     public static class GCPChunkStorageTests extends ChunkStorageTests {
         private GCPTestContext testContext = null;
+        private final Set<String> failingDeleteNameSuffixes = ConcurrentHashMap.newKeySet();
 
         @Override
         @Before
@@ -103,7 +112,7 @@ public class GCPSimpleStorageTests extends SimpleStorageTests {
 
         @Override
         protected ChunkStorage createChunkStorage() {
-            return new GCPChunkStorage(testContext.storage, testContext.adapterConfig, executorService());
+            return new GCPChunkStorage(withInjectedDeleteFailures(testContext.storage), testContext.adapterConfig, executorService());
         }
 
         @Override
@@ -111,6 +120,34 @@ public class GCPSimpleStorageTests extends SimpleStorageTests {
             return Math.max(1, Math.toIntExact(this.testContext.defaultConfig.getMinSizeLimitForConcat()));
         }
 
+        @Override
+        protected boolean injectDeleteBatchFailure(String chunkName) {
+            this.failingDeleteNameSuffixes.add(chunkName);
+            return true;
+        }
+
+        /**
+         * Wraps the given {@link Storage} so that batch deletes leave the blobs set up by {@link #injectDeleteBatchFailure}
+         * in place and report them as not deleted, which is also how missing blobs are reported.
+         */
+        private Storage withInjectedDeleteFailures(Storage storage) {
+            return (Storage) Proxy.newProxyInstance(Storage.class.getClassLoader(), new Class<?>[]{Storage.class}, (proxy, method, args) -> {
+                if (method.getName().equals("delete") && args != null && args.length == 1 && args[0] instanceof Iterable) {
+                    List<Boolean> results = new ArrayList<>();
+                    for (Object blobId : (Iterable<?>) args[0]) {
+                        String name = ((BlobId) blobId).getName();
+                        results.add(this.failingDeleteNameSuffixes.stream().noneMatch(name::endsWith) && storage.delete((BlobId) blobId));
+                    }
+                    return results;
+                }
+                try {
+                    return method.invoke(storage, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
         /**
          * Test default capabilities.
          */
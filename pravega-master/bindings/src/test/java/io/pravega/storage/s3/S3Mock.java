@@ -45,6 +45,7 @@ import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartCopyResponse;
@@ -52,8 +53,11 @@ import software.amazon.awssdk.services.s3.model.UploadPartCopyResponse;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.NotThreadSafe;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -73,6 +77,11 @@ public class S3Mock {
     @GuardedBy("objects")
     private final Map<String, ObjectData> objects;
 
+    /**
+     * Suffixes of keys that multi-object deletes report as failed (without deleting them).
+     */
+    private final Set<String> failingDeleteKeySuffixes = ConcurrentHashMap.newKeySet();
+
     //endregion
 
     //region Constructor
@@ -126,11 +135,28 @@ public class S3Mock {
     }
 
     DeleteObjectsResponse deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
+        val errors = new ArrayList<S3Error>();
         for (var object: deleteObjectsRequest.delete().objects()) {
+            if (this.failingDeleteKeySuffixes.stream().anyMatch(object.key()::endsWith)) {
+                errors.add(S3Error.builder().key(object.key()).code("InternalError").message("Injected failure.").build());
+                continue;
+            }
             String objectName = getObjectName(deleteObjectsRequest.bucket(), object.key());
-            deleteObject(objectName);
+            // Like S3, a multi-object delete reports missing keys as deleted.
+            synchronized (this.objects) {
+                this.objects.remove(objectName);
+            }
         }
-        return DeleteObjectsResponse.builder().build();
+        return DeleteObjectsResponse.builder().errors(errors).build();
+    }
+
+    /**
+     * Makes subsequent multi-object deletes report a failure for any key ending with the given suffix.
+     *
+     * @param keySuffix The key suffix.
+     */
+    public void failDeleteObjects(String keySuffix) {
+        this.failingDeleteKeySuffixes.add(keySuffix);
     }
 
     HeadObjectResponse headObject(HeadObjectRequest headObjectRequest) throws AwsServiceException,
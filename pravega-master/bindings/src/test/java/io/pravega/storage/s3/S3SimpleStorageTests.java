@@ -121,6 +121,12 @@ public class S3SimpleStorageTests extends SimpleStorageTests {
             return Math.max(1, Math.toIntExact(this.testContext.defaultConfig.getMinSizeLimitForConcat()));
         }
 
+        @Override
+        protected boolean injectDeleteBatchFailure(String chunkName) {
+            this.testContext.s3Mock.failDeleteObjects(chunkName);
+            return true;
+        }
+
         /**
          * Test default capabilities.
          */
@@ -65,6 +65,7 @@ import io.pravega.cli.admin.segmentstore.GetContainerIdOfSegmentCommand;
 import io.pravega.cli.admin.segmentstore.UpdateSegmentAttributeCommand;
 import io.pravega.cli.admin.segmentstore.GetSegmentAttributeCommand;
 import io.pravega.cli.admin.segmentstore.GetSegmentInfoCommand;
+import io.pravega.cli.admin.segmentstore.GetSlowestOperationsCommand;
 import io.pravega.cli.admin.segmentstore.ReadSegmentRangeCommand;
 import io.pravega.cli.admin.segmentstore.storage.ListChunksCommand;
 import io.pravega.cli.admin.segmentstore.storage.StorageUpdateSnapshotCommand;
@@ -407,6 +408,7 @@ public abstract class AdminCommand {
                         .put(UpdateSegmentAttributeCommand::descriptor, UpdateSegmentAttributeCommand::new)
                         .put(FlushToStorageCommand::descriptor, FlushToStorageCommand::new)
                         .put(GetContainerIdOfSegmentCommand::descriptor, GetContainerIdOfSegmentCommand::new)
+                        .put(GetSlowestOperationsCommand::descriptor, GetSlowestOperationsCommand::new)
                         .put(RemoveTableSegmentKeyCommand::descriptor, RemoveTableSegmentKeyCommand::new)
                         .put(GetTableSegmentInfoCommand::descriptor, GetTableSegmentInfoCommand::new)
                         .put(GetTableSegmentEntryCommand::descriptor, GetTableSegmentEntryCommand::new)
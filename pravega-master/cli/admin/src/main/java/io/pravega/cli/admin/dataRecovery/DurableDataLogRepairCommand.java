@@ -33,6 +33,7 @@ import io.pravega.segmentstore.server.logs.DebugRecoveryProcessor;
 import io.pravega.segmentstore.server.logs.operations.DeleteSegmentOperation;
 import io.pravega.segmentstore.server.logs.operations.MergeSegmentOperation;
 import io.pravega.segmentstore.server.logs.operations.MetadataCheckpointOperation;
+import io.pravega.segmentstore.server.logs.operations.MultiSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
 import io.pravega.segmentstore.server.logs.operations.StorageMetadataCheckpointOperation;
@@ -579,19 +580,30 @@ public class DurableDataLogRepairCommand extends DataRecoveryCommand {
 
     /**
      * Reads a {@link DurableDataLog} associated with a container id and runs the callback on each {@link Operation}
-     * read from the log.
+     * read from the log. A {@link MultiSegmentAppendOperation} is expanded into its {@link StreamSegmentAppendOperation}s,
+     * so the callback is run on each of them (with their own Sequence Numbers) instead of on the packed record.
      *
      * @param callback Callback to be run upon each {@link Operation} read.
      * @param containerId Container id to read from.
      * @param durableDataLog {@link DurableDataLog} of the Container to be read.
-     * @return Number of {@link Operation}s read.
+     * @return Number of {@link Operation}s read, counting each append packed in a {@link MultiSegmentAppendOperation}.
      * @throws Exception If there is a problem reading the {@link DurableDataLog}.
      */
     @VisibleForTesting
     int readDurableDataLogWithCustomCallback(BiConsumer<Operation, List<DataFrameRecord.EntryInfo>> callback,
                                                      int containerId, DurableDataLog durableDataLog) throws Exception {
+        AtomicInteger expandedOperations = new AtomicInteger();
+        BiConsumer<Operation, List<DataFrameRecord.EntryInfo>> expandingCallback = (op, frameEntries) -> {
+            if (op instanceof MultiSegmentAppendOperation) {
+                List<StreamSegmentAppendOperation> appends = ((MultiSegmentAppendOperation) op).getAppends();
+                expandedOperations.addAndGet(appends.size() - 1);
+                appends.forEach(append -> callback.accept(append, frameEntries));
+            } else {
+                callback.accept(op, frameEntries);
+            }
+        };
         val logReaderCallbacks = new DebugRecoveryProcessor.OperationCallbacks(
-                callback,
+                expandingCallback,
                 op -> false, // We are not interested on doing actual recovery, just reading the operations.
                 null,
                 null);
@@ -600,7 +612,7 @@ public class DurableDataLogRepairCommand extends DataRecoveryCommand {
         @Cleanup
         val rp = DebugRecoveryProcessor.create(containerId, durableDataLog,
                 containerConfig, readIndexConfig, getCommandArgs().getState().getExecutor(), logReaderCallbacks, false);
-        int operationsRead = rp.performRecovery();
+        int operationsRead = rp.performRecovery() + expandedOperations.get();
         output("Number of operations read from DurableLog: " + operationsRead);
         return operationsRead;
     }
@@ -21,6 +21,7 @@ import io.pravega.common.io.FileHelpers;
 import io.pravega.segmentstore.server.logs.operations.DeleteSegmentOperation;
 import io.pravega.segmentstore.server.logs.operations.MergeSegmentOperation;
 import io.pravega.segmentstore.server.logs.operations.MetadataCheckpointOperation;
+import io.pravega.segmentstore.server.logs.operations.MultiSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.StorageMetadataCheckpointOperation;
 import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
@@ -127,6 +128,11 @@ public class DurableLogInspectCommand extends DurableDataLogRepairCommand {
             res = new OperationInspectInfo(op.getSequenceNumber(), op.getClass().getSimpleName(), op.getCacheLength(),
                     ((StreamSegmentAppendOperation) op).getStreamSegmentId(), ((StreamSegmentAppendOperation) op).getStreamSegmentOffset(),
                     ((StreamSegmentAppendOperation) op).getAttributeUpdates().size());
+        } else if (op instanceof MultiSegmentAppendOperation) {
+            // Reads expand these into their StreamSegmentAppendOperations; this is only reached if inspected directly.
+            res = new OperationInspectInfo(op.getSequenceNumber(), op.getClass().getSimpleName(), op.getCacheLength(),
+                    OperationInspectInfo.DEFAULT_ABSENT_VALUE, OperationInspectInfo.DEFAULT_ABSENT_VALUE,
+                    ((MultiSegmentAppendOperation) op).getAppends().stream().mapToLong(a -> a.getAttributeUpdates().size()).sum());
         } else if (op instanceof StreamSegmentSealOperation) {
             res = new OperationInspectInfo(op.getSequenceNumber(), op.getClass().getSimpleName(), op.getCacheLength(),
                     ((StreamSegmentSealOperation) op).getStreamSegmentId(), ((StreamSegmentSealOperation) op).getStreamSegmentOffset(),
@@ -0,0 +1,79 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.cli.admin.segmentstore;
+
+import io.pravega.cli.admin.CommandArgs;
+import io.pravega.cli.admin.utils.AdminSegmentHelper;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.WireCommands;
+import lombok.Cleanup;
+import org.apache.curator.framework.CuratorFramework;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gets the slowest operations traced by a Segment Container, along with the time they spent in each processing stage.
+ */
+public class GetSlowestOperationsCommand extends ContainerCommand {
+
+    /**
+     * Creates a new instance of the GetSlowestOperationsCommand.
+     *
+     * @param args The arguments for the command.
+     */
+    public GetSlowestOperationsCommand(CommandArgs args) {
+        super(args);
+    }
+
+    @Override
+    public void execute() {
+        ensureArgCount(2);
+
+        final int containerId = getIntArg(0);
+        final String segmentStoreHost = getArg(1);
+        @Cleanup
+        CuratorFramework zkClient = createZKClient();
+        @Cleanup
+        AdminSegmentHelper adminSegmentHelper = instantiateAdminSegmentHelper(zkClient);
+        CompletableFuture<WireCommands.SlowestOperationsListed> reply = adminSegmentHelper.getSlowestOperations(containerId,
+                new PravegaNodeUri(segmentStoreHost, getServiceConfig().getAdminGatewayPort()), super.authHelper.retrieveMasterToken());
+
+        List<WireCommands.OperationLatencyInfo> operations = reply.join().getOperations();
+        output("Slowest traced operations for Segment Container %d (%d):", containerId, operations.size());
+        operations.forEach(o -> {
+            output("- %s (SequenceNumber = %d, SegmentId = %d)", o.getOperationType(), o.getSequenceNumber(), o.getSegmentId());
+            output("  total = %d us", toMicros(o.getTotalNanos()));
+            output("  queue = %d us", toMicros(o.getQueueNanos()));
+            output("  throttle = %d us", toMicros(o.getThrottleNanos()));
+            output("  batching = %d us", toMicros(o.getBatchingNanos()));
+            output("  durableWrite = %d us", toMicros(o.getDurableWriteNanos()));
+            output("  memoryCommit = %d us", toMicros(o.getMemoryCommitNanos()));
+            output("");
+        });
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    public static CommandDescriptor descriptor() {
+        return new CommandDescriptor(COMPONENT, "slowest-operations", "Get the slowest traced operations of a Segment Container, with a per-stage latency breakdown.",
+                new ArgDescriptor("container-id", "Id of the Segment Container."),
+                new ArgDescriptor("segmentstore-endpoint", "Address of the Segment Store we want to send this request."));
+    }
+}
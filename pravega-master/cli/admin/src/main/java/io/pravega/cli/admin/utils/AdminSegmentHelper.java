@@ -44,6 +44,7 @@ public class AdminSegmentHelper extends SegmentHelper implements AutoCloseable {
                     .put(WireCommands.FlushToStorage.class, ImmutableSet.of(WireCommands.StorageFlushed.class))
                     .put(WireCommands.GetTableSegmentInfo.class, ImmutableSet.of(WireCommands.TableSegmentInfo.class))
                     .put(WireCommands.ListStorageChunks.class, ImmutableSet.of(WireCommands.StorageChunksListed.class))
+                    .put(WireCommands.GetSlowestOperations.class, ImmutableSet.of(WireCommands.SlowestOperationsListed.class))
                     .build();
 
     private static final Map<Class<? extends Request>, Set<Class<? extends Reply>>> EXPECTED_FAILING_REPLIES =
@@ -126,6 +127,29 @@ public class AdminSegmentHelper extends SegmentHelper implements AutoCloseable {
                 });
     }
 
+    /**
+     * This method sends a WireCommand to get the slowest traced operations for the given container, along with the
+     * time they spent in each processing stage.
+     *
+     * @param containerId     The Id of the container to get the operations for.
+     * @param uri             The uri of the Segment Store instance.
+     * @param delegationToken The token to be presented to the Segment Store.
+     * @return A CompletableFuture that will return the slowest operations as a WireCommand.
+     */
+    public CompletableFuture<WireCommands.SlowestOperationsListed> getSlowestOperations(int containerId, PravegaNodeUri uri, String delegationToken) {
+        final WireCommandType type = WireCommandType.GET_SLOWEST_OPERATIONS;
+        RawClient connection = new RawClient(uri, connectionPool);
+        final long requestId = connection.getFlow().asLong();
+        WireCommands.GetSlowestOperations request = new WireCommands.GetSlowestOperations(containerId, delegationToken, requestId);
+
+        return sendRequest(connection, requestId, request)
+                .thenApply(r -> {
+                    handleReply(requestId, r, connection, null, WireCommands.GetSlowestOperations.class, type);
+                    assert r instanceof WireCommands.SlowestOperationsListed;
+                    return (WireCommands.SlowestOperationsListed) r;
+                });
+    }
+
     /**
      * This method handle reply returned from RawClient.sendRequest.
      *
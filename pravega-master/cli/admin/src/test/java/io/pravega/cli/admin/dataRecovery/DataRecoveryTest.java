@@ -41,6 +41,7 @@ import io.pravega.segmentstore.server.containers.DebugStreamSegmentContainer;
 import io.pravega.segmentstore.server.logs.operations.DeleteSegmentOperation;
 import io.pravega.segmentstore.server.logs.operations.MergeSegmentOperation;
 import io.pravega.segmentstore.server.logs.operations.MetadataCheckpointOperation;
+import io.pravega.segmentstore.server.logs.operations.MultiSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.StorageMetadataCheckpointOperation;
 import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
@@ -931,6 +932,22 @@ public class DataRecoveryTest extends ThreadPooledTestSuite {
                 () -> command.checkBackupLogAssertions(1, 1, 1, true), t -> t instanceof IllegalStateException);
     }
 
+    @Test
+    public void testInspectMultiSegmentAppendOperation() {
+        val appends = List.of(
+                new StreamSegmentAppendOperation(1, 0, new ByteArraySegment(new byte[10]), AttributeUpdateCollection.from()),
+                new StreamSegmentAppendOperation(2, 0, new ByteArraySegment(new byte[20]), AttributeUpdateCollection.from()));
+        appends.get(0).setSequenceNumber(9);
+        appends.get(1).setSequenceNumber(10);
+        val multiAppend = new MultiSegmentAppendOperation(appends);
+        multiAppend.setSequenceNumber(10);
+
+        val inspectInfo = DurableLogInspectCommand.getActualOperation(multiAppend);
+        Assert.assertNotNull(inspectInfo);
+        Assert.assertEquals(10, inspectInfo.getSequenceNumber());
+        Assert.assertTrue(inspectInfo.toString().contains("operationTypeString=MultiSegmentAppendOperation"));
+    }
+
     @Test
     public void testTableSegmentRecoveryCommand() throws Exception {
         // set pravega properties for the test
@@ -162,6 +162,16 @@ public class ClientConfig implements Serializable {
      */
     private final MetricListener metricListener;
 
+    /**
+     * An optional property that enables resolving the Segment Store endpoint of segments locally, using a container
+     * routing table that is fetched from the Controller and kept up to date in the background. When disabled (default),
+     * the endpoint of each segment is looked up from the Controller.
+     *
+     * @param enableContainerRouting Flag to decide whether to resolve segment endpoints locally.
+     * @return Flag to decide whether to resolve segment endpoints locally.
+     */
+    private final boolean enableContainerRouting;
+
     /**
      * Returns whether TLS is enabled for client-to-server (Controller and Segment Store) communications.
      *
@@ -291,7 +301,7 @@ public class ClientConfig implements Serializable {
             }
             return new ClientConfig(controllerURI, credentials, trustStore, validateHostName, maxConnectionsPerSegmentStore, connectTimeoutMilliSec,
                     isDefaultMaxConnections, deriveTlsEnabledFromControllerURI, enableTlsToController,
-                    enableTlsToSegmentStore, metricListener);
+                    enableTlsToSegmentStore, metricListener, enableContainerRouting);
         }
 
         private boolean isValidScheme(String scheme) {
@@ -30,6 +30,7 @@ import io.pravega.client.stream.TransactionInfo;
 import java.net.URI;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.List;
 
@@ -70,6 +71,22 @@ public interface StreamManager extends AutoCloseable {
      */
     boolean createStream(String scopeName, String streamName, StreamConfiguration config);
 
+    /**
+     * Creates multiple streams in the same scope, using as few calls to the Controller as possible. This is
+     * considerably faster than calling {@link #createStream} for each stream when creating many streams.
+     * <p>
+     * Note: This method is idempotent assuming called with the same names and configs. The streams are created
+     * independently of each other, so if this method throws, some of the streams may have been created. This method
+     * may block.
+     *
+     * @param scopeName The name of the scope to create the streams in.
+     * @param streams   The names of the streams to be created, mapped to the configuration each stream should use.
+     * @return For each stream, true if the stream was created, false if it already existed.
+     * @throws io.pravega.client.stream.BulkStreamOperationException If any of the streams could not be created. The
+     * exception lists the failed streams and holds the results of the others.
+     */
+    Map<String, Boolean> createStreams(String scopeName, Map<String, StreamConfiguration> streams);
+
     /**
      * Change the configuration for an existing stream.
      * <p>
@@ -84,6 +101,22 @@ public interface StreamManager extends AutoCloseable {
      */
     boolean updateStream(String scopeName, String streamName, StreamConfiguration config);
 
+    /**
+     * Change the configuration of multiple existing streams in the same scope, using as few calls to the Controller as
+     * possible.
+     * <p>
+     * Note:
+     * This method is idempotent assuming called with the same names and configs.
+     * This method may block.
+     *
+     * @param scopeName The name of the scope of the streams.
+     * @param streams   The names of the streams whose config is to be changed, mapped to their new configurations.
+     * @return For each stream, true if the stream configuration is updated.
+     * @throws io.pravega.client.stream.BulkStreamOperationException If any of the streams could not be updated. The
+     * exception lists the failed streams and holds the results of the others.
+     */
+    Map<String, Boolean> updateStreams(String scopeName, Map<String, StreamConfiguration> streams);
+
     /**
      * Truncate stream at given stream cut.
      * This method may block.
@@ -114,6 +147,18 @@ public interface StreamManager extends AutoCloseable {
      */
     boolean deleteStream(String scopeName, String toDelete);
 
+    /**
+     * Deletes multiple streams of the same scope, using as few calls to the Controller as possible. Only sealed streams
+     * can be deleted.
+     *
+     * @param scopeName The name of the scope of the streams.
+     * @param toDelete  The names of the streams to be deleted.
+     * @return For each stream, true if the stream is deleted, false if it did not exist.
+     * @throws io.pravega.client.stream.BulkStreamOperationException If any of the streams could not be deleted. The
+     * exception lists the failed streams and holds the results of the others.
+     */
+    Map<String, Boolean> deleteStreams(String scopeName, Collection<String> toDelete);
+
     /**
      * Gets an iterator for all scopes. 
      *
@@ -65,6 +65,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -132,6 +133,14 @@ public class StreamManagerImpl implements StreamManager {
                         .build()));
     }
 
+    @Override
+    public Map<String, Boolean> createStreams(String scopeName, Map<String, StreamConfiguration> streams) {
+        NameUtils.validateUserScopeName(scopeName);
+        streams.keySet().forEach(NameUtils::validateUserStreamName);
+        log.info("Creating {} streams in scope: {}", streams.size(), scopeName);
+        return Futures.getThrowingException(controller.createStreams(scopeName, toControllerConfigs(streams)));
+    }
+
     @Override
     public boolean updateStream(String scopeName, String streamName, StreamConfiguration config) {
         NameUtils.validateUserStreamName(streamName);
@@ -145,6 +154,24 @@ public class StreamManagerImpl implements StreamManager {
                                                                                        .build()));
     }
 
+    @Override
+    public Map<String, Boolean> updateStreams(String scopeName, Map<String, StreamConfiguration> streams) {
+        NameUtils.validateUserScopeName(scopeName);
+        streams.keySet().forEach(NameUtils::validateUserStreamName);
+        log.info("Updating {} streams in scope: {}", streams.size(), scopeName);
+        return Futures.getThrowingException(controller.updateStreams(scopeName, toControllerConfigs(streams)));
+    }
+
+    private Map<String, StreamConfiguration> toControllerConfigs(Map<String, StreamConfiguration> streams) {
+        Map<String, StreamConfiguration> result = new LinkedHashMap<>();
+        streams.forEach((streamName, config) -> result.put(streamName, StreamConfiguration.builder()
+                .scalingPolicy(config.getScalingPolicy())
+                .retentionPolicy(config.getRetentionPolicy())
+                .tags(config.getTags())
+                .build()));
+        return result;
+    }
+
     @Override
     public boolean truncateStream(String scopeName, String streamName, StreamCut streamCut) {
         NameUtils.validateUserStreamName(streamName);
@@ -170,6 +197,14 @@ public class StreamManagerImpl implements StreamManager {
         return  Futures.getThrowingException(controller.deleteStream(scopeName, streamName));
     }
 
+    @Override
+    public Map<String, Boolean> deleteStreams(String scopeName, Collection<String> streamNames) {
+        NameUtils.validateUserScopeName(scopeName);
+        streamNames.forEach(NameUtils::validateUserStreamName);
+        log.info("Deleting {} streams in scope: {}", streamNames.size(), scopeName);
+        return Futures.getThrowingException(controller.deleteStreams(scopeName, streamNames));
+    }
+
     @Override
     public Iterator<String> listScopes() {
         log.info("Listing scopes");
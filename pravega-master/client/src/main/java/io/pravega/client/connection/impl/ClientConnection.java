@@ -75,4 +75,14 @@ public interface ClientConnection extends AutoCloseable {
      */
     PravegaNodeUri getLocation();
 
+    /**
+     * Gets the highest wire protocol version supported by the server, as advertised in its
+     * {@link io.pravega.shared.protocol.netty.WireCommands.Hello}.
+     *
+     * @return The server's wire protocol version, or -1 if it is not known (yet).
+     */
+    default int getServerVersion() {
+        return -1;
+    }
+
 }
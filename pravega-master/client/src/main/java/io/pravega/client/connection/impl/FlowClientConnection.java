@@ -83,4 +83,9 @@ public class FlowClientConnection implements ClientConnection {
         return new PravegaNodeUri(locationInfoToken[0].trim(), Integer.parseInt(locationInfoToken[1].trim()));
     }
 
+    @Override
+    public int getServerVersion() {
+        return handler.getServerVersion();
+    }
+
 }
@@ -55,6 +55,12 @@ public class FlowHandler extends FailingReplyProcessor implements AutoCloseable
     @Getter(AccessLevel.PACKAGE)
     private final ConcurrentHashMap<Integer, ReplyProcessor> flowIdReplyProcessorMap = new ConcurrentHashMap<>();
     private final AtomicBoolean disableFlow = new AtomicBoolean(false);
+    /**
+     * The highest wire protocol version supported by the server, or -1 until its Hello is received. Flows created after
+     * the Hello was received do not see it, so they can look up the version here.
+     */
+    @Getter
+    private volatile int serverVersion = -1;
 
     private FlowHandler(PravegaNodeUri location, MetricNotifier updateMetric) {
         this.location = location;
@@ -142,6 +148,7 @@ public class FlowHandler extends FailingReplyProcessor implements AutoCloseable
         }
         setRecentMessage();
         if (cmd instanceof WireCommands.Hello) {
+            serverVersion = ((WireCommands.Hello) cmd).getHighVersion();
             flowIdReplyProcessorMap.forEach((flowId, rp) -> {
                 try {
                     rp.hello((WireCommands.Hello) cmd);
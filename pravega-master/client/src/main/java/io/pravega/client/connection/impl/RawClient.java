@@ -191,6 +191,16 @@ public class RawClient implements AutoCloseable {
         });
     }
 
+    /**
+     * Gets the highest wire protocol version supported by the server, as advertised in its {@link Hello}.
+     *
+     * @return A future with the server's wire protocol version, or -1 if it is not known (yet) or the connection could
+     * not be established.
+     */
+    public CompletableFuture<Integer> getServerVersion() {
+        return connection.handle((c, e) -> c == null ? -1 : c.getServerVersion());
+    }
+
     public boolean isClosed() {
         return closed.get();
     }
@@ -0,0 +1,217 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.control.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.controller.stream.api.grpc.v1.Controller.ContainerHost;
+import io.pravega.controller.stream.api.grpc.v1.Controller.ContainerRoutingTable;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.segment.SegmentToContainerMapper;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * Resolves the Segment Store endpoint of segments locally using the segment container routing table served by the
+ * Controller. Since segments are mapped to containers using a deterministic hash ({@link SegmentToContainerMapper}),
+ * knowing which host owns each container is enough to compute the endpoint of any segment without a Controller call.
+ *
+ * The routing table is kept up to date by long polling the Controller: each request carries the version of the table
+ * already known and the Controller only responds once the table has changed (or the wait times out). Segments that can
+ * not be resolved (Eg. before the table is fetched, or if the Controller does not support routing tables) must be
+ * looked up from the Controller by the caller.
+ */
+@Slf4j
+class ContainerRoutingTableResolver implements AutoCloseable {
+    @VisibleForTesting
+    static final long NO_VERSION = -1;
+    @VisibleForTesting
+    static final Duration LONG_POLL_WAIT = Duration.ofSeconds(30);
+    private static final Duration INITIAL_RETRY_DELAY = Duration.ofMillis(100);
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+    /**
+     * Function that fetches the routing table given the known version and the maximum time to wait for a change.
+     */
+    private final BiFunction<Long, Duration, CompletableFuture<ContainerRoutingTable>> fetchTable;
+    private final ScheduledExecutorService executor;
+    private final AtomicReference<RoutingTable> routingTable = new AtomicReference<>();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean refreshInProgress = new AtomicBoolean();
+    private final AtomicBoolean unsupported = new AtomicBoolean();
+
+    ContainerRoutingTableResolver(BiFunction<Long, Duration, CompletableFuture<ContainerRoutingTable>> fetchTable,
+                                  ScheduledExecutorService executor) {
+        this.fetchTable = Preconditions.checkNotNull(fetchTable, "fetchTable");
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+    }
+
+    /**
+     * Starts fetching the routing table and keeping it up to date in the background.
+     */
+    void start() {
+        Exceptions.checkNotClosed(closed.get(), this);
+        if (!started.getAndSet(true)) {
+            poll(INITIAL_RETRY_DELAY);
+        }
+    }
+
+    /**
+     * Resolves the endpoint of the Segment Store that owns the given segment.
+     *
+     * @param qualifiedSegmentName Fully qualified name of the segment.
+     * @return The endpoint, or null if the segment can not be resolved locally.
+     */
+    PravegaNodeUri resolve(String qualifiedSegmentName) {
+        RoutingTable table = routingTable.get();
+        if (table == null) {
+            return null;
+        }
+        return table.getContainerEndpoints().get(table.getMapper().getContainerId(qualifiedSegmentName));
+    }
+
+    /**
+     * Notifies that the given endpoint was found to no longer own some segment. If the current routing table still
+     * routes to the given endpoint, then the table is refreshed immediately instead of waiting for the next update.
+     *
+     * @param staleEndpoint The stale endpoint.
+     */
+    void invalidate(PravegaNodeUri staleEndpoint) {
+        RoutingTable table = routingTable.get();
+        if (closed.get() || unsupported.get() || table == null || !table.getContainerEndpoints().containsValue(staleEndpoint)) {
+            return;
+        }
+        if (!refreshInProgress.getAndSet(true)) {
+            log.debug("Refreshing container routing table (version {}) due to stale endpoint {}.", table.getVersion(), staleEndpoint);
+            fetchTable.apply(NO_VERSION, Duration.ZERO)
+                      .whenComplete((newTable, ex) -> {
+                          refreshInProgress.set(false);
+                          if (ex == null) {
+                              update(newTable);
+                          } else {
+                              log.warn("Failed to refresh container routing table.", ex);
+                          }
+                      });
+        }
+    }
+
+    /**
+     * Gets the version of the current routing table.
+     *
+     * @return The version, or {@link #NO_VERSION} if no routing table is known.
+     */
+    long getVersion() {
+        RoutingTable table = routingTable.get();
+        return table == null ? NO_VERSION : table.getVersion();
+    }
+
+    private void poll(Duration retryDelay) {
+        if (closed.get()) {
+            return;
+        }
+        fetchTable.apply(getVersion(), LONG_POLL_WAIT)
+                  .whenCompleteAsync((table, ex) -> {
+                      if (ex == null) {
+                          if (update(table)) {
+                              poll(INITIAL_RETRY_DELAY);
+                          } else {
+                              // The Controller responds immediately until it knows the container count, so back off.
+                              log.debug("Container routing table is not available yet, retrying in {}.", retryDelay);
+                              retryPoll(retryDelay);
+                          }
+                      } else if (isUnsupported(ex)) {
+                          log.info("Controller does not support container routing tables; segment endpoints will be fetched from the Controller.");
+                          unsupported.set(true);
+                          routingTable.set(null);
+                      } else if (!closed.get()) {
+                          log.warn("Failed to fetch container routing table, retrying in {}.", retryDelay, ex);
+                          retryPoll(retryDelay);
+                      }
+                  }, executor);
+    }
+
+    private void retryPoll(Duration retryDelay) {
+        if (closed.get()) {
+            return;
+        }
+        Duration nextRetryDelay = retryDelay.multipliedBy(2).compareTo(MAX_RETRY_DELAY) < 0
+                ? retryDelay.multipliedBy(2) : MAX_RETRY_DELAY;
+        Futures.delayedFuture(retryDelay, executor).thenRun(() -> poll(nextRetryDelay));
+    }
+
+    /**
+     * Applies the given routing table, unless it is empty.
+     *
+     * @param table The routing table.
+     * @return False if the table is empty (Eg. the Controller does not know the container count yet), true otherwise.
+     */
+    private boolean update(ContainerRoutingTable table) {
+        if (closed.get()) {
+            return true;
+        }
+        if (table.getContainerCount() <= 0) {
+            // Controller does not know the container count yet.
+            return false;
+        }
+        RoutingTable current = routingTable.get();
+        if (current != null && current.getVersion() == table.getVersion()) {
+            return true;
+        }
+        Map<Integer, PravegaNodeUri> containerEndpoints = new HashMap<>();
+        for (ContainerHost host : table.getHostsList()) {
+            PravegaNodeUri uri = ModelHelper.encode(host.getNodeUri());
+            host.getContainerIdsList().forEach(containerId -> containerEndpoints.put(containerId, uri));
+        }
+        routingTable.set(new RoutingTable(table.getVersion(), new SegmentToContainerMapper(table.getContainerCount(), false),
+                containerEndpoints));
+        log.info("Updated container routing table to version {} with {} hosts and {} of {} containers assigned.",
+                table.getVersion(), table.getHostsCount(), containerEndpoints.size(), table.getContainerCount());
+        return true;
+    }
+
+    private boolean isUnsupported(Throwable ex) {
+        Throwable cause = Exceptions.unwrap(ex);
+        return cause instanceof StatusRuntimeException
+                && ((StatusRuntimeException) cause).getStatus().getCode() == Status.Code.UNIMPLEMENTED;
+    }
+
+    @Override
+    public void close() {
+        closed.set(true);
+        routingTable.set(null);
+    }
+
+    @Data
+    private static class RoutingTable {
+        private final long version;
+        private final SegmentToContainerMapper mapper;
+        private final Map<Integer, PravegaNodeUri> containerEndpoints;
+    }
+}
@@ -38,6 +38,7 @@ import io.pravega.shared.protocol.netty.BucketType;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
 import io.pravega.shared.security.auth.AccessOperation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -129,6 +130,19 @@ public interface Controller extends AutoCloseable {
      */
     CompletableFuture<Boolean> createStream(final String scope, final String streamName, final StreamConfiguration streamConfig);
 
+    /**
+     * API to create multiple streams in the same scope with as few Controller calls as possible. The streams are created
+     * independently of each other: a failure to create one stream does not undo the creation of the others.
+     *
+     * @param scope   Scope
+     * @param streams Map of stream names to their configurations.
+     * @return A future returning, for each stream, a boolean with the same meaning as the result of {@link #createStream}.
+     *         If the creation of any of the streams fails, the future fails with a
+     *         {@link io.pravega.client.stream.BulkStreamOperationException} listing the failed streams and holding the
+     *         results of the others.
+     */
+    CompletableFuture<Map<String, Boolean>> createStreams(final String scope, final Map<String, StreamConfiguration> streams);
+
     /**
      * Check if stream exists. 
      *
@@ -158,6 +172,18 @@ public interface Controller extends AutoCloseable {
      */
     CompletableFuture<Boolean> updateStream(final String scope, final String streamName, final StreamConfiguration streamConfig);
 
+    /**
+     * API to update the configuration of multiple streams in the same scope with as few Controller calls as possible.
+     *
+     * @param scope   Scope
+     * @param streams Map of stream names to their new configurations.
+     * @return A future returning, for each stream, a boolean with the same meaning as the result of {@link #updateStream}.
+     *         If the update of any of the streams fails, the future fails with a
+     *         {@link io.pravega.client.stream.BulkStreamOperationException} listing the failed streams and holding the
+     *         results of the others.
+     */
+    CompletableFuture<Map<String, Boolean>> updateStreams(final String scope, final Map<String, StreamConfiguration> streams);
+
     /**
      * API create a ReaderGroup.
      * @param scopeName Scope name for Reader Group.
@@ -256,6 +282,19 @@ public interface Controller extends AutoCloseable {
      */
     CompletableFuture<Boolean> deleteStream(final String scope, final String streamName);
 
+    /**
+     * API to delete multiple streams in the same scope with as few Controller calls as possible. Only sealed streams can
+     * be deleted.
+     *
+     * @param scope       Scope name.
+     * @param streamNames Names of the streams to delete.
+     * @return A future returning, for each stream, a boolean with the same meaning as the result of {@link #deleteStream}.
+     *         If the deletion of any of the streams fails, the future fails with a
+     *         {@link io.pravega.client.stream.BulkStreamOperationException} listing the failed streams and holding the
+     *         results of the others.
+     */
+    CompletableFuture<Map<String, Boolean>> deleteStreams(final String scope, final Collection<String> streamNames);
+
     /**
      * API to request start of scale operation on controller. This method returns a future that will complete when
      * controller service accepts the scale request.
@@ -18,6 +18,7 @@ package io.pravega.client.control.impl;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Status.Code;
@@ -30,6 +31,7 @@ import io.grpc.netty.shaded.io.netty.handler.ssl.SslContextBuilder;
 import io.grpc.stub.StreamObserver;
 import io.pravega.client.admin.KeyValueTableInfo;
 import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.stream.BulkStreamOperationException;
 import io.pravega.client.stream.InvalidStreamException;
 import io.pravega.client.stream.NoSuchScopeException;
 import io.pravega.client.stream.PingFailedException;
@@ -64,11 +66,14 @@ import io.pravega.common.util.ContinuationTokenAsyncIterator;
 import io.pravega.common.util.Retry;
 import io.pravega.common.util.Retry.RetryAndThrowConditionally;
 import io.pravega.common.util.SimpleCache;
+import io.pravega.controller.stream.api.grpc.v1.Controller.ContainerRoutingTable;
+import io.pravega.controller.stream.api.grpc.v1.Controller.ContainerRoutingTableRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ContinuationToken;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateKeyValueTableStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateReaderGroupResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateScopeStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateStreamStatus;
+import io.pravega.controller.stream.api.grpc.v1.Controller.CreateStreamsStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateTxnRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateTxnResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.DelegationToken;
@@ -76,6 +81,7 @@ import io.pravega.controller.stream.api.grpc.v1.Controller.DeleteKVTableStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.DeleteReaderGroupStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.DeleteScopeStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.DeleteStreamStatus;
+import io.pravega.controller.stream.api.grpc.v1.Controller.DeleteStreamsStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.GetEpochSegmentsRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.GetSegmentsRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.KVTablesInScopeRequest;
@@ -103,8 +109,10 @@ import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentRanges;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentValidityResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentsAtTime;
 import io.pravega.controller.stream.api.grpc.v1.Controller.StreamConfig;
+import io.pravega.controller.stream.api.grpc.v1.Controller.StreamConfigs;
 import io.pravega.controller.stream.api.grpc.v1.Controller.StreamCutRangeResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.StreamInfo;
+import io.pravega.controller.stream.api.grpc.v1.Controller.StreamInfos;
 import io.pravega.controller.stream.api.grpc.v1.Controller.StreamsInScopeRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.StreamsInScopeResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.StreamsInScopeWithTagRequest;
@@ -112,6 +120,8 @@ import io.pravega.controller.stream.api.grpc.v1.Controller.SubscribersResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SuccessorResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampFromWriter;
 import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampResponse;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampsFromWriters;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampsResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.TxnRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ListCompletedTxnRequest;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ListCompletedTxnResponse;
@@ -135,9 +145,13 @@ import javax.net.ssl.SSLException;
 import java.io.File;
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -169,12 +183,14 @@ import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_KEY_VAL
 import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_READER_GROUP;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_SCOPE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_STREAM;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_STREAMS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_TRANSACTION;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_KEY_VALUE_TABLE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_READER_GROUP;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_SCOPE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_SCOPE_RECURSIVE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_STREAM;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_STREAMS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_CURRENT_SEGMENTS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_CURRENT_SEGMENTS_KEY_VALUE_TABLE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_EPOCH_SEGMENTS;
@@ -194,6 +210,7 @@ import static io.pravega.shared.controller.tracing.RPCTracingTags.LIST_STREAMS_I
 import static io.pravega.shared.controller.tracing.RPCTracingTags.LIST_STREAMS_IN_SCOPE_FOR_TAG;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.LIST_SUBSCRIBERS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.NOTE_TIMESTAMP_FROM_WRITER;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.NOTE_TIMESTAMPS_FROM_WRITERS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.PING_TRANSACTION;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.REMOVE_WRITER;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.SCALE_STREAM;
@@ -202,9 +219,11 @@ import static io.pravega.shared.controller.tracing.RPCTracingTags.START_SCALE_ST
 import static io.pravega.shared.controller.tracing.RPCTracingTags.TRUNCATE_STREAM;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.UPDATE_READER_GROUP;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.UPDATE_STREAM;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.UPDATE_STREAMS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.UPDATE_TRUNCATION_STREAM_CUT;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.LIST_COMPLETED_TRANSACTIONS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_CONTROLLER_TO_BUCKET_MAPPING;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_CONTAINER_ROUTING_TABLE;
 
 /**
  * RPC based client implementation of Stream Controller V1 API.
@@ -217,6 +236,13 @@ public class ControllerImpl implements Controller {
     // This value should be greater than the permissible value configured at the server which is by default 5 minutes.
     private static final long DEFAULT_KEEPALIVE_TIME_MINUTES = 6;
 
+    // Number of independently locked shards in the segment endpoint cache, which is accessed by every writer and reader.
+    private static final int CACHE_CONCURRENCY_LEVEL = 8;
+
+    // The maximum number of streams sent to the Controller with a single bulk stream operation call.
+    @VisibleForTesting
+    static final int MAX_BULK_STREAM_OPERATION_SIZE = 1000;
+
     // The internal retry object to handle RPC failures.
     private final Retry.RetryAndThrowConditionally retryConfig;
 
@@ -226,6 +252,9 @@ public class ControllerImpl implements Controller {
     // Flag to indicate if the client is closed.
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
+    // Flag to indicate if the Controller supports bulk stream operations. Cleared the first time it reports otherwise.
+    private final AtomicBoolean bulkStreamOperationsSupported = new AtomicBoolean(true);
+
     // io.grpc.Channel used by the grpc client for Controller Service.
     private final ManagedChannel channel;
 
@@ -249,6 +278,17 @@ public class ControllerImpl implements Controller {
     @Getter(value = AccessLevel.PACKAGE)
     private SimpleCache<Segment, CachedPravegaNodeUri> endPointCacheMap;
 
+    /**
+     * Resolves segment endpoints locally using the container routing table. Null if container routing is disabled.
+     */
+    @Getter(value = AccessLevel.PACKAGE)
+    private final ContainerRoutingTableResolver containerRoutingTableResolver;
+
+    /**
+     * Combines writer marks reported by the writers of this client into batched calls.
+     */
+    private final WriterMarkBatcher writerMarkBatcher;
+
 
     /**
      * Creates a new instance of the Controller client class.
@@ -306,13 +346,20 @@ public class ControllerImpl implements Controller {
         this.channel = channelBuilder.build();
         this.client = getClientWithCredentials(config);
         this.timeoutMillis = config.getTimeoutMillis();
+        if (config.getClientConfig().isEnableContainerRouting()) {
+            this.containerRoutingTableResolver = new ContainerRoutingTableResolver(this::getContainerRoutingTable, executor);
+            this.containerRoutingTableResolver.start();
+        } else {
+            this.containerRoutingTableResolver = null;
+        }
+        this.writerMarkBatcher = new WriterMarkBatcher(this::noteTimestampsFromWriters, this::noteTimestampFromWriter, executor);
     }
 
     @VisibleForTesting
     public ControllerImpl(ManagedChannelBuilder<?> channelBuilder, final ControllerImplConfig config,
                           final ScheduledExecutorService executor, final SimpleCache<Segment, CachedPravegaNodeUri> simpleCache) {
         this(channelBuilder, config, executor);
-        this.endPointCacheMap = (simpleCache == null) ? new SimpleCache<>(maxCacheSize, segmentEntryExpirationTime,
+        this.endPointCacheMap = (simpleCache == null) ? new SimpleCache<>(maxCacheSize, CACHE_CONCURRENCY_LEVEL, segmentEntryExpirationTime,
                 (segment, cachedEndPointUri) -> log.info("Evicting segment : {} from cache", segment.getSegmentId())) : simpleCache;
     }
 
@@ -634,29 +681,8 @@ public class ControllerImpl implements Controller {
                     callback);
             return callback.getFuture();
         }, this.executor);
-        return result.thenApplyAsync(x -> {
-            switch (x.getStatus()) {
-            case FAILURE:
-                log.warn(requestId, "Failed to create stream: {}", streamName);
-                throw new ControllerFailureException("Failed to create stream: " + streamConfig);
-            case INVALID_STREAM_NAME:
-                log.warn(requestId, "Illegal stream name: {}", streamName);
-                throw new IllegalArgumentException("Illegal stream name: " + streamConfig);
-            case SCOPE_NOT_FOUND:
-                log.warn(requestId, "Scope not found: {}", scope);
-                throw new IllegalArgumentException("Scope does not exist: " + streamConfig);
-            case STREAM_EXISTS:
-                log.warn(requestId, "Stream already exists: {}", streamName);
-                return false;
-            case SUCCESS:
-                log.info(requestId, "Stream created successfully: {}", streamName);
-                return true;
-            case UNRECOGNIZED:
-            default:
-                throw new ControllerFailureException("Unknown return status creating stream " + streamConfig
-                                                     + " " + x.getStatus());
-            }
-        }, this.executor).whenComplete((x, e) -> {
+        return result.thenApplyAsync(x -> handleCreateStreamStatus(x.getStatus(), scope, streamName, streamConfig, requestId),
+                this.executor).whenComplete((x, e) -> {
             if (e != null) {
                 log.warn(requestId, "createStream {}/{} failed: ", scope, streamName, e);
             }
@@ -664,6 +690,67 @@ public class ControllerImpl implements Controller {
         });
     }
 
+    @Override
+    public CompletableFuture<Map<String, Boolean>> createStreams(String scope, Map<String, StreamConfiguration> streams) {
+        Exceptions.checkNotNullOrEmpty(scope, "scope");
+        Exceptions.checkNotClosed(closed.get(), this);
+        Preconditions.checkNotNull(streams, "streams");
+        final long requestId = requestIdGenerator.get();
+        long traceId = LoggerHelpers.traceEnter(log, CREATE_STREAMS, scope, streams.size(), requestId);
+
+        return runBulkStreamOperation(CREATE_STREAMS, new ArrayList<>(streams.keySet()), batch -> {
+            StreamConfigs.Builder request = StreamConfigs.newBuilder();
+            batch.forEach(streamName -> request.addConfigs(ModelHelper.decode(scope, streamName, streams.get(streamName))));
+            return this.retryConfig.runAsync(() -> {
+                RPCAsyncCallback<CreateStreamsStatus> callback = new RPCAsyncCallback<>(requestId, CREATE_STREAMS,
+                        scope, batch.size());
+                new ControllerClientTagger(client, timeoutMillis).withTag(requestId, CREATE_STREAMS, scope)
+                                                                 .createStreams(request.build(), callback);
+                return callback.getFuture();
+            }, this.executor).thenApplyAsync(x -> {
+                checkBulkResultCount(x.getResultsCount(), batch.size());
+                List<CompletableFuture<Boolean>> results = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    String streamName = batch.get(i);
+                    CreateStreamStatus.Status status = x.getResults(i).getStatus();
+                    results.add(handleStreamStatus(() -> handleCreateStreamStatus(status, scope, streamName,
+                            streams.get(streamName), requestId)));
+                }
+                return results;
+            }, this.executor);
+        }, streamName -> createStream(scope, streamName, streams.get(streamName))).whenComplete((x, e) -> {
+            if (e != null) {
+                log.warn(requestId, "createStreams {} failed: ", scope, e);
+            }
+            LoggerHelpers.traceLeave(log, CREATE_STREAMS, traceId, scope, requestId);
+        });
+    }
+
+    private boolean handleCreateStreamStatus(CreateStreamStatus.Status status, String scope, String streamName,
+                                             StreamConfiguration streamConfig, long requestId) {
+        switch (status) {
+        case FAILURE:
+            log.warn(requestId, "Failed to create stream: {}", streamName);
+            throw new ControllerFailureException("Failed to create stream: " + streamConfig);
+        case INVALID_STREAM_NAME:
+            log.warn(requestId, "Illegal stream name: {}", streamName);
+            throw new IllegalArgumentException("Illegal stream name: " + streamConfig);
+        case SCOPE_NOT_FOUND:
+            log.warn(requestId, "Scope not found: {}", scope);
+            throw new IllegalArgumentException("Scope does not exist: " + streamConfig);
+        case STREAM_EXISTS:
+            log.warn(requestId, "Stream already exists: {}", streamName);
+            return false;
+        case SUCCESS:
+            log.info(requestId, "Stream created successfully: {}", streamName);
+            return true;
+        case UNRECOGNIZED:
+        default:
+            throw new ControllerFailureException("Unknown return status creating stream " + streamConfig
+                                                 + " " + status);
+        }
+    }
+
     @Override
     public CompletableFuture<Boolean> checkStreamExists(String scopeName, String streamName) {
         Exceptions.checkNotClosed(closed.get(), this);
@@ -729,29 +816,8 @@ public class ControllerImpl implements Controller {
                                                                 callback);
             return callback.getFuture();
         }, this.executor);
-        return result.thenApplyAsync(x -> {
-            switch (x.getStatus()) {
-            case FAILURE:
-                log.warn(requestId, "Failed to update stream: {}", streamName);
-                throw new ControllerFailureException("Failed to update stream: " + streamConfig);
-            case SCOPE_NOT_FOUND:
-                log.warn(requestId, "Scope not found: {}", scope);
-                throw new IllegalArgumentException("Scope does not exist: " + streamConfig);
-            case STREAM_NOT_FOUND:
-                log.warn(requestId, "Stream does not exist: {}", streamName);
-                throw new IllegalArgumentException("Stream does not exist: " + streamConfig);
-            case STREAM_SEALED:
-                log.warn(requestId, "Stream is sealed: {}", streamName);
-                throw new UnsupportedOperationException("Stream is sealed: " + streamConfig);
-            case SUCCESS:
-                log.info(requestId, "Successfully updated stream: {}", streamName);
-                return true;
-            case UNRECOGNIZED:
-            default:
-                throw new ControllerFailureException("Unknown return status updating stream " + streamConfig
-                                                     + " " + x.getStatus());
-            }
-        }, this.executor).whenComplete((x, e) -> {
+        return result.thenApplyAsync(x -> handleUpdateStreamStatus(x.getStatus(), scope, streamName, streamConfig, requestId),
+                this.executor).whenComplete((x, e) -> {
             if (e != null) {
                 log.warn(requestId, "updateStream {}/{} failed: ", scope, streamName, e);
             }
@@ -759,6 +825,67 @@ public class ControllerImpl implements Controller {
         });
     }
 
+    @Override
+    public CompletableFuture<Map<String, Boolean>> updateStreams(String scope, Map<String, StreamConfiguration> streams) {
+        Exceptions.checkNotNullOrEmpty(scope, "scope");
+        Exceptions.checkNotClosed(closed.get(), this);
+        Preconditions.checkNotNull(streams, "streams");
+        final long requestId = requestIdGenerator.get();
+        long traceId = LoggerHelpers.traceEnter(log, UPDATE_STREAMS, scope, streams.size(), requestId);
+
+        return runBulkStreamOperation(UPDATE_STREAMS, new ArrayList<>(streams.keySet()), batch -> {
+            StreamConfigs.Builder request = StreamConfigs.newBuilder();
+            batch.forEach(streamName -> request.addConfigs(ModelHelper.decode(scope, streamName, streams.get(streamName))));
+            return this.retryConfig.runAsync(() -> {
+                RPCAsyncCallback<UpdateStreamsStatus> callback = new RPCAsyncCallback<>(requestId, UPDATE_STREAMS,
+                        scope, batch.size());
+                new ControllerClientTagger(client, timeoutMillis).withTag(requestId, UPDATE_STREAMS, scope)
+                                                                 .updateStreams(request.build(), callback);
+                return callback.getFuture();
+            }, this.executor).thenApplyAsync(x -> {
+                checkBulkResultCount(x.getResultsCount(), batch.size());
+                List<CompletableFuture<Boolean>> results = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    String streamName = batch.get(i);
+                    UpdateStreamStatus.Status status = x.getResults(i).getStatus();
+                    results.add(handleStreamStatus(() -> handleUpdateStreamStatus(status, scope, streamName,
+                            streams.get(streamName), requestId)));
+                }
+                return results;
+            }, this.executor);
+        }, streamName -> updateStream(scope, streamName, streams.get(streamName))).whenComplete((x, e) -> {
+            if (e != null) {
+                log.warn(requestId, "updateStreams {} failed: ", scope, e);
+            }
+            LoggerHelpers.traceLeave(log, UPDATE_STREAMS, traceId, scope, requestId);
+        });
+    }
+
+    private boolean handleUpdateStreamStatus(UpdateStreamStatus.Status status, String scope, String streamName,
+                                             StreamConfiguration streamConfig, long requestId) {
+        switch (status) {
+        case FAILURE:
+            log.warn(requestId, "Failed to update stream: {}", streamName);
+            throw new ControllerFailureException("Failed to update stream: " + streamConfig);
+        case SCOPE_NOT_FOUND:
+            log.warn(requestId, "Scope not found: {}", scope);
+            throw new IllegalArgumentException("Scope does not exist: " + streamConfig);
+        case STREAM_NOT_FOUND:
+            log.warn(requestId, "Stream does not exist: {}", streamName);
+            throw new IllegalArgumentException("Stream does not exist: " + streamConfig);
+        case STREAM_SEALED:
+            log.warn(requestId, "Stream is sealed: {}", streamName);
+            throw new UnsupportedOperationException("Stream is sealed: " + streamConfig);
+        case SUCCESS:
+            log.info(requestId, "Successfully updated stream: {}", streamName);
+            return true;
+        case UNRECOGNIZED:
+        default:
+            throw new ControllerFailureException("Unknown return status updating stream " + streamConfig
+                                                 + " " + status);
+        }
+    }
+
     @Override
     public CompletableFuture<List<String>> listSubscribers(String scope, String streamName) {
         Exceptions.checkNotClosed(closed.get(), this);
@@ -1085,25 +1212,8 @@ public class ControllerImpl implements Controller {
                                                         .deleteStream(ModelHelper.createStreamInfo(scope, streamName), callback);
             return callback.getFuture();
         }, this.executor);
-        return result.thenApplyAsync(x -> {
-            switch (x.getStatus()) {
-            case FAILURE:
-                log.warn(requestId, "Failed to delete stream: {}", streamName);
-                throw new ControllerFailureException("Failed to delete stream: " + streamName);
-            case STREAM_NOT_FOUND:
-                log.warn(requestId, "Stream does not exist: {}", streamName);
-                return false;
-            case STREAM_NOT_SEALED:
-                log.warn(requestId, "Stream is not sealed: {}", streamName);
-                throw new IllegalArgumentException("Stream is not sealed: " + streamName);
-            case SUCCESS:
-                log.info(requestId, "Successfully deleted stream: {}", streamName);
-                return true;
-            case UNRECOGNIZED:
-            default:
-                throw new ControllerFailureException("Unknown return status deleting stream " + streamName + " " + x.getStatus());
-            }
-        }, this.executor).whenComplete((x, e) -> {
+        return result.thenApplyAsync(x -> handleDeleteStreamStatus(x.getStatus(), streamName, requestId), this.executor)
+                     .whenComplete((x, e) -> {
             if (e != null) {
                 log.warn(requestId, "deleteStream {}/{} failed: ", scope, streamName, e);
             }
@@ -1111,6 +1221,145 @@ public class ControllerImpl implements Controller {
         });
     }
 
+    @Override
+    public CompletableFuture<Map<String, Boolean>> deleteStreams(final String scope, final Collection<String> streamNames) {
+        Exceptions.checkNotClosed(closed.get(), this);
+        Exceptions.checkNotNullOrEmpty(scope, "scope");
+        Preconditions.checkNotNull(streamNames, "streamNames");
+        streamNames.forEach(streamName -> Exceptions.checkNotNullOrEmpty(streamName, "streamName"));
+        final long requestId = requestIdGenerator.get();
+        long traceId = LoggerHelpers.traceEnter(log, DELETE_STREAMS, scope, streamNames.size(), requestId);
+
+        return runBulkStreamOperation(DELETE_STREAMS, new ArrayList<>(new LinkedHashSet<>(streamNames)), batch -> {
+            StreamInfos.Builder request = StreamInfos.newBuilder();
+            batch.forEach(streamName -> request.addStreams(ModelHelper.createStreamInfo(scope, streamName)));
+            return this.retryConfig.runAsync(() -> {
+                RPCAsyncCallback<DeleteStreamsStatus> callback = new RPCAsyncCallback<>(requestId, DELETE_STREAMS,
+                        scope, batch.size());
+                new ControllerClientTagger(client, timeoutMillis).withTag(requestId, DELETE_STREAMS, scope)
+                                                                 .deleteStreams(request.build(), callback);
+                return callback.getFuture();
+            }, this.executor).thenApplyAsync(x -> {
+                checkBulkResultCount(x.getResultsCount(), batch.size());
+                List<CompletableFuture<Boolean>> results = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    DeleteStreamStatus.Status status = x.getResults(i).getStatus();
+                    String streamName = batch.get(i);
+                    results.add(handleStreamStatus(() -> handleDeleteStreamStatus(status, streamName, requestId)));
+                }
+                return results;
+            }, this.executor);
+        }, streamName -> deleteStream(scope, streamName)).whenComplete((x, e) -> {
+            if (e != null) {
+                log.warn(requestId, "deleteStreams {} failed: ", scope, e);
+            }
+            LoggerHelpers.traceLeave(log, DELETE_STREAMS, traceId, scope, requestId);
+        });
+    }
+
+    private boolean handleDeleteStreamStatus(DeleteStreamStatus.Status status, String streamName, long requestId) {
+        switch (status) {
+        case FAILURE:
+            log.warn(requestId, "Failed to delete stream: {}", streamName);
+            throw new ControllerFailureException("Failed to delete stream: " + streamName);
+        case STREAM_NOT_FOUND:
+            log.warn(requestId, "Stream does not exist: {}", streamName);
+            return false;
+        case STREAM_NOT_SEALED:
+            log.warn(requestId, "Stream is not sealed: {}", streamName);
+            throw new IllegalArgumentException("Stream is not sealed: " + streamName);
+        case SUCCESS:
+            log.info(requestId, "Successfully deleted stream: {}", streamName);
+            return true;
+        case UNRECOGNIZED:
+        default:
+            throw new ControllerFailureException("Unknown return status deleting stream " + streamName + " " + status);
+        }
+    }
+
+    /**
+     * Executes a bulk stream operation by sending the given streams to the Controller in consecutive batches of at most
+     * {@link #MAX_BULK_STREAM_OPERATION_SIZE} streams. If the Controller does not support bulk stream operations, every
+     * stream is sent with its own call instead.
+     *
+     * @param operation   Name of the operation, used in the exception describing the streams it failed for.
+     * @param streamNames Names of the streams to execute the operation on.
+     * @param sendBatch   Function that executes the operation on a batch of streams and returns the per-stream results, in
+     *                    the same order as the batch.
+     * @param sendSingle  Function that executes the operation on a single stream.
+     * @return A CompletableFuture that, when completed, will contain the results for each stream. The streams are
+     * processed independently of each other: if the operation fails for any of them, all streams are still sent and the
+     * future fails with a {@link BulkStreamOperationException} holding both the results of the successful streams and
+     * the causes of the failed ones.
+     */
+    private CompletableFuture<Map<String, Boolean>> runBulkStreamOperation(
+            String operation, List<String> streamNames,
+            Function<List<String>, CompletableFuture<List<CompletableFuture<Boolean>>>> sendBatch,
+            Function<String, CompletableFuture<Boolean>> sendSingle) {
+        Map<String, Boolean> results = Collections.synchronizedMap(new LinkedHashMap<>());
+        Map<String, Throwable> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+        Iterator<List<String>> batches = Lists.partition(streamNames, MAX_BULK_STREAM_OPERATION_SIZE).iterator();
+        return Futures.loop(batches::hasNext, () -> {
+            List<String> batch = batches.next();
+            CompletableFuture<List<CompletableFuture<Boolean>>> batchResult = bulkStreamOperationsSupported.get()
+                    ? sendBatch.apply(batch)
+                    : sendIndividually(batch, sendSingle);
+            return Futures.exceptionallyComposeExpecting(batchResult, this::isUnimplemented, () -> {
+                log.info("Controller does not support bulk stream operations; streams will be sent individually.");
+                bulkStreamOperationsSupported.set(false);
+                return sendIndividually(batch, sendSingle);
+            }).handle((streamResults, ex) -> {
+                if (ex != null) {
+                    // The whole batch failed (Eg. the call to the Controller failed), so it failed for all its streams.
+                    batch.forEach(streamName -> failures.put(streamName, Exceptions.unwrap(ex)));
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                return Futures.allOf(streamResults).handle((v, e) -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        CompletableFuture<Boolean> streamResult = streamResults.get(i);
+                        if (Futures.isSuccessful(streamResult)) {
+                            results.put(batch.get(i), streamResult.join());
+                        } else {
+                            failures.put(batch.get(i), Exceptions.unwrap(Futures.getException(streamResult)));
+                        }
+                    }
+                    return (Void) null;
+                });
+            }).thenCompose(f -> f);
+        }, this.executor).thenApply(v -> {
+            if (!failures.isEmpty()) {
+                throw new BulkStreamOperationException(operation, results, failures);
+            }
+            return results;
+        });
+    }
+
+    private CompletableFuture<List<CompletableFuture<Boolean>>> sendIndividually(List<String> streamNames,
+                                                                                 Function<String, CompletableFuture<Boolean>> sendSingle) {
+        return CompletableFuture.completedFuture(streamNames.stream().map(sendSingle).collect(Collectors.toList()));
+    }
+
+    private CompletableFuture<Boolean> handleStreamStatus(Supplier<Boolean> handleStatus) {
+        try {
+            return CompletableFuture.completedFuture(handleStatus.get());
+        } catch (Exception ex) {
+            return Futures.failedFuture(ex);
+        }
+    }
+
+    private void checkBulkResultCount(int resultCount, int streamCount) {
+        if (resultCount != streamCount) {
+            throw new ControllerFailureException(String.format("Controller returned %d results for %d streams.",
+                    resultCount, streamCount));
+        }
+    }
+
+    private boolean isUnimplemented(Throwable ex) {
+        Throwable cause = Exceptions.unwrap(ex);
+        return cause instanceof StatusRuntimeException
+                && ((StatusRuntimeException) cause).getStatus().getCode() == Code.UNIMPLEMENTED;
+    }
+
     @Override
     public CompletableFuture<Map<Segment, Long>> getSegmentsAtTime(final Stream stream, final long timestamp) {
         Exceptions.checkNotClosed(closed.get(), this);
@@ -1313,6 +1562,12 @@ public class ControllerImpl implements Controller {
         Exceptions.checkNotClosed(closed.get(), this);
         Exceptions.checkNotNullOrEmpty(qualifiedSegmentName, "qualifiedSegmentName");
         Segment segment = Segment.fromScopedName(qualifiedSegmentName);
+        if (containerRoutingTableResolver != null) {
+            PravegaNodeUri resolvedUri = containerRoutingTableResolver.resolve(segment.getScopedName());
+            if (resolvedUri != null) {
+                return CompletableFuture.completedFuture(resolvedUri);
+            }
+        }
         CachedPravegaNodeUri nodeUri = getSegmentEndpointFromCache(segment);
         //Read from cache if the segment endpoint already exists and the refresh interval is not expired.
         if (nodeUri != null && nodeUri.getTimer().getElapsedMillis() <= CachedPravegaNodeUri.MAX_BACKOFF_MILLIS) {
@@ -1333,6 +1588,9 @@ public class ControllerImpl implements Controller {
     public void updateStaleValueInCache(String segmentName, PravegaNodeUri errNodeUri) {
         Exceptions.checkNotNullOrEmpty(segmentName, "segmentName");
         Segment segment = Segment.fromScopedName(segmentName);
+        if (containerRoutingTableResolver != null) {
+            containerRoutingTableResolver.invalidate(errNodeUri);
+        }
         final long requestId = requestIdGenerator.get();
         long traceId = LoggerHelpers.traceEnter(log, "updateStaleValueInCache", segmentName, errNodeUri, requestId);
         CachedPravegaNodeUri cachedNode = getSegmentEndpointFromCache(segment);
@@ -1381,6 +1639,24 @@ public class ControllerImpl implements Controller {
                 });
     }
 
+    /**
+     * Fetches the container routing table from the Controller. This is not retried as {@link ContainerRoutingTableResolver}
+     * keeps polling for the routing table anyway.
+     */
+    private CompletableFuture<ContainerRoutingTable> getContainerRoutingTable(long knownVersion, Duration maxWait) {
+        Exceptions.checkNotClosed(closed.get(), this);
+        final long requestId = requestIdGenerator.get();
+        // Leave enough time for the response to arrive before the deadline of the call.
+        final long maxWaitMillis = Math.min(maxWait.toMillis(), timeoutMillis / 2);
+        RPCAsyncCallback<ContainerRoutingTable> callback = new RPCAsyncCallback<>(requestId, "getContainerRoutingTable", knownVersion);
+        new ControllerClientTagger(client, timeoutMillis).withTag(requestId, GET_CONTAINER_ROUTING_TABLE, Long.toString(knownVersion))
+                .getContainerRoutingTable(ContainerRoutingTableRequest.newBuilder()
+                        .setKnownVersion(knownVersion)
+                        .setMaxWaitMillis(maxWaitMillis)
+                        .build(), callback);
+        return callback.getFuture();
+    }
+
     @VisibleForTesting
     CachedPravegaNodeUri getSegmentEndpointFromCache(Segment segment) {
         return endPointCacheMap.get(segment);
@@ -1628,19 +1904,11 @@ public class ControllerImpl implements Controller {
         final long requestId = requestIdGenerator.get();
         long traceId = LoggerHelpers.traceEnter(log, "noteTimestampFromWriter", writer, stream, requestId);
 
-        final CompletableFuture<TimestampResponse> result = this.retryConfig.runAsync(() -> {
-            RPCAsyncCallback<TimestampResponse> callback = new RPCAsyncCallback<>(traceId, "lastWrittenPosition", 
-                    writer, stream, timestamp);
-            new ControllerClientTagger(client, timeoutMillis).withTag(requestId, NOTE_TIMESTAMP_FROM_WRITER, 
-                    stream.getScope(), stream.getStreamName(), writer)
-                    .noteTimestampFromWriter(TimestampFromWriter.newBuilder()
-                                    .setWriter(writer)
-                                    .setTimestamp(timestamp)
-                                    .setPosition(ModelHelper.createStreamCut(stream, lastWrittenPosition))
-                                    .build(),
-                            callback);
-            return callback.getFuture();
-        }, this.executor);
+        final CompletableFuture<TimestampResponse> result = writerMarkBatcher.noteTimestamp(TimestampFromWriter.newBuilder()
+                .setWriter(writer)
+                .setTimestamp(timestamp)
+                .setPosition(ModelHelper.createStreamCut(stream, lastWrittenPosition))
+                .build());
         return result.thenApplyAsync(response -> {
             LoggerHelpers.traceLeave(log, "noteTimestampFromWriter", traceId, writer, stream, requestId);
             if (response.getResult().equals(TimestampResponse.Status.SUCCESS)) {
@@ -1652,6 +1920,33 @@ public class ControllerImpl implements Controller {
         }, this.executor);
     }
 
+    private CompletableFuture<TimestampResponse> noteTimestampFromWriter(TimestampFromWriter mark) {
+        Exceptions.checkNotClosed(closed.get(), this);
+        final long requestId = requestIdGenerator.get();
+        final StreamInfo streamInfo = mark.getPosition().getStreamInfo();
+        return this.retryConfig.runAsync(() -> {
+            RPCAsyncCallback<TimestampResponse> callback = new RPCAsyncCallback<>(requestId, "noteTimestampFromWriter",
+                    mark.getWriter(), streamInfo.getScope(), streamInfo.getStream(), mark.getTimestamp());
+            new ControllerClientTagger(client, timeoutMillis).withTag(requestId, NOTE_TIMESTAMP_FROM_WRITER,
+                    streamInfo.getScope(), streamInfo.getStream(), mark.getWriter())
+                    .noteTimestampFromWriter(mark, callback);
+            return callback.getFuture();
+        }, this.executor);
+    }
+
+    private CompletableFuture<TimestampsResponse> noteTimestampsFromWriters(TimestampsFromWriters marks) {
+        Exceptions.checkNotClosed(closed.get(), this);
+        final long requestId = requestIdGenerator.get();
+        return this.retryConfig.runAsync(() -> {
+            RPCAsyncCallback<TimestampsResponse> callback = new RPCAsyncCallback<>(requestId, "noteTimestampsFromWriters",
+                    marks.getMarksCount());
+            new ControllerClientTagger(client, timeoutMillis).withTag(requestId, NOTE_TIMESTAMPS_FROM_WRITERS,
+                    Integer.toString(marks.getMarksCount()))
+                    .noteTimestampsFromWriters(marks, callback);
+            return callback.getFuture();
+        }, this.executor);
+    }
+
     @Override
     public CompletableFuture<Void> removeWriter(String writerId, Stream stream) {
         Exceptions.checkNotClosed(closed.get(), this);
@@ -1684,6 +1979,10 @@ public class ControllerImpl implements Controller {
     @Override
     public void close() {
         if (!closed.getAndSet(true)) {
+            if (containerRoutingTableResolver != null) {
+                containerRoutingTableResolver.close();
+            }
+            writerMarkBatcher.close();
             Callbacks.invokeSafely(this::closeChannel, ex -> log.error("Error while closing ControllerImpl.", ex));
         }
     }
@@ -2279,6 +2578,21 @@ public class ControllerImpl implements Controller {
                       .deleteStream(streamInfo, callback);
         }
 
+        public void createStreams(StreamConfigs streamConfigs, RPCAsyncCallback<CreateStreamsStatus> callback) {
+            clientStub.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS)
+                      .createStreams(streamConfigs, callback);
+        }
+
+        public void updateStreams(StreamConfigs streamConfigs, RPCAsyncCallback<UpdateStreamsStatus> callback) {
+            clientStub.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS)
+                      .updateStreams(streamConfigs, callback);
+        }
+
+        public void deleteStreams(StreamInfos streamInfos, RPCAsyncCallback<DeleteStreamsStatus> callback) {
+            clientStub.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS)
+                      .deleteStreams(streamInfos, callback);
+        }
+
         public void getSegments(GetSegmentsRequest request, RPCAsyncCallback<SegmentsAtTime> callback) {
             clientStub.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS)
                       .getSegments(request, callback);
@@ -2373,6 +2687,10 @@ public class ControllerImpl implements Controller {
             clientStub.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS).noteTimestampFromWriter(request, callback);
         }
 
+        public void noteTimestampsFromWriters(TimestampsFromWriters request, RPCAsyncCallback<TimestampsResponse> callback) {
+            clientStub.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS).noteTimestampsFromWriters(request, callback);
+        }
+
         public void removeWriter(RemoveWriterRequest request, RPCAsyncCallback<RemoveWriterResponse> callback) {
             clientStub.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS).removeWriter(request, callback);
         }
@@ -2408,5 +2726,10 @@ public class ControllerImpl implements Controller {
                                                  RPCAsyncCallback<ControllerToBucketMappingResponse> callback) {
             clientStub.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS).getControllerToBucketMapping(request, callback);
         }
+
+        public void getContainerRoutingTable(ContainerRoutingTableRequest request,
+                                             RPCAsyncCallback<ContainerRoutingTable> callback) {
+            clientStub.withDeadlineAfter(timeoutMillis, TimeUnit.MILLISECONDS).getContainerRoutingTable(request, callback);
+        }
     }
 }
@@ -0,0 +1,243 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.control.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.pravega.common.Exceptions;
+import io.pravega.common.ObjectClosedException;
+import io.pravega.controller.stream.api.grpc.v1.Controller.StreamInfo;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampFromWriter;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampResponse;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampsFromWriters;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampsResponse;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Combines writer marks (see {@link Controller#noteTimestampFromWriter}) reported by all the writers of a client into
+ * batched Controller calls.
+ *
+ * A batch is sent as soon as there is a mark to report and no other batch is in flight, so marks reported while a batch
+ * is in flight are combined into the next one. If a writer reports a new mark for a stream before its previous mark for
+ * the same stream was sent, only the new mark is sent and both callers receive its result.
+ *
+ * If the Controller does not support batched writer marks, every mark is sent with its own call.
+ */
+@Slf4j
+class WriterMarkBatcher implements AutoCloseable {
+    @VisibleForTesting
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final Function<TimestampsFromWriters, CompletableFuture<TimestampsResponse>> sendBatch;
+    private final Function<TimestampFromWriter, CompletableFuture<TimestampResponse>> sendSingle;
+    private final Executor executor;
+    private final AtomicBoolean batchingSupported = new AtomicBoolean(true);
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Object lock = new Object();
+    @GuardedBy("lock")
+    private final LinkedHashMap<MarkKey, PendingMark> pendingMarks = new LinkedHashMap<>();
+    @GuardedBy("lock")
+    private boolean isBatchInFlight;
+
+    /**
+     * Creates a new instance of the WriterMarkBatcher class.
+     *
+     * @param sendBatch  Function that sends a batch of writer marks to the Controller.
+     * @param sendSingle Function that sends a single writer mark to the Controller.
+     * @param executor   Executor to use.
+     */
+    WriterMarkBatcher(Function<TimestampsFromWriters, CompletableFuture<TimestampsResponse>> sendBatch,
+                      Function<TimestampFromWriter, CompletableFuture<TimestampResponse>> sendSingle, Executor executor) {
+        this.sendBatch = Preconditions.checkNotNull(sendBatch, "sendBatch");
+        this.sendSingle = Preconditions.checkNotNull(sendSingle, "sendSingle");
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+    }
+
+    /**
+     * Sends the given writer mark to the Controller as part of the next batch.
+     *
+     * @param mark The writer mark.
+     * @return A CompletableFuture that, when completed, will contain the response of the Controller for the mark (or for
+     * the mark that superseded it).
+     */
+    CompletableFuture<TimestampResponse> noteTimestamp(TimestampFromWriter mark) {
+        Exceptions.checkNotClosed(closed.get(), this);
+        if (!batchingSupported.get()) {
+            return sendSingle.apply(mark);
+        }
+
+        StreamInfo streamInfo = mark.getPosition().getStreamInfo();
+        MarkKey key = new MarkKey(mark.getWriter(), streamInfo.getScope(), streamInfo.getStream());
+        CompletableFuture<TimestampResponse> result = new CompletableFuture<>();
+        boolean shouldSend;
+        synchronized (lock) {
+            PendingMark pending = pendingMarks.get(key);
+            if (pending == null) {
+                pending = new PendingMark();
+                pendingMarks.put(key, pending);
+            }
+            pending.mark = mark;
+            pending.callers.add(result);
+            shouldSend = !isBatchInFlight;
+            isBatchInFlight = true;
+        }
+
+        if (shouldSend) {
+            sendNextBatch();
+        }
+        return result;
+    }
+
+    /**
+     * Sends the next batch of pending marks and keeps doing so until there are no pending marks left.
+     */
+    private void sendNextBatch() {
+        List<PendingMark> batch = new ArrayList<>();
+        synchronized (lock) {
+            Iterator<PendingMark> iterator = pendingMarks.values().iterator();
+            while (iterator.hasNext() && batch.size() < MAX_BATCH_SIZE) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            if (batch.isEmpty()) {
+                isBatchInFlight = false;
+                return;
+            }
+        }
+
+        if (closed.get()) {
+            batch.forEach(m -> m.fail(new ObjectClosedException(this)));
+            sendNextBatch();
+            return;
+        }
+
+        send(batch).whenCompleteAsync((v, ex) -> sendNextBatch(), executor);
+    }
+
+    private CompletableFuture<Void> send(List<PendingMark> batch) {
+        if (!batchingSupported.get()) {
+            return sendIndividually(batch);
+        }
+
+        TimestampsFromWriters.Builder request = TimestampsFromWriters.newBuilder();
+        batch.forEach(m -> request.addMarks(m.mark));
+        CompletableFuture<TimestampsResponse> response;
+        try {
+            response = sendBatch.apply(request.build());
+        } catch (Exception e) {
+            response = new CompletableFuture<>();
+            response.completeExceptionally(e);
+        }
+
+        return response.handle((r, ex) -> {
+            if (ex == null) {
+                if (r.getResultsCount() != batch.size()) {
+                    IllegalStateException e = new IllegalStateException(String.format(
+                            "Controller returned %d results for %d writer marks.", r.getResultsCount(), batch.size()));
+                    batch.forEach(m -> m.fail(e));
+                } else {
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).complete(r.getResults(i));
+                    }
+                }
+            } else if (isUnsupported(ex)) {
+                log.info("Controller does not support batched writer marks; writer marks will be sent individually.");
+                batchingSupported.set(false);
+                return sendIndividually(batch);
+            } else {
+                batch.forEach(m -> m.fail(ex));
+            }
+            return CompletableFuture.<Void>completedFuture(null);
+        }).thenCompose(f -> f);
+    }
+
+    private CompletableFuture<Void> sendIndividually(List<PendingMark> batch) {
+        List<CompletableFuture<TimestampResponse>> futures = new ArrayList<>(batch.size());
+        for (PendingMark pending : batch) {
+            CompletableFuture<TimestampResponse> future = sendSingle.apply(pending.mark);
+            future.whenComplete((r, ex) -> {
+                if (ex == null) {
+                    pending.complete(r);
+                } else {
+                    pending.fail(ex);
+                }
+            });
+            futures.add(future);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).handle((r, ex) -> null);
+    }
+
+    private boolean isUnsupported(Throwable ex) {
+        Throwable cause = Exceptions.unwrap(ex);
+        return cause instanceof StatusRuntimeException
+                && ((StatusRuntimeException) cause).getStatus().getCode() == Status.Code.UNIMPLEMENTED;
+    }
+
+    /**
+     * Gets the number of writer marks waiting to be sent.
+     *
+     * @return Number of pending writer marks.
+     */
+    @VisibleForTesting
+    int getPendingMarkCount() {
+        synchronized (lock) {
+            return pendingMarks.size();
+        }
+    }
+
+    @Override
+    public void close() {
+        // Marks that are still pending are failed once the batch in flight (if any) completes.
+        closed.set(true);
+    }
+
+    @Data
+    private static class MarkKey {
+        private final String writer;
+        private final String scope;
+        private final String stream;
+    }
+
+    /**
+     * Latest mark of a writer for a stream along with the callers waiting for it to be sent. Only modified while held by
+     * {@link #pendingMarks}.
+     */
+    private static class PendingMark {
+        private TimestampFromWriter mark;
+        private final List<CompletableFuture<TimestampResponse>> callers = new ArrayList<>();
+
+        void complete(TimestampResponse response) {
+            callers.forEach(f -> f.complete(response));
+        }
+
+        void fail(Throwable ex) {
+            callers.forEach(f -> f.completeExceptionally(Exceptions.unwrap(ex)));
+        }
+    }
+}
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -47,6 +48,7 @@ import io.pravega.client.connection.impl.Flow;
 import io.pravega.client.security.auth.DelegationTokenProvider;
 import io.pravega.client.control.impl.Controller;
 import io.pravega.client.stream.impl.PendingEvent;
+import io.pravega.client.stream.impl.StreamSegments;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.RetriesExhaustedException;
@@ -68,6 +70,7 @@ import io.pravega.shared.protocol.netty.WireCommands.NoSuchSegment;
 import io.pravega.shared.protocol.netty.WireCommands.SegmentIsSealed;
 import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
 import io.pravega.shared.protocol.netty.WireCommands.WrongHost;
+import io.pravega.shared.segment.KeyHashSketch;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -81,6 +84,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @ToString(of = {"segmentName", "writerId", "state"})
 class SegmentOutputStreamImpl implements SegmentOutputStream {
+    private static final long KEY_HASH_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
 
     @Getter
     private final String segmentName;
@@ -97,6 +101,10 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
     private final ResponseProcessor responseProcessor = new ResponseProcessor();
     private final RetryWithBackoff retrySchedule;
     private final Object writeOrderLock = new Object();
+    @GuardedBy("writeOrderLock")
+    private final KeyHashSketch keyHashes = new KeyHashSketch();
+    @GuardedBy("writeOrderLock")
+    private long lastKeyHashReport = System.nanoTime();
     private final DelegationTokenProvider tokenProvider;
     @VisibleForTesting
     @Getter
@@ -541,6 +549,7 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
                 Append append = new Append(segmentName, writerId, eventNumber, event.getEventCount(), event.getData(), null, requestId);
                 log.trace("Sending append request: {}", append);
                 connection.send(append);
+                recordKeyHash(event, connection);
             } catch (ConnectionFailedException e) {
                 log.warn("Failed writing event through writer " + writerId + " due to: ", e);
                 failConnection(e); // As the message is inflight, this will perform the retransmission.
@@ -550,6 +559,34 @@ class SegmentOutputStreamImpl implements SegmentOutputStream {
         }
     }
 
+    /**
+     * Records the routing key hash of the given event and periodically reports the recorded hashes to the server, which
+     * uses them to choose where to split the segment when scaling it up.
+     */
+    @GuardedBy("writeOrderLock")
+    private void recordKeyHash(PendingEvent event, ClientConnection connection) throws ConnectionFailedException {
+        if (event.getRoutingKey() == null || NameUtils.isTransactionSegment(segmentName)) {
+            return;
+        }
+
+        keyHashes.add(StreamSegments.hashRoutingKey(event.getRoutingKey()), event.getEventCount());
+        long now = System.nanoTime();
+        if (now - lastKeyHashReport < KEY_HASH_REPORT_INTERVAL_NANOS) {
+            return;
+        }
+        if (connection.getServerVersion() >= WireCommands.KeyHashDistribution.MIN_WIRE_VERSION) {
+            double[] weights = keyHashes.getWeights();
+            long[] eventCounts = new long[weights.length];
+            for (int i = 0; i < weights.length; i++) {
+                eventCounts[i] = Math.round(weights[i]);
+            }
+            connection.send(new WireCommands.KeyHashDistribution(requestId, writerId, segmentName, keyHashes.getPositions(),
+                    eventCounts));
+        }
+        keyHashes.clear();
+        lastKeyHashReport = now;
+    }
+
     /**
      * Establish a connection and wait for it to be setup. (Retries built in)
      */
@@ -0,0 +1,57 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.stream;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An operation on multiple streams failed for some of them. The streams are processed independently of each other, so
+ * the operation may have succeeded for the other streams.
+ */
+public class BulkStreamOperationException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final LinkedHashMap<String, Boolean> results;
+    private final LinkedHashMap<String, Throwable> failures;
+
+    public BulkStreamOperationException(String operation, Map<String, Boolean> results, Map<String, Throwable> failures) {
+        super(String.format("%s failed for %d of %d streams: %s", operation, failures.size(),
+                results.size() + failures.size(), failures.keySet()), failures.values().stream().findFirst().orElse(null));
+        this.results = new LinkedHashMap<>(results);
+        this.failures = new LinkedHashMap<>(failures);
+    }
+
+    /**
+     * Gets the results of the streams for which the operation succeeded.
+     *
+     * @return A map of stream names to the result of the operation on each of them.
+     */
+    public Map<String, Boolean> getResults() {
+        return Collections.unmodifiableMap(this.results);
+    }
+
+    /**
+     * Gets the streams for which the operation failed.
+     *
+     * @return A map of stream names to the cause of the failure of the operation on each of them.
+     */
+    public Map<String, Throwable> getFailures() {
+        return Collections.unmodifiableMap(this.failures);
+    }
+}
@@ -49,7 +49,17 @@ public class StreamSegments extends SegmentCollection {
 
     @Override
     protected double hashToRange(String key) {
-        return HASHER.hashToRange(key);
+        return hashRoutingKey(key);
+    }
+
+    /**
+     * Gets the position in the key space of a stream that the given routing key maps to.
+     *
+     * @param routingKey The routing key.
+     * @return A value in [0, 1).
+     */
+    public static double hashRoutingKey(String routingKey) {
+        return HASHER.hashToRange(routingKey);
     }
 
     public int getNumberOfSegments() {
@@ -238,6 +238,20 @@ public class FlowHandlerTest {
         verify(errorProcessor).hello(msg);
     }
 
+    @Test
+    public void testServerVersion() throws Exception {
+        @Cleanup
+        ClientConnection connection1 = flowHandler.createFlow(flow, processor);
+        assertEquals(-1, connection1.getServerVersion());
+        flowHandler.process(new WireCommands.Hello(WireCommands.WIRE_VERSION, WireCommands.OLDEST_COMPATIBLE_VERSION));
+        assertEquals(WireCommands.WIRE_VERSION, connection1.getServerVersion());
+
+        // Flows created after the hello was received also know the version of the server.
+        @Cleanup
+        ClientConnection connection2 = flowHandler.createFlow(new Flow(11, 0), mock(ReplyProcessor.class));
+        assertEquals(WireCommands.WIRE_VERSION, connection2.getServerVersion());
+    }
+
     @Test
     public void testKeepAlive() {
         final WireCommands.KeepAlive msg = new WireCommands.KeepAlive();
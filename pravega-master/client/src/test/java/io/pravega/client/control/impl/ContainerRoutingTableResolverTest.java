@@ -0,0 +1,312 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.control.impl;
+
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.pravega.client.ClientConfig;
+import io.pravega.client.segment.impl.Segment;
+import io.pravega.common.Timer;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.controller.stream.api.grpc.v1.Controller.ContainerHost;
+import io.pravega.controller.stream.api.grpc.v1.Controller.ContainerRoutingTable;
+import io.pravega.controller.stream.api.grpc.v1.Controller.ContainerRoutingTableRequest;
+import io.pravega.controller.stream.api.grpc.v1.Controller.NodeUri;
+import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentId;
+import io.pravega.controller.stream.api.grpc.v1.ControllerServiceGrpc;
+import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.segment.SegmentToContainerMapper;
+import io.pravega.test.common.TestUtils;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import lombok.Cleanup;
+import lombok.Data;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link ContainerRoutingTableResolver}.
+ */
+public class ContainerRoutingTableResolverTest extends ThreadPooledTestSuite {
+    private static final int CONTAINER_COUNT = 8;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final LinkedBlockingQueue<FetchRequest> requests = new LinkedBlockingQueue<>();
+
+    @Override
+    protected int getThreadPoolSize() {
+        return 2;
+    }
+
+    @Test(timeout = 30000)
+    public void testResolve() throws Exception {
+        @Cleanup
+        val resolver = new ContainerRoutingTableResolver(this::fetch, executorService());
+        Assert.assertNull(resolver.resolve("scope/stream/0"));
+        resolver.start();
+
+        val request = nextRequest();
+        Assert.assertEquals(ContainerRoutingTableResolver.NO_VERSION, request.getKnownVersion());
+        Assert.assertEquals(ContainerRoutingTableResolver.LONG_POLL_WAIT, request.getMaxWait());
+        request.getResult().complete(createTable(1, "host1", "host2"));
+
+        // The next long poll carries the version of the table just received.
+        Assert.assertEquals(1, nextRequest().getKnownVersion());
+        Assert.assertEquals(1, resolver.getVersion());
+
+        val mapper = new SegmentToContainerMapper(CONTAINER_COUNT, false);
+        for (int i = 0; i < 100; i++) {
+            val segmentName = new Segment("scope", "stream", i).getScopedName();
+            val expectedHost = mapper.getContainerId(segmentName) % 2 == 0 ? "host1" : "host2";
+            Assert.assertEquals(new PravegaNodeUri(expectedHost, 1234), resolver.resolve(segmentName));
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void testUpdate() throws Exception {
+        @Cleanup
+        val resolver = new ContainerRoutingTableResolver(this::fetch, executorService());
+        resolver.start();
+        nextRequest().getResult().complete(createTable(1, "host1", "host2"));
+        nextRequest().getResult().complete(createTable(2, "host3", "host3"));
+
+        Assert.assertEquals(2, nextRequest().getKnownVersion());
+        Assert.assertEquals(new PravegaNodeUri("host3", 1234), resolver.resolve("scope/stream/0"));
+
+        // An empty table (Eg. controller has not learnt the container count yet) is ignored and polled again after a backoff.
+        nextRequest().getResult().complete(ContainerRoutingTable.newBuilder().setVersion(3).build());
+        Assert.assertEquals(2, nextRequest().getKnownVersion());
+        Assert.assertEquals(new PravegaNodeUri("host3", 1234), resolver.resolve("scope/stream/0"));
+    }
+
+    @Test(timeout = 30000)
+    public void testRetry() throws Exception {
+        @Cleanup
+        val resolver = new ContainerRoutingTableResolver(this::fetch, executorService());
+        resolver.start();
+        nextRequest().getResult().completeExceptionally(Status.UNAVAILABLE.asRuntimeException());
+        val retry = nextRequest();
+        Assert.assertEquals(ContainerRoutingTableResolver.NO_VERSION, retry.getKnownVersion());
+        retry.getResult().complete(createTable(1, "host1", "host2"));
+        Assert.assertEquals(1, nextRequest().getKnownVersion());
+        Assert.assertNotNull(resolver.resolve("scope/stream/0"));
+    }
+
+    @Test(timeout = 30000)
+    public void testEmptyTableBackoff() throws Exception {
+        @Cleanup
+        val resolver = new ContainerRoutingTableResolver(this::fetch, executorService());
+        resolver.start();
+
+        // The controller answers immediately while it does not know the container count, so each retry must wait longer.
+        long expectedDelayMillis = 100;
+        FetchRequest request = nextRequest();
+        for (int i = 0; i < 3; i++) {
+            val timer = new Timer();
+            request.getResult().complete(ContainerRoutingTable.newBuilder().setVersion(1).build());
+            request = nextRequest();
+            Assert.assertTrue("Retried too early: " + timer.getElapsedMillis(), timer.getElapsedMillis() >= expectedDelayMillis);
+            Assert.assertEquals(ContainerRoutingTableResolver.NO_VERSION, request.getKnownVersion());
+            Assert.assertNull(resolver.resolve("scope/stream/0"));
+            expectedDelayMillis *= 2;
+        }
+
+        request.getResult().complete(createTable(2, "host1", "host2"));
+        Assert.assertEquals(2, nextRequest().getKnownVersion());
+        Assert.assertNotNull(resolver.resolve("scope/stream/0"));
+    }
+
+    @Test(timeout = 30000)
+    public void testUnsupported() throws Exception {
+        @Cleanup
+        val resolver = new ContainerRoutingTableResolver(this::fetch, executorService());
+        resolver.start();
+        nextRequest().getResult().completeExceptionally(Status.UNIMPLEMENTED.asRuntimeException());
+
+        // No more polling once the controller is known to not support routing tables.
+        Assert.assertNull(requests.poll(500, TimeUnit.MILLISECONDS));
+        Assert.assertNull(resolver.resolve("scope/stream/0"));
+    }
+
+    @Test(timeout = 30000)
+    public void testInvalidate() throws Exception {
+        @Cleanup
+        val resolver = new ContainerRoutingTableResolver(this::fetch, executorService());
+        resolver.start();
+        nextRequest().getResult().complete(createTable(1, "host1", "host2"));
+        val longPoll = nextRequest();
+
+        // Endpoint that is not part of the table is ignored.
+        resolver.invalidate(new PravegaNodeUri("host3", 1234));
+        Assert.assertNull(requests.poll(100, TimeUnit.MILLISECONDS));
+
+        resolver.invalidate(new PravegaNodeUri("host1", 1234));
+        val refresh = nextRequest();
+        Assert.assertEquals(ContainerRoutingTableResolver.NO_VERSION, refresh.getKnownVersion());
+        Assert.assertEquals(Duration.ZERO, refresh.getMaxWait());
+        refresh.getResult().complete(createTable(2, "host2", "host2"));
+        Assert.assertEquals(new PravegaNodeUri("host2", 1234), resolver.resolve("scope/stream/0"));
+        Assert.assertFalse(longPoll.getResult().isDone());
+    }
+
+    @Test(timeout = 30000)
+    public void testClose() throws Exception {
+        val resolver = new ContainerRoutingTableResolver(this::fetch, executorService());
+        resolver.start();
+        nextRequest().getResult().complete(createTable(1, "host1", "host2"));
+        val longPoll = nextRequest();
+        resolver.close();
+        Assert.assertNull(resolver.resolve("scope/stream/0"));
+        longPoll.getResult().complete(createTable(2, "host1", "host2"));
+        Assert.assertNull(requests.poll(500, TimeUnit.MILLISECONDS));
+        Assert.assertNull(resolver.resolve("scope/stream/0"));
+    }
+
+    @Test(timeout = 30000)
+    public void testControllerImplResolvesLocally() throws Exception {
+        val server = new RoutingControllerService();
+        val serverPort = TestUtils.getAvailableListenPort();
+        @Cleanup("shutdownNow")
+        Server grpcServer = NettyServerBuilder.forPort(serverPort).addService(server).build().start();
+        @Cleanup
+        val controller = createController(serverPort, true);
+
+        Futures.loop(() -> controller.getContainerRoutingTableResolver().getVersion() == ContainerRoutingTableResolver.NO_VERSION,
+                () -> Futures.delayedFuture(Duration.ofMillis(10), executorService()), executorService()).join();
+
+        val mapper = new SegmentToContainerMapper(CONTAINER_COUNT, false);
+        for (int i = 0; i < 100; i++) {
+            val segmentName = new Segment("scope", "stream", i).getScopedName();
+            val expectedHost = mapper.getContainerId(segmentName) % 2 == 0 ? "host1" : "host2";
+            Assert.assertEquals(new PravegaNodeUri(expectedHost, 1234), controller.getEndpointForSegment(segmentName).join());
+        }
+        Assert.assertEquals(0, server.getUriCalls.get());
+    }
+
+    /**
+     * Compares the number of Controller RPCs and the time taken to look up the endpoints of all segments of a stream
+     * with 5000 segments, which is what a writer to such a stream does at start up.
+     */
+    @Ignore("Benchmark")
+    @Test
+    public void testEndpointLookupBenchmark() throws Exception {
+        final int segmentCount = 5000;
+        for (val routingEnabled : new boolean[]{false, true}) {
+            val server = new RoutingControllerService();
+            val serverPort = TestUtils.getAvailableListenPort();
+            @Cleanup("shutdownNow")
+            Server grpcServer = NettyServerBuilder.forPort(serverPort).addService(server).build().start();
+            val timer = new Timer();
+            @Cleanup
+            val controller = createController(serverPort, routingEnabled);
+            val futures = new ArrayList<CompletableFuture<PravegaNodeUri>>();
+            for (int i = 0; i < segmentCount; i++) {
+                futures.add(controller.getEndpointForSegment(new Segment("scope", "stream", i).getScopedName()));
+            }
+            Futures.allOf(futures).join();
+            System.out.printf("containerRouting=%s segments=%d getURI=%d getContainerRoutingTable=%d elapsedMillis=%d%n",
+                    routingEnabled, segmentCount, server.getUriCalls.get(), server.routingTableCalls.get(), timer.getElapsedMillis());
+        }
+    }
+
+    private ControllerImpl createController(int serverPort, boolean containerRouting) {
+        return new ControllerImpl(ControllerImplConfig.builder()
+                .clientConfig(ClientConfig.builder()
+                        .controllerURI(URI.create("tcp://localhost:" + serverPort))
+                        .enableContainerRouting(containerRouting)
+                        .build())
+                .retryAttempts(1)
+                .build(), executorService());
+    }
+
+    private CompletableFuture<ContainerRoutingTable> fetch(long knownVersion, Duration maxWait) {
+        val request = new FetchRequest(knownVersion, maxWait, new CompletableFuture<>());
+        requests.add(request);
+        return request.getResult();
+    }
+
+    private FetchRequest nextRequest() throws InterruptedException {
+        val request = requests.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertNotNull("Expected a routing table request.", request);
+        return request;
+    }
+
+    /**
+     * Creates a routing table that assigns even containers to evenHost and odd containers to oddHost.
+     */
+    private static ContainerRoutingTable createTable(long version, String evenHost, String oddHost) {
+        val even = ContainerHost.newBuilder().setNodeUri(NodeUri.newBuilder().setEndpoint(evenHost).setPort(1234));
+        val odd = ContainerHost.newBuilder().setNodeUri(NodeUri.newBuilder().setEndpoint(oddHost).setPort(1234));
+        for (int i = 0; i < CONTAINER_COUNT; i++) {
+            (i % 2 == 0 ? even : odd).addContainerIds(i);
+        }
+        return ContainerRoutingTable.newBuilder()
+                .setVersion(version)
+                .setContainerCount(CONTAINER_COUNT)
+                .addHosts(even)
+                .addHosts(odd)
+                .build();
+    }
+
+    @Data
+    private static class FetchRequest {
+        private final long knownVersion;
+        private final Duration maxWait;
+        private final CompletableFuture<ContainerRoutingTable> result;
+    }
+
+    /**
+     * Controller service that serves a fixed routing table and counts the calls it receives.
+     */
+    private static class RoutingControllerService extends ControllerServiceGrpc.ControllerServiceImplBase {
+        private final AtomicInteger getUriCalls = new AtomicInteger();
+        private final AtomicInteger routingTableCalls = new AtomicInteger();
+        private final SegmentToContainerMapper mapper = new SegmentToContainerMapper(CONTAINER_COUNT, false);
+
+        @Override
+        public void getURI(SegmentId request, StreamObserver<NodeUri> responseObserver) {
+            getUriCalls.incrementAndGet();
+            val segmentName = new Segment(request.getStreamInfo().getScope(), request.getStreamInfo().getStream(),
+                    request.getSegmentId()).getScopedName();
+            val host = mapper.getContainerId(segmentName) % 2 == 0 ? "host1" : "host2";
+            responseObserver.onNext(NodeUri.newBuilder().setEndpoint(host).setPort(1234).build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void getContainerRoutingTable(ContainerRoutingTableRequest request,
+                                             StreamObserver<ContainerRoutingTable> responseObserver) {
+            routingTableCalls.incrementAndGet();
+            if (request.getKnownVersion() == 1) {
+                // Table never changes; let the long poll wait until the client goes away.
+                return;
+            }
+            responseObserver.onNext(createTable(1, "host1", "host2"));
+            responseObserver.onCompleted();
+        }
+    }
+}
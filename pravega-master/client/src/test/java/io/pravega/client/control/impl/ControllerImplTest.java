@@ -27,6 +27,7 @@ import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
 import io.grpc.stub.StreamObserver;
 import io.pravega.client.ClientConfig;
 import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.stream.BulkStreamOperationException;
 import io.pravega.client.stream.InvalidStreamException;
 import io.pravega.client.stream.NoSuchScopeException;
 import io.pravega.client.stream.PingFailedException;
@@ -49,6 +50,7 @@ import io.pravega.client.stream.impl.WriterPosition;
 import io.pravega.client.tables.KeyValueTableConfiguration;
 import io.pravega.client.tables.impl.KeyValueTableSegments;
 import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
 import io.pravega.common.Timer;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.common.util.AsyncIterator;
@@ -122,6 +124,7 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -324,6 +327,21 @@ public class ControllerImplTest {
                 }
             }
 
+            @Override
+            public void createStreams(Controller.StreamConfigs request,
+                                      StreamObserver<Controller.CreateStreamsStatus> responseObserver) {
+                Controller.CreateStreamsStatus.Builder response = Controller.CreateStreamsStatus.newBuilder();
+                request.getConfigsList().forEach(config -> {
+                    String stream = config.getStreamInfo().getStream();
+                    response.addResults(CreateStreamStatus.newBuilder()
+                            .setStatus(stream.equals("stream2") ? CreateStreamStatus.Status.FAILURE
+                                    : stream.equals("stream4") ? CreateStreamStatus.Status.STREAM_EXISTS
+                                    : CreateStreamStatus.Status.SUCCESS));
+                });
+                responseObserver.onNext(response.build());
+                responseObserver.onCompleted();
+            }
+
             @Override
             public void getStreamConfiguration(StreamInfo request, StreamObserver<StreamConfig> responseObserver) {
                 StreamConfiguration cfg = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(3))
@@ -1282,6 +1300,21 @@ public class ControllerImplTest {
                 }
             }
 
+            @Override
+            public void noteTimestampsFromWriters(Controller.TimestampsFromWriters request,
+                                                  StreamObserver<Controller.TimestampsResponse> responseObserver) {
+                if (request.getMarksList().stream().anyMatch(mark -> mark.getWriter().equals("deadline"))) {
+                    // do nothing
+                } else {
+                    Controller.TimestampsResponse.Builder response = Controller.TimestampsResponse.newBuilder();
+                    request.getMarksList().forEach(mark -> response.addResults(Controller.TimestampResponse.newBuilder()
+                            .setResult(mark.getWriter().equals("invalidTime") ? Controller.TimestampResponse.Status.INVALID_TIME
+                                    : Controller.TimestampResponse.Status.SUCCESS)));
+                    responseObserver.onNext(response.build());
+                    responseObserver.onCompleted();
+                }
+            }
+
             @Override
             public void createKeyValueTable(KeyValueTableConfig request,
                                             StreamObserver<CreateKeyValueTableStatus> responseObserver) {
@@ -1641,6 +1674,57 @@ public class ControllerImplTest {
                 createStreamStatus, throwable -> true);
     }
 
+    @Test
+    public void testCreateStreams() throws Exception {
+        StreamConfiguration config = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(1)).build();
+        Map<String, StreamConfiguration> streams = new HashMap<>();
+        streams.put("stream1", config);
+        streams.put("stream4", config);
+        Map<String, Boolean> result = controllerClient.createStreams("scope1", streams).get();
+        assertEquals(2, result.size());
+        assertTrue(result.get("stream1"));
+        assertFalse(result.get("stream4"));
+
+        // Failure of a stream should fail the operation, but still report the results of the other streams.
+        streams.put("stream2", config);
+        AssertExtensions.assertFutureThrows("Failure of any stream should fail the operation.",
+                controllerClient.createStreams("scope1", streams),
+                e -> {
+                    BulkStreamOperationException ex = (BulkStreamOperationException) Exceptions.unwrap(e);
+                    return ex.getFailures().keySet().equals(Collections.singleton("stream2"))
+                            && ex.getFailures().get("stream2") instanceof ControllerFailureException
+                            && ex.getResults().size() == 2 && ex.getResults().get("stream1") && !ex.getResults().get("stream4");
+                });
+
+        // Streams beyond the maximum batch size are sent with subsequent calls.
+        Map<String, StreamConfiguration> manyStreams = new HashMap<>();
+        for (int i = 0; i <= ControllerImpl.MAX_BULK_STREAM_OPERATION_SIZE; i++) {
+            manyStreams.put("bulk" + i, config);
+        }
+        result = controllerClient.createStreams("scope1", manyStreams).get();
+        assertEquals(manyStreams.size(), result.size());
+        assertTrue(result.values().stream().allMatch(created -> created));
+    }
+
+    @Test
+    public void testDeleteStreamsUnsupported() throws Exception {
+        // The test server does not implement deleteStreams, so streams should be deleted individually.
+        Map<String, Boolean> result = controllerClient.deleteStreams("scope1", Arrays.asList("stream1", "stream3")).get();
+        assertEquals(2, result.size());
+        assertTrue(result.get("stream1"));
+        assertFalse(result.get("stream3"));
+
+        AssertExtensions.assertFutureThrows("Failure of any stream should fail the operation.",
+                controllerClient.deleteStreams("scope1", Arrays.asList("stream1", "stream4", "stream2")),
+                e -> {
+                    BulkStreamOperationException ex = (BulkStreamOperationException) Exceptions.unwrap(e);
+                    return ex.getFailures().size() == 2
+                            && ex.getFailures().get("stream4") instanceof IllegalArgumentException
+                            && ex.getFailures().get("stream2") instanceof ControllerFailureException
+                            && ex.getResults().equals(Collections.singletonMap("stream1", true));
+                });
+    }
+
     @Test
     public void testUpdateStream() throws Exception {
         CompletableFuture<Boolean> updateStreamStatus;
@@ -1907,6 +1991,21 @@ public class ControllerImplTest {
         assertTrue(streamSegments.get().getNumberOfSegments() == 0);
     }
 
+    @Test
+    public void testNoteTimestampFromWriter() throws Exception {
+        Stream stream = new StreamImpl("scope1", "stream1");
+        WriterPosition position = new WriterPosition(Collections.singletonMap(new Segment("scope1", "stream1", 0), 10L));
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(controllerClient.noteTimestampFromWriter("writer" + i, stream, 100L, position));
+        }
+        Futures.allOf(futures).get();
+
+        AssertExtensions.assertFutureThrows("Invalid time should be reported to the writer.",
+                controllerClient.noteTimestampFromWriter("invalidTime", stream, 100L, position),
+                e -> Exceptions.unwrap(e) instanceof RuntimeException);
+    }
+
     @Test
     public void testGetEpochSegments() throws Exception {
         CompletableFuture<StreamSegments> streamSegments;
@@ -0,0 +1,262 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.client.control.impl;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.pravega.common.Exceptions;
+import io.pravega.common.ObjectClosedException;
+import io.pravega.controller.stream.api.grpc.v1.Controller.StreamCut;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampFromWriter;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampResponse;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampsFromWriters;
+import io.pravega.controller.stream.api.grpc.v1.Controller.TimestampsResponse;
+import io.pravega.test.common.AssertExtensions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the {@link WriterMarkBatcher} class.
+ */
+public class WriterMarkBatcherTest {
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+    private static final TimestampResponse SUCCESS = TimestampResponse.newBuilder()
+            .setResult(TimestampResponse.Status.SUCCESS).build();
+
+    /**
+     * Tests that marks reported while a batch is in flight are sent together in the next batch.
+     */
+    @Test(timeout = 10000)
+    public void testBatching() {
+        val batches = new ArrayList<TimestampsFromWriters>();
+        val responses = new ArrayList<CompletableFuture<TimestampsResponse>>();
+        @Cleanup
+        val batcher = new WriterMarkBatcher(batch -> {
+            batches.add(batch);
+            val response = new CompletableFuture<TimestampsResponse>();
+            responses.add(response);
+            return response;
+        }, mark -> {
+            throw new AssertionError("Unexpected individual mark.");
+        }, DIRECT_EXECUTOR);
+
+        // The first mark is sent immediately.
+        val first = batcher.noteTimestamp(mark("w0", "s0", 1));
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).getMarksCount());
+
+        // These are held until the first batch completes.
+        val others = new ArrayList<CompletableFuture<TimestampResponse>>();
+        for (int i = 1; i <= 5; i++) {
+            others.add(batcher.noteTimestamp(mark("w" + i, "s" + i, 1)));
+        }
+        assertEquals(1, batches.size());
+        assertEquals(5, batcher.getPendingMarkCount());
+
+        responses.get(0).complete(successes(1));
+        assertEquals(SUCCESS, first.join());
+        assertEquals(2, batches.size());
+        assertEquals(5, batches.get(1).getMarksCount());
+        assertEquals(0, batcher.getPendingMarkCount());
+        others.forEach(f -> assertFalse(f.isDone()));
+
+        responses.get(1).complete(successes(5));
+        others.forEach(f -> assertEquals(SUCCESS, f.join()));
+        assertEquals(2, batches.size());
+    }
+
+    /**
+     * Tests that only the latest pending mark of a writer for a stream is sent, and all callers get its result.
+     */
+    @Test(timeout = 10000)
+    public void testCoalescing() {
+        val batches = new ArrayList<TimestampsFromWriters>();
+        val responses = new ArrayList<CompletableFuture<TimestampsResponse>>();
+        @Cleanup
+        val batcher = new WriterMarkBatcher(batch -> {
+            batches.add(batch);
+            val response = new CompletableFuture<TimestampsResponse>();
+            responses.add(response);
+            return response;
+        }, mark -> {
+            throw new AssertionError("Unexpected individual mark.");
+        }, DIRECT_EXECUTOR);
+
+        batcher.noteTimestamp(mark("w", "s", 1));
+        val second = batcher.noteTimestamp(mark("w", "s", 2));
+        val third = batcher.noteTimestamp(mark("w", "s", 3));
+        val otherStream = batcher.noteTimestamp(mark("w", "s2", 3));
+        assertEquals(2, batcher.getPendingMarkCount());
+
+        responses.get(0).complete(successes(1));
+        assertEquals(2, batches.size());
+        val batch = batches.get(1);
+        assertEquals(2, batch.getMarksCount());
+        assertEquals(3, batch.getMarks(0).getTimestamp());
+        assertEquals("s", batch.getMarks(0).getPosition().getStreamInfo().getStream());
+        assertEquals("s2", batch.getMarks(1).getPosition().getStreamInfo().getStream());
+
+        val invalid = TimestampResponse.newBuilder().setResult(TimestampResponse.Status.INVALID_TIME).build();
+        responses.get(1).complete(TimestampsResponse.newBuilder().addResults(invalid).addResults(SUCCESS).build());
+        assertEquals(invalid, second.join());
+        assertEquals(invalid, third.join());
+        assertEquals(SUCCESS, otherStream.join());
+    }
+
+    /**
+     * Tests that marks are sent individually if the Controller does not support batched marks.
+     */
+    @Test(timeout = 10000)
+    public void testUnsupported() {
+        val batchCount = new AtomicInteger();
+        val singles = new ArrayList<TimestampFromWriter>();
+        @Cleanup
+        val batcher = new WriterMarkBatcher(batch -> {
+            batchCount.incrementAndGet();
+            val response = new CompletableFuture<TimestampsResponse>();
+            response.completeExceptionally(Status.UNIMPLEMENTED.asRuntimeException());
+            return response;
+        }, mark -> {
+            singles.add(mark);
+            return CompletableFuture.completedFuture(SUCCESS);
+        }, DIRECT_EXECUTOR);
+
+        assertEquals(SUCCESS, batcher.noteTimestamp(mark("w", "s", 1)).join());
+        assertEquals(SUCCESS, batcher.noteTimestamp(mark("w", "s", 2)).join());
+        assertEquals(1, batchCount.get());
+        assertEquals(2, singles.size());
+        assertEquals(2, singles.get(1).getTimestamp());
+    }
+
+    /**
+     * Tests that failures of a batch are reported to all the callers of the batch and do not prevent further batches.
+     */
+    @Test(timeout = 10000)
+    public void testFailures() {
+        val responses = new ArrayList<CompletableFuture<TimestampsResponse>>();
+        @Cleanup
+        val batcher = new WriterMarkBatcher(batch -> {
+            val response = new CompletableFuture<TimestampsResponse>();
+            responses.add(response);
+            return response;
+        }, mark -> {
+            throw new AssertionError("Unexpected individual mark.");
+        }, DIRECT_EXECUTOR);
+
+        val first = batcher.noteTimestamp(mark("w", "s", 1));
+        responses.get(0).completeExceptionally(Status.UNAVAILABLE.asRuntimeException());
+        AssertExtensions.assertFutureThrows("Expected batch failure.", first,
+                ex -> Exceptions.unwrap(ex) instanceof StatusRuntimeException);
+
+        // Mismatched number of results.
+        val second = batcher.noteTimestamp(mark("w", "s", 2));
+        responses.get(1).complete(successes(2));
+        AssertExtensions.assertFutureThrows("Expected invalid response.", second,
+                ex -> Exceptions.unwrap(ex) instanceof IllegalStateException);
+
+        val third = batcher.noteTimestamp(mark("w", "s", 3));
+        responses.get(2).complete(successes(1));
+        assertEquals(SUCCESS, third.join());
+    }
+
+    /**
+     * Tests that pending marks are failed when the batcher is closed.
+     */
+    @Test(timeout = 10000)
+    public void testClose() {
+        val responses = new ArrayList<CompletableFuture<TimestampsResponse>>();
+        val batcher = new WriterMarkBatcher(batch -> {
+            val response = new CompletableFuture<TimestampsResponse>();
+            responses.add(response);
+            return response;
+        }, mark -> {
+            throw new AssertionError("Unexpected individual mark.");
+        }, DIRECT_EXECUTOR);
+
+        val inFlight = batcher.noteTimestamp(mark("w", "s", 1));
+        val pending = batcher.noteTimestamp(mark("w2", "s", 1));
+        batcher.close();
+        AssertExtensions.assertThrows("Expected closed batcher.", () -> batcher.noteTimestamp(mark("w", "s", 2)),
+                ex -> ex instanceof ObjectClosedException);
+
+        responses.get(0).complete(successes(1));
+        assertEquals(SUCCESS, inFlight.join());
+        AssertExtensions.assertFutureThrows("Expected closed batcher.", pending,
+                ex -> Exceptions.unwrap(ex) instanceof ObjectClosedException);
+        assertEquals(1, responses.size());
+        assertEquals(0, batcher.getPendingMarkCount());
+    }
+
+    /**
+     * Tests that batches do not exceed {@link WriterMarkBatcher#MAX_BATCH_SIZE}.
+     */
+    @Test(timeout = 10000)
+    public void testMaxBatchSize() {
+        val batchSizes = new ArrayList<Integer>();
+        val responses = new ArrayList<CompletableFuture<TimestampsResponse>>();
+        @Cleanup
+        val batcher = new WriterMarkBatcher(batch -> {
+            batchSizes.add(batch.getMarksCount());
+            val response = new CompletableFuture<TimestampsResponse>();
+            responses.add(response);
+            return response;
+        }, mark -> {
+            throw new AssertionError("Unexpected individual mark.");
+        }, DIRECT_EXECUTOR);
+
+        List<CompletableFuture<TimestampResponse>> futures = new ArrayList<>();
+        int count = WriterMarkBatcher.MAX_BATCH_SIZE + 11;
+        for (int i = 0; i < count; i++) {
+            futures.add(batcher.noteTimestamp(mark("w" + i, "s", 1)));
+        }
+        for (int i = 0; i < responses.size(); i++) {
+            responses.get(i).complete(successes(batchSizes.get(i)));
+        }
+        assertEquals(3, batchSizes.size());
+        assertEquals(1, (int) batchSizes.get(0));
+        assertEquals(WriterMarkBatcher.MAX_BATCH_SIZE, (int) batchSizes.get(1));
+        assertEquals(10, (int) batchSizes.get(2));
+        assertTrue(futures.stream().allMatch(f -> f.join().equals(SUCCESS)));
+    }
+
+    private static TimestampFromWriter mark(String writer, String stream, long timestamp) {
+        return TimestampFromWriter.newBuilder()
+                .setWriter(writer)
+                .setTimestamp(timestamp)
+                .setPosition(StreamCut.newBuilder()
+                        .setStreamInfo(ModelHelper.createStreamInfo("scope", stream))
+                        .putCut(0L, timestamp))
+                .build();
+    }
+
+    private static TimestampsResponse successes(int count) {
+        val response = TimestampsResponse.newBuilder();
+        for (int i = 0; i < count; i++) {
+            response.addResults(SUCCESS);
+        }
+        return response.build();
+    }
+}
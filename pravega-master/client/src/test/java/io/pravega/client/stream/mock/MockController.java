@@ -64,6 +64,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -216,6 +217,14 @@ public class MockController implements Controller {
                 .thenCompose(v -> createStreamInternal(scope, streamName, streamConfig));
     }
 
+    @Override
+    @Synchronized
+    public CompletableFuture<Map<String, Boolean>> createStreams(String scope, Map<String, StreamConfiguration> streams) {
+        Map<String, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+        streams.forEach((streamName, streamConfig) -> results.put(streamName, createStream(scope, streamName, streamConfig)));
+        return Futures.allOfWithResults(results);
+    }
+
     private CompletableFuture<Boolean> createStreamInternal(String scope, String streamName, StreamConfiguration streamConfig) {
         return createInScope(scope, new StreamImpl(scope, streamName), streamConfig, s -> s.streams,
                 this::getSegmentsForStream, Segment::getScopedName, this::createSegment);
@@ -316,6 +325,13 @@ public class MockController implements Controller {
         }
     }
 
+    @Override
+    public CompletableFuture<Map<String, Boolean>> updateStreams(String scope, Map<String, StreamConfiguration> streams) {
+        Map<String, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+        streams.forEach((streamName, streamConfig) -> results.put(streamName, updateStream(scope, streamName, streamConfig)));
+        return Futures.allOfWithResults(results);
+    }
+
     @Override
     public CompletableFuture<ReaderGroupConfig> createReaderGroup(String scopeName, String rgName, ReaderGroupConfig config) {
         createRGStream(scopeName, rgName);
@@ -401,6 +417,14 @@ public class MockController implements Controller {
                 Segment::getScopedName, this::deleteSegment));
     }
 
+    @Override
+    @Synchronized
+    public CompletableFuture<Map<String, Boolean>> deleteStreams(String scope, Collection<String> streamNames) {
+        Map<String, CompletableFuture<Boolean>> results = new LinkedHashMap<>();
+        streamNames.forEach(streamName -> results.put(streamName, deleteStream(scope, streamName)));
+        return Futures.allOfWithResults(results);
+    }
+
     private boolean createSegment(String name) {
         if (!callServer) {
             return true;
@@ -202,6 +202,12 @@ public class MockStreamManager implements StreamManager, ReaderGroupManager {
         return Futures.getAndHandleExceptions(controller.createStream(scopeName, streamName, config), RuntimeException::new);
     }
 
+    @Override
+    public Map<String, Boolean> createStreams(String scopeName, Map<String, StreamConfiguration> streams) {
+        streams.keySet().forEach(NameUtils::validateUserStreamName);
+        return Futures.getAndHandleExceptions(controller.createStreams(scopeName, streams), RuntimeException::new);
+    }
+
     @Override
     public boolean updateStream(String scopeName, String streamName, StreamConfiguration config) {
         if (config == null) {
@@ -213,6 +219,11 @@ public class MockStreamManager implements StreamManager, ReaderGroupManager {
         return Futures.getAndHandleExceptions(controller.updateStream(scopeName, streamName, config), RuntimeException::new);
     }
 
+    @Override
+    public Map<String, Boolean> updateStreams(String scopeName, Map<String, StreamConfiguration> streams) {
+        return Futures.getAndHandleExceptions(controller.updateStreams(scopeName, streams), RuntimeException::new);
+    }
+
     @Override
     public boolean truncateStream(String scopeName, String streamName, StreamCut streamCut) {
         Preconditions.checkNotNull(streamCut);
@@ -281,6 +292,11 @@ public class MockStreamManager implements StreamManager, ReaderGroupManager {
         return Futures.getAndHandleExceptions(controller.deleteStream(scopeName, toDelete), RuntimeException::new);
     }
 
+    @Override
+    public Map<String, Boolean> deleteStreams(String scopeName, Collection<String> toDelete) {
+        return Futures.getAndHandleExceptions(controller.deleteStreams(scopeName, toDelete), RuntimeException::new);
+    }
+
     @Override
     public Iterator<String> listScopes() {
         AsyncIterator<String> asyncIterator = controller.listScopes();
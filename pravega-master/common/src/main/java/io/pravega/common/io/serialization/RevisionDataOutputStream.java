@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.function.ToIntFunction;
 import javax.annotation.concurrent.NotThreadSafe;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
@@ -39,7 +40,24 @@ import lombok.Getter;
 abstract class RevisionDataOutputStream extends FilterOutputStream implements RevisionDataOutput {
     //region Members
 
+    /**
+     * Instances that can be reused by {@link #wrapReusable}, one per implementation and thread.
+     */
+    private static final ThreadLocal<ReusableInstances> REUSABLE_INSTANCES = ThreadLocal.withInitial(ReusableInstances::new);
     private DirectDataOutput structuredWriter;
+    /**
+     * Created on first use only, since most OutputStreams we write to implement {@link DirectDataOutput}.
+     */
+    private IndirectWriter indirectWriter;
+    /**
+     * Whether this instance is cached in {@link #REUSABLE_INSTANCES}.
+     */
+    @Getter(AccessLevel.PROTECTED)
+    private final boolean reusable;
+    /**
+     * Whether this (reusable) instance has been handed out by {@link #wrapReusable} and not yet closed.
+     */
+    private boolean inUse;
     @Getter
     private int size;
 
@@ -47,18 +65,43 @@ abstract class RevisionDataOutputStream extends FilterOutputStream implements Re
 
     //region Constructor
 
-    private RevisionDataOutputStream(OutputStream outputStream) {
+    private RevisionDataOutputStream(OutputStream outputStream, boolean reusable) {
         super(outputStream);
-        this.structuredWriter = (out instanceof DirectDataOutput) ? (DirectDataOutput) out : new IndirectWriter();
+        this.structuredWriter = getStructuredWriter(outputStream);
+        this.reusable = reusable;
+        this.inUse = false;
         this.size = 0;
     }
 
     protected final void setOut(OutputStream out, int length) throws IOException {
         super.out = out;
-        this.structuredWriter = (out instanceof DirectDataOutput) ? (DirectDataOutput) out : new IndirectWriter();
+        this.structuredWriter = getStructuredWriter(out);
         this.structuredWriter.writeInt(length);
     }
 
+    /**
+     * Prepares this instance for writing to a new OutputStream.
+     *
+     * @param out The OutputStream to write to.
+     */
+    protected void reset(OutputStream out) throws IOException {
+        super.out = out;
+        this.structuredWriter = getStructuredWriter(out);
+        this.size = 0;
+    }
+
+    private DirectDataOutput getStructuredWriter(OutputStream out) {
+        if (out == null || out instanceof DirectDataOutput) {
+            return (DirectDataOutput) out;
+        }
+
+        if (this.indirectWriter == null) {
+            this.indirectWriter = new IndirectWriter();
+        }
+
+        return this.indirectWriter;
+    }
+
     /**
      * Wraps the given OutputStream into a specific implementation of RevisionDataOutputStream.
      *
@@ -70,10 +113,69 @@ abstract class RevisionDataOutputStream extends FilterOutputStream implements Re
      */
     public static RevisionDataOutputStream wrap(OutputStream outputStream) throws IOException {
         if (outputStream instanceof RandomAccessOutputStream) {
-            return new RandomRevisionDataOutput(outputStream);
+            return new RandomRevisionDataOutput(outputStream, false);
+        } else {
+            return new NonSeekableRevisionDataOutput(outputStream, false);
+        }
+    }
+
+    /**
+     * Same as {@link #wrap}, but reuses an instance previously created by this method on the current thread, if that
+     * instance is not in use anymore. This avoids allocating a new wrapper for every serialization on hot paths. If the
+     * instance is still in use (i.e., this is a nested serialization), a new one is created instead.
+     *
+     * The result must be closed on the same thread, after which it must not be used anymore.
+     *
+     * @param outputStream The OutputStream to wrap.
+     * @return A RevisionDataOutputStream, as described in {@link #wrap}.
+     * @throws IOException If an IO Exception occurred.
+     */
+    static RevisionDataOutputStream wrapReusable(OutputStream outputStream) throws IOException {
+        ReusableInstances instances = REUSABLE_INSTANCES.get();
+        RevisionDataOutputStream result;
+        if (outputStream instanceof RandomAccessOutputStream) {
+            if (instances.random == null) {
+                instances.random = new RandomRevisionDataOutput(null, true);
+            }
+
+            result = instances.random;
         } else {
-            return new NonSeekableRevisionDataOutput(outputStream);
+            if (instances.nonSeekable == null) {
+                instances.nonSeekable = new NonSeekableRevisionDataOutput(null, true);
+            }
+
+            result = instances.nonSeekable;
         }
+
+        if (result.inUse) {
+            return wrap(outputStream);
+        }
+
+        result.reset(outputStream);
+        result.inUse = true;
+        return result;
+    }
+
+    /**
+     * Invoked by {@link #close()} to release this instance, if it was obtained using {@link #wrapReusable}. No references
+     * to the wrapped OutputStream are retained after this.
+     */
+    protected void release() {
+        if (this.reusable) {
+            super.out = null;
+            this.structuredWriter = null;
+            this.inUse = false;
+        }
+    }
+
+    /**
+     * Gets a value indicating whether this instance was obtained using {@link #wrapReusable} and it has already been
+     * closed (and released).
+     *
+     * @return True if released, false otherwise.
+     */
+    protected boolean isReleased() {
+        return this.reusable && !this.inUse;
     }
 
     //endregion
@@ -513,6 +615,18 @@ abstract class RevisionDataOutputStream extends FilterOutputStream implements Re
 
     //endregion
 
+    //region ReusableInstances
+
+    /**
+     * Instances that can be reused on a single thread. See {@link #wrapReusable}.
+     */
+    private static class ReusableInstances {
+        private RandomRevisionDataOutput random;
+        private NonSeekableRevisionDataOutput nonSeekable;
+    }
+
+    //endregion
+
     //region IndirectWriter
 
     /**
@@ -554,33 +668,55 @@ abstract class RevisionDataOutputStream extends FilterOutputStream implements Re
      * explicitly declare the length prior to serialization as it can be back-filled upon closing.
      */
     private static class RandomRevisionDataOutput extends RevisionDataOutputStream {
-        private final int initialPosition;
+        private int initialPosition;
 
         /**
          * Creates a new instance of the RandomRevisionDataOutput class. Upon a successful call to this constructor, 4 bytes
          * will have been written to the OutputStream representing a placeholder for the length. These 4 bytes will be populated
          * upon closing this OutputStream.
          *
-         * @param outputStream The OutputStream to wrap.
+         * @param outputStream The OutputStream to wrap. May be null if reusable, in which case {@link #reset} must be
+         *                     invoked before use.
+         * @param reusable     Whether this instance is meant to be reused (see {@link #wrapReusable}).
          * @throws IOException If an IO Exception occurred.
          */
-        RandomRevisionDataOutput(OutputStream outputStream) throws IOException {
-            super(outputStream);
+        RandomRevisionDataOutput(OutputStream outputStream, boolean reusable) throws IOException {
+            super(outputStream, reusable);
+            if (outputStream != null) {
+                writeLengthPlaceholder();
+            }
+        }
 
+        @Override
+        protected void reset(OutputStream out) throws IOException {
+            super.reset(out);
+            writeLengthPlaceholder();
+        }
+
+        private void writeLengthPlaceholder() throws IOException {
             // Pre-allocate 4 bytes so we can write the length later, but remember this position.
-            RandomAccessOutputStream ros = (RandomAccessOutputStream) outputStream;
+            RandomAccessOutputStream ros = (RandomAccessOutputStream) this.out;
             this.initialPosition = ros.size();
             ros.writeInt(0);
         }
 
         @Override
         public void close() throws IOException {
-            // Calculate the number of bytes written, making sure to exclude the bytes for the length encoding.
-            RandomAccessOutputStream ros = (RandomAccessOutputStream) this.out;
-            int length = ros.size() - this.initialPosition - Integer.BYTES;
+            if (isReleased()) {
+                // Already closed.
+                return;
+            }
+
+            try {
+                // Calculate the number of bytes written, making sure to exclude the bytes for the length encoding.
+                RandomAccessOutputStream ros = (RandomAccessOutputStream) this.out;
+                int length = ros.size() - this.initialPosition - Integer.BYTES;
 
-            // Write the length at the appropriate position.
-            ros.writeInt(length, this.initialPosition);
+                // Write the length at the appropriate position.
+                ros.writeInt(length, this.initialPosition);
+            } finally {
+                release();
+            }
         }
 
         @Override
@@ -606,24 +742,48 @@ abstract class RevisionDataOutputStream extends FilterOutputStream implements Re
      */
     @NotThreadSafe
     private static class NonSeekableRevisionDataOutput extends RevisionDataOutputStream {
-        private final OutputStream realStream;
+        private OutputStream realStream;
         private int length;
 
-        NonSeekableRevisionDataOutput(OutputStream outputStream) {
-            super(new LengthRequiredOutputStream());
+        NonSeekableRevisionDataOutput(OutputStream outputStream, boolean reusable) {
+            super(LengthRequiredOutputStream.INSTANCE, reusable);
             this.realStream = outputStream;
             this.length = 0;
         }
 
+        @Override
+        protected void reset(OutputStream out) throws IOException {
+            super.reset(LengthRequiredOutputStream.INSTANCE);
+            this.realStream = out;
+            this.length = 0;
+        }
+
         @Override
         public void close() throws IOException {
-            // We do not want to close the underlying Stream as it may be reused.
-            if (this.length != getSize()) {
-                // Check if we wrote the number of bytes we declared, otherwise we will have problems upon deserializing.
-                throw new SerializationException(String.format("Unexpected number of bytes written. Declared: %d, written: %d.", this.length, getSize()));
-            } else if (requiresExplicitLength()) {
-                // We haven't written anything nor declared a length. Write the length prior to exiting.
-                length(0);
+            if (isReleased()) {
+                // Already closed.
+                return;
+            }
+
+            try {
+                // We do not want to close the underlying Stream as it may be reused.
+                if (this.length != getSize()) {
+                    // Check if we wrote the number of bytes we declared, otherwise we will have problems upon deserializing.
+                    throw new SerializationException(String.format("Unexpected number of bytes written. Declared: %d, written: %d.", this.length, getSize()));
+                } else if (requiresExplicitLength()) {
+                    // We haven't written anything nor declared a length. Write the length prior to exiting.
+                    length(0);
+                }
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        protected void release() {
+            super.release();
+            if (isReusable()) {
+                this.realStream = null;
             }
         }
 
@@ -646,15 +806,45 @@ abstract class RevisionDataOutputStream extends FilterOutputStream implements Re
             }
         }
 
-        private static class LengthRequiredOutputStream extends OutputStream {
+        /**
+         * Placeholder OutputStream used until the length is declared. It is stateless, so a single instance is shared.
+         * It implements {@link DirectDataOutput} so that we need not create an {@link IndirectWriter} for it.
+         */
+        private static class LengthRequiredOutputStream extends OutputStream implements DirectDataOutput {
+            static final LengthRequiredOutputStream INSTANCE = new LengthRequiredOutputStream();
+
             @Override
             public void write(int i) {
-                throw new IllegalStateException("Length must be declared prior to writing anything.");
+                throw lengthRequired();
             }
 
             @Override
             public void write(byte[] buffer, int index, int length) {
-                throw new IllegalStateException("Length must be declared prior to writing anything.");
+                throw lengthRequired();
+            }
+
+            @Override
+            public void writeBuffer(BufferView buffer) {
+                throw lengthRequired();
+            }
+
+            @Override
+            public void writeShort(int shortValue) {
+                throw lengthRequired();
+            }
+
+            @Override
+            public void writeInt(int intValue) {
+                throw lengthRequired();
+            }
+
+            @Override
+            public void writeLong(long longValue) {
+                throw lengthRequired();
+            }
+
+            private IllegalStateException lengthRequired() {
+                return new IllegalStateException("Length must be declared prior to writing anything.");
             }
         }
     }
@@ -332,10 +332,13 @@ public abstract class VersionedSerializer<T> {
             stream.write(writeVersion.getVersion());
             stream.write(writeVersion.getRevisions().size());
 
-            // Write each Revision for this Version, in turn.
-            for (val r : writeVersion.getRevisions()) {
+            // Write each Revision for this Version, in turn. This is on the hot path for frequently serialized objects, so
+            // we avoid creating an Iterator and reuse this thread's RevisionDataOutputStream, if available.
+            val revisions = writeVersion.getRevisions();
+            for (int i = 0; i < revisions.size(); i++) {
+                val r = revisions.get(i);
                 stream.write(r.getRevision());
-                try (val revisionOutput = RevisionDataOutputStream.wrap(stream)) {
+                try (val revisionOutput = RevisionDataOutputStream.wrapReusable(stream)) {
                     r.getWriter().accept(o, revisionOutput);
                 }
             }
@@ -17,7 +17,9 @@ package io.pravega.common.util;
 
 import com.google.common.base.Preconditions;
 import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.Queue;
+import java.util.function.ToIntFunction;
 import lombok.val;
 
 /**
@@ -29,12 +31,18 @@ import lombok.val;
  * items with different priorities. That means that, even if there are more items (with lower priority), those will not
  * be included in the result even if the requested number of items exceeds what we can return. These (lower priority) items
  * may be retrieved using a subsequent call (assuming no higher priority items are added in the meantime).
+ * - If created with fairness weights (see {@link #PriorityBlockingDrainingQueue(byte, ToIntFunction)}), items with the
+ * same priority are returned in weighted round-robin order across their {@link Item#getFairnessKey()}s (Deficit Round
+ * Robin), so that a key with many queued items cannot hold back the items of other keys. Items with the same key are
+ * always returned in the order in which they were added. Otherwise, items with the same priority are returned in FIFO
+ * order.
  *
  * @param <T> Type of item,
  */
 public class PriorityBlockingDrainingQueue<T extends PriorityBlockingDrainingQueue.Item> extends AbstractDrainingQueue<T> {
     //region Members.
-    private final SimpleDeque[] queues;
+    private final LevelQueue[] queues;
+    private final ToIntFunction<Object> fairnessWeights;
     private int firstIndex;
     private int size;
 
@@ -48,8 +56,22 @@ public class PriorityBlockingDrainingQueue<T extends PriorityBlockingDrainingQue
      * @param maxPriorityValue Maximum allowed priority value.
      */
     public PriorityBlockingDrainingQueue(byte maxPriorityValue) {
+        this(maxPriorityValue, null);
+    }
+
+    /**
+     * Creates a new instance of the {@link PriorityBlockingDrainingQueue} class.
+     *
+     * @param maxPriorityValue Maximum allowed priority value.
+     * @param fairnessWeights  (Optional) A function that returns the weight of a {@link Item#getFairnessKey()}. Within
+     *                         the same priority level, each key gets a share of the returned items that is proportional
+     *                         to its weight (values less than 1 are treated as 1). If null, items with the same priority
+     *                         are returned in FIFO order.
+     */
+    public PriorityBlockingDrainingQueue(byte maxPriorityValue, ToIntFunction<Object> fairnessWeights) {
         Preconditions.checkArgument(maxPriorityValue >= 0, "maxPriorityLevel must be a value between 0 and %s.", Byte.MAX_VALUE);
-        this.queues = new SimpleDeque[maxPriorityValue + 1];
+        this.queues = new LevelQueue[maxPriorityValue + 1];
+        this.fairnessWeights = fairnessWeights;
         this.firstIndex = 0;
         this.size = 0;
     }
@@ -119,15 +141,15 @@ public class PriorityBlockingDrainingQueue<T extends PriorityBlockingDrainingQue
     }
 
     @SuppressWarnings("unchecked")
-    private SimpleDeque<T> getQueue(int index) {
+    private LevelQueue<T> getQueue(int index) {
         return this.queues[index];
     }
 
     @SuppressWarnings("unchecked")
-    private SimpleDeque<T> getOrCreateQueue(int index) {
-        SimpleDeque<T> q = this.queues[index];
+    private LevelQueue<T> getOrCreateQueue(int index) {
+        LevelQueue<T> q = this.queues[index];
         if (q == null) {
-            q = new SimpleDeque<>();
+            q = this.fairnessWeights == null ? new FifoQueue<>() : new FairQueue<>(this.fairnessWeights);
             this.queues[index] = q;
         }
         return q;
@@ -135,6 +157,106 @@ public class PriorityBlockingDrainingQueue<T extends PriorityBlockingDrainingQue
 
     //endregion
 
+    //region Priority Level Queues
+
+    /**
+     * Holds the items for a single priority level.
+     */
+    private interface LevelQueue<T> {
+        void addLast(T item);
+
+        T peekFirst();
+
+        Queue<T> pollFirst(int maxCount);
+
+        boolean isEmpty();
+    }
+
+    /**
+     * {@link LevelQueue} that returns items in FIFO order.
+     */
+    private static class FifoQueue<T> extends SimpleDeque<T> implements LevelQueue<T> {
+    }
+
+    /**
+     * {@link LevelQueue} that returns items in weighted round-robin order across their fairness keys, using Deficit
+     * Round Robin (with item counts as cost): each time a key's turn comes up, it gets a quantum equal to its weight
+     * and may return that many items before the next key gets its turn.
+     */
+    private static class FairQueue<T extends Item> implements LevelQueue<T> {
+        private final ToIntFunction<Object> weights;
+        private final HashMap<Object, Lane<T>> lanes = new HashMap<>();
+        /**
+         * The lanes that have items, in round-robin order. The first one is the one whose turn it is.
+         */
+        private final ArrayDeque<Lane<T>> activeLanes = new ArrayDeque<>();
+
+        FairQueue(ToIntFunction<Object> weights) {
+            this.weights = weights;
+        }
+
+        @Override
+        public void addLast(T item) {
+            Object key = item.getFairnessKey();
+            Lane<T> lane = this.lanes.get(key);
+            if (lane == null) {
+                lane = new Lane<>(key);
+                this.lanes.put(key, lane);
+                this.activeLanes.addLast(lane);
+            }
+            lane.items.addLast(item);
+        }
+
+        @Override
+        public T peekFirst() {
+            Lane<T> lane = this.activeLanes.peekFirst();
+            return lane == null ? null : lane.items.peekFirst();
+        }
+
+        @Override
+        public Queue<T> pollFirst(int maxCount) {
+            ArrayDeque<T> result = new ArrayDeque<>(Math.min(maxCount, 16));
+            while (result.size() < maxCount && !this.activeLanes.isEmpty()) {
+                Lane<T> lane = this.activeLanes.peekFirst();
+                if (lane.credit <= 0) {
+                    // This lane's turn has just started.
+                    lane.credit = Math.max(1, this.weights.applyAsInt(lane.key));
+                }
+
+                int count = Math.min(lane.credit, Math.min(lane.items.size(), maxCount - result.size()));
+                result.addAll(lane.items.pollFirst(count));
+                lane.credit -= count;
+                if (lane.items.isEmpty()) {
+                    // Lanes are discarded once empty, so that we do not accumulate keys that are no longer in use.
+                    this.activeLanes.removeFirst();
+                    this.lanes.remove(lane.key);
+                } else if (lane.credit <= 0) {
+                    this.activeLanes.addLast(this.activeLanes.removeFirst());
+                }
+                // Otherwise the result is full and this lane gets to use its remaining credit on the next call.
+            }
+
+            return result;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return this.activeLanes.isEmpty();
+        }
+    }
+
+    private static class Lane<T> {
+        final Object key;
+        final SimpleDeque<T> items = new SimpleDeque<>();
+        int credit;
+
+        Lane(Object key) {
+            this.key = key;
+        }
+    }
+
+    //endregion
+
     /**
      * Defines an Item that can be added to a {@link PriorityBlockingDrainingQueue}.
      */
@@ -145,5 +267,16 @@ public class PriorityBlockingDrainingQueue<T extends PriorityBlockingDrainingQue
          * @return The priority.
          */
         byte getPriorityValue();
+
+        /**
+         * Gets a value that identifies which party this item belongs to, for fair queuing purposes. This is only used if
+         * the {@link PriorityBlockingDrainingQueue} has been created with fairness weights. Items with the same key are
+         * always returned in the order in which they were added.
+         *
+         * @return The fairness key. May be null (all items with a null key are treated as belonging to the same party).
+         */
+        default Object getFairnessKey() {
+            return null;
+        }
     }
 }
@@ -20,9 +20,11 @@ import com.google.common.base.Preconditions;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -50,6 +52,15 @@ import lombok.val;
  * recently), in order of access time (oldest items first). Every eviction event will remove all expired items and any
  * unexpired items as needed if {@link #size()} exceeds {@link #getMaxSize()}.
  *
+ * Concurrency:
+ * - The cache may be split into multiple shards (see {@link #SimpleCache(int, int, Duration, BiConsumer)}), each with its
+ * own lock, {@link HashMap} and access order. A Key always maps to the same shard, so operations on Keys that map to
+ * different shards do not contend with each other.
+ * - Each shard may hold up to an equal part of {@link #getMaxSize()} items and performs its own evictions, as described
+ * above. As such, an item may be evicted (due to size constraints) before other, less recently accessed, items that are
+ * in different shards.
+ * - By default, the cache has a single shard.
+ *
  * @param <KeyT>   Key Type.
  * @param <ValueT> Value Type.
  */
@@ -58,25 +69,19 @@ import lombok.val;
 public class SimpleCache<KeyT, ValueT> {
     //region Members
 
-    @GuardedBy("lock")
-    private final HashMap<KeyT, Entry<KeyT, ValueT>> map;
     @Getter
     private final int maxSize;
     private final long expirationTimeNanos;
     private final BiConsumer<KeyT, ValueT> onExpiration;
     private final Supplier<Long> currentTime;
-    @GuardedBy("lock")
-    private Entry<KeyT, ValueT> leastRecent;
-    @GuardedBy("lock")
-    private Entry<KeyT, ValueT> mostRecent;
-    private final Object lock = new Object();
+    private final List<Shard> shards;
 
     //endregion
 
     //region Constructor
 
     /**
-     * Creates a new instance of the {@link SimpleCache} class.
+     * Creates a new instance of the {@link SimpleCache} class with a single shard.
      *
      * @param maxSize        Maximum number of elements in the cache. If {@link #size()} exceeds this value as a result
      *                       of an insertion, the oldest entries will be evicted, in order, until {@link #size()} falls
@@ -88,11 +93,25 @@ public class SimpleCache<KeyT, ValueT> {
      *                       invoked when the entry is replaced (i.e., via {@link #put} or removed (via {@link #remove}.
      */
     public SimpleCache(int maxSize, @NonNull Duration expirationTime, @Nullable BiConsumer<KeyT, ValueT> onExpiration) {
-        this(maxSize, expirationTime, onExpiration, System::nanoTime);
+        this(maxSize, 1, expirationTime, onExpiration);
     }
 
     /**
-     * Creates a new instance of the {@link SimpleCache} class for testing purposes.
+     * Creates a new instance of the {@link SimpleCache} class which is split into the given number of shards. This is
+     * preferable to a single shard if the cache is accessed by many threads concurrently.
+     *
+     * @param maxSize          See {@link #SimpleCache(int, Duration, BiConsumer)}.
+     * @param concurrencyLevel The number of shards to split the cache into. If greater than maxSize, maxSize will be
+     *                         used instead.
+     * @param expirationTime   See {@link #SimpleCache(int, Duration, BiConsumer)}.
+     * @param onExpiration     See {@link #SimpleCache(int, Duration, BiConsumer)}.
+     */
+    public SimpleCache(int maxSize, int concurrencyLevel, @NonNull Duration expirationTime, @Nullable BiConsumer<KeyT, ValueT> onExpiration) {
+        this(maxSize, concurrencyLevel, expirationTime, onExpiration, System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance of the {@link SimpleCache} class with a single shard, for testing purposes.
      *
      * @param maxSize        See {@link #SimpleCache(int, Duration, BiConsumer)}.
      * @param expirationTime See {@link #SimpleCache(int, Duration, BiConsumer)}.
@@ -102,15 +121,36 @@ public class SimpleCache<KeyT, ValueT> {
     @VisibleForTesting
     SimpleCache(int maxSize, @NonNull Duration expirationTime, @Nullable BiConsumer<KeyT, ValueT> onExpiration,
                 @NonNull Supplier<Long> currentTime) {
+        this(maxSize, 1, expirationTime, onExpiration, currentTime);
+    }
+
+    /**
+     * Creates a new instance of the {@link SimpleCache} class for testing purposes.
+     *
+     * @param maxSize          See {@link #SimpleCache(int, Duration, BiConsumer)}.
+     * @param concurrencyLevel See {@link #SimpleCache(int, int, Duration, BiConsumer)}.
+     * @param expirationTime   See {@link #SimpleCache(int, Duration, BiConsumer)}.
+     * @param onExpiration     See {@link #SimpleCache(int, Duration, BiConsumer)}.
+     * @param currentTime      A {@link Supplier} that will return the current time, expressed in nanoseconds.
+     */
+    @VisibleForTesting
+    SimpleCache(int maxSize, int concurrencyLevel, @NonNull Duration expirationTime, @Nullable BiConsumer<KeyT, ValueT> onExpiration,
+                @NonNull Supplier<Long> currentTime) {
         Preconditions.checkArgument(maxSize > 0, "maxSize must be a positive number.");
+        Preconditions.checkArgument(concurrencyLevel > 0, "concurrencyLevel must be a positive number.");
         this.expirationTimeNanos = expirationTime.toNanos();
         Preconditions.checkArgument(this.expirationTimeNanos > 0, "expirationTime must be a positive duration.");
-        this.map = new HashMap<>();
         this.onExpiration = onExpiration;
         this.currentTime = currentTime;
         this.maxSize = maxSize;
-        this.leastRecent = null;
-        this.mostRecent = null;
+
+        // Split maxSize as evenly as possible among the shards, so that their combined size never exceeds it.
+        int shardCount = Math.min(concurrencyLevel, maxSize);
+        val shards = new ArrayList<Shard>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(maxSize / shardCount + (i < maxSize % shardCount ? 1 : 0)));
+        }
+        this.shards = Collections.unmodifiableList(shards);
     }
 
     //endregion
@@ -124,9 +164,11 @@ public class SimpleCache<KeyT, ValueT> {
      * @return The number of entries in the cache.
      */
     public int size() {
-        synchronized (this.lock) {
-            return this.map.size();
+        int size = 0;
+        for (val s : this.shards) {
+            size += s.size();
         }
+        return size;
     }
 
     /**
@@ -137,34 +179,7 @@ public class SimpleCache<KeyT, ValueT> {
      * @return The previous value associated with this key, or null if no such value exists or if it is expired.
      */
     public ValueT put(KeyT key, ValueT value) {
-        val e = new Entry<KeyT, ValueT>(key, value);
-        e.lastAccessTime = this.currentTime.get();
-        Entry<KeyT, ValueT> prevValue;
-        synchronized (this.lock) {
-            prevValue = this.map.put(key, e);
-            if (prevValue != null) {
-                // Replacement.
-                if (isExpired(prevValue, e.lastAccessTime)) {
-                    // Expired previous value is equivalent to it not having existed in the first place
-                    prevValue.replaced = true; // cleanup will take care of expired entries.
-                    prevValue = null;
-                } else {
-                    // Not expired. We need to manually unlink it.
-                    unregister(prevValue);
-                }
-            }
-
-            // Insertion.
-            register(e);
-        }
-
-        if (prevValue == null) {
-            // We have made an insertion. Clean up if necessary.
-            cleanUp();
-            return null;
-        }
-
-        return prevValue.value;
+        return getShard(key).put(key, value);
     }
 
     /**
@@ -176,31 +191,7 @@ public class SimpleCache<KeyT, ValueT> {
      * null will be returned. If null is returned, then the insertion can be considered successful.
      */
     public ValueT putIfAbsent(KeyT key, ValueT value) {
-        val e = new Entry<KeyT, ValueT>(key, value);
-        e.lastAccessTime = this.currentTime.get();
-        Entry<KeyT, ValueT> prevValue;
-        synchronized (this.lock) {
-            prevValue = this.map.putIfAbsent(key, e);
-            if (prevValue != null && isExpired(prevValue, e.lastAccessTime)) {
-                // Key exists, but entry is expired; we are eligible for insertion.
-                this.map.put(key, e);
-                prevValue.replaced = true;
-                prevValue = null;
-            }
-
-            if (prevValue == null) {
-                // Insertion successful. Update mostRecent and leastRecent.
-                register(e);
-            }
-        }
-
-        if (prevValue == null) {
-            // We have made an insertion. Clean up if necessary.
-            cleanUp();
-            return null;
-        }
-
-        return prevValue.value;
+        return getShard(key).putIfAbsent(key, value);
     }
 
     /**
@@ -210,21 +201,7 @@ public class SimpleCache<KeyT, ValueT> {
      * @return The value associated with the given key, or null if no such value exists or if the value is expired.
      */
     public ValueT remove(KeyT key) {
-        final Entry<KeyT, ValueT> e;
-        final long currentTime = this.currentTime.get();
-        synchronized (this.lock) {
-            e = this.map.remove(key);
-            if (e != null) {
-                // Removal successful. Remove this entry from our chain (a cleanup may not catch it until it actually was
-                // set to expire, so we'll have to do it this way).
-                unregister(e);
-                if (isExpired(e, currentTime)) {
-                    return null;
-                }
-            }
-        }
-
-        return e == null ? null : e.value;
+        return getShard(key).remove(key);
     }
 
     /**
@@ -235,31 +212,7 @@ public class SimpleCache<KeyT, ValueT> {
      * the value is expired, it will be automatically removed from the cache.
      */
     public ValueT get(KeyT key) {
-        Entry<KeyT, ValueT> e;
-        boolean needsEviction = false;
-        final long currentTime = this.currentTime.get();
-        synchronized (this.lock) {
-            e = this.map.get(key);
-            if (e != null) {
-                if (isExpired(e, currentTime)) {
-                    // No need to do anything. We'll run cleanUp(), which will remove it anyway.
-                    needsEviction = true;
-                    e = null;
-                } else {
-                    // Not expired. Update its last access time and set it as most recent.
-                    e.lastAccessTime = currentTime;
-                    unregister(e);
-                    register(e);
-                }
-            }
-        }
-
-        if (needsEviction) {
-            cleanUp();
-            return null;
-        }
-
-        return e == null ? null : e.value;
+        return getShard(key).get(key);
     }
 
     /**
@@ -268,134 +221,296 @@ public class SimpleCache<KeyT, ValueT> {
      * - All expired entries will be removed.
      */
     public void cleanUp() {
-        final long currentTime = this.currentTime.get();
-        Entry<KeyT, ValueT> lastEvicted;
-        synchronized (this.lock) {
-            Entry<KeyT, ValueT> current = this.leastRecent;
-            while (current != null && (isExpired(current, currentTime) || this.map.size() > this.maxSize)) {
-                if (!current.replaced) {
-                    this.map.remove(current.key);
-                }
-                current = current.next;
-            }
-
-            this.leastRecent = current;
-            if (current == null) {
-                // Evict all.
-                lastEvicted = this.mostRecent;
-                this.mostRecent = null;
-            } else {
-                // current points to the first Value that remains.
-                lastEvicted = current.prev;
-                if (lastEvicted != null) {
-                    lastEvicted.next = null;
-                    current.prev = null;
-                }
-            }
-        }
-
-        // Run eviction callbacks (outside of the sync block).
-        if (this.onExpiration != null) {
-            while (lastEvicted != null) {
-                try {
-                    this.onExpiration.accept(lastEvicted.key, lastEvicted.value);
-                } catch (Throwable ex) {
-                    // Log and move on. There is no way we can handle this anyway here, and this shouldn't prevent us
-                    // from invoking it for subsequent entries or fail whatever called us anyway.
-                    log.error("Eviction callback for {} failed.", lastEvicted.key, ex);
-                }
-
-                lastEvicted = lastEvicted.prev;
-            }
+        for (val s : this.shards) {
+            s.cleanUp();
         }
     }
 
     /**
-     * Gets the unexpired Entries within the cache, in order (from least used to most recent used).
+     * Gets the unexpired Entries within the cache, in order (from least used to most recent used). If the cache has more
+     * than one shard, the Entries are grouped by shard and are only in order within each shard.
      *
      * @return A list.
      */
     @VisibleForTesting
     List<Map.Entry<KeyT, ValueT>> getUnexpiredEntriesInOrder() {
         val result = new ArrayList<Map.Entry<KeyT, ValueT>>();
-        synchronized (this.lock) {
-            Entry<KeyT, ValueT> current = this.leastRecent;
-            val currentTime = this.currentTime.get();
-            while (current != null) {
-                if (!isExpired(current, currentTime)) {
-                    result.add(new AbstractMap.SimpleImmutableEntry<>(current.key, current.value));
-                }
-                current = current.next;
-            }
+        for (val s : this.shards) {
+            s.collectUnexpiredEntriesInOrder(result);
         }
         return result;
     }
 
+    /**
+     * Gets the number of shards this cache is split into.
+     *
+     * @return The number of shards.
+     */
+    @VisibleForTesting
+    int getShardCount() {
+        return this.shards.size();
+    }
+
     //endregion
 
     //region Helpers
 
+    private Shard getShard(KeyT key) {
+        if (this.shards.size() == 1) {
+            return this.shards.get(0);
+        }
+
+        // Spread the hash code, as it is done in HashMap, so that the higher bits are also taken into account.
+        int h = Objects.hashCode(key);
+        h ^= h >>> 16;
+        return this.shards.get((h & Integer.MAX_VALUE) % this.shards.size());
+    }
+
     /**
-     * Unlinks the given Entry from the chain and updates {@link #leastRecent} and {@link #mostRecent} if necessary.
+     * Determines whether the given entry is expired.
      *
-     * @param v The Entry to unlink.
+     * @param e           The Entry.
+     * @param currentTime The current time.
+     * @return True if expired, false otherwise.
      */
-    private void unregister(Entry<KeyT, ValueT> v) {
-        // Update leastRecent and mostRecent.
-        if (this.leastRecent == v) {
-            this.leastRecent = v.next;
+    private boolean isExpired(Entry<KeyT, ValueT> e, long currentTime) {
+        return currentTime - e.lastAccessTime > this.expirationTimeNanos;
+    }
+
+    //endregion
+
+    //region Shard
+
+    /**
+     * A section of the cache, which holds all the Keys that map to it. All access to a Shard is synchronized.
+     */
+    @ThreadSafe
+    @RequiredArgsConstructor
+    private class Shard {
+        @GuardedBy("this")
+        private final HashMap<KeyT, Entry<KeyT, ValueT>> map = new HashMap<>();
+        private final int maxSize;
+        @GuardedBy("this")
+        private Entry<KeyT, ValueT> leastRecent;
+        @GuardedBy("this")
+        private Entry<KeyT, ValueT> mostRecent;
+
+        synchronized int size() {
+            return this.map.size();
         }
-        if (this.mostRecent == v) {
-            this.mostRecent = v.prev;
+
+        ValueT put(KeyT key, ValueT value) {
+            val e = new Entry<KeyT, ValueT>(key, value);
+            e.lastAccessTime = currentTime.get();
+            Entry<KeyT, ValueT> prevValue;
+            synchronized (this) {
+                prevValue = this.map.put(key, e);
+                if (prevValue != null) {
+                    // Replacement.
+                    if (isExpired(prevValue, e.lastAccessTime)) {
+                        // Expired previous value is equivalent to it not having existed in the first place
+                        prevValue.replaced = true; // cleanup will take care of expired entries.
+                        prevValue = null;
+                    } else {
+                        // Not expired. We need to manually unlink it.
+                        unregister(prevValue);
+                    }
+                }
+
+                // Insertion.
+                register(e);
+            }
+
+            if (prevValue == null) {
+                // We have made an insertion. Clean up if necessary.
+                cleanUp();
+                return null;
+            }
+
+            return prevValue.value;
         }
 
-        // Unlink the Entry from its adjacent neighbors.
-        if (v.prev != null) {
-            v.prev.next = v.next;
+        ValueT putIfAbsent(KeyT key, ValueT value) {
+            val e = new Entry<KeyT, ValueT>(key, value);
+            e.lastAccessTime = currentTime.get();
+            Entry<KeyT, ValueT> prevValue;
+            synchronized (this) {
+                prevValue = this.map.putIfAbsent(key, e);
+                if (prevValue != null && isExpired(prevValue, e.lastAccessTime)) {
+                    // Key exists, but entry is expired; we are eligible for insertion.
+                    this.map.put(key, e);
+                    prevValue.replaced = true;
+                    prevValue = null;
+                }
+
+                if (prevValue == null) {
+                    // Insertion successful. Update mostRecent and leastRecent.
+                    register(e);
+                }
+            }
+
+            if (prevValue == null) {
+                // We have made an insertion. Clean up if necessary.
+                cleanUp();
+                return null;
+            }
+
+            return prevValue.value;
         }
 
-        if (v.next != null) {
-            v.next.prev = v.prev;
+        ValueT remove(KeyT key) {
+            final Entry<KeyT, ValueT> e;
+            final long currentTime = SimpleCache.this.currentTime.get();
+            synchronized (this) {
+                e = this.map.remove(key);
+                if (e != null) {
+                    // Removal successful. Remove this entry from our chain (a cleanup may not catch it until it actually was
+                    // set to expire, so we'll have to do it this way).
+                    unregister(e);
+                    if (isExpired(e, currentTime)) {
+                        return null;
+                    }
+                }
+            }
+
+            return e == null ? null : e.value;
         }
 
-        v.prev = null;
-        v.next = null;
+        ValueT get(KeyT key) {
+            Entry<KeyT, ValueT> e;
+            boolean needsEviction = false;
+            final long currentTime = SimpleCache.this.currentTime.get();
+            synchronized (this) {
+                e = this.map.get(key);
+                if (e != null) {
+                    if (isExpired(e, currentTime)) {
+                        // No need to do anything. We'll run cleanUp(), which will remove it anyway.
+                        needsEviction = true;
+                        e = null;
+                    } else {
+                        // Not expired. Update its last access time and set it as most recent.
+                        e.lastAccessTime = currentTime;
+                        unregister(e);
+                        register(e);
+                    }
+                }
+            }
 
-        // Sanity checks.
-        assert this.leastRecent == null || this.leastRecent.prev == null;
-        assert this.mostRecent == null || this.mostRecent.next == null;
-    }
+            if (needsEviction) {
+                cleanUp();
+                return null;
+            }
 
-    /**
-     * Updates {@link #mostRecent} to the given Entry and creates the appropriate links.
-     * May also update {@link #leastRecent} if previously null.
-     *
-     * @param e The Entry.
-     */
-    private void register(Entry<KeyT, ValueT> e) {
-        e.prev = this.mostRecent;
-        if (this.mostRecent != null) {
-            this.mostRecent.next = e;
+            return e == null ? null : e.value;
         }
 
-        this.mostRecent = e;
-        if (this.leastRecent == null) {
-            this.leastRecent = e;
+        void cleanUp() {
+            final long currentTime = SimpleCache.this.currentTime.get();
+            Entry<KeyT, ValueT> lastEvicted;
+            synchronized (this) {
+                Entry<KeyT, ValueT> current = this.leastRecent;
+                while (current != null && (isExpired(current, currentTime) || this.map.size() > this.maxSize)) {
+                    if (!current.replaced) {
+                        this.map.remove(current.key);
+                    }
+                    current = current.next;
+                }
+
+                this.leastRecent = current;
+                if (current == null) {
+                    // Evict all.
+                    lastEvicted = this.mostRecent;
+                    this.mostRecent = null;
+                } else {
+                    // current points to the first Value that remains.
+                    lastEvicted = current.prev;
+                    if (lastEvicted != null) {
+                        lastEvicted.next = null;
+                        current.prev = null;
+                    }
+                }
+            }
+
+            // Run eviction callbacks (outside of the sync block).
+            if (onExpiration != null) {
+                while (lastEvicted != null) {
+                    try {
+                        onExpiration.accept(lastEvicted.key, lastEvicted.value);
+                    } catch (Throwable ex) {
+                        // Log and move on. There is no way we can handle this anyway here, and this shouldn't prevent us
+                        // from invoking it for subsequent entries or fail whatever called us anyway.
+                        log.error("Eviction callback for {} failed.", lastEvicted.key, ex);
+                    }
+
+                    lastEvicted = lastEvicted.prev;
+                }
+            }
         }
 
-        // Sanity checks.
-        assert this.map.size() > 0 && this.leastRecent.prev == null && this.mostRecent.next == null;
-    }
+        synchronized void collectUnexpiredEntriesInOrder(List<Map.Entry<KeyT, ValueT>> result) {
+            Entry<KeyT, ValueT> current = this.leastRecent;
+            val currentTime = SimpleCache.this.currentTime.get();
+            while (current != null) {
+                if (!isExpired(current, currentTime)) {
+                    result.add(new AbstractMap.SimpleImmutableEntry<>(current.key, current.value));
+                }
+                current = current.next;
+            }
+        }
 
-    /**
-     * Determines whether the given entry is expired.
-     *
-     * @param e           The Entry.
-     * @param currentTime The current time.
-     * @return True if expired, false otherwise.
-     */
-    private boolean isExpired(Entry<KeyT, ValueT> e, long currentTime) {
-        return currentTime - e.lastAccessTime > this.expirationTimeNanos;
+        /**
+         * Unlinks the given Entry from the chain and updates {@link #leastRecent} and {@link #mostRecent} if necessary.
+         *
+         * @param v The Entry to unlink.
+         */
+        @GuardedBy("this")
+        private void unregister(Entry<KeyT, ValueT> v) {
+            // Update leastRecent and mostRecent.
+            if (this.leastRecent == v) {
+                this.leastRecent = v.next;
+            }
+            if (this.mostRecent == v) {
+                this.mostRecent = v.prev;
+            }
+
+            // Unlink the Entry from its adjacent neighbors.
+            if (v.prev != null) {
+                v.prev.next = v.next;
+            }
+
+            if (v.next != null) {
+                v.next.prev = v.prev;
+            }
+
+            v.prev = null;
+            v.next = null;
+
+            // Sanity checks.
+            assert this.leastRecent == null || this.leastRecent.prev == null;
+            assert this.mostRecent == null || this.mostRecent.next == null;
+        }
+
+        /**
+         * Updates {@link #mostRecent} to the given Entry and creates the appropriate links.
+         * May also update {@link #leastRecent} if previously null.
+         *
+         * @param e The Entry.
+         */
+        @GuardedBy("this")
+        private void register(Entry<KeyT, ValueT> e) {
+            e.prev = this.mostRecent;
+            if (this.mostRecent != null) {
+                this.mostRecent.next = e;
+            }
+
+            this.mostRecent = e;
+            if (this.leastRecent == null) {
+                this.leastRecent = e;
+            }
+
+            // Sanity checks.
+            assert this.map.size() > 0 && this.leastRecent.prev == null && this.mostRecent.next == null;
+        }
     }
 
     //endregion
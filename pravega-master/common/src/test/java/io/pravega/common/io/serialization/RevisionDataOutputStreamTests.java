@@ -135,6 +135,41 @@ public class RevisionDataOutputStreamTests {
         testImpl(impl, () -> new ByteArraySegment(s.toByteArray()));
     }
 
+    /**
+     * Tests the {@link RevisionDataOutputStream#wrapReusable} method.
+     */
+    @Test
+    public void testWrapReusable() throws Exception {
+        // RandomRevisionDataOutput.
+        @Cleanup
+        val s1 = new ByteBufferOutputStream();
+        val impl1 = RevisionDataOutputStream.wrapReusable(s1);
+        val nested = RevisionDataOutputStream.wrapReusable(new ByteBufferOutputStream());
+        Assert.assertNotSame("Not expecting an instance in use to be reused.", impl1, nested);
+        nested.close();
+        testImpl(impl1, s1::getData);
+        impl1.close(); // This should have no effect.
+
+        @Cleanup
+        val s2 = new ByteBufferOutputStream();
+        val impl2 = RevisionDataOutputStream.wrapReusable(s2);
+        Assert.assertSame("Expected the instance to be reused once closed.", impl1, impl2);
+        testImpl(impl2, s2::getData);
+
+        // NonSeekableRevisionDataOutput.
+        @Cleanup
+        val s3 = new ByteArrayOutputStream();
+        val impl3 = RevisionDataOutputStream.wrapReusable(s3);
+        Assert.assertNotSame(impl1, impl3);
+        testImpl(impl3, () -> new ByteArraySegment(s3.toByteArray()));
+
+        @Cleanup
+        val s4 = new ByteArrayOutputStream();
+        val impl4 = RevisionDataOutputStream.wrapReusable(s4);
+        Assert.assertSame("Expected the instance to be reused once closed.", impl3, impl4);
+        testImpl(impl4, () -> new ByteArraySegment(s4.toByteArray()));
+    }
+
     /**
      * Tests the NonSeekableRevisionDataOutput class when we provide a shorter length than expected.
      */
@@ -198,6 +198,74 @@ public class PriorityBlockingDrainingQueueTests {
         Assert.assertTrue(q.isClosed());
     }
 
+    /**
+     * Tests the ability to return items with the same priority in weighted round-robin order across their fairness keys.
+     */
+    @Test
+    public void testFairness() {
+        final byte priority = 5;
+        @Cleanup
+        val q = new PriorityBlockingDrainingQueue<KeyedTestItem>(MAX_PRIORITY, key -> "B".equals(key) ? 2 : 1);
+        for (int i = 0; i < 10; i++) {
+            q.add(new KeyedTestItem("A" + i, priority, "A"));
+        }
+        for (int i = 0; i < 4; i++) {
+            q.add(new KeyedTestItem("B" + i, priority, "B"));
+        }
+        for (int i = 0; i < 2; i++) {
+            q.add(new KeyedTestItem("N" + i, priority, null));
+        }
+        val highPriority = new KeyedTestItem("H", (byte) (priority - 1), "A");
+        q.add(highPriority);
+
+        // Priorities still come first.
+        Assert.assertSame(highPriority, q.peek());
+        Assert.assertSame(highPriority, q.poll(10).poll());
+
+        // Each key takes turns, getting as many items as its weight each time.
+        val expected = Arrays.asList("A0", "B0", "B1", "N0", "A1", "B2", "B3", "N1", "A2", "A3", "A4", "A5", "A6", "A7", "A8", "A9");
+        Assert.assertEquals("A0", q.peek().getValue());
+        val result = q.poll(100);
+        Assert.assertEquals(expected.size(), result.size());
+        for (val e : expected) {
+            Assert.assertEquals(e, result.poll().getValue());
+        }
+        Assert.assertEquals(0, q.size());
+    }
+
+    /**
+     * Tests that a key whose turn is interrupted by the end of a {@link PriorityBlockingDrainingQueue#poll} resumes its
+     * turn (with its remaining quantum) on the next call.
+     */
+    @Test
+    public void testFairnessAcrossCalls() {
+        final byte priority = 5;
+        @Cleanup
+        val q = new PriorityBlockingDrainingQueue<KeyedTestItem>(MAX_PRIORITY, key -> "A".equals(key) ? 2 : 1);
+        for (int i = 0; i < 3; i++) {
+            q.add(new KeyedTestItem("A" + i, priority, "A"));
+        }
+        for (int i = 0; i < 3; i++) {
+            q.add(new KeyedTestItem("B" + i, priority, "B"));
+        }
+
+        Assert.assertEquals("A0", q.poll(1).poll().getValue());
+        Assert.assertEquals("A1", q.poll(1).poll().getValue());
+        val expected = Arrays.asList("B0", "A2", "B1", "B2");
+        val result = q.poll(10);
+        Assert.assertEquals(expected.size(), result.size());
+        for (val e : expected) {
+            Assert.assertEquals(e, result.poll().getValue());
+        }
+
+        // Keys are no longer tracked once they have no items, and are added at the end of the round if they come back.
+        q.add(new KeyedTestItem("B3", priority, "B"));
+        q.add(new KeyedTestItem("A3", priority, "A"));
+        val closeResult = q.close();
+        Assert.assertEquals("B3", closeResult.poll().getValue());
+        Assert.assertEquals("A3", closeResult.poll().getValue());
+    }
+
     private Queue<TestItem> getFirstItems(ConcurrentSkipListSet<TestItem> set, int count) {
         val result = new ArrayDeque<TestItem>();
         for (int i = 0; i < count; i++) {
@@ -221,6 +289,13 @@ public class PriorityBlockingDrainingQueueTests {
         private final byte priorityValue;
     }
 
+    @Data
+    private static class KeyedTestItem implements PriorityBlockingDrainingQueue.Item {
+        private final String value;
+        private final byte priorityValue;
+        private final String fairnessKey;
+    }
+
     private static class TestItemComparator implements Comparator<TestItem> {
 
         @Override
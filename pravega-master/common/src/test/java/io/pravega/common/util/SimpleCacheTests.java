@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
@@ -472,6 +473,103 @@ public class SimpleCacheTests {
         }
     }
 
+    /**
+     * Tests {@link SimpleCache} with multiple shards: size-based and time-based eviction and shard count limits.
+     */
+    @Test
+    public void testSharded() {
+        val maxSize = 100;
+        val concurrencyLevel = 8;
+        val expirationTimeNanos = 1000;
+        val count = DEFAULT_COUNT;
+        val evictions = new HashMap<Long, Long>();
+        val currentTime = new AtomicLong(0);
+        val c = new SimpleCache<Long, Long>(maxSize, concurrencyLevel, Duration.ofNanos(expirationTimeNanos), evictions::put, currentTime::get);
+        Assert.assertEquals(maxSize, c.getMaxSize());
+        Assert.assertEquals(concurrencyLevel, c.getShardCount());
+
+        // Size-based eviction. Every shard evicts its own items, so we should never exceed the maximum size.
+        for (val key : shuffled(0, count)) {
+            Assert.assertNull(c.putIfAbsent(key, value(key)));
+            AssertExtensions.assertLessThanOrEqual("Unexpected size.", maxSize, c.size());
+            Assert.assertEquals(value(key), (long) c.get(key));
+        }
+
+        // All items that are no longer in the cache should have been evicted.
+        Assert.assertEquals(count, evictions.size() + c.size());
+        for (val e : c.getUnexpiredEntriesInOrder()) {
+            Assert.assertFalse("Unexpected eviction for remaining key " + e.getKey(), evictions.containsKey(e.getKey()));
+            Assert.assertEquals(value(e.getKey()), (long) e.getValue());
+        }
+
+        // Time-based eviction. A cleanup should evict from all shards.
+        currentTime.addAndGet(expirationTimeNanos + 1);
+        c.cleanUp();
+        Assert.assertEquals(0, c.size());
+        Assert.assertEquals(count, evictions.size());
+        for (long key = 0; key < count; key++) {
+            Assert.assertEquals(value(key), (long) evictions.get(key));
+        }
+
+        // We cannot have more shards than items.
+        Assert.assertEquals(3, new SimpleCache<Long, Long>(3, concurrencyLevel, INFINITE_TIME, null).getShardCount());
+        Assert.assertEquals(1, new SimpleCache<Long, Long>(maxSize, INFINITE_TIME, null).getShardCount());
+        AssertExtensions.assertThrows(
+                "Expected an invalid concurrencyLevel to be rejected.",
+                () -> new SimpleCache<Long, Long>(maxSize, 0, INFINITE_TIME, null),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests {@link SimpleCache} with multiple shards, when accessed concurrently.
+     */
+    @Test(timeout = 30000)
+    public void testShardedConcurrentAccess() throws Exception {
+        val maxSize = DEFAULT_COUNT;
+        val threadCount = 8;
+        val operationsPerThread = 20000;
+        val evictionCount = new AtomicInteger();
+        val c = new SimpleCache<Long, Long>(maxSize, threadCount, INFINITE_TIME, (k, v) -> evictionCount.incrementAndGet());
+        val threads = new ArrayList<Thread>();
+        val failure = new AtomicReference<Throwable>();
+        for (int t = 0; t < threadCount; t++) {
+            val rnd = new Random(t);
+            val thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        long key = rnd.nextInt(maxSize * 2);
+                        switch (rnd.nextInt(4)) {
+                            case 0:
+                                c.put(key, value(key));
+                                break;
+                            case 1:
+                                c.putIfAbsent(key, value(key));
+                                break;
+                            case 2:
+                                c.remove(key);
+                                break;
+                            default:
+                                val v = c.get(key);
+                                Assert.assertTrue("Unexpected value for " + key, v == null || v == value(key));
+                        }
+                    }
+                } catch (Throwable ex) {
+                    failure.set(ex);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (val thread : threads) {
+            thread.join();
+        }
+
+        Assert.assertNull("Unexpected failure.", failure.get());
+        AssertExtensions.assertLessThanOrEqual("Unexpected size.", maxSize, c.size());
+        Assert.assertEquals("Unexpected entries.", c.size(), c.getUnexpiredEntriesInOrder().size());
+    }
+
     private void checkEvictions(List<Map.Entry<Long, Long>> expected, List<Map.Entry<Long, Long>> actual) {
         AssertExtensions.assertListEquals("", expected, actual, Map.Entry::equals);
     }
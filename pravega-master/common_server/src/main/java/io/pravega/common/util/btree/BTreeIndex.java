@@ -15,7 +15,10 @@
  */
 package io.pravega.common.util.btree;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import io.pravega.common.TimeoutTimer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.AsyncIterator;
@@ -29,11 +32,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -97,6 +100,11 @@ import lombok.val;
  * smallest offset to the tail of the index. This allows the external data source to truncate unused data out of the
  * index file (every update also recalculates the smallest such offset, which is communicated to the data source).
  *
+ * Bulk loading:
+ * * An empty BTreeIndex may be bulk-loaded from a sorted source of entries (see {@link #bulkLoad}). Pages are built bottom-up
+ * and written exactly once each, fully packed, instead of having every leaf page (and all its ancestors) rewritten with
+ * every update batch.
+ *
  * Versioning:
  * * BTreePages have built-in versioning; please refer to the BTreePage class for details. It is possible to mix different
  * BTreePage versions in the same BTreeIndex structure.
@@ -104,9 +112,9 @@ import lombok.val;
  * data source - that is, we cannot begin writing at version X, then after a while we switch to version Y in the same file.
  * * For BTreeIndex versioning (when it will be needed), a suggested approach is to pass in the version via the constructor
  * which should tell the BTreeIndex how to interpret the data in the external data source. Once a BTreeIndex is written in
- * one version in a file, it can only be "upgraded" if it is bulk-loaded into a different file (such a feature is not yet
- * supported). This versioning would have to be maintained externally (i.e., in a Segment Core Attribute or by file naming
- * conventions).
+ * one version in a file, it can only be "upgraded" if it is bulk-loaded into a different file (i.e., by using
+ * {@link #bulkLoad} with an {@link #iterator} over the original one). This versioning would have to be maintained externally
+ * (i.e., in a Segment Core Attribute or by file naming conventions).
  */
 @NotThreadSafe
 @Slf4j
@@ -115,6 +123,7 @@ public class BTreeIndex {
 
     private static final int INDEX_VALUE_LENGTH = Long.BYTES + Short.BYTES + Long.BYTES; // Offset, PageLength, MinOffset.
     private static final int FOOTER_LENGTH = Long.BYTES + Integer.BYTES;
+    private static final int BULK_LOAD_MAX_WRITE_LENGTH = 4 * 1024 * 1024;
     private static final BufferViewComparator KEY_COMPARATOR = BufferViewComparator.create();
     private final BTreePage.Config indexPageConfig;
     private final BTreePage.Config leafPageConfig;
@@ -141,13 +150,16 @@ public class BTreeIndex {
      * @param readPage           A Function that reads the contents of a page from an external data source.
      * @param writePages         A Function that writes contents of one or more contiguous pages to an external data source.
      * @param getLength          A Function that returns the length of the index, in bytes, as stored in an external data source.
-     * @param maintainStatistics If true, the BTreeIndex will maintain {@link Statistics} about its contents.
-     * @param executor           Executor for async operations.
-     * @param traceObjectId      An identifier to add to all log entries.
+     * @param maintainStatistics   If true, the BTreeIndex will maintain {@link Statistics} about its contents.
+     * @param keyPrefixCompression If true, modified pages will be written in a format that stores the prefix shared by
+     *                             all their Keys only once. Pages written in either format can always be read.
+     * @param executor             Executor for async operations.
+     * @param traceObjectId        An identifier to add to all log entries.
      */
     @Builder
     public BTreeIndex(int maxPageSize, int keyLength, int valueLength, @NonNull ReadPage readPage, @NonNull WritePages writePages,
-                      @NonNull GetLength getLength, boolean maintainStatistics, @NonNull Executor executor, String traceObjectId) {
+                      @NonNull GetLength getLength, boolean maintainStatistics, boolean keyPrefixCompression,
+                      @NonNull Executor executor, String traceObjectId) {
         this.read = readPage;
         this.write = writePages;
         this.getLength = getLength;
@@ -156,8 +168,8 @@ public class BTreeIndex {
         this.traceObjectId = traceObjectId;
 
         // BTreePage.Config validates the arguments so we don't need to.
-        this.indexPageConfig = new BTreePage.Config(keyLength, INDEX_VALUE_LENGTH, maxPageSize, true);
-        this.leafPageConfig = new BTreePage.Config(keyLength, valueLength, maxPageSize, false);
+        this.indexPageConfig = new BTreePage.Config(keyLength, INDEX_VALUE_LENGTH, maxPageSize, true, keyPrefixCompression);
+        this.leafPageConfig = new BTreePage.Config(keyLength, valueLength, maxPageSize, false, keyPrefixCompression);
         this.state = null;
     }
 
@@ -336,9 +348,9 @@ public class BTreeIndex {
 
         // Process the Entries in sorted order (by key); this makes the operation more efficient as we can batch-update
         // entries belonging to the same page.
-        val toUpdate = entries.stream()
+        val toUpdate = Iterators.peekingIterator(entries.stream()
                 .sorted((e1, e2) -> KEY_COMPARATOR.compare(e1.getKey(), e2.getKey()))
-                .iterator();
+                .iterator());
         return applyUpdates(toUpdate, timer)
                 .thenComposeAsync(pageCollection -> loadSmallestOffsetPage(pageCollection, timer)
                                 .thenRun(() -> processModifiedPages(pageCollection))
@@ -346,6 +358,54 @@ public class BTreeIndex {
                         this.executor);
     }
 
+    /**
+     * Bulk-loads the given entries into this BTreeIndex, which must be empty (no updates may have been applied to it).
+     * The pages are built bottom-up and are fully packed; each page is written exactly once.
+     *
+     * Pages are written to the external data source as they are built, in writes of up to a few MB. Only the last write
+     * (which includes the root page and the footer) makes the loaded entries visible, so if this operation fails, the
+     * index will still be empty and the bulk load must be restarted from the beginning (it is not possible to resume it).
+     * Any pages written by the failed attempt are unreachable and will be truncated out by the next successful one.
+     *
+     * @param entries An {@link AsyncIterator} returning Lists of {@link PageEntry} instances to insert. All the entries
+     *                must have values and must be sorted by Key (see {@link BufferViewComparator}), with no duplicates,
+     *                both within each List and across Lists (as returned by {@link #iterator}).
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed normally, will indicate that the entries have been loaded and
+     * will contain the current version of the index (same as {@link #update}), or null if there were no entries to load.
+     * If the operation failed, the Future will be completed with the appropriate exception (i.e.,
+     * {@link IllegalArgumentException} if the entries are not sorted or have no values).
+     * @throws IllegalStateException If the index is not empty.
+     */
+    public CompletableFuture<Long> bulkLoad(@NonNull AsyncIterator<List<PageEntry>> entries, @NonNull Duration timeout) {
+        return bulkLoad(entries, BULK_LOAD_MAX_WRITE_LENGTH, timeout);
+    }
+
+    @VisibleForTesting
+    CompletableFuture<Long> bulkLoad(@NonNull AsyncIterator<List<PageEntry>> entries, int maxWriteLength, @NonNull Duration timeout) {
+        ensureInitialized();
+        Preconditions.checkState(this.state.rootPageOffset == PagePointer.NO_OFFSET, "Cannot bulk-load a non-empty index.");
+        TimeoutTimer timer = new TimeoutTimer(timeout);
+        BulkLoader loader = new BulkLoader(this.state.length);
+        AtomicBoolean canContinue = new AtomicBoolean(true);
+        return Futures.loop(
+                canContinue::get,
+                () -> entries.getNext()
+                        .thenComposeAsync(batch -> {
+                            if (batch == null) {
+                                canContinue.set(false);
+                                return CompletableFuture.completedFuture(null);
+                            }
+
+                            batch.forEach(loader::add);
+                            return loader.getPendingLength() >= maxWriteLength
+                                    ? loader.writePending(timer.getRemaining())
+                                    : CompletableFuture.completedFuture(null);
+                        }, this.executor),
+                this.executor)
+                .thenComposeAsync(v -> loader.complete(timer.getRemaining()), this.executor);
+    }
+
     /**
      * Returns an {@link AsyncIterator} that will iterate through all the keys within the specified bounds. All iterated keys will
      * be returned in lexicographic order (smallest to largest). See {@link BufferViewComparator} for ordering details.
@@ -373,50 +433,63 @@ public class BTreeIndex {
      * Executes the given updates on the index. Loads up any necessary BTreePage instances in memory but does not persist
      * the changes to the external data source, nor does it reassign offsets to the modified pages, perform splits, etc.
      *
-     * @param updates An Iterator of the PageEntry instances to insert, update or remove. The Iterator must return the
-     *                updates in sorted order (by key).
+     * Since the updates are sorted, all the updates for a Leaf Page are contiguous. Once we locate the Leaf Page for an
+     * update, we collect all the following updates whose Keys are smaller than the Page's upper bound (the Key of the
+     * next Page, as indicated by the Page's ancestors) without looking them up again, and apply them all at once.
+     *
+     * @param updates A PeekingIterator of the PageEntry instances to insert, update or remove. The Iterator must return
+     *                the updates in sorted order (by key).
      * @param timer   Timer for the operation.
      * @return A CompletableFuture that will contain a PageCollection with all touched pages.
      */
-    private CompletableFuture<UpdateablePageCollection> applyUpdates(Iterator<PageEntry> updates, TimeoutTimer timer) {
+    private CompletableFuture<UpdateablePageCollection> applyUpdates(PeekingIterator<PageEntry> updates, TimeoutTimer timer) {
         UpdateablePageCollection pageCollection = new UpdateablePageCollection(this.state.length);
-        AtomicReference<PageWrapper> lastPage = new AtomicReference<>(null);
-        val lastPageUpdates = new ArrayList<PageEntry>();
         return Futures.loop(
                 updates::hasNext,
                 () -> {
-                    // Locate the page where the update is to be executed. Do not apply it yet as it is more efficient
-                    // to bulk-apply multiple at once. Collect all updates for each Page, and only apply them once we have
-                    // "moved on" to another page.
+                    // Locate the page where the update is to be executed, along with all the other updates that belong to
+                    // the same page. Apply them all at once as it is more efficient than applying them one by one.
                     PageEntry next = updates.next();
                     return locatePage(next.getKey(), pageCollection, timer)
                             .thenAccept(page -> {
-                                PageWrapper last = lastPage.get();
-                                if (page != last) {
-                                    // This key goes to a different page than the one we were looking at.
-                                    if (last != null) {
-                                        // Commit the outstanding updates.
-                                        last.setEntryCountDelta(last.getPage().update(lastPageUpdates));
-                                    }
-
-                                    // Update the pointers.
-                                    lastPage.set(page);
-                                    lastPageUpdates.clear();
+                                val pageUpdates = new ArrayList<PageEntry>();
+                                pageUpdates.add(next);
+                                ByteArraySegment upperBound = getUpperBound(page);
+                                while (updates.hasNext() && (upperBound == null || KEY_COMPARATOR.compare(updates.peek().getKey(), upperBound) < 0)) {
+                                    Preconditions.checkArgument(updates.peek().getKey().getLength() == this.leafPageConfig.getKeyLength(), "Invalid key length.");
+                                    pageUpdates.add(updates.next());
                                 }
 
-                                // Record the current update.
-                                lastPageUpdates.add(next);
+                                page.setEntryCountDelta(page.getEntryCountDelta() + page.getPage().update(pageUpdates));
                             });
                 },
                 this.executor)
-                .thenApplyAsync(v -> {
-                    // We need not forget to apply the last batch of updates from the last page.
-                    PageWrapper last = lastPage.get();
-                    if (last != null) {
-                        last.setEntryCountDelta(last.getPage().update(lastPageUpdates));
-                    }
-                    return pageCollection;
-                }, this.executor);
+                .thenApply(v -> pageCollection);
+    }
+
+    /**
+     * Gets the upper bound (exclusive) of the Keys that may be stored in the given Page. This is the Key of the Page that
+     * immediately follows it in the index, as recorded in its closest ancestor that has such a Page.
+     *
+     * @param page The PageWrapper to get the upper bound for. All of its ancestors must be loaded.
+     * @return The upper bound, or null if the Page is the last one in the index (no upper bound).
+     */
+    private ByteArraySegment getUpperBound(PageWrapper page) {
+        PageWrapper child = page;
+        PageWrapper parent = child.getParent();
+        while (parent != null) {
+            val parentPage = parent.getPage();
+            val searchResult = parentPage.search(child.getPointer().getKey(), 0);
+            assert searchResult.isExactMatch() : "child page pointer not found in parent";
+            if (searchResult.getPosition() < parentPage.getCount() - 1) {
+                return parentPage.getKeyAt(searchResult.getPosition() + 1);
+            }
+
+            child = parent;
+            parent = child.getParent();
+        }
+
+        return null;
     }
 
     /**
@@ -922,6 +995,184 @@ public class BTreeIndex {
 
     //endregion
 
+    //region BulkLoader
+
+    /**
+     * Builds a BTreeIndex bottom-up from sorted entries. Leaf Pages are filled with as many entries as they can hold and
+     * written once full; a Page Pointer to each written Page is added to an Index Page one level up, which is itself
+     * written once full, and so on. Only one Page per level (the one being filled) is held in memory at any time.
+     */
+    @NotThreadSafe
+    private class BulkLoader {
+        private final long startOffset;
+        private final List<List<PageEntry>> levels = new ArrayList<>();
+        private final List<WritePage> pendingPages = new ArrayList<>();
+        @Getter
+        private int pendingLength;
+        private long nextOffset;
+        private ByteArraySegment lastKey;
+        private PagePointer lastPagePointer;
+        private long entryCount;
+        private long pageCount;
+
+        BulkLoader(long startOffset) {
+            this.startOffset = startOffset;
+            this.nextOffset = startOffset;
+            this.levels.add(new ArrayList<>());
+        }
+
+        /**
+         * Adds a new entry. If this fills up a Leaf Page, the Page is built (and queued up for writing).
+         *
+         * @param entry The entry to add.
+         */
+        void add(PageEntry entry) {
+            Preconditions.checkArgument(entry.getKey().getLength() == leafPageConfig.getKeyLength(), "Invalid key length.");
+            Preconditions.checkArgument(entry.hasValue(), "Cannot bulk-load entries with no values.");
+            Preconditions.checkArgument(this.lastKey == null || KEY_COMPARATOR.compare(this.lastKey, entry.getKey()) < 0,
+                    "Entries must be sorted by key and no duplicates are allowed.");
+            this.lastKey = entry.getKey();
+            this.entryCount++;
+            addToLevel(0, entry);
+        }
+
+        /**
+         * Writes all the Pages built so far.
+         *
+         * @param timeout Timeout for the operation.
+         * @return A CompletableFuture that will indicate when the operation completed.
+         */
+        CompletableFuture<Void> writePending(Duration timeout) {
+            // None of these pages are reachable yet. Follow them by a footer with no root page, so that the index would
+            // be read as empty (and not as garbage) should the bulk load be interrupted. There is no valid data prior
+            // to where we started (the index was empty), so that may be truncated out.
+            addPending(getFooter(PagePointer.NO_OFFSET, 0), false);
+            val pages = new ArrayList<WritePage>(this.pendingPages);
+            this.pendingPages.clear();
+            this.pendingLength = 0;
+            return write.apply(pages, getObsoleteFooterOffsets(), this.startOffset, timeout)
+                    .thenAccept(indexLength -> setState(indexLength, PagePointer.NO_OFFSET, 0));
+        }
+
+        /**
+         * Builds the remaining (partially filled) Pages, including the root Page, and writes them along with the footer.
+         *
+         * @param timeout Timeout for the operation.
+         * @return A CompletableFuture that will contain the offset of the footer, or null if nothing was loaded.
+         */
+        @SneakyThrows(IOException.class)
+        CompletableFuture<Long> complete(Duration timeout) {
+            if (this.entryCount == 0) {
+                // Nothing to load.
+                return CompletableFuture.completedFuture(null);
+            }
+
+            // Build the last Page at each level, from the bottom up. The root is the only Page at the top level.
+            PagePointer root = null;
+            for (int level = 0; root == null; level++) {
+                val entries = this.levels.get(level);
+                boolean isTopLevel = level == this.levels.size() - 1;
+                if (isTopLevel && level > 0 && entries.size() == 1) {
+                    // The last Page we built is the only one at its level; no need for a root with a single Page Pointer.
+                    root = this.lastPagePointer;
+                } else if (isTopLevel) {
+                    root = buildPage(level);
+                } else if (!entries.isEmpty()) {
+                    addToLevel(level + 1, toIndexEntry(buildPage(level)));
+                }
+            }
+
+            assert this.lastPagePointer == root : "root is not the last page";
+            Statistics newStats = null;
+            if (maintainStatistics) {
+                // Stats are stored immediately after the root page.
+                newStats = Statistics.builder().entryCount(this.entryCount).pageCount(this.pageCount).build();
+                addPending(Statistics.SERIALIZER.serialize(newStats), false);
+            }
+
+            final long footerOffset = this.nextOffset;
+            addPending(getFooter(root.getOffset(), root.getLength()), false);
+
+            final Collection<Long> oldOffsets = getObsoleteFooterOffsets();
+            final Statistics stats = newStats;
+            final long rootOffset = root.getOffset();
+            final int rootLength = root.getLength();
+            log.info("{}: Bulk-loaded {} entries into {} pages ({} bytes).", traceObjectId, this.entryCount, this.pageCount,
+                    this.nextOffset - this.startOffset);
+            return write.apply(new ArrayList<>(this.pendingPages), oldOffsets, this.startOffset, timeout)
+                    .thenApply(indexLength -> {
+                        statistics = stats;
+                        setState(indexLength, rootOffset, rootLength);
+                        return footerOffset;
+                    });
+        }
+
+        private void addToLevel(int level, PageEntry entry) {
+            if (level == this.levels.size()) {
+                this.levels.add(new ArrayList<>());
+            }
+
+            val entries = this.levels.get(level);
+            entries.add(entry);
+            val config = level == 0 ? leafPageConfig : indexPageConfig;
+            if (entries.size() == config.getMaxEntryCount()) {
+                addToLevel(level + 1, toIndexEntry(buildPage(level)));
+            }
+        }
+
+        /**
+         * Builds a Page out of the entries collected for the given level and queues it up for writing.
+         *
+         * @param level The level.
+         * @return A PagePointer for the new Page.
+         */
+        private PagePointer buildPage(int level) {
+            val entries = this.levels.get(level);
+            this.levels.set(level, new ArrayList<>());
+            BTreePage page;
+            long minOffset = this.nextOffset;
+            if (level == 0) {
+                page = createEmptyLeafPage();
+            } else {
+                page = createEmptyIndexPage();
+                for (val e : entries) {
+                    minOffset = Math.min(minOffset, deserializePointerMinOffset(e.getValue()));
+                }
+            }
+
+            page.update(entries);
+            if (level > 0) {
+                // Index Pages begin with the minimum possible key (see updateFirstKey()). Their parents still point to
+                // them using their actual first key, which is the key of their first child.
+                page.setFirstKey(generateMinKey());
+            }
+
+            long offset = this.nextOffset;
+            addPending(page.getContents(), true);
+            this.pageCount++;
+            this.lastPagePointer = new PagePointer(entries.get(0).getKey(), offset, page.getLength(), minOffset);
+            return this.lastPagePointer;
+        }
+
+        private Collection<Long> getObsoleteFooterOffsets() {
+            // The last footer we wrote (or the one that existed before we began) will be replaced by the one we are about to write.
+            long oldFooterOffset = getFooterOffset(state.length);
+            return oldFooterOffset >= 0 ? Collections.singletonList(oldFooterOffset) : Collections.emptyList();
+        }
+
+        private PageEntry toIndexEntry(PagePointer pointer) {
+            return new PageEntry(pointer.getKey(), serializePointer(pointer));
+        }
+
+        private void addPending(ByteArraySegment contents, boolean cache) {
+            this.pendingPages.add(new WritePage(this.nextOffset, contents, cache));
+            this.pendingLength += contents.getLength();
+            this.nextOffset += contents.getLength();
+        }
+    }
+
+    //endregion
+
     //region IndexState
 
     @RequiredArgsConstructor
@@ -21,6 +21,7 @@ import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.IllegalDataFormatException;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -33,36 +34,49 @@ import lombok.val;
 /**
  * B+Tree Page containing raw data. Wraps around a ByteArraySegment and formats it using a special layout.
  *
- * Format: Header|Data|Footer
+ * Format (Version 0): Header|Data|Footer
  * * Header: FormatVersion(1)|Flags(1)|Id(4)|Count(4)
  * * Data: List{Key(KL)|Value(VL)}
  * * Footer: Id(4)
  *
+ * Format (Version 1): Header|Data|Footer
+ * * Header: FormatVersion(1)|Flags(1)|Id(4)|Count(4)|PrefixLength(2)|Prefix(PL)
+ * * Data: List{KeySuffix(KL-PL)|Value(VL)}
+ * * Footer: Id(4)
+ *
  * The Header contains:
- * * The current format version
+ * * The format version
  * * A set of flags that apply to this Page. Currently the only one used is to identify if it is an Index or Leaf page.
  * * A randomly generated Page Identifier.
  * * The number of items in the Page.
+ * * (Version 1 only) The longest prefix shared by all the Keys in the Page.
  *
  * The Data contains:
  * * A list of Keys and Values, sorted by Key (using ByteArrayComparator). The length of this list is defined in the Header.
+ * In Version 1, the Keys are stored without the Prefix defined in the Header. Entries have the same length within a Page
+ * in both versions, so the offset of every entry is derived from its position and searches are binary searches over
+ * the (unprefixed) Keys.
  *
  * The Footer contains:
  * * The same Page Identifier as in the Header. When wrapping an existing ByteArraySegment, this value is matched to the
  * one in the Header to ensure the Page was loaded correctly.
  *
+ * Pages of either version can be read. Pages that are structurally modified (inserts, removals, splits) are rewritten
+ * using Version 1 if {@link Config#isKeyPrefixCompression()} is set and their Keys share a prefix long enough to make
+ * the Page smaller, and using Version 0 otherwise. In-place value updates preserve the version of the Page.
  */
 @NotThreadSafe
 class BTreePage {
     //region Format
 
     /**
-     * Format Version related fields. The version itself is the first byte of the serialization. When we will have to
-     * support multiple versions, we will need to read this byte and choose the appropriate deserialization approach.
+     * Format Version related fields. The version itself is the first byte of the serialization, and it determines how
+     * the rest of the Page is laid out.
      * We cannot use VersionedSerializer in here - doing so would prevent us from efficiently querying and modifying the
      * page contents itself, as it would force us to load everything in memory (as objects) and then reserialize them.
      */
-    private static final byte CURRENT_VERSION = 0;
+    private static final byte VERSION_0 = 0;
+    private static final byte VERSION_1 = 1;
     private static final int VERSION_OFFSET = 0;
     private static final int VERSION_LENGTH = 1; // Maximum 256 versions.
 
@@ -88,9 +102,11 @@ class BTreePage {
     private static final int COUNT_LENGTH = 4; // Allows overflowing, but needed in order to do splits.
 
     /**
-     * Data (contents).
+     * Key Prefix (Version 1 only): the length of the Prefix followed by the Prefix itself.
      */
-    private static final int DATA_OFFSET = COUNT_OFFSET + COUNT_LENGTH;
+    private static final int PREFIX_LENGTH_OFFSET = COUNT_OFFSET + COUNT_LENGTH;
+    private static final int PREFIX_LENGTH_LENGTH = 2; // Keys cannot be longer than a Page.
+    private static final int PREFIX_OFFSET = PREFIX_LENGTH_OFFSET + PREFIX_LENGTH_LENGTH;
 
     /**
      * Footer: Contains just the Page Id, which should match the value written in the Header.
@@ -110,7 +126,7 @@ class BTreePage {
     @Getter
     private ByteArraySegment contents;
     /**
-     * The Footer section of the BTreePage ByteArraySegment.
+     * The Header section of the BTreePage ByteArraySegment (including the Key Prefix, if any).
      */
     private ByteArraySegment header;
     /**
@@ -128,6 +144,18 @@ class BTreePage {
      */
     @Getter
     private int count;
+    /**
+     * The length of the Key Prefix shared by all Keys in this BTreePage. Always 0 for Version 0 Pages.
+     */
+    private int prefixLength;
+    /**
+     * The length of each Key, as stored in the Data section (without the Key Prefix).
+     */
+    private int keySuffixLength;
+    /**
+     * The length of each entry, as stored in the Data section.
+     */
+    private int entryLength;
 
     //endregion
 
@@ -139,8 +167,7 @@ class BTreePage {
      * @param config Page Configuration.
      */
     BTreePage(Config config) {
-        this(config, new ByteArraySegment(new byte[DATA_OFFSET + FOOTER_LENGTH]), false);
-        formatHeaderAndFooter(this.count, ID_GENERATOR.nextInt());
+        this(config, 0, null, ID_GENERATOR.nextInt());
     }
 
     /**
@@ -156,18 +183,18 @@ class BTreePage {
     }
 
     /**
-     * Creates a new instance of the BTreePage class wrapping the given Data Items (no header or footer).
+     * Creates a new instance of the BTreePage class with room for the given number of items. The Data section is not
+     * initialized.
      *
-     * @param config Page Configuration.
-     * @param count  Number of items in data.
-     * @param data   A ByteArraySegment containing a list of Key-Value pairs to include. The contents of this ByteArraySegment
-     *               will be copied into a new buffer, so changes to this BTreePage will not affect it.
-     */
-    private BTreePage(Config config, int count, ByteArraySegment data) {
-        this(config, new ByteArraySegment(new byte[DATA_OFFSET + data.getLength() + FOOTER_LENGTH]), false);
-        Preconditions.checkArgument(count * config.entryLength == data.getLength(), "Unexpected data length given the count.");
-        formatHeaderAndFooter(count, ID_GENERATOR.nextInt());
-        this.data.copyFrom(data, 0, data.getLength());
+     * @param config    Page Configuration.
+     * @param count     Number of items in the Page.
+     * @param keyPrefix A ByteArraySegment containing the Key Prefix shared by all the items that will be stored in the
+     *                  Page, or null if none. Must be null if the Config does not use Key Prefix Compression. This is
+     *                  ignored if using it would not make the Page smaller (see {@link #format}).
+     * @param id        The Page Id.
+     */
+    private BTreePage(Config config, int count, ByteArraySegment keyPrefix, int id) {
+        this(config, format(config, count, keyPrefix, id), false);
     }
 
     /**
@@ -177,13 +204,30 @@ class BTreePage {
      * @param contents The ByteArraySegment to wrap. Changes to this BTreePage may change the values in the array backing
      *                 this ByteArraySegment.
      * @param validate If true, will perform validation.
-     * @throws IllegalDataFormatException If the given contents is not a valid BTreePage format and validate == true.
+     * @throws IllegalDataFormatException If the given contents is not a valid BTreePage format and validate == true, or
+     *                                    if it has an unsupported format version.
      */
     private BTreePage(@NonNull Config config, @NonNull ByteArraySegment contents, boolean validate) {
         this.config = config;
         this.contents = contents;
-        this.header = contents.slice(0, DATA_OFFSET);
-        this.data = contents.slice(DATA_OFFSET, contents.getLength() - DATA_OFFSET - FOOTER_LENGTH);
+        byte version = contents.get(VERSION_OFFSET);
+        if (version == VERSION_0) {
+            this.prefixLength = 0;
+        } else if (version == VERSION_1) {
+            this.prefixLength = contents.getShort(PREFIX_LENGTH_OFFSET);
+            if (this.prefixLength < 0 || this.prefixLength > config.keyLength) {
+                throw new IllegalDataFormatException("Invalid Page Format (prefix length). PrefixLength=%s, KeyLength=%s.",
+                        this.prefixLength, config.keyLength);
+            }
+        } else {
+            throw new IllegalDataFormatException("Unsupported Page Format version: %s.", version);
+        }
+
+        this.keySuffixLength = config.keyLength - this.prefixLength;
+        this.entryLength = config.entryLength - this.prefixLength;
+        int headerLength = getHeaderLength(version, this.prefixLength);
+        this.header = contents.slice(0, headerLength);
+        this.data = contents.slice(headerLength, contents.getLength() - headerLength - FOOTER_LENGTH);
         this.footer = contents.slice(contents.getLength() - FOOTER_LENGTH, FOOTER_LENGTH);
         if (validate) {
             int headerId = getHeaderId();
@@ -198,20 +242,45 @@ class BTreePage {
     }
 
     /**
-     * Formats the Header and Footer of this BTreePage with the given information.
+     * Allocates and formats the Header and Footer of a new BTreePage. The Key Prefix is only used (Version 1) if the Config
+     * enables Key Prefix Compression and if doing so results in a smaller BTreePage than not using it (Version 0).
      *
-     * @param itemCount The number of items in this BTreePage.
-     * @param id        The Id of this BTreePage.
-     */
-    private void formatHeaderAndFooter(int itemCount, int id) {
+     * @param config    Page Configuration.
+     * @param itemCount The number of items in the BTreePage.
+     * @param keyPrefix The Key Prefix, or null if none.
+     * @param id        The Id of the BTreePage.
+     * @return A new ByteArraySegment with the Header and Footer formatted and a Data section of the appropriate length.
+     */
+    private static ByteArraySegment format(Config config, int itemCount, ByteArraySegment keyPrefix, int id) {
+        int prefixLength = keyPrefix == null ? 0 : keyPrefix.getLength();
+        Preconditions.checkArgument(config.keyPrefixCompression || prefixLength == 0, "Key Prefix Compression is not enabled.");
+
+        // Storing the Key Prefix saves PrefixLength bytes per item, but it costs PrefixLength + PREFIX_LENGTH_LENGTH bytes.
+        byte version = prefixLength > 0 && prefixLength * (itemCount - 1) > PREFIX_LENGTH_LENGTH ? VERSION_1 : VERSION_0;
+        if (version == VERSION_0) {
+            prefixLength = 0;
+        }
+
+        int headerLength = getHeaderLength(version, prefixLength);
+        val contents = new ByteArraySegment(new byte[headerLength + itemCount * (config.entryLength - prefixLength) + FOOTER_LENGTH]);
+
         // Header.
-        this.header.set(VERSION_OFFSET, CURRENT_VERSION);
-        this.header.set(FLAGS_OFFSET, getFlags(this.config.isIndexPage ? FLAG_INDEX_PAGE : FLAG_NONE));
-        setHeaderId(id);
-        setCount(itemCount);
+        contents.set(VERSION_OFFSET, version);
+        contents.set(FLAGS_OFFSET, config.isIndexPage ? FLAG_INDEX_PAGE : FLAG_NONE);
+        contents.setInt(ID_OFFSET, id);
+        contents.setInt(COUNT_OFFSET, itemCount);
+        if (version == VERSION_1) {
+            contents.setShort(PREFIX_LENGTH_OFFSET, (short) prefixLength);
+            contents.copyFrom(keyPrefix, PREFIX_OFFSET, prefixLength);
+        }
 
         // Matching footer.
-        setFooterId(id);
+        contents.setInt(contents.getLength() - FOOTER_LENGTH, id);
+        return contents;
+    }
+
+    private static int getHeaderLength(byte version, int prefixLength) {
+        return version == VERSION_0 ? PREFIX_LENGTH_OFFSET : PREFIX_OFFSET + prefixLength;
     }
 
     //endregion
@@ -256,20 +325,28 @@ class BTreePage {
      */
     ByteArraySegment getValueAt(int pos) {
         Preconditions.checkElementIndex(pos, getCount(), "pos must be non-negative and smaller than the number of items.");
-        return this.data.slice(pos * this.config.entryLength + this.config.keyLength, this.config.valueLength);
+        return this.data.slice(pos * this.entryLength + this.keySuffixLength, this.config.valueLength);
     }
 
     /**
      * Gets the Key at the given Position.
      *
      * @param pos The Position to get the Key at.
-     * @return A ByteArraySegment containing the Key at the given Position. Note that this is a view inside a larger array
-     * and any modifications to that array will be reflected in this. If this value needs to be held for
-     * longer then it is recommended to get a copy of it (use getCopy()).
+     * @return A ByteArraySegment containing the Key at the given Position. If this BTreePage has no Key Prefix, this is
+     * a view inside a larger array and any modifications to that array will be reflected in this; if this value needs to
+     * be held for longer then it is recommended to get a copy of it (use getCopy()). Otherwise this is a new array.
      */
     ByteArraySegment getKeyAt(int pos) {
         Preconditions.checkElementIndex(pos, getCount(), "pos must be non-negative and smaller than the number of items.");
-        return this.data.slice(pos * this.config.entryLength, this.config.keyLength);
+        if (this.prefixLength == 0) {
+            return this.data.slice(pos * this.entryLength, this.config.keyLength);
+        }
+
+        // The Key is split between the Header (Prefix) and the Data section, so we need to put it back together.
+        val result = new ByteArraySegment(new byte[this.config.keyLength]);
+        result.copyFrom(this.header, PREFIX_OFFSET, 0, this.prefixLength);
+        result.copyFrom(this.data, pos * this.entryLength, this.prefixLength, this.keySuffixLength);
+        return result;
     }
 
     /**
@@ -284,7 +361,17 @@ class BTreePage {
         Preconditions.checkArgument(KEY_COMPARATOR.compare(newKey, getKeyAt(0)) <= 0,
                 "Replacement first Key must be smaller than or equal to the existing first key.");
 
-        this.data.copyFrom(newKey, 0, newKey.getLength());
+        if (comparePrefix(newKey) == 0) {
+            this.data.copyFrom(newKey, this.prefixLength, 0, this.keySuffixLength);
+        } else {
+            // The new key does not begin with our Key Prefix. Rewrite this Page using a shorter one.
+            ByteArraySegment lastKey = getCount() == 1 ? newKey : getKeyAt(getCount() - 1);
+            int newPrefixLength = getNewPrefixLength(newKey, lastKey);
+            val newPage = new BTreePage(this.config, getCount(), newPrefixLength == 0 ? null : newKey.slice(0, newPrefixLength), getHeaderId());
+            copyEntries(0, newPage, 0, getCount());
+            newPage.data.copyFrom(newKey, newPage.prefixLength, 0, newPage.keySuffixLength);
+            replaceContents(newPage);
+        }
     }
 
     /**
@@ -292,14 +379,11 @@ class BTreePage {
      *
      * @param pos The position to get the value at.
      * @return A PageEntry containing the entry at the given Position. Note that the ByteArraySegments returned by this
-     * PageEntry's getKey() and getValue() are views inside a larger array and any modifications to that array will be
+     * PageEntry's getKey() and getValue() may be views inside a larger array and any modifications to that array will be
      * reflected in them. If this value needs to be held for longer then it is recommended to get a copy of it (use getCopy()).
      */
     PageEntry getEntryAt(int pos) {
-        Preconditions.checkElementIndex(pos, getCount(), "pos must be non-negative and smaller than the number of items.");
-        return new PageEntry(
-                this.data.slice(pos * this.config.entryLength, this.config.keyLength),
-                this.data.slice(pos * this.config.entryLength + this.config.keyLength, this.config.valueLength));
+        return new PageEntry(getKeyAt(pos), getValueAt(pos));
     }
 
     /**
@@ -339,12 +423,16 @@ class BTreePage {
         }
 
         // Calculate how many pages to split into. While doing so, take care to account that we may only have whole entries
-        // in each page, and not partial ones.
-        int maxDataLength = (this.config.getMaxPageSize() - this.header.getLength() - this.footer.getLength()) / this.config.entryLength * this.config.entryLength;
-        int remainingPageCount = (int) Math.ceil((double) this.data.getLength() / maxDataLength);
+        // in each page, and not partial ones. The Keys in each split page share at least our Key Prefix (if the split
+        // pages are to be compressed at all), and neither a longer Key Prefix nor falling back to Version 0 (which only
+        // happens if it is smaller) can make a page larger, so we use that to calculate the number of entries that fit.
+        int minPrefixLength = this.config.keyPrefixCompression ? this.prefixLength : 0;
+        int splitHeaderLength = getHeaderLength(minPrefixLength > 0 ? VERSION_1 : VERSION_0, minPrefixLength);
+        int maxItemsPerPage = (this.config.getMaxPageSize() - splitHeaderLength - FOOTER_LENGTH) / (this.config.entryLength - minPrefixLength);
+        int remainingPageCount = (int) Math.ceil((double) getCount() / maxItemsPerPage);
 
         ArrayList<BTreePage> result = new ArrayList<>(remainingPageCount);
-        int readIndex = 0;
+        int readPos = 0;
         int remainingItems = getCount();
         while (remainingPageCount > 0) {
             // Calculate how many items to include in this split page. This is the average of the remaining items over
@@ -353,16 +441,19 @@ class BTreePage {
             int itemsPerPage = remainingItems / remainingPageCount;
 
             // Copy data over to the new page.
-            ByteArraySegment splitPageData = this.data.slice(readIndex, itemsPerPage * this.config.entryLength);
-            result.add(new BTreePage(this.config, itemsPerPage, splitPageData));
+            int newPrefixLength = getNewPrefixLength(getKeyAt(readPos), getKeyAt(readPos + itemsPerPage - 1));
+            val splitPage = new BTreePage(this.config, itemsPerPage,
+                    newPrefixLength == 0 ? null : getKeyAt(readPos).slice(0, newPrefixLength), ID_GENERATOR.nextInt());
+            copyEntries(readPos, splitPage, 0, itemsPerPage);
+            result.add(splitPage);
 
             // Update pointers.
-            readIndex += splitPageData.getLength();
+            readPos += itemsPerPage;
             remainingPageCount--;
             remainingItems -= itemsPerPage;
         }
 
-        assert readIndex == this.data.getLength() : "did not copy everything";
+        assert readPos == getCount() : "did not copy everything";
         return result;
     }
 
@@ -393,15 +484,8 @@ class BTreePage {
         }
 
         val newPage = applyInsertsAndRemovals(ci);
-
-        // Make sure we swap all the segments with those from the new page. We need to release all pointers to our
-        // existing buffers.
-        this.header = newPage.header;
-        this.data = newPage.data;
-        this.contents = newPage.contents;
-        this.footer = newPage.footer;
         val delta = newPage.count - this.count;
-        this.count = newPage.count;
+        replaceContents(newPage);
         return delta;
     }
 
@@ -436,13 +520,24 @@ class BTreePage {
         // to adjust by using entryLength.
         int endPos = getCount();
         Preconditions.checkArgument(startPos <= endPos, "startPos must be non-negative and smaller than the number of items.");
+        if (this.prefixLength > 0 && startPos < endPos) {
+            // All our Keys begin with the Key Prefix. If the sought key does not, it is either smaller or larger than all of them.
+            int c = comparePrefix(key);
+            if (c < 0) {
+                return new SearchResult(startPos, false);
+            } else if (c > 0) {
+                return new SearchResult(endPos, false);
+            }
+        }
+
+        int keyOffset = key.arrayOffset() + this.prefixLength;
         while (startPos < endPos) {
             // Locate the Key in the middle.
             int midPos = startPos + (endPos - startPos) / 2;
 
             // Compare it to the sought key.
-            int c = KEY_COMPARATOR.compare(key.array(), key.arrayOffset(),
-                    this.data.array(), this.data.arrayOffset() + midPos * this.config.entryLength, this.config.keyLength);
+            int c = KEY_COMPARATOR.compare(key.array(), keyOffset,
+                    this.data.array(), this.data.arrayOffset() + midPos * this.entryLength, this.keySuffixLength);
             if (c == 0) {
                 // Exact match.
                 return new SearchResult(midPos, true);
@@ -523,52 +618,152 @@ class BTreePage {
         int newCount = getCount() + ci.insertCount - ci.deleteCount;
 
         // Allocate new buffer of the correct size and start copying from the old one.
-        val newPage = new BTreePage(this.config, new ByteArraySegment(new byte[DATA_OFFSET + newCount * this.config.entryLength + FOOTER_LENGTH]), false);
-        newPage.formatHeaderAndFooter(newCount, getHeaderId());
-        int readIndex = 0;
-        int writeIndex = 0;
+        val keyPrefix = getNewKeyPrefix(ci, newCount);
+        val newPage = new BTreePage(this.config, newCount, keyPrefix, getHeaderId());
+        int readPos = 0;
+        int writePos = 0;
         for (val e : ci.changes) {
-            int entryIndex = e.getKey() * this.config.entryLength;
-            if (entryIndex > readIndex) {
+            int entryPos = e.getKey();
+            if (entryPos > readPos) {
                 // Copy from source.
-                int length = entryIndex - readIndex;
-                assert length % this.config.entryLength == 0;
-                newPage.data.copyFrom(this.data, readIndex, writeIndex, length);
-                writeIndex += length;
+                copyEntries(readPos, newPage, writePos, entryPos - readPos);
+                writePos += entryPos - readPos;
             }
 
             // Write new Entry.
             PageEntry entryContents = e.getValue();
-            readIndex = entryIndex;
+            readPos = entryPos;
             if (entryContents != null) {
                 // Insert new PageEntry.
-                newPage.setEntryAtIndex(writeIndex, entryContents);
-                writeIndex += this.config.entryLength;
+                newPage.setEntryAtPosition(writePos, entryContents);
+                writePos++;
             } else {
                 // This PageEntry has been deleted. Skip over it.
-                readIndex += this.config.getEntryLength();
+                readPos++;
             }
-
         }
 
-        if (readIndex < this.data.getLength()) {
+        if (readPos < getCount()) {
             // Copy the last part that we may have missed.
-            int length = this.data.getLength() - readIndex;
-            newPage.data.copyFrom(this.data, readIndex, writeIndex, length);
+            copyEntries(readPos, newPage, writePos, getCount() - readPos);
         }
 
         return newPage;
     }
 
     /**
-     * Updates the Header of this BTreePage to reflect that it contains the given number of items. This does not perform
-     * any resizing.
+     * Determines the Key Prefix of the BTreePage that results from applying the given changes to this one. Since Keys are
+     * sorted, this is the longest common prefix of the smallest and largest Keys in the result.
      *
-     * @param itemCount The count to set.
+     * @param ci       A {@link ChangeInfo} object containing information to change.
+     * @param newCount The number of items in the resulting BTreePage.
+     * @return A ByteArraySegment containing the Key Prefix, or null if there is none.
      */
-    private void setCount(int itemCount) {
-        this.header.setInt(COUNT_OFFSET, itemCount);
-        this.count = itemCount;
+    private ByteArraySegment getNewKeyPrefix(ChangeInfo ci, int newCount) {
+        if (!this.config.keyPrefixCompression || newCount == 0) {
+            return null;
+        }
+
+        // The smallest and largest Keys are among the first and last inserted Keys and the first and last remaining Keys.
+        val deleted = new BitSet();
+        ByteArraySegment firstKey = null;
+        ByteArraySegment lastKey = null;
+        for (val e : ci.changes) {
+            if (e.getValue() == null) {
+                deleted.set(e.getKey());
+            } else {
+                firstKey = firstKey == null ? e.getValue().getKey() : firstKey;
+                lastKey = e.getValue().getKey();
+            }
+        }
+
+        int firstRemaining = deleted.nextClearBit(0);
+        if (firstRemaining < getCount()) {
+            val key = getKeyAt(firstRemaining);
+            firstKey = firstKey == null || KEY_COMPARATOR.compare(key, firstKey) < 0 ? key : firstKey;
+            val lastRemainingKey = getKeyAt(deleted.previousClearBit(getCount() - 1));
+            lastKey = lastKey == null || KEY_COMPARATOR.compare(lastRemainingKey, lastKey) > 0 ? lastRemainingKey : lastKey;
+        }
+
+        int newPrefixLength = getNewPrefixLength(firstKey, lastKey);
+        return newPrefixLength == 0 ? null : firstKey.slice(0, newPrefixLength);
+    }
+
+    /**
+     * Calculates the length of the Key Prefix for a BTreePage whose smallest and largest Keys are the given ones.
+     *
+     * @param firstKey The smallest Key.
+     * @param lastKey  The largest Key.
+     * @return The length of the Key Prefix, or 0 if Key Prefix Compression is not enabled.
+     */
+    private int getNewPrefixLength(ByteArraySegment firstKey, ByteArraySegment lastKey) {
+        if (!this.config.keyPrefixCompression) {
+            return 0;
+        }
+
+        int length = 0;
+        while (length < this.config.keyLength && firstKey.get(length) == lastKey.get(length)) {
+            length++;
+        }
+
+        return length;
+    }
+
+    /**
+     * Compares the first bytes of the given Key to this BTreePage's Key Prefix.
+     *
+     * @param key The Key to compare.
+     * @return 0 if the Key begins with the Key Prefix, a negative value if it is smaller, or a positive value if it is larger.
+     */
+    private int comparePrefix(ByteArraySegment key) {
+        return KEY_COMPARATOR.compare(key.array(), key.arrayOffset(),
+                this.header.array(), this.header.arrayOffset() + PREFIX_OFFSET, this.prefixLength);
+    }
+
+    /**
+     * Copies entries from this BTreePage into the given one, adjusting their Keys to the target's Key Prefix. All the
+     * Keys being copied must begin with the target's Key Prefix.
+     *
+     * @param sourcePos The position of the first entry to copy.
+     * @param target    The BTreePage to copy to.
+     * @param targetPos The position in the target BTreePage to copy the first entry to.
+     * @param count     The number of entries to copy.
+     */
+    private void copyEntries(int sourcePos, BTreePage target, int targetPos, int count) {
+        int delta = target.prefixLength - this.prefixLength;
+        if (delta == 0) {
+            // Same Key Prefix length; entries have the same layout.
+            target.data.copyFrom(this.data, sourcePos * this.entryLength, targetPos * target.entryLength, count * this.entryLength);
+        } else if (delta > 0) {
+            // The target has a longer Key Prefix. Skip over the bytes that it already contains.
+            for (int i = 0; i < count; i++) {
+                target.data.copyFrom(this.data, (sourcePos + i) * this.entryLength + delta, (targetPos + i) * target.entryLength, target.entryLength);
+            }
+        } else {
+            // The target has a shorter Key Prefix. Prepend the bytes of our Key Prefix that it does not contain.
+            for (int i = 0; i < count; i++) {
+                int targetOffset = (targetPos + i) * target.entryLength;
+                target.data.copyFrom(this.header, PREFIX_OFFSET + target.prefixLength, targetOffset, -delta);
+                target.data.copyFrom(this.data, (sourcePos + i) * this.entryLength, targetOffset - delta, this.entryLength);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of this BTreePage with the ones of the given BTreePage. We need to release all pointers to
+     * our existing buffers.
+     *
+     * @param newPage The BTreePage to replace the contents with.
+     */
+    private void replaceContents(BTreePage newPage) {
+        this.header = newPage.header;
+        this.data = newPage.data;
+        this.contents = newPage.contents;
+        this.footer = newPage.footer;
+        this.count = newPage.count;
+        this.prefixLength = newPage.prefixLength;
+        this.keySuffixLength = newPage.keySuffixLength;
+        this.entryLength = newPage.entryLength;
     }
 
     /**
@@ -580,24 +775,17 @@ class BTreePage {
     private void setValueAtPosition(int pos, ByteArraySegment value) {
         Preconditions.checkElementIndex(pos, getCount(), "pos must be non-negative and smaller than the number of items.");
         Preconditions.checkArgument(value.getLength() == this.config.valueLength, "Given value has incorrect length.");
-        this.data.copyFrom(value, pos * this.config.entryLength + this.config.keyLength, value.getLength());
+        this.data.copyFrom(value, pos * this.entryLength + this.keySuffixLength, value.getLength());
     }
 
-    private void setEntryAtIndex(int dataIndex, PageEntry entry) {
-        Preconditions.checkElementIndex(dataIndex, this.data.getLength(), "dataIndex must be non-negative and smaller than the size of the data.");
+    private void setEntryAtPosition(int pos, PageEntry entry) {
+        Preconditions.checkElementIndex(pos, getCount(), "pos must be non-negative and smaller than the number of items.");
         Preconditions.checkArgument(entry.getKey().getLength() == this.config.keyLength, "Given entry key has incorrect length.");
         Preconditions.checkArgument(entry.getValue().getLength() == this.config.valueLength, "Given entry value has incorrect length.");
 
-        this.data.copyFrom(entry.getKey(), dataIndex, entry.getKey().getLength());
-        this.data.copyFrom(entry.getValue(), dataIndex + this.config.keyLength, entry.getValue().getLength());
-    }
-
-    private byte getFlags(byte... flags) {
-        byte result = 0;
-        for (byte f : flags) {
-            result |= f;
-        }
-        return result;
+        int dataIndex = pos * this.entryLength;
+        this.data.copyFrom(entry.getKey(), this.prefixLength, dataIndex, this.keySuffixLength);
+        this.data.copyFrom(entry.getValue(), dataIndex + this.keySuffixLength, entry.getValue().getLength());
     }
 
     /**
@@ -614,20 +802,6 @@ class BTreePage {
         return this.footer.getInt(0);
     }
 
-    /**
-     * Updates the Header to contain the given id.
-     */
-    private void setHeaderId(int id) {
-        this.header.setInt(ID_OFFSET, id);
-    }
-
-    /**
-     * Updates the Footer to contain the given id.
-     */
-    private void setFooterId(int id) {
-        this.footer.setInt(0, id);
-    }
-
     //endregion
 
     //region ChangeInfo
@@ -683,9 +857,14 @@ class BTreePage {
          * Whether this is an Index Page or not.
          */
         private final boolean isIndexPage;
+        /**
+         * Whether new or restructured BTreePages should store the prefix shared by their Keys only once (Version 1), or
+         * use the uncompressed format (Version 0).
+         */
+        private final boolean keyPrefixCompression;
 
         /**
-         * Creates a new instance of the BTreePage.Config class.
+         * Creates a new instance of the BTreePage.Config class that does not use Key Prefix Compression.
          *
          * @param keyLength   The length, in bytes, of all Keys.
          * @param valueLength The length, in bytes, of all Values.
@@ -693,16 +872,40 @@ class BTreePage {
          * @param isIndexPage Whether this is an Index Page or not.
          */
         Config(int keyLength, int valueLength, int maxPageSize, boolean isIndexPage) {
+            this(keyLength, valueLength, maxPageSize, isIndexPage, false);
+        }
+
+        /**
+         * Creates a new instance of the BTreePage.Config class.
+         *
+         * @param keyLength            The length, in bytes, of all Keys.
+         * @param valueLength          The length, in bytes, of all Values.
+         * @param maxPageSize          Maximum length, in bytes, of any BTreePage.
+         * @param isIndexPage          Whether this is an Index Page or not.
+         * @param keyPrefixCompression Whether to use Key Prefix Compression (Version 1) for new or restructured BTreePages.
+         */
+        Config(int keyLength, int valueLength, int maxPageSize, boolean isIndexPage, boolean keyPrefixCompression) {
             Preconditions.checkArgument(maxPageSize <= MAX_PAGE_SIZE, "maxPageSize must be at most %s, given %s.", MAX_PAGE_SIZE, maxPageSize);
             Preconditions.checkArgument(keyLength > 0, "keyLength must be a positive integer.");
             Preconditions.checkArgument(valueLength > 0, "valueLength must be a positive integer.");
-            Preconditions.checkArgument(keyLength + valueLength + DATA_OFFSET + FOOTER_LENGTH <= maxPageSize,
+            Preconditions.checkArgument(keyLength + valueLength + getHeaderLength(VERSION_0, 0) + FOOTER_LENGTH <= maxPageSize,
                     "maxPageSize must be able to fit at least one entry.");
             this.keyLength = keyLength;
             this.valueLength = valueLength;
             this.entryLength = this.keyLength + this.valueLength;
             this.maxPageSize = maxPageSize;
             this.isIndexPage = isIndexPage;
+            this.keyPrefixCompression = keyPrefixCompression;
+        }
+
+        /**
+         * Gets the maximum number of entries that a BTreePage with this configuration can hold without exceeding
+         * {@link #getMaxPageSize()}, regardless of the format version it is written in.
+         *
+         * @return The maximum number of entries.
+         */
+        int getMaxEntryCount() {
+            return (this.maxPageSize - getHeaderLength(VERSION_0, 0) - FOOTER_LENGTH) / this.entryLength;
         }
     }
 
@@ -16,8 +16,10 @@
 package io.pravega.common.util.btree;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.io.ByteBufferOutputStream;
+import io.pravega.common.util.AsyncIterator;
 import io.pravega.common.util.BufferViewComparator;
 import io.pravega.common.util.ByteArraySegment;
 import io.pravega.test.common.AssertExtensions;
@@ -31,6 +33,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -416,6 +419,187 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         Assert.assertNull(index4.getStatistics());
     }
 
+    /**
+     * Tests the {@link BTreeIndex#bulkLoad} method.
+     */
+    @Test
+    public void testBulkLoad() {
+        val counts = Arrays.asList(0, 1, MAX_ENTRIES_PER_PAGE, MAX_ENTRIES_PER_PAGE + 1, 10000);
+        for (int count : counts) {
+            // Use a small write length so that we exercise loads that span multiple writes.
+            testBulkLoad(count, 10, MAX_PAGE_SIZE * 10);
+        }
+    }
+
+    /**
+     * Tests that the {@link BTreeIndex#bulkLoad} method writes less data than updating the index with the same entries.
+     */
+    @Test
+    public void testBulkLoadWriteAmplification() {
+        final int count = 10000;
+        final int batchSize = 100;
+        val entries = generate(count);
+        sort(entries);
+
+        val updateDataSource = new DataSource();
+        val updateIndex = defaultBuilder(updateDataSource).build();
+        updateIndex.initialize(TIMEOUT).join();
+        for (int i = 0; i < count; i += batchSize) {
+            updateIndex.update(entries.subList(i, i + batchSize), TIMEOUT).join();
+        }
+
+        val bulkLoadDataSource = new DataSource();
+        val bulkLoadIndex = defaultBuilder(bulkLoadDataSource).build();
+        bulkLoadIndex.initialize(TIMEOUT).join();
+        bulkLoadIndex.bulkLoad(toAsyncIterator(entries, batchSize), TIMEOUT).join();
+
+        val updateLength = updateDataSource.getLength(TIMEOUT).join().getIndexLength();
+        val bulkLoadLength = bulkLoadDataSource.getLength(TIMEOUT).join().getIndexLength();
+        AssertExtensions.assertLessThan("Expected bulk load to write less data.", updateLength, bulkLoadLength);
+
+        // Pages are fully packed, so there should be fewer of them than in an index built by regular updates.
+        val stats = bulkLoadIndex.getStatistics();
+        AssertExtensions.assertLessThan("Expected bulk-loaded pages to be fully packed.",
+                updateIndex.getStatistics().getPageCount(), stats.getPageCount());
+        check("after bulk load", bulkLoadIndex, entries, 0);
+    }
+
+    /**
+     * Tests the {@link BTreeIndex#bulkLoad} method with invalid arguments or a non-empty index.
+     */
+    @Test
+    public void testBulkLoadInvalid() {
+        val entries = generate(100);
+        sort(entries);
+
+        // Unsorted entries (across batches).
+        val ds = new DataSource();
+        val index = defaultBuilder(ds).build();
+        index.initialize(TIMEOUT).join();
+        val unsorted = new ArrayList<PageEntry>(entries.subList(50, 100));
+        unsorted.addAll(entries.subList(0, 50));
+        AssertExtensions.assertSuppliedFutureThrows(
+                "Expected unsorted entries to be rejected.",
+                () -> index.bulkLoad(toAsyncIterator(unsorted, 10), TIMEOUT),
+                ex -> ex instanceof IllegalArgumentException);
+
+        // Duplicate keys.
+        val duplicates = new ArrayList<PageEntry>(entries);
+        duplicates.add(1, entries.get(1));
+        AssertExtensions.assertSuppliedFutureThrows(
+                "Expected duplicate keys to be rejected.",
+                () -> index.bulkLoad(toAsyncIterator(duplicates, 10), TIMEOUT),
+                ex -> ex instanceof IllegalArgumentException);
+
+        // Entries with no values.
+        val removals = entries.stream().map(e -> PageEntry.noValue(e.getKey())).collect(Collectors.toList());
+        AssertExtensions.assertSuppliedFutureThrows(
+                "Expected entries with no values to be rejected.",
+                () -> index.bulkLoad(toAsyncIterator(removals, 10), TIMEOUT),
+                ex -> ex instanceof IllegalArgumentException);
+
+        // Non-empty index.
+        index.update(entries.subList(0, 1), TIMEOUT).join();
+        AssertExtensions.assertThrows(
+                "Expected a non-empty index to be rejected.",
+                () -> index.bulkLoad(toAsyncIterator(entries.subList(1, 100), 10), TIMEOUT),
+                ex -> ex instanceof IllegalStateException);
+    }
+
+    /**
+     * Tests the behavior of the {@link BTreeIndex#bulkLoad} method when it fails after having written some pages.
+     */
+    @Test
+    public void testBulkLoadFailure() {
+        final int count = 1000;
+        final int batchSize = 10;
+        val entries = generate(count);
+        sort(entries);
+        val ds = new DataSource();
+        val index = defaultBuilder(ds).build();
+        index.initialize(TIMEOUT).join();
+
+        // Fail half-way through the load.
+        val batches = Iterators.partition(entries.iterator(), batchSize);
+        val batchCount = new AtomicInteger();
+        AsyncIterator<List<PageEntry>> failingIterator = () -> batchCount.incrementAndGet() > count / batchSize / 2
+                ? Futures.failedFuture(new IntentionalException())
+                : CompletableFuture.completedFuture(batches.next());
+        AssertExtensions.assertSuppliedFutureThrows(
+                "Expected the bulk load to fail.",
+                () -> index.bulkLoad(failingIterator, MAX_PAGE_SIZE, TIMEOUT),
+                ex -> ex instanceof IntentionalException);
+        AssertExtensions.assertGreaterThan("Expected some data to have been written.", 0, ds.getLength(TIMEOUT).join().getIndexLength());
+
+        // The index should still be empty, even after recovery.
+        checkEmpty("after failed load", index, entries);
+        val recoveredIndex = defaultBuilder(ds).build();
+        recoveredIndex.initialize(TIMEOUT).join();
+        checkEmpty("after failed load and recovery", recoveredIndex, entries);
+
+        // Retry the load. The pages written by the failed attempt are still registered with the data source (it does not
+        // know they are unreachable), so we cannot validate the truncation offsets.
+        ds.setCheckOffsets(false);
+        recoveredIndex.bulkLoad(toAsyncIterator(entries, batchSize), MAX_PAGE_SIZE, TIMEOUT).join();
+        check("after retry", recoveredIndex, entries, 0);
+        val finalIndex = defaultBuilder(ds).build();
+        finalIndex.initialize(TIMEOUT).join();
+        check("after retry and recovery", finalIndex, entries, 0);
+    }
+
+    private void testBulkLoad(int count, int batchSize, int maxWriteLength) {
+        val ds = new DataSource();
+        val index = defaultBuilder(ds).build();
+        index.initialize(TIMEOUT).join();
+        val entries = generate(count);
+        sort(entries);
+
+        val result = index.bulkLoad(toAsyncIterator(entries, batchSize), maxWriteLength, TIMEOUT).join();
+        if (count == 0) {
+            Assert.assertNull("Not expecting a result for an empty load.", result);
+            Assert.assertEquals("Not expecting any data to be written for an empty load.", 0, ds.getLength(TIMEOUT).join().getIndexLength());
+        } else {
+            // The result should point to the footer, which is the last thing to be written.
+            val footerLength = Long.BYTES + Integer.BYTES;
+            Assert.assertEquals("Unexpected result for " + count, ds.getLength(TIMEOUT).join().getIndexLength() - footerLength, (long) result);
+        }
+
+        val recoveredIndex = defaultBuilder(ds).build();
+        if (count == 0) {
+            checkEmpty("after empty bulk load", index, entries);
+            recoveredIndex.initialize(TIMEOUT).join();
+            checkEmpty("after empty bulk load and recovery", recoveredIndex, entries);
+        } else {
+            check("after bulk load " + count, index, entries, 0);
+            Assert.assertEquals("Unexpected key count after bulk load " + count, count, getKeyCount(index));
+
+            // Verify index after a full recovery.
+            recoveredIndex.initialize(TIMEOUT).join();
+            check("after bulk load and recovery " + count, recoveredIndex, entries, 0);
+        }
+
+        // Verify that the bulk-loaded index can be updated: remove every other entry and add new ones.
+        val expectedEntries = new ArrayList<PageEntry>();
+        val toUpdate = new ArrayList<PageEntry>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (i % 2 == 0) {
+                toUpdate.add(PageEntry.noValue(entries.get(i).getKey()));
+            } else {
+                expectedEntries.add(entries.get(i));
+            }
+        }
+
+        val newEntries = generate(count + 1).stream()
+                .filter(e -> Collections.binarySearch(entries, e, (e1, e2) -> KEY_COMPARATOR.compare(e1.getKey(), e2.getKey())) < 0)
+                .limit(count / 10 + 1)
+                .collect(Collectors.toList());
+        toUpdate.addAll(newEntries);
+        expectedEntries.addAll(newEntries);
+        recoveredIndex.update(toUpdate, TIMEOUT).join();
+        check("after bulk load and update " + count, recoveredIndex, expectedEntries, 0);
+        Assert.assertEquals("Unexpected key count after bulk load and update " + count, expectedEntries.size(), getKeyCount(recoveredIndex));
+    }
+
     private void testDelete(int count, int deleteBatchSize) {
         final int checkEvery = count / 10; // checking is very expensive; we don't want to do it every time.
         val ds = new DataSource();
@@ -526,6 +710,14 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         }
     }
 
+    private void checkEmpty(String message, BTreeIndex index, List<PageEntry> entries) {
+        val keys = entries.stream().map(PageEntry::getKey).collect(Collectors.toList());
+        val actualValues = index.get(keys, TIMEOUT).join();
+        Assert.assertTrue(message + ": not expecting any values.", actualValues.stream().allMatch(Objects::isNull));
+        Assert.assertEquals(message + ": unexpected entry count.", 0, index.getStatistics().getEntryCount());
+        Assert.assertEquals(message + ": unexpected key count.", 0, getKeyCount(index));
+    }
+
     private ArrayList<PageEntry> generate(int count) {
         val result = new ArrayList<PageEntry>(count);
         val rnd = new Random(count);
@@ -544,6 +736,11 @@ public class BTreeIndexTests extends ThreadPooledTestSuite {
         entries.sort((e1, e2) -> KEY_COMPARATOR.compare(e1.getKey(), e2.getKey()));
     }
 
+    private AsyncIterator<List<PageEntry>> toAsyncIterator(List<PageEntry> entries, int batchSize) {
+        val batches = Iterators.partition(entries.iterator(), batchSize);
+        return () -> CompletableFuture.completedFuture(batches.hasNext() ? batches.next() : null);
+    }
+
     private PageEntry generateEntry(byte keyByte, byte valueByte) {
         val key = new ByteArraySegment(new byte[KEY_LENGTH]);
         Arrays.fill(key.array(), keyByte);
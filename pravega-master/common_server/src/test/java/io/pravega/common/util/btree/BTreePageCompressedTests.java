@@ -0,0 +1,130 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.common.util.btree;
+
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.test.common.AssertExtensions;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for the BTreePage class, using Key Prefix Compression.
+ */
+public class BTreePageCompressedTests extends BTreePageTests {
+    private static final int MAX_PAGE_SIZE = 512;
+    private static final int KEY_BASE = 0x01020000;
+
+    @Override
+    protected BTreePage.Config createConfig() {
+        return new BTreePage.Config(Integer.BYTES, Long.BYTES, MAX_PAGE_SIZE, true, true);
+    }
+
+    /**
+     * Tests that pages sharing a Key Prefix are smaller when compressed.
+     */
+    @Test
+    public void testCompressedLength() {
+        val entries = createEntries(20);
+        val uncompressed = new BTreePage(new BTreePage.Config(Integer.BYTES, Long.BYTES, MAX_PAGE_SIZE, true, false));
+        uncompressed.update(serialize(entries, true));
+        val compressed = new BTreePage(createConfig());
+        compressed.update(serialize(entries, true));
+        checkPage(compressed, entries);
+
+        // All keys share their first 3 bytes, which are stored once (along with its 2-byte length) instead of in each entry.
+        Assert.assertEquals("Unexpected compressed page length.",
+                uncompressed.getLength() - 3 * entries.size() + 2 + 3, compressed.getLength());
+    }
+
+    /**
+     * Tests that uncompressed (Version 0) pages can be read and that they are compressed once restructured.
+     */
+    @Test
+    public void testUpgrade() {
+        val entries = createEntries(20);
+        val uncompressed = new BTreePage(new BTreePage.Config(Integer.BYTES, Long.BYTES, MAX_PAGE_SIZE, true, false));
+        uncompressed.update(serialize(entries, true));
+        int headerId = uncompressed.getHeaderId();
+
+        val page = new BTreePage(createConfig(), new ByteArraySegment(uncompressed.getContents().getCopy()));
+        checkPage(page, entries);
+
+        // In-place updates do not change the format.
+        entries.put(KEY_BASE, 1234L);
+        page.update(serialize(Collections.singletonMap(KEY_BASE, 1234L), true));
+        checkPage(page, entries);
+        Assert.assertEquals("Not expecting an in-place update to change the page length.", uncompressed.getLength(), page.getLength());
+
+        // Inserts restructure the page, which should compress it.
+        int newKey = KEY_BASE + entries.size();
+        entries.put(newKey, 1L);
+        page.update(serialize(Collections.singletonMap(newKey, 1L), true));
+        checkPage(page, entries);
+        AssertExtensions.assertLessThan("Expected the page to be compressed.", uncompressed.getLength(), page.getLength());
+        Assert.assertEquals("Unexpected header id.", headerId, page.getHeaderId());
+
+        // Pages written using compression can be read back.
+        checkPage(new BTreePage(createConfig(), page.getContents()), entries);
+    }
+
+    /**
+     * Tests the setFirstKey() method with keys that do not share the page's Key Prefix.
+     */
+    @Test
+    public void testSetFirstKeyOutsidePrefix() {
+        val entries = createEntries(10);
+        val page = new BTreePage(createConfig());
+        page.update(serialize(entries, true));
+        int length = page.getLength();
+
+        page.setFirstKey(serializeInt(0));
+        Assert.assertEquals("First key was not replaced.", 0, page.getKeyAt(0).getInt(0));
+        AssertExtensions.assertGreaterThan("Expected the Key Prefix to be shortened.", length, page.getLength());
+
+        entries.remove(KEY_BASE);
+        entries.put(0, 1L);
+        checkPage(page, entries);
+    }
+
+    /**
+     * Tests the search() method with keys that do not share the page's Key Prefix.
+     */
+    @Test
+    public void testSearchOutsidePrefix() {
+        val entries = createEntries(10);
+        val page = new BTreePage(createConfig());
+        page.update(serialize(entries, true));
+
+        val smaller = page.search(serializeInt(KEY_BASE - 1), 0);
+        Assert.assertFalse("Not expecting an exact match.", smaller.isExactMatch());
+        Assert.assertEquals("Unexpected position for smaller key.", 0, smaller.getPosition());
+
+        val larger = page.search(serializeInt(KEY_BASE + 0x100), 0);
+        Assert.assertFalse("Not expecting an exact match.", larger.isExactMatch());
+        Assert.assertEquals("Unexpected position for larger key.", page.getCount(), larger.getPosition());
+        Assert.assertNull("Not expecting a match.", page.searchExact(serializeInt(KEY_BASE + 0x100)));
+    }
+
+    private Map<Integer, Long> createEntries(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toMap(i -> KEY_BASE + i, i -> (long) i + 1, (a, b) -> a, HashMap::new));
+    }
+}
@@ -16,8 +16,10 @@
 package io.pravega.controller.eventProcessor.impl;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.controller.eventProcessor.RequestHandler;
+import io.pravega.controller.metrics.EventProcessorMetrics;
 import io.pravega.shared.controller.event.ControllerEvent;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -25,12 +27,14 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.concurrent.GuardedBy;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -42,6 +46,9 @@ import java.util.stream.Collectors;
  * The processing is then scheduled asynchronously for the key.
  *
  * Once all pending processing for a key ends, the key is removed from the work map the moment its queue becomes empty.
+ *
+ * The time events wait in their key's queue, the time taken to process them and the number of events waiting to be
+ * processed are reported as metrics tagged with the name of the concrete handler class.
  */
 @AllArgsConstructor
 public abstract class SerializedRequestHandler<T extends ControllerEvent> implements RequestHandler<T> {
@@ -51,6 +58,9 @@ public abstract class SerializedRequestHandler<T extends ControllerEvent> implem
     private final Object lock = new Object();
     @GuardedBy("lock")
     private final Map<String, ConcurrentLinkedQueue<Work>> workers = new HashMap<>();
+    private final AtomicInteger pendingEventCount = new AtomicInteger();
+    private final EventProcessorMetrics metrics = new EventProcessorMetrics(getClass().getSimpleName().isEmpty()
+            ? getClass().getName() : getClass().getSimpleName());
 
     @Override
     public final CompletableFuture<Void> process(final T streamEvent, Supplier<Boolean> isCancelled) {
@@ -60,6 +70,7 @@ public abstract class SerializedRequestHandler<T extends ControllerEvent> implem
 
         final ConcurrentLinkedQueue<Work> queue;
 
+        metrics.reportPendingEvents(pendingEventCount.incrementAndGet());
         synchronized (lock) {
             if (workers.containsKey(key)) {
                 workers.get(key).add(work);
@@ -95,9 +106,12 @@ public abstract class SerializedRequestHandler<T extends ControllerEvent> implem
     private void run(String key, ConcurrentLinkedQueue<Work> workQueue) {
         Work work = workQueue.poll();
         CompletableFuture<Void> future;
+        metrics.reportPendingEvents(pendingEventCount.decrementAndGet());
+        Timer timer = new Timer();
         try {
             assert work != null;
             if (!work.getCancelledSupplier().get()) {
+                metrics.reportQueueWait(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - work.getPickupTime())));
                 future = processEvent(work.getEvent());
             } else {
                 future = new CompletableFuture<>();
@@ -108,6 +122,7 @@ public abstract class SerializedRequestHandler<T extends ControllerEvent> implem
         }
 
         future.whenComplete((r, e) -> {
+            metrics.reportProcessingLatency(timer.getElapsed(), e == null);
             if (e != null && toPostpone(work.getEvent(), work.getPickupTime(), e)) {
                 handleWorkPostpone(key, workQueue, work);
             } else {
@@ -128,6 +143,7 @@ public abstract class SerializedRequestHandler<T extends ControllerEvent> implem
         // Note: we have not completed the work's result future here.
         // Since there is at least one event in the queue (we just
         // added) so we will call run again.
+        metrics.reportPendingEvents(pendingEventCount.incrementAndGet());
         synchronized (lock) {
             workers.get(key).add(work);
         }
@@ -152,6 +168,16 @@ public abstract class SerializedRequestHandler<T extends ControllerEvent> implem
         });
     }
 
+    /**
+     * Gets the number of events that have been picked up but whose processing has not started yet.
+     *
+     * @return The number of pending events.
+     */
+    @VisibleForTesting
+    int getPendingEventCount() {
+        return pendingEventCount.get();
+    }
+
     @VisibleForTesting
     List<Pair<T, CompletableFuture<Void>>> getEventQueueForKey(String key) {
         List<Pair<T, CompletableFuture<Void>>> retVal = null;
@@ -0,0 +1,78 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.metrics;
+
+import io.pravega.shared.metrics.OpStatsLogger;
+
+import java.time.Duration;
+
+import static io.pravega.shared.MetricsNames.CONTROLLER_EVENT_PROCESSOR_PENDING_EVENTS;
+import static io.pravega.shared.MetricsNames.CONTROLLER_EVENT_PROCESSOR_PROCESSING_LATENCY;
+import static io.pravega.shared.MetricsNames.CONTROLLER_EVENT_PROCESSOR_QUEUE_WAIT_LATENCY;
+import static io.pravega.shared.MetricsTags.eventProcessorTag;
+
+/**
+ * Class to encapsulate the logic to report Controller metrics for the events processed by a request handler of an
+ * event processor.
+ */
+public final class EventProcessorMetrics extends AbstractControllerMetrics {
+    private final String[] tags;
+    private final OpStatsLogger queueWaitLatency;
+    private final OpStatsLogger processingLatency;
+
+    /**
+     * Creates a new instance of the EventProcessorMetrics class.
+     *
+     * @param eventProcessorName Name of the event processor (or request handler) to report metrics for.
+     */
+    public EventProcessorMetrics(String eventProcessorName) {
+        this.tags = eventProcessorTag(eventProcessorName);
+        this.queueWaitLatency = STATS_LOGGER.createStats(CONTROLLER_EVENT_PROCESSOR_QUEUE_WAIT_LATENCY, this.tags);
+        this.processingLatency = STATS_LOGGER.createStats(CONTROLLER_EVENT_PROCESSOR_PROCESSING_LATENCY, this.tags);
+    }
+
+    /**
+     * Reports the time an event waited behind other events of the same key before its processing started.
+     *
+     * @param latency Time elapsed between the event being picked up and its processing being started.
+     */
+    public void reportQueueWait(Duration latency) {
+        this.queueWaitLatency.reportSuccessEvent(latency);
+    }
+
+    /**
+     * Reports the time taken to process an event.
+     *
+     * @param latency Time taken to process the event.
+     * @param success Whether the event was processed successfully.
+     */
+    public void reportProcessingLatency(Duration latency, boolean success) {
+        if (success) {
+            this.processingLatency.reportSuccessEvent(latency);
+        } else {
+            this.processingLatency.reportFailEvent(latency);
+        }
+    }
+
+    /**
+     * Reports the number of events that have been picked up but whose processing has not started yet.
+     *
+     * @param count Number of pending events.
+     */
+    public void reportPendingEvents(int count) {
+        DYNAMIC_LOGGER.reportGaugeValue(CONTROLLER_EVENT_PROCESSOR_PENDING_EVENTS, count, this.tags);
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.metrics;
+
+import io.pravega.shared.metrics.OpStatsLogger;
+
+import java.time.Duration;
+
+import static io.pravega.shared.MetricsNames.WATERMARKING_COMPUTATIONS;
+import static io.pravega.shared.MetricsNames.WATERMARKING_COMPUTATIONS_SKIPPED;
+import static io.pravega.shared.MetricsNames.WATERMARKING_MARKS_COALESCED;
+import static io.pravega.shared.MetricsNames.WATERMARKING_MARKS_RECEIVED;
+import static io.pravega.shared.MetricsNames.WATERMARKING_MARK_BATCH_SIZE;
+import static io.pravega.shared.MetricsNames.WATERMARKING_MARK_PERSIST_LATENCY;
+
+/**
+ * Class to encapsulate the logic to report Controller metrics for writer marks and watermark computation.
+ */
+public final class WatermarkingMetrics extends AbstractControllerMetrics {
+    private static final OpStatsLogger MARK_BATCH_SIZE = STATS_LOGGER.createStats(WATERMARKING_MARK_BATCH_SIZE);
+    private static final OpStatsLogger MARK_PERSIST_LATENCY = STATS_LOGGER.createStats(WATERMARKING_MARK_PERSIST_LATENCY);
+
+    private WatermarkingMetrics() {
+    }
+
+    /**
+     * Reports the number of writer marks received in a single request.
+     *
+     * @param size Number of writer marks in the request.
+     */
+    public static void reportMarkBatch(int size) {
+        MARK_BATCH_SIZE.reportSuccessValue(size);
+    }
+
+    /**
+     * Reports that a writer mark has been received.
+     */
+    public static void reportMarkReceived() {
+        DYNAMIC_LOGGER.incCounterValue(WATERMARKING_MARKS_RECEIVED, 1);
+    }
+
+    /**
+     * Reports that a writer mark has been superseded by a later mark of the same writer before being persisted.
+     */
+    public static void reportMarkCoalesced() {
+        DYNAMIC_LOGGER.incCounterValue(WATERMARKING_MARKS_COALESCED, 1);
+    }
+
+    /**
+     * Reports the latency of persisting a writer mark.
+     *
+     * @param latency Time taken to persist the writer mark.
+     */
+    public static void reportMarkPersisted(Duration latency) {
+        MARK_PERSIST_LATENCY.reportSuccessEvent(latency);
+    }
+
+    /**
+     * Reports an iteration of periodic watermark computation for a stream.
+     *
+     * @param skipped Whether the computation was skipped because writer marks of the stream have not changed.
+     */
+    public static void reportWatermarkComputation(boolean skipped) {
+        DYNAMIC_LOGGER.incCounterValue(skipped ? WATERMARKING_COMPUTATIONS_SKIPPED : WATERMARKING_COMPUTATIONS, 1);
+    }
+}
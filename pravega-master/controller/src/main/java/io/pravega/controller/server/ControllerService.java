@@ -32,6 +32,8 @@ import io.pravega.common.tracing.TagLogger;
 import io.pravega.common.util.RetriesExhaustedException;
 import io.pravega.controller.metrics.StreamMetrics;
 import io.pravega.controller.metrics.TransactionMetrics;
+import io.pravega.controller.metrics.WatermarkingMetrics;
+import io.pravega.controller.server.bucket.WriterMarkAggregator;
 import io.pravega.controller.store.SegmentRecord;
 import io.pravega.controller.store.kvtable.KVTableMetadataStore;
 import io.pravega.controller.store.stream.BucketStore;
@@ -41,8 +43,10 @@ import io.pravega.controller.store.stream.State;
 import io.pravega.controller.store.stream.StoreException;
 import io.pravega.controller.store.stream.StreamMetadataStore;
 import io.pravega.controller.store.stream.VersionedTransactionData;
+import io.pravega.controller.store.stream.WriterTimestampResponse;
 import io.pravega.controller.store.stream.records.StreamSegmentRecord;
 import io.pravega.controller.stream.api.grpc.v1.Controller;
+import io.pravega.controller.stream.api.grpc.v1.Controller.ContainerRoutingTable;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateKeyValueTableStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateReaderGroupResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateScopeStatus;
@@ -69,6 +73,7 @@ import io.pravega.controller.stream.api.grpc.v1.Controller.ControllerToBucketMap
 import io.pravega.controller.task.KeyValueTable.TableMetadataTasks;
 import io.pravega.controller.task.Stream.StreamMetadataTasks;
 import io.pravega.controller.task.Stream.StreamTransactionMetadataTasks;
+import io.pravega.controller.util.Config;
 import io.pravega.shared.NameUtils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -87,7 +92,12 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Stream controller RPC server implementation.
@@ -98,6 +108,8 @@ public class ControllerService {
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(ControllerService.class));
     // Generator for new request identifiers
     private static final SecureRandom REQUEST_ID_GENERATOR = RandomFactory.createSecure();
+    // Upper bound on how long a routing table request waits for the table to change.
+    private static final Duration MAX_ROUTING_TABLE_WAIT = Duration.ofSeconds(60);
 
     private final KVTableMetadataStore kvtMetadataStore;
     private final TableMetadataTasks kvtMetadataTasks;
@@ -109,6 +121,8 @@ public class ControllerService {
     private final Executor executor;
     private final Cluster cluster;
     private final RequestTracker requestTracker;
+    @Getter
+    private final WriterMarkAggregator writerMarkAggregator = new WriterMarkAggregator(this::persistWriterMark);
 
     public static long nextRequestId() {
         return REQUEST_ID_GENERATOR.nextLong();
@@ -488,6 +502,108 @@ public class ControllerService {
                 }, executor);
     }
 
+    /**
+     * Controller Service API to create many streams at once. The streams are created concurrently, but at most
+     * {@link Config#BULK_STREAM_OPERATION_CONCURRENCY} at a time. A stream that can not be created because of an invalid
+     * configuration or an unexpected error is reported as {@link CreateStreamStatus.Status#FAILURE} without affecting
+     * the other streams.
+     *
+     * @param configs         Configurations of the streams to create.
+     * @param createTimestamp creation time
+     * @param requestId       request id
+     * @return Results of creating each stream, in the same order as the configurations.
+     */
+    public CompletableFuture<Controller.CreateStreamsStatus> createStreams(List<Controller.StreamConfig> configs,
+                                                                           long createTimestamp, long requestId) {
+        return runBulkStreamOperation(configs,
+                config -> createStream(config.getStreamInfo().getScope(), config.getStreamInfo().getStream(),
+                        ModelHelper.encode(config), createTimestamp, requestId),
+                (config, e) -> {
+                    log.warn(requestId, "Failed to create stream {}/{}.", config.getStreamInfo().getScope(),
+                            config.getStreamInfo().getStream(), e);
+                    return CreateStreamStatus.newBuilder().setStatus(CreateStreamStatus.Status.FAILURE).build();
+                })
+                .thenApply(r -> Controller.CreateStreamsStatus.newBuilder().addAllResults(r).build());
+    }
+
+    /**
+     * Controller Service API to update the configuration of many streams at once. The streams are updated concurrently,
+     * but at most {@link Config#BULK_STREAM_OPERATION_CONCURRENCY} at a time. A stream that can not be updated because
+     * of an unexpected error is reported as {@link UpdateStreamStatus.Status#FAILURE} without affecting the other streams.
+     *
+     * @param configs   New configurations of the streams.
+     * @param requestId request id
+     * @return Results of updating each stream, in the same order as the configurations.
+     */
+    public CompletableFuture<Controller.UpdateStreamsStatus> updateStreams(List<Controller.StreamConfig> configs,
+                                                                           long requestId) {
+        return runBulkStreamOperation(configs,
+                config -> updateStream(config.getStreamInfo().getScope(), config.getStreamInfo().getStream(),
+                        ModelHelper.encode(config), requestId),
+                (config, e) -> {
+                    log.warn(requestId, "Failed to update stream {}/{}.", config.getStreamInfo().getScope(),
+                            config.getStreamInfo().getStream(), e);
+                    return UpdateStreamStatus.newBuilder().setStatus(UpdateStreamStatus.Status.FAILURE).build();
+                })
+                .thenApply(r -> Controller.UpdateStreamsStatus.newBuilder().addAllResults(r).build());
+    }
+
+    /**
+     * Controller Service API to delete many sealed streams at once. The streams are deleted concurrently, but at most
+     * {@link Config#BULK_STREAM_OPERATION_CONCURRENCY} at a time. A stream that can not be deleted because of an
+     * unexpected error is reported as {@link DeleteStreamStatus.Status#FAILURE} without affecting the other streams.
+     *
+     * @param streams   Streams to delete.
+     * @param requestId request id
+     * @return Results of deleting each stream, in the same order as the streams.
+     */
+    public CompletableFuture<Controller.DeleteStreamsStatus> deleteStreams(List<Controller.StreamInfo> streams,
+                                                                           long requestId) {
+        return runBulkStreamOperation(streams,
+                stream -> deleteStream(stream.getScope(), stream.getStream(), requestId),
+                (stream, e) -> {
+                    log.warn(requestId, "Failed to delete stream {}/{}.", stream.getScope(), stream.getStream(), e);
+                    return DeleteStreamStatus.newBuilder().setStatus(DeleteStreamStatus.Status.FAILURE).build();
+                })
+                .thenApply(r -> Controller.DeleteStreamsStatus.newBuilder().addAllResults(r).build());
+    }
+
+    /**
+     * Runs the given operation for each of the given items, with at most {@link Config#BULK_STREAM_OPERATION_CONCURRENCY}
+     * operations in progress at any time. Operations that fail (synchronously or asynchronously) have their result
+     * provided by the given failure handler.
+     */
+    private <T, R> CompletableFuture<List<R>> runBulkStreamOperation(List<T> items, Function<T, CompletableFuture<R>> operation,
+                                                                     BiFunction<T, Throwable, R> onFailure) {
+        AtomicReferenceArray<R> results = new AtomicReferenceArray<>(items.size());
+        AtomicInteger nextIndex = new AtomicInteger();
+        int workerCount = Math.min(items.size(), Math.max(1, Config.BULK_STREAM_OPERATION_CONCURRENCY));
+        List<CompletableFuture<Void>> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(Futures.loop(() -> nextIndex.get() < items.size(), () -> {
+                int index = nextIndex.getAndIncrement();
+                if (index >= items.size()) {
+                    return CompletableFuture.completedFuture(null);
+                }
+
+                T item = items.get(index);
+                CompletableFuture<R> result;
+                try {
+                    result = operation.apply(item);
+                } catch (Exception e) {
+                    result = Futures.failedFuture(e);
+                }
+                return result.handle((r, e) -> {
+                    results.set(index, e == null ? r : onFailure.apply(item, Exceptions.unwrap(e)));
+                    return null;
+                });
+            }, executor));
+        }
+        return Futures.allOf(workers).thenApply(v -> IntStream.range(0, items.size())
+                                                               .mapToObj(results::get)
+                                                               .collect(Collectors.toList()));
+    }
+
     public CompletableFuture<List<SegmentRange>> getCurrentSegments(final String scope, final String stream, long requestId) {
         Exceptions.checkNotNullOrEmpty(scope, "scope");
         Exceptions.checkNotNullOrEmpty(stream, "stream");
@@ -608,6 +724,21 @@ public class ControllerService {
                         segment.getSegmentId()));
     }
 
+    /**
+     * Gets the segment container routing table, which lets clients compute the uri of the segment store owning any
+     * segment locally instead of calling {@link #getURI(SegmentId)} for each segment.
+     * If the current table has the version known to the caller, waits (for at most {@link #MAX_ROUTING_TABLE_WAIT})
+     * for the table to change before returning it.
+     *
+     * @param knownVersion  version of the routing table known to the caller.
+     * @param maxWaitMillis maximum time to wait for the routing table to change.
+     * @return future that will contain the routing table.
+     */
+    public CompletableFuture<ContainerRoutingTable> getContainerRoutingTable(final long knownVersion, final long maxWaitMillis) {
+        Duration maxWait = Duration.ofMillis(Math.max(0, Math.min(maxWaitMillis, MAX_ROUTING_TABLE_WAIT.toMillis())));
+        return segmentHelper.getContainerRoutingTable(knownVersion, maxWait);
+    }
+
     private SegmentRange convert(final String scope,
                                  final String stream,
                                  final SegmentRecord segment) {
@@ -1101,11 +1232,7 @@ public class ControllerService {
     public CompletableFuture<Controller.TimestampResponse> noteTimestampFromWriter(String scope, String stream, String writerId, 
                                                                                    long timestamp, Map<Long, Long> streamCut,
                                                                                    long requestId) {
-        OperationContext context = streamStore.createStreamContext(scope, stream, requestId);
-
-        return bucketStore.addStreamToBucketStore(BucketStore.ServiceType.WatermarkingService, scope, stream, executor)
-                          .thenCompose(v -> streamStore.noteWriterMark(scope, stream, writerId, timestamp, streamCut, 
-                                  context, executor))
+        return writerMarkAggregator.noteWriterMark(scope, stream, writerId, timestamp, streamCut, requestId)
                 .thenApply(r -> {
                         Controller.TimestampResponse.Builder response = Controller.TimestampResponse.newBuilder();
                         switch (r) {
@@ -1126,6 +1253,42 @@ public class ControllerService {
                 });
     }
 
+    /**
+     * Controller Service API to note the marks of many writers, possibly for different streams, at once.
+     * A mark that can not be noted because of an unexpected error is reported as
+     * {@link Controller.TimestampResponse.Status#INTERNAL_ERROR} without affecting the other marks.
+     *
+     * @param marks     Writer marks to note.
+     * @param requestId request id
+     * @return Results of noting each mark, in the same order as the marks.
+     */
+    public CompletableFuture<Controller.TimestampsResponse> noteTimestampsFromWriters(List<Controller.TimestampFromWriter> marks,
+                                                                                      long requestId) {
+        WatermarkingMetrics.reportMarkBatch(marks.size());
+        List<CompletableFuture<Controller.TimestampResponse>> results = marks.stream().map(mark -> {
+            Controller.StreamInfo streamInfo = mark.getPosition().getStreamInfo();
+            return noteTimestampFromWriter(streamInfo.getScope(), streamInfo.getStream(), mark.getWriter(),
+                    mark.getTimestamp(), mark.getPosition().getCutMap(), requestId)
+                    .exceptionally(e -> {
+                        log.warn(requestId, "Failed to note mark of writer {} for stream {}/{}.", mark.getWriter(),
+                                streamInfo.getScope(), streamInfo.getStream(), Exceptions.unwrap(e));
+                        return Controller.TimestampResponse.newBuilder()
+                                .setResult(Controller.TimestampResponse.Status.INTERNAL_ERROR).build();
+                    });
+        }).collect(Collectors.toList());
+        return Futures.allOfWithResults(results)
+                      .thenApply(r -> Controller.TimestampsResponse.newBuilder().addAllResults(r).build());
+    }
+
+    private CompletableFuture<WriterTimestampResponse> persistWriterMark(String scope, String stream, String writerId,
+                                                                         long timestamp, Map<Long, Long> position,
+                                                                         long requestId) {
+        OperationContext context = streamStore.createStreamContext(scope, stream, requestId);
+        return bucketStore.addStreamToBucketStore(BucketStore.ServiceType.WatermarkingService, scope, stream, executor)
+                          .thenCompose(v -> streamStore.noteWriterMark(scope, stream, writerId, timestamp, position,
+                                  context, executor));
+    }
+
     /**
      * Controller Service API to get controller to bucket mapping.
      *
@@ -287,7 +287,8 @@ public class ControllerServiceStarter extends AbstractIdleService implements Aut
 
             Duration executionDurationWatermarking = Duration.ofSeconds(Config.MINIMUM_WATERMARKING_FREQUENCY_IN_SECONDS);
             watermarkingWork = new PeriodicWatermarking(streamStore, bucketStore,
-                    clientConfig, watermarkingExecutor, requestTracker);
+                    clientConfig, watermarkingExecutor, requestTracker,
+                    Duration.ofSeconds(Config.WATERMARKING_MARK_REFRESH_IN_SECONDS));
             watermarkingService = bucketServiceFactory.createWatermarkingService(executionDurationWatermarking, 
                     watermarkingWork::watermark, watermarkingExecutor);
 
@@ -322,6 +323,8 @@ public class ControllerServiceStarter extends AbstractIdleService implements Aut
             controllerService = new ControllerService(kvtMetadataStore, kvtMetadataTasks, streamStore, bucketStore,
                     streamMetadataTasks, streamTransactionMetadataTasks, segmentHelper, controllerExecutor,
                     cluster, requestTracker);
+            // Let the watermarking service know about streams whose writer marks were updated by this instance.
+            controllerService.getWriterMarkAggregator().addListener(watermarkingWork::noteWriterMarksChanged);
 
             // Setup event processors.
             setController(new LocalController(controllerService, grpcServerConfig.isAuthorizationEnabled(),
@@ -33,9 +33,11 @@ import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import io.pravega.common.Exceptions;
 import io.pravega.common.cluster.Host;
+import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.controller.store.host.HostControllerStore;
+import io.pravega.controller.store.host.VersionedHostContainerMap;
 import io.pravega.controller.store.stream.records.RecordHelper;
 import io.pravega.controller.stream.api.grpc.v1.Controller;
 import io.pravega.controller.stream.api.grpc.v1.Controller.TxnStatus;
@@ -43,15 +45,21 @@ import io.pravega.controller.util.Config;
 
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
@@ -97,6 +105,9 @@ public class SegmentHelper implements AutoCloseable {
             .put(WireCommands.MergeSegments.class, ImmutableSet.of(WireCommands.SegmentsMerged.class,
                     WireCommands.NoSuchSegment.class))
             .put(WireCommands.MergeSegmentsBatch.class, ImmutableSet.of(WireCommands.SegmentsBatchMerged.class))
+            .put(WireCommands.CreateSegmentsBatch.class, ImmutableSet.of(WireCommands.SegmentsBatchCreated.class))
+            .put(WireCommands.SealSegmentsBatch.class, ImmutableSet.of(WireCommands.SegmentsBatchSealed.class))
+            .put(WireCommands.DeleteSegmentsBatch.class, ImmutableSet.of(WireCommands.SegmentsBatchDeleted.class))
             .put(WireCommands.ReadSegment.class, ImmutableSet.of(WireCommands.SegmentRead.class))
             .put(WireCommands.GetSegmentAttribute.class, ImmutableSet.of(WireCommands.SegmentAttribute.class))
             .put(WireCommands.UpdateSegmentAttribute.class, ImmutableSet.of(WireCommands.SegmentAttributeUpdated.class))
@@ -106,6 +117,7 @@ public class SegmentHelper implements AutoCloseable {
             .put(WireCommands.ReadTable.class, ImmutableSet.of(WireCommands.TableRead.class))
             .put(WireCommands.ReadTableKeys.class, ImmutableSet.of(WireCommands.TableKeysRead.class))
             .put(WireCommands.ReadTableEntries.class, ImmutableSet.of(WireCommands.TableEntriesRead.class))
+            .put(WireCommands.ReadTableEntriesDelta.class, ImmutableSet.of(WireCommands.TableEntriesDeltaRead.class))
             .put(WireCommands.GetTableSegmentInfo.class, ImmutableSet.of(WireCommands.TableSegmentInfo.class))
             .build();
 
@@ -122,14 +134,18 @@ public class SegmentHelper implements AutoCloseable {
             .put(WireCommands.ReadTable.class, ImmutableSet.of(WireCommands.NoSuchSegment.class))
             .put(WireCommands.ReadTableKeys.class, ImmutableSet.of(WireCommands.NoSuchSegment.class))
             .put(WireCommands.ReadTableEntries.class, ImmutableSet.of(WireCommands.NoSuchSegment.class))
+            .put(WireCommands.ReadTableEntriesDelta.class, ImmutableSet.of(WireCommands.NoSuchSegment.class))
             .put(WireCommands.GetTableSegmentInfo.class, ImmutableSet.of(WireCommands.NoSuchSegment.class))
             .put(WireCommands.MergeSegmentsBatch.class, ImmutableSet.of(WireCommands.NoSuchSegment.class))
             .build();
 
+    private static final Duration ROUTING_TABLE_CHECK_INTERVAL = Duration.ofSeconds(1);
+
     protected final ConnectionPool connectionPool;
     protected final ScheduledExecutorService executorService;
     protected final AtomicReference<Duration> timeout;
     private final HostControllerStore hostStore;
+    private final AtomicBoolean batchOperationsEnabled;
 
     public SegmentHelper(final ConnectionPool connectionPool, HostControllerStore hostStore,
                          ScheduledExecutorService executorService) {
@@ -137,6 +153,7 @@ public class SegmentHelper implements AutoCloseable {
         this.hostStore = hostStore;
         this.executorService = executorService;
         this.timeout = new AtomicReference<>(Duration.ofSeconds(Config.REQUEST_TIMEOUT_SECONDS_SEGMENT_STORE));
+        this.batchOperationsEnabled = new AtomicBoolean(Config.SEGMENT_STORE_BATCH_OPERATIONS_ENABLED);
     }
 
     @VisibleForTesting
@@ -144,6 +161,11 @@ public class SegmentHelper implements AutoCloseable {
         timeout.set(duration);    
     }
 
+    @VisibleForTesting
+    public void setBatchOperationsEnabled(boolean enabled) {
+        batchOperationsEnabled.set(enabled);
+    }
+
     public Controller.NodeUri getSegmentUri(final String scope,
                                             final String stream,
                                             final long segmentId) {
@@ -151,6 +173,36 @@ public class SegmentHelper implements AutoCloseable {
         return Controller.NodeUri.newBuilder().setEndpoint(host.getIpAddr()).setPort(host.getPort()).build();
     }
 
+    /**
+     * Gets the segment container routing table, which clients use to compute the owner of any segment locally.
+     * If the version of the current table is the same as knownVersion, then waits for up to maxWait for it to change
+     * before returning it. The host store keeps the map in memory, so checking for a change is cheap.
+     *
+     * @param knownVersion Version of the routing table already known to the caller.
+     * @param maxWait      Maximum time to wait for the routing table to change.
+     * @return A future that, when completed, contains the current routing table.
+     */
+    public CompletableFuture<Controller.ContainerRoutingTable> getContainerRoutingTable(final long knownVersion,
+                                                                                        final Duration maxWait) {
+        final Timer timer = new Timer();
+        final AtomicReference<VersionedHostContainerMap> map = new AtomicReference<>(hostStore.getVersionedHostContainersMap());
+        return Futures.loop(
+                () -> map.get().getVersion() == knownVersion && timer.getElapsed().compareTo(maxWait) < 0,
+                () -> Futures.delayedFuture(ROUTING_TABLE_CHECK_INTERVAL, executorService)
+                             .thenRun(() -> map.set(hostStore.getVersionedHostContainersMap())),
+                executorService)
+                .thenApply(v -> {
+                    final Controller.ContainerRoutingTable.Builder builder = Controller.ContainerRoutingTable.newBuilder()
+                            .setVersion(map.get().getVersion())
+                            .setContainerCount(hostStore.getContainerCount());
+                    map.get().getHostContainerMap().forEach((host, containers) -> builder.addHosts(
+                            Controller.ContainerHost.newBuilder()
+                                    .setNodeUri(Controller.NodeUri.newBuilder().setEndpoint(host.getIpAddr()).setPort(host.getPort()))
+                                    .addAllContainerIds(containers)));
+                    return builder.build();
+                });
+    }
+
     public Controller.NodeUri getTableUri(final String tableName) {
         final Host host = hostStore.getHostForTableSegment(tableName);
         return Controller.NodeUri.newBuilder().setEndpoint(host.getIpAddr()).setPort(host.getPort()).build();
@@ -177,6 +229,91 @@ public class SegmentHelper implements AutoCloseable {
                     WireCommands.CreateSegment.class, type));
     }
 
+    /**
+     * Creates the given segments with one request per Segment Store that owns any of them. The Segment Stores create
+     * their segments in parallel. If batched segment operations are disabled, or the Segment Store does not support
+     * them, a request is sent for every segment.
+     *
+     * @param scope               stream scope
+     * @param stream              stream name
+     * @param segmentIds          ids of the segments to create
+     * @param policy              scaling policy of the stream
+     * @param controllerToken     the token to be presented to segmentstore.
+     * @param clientRequestId     client-generated id for end-to-end tracing
+     * @param rolloverSizeBytes   rollover size of the segments
+     * @return A future that completes once all the segments exist.
+     */
+    public CompletableFuture<Void> createSegments(final String scope,
+                                                  final String stream,
+                                                  final Collection<Long> segmentIds,
+                                                  final ScalingPolicy policy,
+                                                  final String controllerToken,
+                                                  final long clientRequestId,
+                                                  final long rolloverSizeBytes) {
+        final WireCommandType type = WireCommandType.CREATE_SEGMENTS_BATCH;
+        Pair<Byte, Integer> extracted = extractFromPolicy(policy);
+        return runBatchOperation(scope, stream, segmentIds, WireCommands.CreateSegmentsBatch.MIN_WIRE_VERSION,
+                (connection, segmentNames) -> {
+                    final long requestId = connection.getFlow().asLong();
+                    return sendRequest(connection, clientRequestId, new WireCommands.CreateSegmentsBatch(requestId, segmentNames,
+                            extracted.getLeft(), extracted.getRight(), controllerToken, rolloverSizeBytes))
+                            .thenAccept(r -> handleReply(clientRequestId, r, connection, segmentNames.toString(),
+                                    WireCommands.CreateSegmentsBatch.class, type));
+                },
+                segmentId -> createSegment(scope, stream, segmentId, policy, controllerToken, clientRequestId, rolloverSizeBytes));
+    }
+
+    /**
+     * Runs an operation on the given segments with one batch request per Segment Store that owns any of them. The
+     * segments of a Segment Store that has not advertised support for the batch command in its Hello are sent one request
+     * per segment instead. This includes a Segment Store whose connection was just established, as its Hello may not have
+     * been received yet.
+     *
+     * @param scope            stream scope
+     * @param stream           stream name
+     * @param segmentIds       ids of the segments
+     * @param minWireVersion   the wire version at which the batch command was introduced
+     * @param batchOperation   sends the batch request for the given qualified segment names on the given connection
+     * @param segmentOperation sends the request for a single segment
+     * @return A future that completes once the operation completed for all the segments.
+     */
+    private CompletableFuture<Void> runBatchOperation(final String scope,
+                                                      final String stream,
+                                                      final Collection<Long> segmentIds,
+                                                      final int minWireVersion,
+                                                      final BiFunction<RawClient, List<String>, CompletableFuture<Void>> batchOperation,
+                                                      final Function<Long, CompletableFuture<Void>> segmentOperation) {
+        if (!batchOperationsEnabled.get()) {
+            return Futures.allOf(segmentIds.stream().map(segmentOperation).collect(Collectors.toList()));
+        }
+
+        return Futures.allOf(groupSegmentsByHost(scope, stream, segmentIds).entrySet().stream().map(e -> {
+            RawClient connection = new RawClient(ModelHelper.encode(e.getKey()), connectionPool);
+            return connection.getServerVersion().thenCompose(version -> {
+                if (version < minWireVersion) {
+                    connection.close();
+                    return Futures.allOf(e.getValue().stream().map(segmentOperation).collect(Collectors.toList()));
+                }
+                List<String> segmentNames = e.getValue().stream()
+                                             .map(segmentId -> getQualifiedStreamSegmentName(scope, stream, segmentId))
+                                             .collect(Collectors.toList());
+                return batchOperation.apply(connection, segmentNames);
+            });
+        }).collect(Collectors.toList()));
+    }
+
+    /**
+     * Groups the ids of the given segments by the Segment Store that owns them.
+     */
+    private Map<Controller.NodeUri, List<Long>> groupSegmentsByHost(final String scope, final String stream,
+                                                                    final Collection<Long> segmentIds) {
+        Map<Controller.NodeUri, List<Long>> result = new HashMap<>();
+        for (long segmentId : segmentIds) {
+            result.computeIfAbsent(getSegmentUri(scope, stream, segmentId), uri -> new ArrayList<>()).add(segmentId);
+        }
+        return result;
+    }
+
     public CompletableFuture<Void> truncateSegment(final String scope,
                                                    final String stream,
                                                    final long segmentId,
@@ -238,6 +375,60 @@ public class SegmentHelper implements AutoCloseable {
                 .thenAccept(r -> handleReply(clientRequestId, r, connection, qualifiedName, WireCommands.SealSegment.class, type));
     }
 
+    /**
+     * This method seals the given segments with one request per Segment Store that owns any of them. If batched segment
+     * operations are disabled, or the Segment Store does not support them, a request is sent for every segment.
+     *
+     * @param scope               stream scope
+     * @param stream              stream name
+     * @param segmentIds          ids of the segments to be sealed
+     * @param delegationToken     the token to be presented to segmentstore.
+     * @param clientRequestId     client-generated id for end-to-end tracing
+     * @return A future that completes once all the segments are sealed.
+     */
+    public CompletableFuture<Void> sealSegments(final String scope,
+                                                final String stream,
+                                                final Collection<Long> segmentIds,
+                                                final String delegationToken,
+                                                final long clientRequestId) {
+        final WireCommandType type = WireCommandType.SEAL_SEGMENTS_BATCH;
+        return runBatchOperation(scope, stream, segmentIds, WireCommands.SealSegmentsBatch.MIN_WIRE_VERSION,
+                (connection, segmentNames) -> {
+                    final long requestId = connection.getFlow().asLong();
+                    return sendRequest(connection, clientRequestId, new WireCommands.SealSegmentsBatch(requestId, segmentNames, delegationToken))
+                            .thenAccept(r -> handleReply(clientRequestId, r, connection, segmentNames.toString(),
+                                    WireCommands.SealSegmentsBatch.class, type));
+                },
+                segmentId -> sealSegment(scope, stream, segmentId, delegationToken, clientRequestId));
+    }
+
+    /**
+     * This method deletes the given segments with one request per Segment Store that owns any of them. If batched segment
+     * operations are disabled, or the Segment Store does not support them, a request is sent for every segment.
+     *
+     * @param scope               stream scope
+     * @param stream              stream name
+     * @param segmentIds          ids of the segments to be deleted
+     * @param delegationToken     the token to be presented to segmentstore.
+     * @param clientRequestId     client-generated id for end-to-end tracing
+     * @return A future that completes once none of the segments exist.
+     */
+    public CompletableFuture<Void> deleteSegments(final String scope,
+                                                  final String stream,
+                                                  final Collection<Long> segmentIds,
+                                                  final String delegationToken,
+                                                  final long clientRequestId) {
+        final WireCommandType type = WireCommandType.DELETE_SEGMENTS_BATCH;
+        return runBatchOperation(scope, stream, segmentIds, WireCommands.DeleteSegmentsBatch.MIN_WIRE_VERSION,
+                (connection, segmentNames) -> {
+                    final long requestId = connection.getFlow().asLong();
+                    return sendRequest(connection, clientRequestId, new WireCommands.DeleteSegmentsBatch(requestId, segmentNames, delegationToken))
+                            .thenAccept(r -> handleReply(clientRequestId, r, connection, segmentNames.toString(),
+                                    WireCommands.DeleteSegmentsBatch.class, type));
+                },
+                segmentId -> deleteSegment(scope, stream, segmentId, delegationToken, clientRequestId));
+    }
+
     public CompletableFuture<Void> createTransaction(final String scope,
                                                      final String stream,
                                                      final long segmentId,
@@ -704,6 +895,43 @@ public class SegmentHelper implements AutoCloseable {
                 });
     }
 
+    /**
+     * The method sends a WireCommand to read the changes made to a table segment starting from the given position.
+     *
+     * @param tableName           Qualified table name.
+     * @param fromPosition        Position to read the changes from.
+     * @param suggestedEntryCount Suggested number of changed entries to be returned by the Segment Store.
+     * @param delegationToken     The token to be presented to the Segment Store.
+     * @param clientRequestId     Request id.
+     * @return A CompletableFuture that will return the changes made to the table segment since the given position. Each
+     * changed key is returned with its latest value and version, and removed keys are returned with a
+     * {@link TableSegmentKeyVersion#NOT_EXISTS} version.
+     */
+    public CompletableFuture<TableEntriesDelta> readTableEntriesDelta(final String tableName,
+                                                                      final long fromPosition,
+                                                                      final int suggestedEntryCount,
+                                                                      final String delegationToken,
+                                                                      final long clientRequestId) {
+        final WireCommandType type = WireCommandType.READ_TABLE_ENTRIES_DELTA;
+        RawClient connection = new RawClient(ModelHelper.encode(getTableUri(tableName)), connectionPool);
+        final long requestId = connection.getFlow().asLong();
+
+        WireCommands.ReadTableEntriesDelta request = new WireCommands.ReadTableEntriesDelta(requestId, tableName,
+                delegationToken, fromPosition, suggestedEntryCount);
+        return sendRequest(connection, clientRequestId, request)
+                .thenApply(rpl -> {
+                    handleReply(clientRequestId, rpl, connection, tableName, WireCommands.ReadTableEntriesDelta.class, type);
+                    WireCommands.TableEntriesDeltaRead deltaRead = (WireCommands.TableEntriesDeltaRead) rpl;
+                    final List<TableSegmentEntry> entries =
+                            deltaRead.getEntries().getEntries().stream()
+                                     .map(e -> TableSegmentEntry.versioned(e.getKey().getData(), e.getValue().getData(),
+                                             e.getKey().getKeyVersion()))
+                                     .collect(Collectors.toList());
+                    return new TableEntriesDelta(entries, deltaRead.isShouldClear(), deltaRead.isReachedEnd(),
+                            deltaRead.getLastPosition());
+                });
+    }
+
     public CompletableFuture<WireCommands.SegmentRead> readSegment(String qualifiedName, long offset, int length,
                                                                         PravegaNodeUri uri, String delegationToken) {
         final WireCommandType type = WireCommandType.READ_SEGMENT;
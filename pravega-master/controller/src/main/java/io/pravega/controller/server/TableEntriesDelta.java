@@ -0,0 +1,45 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.server;
+
+import io.pravega.client.tables.impl.TableSegmentEntry;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Changes made to a Table Segment starting from a given position, as returned by
+ * {@link SegmentHelper#readTableEntriesDelta}.
+ */
+@Data
+public class TableEntriesDelta {
+    /**
+     * The latest version of each key that changed. Keys that were removed have a
+     * {@link io.pravega.client.tables.impl.TableSegmentKeyVersion#NOT_EXISTS} version and an empty value.
+     */
+    private final List<TableSegmentEntry> entries;
+    /**
+     * Whether the requested position has been compacted away, in which case some changes may be missing.
+     */
+    private final boolean shouldClear;
+    /**
+     * Whether all changes up to the end of the Table Segment have been read.
+     */
+    private final boolean reachedEnd;
+    /**
+     * The position to read the next changes from.
+     */
+    private final long lastPosition;
+}
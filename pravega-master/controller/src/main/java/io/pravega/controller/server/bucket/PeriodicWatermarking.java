@@ -16,6 +16,7 @@
 package io.pravega.controller.server.bucket;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -36,6 +37,7 @@ import io.pravega.common.concurrent.Futures;
 import io.pravega.common.hash.RandomFactory;
 import io.pravega.common.tracing.RequestTracker;
 import io.pravega.common.tracing.TagLogger;
+import io.pravega.controller.metrics.WatermarkingMetrics;
 import io.pravega.controller.store.stream.BucketStore;
 import io.pravega.controller.store.stream.OperationContext;
 import io.pravega.controller.store.stream.StoreException;
@@ -48,6 +50,7 @@ import io.pravega.shared.watermarks.SegmentWithRange;
 import io.pravega.shared.watermarks.Watermark;
 
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -69,6 +72,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import lombok.Data;
 import lombok.Synchronized;
 import org.slf4j.LoggerFactory;
 
@@ -82,16 +86,46 @@ public class PeriodicWatermarking implements AutoCloseable {
     private final LoadingCache<String, SynchronizerClientFactory> syncFactoryCache;
     private final RequestTracker requestTracker;
     private final Supplier<Long> requestIdGenerator = RandomFactory.create()::nextLong;
+    /**
+     * Maximum time for which writer marks of a stream are not read again from the store if no writer mark of the stream
+     * has been updated through this Controller instance. Zero means that writer marks are read on every iteration.
+     */
+    private final Duration markRefreshInterval;
+    /**
+     * Streams for which writer marks have been updated through this Controller instance since their last iteration.
+     */
+    private final Set<Stream> changedStreams = ConcurrentHashMap.newKeySet();
+    /**
+     * Writer marks that the last iteration for each stream was computed from, for streams where that iteration could not
+     * make progress until either their writer marks change or a writer times out.
+     */
+    private final ConcurrentHashMap<Stream, EvaluatedMarks> evaluatedMarks = new ConcurrentHashMap<>();
 
     public PeriodicWatermarking(StreamMetadataStore streamMetadataStore, BucketStore bucketStore,
                                 ClientConfig clientConfig, ScheduledExecutorService executor, RequestTracker requestTracker) {
-        this(streamMetadataStore, bucketStore, s -> SynchronizerClientFactory.withScope(s, clientConfig), executor, requestTracker);
+        this(streamMetadataStore, bucketStore, clientConfig, executor, requestTracker, Duration.ZERO);
+    }
+
+    public PeriodicWatermarking(StreamMetadataStore streamMetadataStore, BucketStore bucketStore,
+                                ClientConfig clientConfig, ScheduledExecutorService executor, RequestTracker requestTracker,
+                                Duration markRefreshInterval) {
+        this(streamMetadataStore, bucketStore, s -> SynchronizerClientFactory.withScope(s, clientConfig), executor, requestTracker,
+                markRefreshInterval);
     }
 
     @VisibleForTesting
     PeriodicWatermarking(StreamMetadataStore streamMetadataStore, BucketStore bucketStore,
                                  Function<String, SynchronizerClientFactory> synchronizerClientFactoryFactory,
                                  ScheduledExecutorService executor, RequestTracker requestTracker) {
+        this(streamMetadataStore, bucketStore, synchronizerClientFactoryFactory, executor, requestTracker, Duration.ZERO);
+    }
+
+    @VisibleForTesting
+    PeriodicWatermarking(StreamMetadataStore streamMetadataStore, BucketStore bucketStore,
+                                 Function<String, SynchronizerClientFactory> synchronizerClientFactoryFactory,
+                                 ScheduledExecutorService executor, RequestTracker requestTracker, Duration markRefreshInterval) {
+        Preconditions.checkArgument(!markRefreshInterval.isNegative(), "markRefreshInterval must be non-negative.");
+        this.markRefreshInterval = markRefreshInterval;
         this.streamMetadataStore = streamMetadataStore;
         this.bucketStore = bucketStore;
         this.executor = executor;
@@ -130,11 +164,26 @@ public class PeriodicWatermarking implements AutoCloseable {
         this.watermarkClientCache.invalidateAll();
     }
 
+    /**
+     * Notifies that a writer mark of the given stream has been updated, so that the next iteration for the stream
+     * reads and evaluates writer marks again.
+     *
+     * @param stream Stream whose writer marks were updated.
+     */
+    public void noteWriterMarksChanged(Stream stream) {
+        changedStreams.add(stream);
+    }
+
     /**
      * This method computes and emits a new watermark for the given stream.
      * It collects all the known writers for the given stream and includes only writers that are active (have reported
      * their marks recently). If all active writers have reported marks greater than the previously emitted watermark,
      * then new watermark is computed and emitted. If not, the window for considering writers as active is progressed.
+     *
+     * If the previous iteration could not make progress, the computation is skipped for as long as the writer marks of the
+     * stream remain the same and no writer is due to time out. In addition, if a mark refresh interval is configured,
+     * writer marks are not even read for the duration of that interval unless some of them were updated through this
+     * Controller instance.
      * @param stream stream for which watermark should be computed.
      * @return Returns a completableFuture which when completed will have completed another iteration of periodic watermark
      * computation.
@@ -152,6 +201,14 @@ public class PeriodicWatermarking implements AutoCloseable {
             return CompletableFuture.completedFuture(null); 
         }
         
+        boolean changed = changedStreams.remove(stream);
+        EvaluatedMarks evaluated = evaluatedMarks.get(stream);
+        long readTime = System.currentTimeMillis();
+        if (!changed && evaluated != null && evaluated.canSkipRead(readTime, markRefreshInterval)) {
+            WatermarkingMetrics.reportWatermarkComputation(true);
+            return CompletableFuture.completedFuture(null);
+        }
+
         log.debug(requestId, "Periodic background processing for watermarking called for stream {}/{}",
                 scope, streamName);
 
@@ -160,6 +217,17 @@ public class PeriodicWatermarking implements AutoCloseable {
                 e -> Exceptions.unwrap(e) instanceof StoreException.DataNotFoundException, Collections.emptyMap());
         
         return allWriterMarks.thenCompose(writers -> {
+            if (evaluated != null && evaluated.isUnchanged(writers, readTime)) {
+                log.debug(requestId, "Writer marks of stream {}/{} have not changed, skipping watermark computation.",
+                        scope, streamName);
+                evaluatedMarks.put(stream, new EvaluatedMarks(evaluated.getWriterMarks(), readTime,
+                        evaluated.getNextEvaluationTime()));
+                WatermarkingMetrics.reportWatermarkComputation(true);
+                return CompletableFuture.completedFuture(null);
+            }
+
+            evaluatedMarks.remove(stream);
+            WatermarkingMetrics.reportWatermarkComputation(false);
             WatermarkClient watermarkClient = watermarkClientCache.getUnchecked(stream);
 
             try {
@@ -174,14 +242,28 @@ public class PeriodicWatermarking implements AutoCloseable {
                 throw e;
             }
             return streamMetadataStore.getConfiguration(scope, streamName, context, executor)
-                .thenCompose(config -> filterWritersAndComputeWatermark(scope, streamName, context, watermarkClient, writers, config));
+                .thenCompose(config -> filterWritersAndComputeWatermark(scope, streamName, context, watermarkClient, writers, config)
+                        .thenAccept(settled -> {
+                            if (settled) {
+                                // Nothing changes for this stream until its writer marks do or a writer times out.
+                                evaluatedMarks.put(stream, new EvaluatedMarks(writers, readTime,
+                                        watermarkClient.getNextInactivityDeadline(config.getTimestampAggregationTimeout())));
+                            }
+                        }));
         }).exceptionally(e -> {
+            evaluatedMarks.remove(stream);
             log.warn(requestId, "Exception thrown while trying to perform periodic watermark computation. Logging and ignoring.", e);
             return null;
         });
     }
 
-    private CompletionStage<Void> filterWritersAndComputeWatermark(String scope, String streamName, OperationContext context,
+    /**
+     * Filters active writers and computes the watermark from their marks.
+     *
+     * @return A CompletionStage that, when completed, indicates whether the iteration could not make progress, in which
+     * case further iterations can not make progress either until writer marks change or active writers time out.
+     */
+    private CompletionStage<Boolean> filterWritersAndComputeWatermark(String scope, String streamName, OperationContext context,
                                                                    WatermarkClient watermarkClient, Map<String, WriterMark> writers,
                                                                    StreamConfiguration config) {
         // 1. filter writers that are active.
@@ -214,7 +296,8 @@ public class PeriodicWatermarking implements AutoCloseable {
             // periodic processing will resume.
             return removeInactiveWriters
                     .thenCompose(v -> bucketStore.removeStreamFromBucketStore(BucketStore.ServiceType.WatermarkingService,
-                            scope, streamName, executor));
+                            scope, streamName, executor))
+                    .thenApply(v -> false);
         }
 
         CompletableFuture<Watermark> watermarkFuture;
@@ -231,7 +314,11 @@ public class PeriodicWatermarking implements AutoCloseable {
         }
 
         // we will compute watermark and remove inactive writers concurrently
-        return CompletableFuture.allOf(removeInactiveWriters, watermarkFuture.thenAccept(watermarkClient::completeIteration));
+        CompletableFuture<Boolean> emitFuture = watermarkFuture.thenApply(watermark -> {
+            watermarkClient.completeIteration(watermark);
+            return watermark == null;
+        });
+        return CompletableFuture.allOf(removeInactiveWriters, emitFuture).thenApply(v -> emitFuture.join());
     }
 
     /**
@@ -408,6 +495,25 @@ public class PeriodicWatermarking implements AutoCloseable {
         return missingRanges;
     }
 
+    /**
+     * Writer marks of a stream along with the times at which they were read and at which they need to be evaluated again
+     * even if they do not change.
+     */
+    @Data
+    private static class EvaluatedMarks {
+        private final Map<String, WriterMark> writerMarks;
+        private final long readTime;
+        private final long nextEvaluationTime;
+
+        boolean canSkipRead(long currentTime, Duration markRefreshInterval) {
+            return currentTime - readTime < markRefreshInterval.toMillis() && currentTime < nextEvaluationTime;
+        }
+
+        boolean isUnchanged(Map<String, WriterMark> currentMarks, long currentTime) {
+            return writerMarks.equals(currentMarks) && currentTime < nextEvaluationTime;
+        }
+    }
+
     @VisibleForTesting
     boolean checkExistsInCache(Stream stream) {
         return watermarkClientCache.asMap().containsKey(stream);
@@ -526,6 +632,16 @@ public class PeriodicWatermarking implements AutoCloseable {
             return time > latest.getValue().getLowerTimeBound();
         }
 
+        /**
+         * Gets the earliest time at which a writer that is currently tracked for inactivity times out.
+         *
+         * @param timeout Time after which inactive writers time out.
+         * @return Time in millis, or {@link Long#MAX_VALUE} if no writer is tracked for inactivity.
+         */
+        long getNextInactivityDeadline(long timeout) {
+            return inactiveWriters.values().stream().mapToLong(x -> x + timeout).min().orElse(Long.MAX_VALUE);
+        }
+
         private void untrackWriterInactivity(String writerId) {
             inactiveWriters.remove(writerId);
         }
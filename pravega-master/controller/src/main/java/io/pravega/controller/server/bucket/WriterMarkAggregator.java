@@ -0,0 +1,239 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.server.bucket;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.client.stream.Stream;
+import io.pravega.common.Timer;
+import io.pravega.common.tracing.TagLogger;
+import io.pravega.controller.metrics.WatermarkingMetrics;
+import io.pravega.controller.store.stream.WriterTimestampResponse;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Coalesces writer marks reported to this Controller instance before persisting them in the stream metadata store.
+ *
+ * At most one mark per writer and stream is being persisted at any time. Marks reported by a writer while its previous
+ * mark is being persisted are held in memory, and only the latest of them is persisted once the previous persist
+ * completes. Callers whose marks were superseded this way receive the result of the persist of the mark that superseded
+ * theirs. This bounds the number of metadata store updates per writer to one per store round trip, irrespective of how
+ * frequently writers report their marks.
+ *
+ * Listeners registered with {@link #addListener} are notified of every stream for which a writer mark was successfully
+ * persisted.
+ */
+public class WriterMarkAggregator {
+    private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(WriterMarkAggregator.class));
+
+    private final MarkPersister persister;
+    private final ConcurrentHashMap<WriterKey, WriterState> writers = new ConcurrentHashMap<>();
+    private final List<Consumer<Stream>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Creates a new instance of the WriterMarkAggregator class.
+     *
+     * @param persister Function that persists a writer mark in the metadata store.
+     */
+    public WriterMarkAggregator(MarkPersister persister) {
+        this.persister = Preconditions.checkNotNull(persister, "persister");
+    }
+
+    /**
+     * Registers a listener that is invoked with the stream for which a writer mark was persisted.
+     *
+     * @param listener Listener to register.
+     */
+    public void addListener(Consumer<Stream> listener) {
+        listeners.add(Preconditions.checkNotNull(listener, "listener"));
+    }
+
+    /**
+     * Notes the mark of a writer. The mark is persisted immediately if no other mark of the same writer is being persisted,
+     * otherwise it is persisted (unless superseded) once the persist in progress completes.
+     *
+     * @param scope     Scope of the stream.
+     * @param stream    Name of the stream.
+     * @param writer    Id of the writer.
+     * @param timestamp Timestamp reported by the writer.
+     * @param position  Position of the writer.
+     * @param requestId Id of the request.
+     * @return A CompletableFuture that, when completed, will contain the result of persisting the mark (or the mark that
+     * superseded it).
+     */
+    public CompletableFuture<WriterTimestampResponse> noteWriterMark(String scope, String stream, String writer,
+                                                                     long timestamp, Map<Long, Long> position, long requestId) {
+        WatermarkingMetrics.reportMarkReceived();
+        WriterKey key = new WriterKey(scope, stream, writer);
+        PendingMark mark = new PendingMark(timestamp, position, requestId);
+        CompletableFuture<WriterTimestampResponse> result = new CompletableFuture<>();
+        AtomicBoolean persistNow = new AtomicBoolean(false);
+        AtomicBoolean outOfOrder = new AtomicBoolean(false);
+        writers.compute(key, (k, state) -> {
+            if (state == null) {
+                mark.callers.add(result);
+                persistNow.set(true);
+                return new WriterState();
+            }
+
+            PendingMark next = state.next;
+            if (next != null && next.timestamp > timestamp) {
+                // A later mark of this writer is already waiting. This mark would be rejected once that one is
+                // persisted, so there is no point in superseding it.
+                outOfOrder.set(true);
+            } else {
+                mark.callers.add(result);
+                if (next != null) {
+                    mark.callers.addAll(next.callers);
+                    WatermarkingMetrics.reportMarkCoalesced();
+                }
+                state.next = mark;
+            }
+            return state;
+        });
+
+        if (outOfOrder.get()) {
+            result.complete(WriterTimestampResponse.INVALID_TIME);
+        } else if (persistNow.get()) {
+            persist(key, mark);
+        }
+        return result;
+    }
+
+    private void persist(WriterKey key, PendingMark mark) {
+        Timer timer = new Timer();
+        CompletableFuture<WriterTimestampResponse> future;
+        try {
+            future = persister.persist(key.scope, key.stream, key.writer, mark.timestamp, mark.position, mark.requestId);
+        } catch (Exception e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+
+        future.whenComplete((response, e) -> {
+            if (e == null) {
+                WatermarkingMetrics.reportMarkPersisted(timer.getElapsed());
+                if (response == WriterTimestampResponse.SUCCESS) {
+                    notifyListeners(key);
+                }
+                mark.callers.forEach(f -> f.complete(response));
+            } else {
+                log.debug(mark.requestId, "Failed to persist mark of writer {} for stream {}/{}.", key.writer, key.scope,
+                        key.stream, e);
+                mark.callers.forEach(f -> f.completeExceptionally(e));
+            }
+
+            PendingMark next = takeNext(key);
+            if (next != null) {
+                persist(key, next);
+            }
+        });
+    }
+
+    /**
+     * Removes the mark waiting to be persisted for the given writer. If there is none, the writer is no longer tracked.
+     */
+    private PendingMark takeNext(WriterKey key) {
+        AtomicReference<PendingMark> next = new AtomicReference<>();
+        writers.computeIfPresent(key, (k, state) -> {
+            if (state.next == null) {
+                return null;
+            }
+            next.set(state.next);
+            state.next = null;
+            return state;
+        });
+        return next.get();
+    }
+
+    private void notifyListeners(WriterKey key) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Stream stream = Stream.of(key.scope, key.stream);
+        for (Consumer<Stream> listener : listeners) {
+            try {
+                listener.accept(stream);
+            } catch (Exception e) {
+                log.warn("Writer mark listener failed for stream {}.", stream, e);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of writers with a mark being persisted.
+     *
+     * @return Number of writers.
+     */
+    @VisibleForTesting
+    int getActiveWriterCount() {
+        return writers.size();
+    }
+
+    /**
+     * Persists a writer mark in the metadata store.
+     */
+    @FunctionalInterface
+    public interface MarkPersister {
+        /**
+         * Persists the given writer mark.
+         *
+         * @param scope     Scope of the stream.
+         * @param stream    Name of the stream.
+         * @param writer    Id of the writer.
+         * @param timestamp Timestamp reported by the writer.
+         * @param position  Position of the writer.
+         * @param requestId Id of the request.
+         * @return A CompletableFuture that, when completed, will contain the result of persisting the mark.
+         */
+        CompletableFuture<WriterTimestampResponse> persist(String scope, String stream, String writer, long timestamp,
+                                                           Map<Long, Long> position, long requestId);
+    }
+
+    @Data
+    private static class WriterKey {
+        private final String scope;
+        private final String stream;
+        private final String writer;
+    }
+
+    /**
+     * State of a writer with a mark being persisted. Only accessed from within the compute functions of the map.
+     */
+    private static class WriterState {
+        private PendingMark next;
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingMark {
+        private final long timestamp;
+        private final Map<Long, Long> position;
+        private final long requestId;
+        private final List<CompletableFuture<WriterTimestampResponse>> callers = new ArrayList<>();
+    }
+}
@@ -123,6 +123,13 @@ public interface ControllerEventProcessorConfig {
      */
     ScalingPolicy getRequestStreamScalingPolicy();
 
+    /**
+     * Fetches the number of readers in the request stream reader group of each controller instance.
+     *
+     * @return The number of request stream readers per controller instance.
+     */
+    int getRequestReaderGroupSize();
+
     /**
      * Fetches checkpoint configuration for request stream event processors.
      *
@@ -158,6 +165,13 @@ public interface ControllerEventProcessorConfig {
      */
     ScalingPolicy getKvtStreamScalingPolicy();
 
+    /**
+     * Fetches the number of readers in the kvtable request stream reader group of each controller instance.
+     *
+     * @return The number of kvtable request stream readers per controller instance.
+     */
+    int getKvtReaderGroupSize();
+
     /**
      * Gets a value indicating the amount of time to await a shutdown.
      *
@@ -21,6 +21,7 @@ import com.google.common.util.concurrent.AbstractIdleService;
 import io.pravega.client.admin.impl.ReaderGroupManagerImpl;
 import io.pravega.client.connection.impl.ConnectionPool;
 import io.pravega.client.stream.Position;
+import io.pravega.client.stream.ScalingPolicy;
 import io.pravega.client.stream.StreamConfiguration;
 import io.pravega.client.stream.impl.ClientFactoryImpl;
 import io.pravega.client.stream.impl.PositionImpl;
@@ -379,9 +380,42 @@ public class ControllerEventProcessors extends AbstractIdleService implements Fa
                     delay, executor), executor);
             this.bootstrapCompleted.set(true);
             log.info("Completed bootstrapping event processors.");
+            // The update is processed by the request event processors, so it is not awaited here.
+            scaleRequestStreamIfNeeded();
         }, executor);
     }
 
+    /**
+     * Scales up the request stream if it was created with fewer segments than currently configured (Eg. by an older
+     * deployment). The stream is never scaled down.
+     *
+     * @return A CompletableFuture that, when completed, indicates that the stream did not need to be scaled, was scaled
+     * or that scaling failed (which is only logged).
+     */
+    @VisibleForTesting
+    CompletableFuture<Void> scaleRequestStreamIfNeeded() {
+        String scope = config.getScopeName();
+        String stream = config.getRequestStreamName();
+        ScalingPolicy scalingPolicy = config.getRequestStreamScalingPolicy();
+        return CompletableFuture.completedFuture(null)
+                .thenComposeAsync(v -> controller.getCurrentSegments(scope, stream), executor)
+                .thenCompose(segments -> {
+                    int segmentCount = segments.getNumberOfSegments();
+                    if (segmentCount >= scalingPolicy.getMinNumSegments()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    log.info("Scaling request stream {}/{} from {} to {} segments.", scope, stream, segmentCount,
+                            scalingPolicy.getMinNumSegments());
+                    return controller.updateStream(scope, stream, StreamConfiguration.builder().scalingPolicy(scalingPolicy).build())
+                            .thenAccept(updated -> log.info("Scaled request stream {}/{} to {} segments.", scope, stream,
+                                    scalingPolicy.getMinNumSegments()));
+                })
+                .exceptionally(e -> {
+                    log.warn("Unable to scale request stream {}/{}: {}", scope, stream, Exceptions.unwrap(e).toString());
+                    return null;
+                });
+    }
+
     @VisibleForTesting
     CompletableFuture<Void> truncate(String streamName, String readergroupName, StreamMetadataTasks streamMetadataTasks) {
         Preconditions.checkState(isRunning());
@@ -550,7 +584,7 @@ public class ControllerEventProcessors extends AbstractIdleService implements Fa
                 EventProcessorGroupConfigImpl.builder()
                         .streamName(config.getRequestStreamName())
                         .readerGroupName(config.getRequestReaderGroupName())
-                        .eventProcessorCount(1)
+                        .eventProcessorCount(config.getRequestReaderGroupSize())
                         .checkpointConfig(CheckpointConfig.none())
                         .build();
 
@@ -578,7 +612,7 @@ public class ControllerEventProcessors extends AbstractIdleService implements Fa
                 EventProcessorGroupConfigImpl.builder()
                         .streamName(config.getKvtStreamName())
                         .readerGroupName(config.getKvtReaderGroupName())
-                        .eventProcessorCount(1)
+                        .eventProcessorCount(config.getKvtReaderGroupSize())
                         .checkpointConfig(CheckpointConfig.none())
                         .build();
 
@@ -23,6 +23,7 @@ import io.pravega.client.control.impl.ControllerFailureException;
 import io.pravega.client.control.impl.ModelHelper;
 import io.pravega.client.control.impl.ReaderGroupConfigRejectedException;
 import io.pravega.client.segment.impl.Segment;
+import io.pravega.client.stream.BulkStreamOperationException;
 import io.pravega.client.stream.InvalidStreamException;
 import io.pravega.client.stream.PingFailedException;
 import io.pravega.client.stream.ReaderGroupConfig;
@@ -51,6 +52,10 @@ import io.pravega.controller.server.ControllerService;
 import io.pravega.controller.server.security.auth.GrpcAuthHelper;
 import io.pravega.controller.store.stream.StoreException;
 import io.pravega.controller.stream.api.grpc.v1.Controller.CreateStreamStatus;
+import io.pravega.controller.stream.api.grpc.v1.Controller.DeleteStreamStatus;
+import io.pravega.controller.stream.api.grpc.v1.Controller.StreamConfig;
+import io.pravega.controller.stream.api.grpc.v1.Controller.StreamInfo;
+import io.pravega.controller.stream.api.grpc.v1.Controller.UpdateStreamStatus;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ScaleResponse;
 import io.pravega.controller.stream.api.grpc.v1.Controller.SegmentRange;
 import io.pravega.controller.stream.api.grpc.v1.Controller.ControllerToBucketMappingRequest;
@@ -66,6 +71,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
@@ -212,6 +219,19 @@ public class LocalController implements Controller {
                 .thenApply(x -> getCreateStreamStatus(x, scope, streamName, streamConfig));
     }
 
+    @Override
+    public CompletableFuture<Map<String, Boolean>> createStreams(String scope, Map<String, StreamConfiguration> streams) {
+        List<String> streamNames = new ArrayList<>(streams.keySet());
+        List<StreamConfig> configs = streamNames.stream()
+                .map(streamName -> ModelHelper.decode(scope, streamName, streams.get(streamName)))
+                .collect(Collectors.toList());
+        return this.controller.createStreams(configs, System.currentTimeMillis(), requestIdGenerator.nextLong())
+                .thenApply(x -> toBulkResult("createStreams", streamNames, i -> {
+                    String streamName = streamNames.get(i);
+                    return getCreateStreamStatus(x.getResults(i), scope, streamName, streams.get(streamName));
+                }));
+    }
+
     private boolean getCreateStreamStatus(CreateStreamStatus streamStatus, String scope, String streamName, StreamConfiguration streamConfig) {
         switch (streamStatus.getStatus()) {
             case FAILURE:
@@ -232,23 +252,39 @@ public class LocalController implements Controller {
 
     @Override
     public CompletableFuture<Boolean> updateStream(String scope, String streamName, final StreamConfiguration streamConfig) {
-        return this.controller.updateStream(scope, streamName, streamConfig, requestIdGenerator.nextLong()).thenApply(x -> {
-            String scopedStreamName = NameUtils.getScopedStreamName(scope, streamName);
-            switch (x.getStatus()) {
-            case FAILURE:
-                throw new ControllerFailureException(String.format("Failed to update Stream: %s, config: %s", scopedStreamName, streamConfig));
-            case SCOPE_NOT_FOUND:
-                throw new IllegalArgumentException(String.format("Failed to update Stream %s as Scope %s does not exist.", scope, streamName));
-            case STREAM_NOT_FOUND:
-                throw new IllegalArgumentException(String.format("Failed to update Stream: %s as Stream does not exist under Scope: %s", streamName, scope));
-            case STREAM_SEALED:
-                throw new UnsupportedOperationException(String.format("Failed to update Stream: %s as Stream is sealed", streamName));
-            case SUCCESS:
-                return true;
-            default:
-                throw new ControllerFailureException(String.format("Failed to update Stream: %s. Unknown return status updating stream %s", scopedStreamName, x.getStatus()));
-            }
-        });
+        return this.controller.updateStream(scope, streamName, streamConfig, requestIdGenerator.nextLong())
+                .thenApply(x -> getUpdateStreamStatus(x, scope, streamName, streamConfig));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Boolean>> updateStreams(String scope, Map<String, StreamConfiguration> streams) {
+        List<String> streamNames = new ArrayList<>(streams.keySet());
+        List<StreamConfig> configs = streamNames.stream()
+                .map(streamName -> ModelHelper.decode(scope, streamName, streams.get(streamName)))
+                .collect(Collectors.toList());
+        return this.controller.updateStreams(configs, requestIdGenerator.nextLong())
+                .thenApply(x -> toBulkResult("updateStreams", streamNames, i -> {
+                    String streamName = streamNames.get(i);
+                    return getUpdateStreamStatus(x.getResults(i), scope, streamName, streams.get(streamName));
+                }));
+    }
+
+    private boolean getUpdateStreamStatus(UpdateStreamStatus streamStatus, String scope, String streamName, StreamConfiguration streamConfig) {
+        String scopedStreamName = NameUtils.getScopedStreamName(scope, streamName);
+        switch (streamStatus.getStatus()) {
+        case FAILURE:
+            throw new ControllerFailureException(String.format("Failed to update Stream: %s, config: %s", scopedStreamName, streamConfig));
+        case SCOPE_NOT_FOUND:
+            throw new IllegalArgumentException(String.format("Failed to update Stream %s as Scope %s does not exist.", scope, streamName));
+        case STREAM_NOT_FOUND:
+            throw new IllegalArgumentException(String.format("Failed to update Stream: %s as Stream does not exist under Scope: %s", streamName, scope));
+        case STREAM_SEALED:
+            throw new UnsupportedOperationException(String.format("Failed to update Stream: %s as Stream is sealed", streamName));
+        case SUCCESS:
+            return true;
+        default:
+            throw new ControllerFailureException(String.format("Failed to update Stream: %s. Unknown return status updating stream %s", scopedStreamName, streamStatus.getStatus()));
+        }
     }
 
     @Override
@@ -418,21 +454,50 @@ public class LocalController implements Controller {
 
     @Override
     public CompletableFuture<Boolean> deleteStream(final String scope, final String streamName) {
-        return this.controller.deleteStream(scope, streamName, requestIdGenerator.nextLong()).thenApply(x -> {
-            switch (x.getStatus()) {
-            case FAILURE:
-                throw new ControllerFailureException("Failed to delete stream: " + streamName);
-            case STREAM_NOT_FOUND:
-                return false;
-            case STREAM_NOT_SEALED:
-                throw new IllegalArgumentException("Stream is not sealed: " + streamName);
-            case SUCCESS:
-                return true;
-            default:
-                throw new ControllerFailureException("Unknown return status deleting stream " + streamName + " "
-                        + x.getStatus());
+        return this.controller.deleteStream(scope, streamName, requestIdGenerator.nextLong())
+                .thenApply(x -> getDeleteStreamStatus(x, streamName));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Boolean>> deleteStreams(final String scope, final Collection<String> streamNames) {
+        List<String> names = new ArrayList<>(new LinkedHashSet<>(streamNames));
+        List<StreamInfo> streams = names.stream()
+                .map(streamName -> ModelHelper.createStreamInfo(scope, streamName))
+                .collect(Collectors.toList());
+        return this.controller.deleteStreams(streams, requestIdGenerator.nextLong())
+                .thenApply(x -> toBulkResult("deleteStreams", names, i -> getDeleteStreamStatus(x.getResults(i), names.get(i))));
+    }
+
+    private boolean getDeleteStreamStatus(DeleteStreamStatus streamStatus, String streamName) {
+        switch (streamStatus.getStatus()) {
+        case FAILURE:
+            throw new ControllerFailureException("Failed to delete stream: " + streamName);
+        case STREAM_NOT_FOUND:
+            return false;
+        case STREAM_NOT_SEALED:
+            throw new IllegalArgumentException("Stream is not sealed: " + streamName);
+        case SUCCESS:
+            return true;
+        default:
+            throw new ControllerFailureException("Unknown return status deleting stream " + streamName + " "
+                    + streamStatus.getStatus());
+        }
+    }
+
+    private Map<String, Boolean> toBulkResult(String operation, List<String> streamNames, Function<Integer, Boolean> getResult) {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        for (int i = 0; i < streamNames.size(); i++) {
+            try {
+                result.put(streamNames.get(i), getResult.apply(i));
+            } catch (Exception ex) {
+                failures.put(streamNames.get(i), ex);
             }
-        });
+        }
+        if (!failures.isEmpty()) {
+            throw new BulkStreamOperationException(operation, result, failures);
+        }
+        return result;
     }
 
     @Override
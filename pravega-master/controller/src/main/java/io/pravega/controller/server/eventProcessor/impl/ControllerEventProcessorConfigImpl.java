@@ -79,6 +79,7 @@ public class ControllerEventProcessorConfigImpl implements ControllerEventProces
                                        final CheckpointConfig commitCheckpointConfig,
                                        final CheckpointConfig abortCheckpointConfig,
                                        final ScalingPolicy scaleStreamScalingPolicy,
+                                       final int scaleReaderGroupSize,
                                        final long rebalanceIntervalMillis,
                                        final Duration shutdownTimeout) {
 
@@ -116,7 +117,7 @@ public class ControllerEventProcessorConfigImpl implements ControllerEventProces
         this.scaleStreamName = Config.SCALE_STREAM_NAME;
         this.scaleStreamScalingPolicy = scaleStreamScalingPolicy;
         this.scaleReaderGroupName = Config.SCALE_READER_GROUP;
-        this.scaleReaderGroupSize = 1;
+        this.scaleReaderGroupSize = scaleReaderGroupSize > 0 ? scaleReaderGroupSize : 1;
         this.scaleCheckpointConfig = CheckpointConfig.none();
         this.rebalanceIntervalMillis = rebalanceIntervalMillis;
         this.shutdownTimeout = shutdownTimeout == null ? Duration.ofSeconds(10) : shutdownTimeout;
@@ -134,14 +135,15 @@ public class ControllerEventProcessorConfigImpl implements ControllerEventProces
                 .kvtStreamName(NameUtils.getInternalNameForStream("kvTableStream"))
                 .commitStreamScalingPolicy(ScalingPolicy.fixed(2))
                 .abortStreamScalingPolicy(ScalingPolicy.fixed(2))
-                .scaleStreamScalingPolicy(ScalingPolicy.fixed(2))
+                .scaleStreamScalingPolicy(ScalingPolicy.fixed(Config.SCALE_STREAM_SEGMENT_COUNT))
+                .scaleReaderGroupSize(Config.SCALE_READER_GROUP_SIZE)
                 .kvtStreamScalingPolicy(ScalingPolicy.fixed(5))
                 .commitReaderGroupName("commitStreamReaders")
                 .commitReaderGroupSize(1)
                 .abortReaderGroupName("abortStreamReaders")
                 .abortReaderGroupSize(1)
                 .kvtReaderGroupName("kvtStreamReaders")
-                .kvtReaderGroupSize(1)
+                .kvtReaderGroupSize(Config.KVT_READER_GROUP_SIZE)
                 .commitCheckpointConfig(CheckpointConfig.periodic(10, 10))
                 .abortCheckpointConfig(CheckpointConfig.periodic(10, 10))
                 .rebalanceIntervalMillis(Duration.ofMinutes(2).toMillis());
@@ -162,6 +164,11 @@ public class ControllerEventProcessorConfigImpl implements ControllerEventProces
         return scaleStreamScalingPolicy;
     }
 
+    @Override
+    public int getRequestReaderGroupSize() {
+        return scaleReaderGroupSize;
+    }
+
     @Override
     public CheckpointConfig getRequestStreamCheckpointConfig() {
         return scaleCheckpointConfig;
@@ -15,6 +15,7 @@
  */
 package io.pravega.controller.server.eventProcessor.requesthandlers;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import io.pravega.client.stream.ScalingPolicy;
@@ -52,6 +53,11 @@ public class AutoScaleTask {
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(AutoScaleTask.class));
 
     private static final long REQUEST_VALIDITY_PERIOD = Duration.ofMinutes(10).toMillis();
+    /**
+     * Minimum width of a new segment's key range, relative to the key range of the segment being split, when splitting
+     * by load.
+     */
+    private static final double MIN_SPLIT_WIDTH = 0.001;
 
     private final StreamMetadataTasks streamMetadataTasks;
     private final StreamMetadataStore streamMetadataStore;
@@ -113,23 +119,82 @@ public class AutoScaleTask {
                 .thenComposeAsync(segment -> {
                     // do not go above scale factor. Minimum scale factor is 2 though.
                     int numOfSplits = Math.min(Math.max(2, request.getNumOfSplits()), Math.max(2, policy.getScaleFactor()));
-                    double delta = (segment.getKeyEnd() - segment.getKeyStart()) / numOfSplits;
-
-                    final ArrayList<Map.Entry<Double, Double>> simpleEntries = new ArrayList<>();
-                    for (int i = 0; i < numOfSplits - 1; i++) {
-                        simpleEntries.add(new AbstractMap.SimpleEntry<>(segment.getKeyStart() + delta * i,
-                                segment.getKeyStart() + (delta * (i + 1))));
-                    }
-                    // add the last entry such that is key end matches original segments key end.
-                    // This is because of doubles precision which may mean `start + n * ((end - start) / n)` may not equal `end`.
-                    simpleEntries.add(new AbstractMap.SimpleEntry<>(segment.getKeyStart() + delta * (numOfSplits -1),
-                            segment.getKeyEnd()));
-
+                    List<Map.Entry<Double, Double>> simpleEntries = computeNewRanges(segment.getKeyStart(), segment.getKeyEnd(),
+                            numOfSplits, request.getKeyLoadQuantiles());
                     return postScaleRequest(request, Lists.newArrayList(request.getSegmentId()), simpleEntries, 
                             request.getRequestId());
                 }, executor);
     }
 
+    /**
+     * Computes the key ranges of the segments that replace a segment that is split.
+     *
+     * If the load quantiles of the segment are known, the split points are chosen so that each new segment receives an
+     * equal share of the load. Otherwise, or if the quantiles would produce degenerate ranges, the key range is split
+     * into equal parts.
+     *
+     * @param keyStart      Start of the key range of the segment.
+     * @param keyEnd        End of the key range of the segment.
+     * @param numOfSplits   Number of segments to split into.
+     * @param loadQuantiles Positions in the key space that divide the load of the segment into equal parts, in ascending
+     *                      order. May be empty.
+     * @return The key ranges of the new segments, in order.
+     */
+    @VisibleForTesting
+    static List<Map.Entry<Double, Double>> computeNewRanges(double keyStart, double keyEnd, int numOfSplits,
+                                                            List<Double> loadQuantiles) {
+        double[] splitPoints = getLoadBalancedSplitPoints(keyStart, keyEnd, numOfSplits, loadQuantiles);
+        double delta = (keyEnd - keyStart) / numOfSplits;
+        final ArrayList<Map.Entry<Double, Double>> simpleEntries = new ArrayList<>();
+        double start = keyStart;
+        for (int i = 0; i < numOfSplits - 1; i++) {
+            double end = splitPoints == null ? keyStart + (delta * (i + 1)) : splitPoints[i];
+            simpleEntries.add(new AbstractMap.SimpleEntry<>(start, end));
+            start = end;
+        }
+        // add the last entry such that is key end matches original segments key end.
+        // This is because of doubles precision which may mean `start + n * ((end - start) / n)` may not equal `end`.
+        simpleEntries.add(new AbstractMap.SimpleEntry<>(start, keyEnd));
+        return simpleEntries;
+    }
+
+    private static double[] getLoadBalancedSplitPoints(double keyStart, double keyEnd, int numOfSplits,
+                                                       List<Double> loadQuantiles) {
+        if (loadQuantiles == null || loadQuantiles.isEmpty()) {
+            return null;
+        }
+
+        // Cumulative load (as a fraction) -> position, with the whole load between keyStart and keyEnd.
+        int parts = loadQuantiles.size() + 1;
+        double[] positions = new double[parts + 1];
+        positions[0] = keyStart;
+        positions[parts] = keyEnd;
+        for (int i = 0; i < loadQuantiles.size(); i++) {
+            Double q = loadQuantiles.get(i);
+            if (q == null || Double.isNaN(q)) {
+                return null;
+            }
+            positions[i + 1] = Math.max(keyStart, Math.min(keyEnd, q));
+            if (positions[i + 1] < positions[i]) {
+                return null;
+            }
+        }
+
+        double minWidth = (keyEnd - keyStart) * MIN_SPLIT_WIDTH;
+        double[] splitPoints = new double[numOfSplits - 1];
+        double previous = keyStart;
+        for (int i = 0; i < splitPoints.length; i++) {
+            double x = (double) (i + 1) * parts / numOfSplits;
+            int j = Math.min((int) x, parts - 1);
+            splitPoints[i] = positions[j] + (x - j) * (positions[j + 1] - positions[j]);
+            if (splitPoints[i] - previous < minWidth) {
+                return null;
+            }
+            previous = splitPoints[i];
+        }
+        return keyEnd - previous < minWidth ? null : splitPoints;
+    }
+
     private CompletableFuture<Void> processScaleDown(final AutoScaleEvent request, final ScalingPolicy policy, 
                                                      final OperationContext context) {
         String qualifiedName = NameUtils.getQualifiedStreamSegmentName(request.getScope(), request.getStream(), 
@@ -115,12 +115,14 @@ import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_KEY_VAL
 import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_READER_GROUP;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_SCOPE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_STREAM;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_STREAMS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.CREATE_TRANSACTION;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_KEY_VALUE_TABLE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_READER_GROUP;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_SCOPE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_SCOPE_RECURSIVE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_STREAM;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.DELETE_STREAMS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_CURRENT_SEGMENTS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_CURRENT_SEGMENTS_KEY_VALUE_TABLE;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_EPOCH_SEGMENTS;
@@ -140,6 +142,7 @@ import static io.pravega.shared.controller.tracing.RPCTracingTags.LIST_STREAMS_I
 import static io.pravega.shared.controller.tracing.RPCTracingTags.LIST_STREAMS_IN_SCOPE_FOR_TAG;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.LIST_SUBSCRIBERS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.NOTE_TIMESTAMP_FROM_WRITER;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.NOTE_TIMESTAMPS_FROM_WRITERS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.PING_TRANSACTION;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.REMOVE_WRITER;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.SCALE_STREAM;
@@ -147,9 +150,11 @@ import static io.pravega.shared.controller.tracing.RPCTracingTags.SEAL_STREAM;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.TRUNCATE_STREAM;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.UPDATE_READER_GROUP;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.UPDATE_STREAM;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.UPDATE_STREAMS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.UPDATE_TRUNCATION_STREAM_CUT;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.LIST_COMPLETED_TRANSACTIONS;
 import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_CONTROLLER_TO_BUCKET_MAPPING;
+import static io.pravega.shared.controller.tracing.RPCTracingTags.GET_CONTAINER_ROUTING_TABLE;
 
 /**
  * gRPC Service API implementation for the Controller.
@@ -481,6 +486,64 @@ public class ControllerServiceImpl extends ControllerServiceGrpc.ControllerServi
                 responseObserver, requestTag);
     }
 
+    @Override
+    public void createStreams(Controller.StreamConfigs request, StreamObserver<Controller.CreateStreamsStatus> responseObserver) {
+        RequestTag requestTag = requestTracker.initializeAndTrackRequestTag(controllerService.nextRequestId(),
+                CREATE_STREAMS, Integer.toString(request.getConfigsCount()));
+        log.info(requestTag.getRequestId(), "createStreams called for {} streams.", request.getConfigsCount());
+        authenticateExecuteAndProcessResults(() -> {
+                    request.getConfigsList().stream()
+                           .map(config -> {
+                               String scope = config.getStreamInfo().getScope();
+                               StreamAuthParams streamAuthParams = new StreamAuthParams(scope,
+                                       config.getStreamInfo().getStream(), this.isRGStreamWritesWithReadPermEnabled);
+                               return new ImmutablePair<>(scope, streamAuthParams.requiredPermissionForWrites());
+                           })
+                           .distinct()
+                           .forEach(p -> this.grpcAuthHelper.checkAuthorization(
+                                   authorizationResource.ofStreamsInScope(p.getLeft()), p.getRight()));
+                    return "";
+                },
+                delegationToken -> controllerService.createStreams(request.getConfigsList(), System.currentTimeMillis(),
+                        requestTag.getRequestId()),
+                responseObserver, requestTag);
+    }
+
+    @Override
+    public void updateStreams(Controller.StreamConfigs request, StreamObserver<Controller.UpdateStreamsStatus> responseObserver) {
+        RequestTag requestTag = requestTracker.initializeAndTrackRequestTag(controllerService.nextRequestId(),
+                UPDATE_STREAMS, Integer.toString(request.getConfigsCount()));
+        log.info(requestTag.getRequestId(), "updateStreams called for {} streams.", request.getConfigsCount());
+        authenticateExecuteAndProcessResults(() -> {
+                    request.getConfigsList().stream()
+                           .map(StreamConfig::getStreamInfo)
+                           .distinct()
+                           .forEach(streamInfo -> this.grpcAuthHelper.checkAuthorization(
+                                   StreamAuthParams.toResourceString(streamInfo.getScope(), streamInfo.getStream()),
+                                   AuthHandler.Permissions.READ_UPDATE));
+                    return "";
+                },
+                delegationToken -> controllerService.updateStreams(request.getConfigsList(), requestTag.getRequestId()),
+                responseObserver, requestTag);
+    }
+
+    @Override
+    public void deleteStreams(Controller.StreamInfos request, StreamObserver<Controller.DeleteStreamsStatus> responseObserver) {
+        RequestTag requestTag = requestTracker.initializeAndTrackRequestTag(controllerService.nextRequestId(),
+                DELETE_STREAMS, Integer.toString(request.getStreamsCount()));
+        log.info(requestTag.getRequestId(), "deleteStreams called for {} streams.", request.getStreamsCount());
+        authenticateExecuteAndProcessResults(() -> {
+                    request.getStreamsList().stream()
+                           .distinct()
+                           .forEach(streamInfo -> this.grpcAuthHelper.checkAuthorization(
+                                   authorizationResource.ofStreamInScope(streamInfo.getScope(), streamInfo.getStream()),
+                                   AuthHandler.Permissions.READ_UPDATE));
+                    return "";
+                },
+                delegationToken -> controllerService.deleteStreams(request.getStreamsList(), requestTag.getRequestId()),
+                responseObserver, requestTag);
+    }
+
     private AccessOperation translate(@NonNull StreamInfo.AccessOperation accessOperation) {
         return AccessOperation.valueOf(accessOperation.name());
     }
@@ -769,6 +832,18 @@ public class ControllerServiceImpl extends ControllerServiceGrpc.ControllerServi
                 responseObserver);
     }
 
+    @Override
+    public void getContainerRoutingTable(Controller.ContainerRoutingTableRequest request,
+                                         StreamObserver<Controller.ContainerRoutingTable> responseObserver) {
+        RequestTag requestTag = requestTracker.initializeAndTrackRequestTag(controllerService.nextRequestId(),
+                GET_CONTAINER_ROUTING_TABLE, Long.toString(request.getKnownVersion()));
+        log.debug(requestTag.getRequestId(), "getContainerRoutingTable called with known version {}.", request.getKnownVersion());
+        authenticateExecuteAndProcessResults(() -> "",
+                delegationToken -> controllerService.getContainerRoutingTable(request.getKnownVersion(),
+                        request.getMaxWaitMillis()),
+                responseObserver);
+    }
+
     @Override
     public void isSegmentValid(SegmentId request,
                                StreamObserver<SegmentValidityResponse> responseObserver) {
@@ -1233,6 +1308,27 @@ public class ControllerServiceImpl extends ControllerServiceGrpc.ControllerServi
                 responseObserver, requestTag);
     }
 
+    @Override
+    public void noteTimestampsFromWriters(Controller.TimestampsFromWriters request,
+                                          StreamObserver<Controller.TimestampsResponse> responseObserver) {
+        RequestTag requestTag = requestTracker.initializeAndTrackRequestTag(controllerService.nextRequestId(),
+                NOTE_TIMESTAMPS_FROM_WRITERS, Integer.toString(request.getMarksCount()));
+        log.debug(requestTag.getRequestId(), "noteTimestampsFromWriters called for {} writer marks.",
+                request.getMarksCount());
+        authenticateExecuteAndProcessResults(() -> {
+                    request.getMarksList().stream()
+                           .map(mark -> mark.getPosition().getStreamInfo())
+                           .distinct()
+                           .forEach(streamInfo -> this.grpcAuthHelper.checkAuthorization(
+                                   authorizationResource.ofStreamInScope(streamInfo.getScope(), streamInfo.getStream()),
+                                   AuthHandler.Permissions.READ_UPDATE));
+                    return "";
+                },
+                delegationToken -> controllerService.noteTimestampsFromWriters(request.getMarksList(),
+                        requestTag.getRequestId()),
+                responseObserver, requestTag);
+    }
+
     @Override
     public void deleteScopeRecursive(ScopeInfo request, StreamObserver<DeleteScopeStatus> responseObserver) {
         RequestTag requestTag = requestTracker.initializeAndTrackRequestTag(ControllerService.nextRequestId(),
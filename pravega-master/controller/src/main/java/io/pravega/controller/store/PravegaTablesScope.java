@@ -31,10 +31,12 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.LoggerFactory;
 
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -75,11 +77,17 @@ public class PravegaTablesScope implements Scope {
     private final String scopeName;
     private final PravegaTablesStoreHelper storeHelper;
     private final AtomicReference<UUID> idRef;
+    private final StreamsInScopeBatcher streamsInScopeBatcher;
 
     public PravegaTablesScope(final String scopeName, PravegaTablesStoreHelper storeHelper) {
+        this(scopeName, storeHelper, new StreamsInScopeBatcher());
+    }
+
+    public PravegaTablesScope(final String scopeName, PravegaTablesStoreHelper storeHelper, StreamsInScopeBatcher streamsInScopeBatcher) {
         this.scopeName = scopeName;
         this.storeHelper = storeHelper;
         this.idRef = new AtomicReference<>(null);
+        this.streamsInScopeBatcher = streamsInScopeBatcher;
     }
 
     @Override
@@ -324,13 +332,42 @@ public class PravegaTablesScope implements Scope {
         idRef.set(null);
     }
 
+    /**
+     * Adds the stream to the list of streams in this scope, if it is not already there.
+     * Streams that are added to the scope while a previous addition is in progress are added together, with a single
+     * table update, once that addition completes. Pending additions are shared with all the scope objects that use the
+     * same {@link StreamsInScopeBatcher}.
+     *
+     * @param stream  Name of the stream.
+     * @param context Operation context.
+     * @return A future which completes once the stream is in the list of streams of the scope.
+     */
     public CompletableFuture<Void> addStreamToScope(String stream, OperationContext context) {
         Preconditions.checkNotNull(context, "Operation context cannot be null");
         return getStreamsInScopeTableName(context)
-                .thenCompose(tableName -> Futures.toVoid(
-                        withCreateTableIfAbsent(() -> storeHelper.addNewEntryIfAbsent(tableName, stream, newId(),
-                                                                                      UUID_TO_BYTES_FUNCTION, context.getRequestId()),
-                                                tableName, context)));
+                .thenCompose(tableName -> streamsInScopeBatcher.add(tableName, stream, context, this::addStreamsToScope));
+    }
+
+    private CompletableFuture<Void> addStreamsToScope(String tableName, List<String> streams, OperationContext context) {
+        if (streams.size() == 1) {
+            return addStreamToScope(tableName, streams.get(0), context);
+        }
+
+        // All the entries are added atomically. If any of the streams is already in the scope, none of them is added and
+        // we fall back to adding them individually.
+        List<Map.Entry<String, UUID>> entries = streams.stream().map(s -> new AbstractMap.SimpleImmutableEntry<>(s, newId()))
+                                                       .collect(Collectors.toList());
+        return Futures.exceptionallyComposeExpecting(
+                withCreateTableIfAbsent(() -> storeHelper.addNewEntries(tableName, entries, UUID_TO_BYTES_FUNCTION,
+                        context.getRequestId()), tableName, context),
+                e -> Exceptions.unwrap(e) instanceof StoreException.DataExistsException,
+                () -> Futures.allOf(streams.stream().map(s -> addStreamToScope(tableName, s, context))
+                                           .collect(Collectors.toList())));
+    }
+
+    private CompletableFuture<Void> addStreamToScope(String tableName, String stream, OperationContext context) {
+        return Futures.toVoid(withCreateTableIfAbsent(() -> storeHelper.addNewEntryIfAbsent(tableName, stream, newId(),
+                UUID_TO_BYTES_FUNCTION, context.getRequestId()), tableName, context));
     }
 
     public CompletableFuture<Void> sealScope(String scope, OperationContext context) {
@@ -25,6 +25,7 @@ import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
+import io.pravega.common.tracing.RequestTag;
 import io.pravega.common.tracing.TagLogger;
 import io.pravega.common.util.AsyncIterator;
 import io.pravega.common.util.BitConverter;
@@ -32,13 +33,16 @@ import io.pravega.common.util.ByteArraySegment;
 import io.pravega.common.util.ContinuationTokenAsyncIterator;
 import io.pravega.common.util.RetriesExhaustedException;
 import io.pravega.controller.server.SegmentHelper;
+import io.pravega.controller.server.TableEntriesDelta;
 import io.pravega.controller.server.WireCommandFailedException;
 import io.pravega.controller.server.security.auth.GrpcAuthHelper;
 import io.pravega.controller.store.host.HostStoreException;
 import io.pravega.controller.store.stream.Cache;
 import io.pravega.controller.store.stream.OperationContext;
 import io.pravega.controller.store.stream.StoreException;
+import io.pravega.controller.util.Config;
 import io.pravega.controller.util.RetryHelper;
+import io.pravega.shared.protocol.netty.WireCommands;
 import org.apache.curator.shaded.com.google.common.base.Charsets;
 import org.slf4j.LoggerFactory;
 
@@ -88,12 +92,14 @@ public class PravegaTablesStoreHelper {
     public static final Function<byte[], UUID> BYTES_TO_UUID_FUNCTION = x -> BitConverter.readUUID(x, 0);
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(PravegaTablesStoreHelper.class));
     private static final int NUM_OF_RETRIES = 15; // approximately 1 minute worth of retries
+    private static final int DELTA_READ_ENTRY_COUNT = 1000;
     private final SegmentHelper segmentHelper;
     private final ScheduledExecutorService executor;
     private final Cache cache;
     private final AtomicReference<String> authToken;
     private final GrpcAuthHelper authHelper;
     private final int numOfRetries;
+    private final TableChangeFeed changeFeed;
 
     @lombok.Data
     private static class TableCacheKey implements Cache.CacheKey {
@@ -107,13 +113,23 @@ public class PravegaTablesStoreHelper {
 
     @VisibleForTesting
     PravegaTablesStoreHelper(SegmentHelper segmentHelper, GrpcAuthHelper authHelper, ScheduledExecutorService executor, int numOfRetries) {
+        this(segmentHelper, authHelper, executor, numOfRetries, Config.METADATA_CHANGE_FEED_ENABLED);
+    }
+
+    @VisibleForTesting
+    PravegaTablesStoreHelper(SegmentHelper segmentHelper, GrpcAuthHelper authHelper, ScheduledExecutorService executor,
+                             int numOfRetries, boolean changeFeedEnabled) {
         this.segmentHelper = segmentHelper;
         this.executor = executor;
 
-        cache = new Cache();
+        cache = new Cache(Config.METADATA_CACHE_SIZE);
         this.authHelper = authHelper;
         this.authToken = new AtomicReference<>(authHelper.retrieveMasterToken());
         this.numOfRetries = numOfRetries;
+        this.changeFeed = changeFeedEnabled
+                ? new TableChangeFeed(this::getTableLength, this::readTableEntriesDelta,
+                        (table, key, version) -> cache.invalidateCache(new TableCacheKey(table, key), version), executor)
+                : null;
     }
 
     /**
@@ -359,12 +375,29 @@ public class PravegaTablesStoreHelper {
      */
     public <T> CompletableFuture<Void> addNewEntriesIfAbsent(String tableName, List<Map.Entry<String, T>> toAdd,
                                                              Function<T, byte[]> toBytes, long requestId) {
+        return expectingDataExists(addNewEntries(tableName, toAdd, toBytes, requestId), null);
+    }
+
+    /**
+     * Method to add a batch of new entries. Table implementation on segment store guarantees that either all or none of
+     * the entries are added. If any of the entries already exists, none of them is added and the returned future fails
+     * with {@link StoreException.DataExistsException}.
+     *
+     * @param tableName table name
+     * @param toAdd list of keys and values to add.
+     * @param toBytes function to serialize individual values in the list of items to add.
+     * @param requestId request id
+     * @param <T>       type of values.
+     * @return CompletableFuture which when completed successfully will indicate that all entries have been added successfully.
+     */
+    public <T> CompletableFuture<Void> addNewEntries(String tableName, List<Map.Entry<String, T>> toAdd,
+                                                     Function<T, byte[]> toBytes, long requestId) {
         List<TableSegmentEntry> entries = toAdd.stream().map(x ->
                 TableSegmentEntry.notExists(x.getKey().getBytes(Charsets.UTF_8), toBytes.apply(x.getValue())))
                                                .collect(Collectors.toList());
-        Supplier<String> errorMessage = () -> String.format("addNewEntriesIfAbsent: table: %s", tableName);
+        Supplier<String> errorMessage = () -> String.format("addNewEntries: table: %s", tableName);
         long time = System.currentTimeMillis();
-        return expectingDataExists(withRetries(() -> segmentHelper.updateTableEntries(tableName, entries, authToken.get(),
+        return withRetries(() -> segmentHelper.updateTableEntries(tableName, entries, authToken.get(),
                 requestId), errorMessage, requestId)
                 .handle((r, e) -> {
                     releaseEntries(entries);
@@ -387,7 +420,7 @@ public class PravegaTablesStoreHelper {
                         }
                         return null;
                     }
-                }), null);
+                });
     }
 
     /**
@@ -493,14 +526,57 @@ public class PravegaTablesStoreHelper {
         VersionedMetadata<Object> cached = getCachedData(tableName, key, afterTime, requestId);
         if (cached != null) {
             return CompletableFuture.completedFuture(getVersionedMetadata(cached));
-        } else {
-            long time = System.currentTimeMillis();
-            return getEntry(tableName, key, fromBytes, requestId)
-                    .thenApply(r -> {
-                        putInCache(tableName, key, r, time);
-                        return r;
-                    });
+        } else if (changeFeed == null) {
+            return loadIntoCache(tableName, key, fromBytes, requestId);
+        }
+
+        TableCacheKey cacheKey = new TableCacheKey(tableName, key);
+        if (cache.getTag(cacheKey) == null) {
+            // The cached value (if any) cannot be revalidated. Start following the changes of this table so that the
+            // value we are about to load can be.
+            changeFeed.track(tableName);
+            return loadIntoCache(tableName, key, fromBytes, requestId);
         }
+
+        // The cached value was loaded before the given time. It is still valid if it was not changed since, which we 
+        // find out by reading the changes made to its table (shared by all concurrent readers of the table).
+        return changeFeed.catchUp(tableName, afterTime)
+                         .handle((v, e) -> e == null
+                                 ? cache.getCachedData(cacheKey, afterTime, tag -> changeFeed.isCurrent(tag, afterTime))
+                                 : null)
+                         .thenCompose(revalidated -> {
+                             if (revalidated != null) {
+                                 log.trace(requestId, "revalidated entry for key {} in table {} in cache", key, tableName);
+                                 return CompletableFuture.completedFuture(getVersionedMetadata(revalidated));
+                             } else {
+                                 return loadIntoCache(tableName, key, fromBytes, requestId);
+                             }
+                         });
+    }
+
+    private <T> CompletableFuture<VersionedMetadata<T>> loadIntoCache(String tableName, String key, Function<byte[], T> fromBytes,
+                                                                      long requestId) {
+        long time = System.currentTimeMillis();
+        TableChangeFeed.Tag tag = changeFeed == null ? null : changeFeed.startLoad(tableName);
+        return getEntry(tableName, key, fromBytes, requestId)
+                .thenApply(r -> {
+                    cache.put(new TableCacheKey(tableName, key), r, time, () -> tag == null ? null : changeFeed.completeLoad(tag));
+                    return r;
+                });
+    }
+
+    private CompletableFuture<Long> getTableLength(String tableName) {
+        long requestId = RequestTag.NON_EXISTENT_ID;
+        return withRetries(() -> segmentHelper.getTableSegmentInfo(tableName, authToken.get(), requestId),
+                () -> String.format("GetInfo table: %s", tableName), requestId)
+                .thenApply(WireCommands.TableSegmentInfo::getLength);
+    }
+
+    private CompletableFuture<TableEntriesDelta> readTableEntriesDelta(String tableName, long fromPosition) {
+        long requestId = RequestTag.NON_EXISTENT_ID;
+        return withRetries(() -> segmentHelper.readTableEntriesDelta(tableName, fromPosition, DELTA_READ_ENTRY_COUNT,
+                authToken.get(), requestId),
+                () -> String.format("read table delta: table: %s position: %d", tableName, fromPosition), requestId);
     }
 
     /**
@@ -0,0 +1,145 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.controller.store.stream.OperationContext;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Groups the streams that are concurrently added to the same streams-in-scope table so that they are written with a
+ * single table update.
+ * A new {@link PravegaTablesScope} is created for every operation, so the pending streams are kept here and shared by
+ * all the scope objects of a store. Queues are keyed by table name, which includes the scope id, so streams added to a
+ * recreated scope never end up in a batch of the previous one.
+ */
+public class StreamsInScopeBatcher {
+    private static final int MAX_STREAMS_PER_UPDATE = 1000;
+    private final ConcurrentHashMap<String, PendingQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the stream to the given table. Streams that are added while a previous addition to the same table is in
+     * progress are written together, with a single call to the writer, once that addition completes.
+     *
+     * @param tableName Name of the streams-in-scope table.
+     * @param stream    Name of the stream.
+     * @param context   Operation context.
+     * @param writer    Writes a batch of distinct streams to the table.
+     * @return A future which completes once the stream has been written to the table.
+     */
+    public CompletableFuture<Void> add(String tableName, String stream, OperationContext context, BatchWriter writer) {
+        PendingStream pending = new PendingStream(stream, context);
+        while (true) {
+            PendingQueue queue = queues.computeIfAbsent(tableName, t -> new PendingQueue(tableName, writer));
+            boolean shouldWrite;
+            synchronized (queue) {
+                if (queue.closed) {
+                    // The queue was drained and removed concurrently; retry with a new one.
+                    continue;
+                }
+                queue.pending.add(pending);
+                shouldWrite = !queue.inFlight;
+                queue.inFlight = true;
+            }
+
+            if (shouldWrite) {
+                writeNext(queue);
+            }
+            return pending.result;
+        }
+    }
+
+    /**
+     * Gets the number of streams that are waiting for a previous addition to complete.
+     *
+     * @return The number of waiting streams, across all tables.
+     */
+    @VisibleForTesting
+    public int getPendingStreamCount() {
+        return queues.values().stream().mapToInt(q -> {
+            synchronized (q) {
+                return q.pending.size();
+            }
+        }).sum();
+    }
+
+    private void writeNext(PendingQueue queue) {
+        List<PendingStream> batch;
+        synchronized (queue) {
+            if (queue.pending.isEmpty()) {
+                queue.inFlight = false;
+                queue.closed = true;
+                queues.remove(queue.tableName, queue);
+                return;
+            }
+            List<PendingStream> toWrite = queue.pending.subList(0, Math.min(queue.pending.size(), MAX_STREAMS_PER_UPDATE));
+            batch = new ArrayList<>(toWrite);
+            toWrite.clear();
+        }
+
+        List<String> streams = batch.stream().map(p -> p.stream).distinct().collect(Collectors.toList());
+        CompletableFuture<Void> write;
+        try {
+            write = queue.writer.write(queue.tableName, streams, batch.get(0).context);
+        } catch (Throwable e) {
+            write = Futures.failedFuture(e);
+        }
+        write.whenComplete((r, e) -> {
+            if (e == null) {
+                batch.forEach(p -> p.result.complete(null));
+            } else {
+                batch.forEach(p -> p.result.completeExceptionally(Exceptions.unwrap(e)));
+            }
+            writeNext(queue);
+        });
+    }
+
+    /**
+     * Writes a batch of streams to a streams-in-scope table.
+     */
+    @FunctionalInterface
+    public interface BatchWriter {
+        CompletableFuture<Void> write(String tableName, List<String> streams, OperationContext context);
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingQueue {
+        private final String tableName;
+        private final BatchWriter writer;
+        @GuardedBy("this")
+        private final List<PendingStream> pending = new ArrayList<>();
+        @GuardedBy("this")
+        private boolean inFlight;
+        @GuardedBy("this")
+        private boolean closed;
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingStream {
+        private final String stream;
+        private final OperationContext context;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+    }
+}
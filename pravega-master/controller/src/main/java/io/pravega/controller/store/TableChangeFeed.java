@@ -0,0 +1,288 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.netty.util.ReferenceCountUtil;
+import io.pravega.client.tables.impl.TableSegmentEntry;
+import io.pravega.client.tables.impl.TableSegmentKeyVersion;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.controller.server.TableEntriesDelta;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Follows the changes made to metadata tables so that cached values can be revalidated without reading them again.
+ *
+ * For every tracked table, the feed keeps the position up to which the changes to the table have been read, and
+ * invalidates the cached value of every key that changed since. A value loaded into the cache is tagged with the
+ * position of its table at the time it was loaded (see {@link #startLoad} and {@link #completeLoad}). Such a value can be
+ * served to an operation that started after it was loaded, provided that the changes to the table have been read up to
+ * a point after the operation started (see {@link #catchUp}) and that the value has not been invalidated since.
+ *
+ * Concurrent requests to catch up on the same table are coalesced into a single sequence of delta reads.
+ */
+@Slf4j
+class TableChangeFeed {
+    private static final int MAX_TRACKED_TABLES = 10000;
+
+    private final Function<String, CompletableFuture<Long>> getTableLength;
+    private final BiFunction<String, Long, CompletableFuture<TableEntriesDelta>> readDelta;
+    private final KeyInvalidator invalidator;
+    private final Executor executor;
+    private final Cache<String, TableState> tables;
+
+    /**
+     * Creates a new instance of the TableChangeFeed class.
+     *
+     * @param getTableLength Function that returns the length of a table.
+     * @param readDelta      Function that reads the changes made to a table starting at a position.
+     * @param invalidator    Invalidates the cached value of a key.
+     * @param executor       Executor for async operations.
+     */
+    TableChangeFeed(Function<String, CompletableFuture<Long>> getTableLength,
+                    BiFunction<String, Long, CompletableFuture<TableEntriesDelta>> readDelta,
+                    KeyInvalidator invalidator, Executor executor) {
+        this.getTableLength = Preconditions.checkNotNull(getTableLength, "getTableLength");
+        this.readDelta = Preconditions.checkNotNull(readDelta, "readDelta");
+        this.invalidator = Preconditions.checkNotNull(invalidator, "invalidator");
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+        this.tables = CacheBuilder.newBuilder()
+                                  .maximumSize(MAX_TRACKED_TABLES)
+                                  .expireAfterAccess(2, TimeUnit.MINUTES)
+                                  .<String, TableState>removalListener(n -> n.getValue().dropped = true)
+                                  .build();
+    }
+
+    /**
+     * Starts following the changes made to the given table, if not already doing so. Values of the table that are loaded
+     * once the feed has been initialized are tagged so they can be revalidated.
+     *
+     * @param table Name of the table.
+     */
+    void track(String table) {
+        TableState state = tables.asMap().computeIfAbsent(table, t -> new TableState());
+        synchronized (state) {
+            if (state.initialized) {
+                return;
+            }
+            state.initialized = true;
+        }
+
+        long startTime = System.currentTimeMillis();
+        invoke(() -> getTableLength.apply(table))
+                .whenComplete((length, e) -> {
+                    if (e != null) {
+                        log.debug("Unable to follow changes of table {}.", table, e);
+                        tables.asMap().remove(table, state);
+                    } else {
+                        state.position.compareAndSet(-1L, length);
+                        state.validatedTime.accumulateAndGet(startTime, Math::max);
+                    }
+                });
+    }
+
+    /**
+     * Indicates that a value of the given table is about to be loaded from the store.
+     *
+     * @param table Name of the table.
+     * @return A tag to pass to {@link #completeLoad} once the value is loaded, or null if the table is not being followed.
+     */
+    Tag startLoad(String table) {
+        TableState state = tables.getIfPresent(table);
+        if (state == null || state.position.get() < 0) {
+            return null;
+        }
+        return new Tag(state, state.generation.get(), state.position.get());
+    }
+
+    /**
+     * Indicates that a value has been loaded from the store. This must be invoked while holding the cache lock for the
+     * key of the value (i.e., it must be mutually exclusive with invalidations of that key).
+     *
+     * @param tag The tag returned by {@link #startLoad}.
+     * @return The tag to associate with the value in the cache, or null if the value cannot be revalidated (because
+     * changes to the table were read while the value was being loaded).
+     */
+    Tag completeLoad(Tag tag) {
+        if (tag != null && tag.state.generation.get() == tag.generation && tag.state.position.get() == tag.position) {
+            return tag;
+        }
+        return null;
+    }
+
+    /**
+     * Gets a value indicating whether a cached value with the given tag is known to be current as of the given time.
+     *
+     * @param tag       Tag of the cached value.
+     * @param afterTime Time after which the value must be known to be current.
+     * @return True if the changes to the value's table have been read past the given time and the value has not been
+     * invalidated by them.
+     */
+    boolean isCurrent(Object tag, long afterTime) {
+        if (!(tag instanceof Tag)) {
+            return false;
+        }
+        TableState state = ((Tag) tag).state;
+        return state.generation.get() == ((Tag) tag).generation
+                && state.validatedTime.get() > afterTime
+                && !state.dropped;
+    }
+
+    /**
+     * Reads all the changes made to the given table up to its end, invalidating the cached values of the keys that
+     * changed. If a catch up on the same table that started after the given time is already in progress, it is reused.
+     *
+     * @param table     Name of the table.
+     * @param afterTime Time after which the catch up must have started.
+     * @return A CompletableFuture that, when completed, indicates that all the changes made to the table before the given
+     * time have been applied. If the table is not being followed, the future completes immediately and cached values of
+     * the table will not be considered current.
+     */
+    CompletableFuture<Void> catchUp(String table, long afterTime) {
+        TableState state = tables.getIfPresent(table);
+        if (state == null || state.position.get() < 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> result;
+        long startTime;
+        synchronized (state) {
+            if (state.catchUp != null) {
+                if (state.catchUpStartTime > afterTime) {
+                    return state.catchUp;
+                } else {
+                    // The catch up in progress may miss changes made after the given time. Wait for it and start over.
+                    return state.catchUp.handle((r, e) -> null).thenCompose(v -> catchUp(table, afterTime));
+                }
+            }
+
+            startTime = System.currentTimeMillis();
+            result = new CompletableFuture<>();
+            state.catchUp = result;
+            state.catchUpStartTime = startTime;
+        }
+
+        AtomicBoolean reachedEnd = new AtomicBoolean(false);
+        Futures.loop(() -> !reachedEnd.get(),
+                () -> invoke(() -> readDelta.apply(table, state.position.get()))
+                        .thenAccept(delta -> reachedEnd.set(apply(table, state, delta))),
+                executor)
+               .whenComplete((r, e) -> {
+                   synchronized (state) {
+                       state.catchUp = null;
+                   }
+                   if (e != null) {
+                       log.debug("Unable to read changes of table {}.", table, e);
+                       tables.asMap().remove(table, state);
+                       result.completeExceptionally(e);
+                   } else {
+                       state.validatedTime.accumulateAndGet(startTime, Math::max);
+                       result.complete(null);
+                   }
+               });
+        return result;
+    }
+
+    @VisibleForTesting
+    long getPosition(String table) {
+        TableState state = tables.getIfPresent(table);
+        return state == null ? -1L : state.position.get();
+    }
+
+    private boolean apply(String table, TableState state, TableEntriesDelta delta) {
+        try {
+            if (delta.isShouldClear()) {
+                // Some changes have been compacted away, so no tagged value of this table can be trusted anymore.
+                state.generation.incrementAndGet();
+            }
+            state.position.set(delta.getLastPosition());
+            for (TableSegmentEntry entry : delta.getEntries()) {
+                String key = entry.getKey().getKey().toString(StandardCharsets.UTF_8);
+                TableSegmentKeyVersion version = entry.getKey().getVersion();
+                invalidator.invalidate(table, key, version.equals(TableSegmentKeyVersion.NOT_EXISTS)
+                        ? null : new Version.LongVersion(version.getSegmentVersion()));
+            }
+            return delta.isReachedEnd() || delta.getEntries().isEmpty();
+        } finally {
+            for (TableSegmentEntry entry : delta.getEntries()) {
+                ReferenceCountUtil.safeRelease(entry.getKey().getKey());
+                ReferenceCountUtil.safeRelease(entry.getValue());
+            }
+        }
+    }
+
+    private <T> CompletableFuture<T> invoke(Supplier<CompletableFuture<T>> supplier) {
+        try {
+            CompletableFuture<T> future = supplier.get();
+            return future == null ? Futures.failedFuture(new IllegalStateException("No result.")) : future;
+        } catch (Exception e) {
+            return Futures.failedFuture(e);
+        }
+    }
+
+    /**
+     * Invalidates the cached value of a key.
+     */
+    @FunctionalInterface
+    interface KeyInvalidator {
+        /**
+         * Invalidates the cached value of the given key if it is older than the given version.
+         *
+         * @param table   Name of the table.
+         * @param key     The key.
+         * @param version The version of the key in the table, or null if the key was removed.
+         */
+        void invalidate(String table, String key, Version version);
+    }
+
+    /**
+     * Tag of a cached value, identifying the position of its table at the time the value was loaded.
+     */
+    @RequiredArgsConstructor
+    static class Tag {
+        private final TableState state;
+        private final int generation;
+        private final long position;
+    }
+
+    private static class TableState {
+        private final AtomicLong position = new AtomicLong(-1L);
+        private final AtomicInteger generation = new AtomicInteger();
+        private final AtomicLong validatedTime = new AtomicLong(Long.MIN_VALUE);
+        private volatile boolean dropped;
+        @GuardedBy("this")
+        private boolean initialized;
+        @GuardedBy("this")
+        private CompletableFuture<Void> catchUp;
+        @GuardedBy("this")
+        private long catchUpStartTime;
+    }
+}
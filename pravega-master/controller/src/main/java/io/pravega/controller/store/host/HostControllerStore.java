@@ -39,6 +39,14 @@ public interface HostControllerStore {
      * @throws HostStoreException   On error while updating the Map.
      */
     void updateHostContainersMap(Map<Host, Set<Integer>> newMapping);
+
+    /**
+     * Get the existing host to container map along with its version.
+     *
+     * @return                      The latest host to container mapping and its version.
+     * @throws HostStoreException   On error while fetching the Map.
+     */
+    VersionedHostContainerMap getVersionedHostContainersMap();
     
     /**
      * Return the total number of segment containers present in the system.
@@ -30,6 +30,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class InMemoryHostStore implements HostControllerStore {
     private Map<Host, Set<Integer>> hostContainerMap;
+    private long version;
     private final SegmentToContainerMapper segmentMapper;
 
     /**
@@ -55,6 +56,13 @@ public class InMemoryHostStore implements HostControllerStore {
     public void updateHostContainersMap(Map<Host, Set<Integer>> newMapping) {
         Preconditions.checkNotNull(newMapping, "newMapping");
         hostContainerMap = new HashMap<>(newMapping);
+        version++;
+    }
+
+    @Override
+    @Synchronized
+    public VersionedHostContainerMap getVersionedHostContainersMap() {
+        return new VersionedHostContainerMap(version, new HashMap<>(hostContainerMap));
     }
 
     private Host getHostForContainer(int containerId) {
@@ -0,0 +1,39 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store.host;
+
+import io.pravega.common.cluster.Host;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A host to container map along with its version. The version changes every time the map is updated, so two snapshots
+ * with the same version are guaranteed to have the same mapping.
+ */
+@Data
+public class VersionedHostContainerMap {
+    /**
+     * Version of the map.
+     */
+    private final long version;
+
+    /**
+     * The host to container map.
+     */
+    private final Map<Host, Set<Integer>> hostContainerMap;
+}
@@ -29,6 +29,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import lombok.SneakyThrows;
 import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.recipes.cache.NodeCache;
 import org.apache.curator.utils.ZKPaths;
@@ -58,7 +59,8 @@ public class ZKHostStore implements HostControllerStore {
 
     private final NodeCache hostContainerMapNode;
 
-    private final AtomicReference<HostContainerMap> hostContainerMap;
+    // The map along with the version of the zk node it was read from, which is the same across all controller instances.
+    private final AtomicReference<VersionedHostContainerMap> hostContainerMap;
     /**
      * The tests can add listeners to get notification when the update has happened in the store.
      */
@@ -77,7 +79,7 @@ public class ZKHostStore implements HostControllerStore {
         zkPath = ZKPaths.makePath("cluster", "segmentContainerHostMapping");
         segmentMapper = new SegmentToContainerMapper(containerCount, true);
         hostContainerMapNode = new NodeCache(zkClient, zkPath);
-        hostContainerMap = new AtomicReference<>(HostContainerMap.EMPTY);
+        hostContainerMap = new AtomicReference<>(new VersionedHostContainerMap(-1, HostContainerMap.EMPTY.getHostContainerMap()));
         listenerRef = new AtomicReference<>();
     }
 
@@ -98,7 +100,9 @@ public class ZKHostStore implements HostControllerStore {
 
     @Synchronized
     private void updateMap() {
-        hostContainerMap.set(HostContainerMap.fromBytes(hostContainerMapNode.getCurrentData().getData()));
+        val currentData = hostContainerMapNode.getCurrentData();
+        hostContainerMap.set(new VersionedHostContainerMap(currentData.getStat().getVersion(),
+                HostContainerMap.fromBytes(currentData.getData()).getHostContainerMap()));
         // Following signal is meant only for testing
         Listener consumer = listenerRef.get();
         if (consumer != null) {
@@ -113,6 +117,13 @@ public class ZKHostStore implements HostControllerStore {
         return hostContainerMap.get().getHostContainerMap();
     }
 
+    @Override
+    public VersionedHostContainerMap getVersionedHostContainersMap() {
+        tryInit();
+
+        return hostContainerMap.get();
+    }
+
     @Override
     public void updateHostContainersMap(Map<Host, Set<Integer>> newMapping) {
         Preconditions.checkNotNull(newMapping, "newMapping");
@@ -17,10 +17,13 @@ package io.pravega.controller.store.stream;
 
 import com.google.common.base.Preconditions;
 import com.google.common.cache.CacheBuilder;
+import io.pravega.controller.store.Version;
 import io.pravega.controller.store.VersionedMetadata;
 import lombok.Data;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * The cache for storing versioned records against a cache key.
@@ -28,6 +31,8 @@ import java.util.concurrent.TimeUnit;
  * This cache has a logic to update a value into the cache if the new value is newer (higher version number)
  * than the existing value. 
  * This is achieved by doing a conditional update of cached values. 
+ * Each value can optionally carry a tag, which callers can use to decide whether a value that was loaded before the time 
+ * they are interested in is still valid (for example, because they know the stored value has not changed since).
  */
 public class Cache {
     private static final int MAX_CACHE_SIZE = 10000;
@@ -46,8 +51,13 @@ public class Cache {
     // cache class. 
     private final Object[] locks = new Object[KEY_PARTITION_COUNT];
     public Cache() {
+        this(MAX_CACHE_SIZE);
+    }
+
+    public Cache(int maxSize) {
+        Preconditions.checkArgument(maxSize > 0, "maxSize must be a positive number");
         cache = CacheBuilder.newBuilder()
-                            .maximumSize(MAX_CACHE_SIZE)
+                            .maximumSize(maxSize)
                             .expireAfterAccess(2, TimeUnit.MINUTES)
                             .build();
         for (int i = 0; i < KEY_PARTITION_COUNT; i++) {
@@ -73,21 +83,80 @@ public class Cache {
         }
     }
 
+    /**
+     * Gets the cached value for the given key if it was loaded after the given time or if its tag is still valid.
+     *
+     * @param key          Cache key.
+     * @param time         Time after which the value should have been loaded.
+     * @param isTagCurrent Predicate that tells whether the tag of a value that was loaded before the given time means
+     *                     that the value is still valid.
+     * @return The cached value, or null if there is no such value.
+     */
+    public VersionedMetadata<?> getCachedData(CacheKey key, long time, Predicate<Object> isTagCurrent) {
+        Cache.CacheValue value = cache.getIfPresent(key);
+        if (value != null && (value.getTime() > time || (value.getTag() != null && isTagCurrent.test(value.getTag())))) {
+            return value.getValue();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the tag of the cached value for the given key.
+     *
+     * @param key Cache key.
+     * @return The tag of the cached value, or null if there is no cached value or it has no tag.
+     */
+    public Object getTag(CacheKey key) {
+        Cache.CacheValue value = cache.getIfPresent(key);
+        return value == null ? null : value.getTag();
+    }
+
     public void invalidateCache(final CacheKey key) {
         synchronized (getLockObject(key)) {
             cache.invalidate(key);
         }
     }
+
+    /**
+     * Invalidates the cached value for the given key if it is older than the given version.
+     *
+     * @param key     Cache key.
+     * @param version Version of the stored value. If null, the cached value is invalidated regardless of its version.
+     */
+    public void invalidateCache(final CacheKey key, final Version version) {
+        synchronized (getLockObject(key)) {
+            Cache.CacheValue existing = cache.getIfPresent(key);
+            if (existing != null && (version == null || existing.getValue().getVersion().compareTo(version) < 0)) {
+                cache.invalidate(key);
+            }
+        }
+    }
     
     public void put(CacheKey cacheKey, VersionedMetadata<?> record, long time) {
+        put(cacheKey, record, time, () -> null);
+    }
+
+    /**
+     * Puts the given value in the cache, along with a tag.
+     *
+     * @param cacheKey    Cache key.
+     * @param record      Value to put.
+     * @param time        Time at which the value was loaded.
+     * @param tagSupplier Supplies the tag of the value. It is invoked while holding the lock for the key, so it is 
+     *                    mutually exclusive with invalidations of the key.
+     */
+    public void put(CacheKey cacheKey, VersionedMetadata<?> record, long time, Supplier<Object> tagSupplier) {
         Preconditions.checkNotNull(record, "Null record cannot be put in cache");
         // acquire the lock for key partition. Then perform a conditional update - get, compare and swap.
         // condition for update => if either the entry doesnt exist in cache. OR the entry in cache is older (lower key version)
-        // than new value to be updated. 
+        // than new value to be updated. OR the entry has the same version but was loaded earlier, in which case the 
+        // load time is refreshed. 
         synchronized (getLockObject(cacheKey)) {
             Cache.CacheValue existing = cache.getIfPresent(cacheKey);
-            if (existing == null || record.getVersion().compareTo(existing.getValue().getVersion()) > 0) {
-                cache.put(cacheKey, new CacheValue(record, time));
+            int compare = existing == null ? 1 : record.getVersion().compareTo(existing.getValue().getVersion());
+            if (compare > 0 || (compare == 0 && time > existing.getTime())) {
+                cache.put(cacheKey, new CacheValue(record, time, tagSupplier.get()));
             }
         }
     }
@@ -107,5 +176,6 @@ public class Cache {
     static class CacheValue {
         private final VersionedMetadata<?> value;
         private final long time;
+        private final Object tag;
     }
 }
@@ -0,0 +1,203 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store.stream;
+
+import com.google.common.base.Preconditions;
+import io.pravega.controller.store.stream.records.HistoryTimeSeries;
+import io.pravega.controller.store.stream.records.HistoryTimeSeriesRecord;
+import io.pravega.controller.store.stream.records.StreamSegmentRecord;
+import io.pravega.shared.NameUtils;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.Getter;
+
+/**
+ * Immutable in-memory index over the full (and hence immutable) chunks of a stream's history time series.
+ *
+ * The index keeps the scale time of every indexed epoch, the set of duplicate epochs (created by rolling transactions)
+ * and, for every segment sealed by a scale, the epoch that sealed it. This allows finding the epoch at a given time and
+ * the epoch in which a segment was sealed with a binary search, instead of reading and replaying history chunks and
+ * epoch records.
+ *
+ * Since only full chunks are indexed, records in the last (active) chunk of the history need to be consulted separately.
+ */
+class EpochIndex {
+    static final EpochIndex EMPTY = new EpochIndex(0, new long[0], new BitSet(), new long[0], new int[0]);
+
+    /**
+     * Number of history chunks included in this index.
+     */
+    @Getter
+    private final int chunkCount;
+    /**
+     * Scale time of each indexed epoch, indexed by epoch.
+     */
+    private final long[] scaleTimes;
+    /**
+     * Indexed epochs that are duplicates of an earlier epoch. A duplicate epoch implicitly seals all segments of the epoch
+     * preceding it.
+     */
+    private final BitSet duplicateEpochs;
+    /**
+     * Ids of the segments sealed by the indexed epochs, sorted, along with the epoch that sealed each of them.
+     */
+    private final long[] sealedSegments;
+    private final int[] sealingEpochs;
+
+    private EpochIndex(int chunkCount, long[] scaleTimes, BitSet duplicateEpochs, long[] sealedSegments, int[] sealingEpochs) {
+        this.chunkCount = chunkCount;
+        this.scaleTimes = scaleTimes;
+        this.duplicateEpochs = duplicateEpochs;
+        this.sealedSegments = sealedSegments;
+        this.sealingEpochs = sealingEpochs;
+    }
+
+    /**
+     * Creates a new index that includes all the entries in this index as well as the given history chunks.
+     *
+     * @param chunks Full history chunks that immediately follow the last chunk in this index, in order.
+     * @return A new EpochIndex.
+     */
+    EpochIndex append(List<HistoryTimeSeries> chunks) {
+        if (chunks.isEmpty()) {
+            return this;
+        }
+
+        int newEpochCount = scaleTimes.length + chunks.stream().mapToInt(c -> c.getHistoryRecords().size()).sum();
+        long[] newScaleTimes = Arrays.copyOf(scaleTimes, newEpochCount);
+        BitSet newDuplicateEpochs = (BitSet) duplicateEpochs.clone();
+        TreeMap<Long, Integer> newSealedSegments = new TreeMap<>();
+        int epoch = scaleTimes.length;
+        for (HistoryTimeSeries chunk : chunks) {
+            for (HistoryTimeSeriesRecord record : chunk.getHistoryRecords()) {
+                Preconditions.checkArgument(record.getEpoch() == epoch, "Expected epoch %s, found %s.", epoch, record.getEpoch());
+                newScaleTimes[epoch] = record.getScaleTime();
+                if (record.isDuplicate()) {
+                    newDuplicateEpochs.set(epoch);
+                } else {
+                    for (StreamSegmentRecord sealed : record.getSegmentsSealed()) {
+                        newSealedSegments.put(sealed.segmentId(), epoch);
+                    }
+                }
+                epoch++;
+            }
+        }
+
+        // Merge the newly sealed segments into the existing (sorted) ones.
+        long[] mergedSegments = new long[sealedSegments.length + newSealedSegments.size()];
+        int[] mergedEpochs = new int[mergedSegments.length];
+        int existing = 0;
+        int merged = 0;
+        for (Map.Entry<Long, Integer> e : newSealedSegments.entrySet()) {
+            while (existing < sealedSegments.length && sealedSegments[existing] < e.getKey()) {
+                mergedSegments[merged] = sealedSegments[existing];
+                mergedEpochs[merged++] = sealingEpochs[existing++];
+            }
+            mergedSegments[merged] = e.getKey();
+            mergedEpochs[merged++] = e.getValue();
+        }
+        System.arraycopy(sealedSegments, existing, mergedSegments, merged, sealedSegments.length - existing);
+        System.arraycopy(sealingEpochs, existing, mergedEpochs, merged, sealingEpochs.length - existing);
+        return new EpochIndex(chunkCount + chunks.size(), newScaleTimes, newDuplicateEpochs, mergedSegments, mergedEpochs);
+    }
+
+    /**
+     * Gets the number of epochs included in this index. Epochs 0 to getEpochCount() - 1 are indexed.
+     *
+     * @return The number of indexed epochs.
+     */
+    int getEpochCount() {
+        return scaleTimes.length;
+    }
+
+    /**
+     * Finds the epoch that was active at the given time.
+     *
+     * @param timestamp Time to look up.
+     * @return The epoch that was active at the given time, 0 if the time precedes all indexed epochs, or -1 if the index
+     * is empty or the time is at or after the scale time of the last indexed epoch (in which case it may belong to an
+     * epoch that is not indexed).
+     */
+    int findEpochAtTime(long timestamp) {
+        if (scaleTimes.length == 0 || timestamp >= scaleTimes[scaleTimes.length - 1]) {
+            return -1;
+        }
+
+        // Find the last epoch whose scale time is at or before the given time.
+        int low = 0;
+        int high = scaleTimes.length - 1;
+        int result = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (scaleTimes[mid] <= timestamp) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the epoch that sealed the given segment.
+     *
+     * @param segmentId Id of the segment.
+     * @return The epoch that sealed the segment, or -1 if the segment is not sealed by any of the indexed epochs.
+     */
+    int getSealedEpoch(long segmentId) {
+        int index = Arrays.binarySearch(sealedSegments, segmentId);
+        int sealedByScale = index >= 0 ? sealingEpochs[index] : -1;
+        int sealedByDuplicate = duplicateEpochs.nextSetBit(NameUtils.getEpoch(segmentId) + 1);
+        if (sealedByDuplicate < 0) {
+            return sealedByScale;
+        } else if (sealedByScale < 0) {
+            return sealedByDuplicate;
+        } else {
+            return Math.min(sealedByScale, sealedByDuplicate);
+        }
+    }
+
+    /**
+     * Gets the epoch that sealed the given segment, also looking at the given history records that follow the indexed
+     * epochs.
+     *
+     * @param segmentId Id of the segment.
+     * @param records   History records following the last indexed epoch, in order.
+     * @return The epoch that sealed the segment, or -1 if the segment is not sealed by any of the indexed epochs or records.
+     */
+    int getSealedEpoch(long segmentId, List<HistoryTimeSeriesRecord> records) {
+        int sealed = getSealedEpoch(segmentId);
+        if (sealed >= 0) {
+            return sealed;
+        }
+
+        int creationEpoch = NameUtils.getEpoch(segmentId);
+        for (HistoryTimeSeriesRecord record : records) {
+            if (record.getEpoch() <= creationEpoch) {
+                continue;
+            }
+            if (record.isDuplicate()
+                    || record.getSegmentsSealed().stream().anyMatch(s -> s.segmentId() == segmentId)) {
+                return record.getEpoch();
+            }
+        }
+        return -1;
+    }
+}
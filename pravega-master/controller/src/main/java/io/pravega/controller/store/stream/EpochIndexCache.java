@@ -0,0 +1,82 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store.stream;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Epoch indexes of the streams of a metadata store, shared by all the stream objects that the store creates.
+ *
+ * Each index is kept along with the id of the stream instance it was built for. A stream that is deleted and created
+ * again with the same name gets a new id, so the index of the deleted stream is never returned for it.
+ */
+class EpochIndexCache {
+    private final Cache<Pair<String, String>, CachedIndex> cache = CacheBuilder.newBuilder()
+                                                                            .maximumSize(10000)
+                                                                            .expireAfterAccess(10, TimeUnit.MINUTES)
+                                                                            .build();
+
+    /**
+     * Gets the index of the given stream instance.
+     *
+     * @param scope    Scope name.
+     * @param stream   Stream name.
+     * @param streamId Id of the stream instance.
+     * @return The cached index, or {@link EpochIndex#EMPTY} if there is none for this instance of the stream.
+     */
+    EpochIndex get(String scope, String stream, String streamId) {
+        CachedIndex cached = cache.getIfPresent(new ImmutablePair<>(scope, stream));
+        return cached != null && cached.getStreamId().equals(streamId) ? cached.getIndex() : EpochIndex.EMPTY;
+    }
+
+    /**
+     * Caches the given index for the given stream instance, unless an index that covers at least as many chunks of the
+     * same instance is already cached.
+     *
+     * @param scope    Scope name.
+     * @param stream   Stream name.
+     * @param streamId Id of the stream instance.
+     * @param index    Index to cache.
+     * @return The cached index of this instance of the stream.
+     */
+    EpochIndex update(String scope, String stream, String streamId, EpochIndex index) {
+        return cache.asMap().merge(new ImmutablePair<>(scope, stream), new CachedIndex(streamId, index),
+                (current, updated) -> current.getStreamId().equals(updated.getStreamId())
+                        && current.getIndex().getChunkCount() >= updated.getIndex().getChunkCount() ? current : updated)
+                    .getIndex();
+    }
+
+    /**
+     * Removes the index of the given stream.
+     *
+     * @param scope  Scope name.
+     * @param stream Stream name.
+     */
+    void invalidate(String scope, String stream) {
+        cache.invalidate(new ImmutablePair<>(scope, stream));
+    }
+
+    @Data
+    private static class CachedIndex {
+        private final String streamId;
+        private final EpochIndex index;
+    }
+}
@@ -90,6 +90,9 @@ public abstract class PersistentStreamBase implements Stream {
     private final String name;
     private final AtomicInteger historyChunkSize;
     private final AtomicInteger shardSize;
+    // index over the full history chunks of this stream, unless the store caches it. it is only ever replaced by an index
+    // that covers more chunks.
+    private final AtomicReference<EpochIndex> epochIndex = new AtomicReference<>(EpochIndex.EMPTY);
 
     PersistentStreamBase(final String scope, final String name, int historyChunkSize, int shardSize) {
         this.scope = scope;
@@ -180,17 +183,12 @@ public abstract class PersistentStreamBase implements Stream {
                 .thenCompose(existing -> {
                     Preconditions.checkNotNull(existing);
                     Preconditions.checkArgument(!existing.getObject().isUpdating());
-                    long mostRecent = getMostRecent(streamCut);
-                    long oldest = getOldest(streamCut);
-                    int epochLow = NameUtils.getEpoch(oldest);
-                    int epochHigh = NameUtils.getEpoch(mostRecent);
-
-                    return fetchEpochs(epochLow, epochHigh, true, context)
-                        .thenCompose(epochs -> {
-                            boolean isValid = isStreamCutValidInternal(streamCut, epochLow, epochs);
+                    return isStreamCutValid(streamCut, context)
+                        .thenCompose(isValid -> {
                             Exceptions.checkArgument(isValid, "streamCut", "invalid stream cut");
-                            ImmutableMap<StreamSegmentRecord, Integer> span = computeStreamCutSpanInternal(streamCut,
-                                    epochLow, epochHigh, epochs);
+                            return computeStreamCutSpan(streamCut, context);
+                        })
+                        .thenCompose(span -> {
                             StreamTruncationRecord previous = existing.getObject();
                             // check greater than
                             Exceptions.checkArgument(streamCutEqualOrAfter(streamCut, span,
@@ -867,11 +865,103 @@ public abstract class PersistentStreamBase implements Stream {
         int epochLow = NameUtils.getEpoch(oldest);
         int epochHigh = NameUtils.getEpoch(mostRecent);
 
-        return fetchEpochs(epochLow, epochHigh, true, context).thenApply(epochs ->  {
-            return computeStreamCutSpanInternal(streamCut, epochLow, epochHigh, epochs);
+        // The span of a segment is the last epoch (at or before epochHigh) that contains it, which is the epoch preceding
+        // the one that sealed it. Use the epoch index to find that out instead of replaying all epochs in the range.
+        if (epochLow / historyChunkSize.get() == epochHigh / historyChunkSize.get()) {
+            // all epochs in range are in the same chunk; replaying them is as cheap as it gets.
+            return fetchEpochs(epochLow, epochHigh, true, context).thenApply(epochs ->
+                    computeStreamCutSpanInternal(streamCut, epochLow, epochHigh, epochs));
+        }
+
+        return getActiveEpoch(true, context)
+                .thenCompose(activeEpoch -> getEpochIndex(activeEpoch, context))
+                .thenCompose(index -> {
+                    if (epochLow >= index.getEpochCount()) {
+                        // epochs in range are not indexed; replay them.
+                        return fetchEpochs(epochLow, epochHigh, true, context).thenApply(epochs ->
+                                computeStreamCutSpanInternal(streamCut, epochLow, epochHigh, epochs));
+                    }
+
+                    CompletableFuture<List<HistoryTimeSeriesRecord>> tailFuture = epochHigh < index.getEpochCount()
+                            ? CompletableFuture.completedFuture(Collections.<HistoryTimeSeriesRecord>emptyList())
+                            : getHistoryTimeSeriesChunk(index.getChunkCount(), true, context)
+                                    .thenApply(HistoryTimeSeries::getHistoryRecords);
+                    CompletableFuture<Map<Long, StreamSegmentRecord>> segmentsFuture = getSegmentRecords(streamCut.keySet(), context);
+                    return CompletableFuture.allOf(tailFuture, segmentsFuture).thenApply(v -> {
+                        List<HistoryTimeSeriesRecord> tail = tailFuture.join().stream()
+                                                                      .filter(r -> r.getEpoch() <= epochHigh)
+                                                                      .collect(Collectors.toList());
+                        ImmutableMap.Builder<StreamSegmentRecord, Integer> resultSet = ImmutableMap.builder();
+                        segmentsFuture.join().forEach((segmentId, segment) -> {
+                            int sealedEpoch = index.getSealedEpoch(segmentId, tail);
+                            resultSet.put(segment, sealedEpoch < 0 || sealedEpoch > epochHigh ? epochHigh : sealedEpoch - 1);
+                        });
+                        return resultSet.build();
+                    });
+                });
+    }
+
+    /**
+     * Gets the records of the given segments, reading only the epoch records in which the segments were created.
+     * Segments that cannot be found in their creation epoch are not included in the result.
+     */
+    private CompletableFuture<Map<Long, StreamSegmentRecord>> getSegmentRecords(Collection<Long> segmentIds,
+                                                                               OperationContext context) {
+        Map<Integer, List<Long>> byEpoch = segmentIds.stream().collect(Collectors.groupingBy(NameUtils::getEpoch));
+        return Futures.allOfWithResults(byEpoch.keySet().stream().collect(Collectors.toMap(x -> x,
+                x -> getEpochRecord(x, context))))
+                      .thenApply(epochs -> {
+                          Map<Long, StreamSegmentRecord> result = new HashMap<>();
+                          byEpoch.forEach((epoch, ids) -> ids.forEach(id -> {
+                              StreamSegmentRecord segment = epochs.get(epoch).getSegment(id);
+                              if (segment != null) {
+                                  result.put(id, segment);
+                              }
+                          }));
+                          return result;
+                      });
+    }
+
+    /**
+     * Gets the index over all full history chunks of this stream, adding any full chunks that are not indexed yet.
+     */
+    private CompletableFuture<EpochIndex> getEpochIndex(EpochRecord activeEpoch, OperationContext context) {
+        int fullChunks = (activeEpoch.getEpoch() + 1) / historyChunkSize.get();
+        return getCachedEpochIndex(context).thenCompose(index -> {
+            if (index.getChunkCount() >= fullChunks) {
+                return CompletableFuture.completedFuture(index);
+            }
+
+            return Futures.allOfWithResults(IntStream.range(index.getChunkCount(), fullChunks)
+                                                     .mapToObj(i -> getHistoryTimeSeriesChunk(i, false, context))
+                                                     .collect(Collectors.toList()))
+                          .thenCompose(chunks -> cacheEpochIndex(index.append(chunks), context));
         });
     }
 
+    /**
+     * Gets the index over the full history chunks of this stream that has been built so far. Stores that create a new
+     * stream object for each operation override this, and {@link #cacheEpochIndex}, to keep the index in the store.
+     *
+     * @param context Operation context.
+     * @return A future with the index, which is {@link EpochIndex#EMPTY} if none was built yet.
+     */
+    CompletableFuture<EpochIndex> getCachedEpochIndex(OperationContext context) {
+        return CompletableFuture.completedFuture(epochIndex.get());
+    }
+
+    /**
+     * Keeps the given index, unless an index that covers at least as many chunks is already kept.
+     *
+     * @param index   Index over the full history chunks of this stream.
+     * @param context Operation context.
+     * @return A future with the index that is kept.
+     */
+    CompletableFuture<EpochIndex> cacheEpochIndex(EpochIndex index, OperationContext context) {
+        return CompletableFuture.completedFuture(epochIndex.accumulateAndGet(index,
+                (current, updated) -> current.getChunkCount() >= updated.getChunkCount() ? current : updated));
+    }
+
     private Long getMostRecent(Map<Long, Long> streamCut) {
         return streamCut.keySet().stream().max(Comparator.naturalOrder()).get();
     }
@@ -908,8 +998,32 @@ public abstract class PersistentStreamBase implements Stream {
         int epochLow = NameUtils.getEpoch(oldest);
         int epochHigh = NameUtils.getEpoch(mostRecent);
 
-        return fetchEpochs(epochLow, epochHigh, true, context).thenApply(epochs -> isStreamCutValidInternal(
-                streamCut, epochLow, epochs));
+        // A stream cut whose segments exactly cover the key space is valid, which only requires reading the segments'
+        // creation epochs. Otherwise, traverse all epochs in range to validate the future segments and missing ranges.
+        return getSegmentRecords(streamCut.keySet(), context).thenCompose(segments -> {
+            if (segments.size() == streamCut.size() && isCompleteStreamCut(streamCut, segments)) {
+                return CompletableFuture.completedFuture(true);
+            }
+            return fetchEpochs(epochLow, epochHigh, true, context).thenApply(epochs -> isStreamCutValidInternal(
+                    streamCut, epochLow, epochs));
+        });
+    }
+
+    private boolean isCompleteStreamCut(Map<Long, Long> streamCut, Map<Long, StreamSegmentRecord> segments) {
+        if (streamCut.values().stream().anyMatch(x -> x < 0)) {
+            return false;
+        }
+
+        List<StreamSegmentRecord> sorted = segments.values().stream()
+                .sorted(Comparator.comparingDouble(StreamSegmentRecord::getKeyStart)).collect(Collectors.toList());
+        double expectedStart = 0.0;
+        for (StreamSegmentRecord segment : sorted) {
+            if (segment.getKeyStart() != expectedStart) {
+                return false;
+            }
+            expectedStart = segment.getKeyEnd();
+        }
+        return expectedStart == 1.0;
     }
 
     private boolean isStreamCutValidInternal(Map<Long, Long> streamCut, int epochLow, List<EpochRecord> epochs) {
@@ -2429,20 +2543,29 @@ public abstract class PersistentStreamBase implements Stream {
         Preconditions.checkNotNull(context, "operation context cannot be null");
 
         return getActiveEpoch(ignoreCached, context)
-                .thenCompose(activeEpoch -> searchEpochAtTime(0, activeEpoch.getEpoch() / historyChunkSize.get(),
-                        x -> x == activeEpoch.getEpoch() / historyChunkSize.get(), timestamp, context)
-                        .thenApply(epoch -> {
-                            if (epoch == -1) {
-                                if (timestamp > activeEpoch.getCreationTime()) {
-                                    return activeEpoch.getEpoch();
+                .thenCompose(activeEpoch -> getEpochIndex(activeEpoch, context).thenCompose(index -> {
+                    int indexedEpoch = index.findEpochAtTime(timestamp);
+                    if (indexedEpoch >= 0) {
+                        return CompletableFuture.completedFuture(indexedEpoch);
+                    }
+
+                    // search the chunks that are not indexed yet.
+                    int activeChunk = activeEpoch.getEpoch() / historyChunkSize.get();
+                    return searchEpochAtTime(index.getChunkCount(), activeChunk, x -> x == activeChunk, timestamp, context)
+                            .thenApply(epoch -> {
+                                if (epoch == -1) {
+                                    if (timestamp > activeEpoch.getCreationTime()) {
+                                        return activeEpoch.getEpoch();
+                                    } else {
+                                        // the time falls after the last indexed epoch but before the first epoch
+                                        // that is not indexed.
+                                        return Math.max(index.getEpochCount() - 1, 0);
+                                    }
                                 } else {
-                                    return 0;
+                                    return epoch;
                                 }
-
-                            } else {
-                                return epoch;
-                            }
-                        }));
+                            });
+                }));
     }
 
     private CompletableFuture<Integer> searchEpochAtTime(int lowest, int highest, Predicate<Integer> ignoreCached,
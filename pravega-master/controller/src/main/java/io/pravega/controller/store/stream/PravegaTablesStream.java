@@ -126,6 +126,7 @@ class PravegaTablesStream extends PersistentStreamBase {
     private final BiFunction<Boolean, OperationContext, CompletableFuture<String>> streamsInScopeTableNameSupplier;
     private final AtomicReference<String> idRef;
     private final ZkOrderedStore txnCommitOrderer;
+    private final EpochIndexCache epochIndexCache;
     private final ScheduledExecutorService executor;
 
     @VisibleForTesting
@@ -144,12 +145,22 @@ class PravegaTablesStream extends PersistentStreamBase {
                         Supplier<Integer> currentBatchSupplier, int chunkSize, int shardSize,
                         BiFunction<Boolean, OperationContext, CompletableFuture<String>> streamsInScopeTableNameSupplier, 
                         ScheduledExecutorService executor) {
+        this(scopeName, streamName, storeHelper, txnCommitOrderer, currentBatchSupplier, chunkSize, shardSize,
+                streamsInScopeTableNameSupplier, new EpochIndexCache(), executor);
+    }
+
+    PravegaTablesStream(final String scopeName, final String streamName, PravegaTablesStoreHelper storeHelper, 
+                        ZkOrderedStore txnCommitOrderer,
+                        Supplier<Integer> currentBatchSupplier, int chunkSize, int shardSize,
+                        BiFunction<Boolean, OperationContext, CompletableFuture<String>> streamsInScopeTableNameSupplier, 
+                        EpochIndexCache epochIndexCache, ScheduledExecutorService executor) {
         super(scopeName, streamName, chunkSize, shardSize);
         this.storeHelper = storeHelper;
         this.txnCommitOrderer = txnCommitOrderer;
         this.currentBatchSupplier = currentBatchSupplier;
         this.streamsInScopeTableNameSupplier = streamsInScopeTableNameSupplier;
         this.idRef = new AtomicReference<>(null);
+        this.epochIndexCache = epochIndexCache;
         this.executor = executor;
     }
 
@@ -209,6 +220,16 @@ class PravegaTablesStream extends PersistentStreamBase {
     }
     // region overrides
 
+    @Override
+    CompletableFuture<EpochIndex> getCachedEpochIndex(OperationContext context) {
+        return getId(context).thenApply(id -> epochIndexCache.get(getScope(), getName(), id));
+    }
+
+    @Override
+    CompletableFuture<EpochIndex> cacheEpochIndex(EpochIndex index, OperationContext context) {
+        return getId(context).thenApply(id -> epochIndexCache.update(getScope(), getName(), id, index));
+    }
+
     @Override
     public CompletableFuture<Void> completeCommittingTransactions(VersionedMetadata<CommittingTransactionsRecord> record,
                                                                   OperationContext context,
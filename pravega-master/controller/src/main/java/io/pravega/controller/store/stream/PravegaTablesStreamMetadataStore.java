@@ -27,9 +27,12 @@ import io.pravega.controller.server.SegmentHelper;
 import io.pravega.controller.server.security.auth.GrpcAuthHelper;
 import io.pravega.controller.store.PravegaTablesScope;
 import io.pravega.controller.store.PravegaTablesStoreHelper;
+import io.pravega.controller.store.StreamsInScopeBatcher;
 import io.pravega.controller.store.Version;
 import io.pravega.controller.store.ZKStoreHelper;
 import io.pravega.controller.store.index.ZKHostIndex;
+import io.pravega.controller.store.stream.records.HistoryTimeSeries;
+import io.pravega.controller.store.stream.records.SealedSegmentsMapShard;
 import io.pravega.controller.util.Config;
 import io.pravega.shared.NameUtils;
 import lombok.AccessLevel;
@@ -79,6 +82,16 @@ public class PravegaTablesStreamMetadataStore extends AbstractStreamMetadataStor
     private final ZkOrderedStore orderer;
 
     private final ScheduledExecutorService executor;
+    @VisibleForTesting
+    @Getter
+    private final StreamsInScopeBatcher streamsInScopeBatcher = new StreamsInScopeBatcher();
+    // epoch indexes of the streams of this store, which outlive the stream object of each operation.
+    @VisibleForTesting
+    @Getter(AccessLevel.PACKAGE)
+    private final EpochIndexCache epochIndexCache = new EpochIndexCache();
+    // size of the history chunks of the streams of this store. only changed by tests.
+    private volatile int historyChunkSize = HistoryTimeSeries.HISTORY_CHUNK_SIZE;
+
     @VisibleForTesting
     PravegaTablesStreamMetadataStore(SegmentHelper segmentHelper, CuratorFramework client, 
                                      ScheduledExecutorService executor, GrpcAuthHelper authHelper) {
@@ -125,7 +138,8 @@ public class PravegaTablesStreamMetadataStore extends AbstractStreamMetadataStor
     public OperationContext createStreamContext(String scopeName, String streamName, long requestId) {
         PravegaTablesScope scope = newScope(scopeName);
         Stream stream = new PravegaTablesStream(scopeName, streamName, storeHelper, orderer,
-                completedTxnGCRef.get()::getLatestBatch, scope::getStreamsInScopeTableName, executor);
+                completedTxnGCRef.get()::getLatestBatch, historyChunkSize, SealedSegmentsMapShard.SHARD_SIZE,
+                scope::getStreamsInScopeTableName, epochIndexCache, executor);
 
         return new StreamOperationContext(scope, stream, requestId);
     }
@@ -201,10 +215,16 @@ public class PravegaTablesStreamMetadataStore extends AbstractStreamMetadataStor
         completedTxnGCRef.set(garbageCollector);
     }
 
+    @VisibleForTesting
+    void setHistoryChunkSize(int historyChunkSize) {
+        this.historyChunkSize = historyChunkSize;
+    }
+
     @Override
     PravegaTablesStream newStream(final String scope, final String name) {
         return new PravegaTablesStream(scope, name, storeHelper, orderer, completedTxnGCRef.get()::getLatestBatch,
-                (x, y) -> ((PravegaTablesScope) getScope(scope, y)).getStreamsInScopeTableName(x, y), executor);
+                historyChunkSize, SealedSegmentsMapShard.SHARD_SIZE,
+                (x, y) -> ((PravegaTablesScope) getScope(scope, y)).getStreamsInScopeTableName(x, y), epochIndexCache, executor);
     }
 
     @Override
@@ -251,7 +271,8 @@ public class PravegaTablesStreamMetadataStore extends AbstractStreamMetadataStor
         OperationContext context = getOperationContext(ctx);
         return Futures.completeOn(super.deleteStream(scope, name, context, executor)
                     .thenCompose(status -> ((PravegaTablesScope) getScope(scope, context)).removeStreamFromScope(name, context)
-                                                                                          .thenApply(v -> status)),
+                                                                                          .thenApply(v -> status))
+                    .whenComplete((r, e) -> epochIndexCache.invalidate(scope, name)),
                 executor);
     }
 
@@ -267,7 +288,7 @@ public class PravegaTablesStreamMetadataStore extends AbstractStreamMetadataStor
 
     @Override
     PravegaTablesScope newScope(final String scopeName) {
-        return new PravegaTablesScope(scopeName, storeHelper);
+        return new PravegaTablesScope(scopeName, storeHelper, streamsInScopeBatcher);
     }
 
     @Override
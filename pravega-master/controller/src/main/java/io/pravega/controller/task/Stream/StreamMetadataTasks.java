@@ -1903,12 +1903,8 @@ public class StreamMetadataTasks extends TaskBase {
 
     public CompletableFuture<Void> notifyNewSegments(String scope, String stream, StreamConfiguration configuration,
                                                      List<Long> segmentIds, String controllerToken, long requestId) {
-        return Futures.toVoid(Futures.allOfWithResults(segmentIds
-                .stream()
-                .parallel()
-                .map(segment -> notifyNewSegment(scope, stream, segment, configuration.getScalingPolicy(), controllerToken,
-                        requestId, configuration.getRolloverSizeBytes()))
-                .collect(Collectors.toList())));
+        return Futures.toVoid(withRetries(() -> segmentHelper.createSegments(scope, stream, segmentIds,
+                configuration.getScalingPolicy(), controllerToken, requestId, configuration.getRolloverSizeBytes()), executor));
     }
 
     public CompletableFuture<Void> notifyNewSegment(String scope, String stream, long segmentId, ScalingPolicy policy,
@@ -1919,11 +1915,8 @@ public class StreamMetadataTasks extends TaskBase {
 
     public CompletableFuture<Void> notifyDeleteSegments(String scope, String stream, Set<Long> segmentsToDelete,
                                                         String delegationToken, long requestId) {
-        return Futures.allOf(segmentsToDelete
-                 .stream()
-                 .parallel()
-                 .map(segment -> notifyDeleteSegment(scope, stream, segment, delegationToken, requestId))
-                 .collect(Collectors.toList()));
+        return Futures.toVoid(withRetries(() -> segmentHelper.deleteSegments(scope, stream, segmentsToDelete,
+                delegationToken, requestId), executor));
     }
 
     public CompletableFuture<Void> notifyDeleteSegment(String scope, String stream, long segmentId, String delegationToken,
@@ -1948,20 +1941,7 @@ public class StreamMetadataTasks extends TaskBase {
 
     public CompletableFuture<Void> notifySealedSegments(String scope, String stream, List<Long> sealedSegments,
                                                          String delegationToken, long requestId) {
-        return Futures.allOf(
-                sealedSegments
-                        .stream()
-                        .parallel()
-                        .map(id -> notifySealedSegment(scope, stream, id, delegationToken, requestId))
-                        .collect(Collectors.toList()));
-    }
-
-    private CompletableFuture<Void> notifySealedSegment(final String scope, final String stream, final long sealedSegment,
-                                                        String delegationToken, long requestId) {
-        return Futures.toVoid(withRetries(() -> segmentHelper.sealSegment(
-                scope,
-                stream,
-                sealedSegment,
+        return Futures.toVoid(withRetries(() -> segmentHelper.sealSegments(scope, stream, sealedSegments,
                 delegationToken, requestId), executor));
     }
 
@@ -147,6 +147,15 @@ public final class Config {
     public static final Property<Integer> PROPERTY_SEGMENT_STORE_REQUEST_TIMEOUT_SECONDS = Property.named(
             "segmentstore.connect.channel.timeoutSeconds", 120, "");
 
+    public static final Property<Boolean> PROPERTY_SEGMENT_STORE_BATCH_OPERATIONS_ENABLED = Property.named(
+            "segmentstore.batch.operations.enable", true);
+
+    public static final Property<Integer> PROPERTY_METADATA_CACHE_SIZE = Property.named(
+            "metadata.cache.size", 10000);
+
+    public static final Property<Boolean> PROPERTY_METADATA_CHANGE_FEED_ENABLED = Property.named(
+            "metadata.change.feed.enable", true);
+
     public static final Property<String> PROPERTY_ZK_URL = Property.named(
             "zk.connect.uri", "localhost:2181", "zkURL");
 
@@ -198,18 +207,33 @@ public final class Config {
     public static final Property<Integer> PROPERTY_WATERMARKING_THREAD_COUNT = Property.named(
             "watermarking.thread.count", 10, "watermarking.threadCount");
 
+    public static final Property<Integer> PROPERTY_WATERMARKING_MARK_REFRESH_SECONDS = Property.named(
+            "watermarking.mark.refresh.seconds", 0);
+
     public static final Property<String> PROPERTY_SCALE_STREAM_NAME = Property.named(
             "scale.request.stream.name", "_requeststream", "scale.streamName");
 
     public static final Property<String> PROPERTY_SCALE_READER_GROUP = Property.named(
             "scale.request.readerGroup.name", "scaleGroup", "scale.ReaderGroup");
 
+    public static final Property<Integer> PROPERTY_SCALE_STREAM_SEGMENT_COUNT = Property.named(
+            "scale.request.stream.segment.count", 2);
+
+    public static final Property<Integer> PROPERTY_SCALE_READER_GROUP_SIZE = Property.named(
+            "scale.request.readerGroup.size", 1);
+
+    public static final Property<Integer> PROPERTY_KVT_READER_GROUP_SIZE = Property.named(
+            "kvt.request.readerGroup.size", 1);
+
     public static final Property<Integer> PROPERTY_HEALTH_CHECK_FREQUENCY = Property.named(
             "health.frequency.seconds", 10);
 
     public static final Property<Integer> PROPERTY_LIST_COMPLETED_TXN_MAX_RECORDS = Property.named(
             "listCompletedTxn.max.records", 500);
 
+    public static final Property<Integer> PROPERTY_BULK_STREAM_OPERATION_CONCURRENCY = Property.named(
+            "stream.bulk.concurrency", 100);
+
     public static final Property<Integer> PROPERTY_MIN_BUCKET_REDISTRIBUTION_INTERVAL_IN_SECONDS = Property.named(
             "min.bucket.redistribution.interval.in.seconds", 10);
 
@@ -287,6 +311,7 @@ public final class Config {
     public static final int MINIMUM_WATERMARKING_FREQUENCY_IN_SECONDS;
     public static final int WATERMARKING_BUCKET_COUNT;
     public static final int WATERMARKING_THREAD_POOL_SIZE;
+    public static final int WATERMARKING_MARK_REFRESH_IN_SECONDS;
 
     // Request Stream Configuration
     public static final String SCALE_STREAM_NAME;
@@ -294,6 +319,14 @@ public final class Config {
     // Request Stream readerGroup
     public static final String SCALE_READER_GROUP;
 
+    // Number of segments of the Request Stream. This bounds the number of readers (across all Controller instances)
+    // that can process requests concurrently. An existing Request Stream with fewer segments is scaled up at startup.
+    public static final int SCALE_STREAM_SEGMENT_COUNT;
+
+    // Number of Request Stream and KVT Request Stream readers that each Controller instance runs.
+    public static final int SCALE_READER_GROUP_SIZE;
+    public static final int KVT_READER_GROUP_SIZE;
+
     // Print stack trace for all threads during shutdown
     public static final boolean DUMP_STACK_ON_SHUTDOWN;
 
@@ -302,10 +335,24 @@ public final class Config {
 
     public static final Integer REQUEST_TIMEOUT_SECONDS_SEGMENT_STORE;
 
+    // Whether segments are created, sealed and deleted with one request per Segment Store instead of one per segment.
+    // Batched requests are only sent to Segment Stores that advertise a wire version that supports them.
+    public static final boolean SEGMENT_STORE_BATCH_OPERATIONS_ENABLED;
+
+    // Maximum number of metadata records cached by each metadata store.
+    public static final int METADATA_CACHE_SIZE;
+
+    // Whether cached metadata is revalidated by reading the changes made to its table instead of being reloaded.
+    // Must be disabled while any Segment Store does not report removed keys when reading table changes.
+    public static final boolean METADATA_CHANGE_FEED_ENABLED;
+
     public static final int HEALTH_CHECK_FREQUENCY;
 
     public static final int LIST_COMPLETED_TXN_MAX_RECORDS;
 
+    // Maximum number of streams a bulk stream operation (e.g. createStreams) works on concurrently.
+    public static final int BULK_STREAM_OPERATION_CONCURRENCY;
+
     public static final int MIN_BUCKET_REDISTRIBUTION_INTERVAL_IN_SECONDS;
 
     private static final String METRICS_PATH = "controller.metrics.";
@@ -370,16 +417,24 @@ public final class Config {
         MINIMUM_WATERMARKING_FREQUENCY_IN_SECONDS = p.getInt(PROPERTY_WATERMARKING_FREQUENCY_SECONDS);
         WATERMARKING_BUCKET_COUNT = p.getInt(PROPERTY_WATERMARKING_BUCKET_COUNT);
         WATERMARKING_THREAD_POOL_SIZE = p.getInt(PROPERTY_WATERMARKING_THREAD_COUNT);
+        WATERMARKING_MARK_REFRESH_IN_SECONDS = p.getInt(PROPERTY_WATERMARKING_MARK_REFRESH_SECONDS);
         SCALE_STREAM_NAME = p.get(PROPERTY_SCALE_STREAM_NAME);
         SCALE_READER_GROUP = p.get(PROPERTY_SCALE_READER_GROUP);
+        SCALE_STREAM_SEGMENT_COUNT = p.getInt(PROPERTY_SCALE_STREAM_SEGMENT_COUNT);
+        SCALE_READER_GROUP_SIZE = p.getInt(PROPERTY_SCALE_READER_GROUP_SIZE);
+        KVT_READER_GROUP_SIZE = p.getInt(PROPERTY_KVT_READER_GROUP_SIZE);
         DUMP_STACK_ON_SHUTDOWN = p.getBoolean(PROPERTY_DUMP_STACK_ON_SHUTDOWN);
         USE_PRAVEGA_TABLES = p.getBoolean(PROPERTY_USE_PRAVEGA_TABLES);
         GRPC_SERVER_CONFIG = createGrpcServerConfig();
         METRICS_CONFIG = createMetricsConfig(properties);
 
         REQUEST_TIMEOUT_SECONDS_SEGMENT_STORE = p.getInt(PROPERTY_SEGMENT_STORE_REQUEST_TIMEOUT_SECONDS);
+        SEGMENT_STORE_BATCH_OPERATIONS_ENABLED = p.getBoolean(PROPERTY_SEGMENT_STORE_BATCH_OPERATIONS_ENABLED);
+        METADATA_CACHE_SIZE = p.getInt(PROPERTY_METADATA_CACHE_SIZE);
+        METADATA_CHANGE_FEED_ENABLED = p.getBoolean(PROPERTY_METADATA_CHANGE_FEED_ENABLED);
         HEALTH_CHECK_FREQUENCY = p.getInt(PROPERTY_HEALTH_CHECK_FREQUENCY);
         LIST_COMPLETED_TXN_MAX_RECORDS = p.getInt(PROPERTY_LIST_COMPLETED_TXN_MAX_RECORDS);
+        BULK_STREAM_OPERATION_CONCURRENCY = p.getInt(PROPERTY_BULK_STREAM_OPERATION_CONCURRENCY);
 
         MIN_BUCKET_REDISTRIBUTION_INTERVAL_IN_SECONDS = p.getInt(PROPERTY_MIN_BUCKET_REDISTRIBUTION_INTERVAL_IN_SECONDS);
     }
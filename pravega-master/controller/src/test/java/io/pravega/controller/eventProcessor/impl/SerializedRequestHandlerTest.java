@@ -356,6 +356,40 @@ public class SerializedRequestHandlerTest extends ThreadPooledTestSuite {
         assertTrue(p3.isCancelled());
     }
 
+    @Test(timeout = 10000)
+    public void testPendingEventCount() throws Exception {
+        SerializedRequestHandler<TestEvent> requestHandler = new SerializedRequestHandler<TestEvent>(executorService()) {
+            @Override
+            public CompletableFuture<Void> processEvent(TestEvent event) {
+                return event.getFuture();
+            }
+        };
+
+        TestEvent s1e1 = new TestEvent("scope", "stream1", 1);
+        TestEvent s1e2 = new TestEvent("scope", "stream1", 2);
+        TestEvent s1e3 = new TestEvent("scope", "stream1", 3);
+        TestEvent s2e1 = new TestEvent("scope", "stream2", 1);
+        CompletableFuture<Void> s1p1 = requestHandler.process(s1e1, () -> false);
+        CompletableFuture<Void> s1p2 = requestHandler.process(s1e2, () -> false);
+        CompletableFuture<Void> s1p3 = requestHandler.process(s1e3, () -> false);
+        CompletableFuture<Void> s2p1 = requestHandler.process(s2e1, () -> false);
+
+        // The first event of each stream is being processed; the other events of stream1 wait behind it.
+        AssertExtensions.assertEventuallyEquals(2, requestHandler::getPendingEventCount, 10000L);
+
+        s2e1.complete();
+        s1e1.complete();
+        Futures.await(s2p1);
+        Futures.await(s1p1);
+        AssertExtensions.assertEventuallyEquals(1, requestHandler::getPendingEventCount, 10000L);
+
+        s1e2.complete();
+        s1e3.complete();
+        Futures.await(s1p2);
+        Futures.await(s1p3);
+        assertEquals(0, requestHandler.getPendingEventCount());
+    }
+
     private void runBackgroundStreamProcessing(String streamName, SerializedRequestHandler<TestEvent> requestHandler, AtomicBoolean stop) {
         CompletableFuture.runAsync(() -> {
             while (!stop.get()) {
@@ -26,6 +26,7 @@ import io.pravega.controller.store.host.HostControllerStore;
 import io.pravega.controller.store.host.HostMonitorConfig;
 import io.pravega.controller.store.host.HostStoreFactory;
 import io.pravega.controller.store.host.impl.HostMonitorConfigImpl;
+import io.pravega.controller.store.host.VersionedHostContainerMap;
 import io.pravega.controller.util.Config;
 import org.junit.After;
 import org.junit.Before;
@@ -120,6 +121,11 @@ public class SegmentContainerMonitorTest {
                 return hostStore.getContainerCount();
             }
 
+            @Override
+            public VersionedHostContainerMap getVersionedHostContainersMap() {
+                return hostStore.getVersionedHostContainersMap();
+            }
+
             @Override
             public Host getHostForSegment(String scope, String stream, long segmentNumber) {
                 return null;
@@ -65,6 +65,9 @@ public class SegmentHelperMock {
         doReturn(NodeUri.newBuilder().setEndpoint("localhost").setPort(SERVICE_PORT).build()).when(helper).getSegmentUri(
                 anyString(), anyString(), anyLong());
 
+        // Send a request per segment, so that the per-segment stubs below apply to batched segment operations too.
+        helper.setBatchOperationsEnabled(false);
+
         doReturn(CompletableFuture.completedFuture(null)).when(helper).sealSegment(
                 anyString(), anyString(), anyLong(), any(), anyLong());
 
@@ -114,6 +117,9 @@ public class SegmentHelperMock {
         doReturn(NodeUri.newBuilder().setEndpoint("localhost").setPort(SERVICE_PORT).build()).when(helper).getSegmentUri(
                 anyString(), anyString(), anyLong());
 
+        // Send a request per segment, so that the per-segment stubs below apply to batched segment operations too.
+        helper.setBatchOperationsEnabled(false);
+
         doReturn(Futures.failedFuture(new RuntimeException())).when(helper).sealSegment(
                 anyString(), anyString(), anyLong(), any(), anyLong());
 
@@ -15,20 +15,52 @@
  */
 package io.pravega.controller.server;
 
+import io.pravega.client.control.impl.ModelHelper;
+import io.pravega.client.stream.ScalingPolicy;
+import io.pravega.client.stream.StreamConfiguration;
 import io.pravega.controller.mocks.SegmentHelperMock;
 import io.pravega.controller.server.security.auth.GrpcAuthHelper;
+import io.pravega.controller.store.PravegaTablesStoreHelper;
 import io.pravega.controller.store.kvtable.KVTableMetadataStore;
 import io.pravega.controller.store.kvtable.KVTableStoreFactory;
+import io.pravega.controller.store.stream.PravegaTablesStreamMetadataStore;
 import io.pravega.controller.store.stream.StreamMetadataStore;
-import io.pravega.controller.store.stream.StreamStoreFactory;
+import io.pravega.controller.stream.api.grpc.v1.Controller;
+import io.pravega.test.common.AssertExtensions;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 @Slf4j 
 public class ControllerServiceWithPravegaTablesStreamTest extends ControllerServiceWithStreamTest {
+    private PravegaTablesStoreHelper storeHelper;
+    private PravegaTablesStreamMetadataStore store;
+
     @Override
     StreamMetadataStore getStore() {
-        return StreamStoreFactory.createPravegaTablesStore(SegmentHelperMock.getSegmentHelperMockForTables(executor), 
-                GrpcAuthHelper.getDisabledAuthHelper(), zkClient, executor);
+        storeHelper = spy(new PravegaTablesStoreHelper(SegmentHelperMock.getSegmentHelperMockForTables(executor),
+                GrpcAuthHelper.getDisabledAuthHelper(), executor));
+        store = new PravegaTablesStreamMetadataStore(zkClient, executor, Duration.ofHours(1), storeHelper);
+        return store;
     }
 
     @Override
@@ -36,4 +68,43 @@ public class ControllerServiceWithPravegaTablesStreamTest extends ControllerServ
         return KVTableStoreFactory.createPravegaTablesStore(SegmentHelperMock.getSegmentHelperMockForTables(executor),
                 GrpcAuthHelper.getDisabledAuthHelper(), zkClient, executor);
     }
+
+    @Test(timeout = 30000)
+    public void createStreamsBatchesScopeUpdatesTest() throws Exception {
+        final String scope = "batchScope";
+        final int streamCount = 10;
+        final StreamConfiguration configuration = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(1)).build();
+        assertEquals(Controller.CreateScopeStatus.Status.SUCCESS, consumer.createScope(scope, 0L).join().getStatus());
+
+        // Hold the first addition to the streams-in-scope table so that the other streams queue up behind it.
+        CompletableFuture<Void> releaseFirstAddition = new CompletableFuture<>();
+        AtomicBoolean isFirstAddition = new AtomicBoolean(true);
+        doAnswer(x -> {
+            if (isFirstAddition.compareAndSet(true, false)) {
+                return releaseFirstAddition.thenCompose(v -> {
+                    try {
+                        return (CompletableFuture<?>) x.callRealMethod();
+                    } catch (Throwable e) {
+                        throw new CompletionException(e);
+                    }
+                });
+            }
+            return x.callRealMethod();
+        }).when(storeHelper).addNewEntryIfAbsent(contains("streamsInScope"), anyString(), any(), any(), anyLong());
+
+        List<Controller.StreamConfig> configs = IntStream.range(0, streamCount)
+                                                         .mapToObj(i -> ModelHelper.decode(scope, "stream" + i, configuration))
+                                                         .collect(Collectors.toList());
+        CompletableFuture<Controller.CreateStreamsStatus> result = consumer.createStreams(configs, System.currentTimeMillis(), 0L);
+
+        // Each stream is created with its own scope object; all of them must wait on the same queue.
+        AssertExtensions.assertEventuallyEquals(streamCount - 1, () -> store.getStreamsInScopeBatcher().getPendingStreamCount(), 10000);
+        releaseFirstAddition.complete(null);
+
+        Controller.CreateStreamsStatus status = result.join();
+        assertEquals(streamCount, status.getResultsCount());
+        status.getResultsList().forEach(r -> assertEquals(Controller.CreateStreamStatus.Status.SUCCESS, r.getStatus()));
+        verify(storeHelper, atLeastOnce()).addNewEntries(contains("streamsInScope"), argThat(l -> l.size() == streamCount - 1), any(), anyLong());
+        configs.forEach(c -> assertTrue(store.checkStreamExists(scope, c.getStreamInfo().getStream(), null, executor).join()));
+    }
 }
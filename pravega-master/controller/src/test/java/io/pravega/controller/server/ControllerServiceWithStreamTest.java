@@ -105,7 +105,7 @@ public abstract class ControllerServiceWithStreamTest {
     protected final ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(10, "test");
     protected CuratorFramework zkClient;
 
-    private ControllerService consumer;
+    protected ControllerService consumer;
 
     private TestingServer zkServer;
 
@@ -29,13 +29,18 @@ import io.pravega.client.tables.impl.TableSegmentEntry;
 import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import io.pravega.common.Exceptions;
+import io.pravega.common.Timer;
 import io.pravega.common.cluster.Host;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.controller.store.host.HostControllerStore;
+import io.pravega.controller.store.host.HostStoreFactory;
+import io.pravega.controller.store.host.impl.HostMonitorConfigImpl;
+import io.pravega.controller.store.host.VersionedHostContainerMap;
 import io.pravega.controller.stream.api.grpc.v1.Controller;
 import io.pravega.shared.protocol.netty.Append;
 import io.pravega.shared.protocol.netty.ConnectionFailedException;
 import io.pravega.shared.protocol.netty.PravegaNodeUri;
+import io.pravega.shared.protocol.netty.Reply;
 import io.pravega.shared.protocol.netty.ReplyProcessor;
 import io.pravega.shared.protocol.netty.Request;
 import io.pravega.shared.protocol.netty.WireCommand;
@@ -45,6 +50,8 @@ import io.pravega.test.common.AssertExtensions;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -54,13 +61,17 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import javax.annotation.concurrent.GuardedBy;
 
 import io.pravega.test.common.ThreadPooledTestSuite;
 import lombok.Cleanup;
 import lombok.Getter;
 import lombok.val;
+import org.junit.Ignore;
 import org.junit.Test;
 
 import static io.netty.buffer.Unpooled.wrappedBuffer;
@@ -80,6 +91,8 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
     private final byte[] value = "v".getBytes();
     private final ByteBuf token1 = wrappedBuffer(new byte[]{0x01});
     private final ByteBuf token2 = wrappedBuffer(new byte[]{0x02});
+    // The wire version that the Segment Store reports on the mocked connections.
+    private final AtomicInteger serverVersion = new AtomicInteger(WireCommands.WIRE_VERSION);
 
     @Test
     public void getSegmentUri() {
@@ -90,6 +103,44 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
         helper.getSegmentUri("", "", 0);
     }
 
+    @Test
+    public void getContainerRoutingTable() {
+        MockConnectionFactory factory = new MockConnectionFactory();
+        HostControllerStore hostStore = HostStoreFactory.createInMemoryStore(HostMonitorConfigImpl.dummyConfig());
+        @Cleanup
+        SegmentHelper helper = new SegmentHelper(factory, hostStore, executorService());
+        Map<Host, Set<Integer>> map = hostStore.getHostContainersMap();
+        long version = hostStore.getVersionedHostContainersMap().getVersion();
+
+        // Returns immediately if the table is different from the known one.
+        Controller.ContainerRoutingTable table = helper.getContainerRoutingTable(version - 1, Duration.ofMinutes(1)).join();
+        assertEquals(version, table.getVersion());
+        assertEquals(hostStore.getContainerCount(), table.getContainerCount());
+        assertEquals(map.size(), table.getHostsCount());
+        int containers = 0;
+        for (Controller.ContainerHost host : table.getHostsList()) {
+            Host expected = map.keySet().stream().filter(h -> h.getIpAddr().equals(host.getNodeUri().getEndpoint())
+                    && h.getPort() == host.getNodeUri().getPort()).findFirst().get();
+            assertEquals(map.get(expected), new HashSet<>(host.getContainerIdsList()));
+            containers += host.getContainerIdsCount();
+        }
+        assertEquals(hostStore.getContainerCount(), containers);
+
+        // Returns the same table once the wait times out.
+        assertEquals(version, helper.getContainerRoutingTable(version, Duration.ofMillis(10)).join().getVersion());
+
+        // Returns once the table changes.
+        CompletableFuture<Controller.ContainerRoutingTable> longPoll = helper.getContainerRoutingTable(version, Duration.ofMinutes(1));
+        assertFalse(longPoll.isDone());
+        Host newHost = new Host("newHost", 1234, null);
+        hostStore.updateHostContainersMap(Collections.singletonMap(newHost, map.values().stream()
+                .flatMap(Set::stream).collect(Collectors.toSet())));
+        table = longPoll.join();
+        assertTrue(table.getVersion() != version);
+        assertEquals(1, table.getHostsCount());
+        assertEquals("newHost", table.getHosts(0).getNodeUri().getEndpoint());
+    }
+
     @Test
     public void createSegment() {
         MockConnectionFactory factory = new MockConnectionFactory();
@@ -230,6 +281,116 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
         testConnectionFailure(factory, futureSupplier);
     }
 
+    @Test
+    public void createSegments() {
+        MockConnectionFactory factory = new MockConnectionFactory();
+        @Cleanup
+        SegmentHelper helper = new SegmentHelper(factory, new MockHostControllerStore(), executorService());
+        List<Long> segmentIds = Arrays.asList(0L, 1L, 2L);
+        List<String> segmentNames = segmentIds.stream().map(id -> getQualifiedStreamSegmentName("", "", id)).collect(Collectors.toList());
+
+        // All the segments are owned by the same Segment Store, so a single request is sent.
+        CompletableFuture<Void> result = helper.createSegments("", "", segmentIds, ScalingPolicy.fixed(2), "", Long.MIN_VALUE, 1024L);
+        MockConnection connection = (MockConnection) factory.connection;
+        assertEquals(segmentNames, ((WireCommands.CreateSegmentsBatch) connection.getCommand()).getSegments());
+        factory.rp.process(new WireCommands.SegmentsBatchCreated(connection.getRequestId(), segmentNames));
+        result.join();
+
+        CompletableFuture<Void> retVal = helper.createSegments("", "", segmentIds, ScalingPolicy.fixed(2), "", Long.MIN_VALUE, 1024L);
+        factory.rp.process(new WireCommands.WrongHost(((MockConnection) factory.connection).getRequestId(), segmentNames.get(0), "", ""));
+        AssertExtensions.assertThrows("",
+                () -> retVal.join(),
+                ex -> Exceptions.unwrap(ex) instanceof WireCommandFailedException
+                        && ((WireCommandFailedException) ex).getReason().equals(WireCommandFailedException.Reason.UnknownHost)
+        );
+
+        // A request is sent for every segment when batching is disabled.
+        helper.setBatchOperationsEnabled(false);
+        CompletableFuture<Void> single = helper.createSegments("", "", Collections.singletonList(0L), ScalingPolicy.fixed(2), "", Long.MIN_VALUE, 0L);
+        connection = (MockConnection) factory.connection;
+        assertTrue(connection.getCommand() instanceof WireCommands.CreateSegment);
+        factory.rp.process(new WireCommands.SegmentCreated(connection.getRequestId(), segmentNames.get(0)));
+        single.join();
+        helper.setBatchOperationsEnabled(true);
+
+        // A request is sent for every segment to a Segment Store that does not support batched segment operations.
+        serverVersion.set(WireCommands.CreateSegmentsBatch.MIN_WIRE_VERSION - 1);
+        single = helper.createSegments("", "", Collections.singletonList(0L), ScalingPolicy.fixed(2), "", Long.MIN_VALUE, 0L);
+        connection = (MockConnection) factory.connection;
+        assertTrue(connection.getCommand() instanceof WireCommands.CreateSegment);
+        factory.rp.process(new WireCommands.SegmentCreated(connection.getRequestId(), segmentNames.get(0)));
+        single.join();
+        serverVersion.set(WireCommands.WIRE_VERSION);
+
+        Supplier<CompletableFuture<?>> futureSupplier = () -> helper.createSegments("", "", segmentIds, ScalingPolicy.fixed(2), "", Long.MIN_VALUE, 0L);
+        validateProcessingFailureCFE(factory, futureSupplier);
+        testConnectionFailure(factory, futureSupplier);
+    }
+
+    @Test
+    public void sealAndDeleteSegments() {
+        MockConnectionFactory factory = new MockConnectionFactory();
+        @Cleanup
+        SegmentHelper helper = new SegmentHelper(factory, new MockHostControllerStore(), executorService());
+        List<Long> segmentIds = Arrays.asList(0L, 1L);
+        List<String> segmentNames = segmentIds.stream().map(id -> getQualifiedStreamSegmentName("", "", id)).collect(Collectors.toList());
+
+        CompletableFuture<Void> result = helper.sealSegments("", "", segmentIds, "", System.nanoTime());
+        MockConnection connection = (MockConnection) factory.connection;
+        assertEquals(segmentNames, ((WireCommands.SealSegmentsBatch) connection.getCommand()).getSegments());
+        factory.rp.process(new WireCommands.SegmentsBatchSealed(connection.getRequestId(), segmentNames));
+        result.join();
+
+        result = helper.deleteSegments("", "", segmentIds, "", System.nanoTime());
+        connection = (MockConnection) factory.connection;
+        assertEquals(segmentNames, ((WireCommands.DeleteSegmentsBatch) connection.getCommand()).getSegments());
+        factory.rp.process(new WireCommands.SegmentsBatchDeleted(connection.getRequestId(), segmentNames));
+        result.join();
+
+        // The segments are sealed one at a time if the Segment Store does not report its version.
+        serverVersion.set(-1);
+        result = helper.sealSegments("", "", Collections.singletonList(0L), "", System.nanoTime());
+        connection = (MockConnection) factory.connection;
+        assertTrue(connection.getCommand() instanceof WireCommands.SealSegment);
+        factory.rp.process(new WireCommands.SegmentSealed(connection.getRequestId(), segmentNames.get(0)));
+        result.join();
+        serverVersion.set(WireCommands.WIRE_VERSION);
+
+        // Nothing is sent for an empty batch.
+        helper.deleteSegments("", "", Collections.emptyList(), "", System.nanoTime()).join();
+        assertEquals(connection, factory.connection);
+
+        Supplier<CompletableFuture<?>> futureSupplier = () -> helper.sealSegments("", "", segmentIds, "", System.nanoTime());
+        validateProcessingFailureCFE(factory, futureSupplier);
+        futureSupplier = () -> helper.deleteSegments("", "", segmentIds, "", System.nanoTime());
+        validateProcessingFailureCFE(factory, futureSupplier);
+        testConnectionFailure(factory, futureSupplier);
+    }
+
+    /**
+     * Measures how long it takes to create the segments of a scale operation, with and without batching, against a
+     * simulated Segment Store that handles the requests it receives one at a time and then creates their segments in
+     * parallel.
+     */
+    @Test
+    @Ignore("Benchmark")
+    public void benchmarkCreateSegments() {
+        final Duration requestCost = Duration.ofMillis(1);
+        final Duration segmentCost = Duration.ofMillis(5);
+        for (int segmentCount : new int[]{1, 10, 100, 1000}) {
+            List<Long> segmentIds = LongStream.range(0, segmentCount).boxed().collect(Collectors.toList());
+            for (boolean batch : new boolean[]{false, true}) {
+                @Cleanup
+                SegmentHelper helper = new SegmentHelper(new SimulatedSegmentStore(requestCost, segmentCost, executorService()),
+                        new MockHostControllerStore(), executorService());
+                helper.setBatchOperationsEnabled(batch);
+                Timer timer = new Timer();
+                helper.createSegments("scope", "stream", segmentIds, ScalingPolicy.fixed(segmentCount), "", 0L, 0L).join();
+                System.out.println(String.format("Segments: %d, Batched: %s, Elapsed: %dms", segmentCount, batch, timer.getElapsedMillis()));
+            }
+        }
+    }
+
     @Test
     public void createTransaction() {
         MockConnectionFactory factory = new MockConnectionFactory();
@@ -1005,6 +1166,11 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
             return 0;
         }
 
+        @Override
+        public VersionedHostContainerMap getVersionedHostContainersMap() {
+            return null;
+        }
+
         @Override
         public Host getHostForSegment(String scope, String stream, long segmentId) {
             return new Host("localhost", 1000, "");
@@ -1073,6 +1239,8 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
         private final ReplyProcessor rp;
         @Getter
         private long requestId;
+        @Getter
+        private WireCommand command;
 
         public MockConnection(ReplyProcessor rp, AtomicBoolean toFail) {
             this.rp = rp;
@@ -1082,6 +1250,7 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
         @Override
         public void send(WireCommand cmd) throws ConnectionFailedException {
             this.requestId = ((Request) cmd).getRequestId();
+            this.command = cmd;
             if (toFail.get()) {
                 throw new ConnectionFailedException();
             }
@@ -1107,5 +1276,73 @@ public class SegmentHelperTest extends ThreadPooledTestSuite {
         public PravegaNodeUri getLocation() {
             return null;
         }
+
+        @Override
+        public int getServerVersion() {
+            return serverVersion.get();
+        }
+    }
+
+    /**
+     * Connection pool to a simulated Segment Store that handles the requests it receives one at a time, taking requestCost
+     * for each, and replies to a request segmentCost after handling it.
+     */
+    private class SimulatedSegmentStore implements ConnectionPool {
+        private final long requestCostNanos;
+        private final Duration segmentCost;
+        private final ScheduledExecutorService executor;
+        private final Object lock = new Object();
+        @GuardedBy("lock")
+        private long busyUntilNanos;
+
+        SimulatedSegmentStore(Duration requestCost, Duration segmentCost, ScheduledExecutorService executor) {
+            this.requestCostNanos = requestCost.toNanos();
+            this.segmentCost = segmentCost;
+            this.executor = executor;
+        }
+
+        @Override
+        public CompletableFuture<ClientConnection> getClientConnection(Flow flow, PravegaNodeUri uri, ReplyProcessor rp) {
+            return getClientConnection(uri, rp);
+        }
+
+        @Override
+        public CompletableFuture<ClientConnection> getClientConnection(PravegaNodeUri uri, ReplyProcessor rp) {
+            return CompletableFuture.completedFuture(new MockConnection(rp, new AtomicBoolean(false)) {
+                @Override
+                public void send(WireCommand cmd) {
+                    Duration delay;
+                    synchronized (lock) {
+                        long now = System.nanoTime();
+                        busyUntilNanos = Math.max(busyUntilNanos, now) + requestCostNanos;
+                        delay = Duration.ofNanos(busyUntilNanos - now).plus(segmentCost);
+                    }
+                    Futures.delayedFuture(delay, executor).thenRun(() -> rp.process(reply(cmd)));
+                }
+            });
+        }
+
+        private Reply reply(WireCommand cmd) {
+            if (cmd instanceof WireCommands.CreateSegmentsBatch) {
+                WireCommands.CreateSegmentsBatch request = (WireCommands.CreateSegmentsBatch) cmd;
+                return new WireCommands.SegmentsBatchCreated(request.getRequestId(), request.getSegments());
+            }
+            WireCommands.CreateSegment request = (WireCommands.CreateSegment) cmd;
+            return new WireCommands.SegmentCreated(request.getRequestId(), request.getSegment());
+        }
+
+        @Override
+        public void getClientConnection(Flow flow, PravegaNodeUri uri, ReplyProcessor rp, CompletableFuture<ClientConnection> connection) {
+            getClientConnection(uri, rp).thenAccept(connection::complete);
+        }
+
+        @Override
+        public ScheduledExecutorService getInternalExecutor() {
+            return executor;
+        }
+
+        @Override
+        public void close() {
+        }
     }
-}
\ No newline at end of file
+}
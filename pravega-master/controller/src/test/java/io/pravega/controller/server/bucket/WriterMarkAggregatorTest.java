@@ -0,0 +1,204 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.server.bucket;
+
+import com.google.common.collect.ImmutableMap;
+import io.pravega.client.stream.Stream;
+import io.pravega.common.Exceptions;
+import io.pravega.common.Timer;
+import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.controller.store.stream.StoreException;
+import io.pravega.controller.store.stream.WriterTimestampResponse;
+import io.pravega.test.common.AssertExtensions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Cleanup;
+import lombok.Data;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the {@link WriterMarkAggregator} class.
+ */
+public class WriterMarkAggregatorTest {
+    private static final String SCOPE = "scope";
+    private static final String STREAM = "stream";
+
+    /**
+     * Tests that marks reported while a previous mark is being persisted are coalesced.
+     */
+    @Test(timeout = 10000)
+    public void testCoalescing() {
+        List<PersistCall> calls = new ArrayList<>();
+        WriterMarkAggregator aggregator = new WriterMarkAggregator((scope, stream, writer, timestamp, position, requestId) -> {
+            PersistCall call = new PersistCall(writer, timestamp, new CompletableFuture<>());
+            calls.add(call);
+            return call.getResult();
+        });
+
+        CompletableFuture<WriterTimestampResponse> first = aggregator.noteWriterMark(SCOPE, STREAM, "w", 1L, ImmutableMap.of(0L, 1L), 0L);
+        CompletableFuture<WriterTimestampResponse> second = aggregator.noteWriterMark(SCOPE, STREAM, "w", 2L, ImmutableMap.of(0L, 2L), 0L);
+        CompletableFuture<WriterTimestampResponse> third = aggregator.noteWriterMark(SCOPE, STREAM, "w", 3L, ImmutableMap.of(0L, 3L), 0L);
+        CompletableFuture<WriterTimestampResponse> other = aggregator.noteWriterMark(SCOPE, STREAM, "w2", 1L, ImmutableMap.of(0L, 1L), 0L);
+
+        // The first mark of each writer is persisted immediately; the others wait.
+        assertEquals(2, calls.size());
+        assertEquals(2, aggregator.getActiveWriterCount());
+
+        calls.get(0).getResult().complete(WriterTimestampResponse.SUCCESS);
+        assertEquals(WriterTimestampResponse.SUCCESS, first.join());
+        assertFalse(second.isDone());
+        assertEquals(3, calls.size());
+        assertEquals("w", calls.get(2).getWriter());
+        assertEquals(3L, calls.get(2).getTimestamp());
+
+        calls.get(2).getResult().complete(WriterTimestampResponse.SUCCESS);
+        assertEquals(WriterTimestampResponse.SUCCESS, second.join());
+        assertEquals(WriterTimestampResponse.SUCCESS, third.join());
+        assertEquals(3, calls.size());
+
+        calls.get(1).getResult().complete(WriterTimestampResponse.SUCCESS);
+        assertEquals(WriterTimestampResponse.SUCCESS, other.join());
+        assertEquals(0, aggregator.getActiveWriterCount());
+    }
+
+    /**
+     * Tests that a mark older than the one already waiting to be persisted is rejected immediately.
+     */
+    @Test(timeout = 10000)
+    public void testOutOfOrderMark() {
+        List<PersistCall> calls = new ArrayList<>();
+        WriterMarkAggregator aggregator = new WriterMarkAggregator((scope, stream, writer, timestamp, position, requestId) -> {
+            PersistCall call = new PersistCall(writer, timestamp, new CompletableFuture<>());
+            calls.add(call);
+            return call.getResult();
+        });
+
+        aggregator.noteWriterMark(SCOPE, STREAM, "w", 1L, ImmutableMap.of(0L, 1L), 0L);
+        CompletableFuture<WriterTimestampResponse> later = aggregator.noteWriterMark(SCOPE, STREAM, "w", 5L, ImmutableMap.of(0L, 5L), 0L);
+        CompletableFuture<WriterTimestampResponse> earlier = aggregator.noteWriterMark(SCOPE, STREAM, "w", 3L, ImmutableMap.of(0L, 3L), 0L);
+        assertEquals(WriterTimestampResponse.INVALID_TIME, earlier.join());
+
+        calls.get(0).getResult().complete(WriterTimestampResponse.SUCCESS);
+        assertEquals(5L, calls.get(1).getTimestamp());
+        calls.get(1).getResult().complete(WriterTimestampResponse.SUCCESS);
+        assertEquals(WriterTimestampResponse.SUCCESS, later.join());
+    }
+
+    /**
+     * Tests that persist failures are reported to the callers and do not prevent subsequent marks from being persisted.
+     */
+    @Test(timeout = 10000)
+    public void testFailures() {
+        List<PersistCall> calls = new ArrayList<>();
+        WriterMarkAggregator aggregator = new WriterMarkAggregator((scope, stream, writer, timestamp, position, requestId) -> {
+            if (timestamp == 0L) {
+                throw new IllegalArgumentException("sync failure");
+            }
+            PersistCall call = new PersistCall(writer, timestamp, new CompletableFuture<>());
+            calls.add(call);
+            return call.getResult();
+        });
+
+        AssertExtensions.assertFutureThrows("Expected synchronous failure to be reported.",
+                aggregator.noteWriterMark(SCOPE, STREAM, "w", 0L, ImmutableMap.of(0L, 0L), 0L),
+                e -> Exceptions.unwrap(e) instanceof IllegalArgumentException);
+        assertEquals(0, aggregator.getActiveWriterCount());
+
+        CompletableFuture<WriterTimestampResponse> first = aggregator.noteWriterMark(SCOPE, STREAM, "w", 1L, ImmutableMap.of(0L, 1L), 0L);
+        CompletableFuture<WriterTimestampResponse> second = aggregator.noteWriterMark(SCOPE, STREAM, "w", 2L, ImmutableMap.of(0L, 2L), 0L);
+        calls.get(0).getResult().completeExceptionally(StoreException.create(StoreException.Type.DATA_NOT_FOUND, "stream"));
+        AssertExtensions.assertFutureThrows("Expected store failure to be reported.", first,
+                e -> Exceptions.unwrap(e) instanceof StoreException.DataNotFoundException);
+
+        calls.get(1).getResult().complete(WriterTimestampResponse.SUCCESS);
+        assertEquals(WriterTimestampResponse.SUCCESS, second.join());
+        assertEquals(0, aggregator.getActiveWriterCount());
+    }
+
+    /**
+     * Tests that listeners are notified only of successfully persisted marks.
+     */
+    @Test(timeout = 10000)
+    public void testListeners() {
+        WriterMarkAggregator aggregator = new WriterMarkAggregator((scope, stream, writer, timestamp, position, requestId) ->
+                CompletableFuture.completedFuture(timestamp > 0 ? WriterTimestampResponse.SUCCESS : WriterTimestampResponse.INVALID_TIME));
+        List<Stream> notified = new ArrayList<>();
+        aggregator.addListener(notified::add);
+        aggregator.addListener(s -> {
+            throw new IllegalStateException("listener failure");
+        });
+
+        assertEquals(WriterTimestampResponse.SUCCESS,
+                aggregator.noteWriterMark(SCOPE, STREAM, "w", 1L, ImmutableMap.of(0L, 1L), 0L).join());
+        assertEquals(WriterTimestampResponse.INVALID_TIME,
+                aggregator.noteWriterMark(SCOPE, "other", "w", 0L, ImmutableMap.of(0L, 1L), 0L).join());
+        assertEquals(1, notified.size());
+        assertEquals(Stream.of(SCOPE, STREAM), notified.get(0));
+    }
+
+    /**
+     * Simulates thousands of writers across several streams reporting marks against a metadata store with a fixed
+     * update latency, and prints how many marks were received versus persisted.
+     */
+    @Test
+    @Ignore("Benchmark")
+    public void benchmarkManyWriters() {
+        final int streamCount = 10;
+        final int writersPerStream = 500;
+        final int marksPerWriter = 50;
+        final Duration storeLatency = Duration.ofMillis(5);
+        @Cleanup("shutdownNow")
+        ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(8, "benchmark");
+        AtomicInteger persisted = new AtomicInteger();
+        WriterMarkAggregator aggregator = new WriterMarkAggregator((scope, stream, writer, timestamp, position, requestId) -> {
+            persisted.incrementAndGet();
+            return Futures.delayedFuture(storeLatency, executor).thenApply(v -> WriterTimestampResponse.SUCCESS);
+        });
+
+        Timer timer = new Timer();
+        List<CompletableFuture<WriterTimestampResponse>> results = new ArrayList<>();
+        for (int m = 1; m <= marksPerWriter; m++) {
+            for (int s = 0; s < streamCount; s++) {
+                for (int w = 0; w < writersPerStream; w++) {
+                    results.add(aggregator.noteWriterMark(SCOPE, "stream" + s, "writer" + w, m, ImmutableMap.of(0L, (long) m), 0L));
+                }
+            }
+        }
+        Futures.allOf(results).join();
+        long received = results.size();
+        assertTrue(results.stream().allMatch(f -> f.join() == WriterTimestampResponse.SUCCESS));
+        System.out.println(String.format("Writers: %d, Marks received: %d, Marks persisted: %d (%.1f%%), Elapsed: %dms",
+                streamCount * writersPerStream, received, persisted.get(), 100.0 * persisted.get() / received,
+                timer.getElapsedMillis()));
+    }
+
+    @Data
+    private static class PersistCall {
+        private final String writer;
+        private final long timestamp;
+        private final CompletableFuture<WriterTimestampResponse> result;
+    }
+}
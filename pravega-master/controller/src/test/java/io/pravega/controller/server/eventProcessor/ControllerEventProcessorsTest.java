@@ -22,8 +22,10 @@ import io.pravega.client.EventStreamClientFactory;
 import io.pravega.client.connection.impl.ConnectionPool;
 import io.pravega.client.segment.impl.Segment;
 import io.pravega.client.stream.EventStreamWriter;
+import io.pravega.client.stream.StreamConfiguration;
 import io.pravega.client.stream.impl.PositionImpl;
 import io.pravega.client.stream.impl.SegmentWithRange;
+import io.pravega.client.stream.impl.StreamSegments;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.controller.eventProcessor.EventProcessorConfig;
 import io.pravega.controller.eventProcessor.EventProcessorGroup;
@@ -359,6 +361,37 @@ public class ControllerEventProcessorsTest extends ThreadPooledTestSuite {
         AssertExtensions.assertEventuallyEquals(true, () -> processors.getBootstrapCompleted().get(), 10000);
     }
     
+    @Test(timeout = 10000L)
+    public void testScaleRequestStreamIfNeeded() {
+        LocalController controller = mock(LocalController.class);
+        ControllerEventProcessorConfig config = ControllerEventProcessorConfigImpl.withDefault();
+        int segmentCount = config.getRequestStreamScalingPolicy().getMinNumSegments();
+        StreamSegments segments = mock(StreamSegments.class);
+        doReturn(CompletableFuture.completedFuture(segments)).when(controller).getCurrentSegments(anyString(), anyString());
+        doReturn(CompletableFuture.completedFuture(true)).when(controller).updateStream(anyString(), anyString(), any());
+
+        @Cleanup
+        ControllerEventProcessors processors = new ControllerEventProcessors("host1",
+                config, controller, mock(CheckpointStore.class), mock(StreamMetadataStore.class), mock(BucketStore.class),
+                mock(ConnectionPool.class), mock(StreamMetadataTasks.class), mock(StreamTransactionMetadataTasks.class),
+                mock(KVTableMetadataStore.class), mock(TableMetadataTasks.class), mock(EventProcessorSystem.class), executorService());
+
+        // The request stream already has the configured number of segments.
+        when(segments.getNumberOfSegments()).thenReturn(segmentCount);
+        processors.scaleRequestStreamIfNeeded().join();
+        verify(controller, never()).updateStream(anyString(), anyString(), any());
+
+        // The request stream was created with fewer segments.
+        when(segments.getNumberOfSegments()).thenReturn(segmentCount - 1);
+        processors.scaleRequestStreamIfNeeded().join();
+        verify(controller, times(1)).updateStream(eq(config.getScopeName()), eq(config.getRequestStreamName()),
+                eq(StreamConfiguration.builder().scalingPolicy(config.getRequestStreamScalingPolicy()).build()));
+
+        // Failures are not propagated.
+        doReturn(Futures.failedFuture(new RuntimeException("intentional"))).when(controller).getCurrentSegments(anyString(), anyString());
+        processors.scaleRequestStreamIfNeeded().join();
+    }
+
     @Test(timeout = 10000L)
     public void testTruncate() throws CheckpointStoreException, InterruptedException {
         LocalController controller = mock(LocalController.class);
@@ -0,0 +1,166 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.server.eventProcessor.requesthandlers;
+
+import io.pravega.shared.segment.KeyHashSketch;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the {@link AutoScaleTask} class.
+ */
+public class AutoScaleTaskTest {
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Tests that segments are split into equal key ranges when their load distribution is unknown or unusable, and at the
+     * load quantiles otherwise.
+     */
+    @Test
+    public void testComputeNewRanges() {
+        // Unknown load: equal splits.
+        assertRanges(new double[]{0.5, 0.625, 0.75, 0.875, 1.0},
+                AutoScaleTask.computeNewRanges(0.5, 1.0, 4, Collections.emptyList()));
+        assertRanges(new double[]{0.5, 0.75, 1.0}, AutoScaleTask.computeNewRanges(0.5, 1.0, 2, null));
+
+        // Quartiles, used for two and four splits.
+        List<Double> quartiles = Arrays.asList(0.55, 0.6, 0.8);
+        assertRanges(new double[]{0.5, 0.6, 1.0}, AutoScaleTask.computeNewRanges(0.5, 1.0, 2, quartiles));
+        assertRanges(new double[]{0.5, 0.55, 0.6, 0.8, 1.0}, AutoScaleTask.computeNewRanges(0.5, 1.0, 4, quartiles));
+        // Three splits interpolate between quartiles.
+        assertRanges(new double[]{0.5, 0.5666666666666667, 0.7333333333333334, 1.0},
+                AutoScaleTask.computeNewRanges(0.5, 1.0, 3, quartiles));
+
+        // Quantiles outside of the segment are clamped to its range.
+        assertRanges(new double[]{0.5, 0.7, 1.0}, AutoScaleTask.computeNewRanges(0.5, 1.0, 2, Arrays.asList(0.4, 0.7, 1.2)));
+
+        // Unordered quantiles, or quantiles that would create (nearly) empty ranges, fall back to equal splits.
+        assertRanges(new double[]{0.5, 0.75, 1.0}, AutoScaleTask.computeNewRanges(0.5, 1.0, 2, Arrays.asList(0.8, 0.7, 0.9)));
+        assertRanges(new double[]{0.5, 0.75, 1.0}, AutoScaleTask.computeNewRanges(0.5, 1.0, 2, Collections.singletonList(1.0)));
+        assertRanges(new double[]{0.5, 0.75, 1.0}, AutoScaleTask.computeNewRanges(0.5, 1.0, 2, Collections.singletonList(0.5)));
+    }
+
+    /**
+     * Simulates scaling up a stream whose routing keys are Zipf-distributed until no segment is over its target rate, and
+     * verifies that splitting segments at the load quantiles reported by the Segment Store takes fewer rounds of scaling
+     * and creates fewer segments than splitting them into equal halves.
+     */
+    @Test(timeout = 30000)
+    public void testSkewedKeysSimulation() {
+        final int keyCount = 200;
+        final double exponent = 0.9;
+        final double totalLoad = 8; // As a multiple of the target rate of a segment.
+        Random random = new Random(0);
+        double[] keyHashes = new double[keyCount];
+        double[] keyLoads = new double[keyCount];
+        double sum = 0;
+        for (int i = 0; i < keyCount; i++) {
+            keyHashes[i] = random.nextDouble();
+            keyLoads[i] = 1 / Math.pow(i + 1, exponent);
+            sum += keyLoads[i];
+        }
+        for (int i = 0; i < keyCount; i++) {
+            keyLoads[i] = keyLoads[i] / sum * totalLoad;
+        }
+
+        int[] equal = simulateScaling(keyHashes, keyLoads, false, new Random(1));
+        int[] balanced = simulateScaling(keyHashes, keyLoads, true, new Random(1));
+        System.out.println(String.format("Equal splits: %d rounds, %d segments. Load balanced splits: %d rounds, %d segments.",
+                equal[0], equal[1], balanced[0], balanced[1]));
+        assertTrue("Expected fewer rounds of scaling.", balanced[0] < equal[0]);
+        assertTrue("Expected no more segments.", balanced[1] <= equal[1]);
+    }
+
+    /**
+     * Splits every segment that is over its target rate (and has more than one key) in two, until no such segment is left.
+     *
+     * @return The number of rounds of scaling and the final number of segments.
+     */
+    private int[] simulateScaling(double[] keyHashes, double[] keyLoads, boolean useQuantiles, Random random) {
+        List<double[]> segments = Collections.singletonList(new double[]{0.0, 1.0});
+        int rounds = 0;
+        while (rounds < 100) {
+            List<double[]> newSegments = new ArrayList<>();
+            boolean scaled = false;
+            for (double[] segment : segments) {
+                List<Integer> keys = new ArrayList<>();
+                double load = 0;
+                for (int i = 0; i < keyHashes.length; i++) {
+                    if (keyHashes[i] >= segment[0] && keyHashes[i] < segment[1]) {
+                        keys.add(i);
+                        load += keyLoads[i];
+                    }
+                }
+                if (load <= 1.0 || keys.size() < 2) {
+                    newSegments.add(segment);
+                    continue;
+                }
+
+                scaled = true;
+                List<Double> quantiles = useQuantiles ? sampleLoadQuantiles(keys, keyHashes, keyLoads, random) : null;
+                for (Map.Entry<Double, Double> range : AutoScaleTask.computeNewRanges(segment[0], segment[1], 2, quantiles)) {
+                    newSegments.add(new double[]{range.getKey(), range.getValue()});
+                }
+            }
+            if (!scaled) {
+                break;
+            }
+            segments = newSegments;
+            rounds++;
+        }
+        return new int[]{rounds, segments.size()};
+    }
+
+    /**
+     * Builds the quantiles that the Segment Store would report by recording a sample of the events written to a segment.
+     */
+    private List<Double> sampleLoadQuantiles(List<Integer> keys, double[] keyHashes, double[] keyLoads, Random random) {
+        double[] cumulativeLoad = new double[keys.size()];
+        double load = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            load += keyLoads[keys.get(i)];
+            cumulativeLoad[i] = load;
+        }
+
+        KeyHashSketch sketch = new KeyHashSketch();
+        for (int i = 0; i < 20000; i++) {
+            int index = Arrays.binarySearch(cumulativeLoad, random.nextDouble() * load);
+            index = Math.min(index < 0 ? -index - 1 : index, keys.size() - 1);
+            sketch.add(keyHashes[keys.get(index)], 1);
+        }
+        List<Double> result = new ArrayList<>();
+        for (double q : sketch.getQuantiles(16)) {
+            result.add(q);
+        }
+        return result;
+    }
+
+    private void assertRanges(double[] expectedBounds, List<Map.Entry<Double, Double>> ranges) {
+        assertEquals(expectedBounds.length - 1, ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            assertEquals(expectedBounds[i], ranges.get(i).getKey(), DELTA);
+            assertEquals(expectedBounds[i + 1], ranges.get(i).getValue(), DELTA);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import io.pravega.client.stream.Stream;
 import io.pravega.client.stream.ReaderGroupConfig;
 import io.pravega.client.stream.impl.StreamCutImpl;
 import io.pravega.common.Exceptions;
+import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.tracing.RequestTracker;
 import io.pravega.controller.server.ControllerService;
@@ -68,6 +69,7 @@ import io.pravega.controller.stream.api.grpc.v1.Controller.ReaderGroupConfigurat
 import io.pravega.shared.NameUtils;
 import io.pravega.test.common.AssertExtensions;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -81,6 +83,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.Timeout;
@@ -560,6 +563,100 @@ public abstract class ControllerServiceImplTest {
         Assert.assertEquals(UpdateStreamStatus.Status.STREAM_NOT_FOUND, updateStreamStatus.getStatus());
     }
 
+    @Test
+    public void bulkStreamOperationsTests() {
+        final StreamConfiguration configuration = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(2)).build();
+        ResultObserver<CreateScopeStatus> result = new ResultObserver<>();
+        this.controllerService.createScope(ModelHelper.createScopeInfo(SCOPE1), result);
+        assertEquals(CreateScopeStatus.Status.SUCCESS, result.get().getStatus());
+
+        // Create streams, including one that was already created and one in a scope that does not exist.
+        ResultObserver<CreateStreamStatus> createStreamStatus = new ResultObserver<>();
+        this.controllerService.createStream(ModelHelper.decode(SCOPE1, STREAM1, configuration), createStreamStatus);
+        assertEquals(CreateStreamStatus.Status.SUCCESS, createStreamStatus.get().getStatus());
+
+        ResultObserver<Controller.CreateStreamsStatus> createStreamsStatus = new ResultObserver<>();
+        this.controllerService.createStreams(Controller.StreamConfigs.newBuilder()
+                .addConfigs(ModelHelper.decode(SCOPE1, STREAM1, configuration))
+                .addConfigs(ModelHelper.decode(SCOPE1, STREAM2, configuration))
+                .addConfigs(ModelHelper.decode(SCOPE1, STREAM3, configuration))
+                .addConfigs(ModelHelper.decode("unknownScope", STREAM1, configuration))
+                .build(), createStreamsStatus);
+        Controller.CreateStreamsStatus createResults = createStreamsStatus.get();
+        assertEquals(4, createResults.getResultsCount());
+        assertEquals(CreateStreamStatus.Status.STREAM_EXISTS, createResults.getResults(0).getStatus());
+        assertEquals(CreateStreamStatus.Status.SUCCESS, createResults.getResults(1).getStatus());
+        assertEquals(CreateStreamStatus.Status.SUCCESS, createResults.getResults(2).getStatus());
+        assertEquals(CreateStreamStatus.Status.SCOPE_NOT_FOUND, createResults.getResults(3).getStatus());
+
+        // Update streams, including one that does not exist.
+        final StreamConfiguration configuration2 = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(3)).build();
+        ResultObserver<Controller.UpdateStreamsStatus> updateStreamsStatus = new ResultObserver<>();
+        this.controllerService.updateStreams(Controller.StreamConfigs.newBuilder()
+                .addConfigs(ModelHelper.decode(SCOPE1, STREAM2, configuration2))
+                .addConfigs(ModelHelper.decode(SCOPE1, "unknownStream", configuration2))
+                .build(), updateStreamsStatus);
+        Controller.UpdateStreamsStatus updateResults = updateStreamsStatus.get();
+        assertEquals(2, updateResults.getResultsCount());
+        assertEquals(UpdateStreamStatus.Status.SUCCESS, updateResults.getResults(0).getStatus());
+        assertEquals(UpdateStreamStatus.Status.STREAM_NOT_FOUND, updateResults.getResults(1).getStatus());
+
+        // Delete streams: only sealed streams can be deleted.
+        ResultObserver<UpdateStreamStatus> sealStatus = new ResultObserver<>();
+        this.controllerService.sealStream(ModelHelper.createStreamInfo(SCOPE1, STREAM1), sealStatus);
+        assertEquals(UpdateStreamStatus.Status.SUCCESS, sealStatus.get().getStatus());
+
+        ResultObserver<Controller.DeleteStreamsStatus> deleteStreamsStatus = new ResultObserver<>();
+        this.controllerService.deleteStreams(Controller.StreamInfos.newBuilder()
+                .addStreams(ModelHelper.createStreamInfo(SCOPE1, STREAM1))
+                .addStreams(ModelHelper.createStreamInfo(SCOPE1, STREAM2))
+                .addStreams(ModelHelper.createStreamInfo(SCOPE1, "unknownStream"))
+                .build(), deleteStreamsStatus);
+        Controller.DeleteStreamsStatus deleteResults = deleteStreamsStatus.get();
+        assertEquals(3, deleteResults.getResultsCount());
+        assertEquals(DeleteStreamStatus.Status.SUCCESS, deleteResults.getResults(0).getStatus());
+        assertEquals(DeleteStreamStatus.Status.STREAM_NOT_SEALED, deleteResults.getResults(1).getStatus());
+        assertEquals(DeleteStreamStatus.Status.STREAM_NOT_FOUND, deleteResults.getResults(2).getStatus());
+    }
+
+    /**
+     * Creates the same number of streams with individual createStream calls and with a single createStreams call, and
+     * prints the elapsed time and throughput of each.
+     */
+    @Test
+    @Ignore("Benchmark")
+    public void benchmarkBulkCreateStreams() {
+        final int streamCount = 2000;
+        final StreamConfiguration configuration = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(1)).build();
+        ResultObserver<CreateScopeStatus> result = new ResultObserver<>();
+        this.controllerService.createScope(ModelHelper.createScopeInfo(SCOPE1), result);
+        assertEquals(CreateScopeStatus.Status.SUCCESS, result.get().getStatus());
+
+        Timer timer = new Timer();
+        List<ResultObserver<CreateStreamStatus>> individualResults = new ArrayList<>();
+        for (int i = 0; i < streamCount; i++) {
+            ResultObserver<CreateStreamStatus> createStreamStatus = new ResultObserver<>();
+            this.controllerService.createStream(ModelHelper.decode(SCOPE1, "individual" + i, configuration), createStreamStatus);
+            individualResults.add(createStreamStatus);
+        }
+        individualResults.forEach(r -> assertEquals(CreateStreamStatus.Status.SUCCESS, r.get().getStatus()));
+        long individualMillis = timer.getElapsedMillis();
+
+        timer = new Timer();
+        Controller.StreamConfigs.Builder configs = Controller.StreamConfigs.newBuilder();
+        for (int i = 0; i < streamCount; i++) {
+            configs.addConfigs(ModelHelper.decode(SCOPE1, "bulk" + i, configuration));
+        }
+        ResultObserver<Controller.CreateStreamsStatus> bulkResult = new ResultObserver<>();
+        this.controllerService.createStreams(configs.build(), bulkResult);
+        assertTrue(bulkResult.get().getResultsList().stream().allMatch(r -> r.getStatus() == CreateStreamStatus.Status.SUCCESS));
+        long bulkMillis = timer.getElapsedMillis();
+
+        System.out.println(String.format("Streams: %d, Individual: %dms (%.1f streams/s), Bulk: %dms (%.1f streams/s)",
+                streamCount, individualMillis, 1000.0 * streamCount / Math.max(1, individualMillis),
+                bulkMillis, 1000.0 * streamCount / Math.max(1, bulkMillis)));
+    }
+
     @Test
     public void deleteStreamTests() {
         CreateScopeStatus createScopeStatus;
@@ -1313,6 +1410,58 @@ public abstract class ControllerServiceImplTest {
         this.controllerService.removeWriter(writerShutdownRequest, shutdownResultObserver);
         assertEquals(shutdownResultObserver.get().getResult(), Controller.RemoveWriterResponse.Status.UNKNOWN_WRITER);
     }
+
+    @Test(timeout = 30000L)
+    public void testWriterMarksBatch() {
+        String stream1 = "batchMark1";
+        String stream2 = "batchMark2";
+        createScopeAndStream(SCOPE1, stream1, ScalingPolicy.fixed(1));
+        ResultObserver<CreateStreamStatus> createStreamObserver = new ResultObserver<>();
+        this.controllerService.createStream(ModelHelper.decode(SCOPE1, stream2,
+                StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(1)).build()), createStreamObserver);
+        assertEquals(CreateStreamStatus.Status.SUCCESS, createStreamObserver.get().getStatus());
+
+        // marks for two writers of two different streams.
+        Controller.TimestampsFromWriters request = Controller.TimestampsFromWriters.newBuilder()
+                .addMarks(createWriterMark("writer1", stream1, 10L, 10L))
+                .addMarks(createWriterMark("writer2", stream1, 20L, 20L))
+                .addMarks(createWriterMark("writer1", stream2, 30L, 30L))
+                .build();
+        ResultObserver<Controller.TimestampsResponse> resultObserver = new ResultObserver<>();
+        this.controllerService.noteTimestampsFromWriters(request, resultObserver);
+        Controller.TimestampsResponse response = resultObserver.get();
+        assertEquals(3, response.getResultsCount());
+        response.getResultsList().forEach(r -> assertEquals(Controller.TimestampResponse.Status.SUCCESS, r.getResult()));
+
+        // results are reported for each mark individually.
+        request = Controller.TimestampsFromWriters.newBuilder()
+                .addMarks(createWriterMark("writer1", stream1, 5L, 10L))
+                .addMarks(createWriterMark("writer2", stream1, 25L, 15L))
+                .addMarks(createWriterMark("writer1", stream2, 35L, 35L))
+                .build();
+        resultObserver = new ResultObserver<>();
+        this.controllerService.noteTimestampsFromWriters(request, resultObserver);
+        response = resultObserver.get();
+        assertEquals(Controller.TimestampResponse.Status.INVALID_TIME, response.getResults(0).getResult());
+        assertEquals(Controller.TimestampResponse.Status.INVALID_POSITION, response.getResults(1).getResult());
+        assertEquals(Controller.TimestampResponse.Status.SUCCESS, response.getResults(2).getResult());
+
+        // an empty batch is valid.
+        resultObserver = new ResultObserver<>();
+        this.controllerService.noteTimestampsFromWriters(Controller.TimestampsFromWriters.getDefaultInstance(), resultObserver);
+        assertEquals(0, resultObserver.get().getResultsCount());
+    }
+
+    private Controller.TimestampFromWriter createWriterMark(String writer, String stream, long timestamp, long offset) {
+        return Controller.TimestampFromWriter.newBuilder()
+                                             .setWriter(writer)
+                                             .setTimestamp(timestamp)
+                                             .setPosition(Controller.StreamCut.newBuilder()
+                                                                              .setStreamInfo(ModelHelper.createStreamInfo(SCOPE1, stream))
+                                                                              .putCut(0L, offset))
+                                             .build();
+    }
+
     @Test
     public  void testGetControllerToBucketMapping() throws Exception {
         BucketManager bucketManager = getBucketManager();
@@ -19,18 +19,24 @@ import io.pravega.client.tables.impl.TableSegmentEntry;
 import io.pravega.client.tables.impl.TableSegmentKey;
 import io.pravega.client.tables.impl.TableSegmentKeyVersion;
 import io.pravega.controller.server.SegmentHelper;
+import io.pravega.controller.server.WireCommandFailedException;
 import io.pravega.controller.server.security.auth.GrpcAuthHelper;
 import io.pravega.controller.store.stream.OperationContext;
+import io.pravega.shared.protocol.netty.WireCommandType;
+import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.ThreadPooledTestSuite;
 import org.junit.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -83,6 +89,72 @@ public class PravegaTablesScopeTest extends ThreadPooledTestSuite {
         assertEquals(2L, keySnapshot.get(0).getVersion().getSegmentVersion());
     }
 
+    @Test(timeout = 10000)
+    @SuppressWarnings("unchecked")
+    public void testAddStreamToScopeBatching() throws Exception {
+        GrpcAuthHelper authHelper = mock(GrpcAuthHelper.class);
+        when(authHelper.retrieveMasterToken()).thenReturn("");
+        SegmentHelper segmentHelper = mock(SegmentHelper.class);
+        PravegaTablesStoreHelper storeHelper = new PravegaTablesStoreHelper(segmentHelper, authHelper, executorService());
+        PravegaTablesScope tablesScope = spy(new PravegaTablesScope(scope, storeHelper));
+        doReturn(CompletableFuture.completedFuture(indexTable)).when(tablesScope).getStreamsInScopeTableName(context);
+
+        // Record the number of entries of each table update and let the test decide when it completes.
+        List<Integer> updateSizes = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<List<TableSegmentKeyVersion>>> responses = Collections.synchronizedList(new ArrayList<>());
+        when(segmentHelper.updateTableEntries(eq(indexTable), any(), anyString(), anyLong()))
+                .thenAnswer(invocation -> {
+                    updateSizes.add(((List<TableSegmentEntry>) invocation.getArguments()[1]).size());
+                    CompletableFuture<List<TableSegmentKeyVersion>> response = new CompletableFuture<>();
+                    responses.add(response);
+                    return response;
+                });
+
+        // The first stream is added immediately; streams added meanwhile wait for it and are then added together.
+        CompletableFuture<Void> first = tablesScope.addStreamToScope("s0", context);
+        AssertExtensions.assertEventuallyEquals(1, responses::size, 5000L);
+        List<CompletableFuture<Void>> others = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            others.add(tablesScope.addStreamToScope("s" + i, context));
+        }
+        responses.get(0).complete(versions(1));
+        first.join();
+        AssertExtensions.assertEventuallyEquals(2, responses::size, 5000L);
+        assertEquals(3, (int) updateSizes.get(1));
+        others.forEach(f -> assertFalse(f.isDone()));
+        responses.get(1).complete(versions(3));
+        others.forEach(CompletableFuture::join);
+
+        // If any of the streams of a batch is already in the scope, the streams are added individually.
+        CompletableFuture<Void> next = tablesScope.addStreamToScope("s4", context);
+        AssertExtensions.assertEventuallyEquals(3, responses::size, 5000L);
+        CompletableFuture<Void> existing = tablesScope.addStreamToScope("s0", context);
+        CompletableFuture<Void> added = tablesScope.addStreamToScope("s5", context);
+        responses.get(2).complete(versions(1));
+        next.join();
+        AssertExtensions.assertEventuallyEquals(4, responses::size, 5000L);
+        assertEquals(2, (int) updateSizes.get(3));
+        responses.get(3).completeExceptionally(new WireCommandFailedException(WireCommandType.UPDATE_TABLE_ENTRIES,
+                WireCommandFailedException.Reason.TableKeyBadVersion));
+        AssertExtensions.assertEventuallyEquals(6, responses::size, 5000L);
+        assertEquals(1, (int) updateSizes.get(4));
+        assertEquals(1, (int) updateSizes.get(5));
+        responses.get(4).completeExceptionally(new WireCommandFailedException(WireCommandType.UPDATE_TABLE_ENTRIES,
+                WireCommandFailedException.Reason.TableKeyBadVersion));
+        responses.get(5).complete(versions(1));
+        existing.join();
+        added.join();
+        verify(segmentHelper, times(6)).updateTableEntries(eq(indexTable), any(), anyString(), anyLong());
+    }
+
+    private List<TableSegmentKeyVersion> versions(int count) {
+        List<TableSegmentKeyVersion> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(TableSegmentKeyVersion.from(i));
+        }
+        return result;
+    }
+
     @Test
     public void testDeleteScopeRecursive() {
         GrpcAuthHelper authHelper = mock(GrpcAuthHelper.class);
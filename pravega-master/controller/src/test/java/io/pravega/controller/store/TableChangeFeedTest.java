@@ -0,0 +1,168 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.pravega.client.tables.impl.TableSegmentEntry;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.controller.server.TableEntriesDelta;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.Data;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the {@link TableChangeFeed} class.
+ */
+public class TableChangeFeedTest {
+    private static final String TABLE = "table";
+
+    /**
+     * Tests that reading the changes of a table invalidates the changed keys and revalidates the tagged values.
+     */
+    @Test(timeout = 10000)
+    public void testCatchUp() {
+        List<Invalidation> invalidations = new ArrayList<>();
+        List<CompletableFuture<TableEntriesDelta>> deltas = new ArrayList<>();
+        TableChangeFeed feed = new TableChangeFeed(t -> CompletableFuture.completedFuture(10L),
+                (t, position) -> deltas.remove(0),
+                (t, key, version) -> invalidations.add(new Invalidation(key, version)), Runnable::run);
+
+        // Tables that are not followed cannot be revalidated.
+        assertNull(feed.startLoad(TABLE));
+        feed.catchUp(TABLE, 0L).join();
+
+        feed.track(TABLE);
+        assertEquals(10L, feed.getPosition(TABLE));
+        TableChangeFeed.Tag tag = feed.completeLoad(feed.startLoad(TABLE));
+        assertNotNull(tag);
+        assertFalse(feed.isCurrent(tag, System.currentTimeMillis()));
+        assertFalse(feed.isCurrent(new Object(), 0L));
+
+        // One key updated, one removed, split across two reads.
+        deltas.add(CompletableFuture.completedFuture(new TableEntriesDelta(
+                Collections.singletonList(entry("a", 12L)), false, false, 15L)));
+        deltas.add(CompletableFuture.completedFuture(new TableEntriesDelta(
+                Collections.singletonList(entry("b", -1L)), false, true, 20L)));
+        long afterTime = System.currentTimeMillis() - 1;
+        feed.catchUp(TABLE, afterTime).join();
+        assertTrue(deltas.isEmpty());
+        assertEquals(20L, feed.getPosition(TABLE));
+        assertEquals(Arrays.asList(new Invalidation("a", new Version.LongVersion(12L)), new Invalidation("b", null)),
+                invalidations);
+        assertTrue(feed.isCurrent(tag, afterTime));
+
+        // Values whose load overlapped with reading changes cannot be revalidated.
+        TableChangeFeed.Tag loading = feed.startLoad(TABLE);
+        deltas.add(CompletableFuture.completedFuture(new TableEntriesDelta(
+                Collections.singletonList(entry("c", 21L)), false, true, 25L)));
+        feed.catchUp(TABLE, System.currentTimeMillis() - 1).join();
+        assertNull(feed.completeLoad(loading));
+        assertNotNull(feed.completeLoad(feed.startLoad(TABLE)));
+
+        // Compacted changes invalidate all the tags of the table.
+        deltas.add(CompletableFuture.completedFuture(new TableEntriesDelta(Collections.emptyList(), true, true, 30L)));
+        afterTime = System.currentTimeMillis() - 1;
+        feed.catchUp(TABLE, afterTime).join();
+        assertFalse(feed.isCurrent(tag, afterTime));
+        assertEquals(30L, feed.getPosition(TABLE));
+    }
+
+    /**
+     * Tests that concurrent requests to catch up are coalesced.
+     */
+    @Test(timeout = 10000)
+    public void testCoalescing() {
+        AtomicInteger reads = new AtomicInteger();
+        List<CompletableFuture<TableEntriesDelta>> deltas = new ArrayList<>();
+        TableChangeFeed feed = new TableChangeFeed(t -> CompletableFuture.completedFuture(0L),
+                (t, position) -> {
+                    reads.incrementAndGet();
+                    CompletableFuture<TableEntriesDelta> delta = new CompletableFuture<>();
+                    deltas.add(delta);
+                    return delta;
+                },
+                (t, key, version) -> { }, Runnable::run);
+        feed.track(TABLE);
+
+        long afterTime = System.currentTimeMillis() - 1;
+        CompletableFuture<Void> first = feed.catchUp(TABLE, afterTime);
+        assertSame(first, feed.catchUp(TABLE, afterTime));
+        assertEquals(1, reads.get());
+
+        // A request that may have started after the catch up in progress waits for it and then starts another one.
+        CompletableFuture<Void> later = feed.catchUp(TABLE, Long.MAX_VALUE);
+        deltas.get(0).complete(new TableEntriesDelta(Collections.emptyList(), false, true, 5L));
+        first.join();
+        assertEquals(2, reads.get());
+        assertFalse(later.isDone());
+        deltas.get(1).complete(new TableEntriesDelta(Collections.emptyList(), false, true, 5L));
+        later.join();
+    }
+
+    /**
+     * Tests that the feed stops following a table when its changes cannot be read.
+     */
+    @Test(timeout = 10000)
+    public void testFailures() {
+        AtomicInteger lengthCalls = new AtomicInteger();
+        Function<String, CompletableFuture<Long>> getLength = t -> {
+            if (lengthCalls.incrementAndGet() == 1) {
+                throw new IllegalStateException("intentional");
+            }
+            return CompletableFuture.completedFuture(0L);
+        };
+        TableChangeFeed feed = new TableChangeFeed(getLength,
+                (t, position) -> Futures.failedFuture(new IllegalStateException("intentional")),
+                (t, key, version) -> { }, Runnable::run);
+
+        feed.track(TABLE);
+        assertEquals(-1L, feed.getPosition(TABLE));
+        assertNull(feed.startLoad(TABLE));
+
+        feed.track(TABLE);
+        TableChangeFeed.Tag tag = feed.completeLoad(feed.startLoad(TABLE));
+        assertNotNull(tag);
+        assertFalse(Futures.await(feed.catchUp(TABLE, 0L)));
+        assertFalse(feed.isCurrent(tag, Long.MIN_VALUE));
+        assertNull(feed.startLoad(TABLE));
+    }
+
+    private static TableSegmentEntry entry(String key, long version) {
+        ByteBuf keyData = Unpooled.wrappedBuffer(key.getBytes(StandardCharsets.UTF_8));
+        return TableSegmentEntry.versioned(keyData, Unpooled.EMPTY_BUFFER, version);
+    }
+
+    @Data
+    private static class Invalidation {
+        private final String key;
+        private final Version version;
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.controller.store.stream;
+
+import com.google.common.collect.ImmutableList;
+import io.pravega.common.Timer;
+import io.pravega.controller.store.stream.records.HistoryTimeSeries;
+import io.pravega.controller.store.stream.records.HistoryTimeSeriesRecord;
+import io.pravega.controller.store.stream.records.StreamSegmentRecord;
+import io.pravega.test.common.AssertExtensions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import static io.pravega.shared.NameUtils.computeSegmentId;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit tests for the {@link EpochIndex} class.
+ */
+public class EpochIndexTest {
+
+    /**
+     * Tests looking up epochs by time and sealed epochs of segments, including segments sealed by duplicate epochs and by
+     * records that are not indexed.
+     */
+    @Test
+    public void testLookups() {
+        // epoch 0: segments 0 and 1. epoch 1: 0 -> 2. epoch 2: 1 -> 3.
+        HistoryTimeSeries chunk0 = chunk(
+                record(0, 0, ImmutableList.of(), ImmutableList.of(segment(0, 0, 0.0, 0.5), segment(1, 0, 0.5, 1.0)), 10L),
+                record(1, 1, ImmutableList.of(segment(0, 0, 0.0, 0.5)), ImmutableList.of(segment(2, 1, 0.0, 0.5)), 20L),
+                record(2, 2, ImmutableList.of(segment(1, 0, 0.5, 1.0)), ImmutableList.of(segment(3, 2, 0.5, 1.0)), 30L));
+        // epochs 3 and 4: rolling transaction duplicates epochs 1 and 2. epoch 5: 3.4 -> 5.5
+        HistoryTimeSeries chunk1 = chunk(
+                record(3, 1, ImmutableList.of(), ImmutableList.of(), 40L),
+                record(4, 2, ImmutableList.of(), ImmutableList.of(), 41L),
+                record(5, 5, ImmutableList.of(segment(3, 4, 0.5, 1.0)), ImmutableList.of(segment(5, 5, 0.5, 1.0)), 50L));
+        // epoch 6 (not indexed): 2.4 -> 6.6
+        HistoryTimeSeriesRecord tail = record(6, 6, ImmutableList.of(segment(2, 4, 0.0, 0.5)),
+                ImmutableList.of(segment(6, 6, 0.0, 0.5)), 60L);
+
+        assertEquals(0, EpochIndex.EMPTY.getEpochCount());
+        assertEquals(-1, EpochIndex.EMPTY.findEpochAtTime(100L));
+        assertSame(EpochIndex.EMPTY, EpochIndex.EMPTY.append(Collections.emptyList()));
+
+        EpochIndex index = EpochIndex.EMPTY.append(Collections.singletonList(chunk0));
+        assertEquals(1, index.getChunkCount());
+        assertEquals(3, index.getEpochCount());
+        assertEquals(0, index.findEpochAtTime(5L));
+        assertEquals(0, index.findEpochAtTime(10L));
+        assertEquals(1, index.findEpochAtTime(25L));
+        assertEquals(-1, index.findEpochAtTime(30L));
+        assertEquals(-1, index.getSealedEpoch(computeSegmentId(3, 2)));
+
+        index = index.append(Collections.singletonList(chunk1));
+        assertEquals(2, index.getChunkCount());
+        assertEquals(6, index.getEpochCount());
+        assertEquals(2, index.findEpochAtTime(30L));
+        assertEquals(2, index.findEpochAtTime(35L));
+        assertEquals(3, index.findEpochAtTime(40L));
+        assertEquals(4, index.findEpochAtTime(45L));
+        assertEquals(-1, index.findEpochAtTime(50L));
+
+        // sealed by scale.
+        assertEquals(1, index.getSealedEpoch(computeSegmentId(0, 0)));
+        assertEquals(2, index.getSealedEpoch(computeSegmentId(1, 0)));
+        assertEquals(5, index.getSealedEpoch(computeSegmentId(3, 4)));
+        // sealed by the duplicate epochs.
+        assertEquals(3, index.getSealedEpoch(computeSegmentId(2, 1)));
+        assertEquals(3, index.getSealedEpoch(computeSegmentId(3, 2)));
+        assertEquals(4, index.getSealedEpoch(computeSegmentId(1, 3)));
+        // not sealed in indexed epochs.
+        assertEquals(-1, index.getSealedEpoch(computeSegmentId(5, 5)));
+        assertEquals(-1, index.getSealedEpoch(computeSegmentId(2, 4)));
+        assertEquals(6, index.getSealedEpoch(computeSegmentId(2, 4), Collections.singletonList(tail)));
+        assertEquals(-1, index.getSealedEpoch(computeSegmentId(5, 5), Collections.singletonList(tail)));
+        assertEquals(1, index.getSealedEpoch(computeSegmentId(0, 0), Collections.singletonList(tail)));
+
+        // chunks must be appended in order.
+        AssertExtensions.assertThrows("Expected out of order chunk to be rejected.",
+                () -> EpochIndex.EMPTY.append(Collections.singletonList(chunk1)),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Builds an index over a stream with 100k epochs and prints how long the index takes to build and to look up.
+     */
+    @Test
+    @Ignore("Benchmark")
+    public void benchmarkLookups() {
+        final int epochCount = 100_000;
+        final int lookupCount = 1_000_000;
+        final int chunkSize = HistoryTimeSeries.HISTORY_CHUNK_SIZE;
+
+        // each epoch seals one of two segments and creates its replacement.
+        List<HistoryTimeSeries> chunks = new ArrayList<>();
+        List<HistoryTimeSeriesRecord> records = new ArrayList<>();
+        StreamSegmentRecord[] active = {segment(0, 0, 0.0, 0.5), segment(1, 0, 0.5, 1.0)};
+        records.add(record(0, 0, ImmutableList.of(), ImmutableList.copyOf(active), 0L));
+        for (int epoch = 1; epoch < epochCount; epoch++) {
+            if (records.size() == chunkSize) {
+                chunks.add(new HistoryTimeSeries(ImmutableList.copyOf(records)));
+                records.clear();
+            }
+            int i = epoch % 2;
+            StreamSegmentRecord created = segment(epoch + 1, epoch, active[i].getKeyStart(), active[i].getKeyEnd());
+            records.add(record(epoch, epoch, ImmutableList.of(active[i]), ImmutableList.of(created), epoch * 10L));
+            active[i] = created;
+        }
+        chunks.add(new HistoryTimeSeries(ImmutableList.copyOf(records)));
+
+        Timer timer = new Timer();
+        EpochIndex index = EpochIndex.EMPTY;
+        for (HistoryTimeSeries chunk : chunks) {
+            index = index.append(Collections.singletonList(chunk));
+        }
+        long buildMillis = timer.getElapsedMillis();
+        assertEquals(epochCount, index.getEpochCount());
+
+        Random random = new Random(0);
+        timer = new Timer();
+        long checksum = 0;
+        for (int i = 0; i < lookupCount; i++) {
+            int epoch = random.nextInt(epochCount - 1);
+            checksum += index.findEpochAtTime(epoch * 10L + 5);
+            checksum += index.getSealedEpoch(computeSegmentId(epoch + 1, epoch));
+        }
+        long lookupNanos = timer.getElapsedNanos();
+
+        System.out.println(String.format("Epochs: %d, Chunks: %d, Build: %dms, Lookups: %d, Average lookup: %dns (checksum %d)",
+                epochCount, chunks.size(), buildMillis, lookupCount * 2, lookupNanos / (lookupCount * 2), checksum));
+    }
+
+    private static HistoryTimeSeries chunk(HistoryTimeSeriesRecord... records) {
+        return new HistoryTimeSeries(ImmutableList.copyOf(records));
+    }
+
+    private static HistoryTimeSeriesRecord record(int epoch, int referenceEpoch, ImmutableList<StreamSegmentRecord> sealed,
+                                                  ImmutableList<StreamSegmentRecord> created, long time) {
+        return new HistoryTimeSeriesRecord(epoch, referenceEpoch, sealed, created, time);
+    }
+
+    private static StreamSegmentRecord segment(int segmentNumber, int creationEpoch, double keyStart, double keyEnd) {
+        return StreamSegmentRecord.builder().segmentNumber(segmentNumber).creationEpoch(creationEpoch)
+                                  .creationTime(0L).keyStart(keyStart).keyEnd(keyEnd).build();
+    }
+}
@@ -70,6 +70,12 @@ public class HostStoreTest {
         hostStore = HostStoreFactory.createStore(hostMonitorConfig, StoreClientFactory.createInMemoryStoreClient());
 
         validateStore(hostStore);
+
+        // Version changes with every update.
+        long version = hostStore.getVersionedHostContainersMap().getVersion();
+        hostStore.updateHostContainersMap(hostStore.getHostContainersMap());
+        Assert.assertNotEquals(version, hostStore.getVersionedHostContainersMap().getVersion());
+        Assert.assertEquals(hostStore.getHostContainersMap(), hostStore.getVersionedHostContainersMap().getHostContainerMap());
     }
 
     @Test(timeout = 10000L)
@@ -119,6 +125,9 @@ public class HostStoreTest {
 
         Map<Host, Set<Integer>> map = hostStore2.getHostContainersMap();
         assertEquals(hostContainerMap, map);
+
+        // Version is the same across instances.
+        assertEquals(hostStore.getVersionedHostContainersMap(), hostStore2.getVersionedHostContainersMap());
     }
 
     private void validateStore(HostControllerStore hostStore) {
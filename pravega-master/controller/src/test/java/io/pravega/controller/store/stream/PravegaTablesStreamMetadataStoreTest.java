@@ -647,6 +647,38 @@ public class PravegaTablesStreamMetadataStoreTest extends StreamMetadataStoreTes
         scope.deleteScopeRecursive(context).join();
     }
 
+    @Test
+    public void testEpochIndexSharedAcrossOperations() {
+        PravegaTablesStreamMetadataStore store = (PravegaTablesStreamMetadataStore) this.store;
+        store.setHistoryChunkSize(2);
+        String scope = "testEpochIndexScope";
+        String stream = "testEpochIndexStream";
+        StreamConfiguration configuration = StreamConfiguration.builder().scalingPolicy(ScalingPolicy.fixed(1)).build();
+        List<Map.Entry<Double, Double>> newRanges = Collections.singletonList(new SimpleEntry<>(0.0, 1.0));
+
+        store.createScope(scope, null, executor).join();
+        store.createStream(scope, stream, configuration, System.currentTimeMillis(), null, executor).join();
+        store.setState(scope, stream, State.ACTIVE, null, executor).join();
+        for (int i = 0; i < 3; i++) {
+            List<ScaleMetadata> scaleIncidents = store.getScaleMetadata(scope, stream, 0, Long.MAX_VALUE, null, executor).join();
+            scale(scope, stream, scaleIncidents.get(scaleIncidents.size() - 1).getSegments(), newRanges);
+        }
+
+        // Epochs 0 to 3 fill two history chunks. The index built by one operation is used by the stream objects of the
+        // following ones.
+        assertEquals(4, store.getScaleMetadata(scope, stream, 0, Long.MAX_VALUE, null, executor).join().size());
+        OperationContext context = store.createStreamContext(scope, stream, 0L);
+        assertEquals(2, store.newStream(scope, stream).getCachedEpochIndex(context).join().getChunkCount());
+
+        // A stream that is created again with the same name does not see the index of the deleted one.
+        store.deleteStream(scope, stream, null, executor).join();
+        store.createStream(scope, stream, configuration, System.currentTimeMillis(), null, executor).join();
+        store.setState(scope, stream, State.ACTIVE, null, executor).join();
+        context = store.createStreamContext(scope, stream, 0L);
+        assertEquals(0, store.newStream(scope, stream).getCachedEpochIndex(context).join().getChunkCount());
+        assertEquals(1, store.getScaleMetadata(scope, stream, 0, Long.MAX_VALUE, null, executor).join().size());
+    }
+
     private Set<Integer> getAllBatches(PravegaTablesStreamMetadataStore testStore) {
         Set<Integer> batches = new ConcurrentSkipListSet<>();
         testStore.getStoreHelper().getAllKeys(COMPLETED_TRANSACTIONS_BATCHES_TABLE, 0L)
@@ -118,6 +118,7 @@ public class IntermittentCnxnFailureTest {
         connectionPool = new ConnectionPoolImpl(ClientConfig.builder().build(), new SocketConnectionFactoryImpl(ClientConfig.builder().build()));
 
         segmentHelperMock = spy(new SegmentHelper(connectionPool, hostStore, executor));
+        segmentHelperMock.setBatchOperationsEnabled(false);
 
         doReturn(Controller.NodeUri.newBuilder().setEndpoint("localhost").setPort(Config.SERVICE_PORT).build()).when(segmentHelperMock).getSegmentUri(
                 anyString(), anyString(), anyInt());
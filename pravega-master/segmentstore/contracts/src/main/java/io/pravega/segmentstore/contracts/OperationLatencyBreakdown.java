@@ -0,0 +1,74 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.contracts;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Breakdown of the time an operation spent in each stage of a Segment Container's write pipeline, from the time it was
+ * queued up for processing until its effects were applied to the in-memory state. All durations are in nanoseconds.
+ */
+@Builder
+@Data
+public class OperationLatencyBreakdown {
+    /**
+     * Type of the operation.
+     */
+    @NonNull
+    private final String operationType;
+
+    /**
+     * Sequence number of the operation.
+     */
+    private final long sequenceNumber;
+
+    /**
+     * Id of the Segment the operation applies to, or -1 if it does not apply to a Segment.
+     */
+    private final long segmentId;
+
+    /**
+     * Time from when the operation was queued up until its effects were applied to the in-memory state.
+     */
+    private final long totalNanos;
+
+    /**
+     * Time spent waiting in the operation queue, excluding {@link #getThrottleNanos()}.
+     */
+    private final long queueNanos;
+
+    /**
+     * Time spent waiting in the operation queue while processing was delayed by throttling.
+     */
+    private final long throttleNanos;
+
+    /**
+     * Time from when the operation was picked up from the queue until the Data Frame containing it was sealed.
+     */
+    private final long batchingNanos;
+
+    /**
+     * Time from when the Data Frame containing the operation was sealed until it was durably written.
+     */
+    private final long durableWriteNanos;
+
+    /**
+     * Time from when the operation was durably written until its effects were applied to the in-memory state.
+     */
+    private final long memoryCommitNanos;
+}
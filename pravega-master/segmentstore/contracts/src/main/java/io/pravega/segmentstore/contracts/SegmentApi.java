@@ -206,6 +206,30 @@ public interface SegmentApi {
     CompletableFuture<MergeStreamSegmentResult> mergeStreamSegment(String targetSegmentName, String sourceSegmentName,
                                                                    AttributeUpdateCollection attributeUpdates, Duration timeout);
 
+    /**
+     * Merges multiple StreamSegments into the same target StreamSegment, in the given order. Any source StreamSegments
+     * that are not already sealed will be sealed.
+     *
+     * All merges are submitted for processing together, so they are applied in the order of the given source
+     * StreamSegments. Source StreamSegments that no longer exist or were already merged into the target (for example by
+     * a previous attempt) are skipped; their result will have a {@link MergeStreamSegmentResult#getMergedDataLength()}
+     * of 0 and no attributes.
+     *
+     * @param targetSegmentName  The name of the StreamSegment to merge into.
+     * @param sourceSegmentNames The names of the StreamSegments to merge, in the order in which they should be merged.
+     * @param attributeUpdates   A List of Collections of Attribute-Values to set on the target StreamSegment with each
+     *                           merge. If not null, it must have the same size as sourceSegmentNames; any of its elements
+     *                           may be null. See Notes about AttributeUpdates in the interface Javadoc.
+     * @param timeout            Timeout for the operation.
+     * @return A CompletableFuture that, when completed normally, will contain a List of MergeStreamSegmentResult instances,
+     * one for each source StreamSegment (in the same order). If the operation failed, the future will be failed with the
+     * causing exception.
+     * @throws IllegalArgumentException If any of the arguments are invalid.
+     */
+    CompletableFuture<List<MergeStreamSegmentResult>> mergeStreamSegments(String targetSegmentName, List<String> sourceSegmentNames,
+                                                                          List<AttributeUpdateCollection> attributeUpdates,
+                                                                          Duration timeout);
+
     /**
      * Seals a StreamSegment for modifications.
      *
@@ -16,6 +16,7 @@
 package io.pravega.segmentstore.contracts;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -33,4 +34,15 @@ public interface StreamSegmentStore extends SegmentApi {
      * If the operation fails, it will be completed with the appropriate exception.
      */
     CompletableFuture<Void> flushToStorage(int containerId, Duration timeout);
+
+    /**
+     * Gets the slowest operations processed by a particular SegmentContainer that have been sampled for latency tracing,
+     * along with the time they spent in each processing stage.
+     *
+     * @param containerId The Id of the container to get the operations for.
+     * @param timeout     Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain a List of {@link OperationLatencyBreakdown}s, slowest
+     * first. If the operation fails, it will be completed with the appropriate exception.
+     */
+    CompletableFuture<List<OperationLatencyBreakdown>> getSlowestOperations(int containerId, Duration timeout);
 }
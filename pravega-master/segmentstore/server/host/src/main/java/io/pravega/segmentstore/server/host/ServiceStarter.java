@@ -30,6 +30,7 @@ import io.pravega.segmentstore.server.host.delegationtoken.TokenVerifierImpl;
 import io.pravega.segmentstore.server.host.handler.AdminConnectionListener;
 import io.pravega.segmentstore.server.host.handler.IndexAppendProcessor;
 import io.pravega.segmentstore.server.host.handler.PravegaConnectionListener;
+import io.pravega.segmentstore.server.host.handler.TenantRateLimiter;
 import io.pravega.segmentstore.server.host.health.ZKHealthContributor;
 import io.pravega.shared.health.bindings.resources.HealthImpl;
 import io.pravega.segmentstore.server.host.stat.AutoScaleMonitor;
@@ -141,7 +142,7 @@ public final class ServiceStarter {
         TableStore tableStoreService = this.serviceBuilder.createTableStoreService();
 
         log.info("Creating Segment Stats recorder ...");
-        autoScaleMonitor = new AutoScaleMonitor(service, builderConfig.getConfig(AutoScalerConfig::builder));
+        autoScaleMonitor = new AutoScaleMonitor(service, builderConfig.getConfig(AutoScalerConfig::builder), metricsConfig);
 
         AutoScalerConfig autoScalerConfig = builderConfig.getConfig(AutoScalerConfig::builder);
         TokenVerifierImpl tokenVerifier = null;
@@ -154,13 +155,17 @@ public final class ServiceStarter {
         log.info(autoScalerConfig.toString());
         this.indexAppendProcessor = new IndexAppendProcessor(serviceBuilder.getLowPriorityExecutor(), service);
 
+        TenantRateLimiter tenantRateLimiter = this.serviceConfig.getTenantAppendRateMaxBytes() > 0
+                ? new TenantRateLimiter(this.serviceConfig.getTenantAppendRateMaxBytes())
+                : null;
         this.listener = new PravegaConnectionListener(this.serviceConfig.isEnableTls(), this.serviceConfig.isEnableTlsReload(),
                                                       this.serviceConfig.getListeningIPAddress(),
                                                       this.serviceConfig.getListeningPort(), service, tableStoreService,
                                                       autoScaleMonitor.getStatsRecorder(), autoScaleMonitor.getTableSegmentStatsRecorder(),
                                                       tokenVerifier, this.serviceConfig.getCertFile(), this.serviceConfig.getKeyFile(),
                                                       this.serviceConfig.isReplyWithStackTraceOnError(), serviceBuilder.getLowPriorityExecutor(),
-                                                      this.serviceConfig.getTlsProtocolVersion(), healthServiceManager, indexAppendProcessor);
+                                                      this.serviceConfig.getTlsProtocolVersion(), healthServiceManager, indexAppendProcessor,
+                                                      tenantRateLimiter);
 
         this.listener.startListening();
         log.info("PravegaConnectionListener started successfully.");
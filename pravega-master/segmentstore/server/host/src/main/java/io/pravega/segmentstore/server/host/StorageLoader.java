@@ -20,13 +20,18 @@ import io.pravega.segmentstore.storage.SimpleStorageFactory;
 import io.pravega.segmentstore.storage.StorageFactory;
 import io.pravega.segmentstore.storage.StorageFactoryCreator;
 import io.pravega.segmentstore.storage.StorageLayoutType;
+import io.pravega.segmentstore.storage.chunklayer.TieredChunkStorageConfig;
+import io.pravega.segmentstore.storage.chunklayer.TieredStorageFactory;
 import io.pravega.segmentstore.storage.mocks.SlowStorageFactory;
 import io.pravega.segmentstore.storage.noop.ConditionalNoOpStorageFactory;
 import io.pravega.segmentstore.storage.noop.NoOpStorageFactory;
 import io.pravega.segmentstore.storage.noop.StorageExtraConfig;
+import io.pravega.storage.filesystem.FileSystemChunkStorage;
+import io.pravega.storage.filesystem.FileSystemStorageConfig;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+import java.nio.file.Paths;
 import java.util.ServiceLoader;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -36,6 +41,8 @@ import java.util.concurrent.ScheduledExecutorService;
  * The custom storage implementation is required to implement {@link StorageFactoryCreator} interface.
  *
  * If storageextra.storageNoOpMode is set to true, then instance of NoOpStorageFactory is returned which wraps the storage implementation factory.
+ * If storage.tiering.enable is set to true, then instance of TieredStorageFactory is returned which uses the storage implementation
+ * factory as cold tier and a file system under storage.tiering.hot.root as hot tier.
  */
 @Slf4j
 public class StorageLoader {
@@ -45,6 +52,7 @@ public class StorageLoader {
                                ScheduledExecutorService executor) {
         ServiceLoader<StorageFactoryCreator> loader = ServiceLoader.load(StorageFactoryCreator.class);
         StorageExtraConfig storageExtraConfig = setup.getConfig(StorageExtraConfig::builder);
+        TieredChunkStorageConfig tieredConfig = setup.getConfig(TieredChunkStorageConfig::builder);
         for (StorageFactoryCreator factoryCreator : loader) {
             val factories = factoryCreator.getStorageFactories();
             for (val factoryInfo : factories) {
@@ -67,10 +75,23 @@ public class StorageLoader {
                         log.warn("{} IS IN SLOW MODE: PERF DEGRADATION EXPECTED! MAKE SURE IT IS BY FULL INTENTION FOR TESTING PURPOSE!", storageImplementation);
                         return new SlowStorageFactory(executor, factory, storageExtraConfig);
                     }
+                    if (tieredConfig.isEnabled() && factory instanceof SimpleStorageFactory) {
+                        log.info("{} is used as cold tier. Hot tier root is {}.", storageImplementation, tieredConfig.getHotTierRoot());
+                        return new TieredStorageFactory(executor, (SimpleStorageFactory) factory,
+                                containerId -> createHotTier(tieredConfig, containerId, executor),
+                                tieredConfig);
+                    }
                     return factory;
                 }
             }
         }
         return null;
     }
+
+    private static FileSystemChunkStorage createHotTier(TieredChunkStorageConfig tieredConfig, int containerId, ScheduledExecutorService executor) {
+        FileSystemStorageConfig hotTierConfig = FileSystemStorageConfig.builder()
+                .with(FileSystemStorageConfig.ROOT, Paths.get(tieredConfig.getHotTierRoot(), "container_" + containerId).toString())
+                .build();
+        return new FileSystemChunkStorage(hotTierConfig, executor);
+    }
 }
@@ -17,6 +17,7 @@ package io.pravega.segmentstore.server.host.handler;
 
 import io.pravega.common.LoggerHelpers;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.StreamSegmentStore;
 import io.pravega.segmentstore.contracts.tables.TableStore;
 import io.pravega.segmentstore.server.host.delegationtoken.DelegationTokenVerifier;
@@ -150,6 +151,28 @@ public class AdminRequestProcessorImpl extends PravegaRequestProcessor implement
                 .exceptionally(ex -> handleException(listStorageChunks.getRequestId(), segment, operation, ex));
     }
 
+    @Override
+    public void getSlowestOperations(WireCommands.GetSlowestOperations getSlowestOperations) {
+        final String operation = "getSlowestOperations";
+        final int containerId = getSlowestOperations.getContainerId();
+
+        if (!verifyToken("", getSlowestOperations.getRequestId(), getSlowestOperations.getDelegationToken(), operation)) {
+            return;
+        }
+
+        long trace = LoggerHelpers.traceEnter(log, operation, getSlowestOperations);
+        getSegmentStore().getSlowestOperations(containerId, TIMEOUT)
+                .thenAccept(operations -> {
+                    LoggerHelpers.traceLeave(log, operation, trace);
+                    List<WireCommands.OperationLatencyInfo> result = new ArrayList<>(operations.size());
+                    for (OperationLatencyBreakdown o : operations) {
+                        result.add(convertToOperationLatencyInfo(o));
+                    }
+                    getConnection().send(new WireCommands.SlowestOperationsListed(getSlowestOperations.getRequestId(), result));
+                })
+                .exceptionally(ex -> handleException(getSlowestOperations.getRequestId(), null, operation, ex));
+    }
+
     //endregion
 
     private WireCommands.ChunkInfo convertToChunkInfo(ExtendedChunkInfo extendedChunkInfo) {
@@ -157,4 +180,10 @@ public class AdminRequestProcessorImpl extends PravegaRequestProcessor implement
                 extendedChunkInfo.getLengthInStorage(), extendedChunkInfo.getStartOffset(),
                 extendedChunkInfo.getChunkName(), extendedChunkInfo.isExistsInStorage());
     }
+
+    private WireCommands.OperationLatencyInfo convertToOperationLatencyInfo(OperationLatencyBreakdown latency) {
+        return new WireCommands.OperationLatencyInfo(latency.getOperationType(), latency.getSequenceNumber(),
+                latency.getSegmentId(), latency.getTotalNanos(), latency.getQueueNanos(), latency.getThrottleNanos(),
+                latency.getBatchingNanos(), latency.getDurableWriteNanos(), latency.getMemoryCommitNanos());
+    }
 }
@@ -64,6 +64,7 @@ import io.pravega.shared.protocol.netty.WireCommands.SegmentIsSealed;
 import io.pravega.shared.protocol.netty.WireCommands.SetupAppend;
 import io.pravega.shared.protocol.netty.WireCommands.WrongHost;
 import io.pravega.shared.security.token.JsonWebToken;
+import io.pravega.shared.segment.KeyHashSketch;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
@@ -113,6 +114,7 @@ public class AppendProcessor extends DelegatingRequestProcessor implements AutoC
     private final ScheduledExecutorService tokenExpiryHandlerExecutor;
     private final Collection<String> transientSegmentNames;
     private final IndexAppendProcessor indexAppendProcessor;
+    private final TenantRateLimiter tenantRateLimiter;
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
     //endregion
@@ -122,7 +124,8 @@ public class AppendProcessor extends DelegatingRequestProcessor implements AutoC
     @Builder
     AppendProcessor(@NonNull StreamSegmentStore store, @NonNull TrackedConnection connection, @NonNull RequestProcessor nextRequestProcessor,
                     @NonNull SegmentStatsRecorder statsRecorder, DelegationTokenVerifier tokenVerifier,
-                    boolean replyWithStackTraceOnError, ScheduledExecutorService tokenExpiryHandlerExecutor, IndexAppendProcessor indexAppendProcessor) {
+                    boolean replyWithStackTraceOnError, ScheduledExecutorService tokenExpiryHandlerExecutor, IndexAppendProcessor indexAppendProcessor,
+                    TenantRateLimiter tenantRateLimiter) {
         this.store = store;
         this.connection = connection;
         this.nextRequestProcessor = nextRequestProcessor;
@@ -132,6 +135,7 @@ public class AppendProcessor extends DelegatingRequestProcessor implements AutoC
         this.tokenExpiryHandlerExecutor = tokenExpiryHandlerExecutor;
         this.transientSegmentNames = Collections.synchronizedSet(new HashSet<>());
         this.indexAppendProcessor = indexAppendProcessor;
+        this.tenantRateLimiter = tenantRateLimiter;
     }
 
     /**
@@ -169,6 +173,32 @@ public class AppendProcessor extends DelegatingRequestProcessor implements AutoC
         connection.send(keepAlive);
     }
 
+    /**
+     * Records the routing key hashes reported by a writer, so that the segment can be split where its load is balanced
+     * when it is scaled up. Reports from writers that have not set up appends on this connection are ignored.
+     */
+    @Override
+    public void keyHashDistribution(WireCommands.KeyHashDistribution keyHashDistribution) {
+        String segment = keyHashDistribution.getSegment();
+        if (!isSetupAppendCompleted(segment, keyHashDistribution.getWriterId())) {
+            log.debug(keyHashDistribution.getRequestId(), "Ignoring key hashes for segment {} from writer {} without appends set up.",
+                    segment, keyHashDistribution.getWriterId());
+            return;
+        }
+
+        double[] keyHashes = keyHashDistribution.getKeyHashes();
+        long[] eventCounts = keyHashDistribution.getEventCounts();
+        KeyHashSketch sketch = new KeyHashSketch();
+        for (int i = 0; i < Math.min(keyHashes.length, eventCounts.length); i++) {
+            if (keyHashes[i] >= 0.0 && keyHashes[i] <= 1.0) {
+                sketch.add(keyHashes[i], eventCounts[i]);
+            }
+        }
+        if (!sketch.isEmpty()) {
+            this.statsRecorder.recordKeyHashes(segment, sketch);
+        }
+    }
+
     /**
      * Setup an append so that subsequent append calls can occur.
      * This requires validating that the segment exists.
@@ -307,6 +337,7 @@ public class AppendProcessor extends DelegatingRequestProcessor implements AutoC
         long previousEventNumber = state.beginAppend(append.getEventNumber());
         int appendLength = append.getData().readableBytes();
         this.connection.adjustOutstandingBytes(appendLength);
+        throttleTenantIfNeeded(append.getSegment(), appendLength);
         Timer timer = new Timer();
         storeAppend(append, previousEventNumber)
                 .whenComplete((newLength, ex) -> {
@@ -319,6 +350,20 @@ public class AppendProcessor extends DelegatingRequestProcessor implements AutoC
                 });
     }
 
+    /**
+     * Pauses reading from this connection if the tenant (Scope) owning the given Segment exceeded its append rate limit.
+     */
+    private void throttleTenantIfNeeded(String segmentName, int appendLength) {
+        if (this.tenantRateLimiter == null || this.tokenExpiryHandlerExecutor == null) {
+            return;
+        }
+
+        long delayMillis = this.tenantRateLimiter.acquire(segmentName, appendLength);
+        if (delayMillis > 0) {
+            this.connection.throttle(delayMillis, this.tokenExpiryHandlerExecutor);
+        }
+    }
+
     @Override
     public void createTransientSegment(CreateTransientSegment createTransientSegment) {
         String operation = "createTransientSegment";
@@ -19,6 +19,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.netty.channel.ChannelHandler;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.pravega.segmentstore.contracts.StreamSegmentStore;
 import io.pravega.segmentstore.contracts.tables.TableStore;
 import io.pravega.segmentstore.server.host.delegationtoken.DelegationTokenVerifier;
@@ -48,6 +49,12 @@ import static io.pravega.shared.protocol.netty.WireCommands.MAX_WIRECOMMAND_SIZE
 @Slf4j
 public final class PravegaConnectionListener extends AbstractConnectionListener {
     //region Members
+    /**
+     * The maximum number of flushes that may be consolidated into a single one, which bounds how long a reply may be
+     * held back while the connection is busy.
+     */
+    @VisibleForTesting
+    static final int MAX_CONSOLIDATED_FLUSHES = 256;
     private final StreamSegmentStore store;
     private final TableStore tableStore;
     private final SegmentStatsRecorder statsRecorder;
@@ -58,6 +65,7 @@ public final class PravegaConnectionListener extends AbstractConnectionListener
 
     private final boolean replyWithStackTraceOnError;
     private final IndexAppendProcessor indexAppendProcessor;
+    private final TenantRateLimiter tenantRateLimiter;
 
     //endregion
 
@@ -125,6 +133,38 @@ public final class PravegaConnectionListener extends AbstractConnectionListener
                                      DelegationTokenVerifier tokenVerifier, String certFile, String keyFile,
                                      boolean replyWithStackTraceOnError, ScheduledExecutorService executor, String[] tlsProtocolVersion,
                                      HealthServiceManager healthServiceManager, IndexAppendProcessor indexAppendProcessor) {
+        this(enableTls, enableTlsReload, host, port, streamSegmentStore, tableStore, statsRecorder, tableStatsRecorder,
+                tokenVerifier, certFile, keyFile, replyWithStackTraceOnError, executor, tlsProtocolVersion, healthServiceManager,
+                indexAppendProcessor, null);
+    }
+
+    /**
+     * Creates a new instance of the PravegaConnectionListener class with HealthServiceManager and per-tenant append rate limits.
+     *
+     * @param enableTls          Whether to enable SSL/TLS.
+     * @param enableTlsReload    Whether to reload TLS when the X.509 certificate file is replaced.
+     * @param host               The name of the host to listen to.
+     * @param port               The port to listen on.
+     * @param streamSegmentStore The SegmentStore to delegate all requests to.
+     * @param tableStore         The TableStore to delegate all requests to.
+     * @param statsRecorder      (Optional) A StatsRecorder for Metrics for Stream Segments.
+     * @param tableStatsRecorder (Optional) A Table StatsRecorder for Metrics for Table Segments.
+     * @param tokenVerifier      The object to verify delegation token.
+     * @param certFile           Path to the certificate file to be used for TLS.
+     * @param keyFile            Path to be key file to be used for TLS.
+     * @param replyWithStackTraceOnError Whether to send a server-side exceptions to the client in error messages.
+     * @param executor           The executor to be used for running token expiration handling and throttling tasks.
+     * @param tlsProtocolVersion the version of the TLS protocol
+     * @param healthServiceManager The healthService to register new health contributors related to the listeners.
+     * @param indexAppendProcessor Index append processor to be used for appending on index segment.
+     * @param tenantRateLimiter  (Optional) A {@link TenantRateLimiter} to limit the rate of appends of each tenant (Scope).
+     */
+    public PravegaConnectionListener(boolean enableTls, boolean enableTlsReload, String host, int port, StreamSegmentStore streamSegmentStore, TableStore tableStore,
+                                     SegmentStatsRecorder statsRecorder, TableSegmentStatsRecorder tableStatsRecorder,
+                                     DelegationTokenVerifier tokenVerifier, String certFile, String keyFile,
+                                     boolean replyWithStackTraceOnError, ScheduledExecutorService executor, String[] tlsProtocolVersion,
+                                     HealthServiceManager healthServiceManager, IndexAppendProcessor indexAppendProcessor,
+                                     TenantRateLimiter tenantRateLimiter) {
         super(enableTls, enableTlsReload, host, port, certFile, keyFile, tlsProtocolVersion, healthServiceManager);
         this.store = Preconditions.checkNotNull(streamSegmentStore, "streamSegmentStore");
         this.tableStore = Preconditions.checkNotNull(tableStore, "tableStore");
@@ -134,6 +174,7 @@ public final class PravegaConnectionListener extends AbstractConnectionListener
         this.tokenVerifier = (tokenVerifier != null) ? tokenVerifier : new PassingTokenVerifier();
         this.tokenExpiryHandlerExecutor = executor;
         this.indexAppendProcessor = indexAppendProcessor;
+        this.tenantRateLimiter = tenantRateLimiter;
     }
 
     /**
@@ -169,13 +210,17 @@ public final class PravegaConnectionListener extends AbstractConnectionListener
         PravegaRequestProcessor prp = new PravegaRequestProcessor(store, tableStore, c, statsRecorder,
                 tableStatsRecorder, tokenVerifier, replyWithStackTraceOnError, indexAppendProcessor);
         return new AppendProcessor(store, c, prp, statsRecorder, tokenVerifier, replyWithStackTraceOnError,
-                tokenExpiryHandlerExecutor, indexAppendProcessor);
+                tokenExpiryHandlerExecutor, indexAppendProcessor, tenantRateLimiter);
     }
 
     @Override
     public List<ChannelHandler> createEncodingStack(String connectionName) {
         List<ChannelHandler> stack = new ArrayList<>();
         stack.add(new ExceptionLoggingHandler(connectionName));
+        // The CommandEncoder flushes after every reply. Many small replies (such as DataAppended acks for different
+        // writers) are usually sent in quick succession, so we combine all the flushes issued while processing the same
+        // read or within the same event loop iteration into a single one (and hence a single write to the socket).
+        stack.add(new FlushConsolidationHandler(MAX_CONSOLIDATED_FLUSHES, true));
         stack.add(new CommandEncoder(null, NO_OP_METRIC_NOTIFIER));
         stack.add(new LengthFieldBasedFrameDecoder(MAX_WIRECOMMAND_SIZE, 4, 4));
         stack.add(new CommandDecoder());
@@ -40,7 +40,6 @@ import io.pravega.segmentstore.contracts.ContainerNotFoundException;
 import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
-import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.SegmentType;
 import io.pravega.segmentstore.contracts.StreamSegmentExistsException;
 import io.pravega.segmentstore.contracts.StreamSegmentMergedException;
@@ -105,6 +104,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
@@ -113,6 +113,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.concurrent.GuardedBy;
@@ -474,14 +475,8 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
         if (createStreamSegment.getRolloverSizeBytes() < 0) {
             log.warn("Segment rollover size bytes cannot be less than 0, actual is {}, fall back to default value", createStreamSegment.getRolloverSizeBytes());
         }
-        final long rolloverSizeBytes = createStreamSegment.getRolloverSizeBytes() < 0 ? 0 : createStreamSegment.getRolloverSizeBytes();
-
-        Collection<AttributeUpdate> attributes = Arrays.asList(
-                new AttributeUpdate(SCALE_POLICY_TYPE, AttributeUpdateType.Replace, ((Byte) createStreamSegment.getScaleType()).longValue()),
-                new AttributeUpdate(SCALE_POLICY_RATE, AttributeUpdateType.Replace, ((Integer) createStreamSegment.getTargetRate()).longValue()),
-                new AttributeUpdate(ROLLOVER_SIZE, AttributeUpdateType.Replace, rolloverSizeBytes),
-                new AttributeUpdate(CREATION_TIME, AttributeUpdateType.None, System.currentTimeMillis())
-        );
+        Collection<AttributeUpdate> attributes = getStreamSegmentAttributes(createStreamSegment.getScaleType(),
+                createStreamSegment.getTargetRate(), createStreamSegment.getRolloverSizeBytes());
 
         if (!verifyToken(createStreamSegment.getSegment(), createStreamSegment.getRequestId(), createStreamSegment.getDelegationToken(), operation)) {
             return;
@@ -503,6 +498,69 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 });
     }
 
+    @Override
+    public void createSegmentsBatch(WireCommands.CreateSegmentsBatch createSegments) {
+        Timer timer = new Timer();
+        final String operation = "createSegmentsBatch";
+        if (createSegments.getRolloverSizeBytes() < 0) {
+            log.warn("Segment rollover size bytes cannot be less than 0, actual is {}, fall back to default value", createSegments.getRolloverSizeBytes());
+        }
+
+        for (String segment : createSegments.getSegments()) {
+            if (!verifyToken(segment, createSegments.getRequestId(), createSegments.getDelegationToken(), operation)) {
+                return;
+            }
+        }
+
+        log.info(createSegments.getRequestId(), "Creating stream segments batch {}.", createSegments);
+        // A segment that already exists has been created by a previous attempt of this batch, so it is not a failure.
+        processSegmentsBatch(createSegments.getRequestId(), createSegments.getSegments(), operation,
+                segment -> Futures.exceptionallyExpecting(
+                        segmentStore.createStreamSegment(segment, SegmentType.STREAM_SEGMENT, getStreamSegmentAttributes(createSegments.getScaleType(),
+                                createSegments.getTargetRate(), createSegments.getRolloverSizeBytes()), TIMEOUT).thenApply(v -> true),
+                        e -> e instanceof StreamSegmentExistsException, false)
+                        .thenCompose(created -> Futures.exceptionallyExpecting(createIndexSegment(segment),
+                                e -> e instanceof StreamSegmentExistsException, null)
+                                .thenRun(() -> {
+                                    if (created) {
+                                        statsRecorder.createSegment(segment, createSegments.getScaleType(),
+                                                createSegments.getTargetRate(), timer.getElapsed());
+                                    }
+                                })),
+                () -> connection.send(new WireCommands.SegmentsBatchCreated(createSegments.getRequestId(), createSegments.getSegments())));
+    }
+
+    private Collection<AttributeUpdate> getStreamSegmentAttributes(byte scaleType, int targetRate, long rolloverSizeBytes) {
+        return Arrays.asList(
+                new AttributeUpdate(SCALE_POLICY_TYPE, AttributeUpdateType.Replace, ((Byte) scaleType).longValue()),
+                new AttributeUpdate(SCALE_POLICY_RATE, AttributeUpdateType.Replace, ((Integer) targetRate).longValue()),
+                new AttributeUpdate(ROLLOVER_SIZE, AttributeUpdateType.Replace, rolloverSizeBytes < 0 ? 0 : rolloverSizeBytes),
+                new AttributeUpdate(CREATION_TIME, AttributeUpdateType.None, System.currentTimeMillis())
+        );
+    }
+
+    /**
+     * Processes all the segments of a batch request in parallel. Once all of them are done, either sends the reply of the
+     * batch or handles the failure of the first segment (in request order) that could not be processed.
+     */
+    private void processSegmentsBatch(long requestId, List<String> segments, String operation,
+                                      Function<String, CompletableFuture<Void>> processSegment, Runnable sendReply) {
+        Map<String, CompletableFuture<Void>> results = new LinkedHashMap<>();
+        segments.forEach(segment -> results.put(segment, processSegment.apply(segment)));
+        Futures.allOf(results.values())
+                .thenRun(sendReply)
+                .whenComplete((r, e) -> {
+                    if (e != null) {
+                        results.entrySet().stream()
+                                .filter(entry -> entry.getValue().isCompletedExceptionally())
+                                .findFirst()
+                                .ifPresentOrElse(
+                                        entry -> handleException(requestId, entry.getKey(), operation, Futures.getException(entry.getValue())),
+                                        () -> handleException(requestId, null, operation, e));
+                    }
+                });
+    }
+
     private CompletableFuture<Void> createIndexSegment(final String segmentName) {
         if (!isUserStreamSegment(segmentName)) {
             log.info("No need to create index segment for segment {}.", segmentName);
@@ -584,40 +642,28 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
             }
         }
         log.info(mergeSegments.getRequestId(), "Merging Segments Batch in-order {} ", mergeSegments);
-        Futures.allOfWithResults(sources.stream().map(source -> Futures.handleCompose(getSegmentEventCount(source)
-            .thenCompose(eventCount -> {
-                AttributeUpdateCollection attributeUpdates = new AttributeUpdateCollection();
-                attributeUpdates.add(new AttributeUpdate(EVENT_COUNT, AttributeUpdateType.Accumulate, eventCount));
-                return segmentStore.mergeStreamSegment(mergeSegments.getTargetSegmentId(), source, attributeUpdates, TIMEOUT);
-            }), (r, e) -> {
-                if (e != null) {
-                    Throwable unwrap = Exceptions.unwrap(e);
-                    if (unwrap instanceof StreamSegmentMergedException) {
-                        log.info(mergeSegments.getRequestId(), "Stream segment already merged '{}'.", source);
-                        return segmentStore.getStreamSegmentInfo(mergeSegments.getTargetSegmentId(), TIMEOUT).thenApply(SegmentProperties::getLength);
-                    }
-                    if (unwrap instanceof StreamSegmentNotExistsException) {
-                        StreamSegmentNotExistsException ex = (StreamSegmentNotExistsException) unwrap;
-                        if (ex.getStreamSegmentName().equals(source)) {
-                            log.info(mergeSegments.getRequestId(), "Stream segment already merged '{}'.", source);
-                            return segmentStore.getStreamSegmentInfo(mergeSegments.getTargetSegmentId(), TIMEOUT).thenApply(SegmentProperties::getLength);
-                        }
-                    }
-                    throw new CompletionException(e);
-                } else {
-                    recordStatForTransaction(r, mergeSegments.getTargetSegmentId());
-                    return appendOnIndexSegment(mergeSegments.getTargetSegmentId()).thenApply(v -> r.getTargetSegmentLength());
-                }
-            })).collect(Collectors.toUnmodifiableList())).thenAccept(mergeResults -> {
-                connection.send(new WireCommands.SegmentsBatchMerged(mergeSegments.getRequestId(),
+        // Fetch the event counts of all sources upfront, then have the Segment Container merge all of them in one go, so
+        // that the merges are applied in order. A source that does not exist anymore has already been merged.
+        Futures.allOfWithResults(sources.stream()
+                .map(source -> Futures.exceptionallyExpecting(getSegmentEventCount(source),
+                        e -> e instanceof StreamSegmentNotExistsException, 0L))
+                .collect(Collectors.toList()))
+            .thenCompose(eventCounts -> {
+                List<AttributeUpdateCollection> attributeUpdates = eventCounts.stream()
+                        .map(eventCount -> AttributeUpdateCollection.from(new AttributeUpdate(EVENT_COUNT, AttributeUpdateType.Accumulate, eventCount)))
+                        .collect(Collectors.toList());
+                return segmentStore.mergeStreamSegments(mergeSegments.getTargetSegmentId(), sources, attributeUpdates, TIMEOUT);
+            })
+            .thenCompose(mergeResults -> {
+                mergeResults.forEach(r -> recordStatForTransaction(r, mergeSegments.getTargetSegmentId()));
+                // The index segment must be updated before the merge is acknowledged.
+                return appendOnIndexSegment(mergeSegments.getTargetSegmentId()).thenApply(v -> mergeResults);
+            })
+            .thenAccept(mergeResults -> connection.send(new WireCommands.SegmentsBatchMerged(mergeSegments.getRequestId(),
                     mergeSegments.getTargetSegmentId(),
                     sources,
-                    mergeResults));
-            })
-        .exceptionally(e -> {
-            log.debug("error");
-            return handleException(mergeSegments.getRequestId(), mergeSegments.getTargetSegmentId(), operation, e);
-        });
+                    mergeResults.stream().map(MergeStreamSegmentResult::getTargetSegmentLength).collect(Collectors.toUnmodifiableList()))))
+            .exceptionally(e -> handleException(mergeSegments.getRequestId(), mergeSegments.getTargetSegmentId(), operation, e));
     }
 
     private CompletableFuture<Void> appendOnIndexSegment(String segmentName) {
@@ -666,6 +712,27 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 });
     }
 
+    @Override
+    public void sealSegmentsBatch(WireCommands.SealSegmentsBatch sealSegments) {
+        final String operation = "sealSegmentsBatch";
+        for (String segment : sealSegments.getSegments()) {
+            if (!verifyToken(segment, sealSegments.getRequestId(), sealSegments.getDelegationToken(), operation)) {
+                return;
+            }
+        }
+
+        log.info(sealSegments.getRequestId(), "Sealing segments batch {} ", sealSegments);
+        processSegmentsBatch(sealSegments.getRequestId(), sealSegments.getSegments(), operation,
+                segment -> Futures.exceptionallyExpecting(segmentStore.sealStreamSegment(segment, TIMEOUT).thenApply(size -> true),
+                        e -> e instanceof StreamSegmentSealedException, false)
+                        .thenAccept(sealed -> {
+                            if (sealed) {
+                                statsRecorder.sealSegment(segment);
+                            }
+                        }),
+                () -> connection.send(new WireCommands.SegmentsBatchSealed(sealSegments.getRequestId(), sealSegments.getSegments())));
+    }
+
     @Override
     public void truncateSegment(TruncateSegment truncateSegment) {
         String segment = truncateSegment.getSegment();
@@ -703,6 +770,28 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                 .exceptionally(e -> handleException(deleteSegment.getRequestId(), segment, operation, e));
     }
 
+    @Override
+    public void deleteSegmentsBatch(WireCommands.DeleteSegmentsBatch deleteSegments) {
+        final String operation = "deleteSegmentsBatch";
+        for (String segment : deleteSegments.getSegments()) {
+            if (!verifyToken(segment, deleteSegments.getRequestId(), deleteSegments.getDelegationToken(), operation)) {
+                return;
+            }
+        }
+
+        log.info(deleteSegments.getRequestId(), "Deleting segments batch {} ", deleteSegments);
+        processSegmentsBatch(deleteSegments.getRequestId(), deleteSegments.getSegments(), operation,
+                segment -> Futures.exceptionallyExpecting(segmentStore.deleteStreamSegment(segment, TIMEOUT).thenApply(v -> true),
+                        e -> e instanceof StreamSegmentNotExistsException, false)
+                        .thenAccept(deleted -> {
+                            segmentStore.deleteStreamSegment(getIndexSegmentName(segment), TIMEOUT);
+                            if (deleted) {
+                                this.statsRecorder.deleteSegment(segment);
+                            }
+                        }),
+                () -> connection.send(new WireCommands.SegmentsBatchDeleted(deleteSegments.getRequestId(), deleteSegments.getSegments())));
+    }
+
     @Override
     public void updateSegmentPolicy(UpdateSegmentPolicy updateSegmentPolicy) {
         final String operation = "updateSegmentPolicy";
@@ -1065,7 +1154,12 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
                             val k = new WireCommands.TableKey(toByteBuf(entry.getKey().getKey()), entry.getKey().getVersion());
                             val v = new WireCommands.TableValue(toByteBuf(entry.getValue()));
                             if (state.isDeletionRecord()) {
-                                result.remove(entry.getKey().getKey(), k.size() + v.size());
+                                // Report removed keys with a NOT_EXISTS version so that they can be told apart from updates.
+                                val removed = new WireCommands.TableKey(k.getData(), WireCommands.TableKey.NOT_EXISTS);
+                                Map.Entry<WireCommands.TableKey, WireCommands.TableValue> old = result.getItem(entry.getKey().getKey());
+                                int sizeBytes = removed.size() + WireCommands.TableValue.EMPTY.size()
+                                        - (old == null ? 0 : old.getKey().size() + old.getValue().size());
+                                result.add(entry.getKey().getKey(), new AbstractMap.SimpleImmutableEntry<>(removed, WireCommands.TableValue.EMPTY), sizeBytes);
                             } else {
                                 Map.Entry<WireCommands.TableKey, WireCommands.TableValue> old = result.getItem(entry.getKey().getKey());
                                 if (old != null && old.getKey().getKeyVersion() < entry.getKey().getVersion()) {
@@ -1336,11 +1430,6 @@ public class PravegaRequestProcessor extends FailingRequestProcessor implements
             this.sizeBytes += sizeBytes;
         }
 
-        synchronized void remove(K item, int sizeBytes) {
-            this.items.remove(item);
-            this.sizeBytes -= sizeBytes;
-        }
-
         synchronized V getItem(K key) {
             return this.items.get(key);
         }
@@ -27,6 +27,7 @@ import io.pravega.shared.protocol.netty.Request;
 import io.pravega.shared.protocol.netty.RequestProcessor;
 import io.pravega.shared.protocol.netty.WireCommand;
 import io.pravega.shared.protocol.netty.WireCommands;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +40,14 @@ public class ServerConnectionInboundHandler extends ChannelInboundHandlerAdapter
     private final AtomicReference<RequestProcessor> processor = new AtomicReference<>();
     private final AtomicReference<Channel> channel = new AtomicReference<>();
     private final AtomicBoolean isClosed = new AtomicBoolean(false);
+    /**
+     * Commands that have been sent but not yet written to the channel. These are written in bulk by a single event loop
+     * task, so a burst of replies (i.e., acks completing around the same time) costs one task and one flush instead of
+     * one of each per reply. The more loaded the event loop is, the more replies accumulate before that task gets to run;
+     * when idle, replies are written right away.
+     */
+    private final ConcurrentLinkedQueue<WireCommand> pendingSends = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
 
     @Override
     public void channelRegistered(ChannelHandlerContext ctx) throws Exception {
@@ -80,14 +89,27 @@ public class ServerConnectionInboundHandler extends ChannelInboundHandlerAdapter
     @Override
     public void send(WireCommand cmd) {
         Channel c = getChannel();
-        // Work around for https://github.com/netty/netty/issues/3246
-        EventLoop eventLoop = c.eventLoop();
-        eventLoop.execute(() -> write(c, cmd));
+        this.pendingSends.add(cmd);
+        if (this.writeScheduled.compareAndSet(false, true)) {
+            // Work around for https://github.com/netty/netty/issues/3246
+            EventLoop eventLoop = c.eventLoop();
+            eventLoop.execute(() -> writePending(c));
+        }
+    }
+
+    private void writePending(Channel channel) {
+        // Clear the flag before draining the queue, so that any command added after this point either gets picked up
+        // below or schedules another write.
+        this.writeScheduled.set(false);
+        WireCommand cmd;
+        while ((cmd = this.pendingSends.poll()) != null) {
+            write(channel, cmd);
+        }
     }
 
     private static void write(Channel channel, WireCommand data) {
         channel.write(data).addListener(ChannelFutureListener.FIRE_EXCEPTION_ON_FAILURE);
-    }  
+    }
     
     @Override
     public void setRequestProcessor(RequestProcessor rp) {
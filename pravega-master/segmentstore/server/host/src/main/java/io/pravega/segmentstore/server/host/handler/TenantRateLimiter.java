@@ -0,0 +1,202 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.handler;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.shared.NameUtils;
+import io.pravega.shared.metrics.DynamicLogger;
+import io.pravega.shared.metrics.MetricsProvider;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+import static io.pravega.shared.MetricsNames.TENANT_APPEND_THROTTLE_COUNT;
+import static io.pravega.shared.MetricsNames.TENANT_APPEND_THROTTLE_DELAY;
+import static io.pravega.shared.MetricsTags.scopeTag;
+
+/**
+ * Limits the rate at which each tenant (Scope) may append data to this Segment Store, across all of its connections.
+ *
+ * Each tenant has a token bucket that is refilled at {@link #getMaxBytesPerSecond()} and may hold up to one second's
+ * worth of tokens (so short bursts are allowed). Appends are never rejected: they are always admitted, but a tenant that
+ * has run out of tokens goes into debt and is told how long to back off until it has paid it back. The caller is expected
+ * to stop reading from that tenant's connection for that long ({@link TrackedConnection#throttle}).
+ *
+ * Note that throttling pauses the whole connection, so appends of other tenants that share it are stalled as well.
+ *
+ * Internal Segments (in the {@link NameUtils#INTERNAL_SCOPE_NAME} Scope) and Segments that do not belong to a Scope are
+ * never throttled.
+ *
+ * Buckets (and the tenant's throttling metrics) are discarded once a tenant has not appended for
+ * {@link #BUCKET_EXPIRATION_NANOS} and its bucket has been refilled, since such a bucket is no different from a new one.
+ */
+@ThreadSafe
+public class TenantRateLimiter {
+    //region Members
+
+    @VisibleForTesting
+    static final long BUCKET_EXPIRATION_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    @Getter
+    private final int maxBytesPerSecond;
+    private final LongSupplier nanoTime;
+    private final ConcurrentHashMap<String, Bucket> buckets;
+    private final DynamicLogger dynamicLogger;
+    private final AtomicLong nextExpirationNanos;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link TenantRateLimiter} class.
+     *
+     * @param maxBytesPerSecond The maximum number of bytes each tenant may append per second.
+     */
+    public TenantRateLimiter(int maxBytesPerSecond) {
+        this(maxBytesPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance of the {@link TenantRateLimiter} class.
+     *
+     * @param maxBytesPerSecond The maximum number of bytes each tenant may append per second.
+     * @param nanoTime          A Supplier for the current time, in nanoseconds.
+     */
+    @VisibleForTesting
+    TenantRateLimiter(int maxBytesPerSecond, @NonNull LongSupplier nanoTime) {
+        Preconditions.checkArgument(maxBytesPerSecond > 0, "maxBytesPerSecond must be a positive number.");
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.nanoTime = nanoTime;
+        this.buckets = new ConcurrentHashMap<>();
+        this.dynamicLogger = MetricsProvider.getDynamicLogger();
+        this.nextExpirationNanos = new AtomicLong(this.nanoTime.getAsLong() + BUCKET_EXPIRATION_NANOS);
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records the fact that the given Segment has been appended to and determines whether its tenant should back off.
+     *
+     * @param segmentName The name of the Segment that was appended to.
+     * @param bytes       The number of bytes appended.
+     * @return The number of milliseconds the tenant should back off for. 0 if it is within its limit.
+     */
+    long acquire(String segmentName, int bytes) {
+        String tenant = NameUtils.extractScopeName(segmentName);
+        if (tenant == null || NameUtils.INTERNAL_SCOPE_NAME.equals(tenant)) {
+            return 0;
+        }
+
+        long nowNanos = this.nanoTime.getAsLong();
+        expireIdleBuckets(nowNanos);
+
+        // Acquire from within compute() so that the bucket cannot be expired concurrently.
+        val delayMillis = new AtomicLong();
+        this.buckets.compute(tenant, (t, bucket) -> {
+            bucket = bucket == null ? new Bucket(nowNanos) : bucket;
+            delayMillis.set(bucket.acquire(bytes, nowNanos));
+            return bucket;
+        });
+        if (delayMillis.get() > 0) {
+            this.dynamicLogger.incCounterValue(TENANT_APPEND_THROTTLE_COUNT, 1, scopeTag(tenant));
+            this.dynamicLogger.incCounterValue(TENANT_APPEND_THROTTLE_DELAY, delayMillis.get(), scopeTag(tenant));
+        }
+
+        return delayMillis.get();
+    }
+
+    /**
+     * Gets the number of tenants that currently have a bucket.
+     *
+     * @return The number of tenants.
+     */
+    @VisibleForTesting
+    int getTenantCount() {
+        return this.buckets.size();
+    }
+
+    /**
+     * Discards the buckets of idle tenants, along with their metrics. This runs at most once every
+     * {@link #BUCKET_EXPIRATION_NANOS}.
+     *
+     * @param nowNanos The current time, in nanoseconds.
+     */
+    private void expireIdleBuckets(long nowNanos) {
+        long next = this.nextExpirationNanos.get();
+        if (nowNanos - next < 0 || !this.nextExpirationNanos.compareAndSet(next, nowNanos + BUCKET_EXPIRATION_NANOS)) {
+            return;
+        }
+
+        for (String tenant : this.buckets.keySet()) {
+            if (this.buckets.computeIfPresent(tenant, (t, bucket) -> bucket.isIdle(nowNanos) ? null : bucket) == null) {
+                this.dynamicLogger.freezeCounter(TENANT_APPEND_THROTTLE_COUNT, scopeTag(tenant));
+                this.dynamicLogger.freezeCounter(TENANT_APPEND_THROTTLE_DELAY, scopeTag(tenant));
+            }
+        }
+    }
+
+    //endregion
+
+    //region Bucket
+
+    /**
+     * A token bucket for a single tenant.
+     */
+    private class Bucket {
+        @GuardedBy("this")
+        private double tokens;
+        @GuardedBy("this")
+        private long lastRefillNanos;
+
+        Bucket(long nowNanos) {
+            this.tokens = maxBytesPerSecond;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        synchronized long acquire(int bytes, long nowNanos) {
+            this.tokens = getTokens(nowNanos) - bytes;
+            this.lastRefillNanos = nowNanos;
+            if (this.tokens >= 0) {
+                return 0;
+            }
+
+            // Back off for as long as it takes to pay back the debt.
+            return (long) Math.ceil(-this.tokens * TimeUnit.SECONDS.toMillis(1) / maxBytesPerSecond);
+        }
+
+        synchronized boolean isIdle(long nowNanos) {
+            return nowNanos - this.lastRefillNanos >= BUCKET_EXPIRATION_NANOS && getTokens(nowNanos) >= maxBytesPerSecond;
+        }
+
+        @GuardedBy("this")
+        private double getTokens(long nowNanos) {
+            long elapsedNanos = Math.max(0, nowNanos - this.lastRefillNanos);
+            return Math.min(maxBytesPerSecond, this.tokens + (double) elapsedNanos * maxBytesPerSecond / TimeUnit.SECONDS.toNanos(1));
+        }
+    }
+
+    //endregion
+}
@@ -16,7 +16,11 @@
 package io.pravega.segmentstore.server.host.handler;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.pravega.shared.protocol.netty.RequestProcessor;
 import io.pravega.shared.protocol.netty.WireCommand;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +43,15 @@ public class TrackedConnection implements AutoCloseable {
     @NonNull
     private final ConnectionTracker connectionTracker;
     private final AtomicLong outstandingBytes = new AtomicLong();
+    /**
+     * The number of throttling delays ({@link #throttle}) currently in effect for this connection.
+     */
+    private final AtomicInteger activeThrottles = new AtomicInteger();
+    /**
+     * A view of {@link #connection} that may only be paused. Handed to the {@link ConnectionTracker} while this connection
+     * is throttled, so that it does not resume it before the throttling delay is over.
+     */
+    private final ServerConnection pauseOnlyConnection = new PauseOnlyConnection();
 
     /**
      * To be used only in tests. Creates a new tracker.
@@ -58,7 +71,37 @@ public class TrackedConnection implements AutoCloseable {
      */
     void adjustOutstandingBytes(int delta) {
         long currentOutstanding = this.outstandingBytes.updateAndGet(p -> Math.max(0, p + delta));
-        this.connectionTracker.updateOutstandingBytes(this.connection, delta, currentOutstanding);
+        ServerConnection c = isThrottled() ? this.pauseOnlyConnection : this.connection;
+        this.connectionTracker.updateOutstandingBytes(c, delta, currentOutstanding);
+    }
+
+    /**
+     * Pauses reading from this connection for the given amount of time. Reading is resumed afterwards, unless the
+     * {@link ConnectionTracker} (or another throttling delay) requires it to stay paused.
+     *
+     * @param delayMillis The number of milliseconds to pause reading for.
+     * @param executor    An executor to schedule the end of the delay on.
+     */
+    void throttle(long delayMillis, ScheduledExecutorService executor) {
+        this.activeThrottles.incrementAndGet();
+        this.connection.pauseReading();
+        log.debug("Throttling connection {} for {}ms.", this.connection, delayMillis);
+        executor.schedule(() -> {
+            if (this.activeThrottles.decrementAndGet() == 0) {
+                // Let the ConnectionTracker decide whether we may resume.
+                adjustOutstandingBytes(0);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets a value indicating whether reading from this connection is currently paused due to {@link #throttle}.
+     *
+     * @return True if throttled, false otherwise.
+     */
+    @VisibleForTesting
+    boolean isThrottled() {
+        return this.activeThrottles.get() > 0;
     }
 
     /**
@@ -80,4 +123,41 @@ public class TrackedConnection implements AutoCloseable {
     public String toString() {
         return String.format("%s [%s/%s]", this.connection, this.outstandingBytes, this.connectionTracker.getTotalOutstanding());
     }
+
+    private class PauseOnlyConnection implements ServerConnection {
+        @Override
+        public void pauseReading() {
+            connection.pauseReading();
+        }
+
+        @Override
+        public void resumeReading() {
+            // Resumed when the throttling delay is over.
+        }
+
+        @Override
+        public void send(WireCommand cmd) {
+            connection.send(cmd);
+        }
+
+        @Override
+        public void setRequestProcessor(RequestProcessor cp) {
+            connection.setRequestProcessor(cp);
+        }
+
+        @Override
+        public void close() {
+            connection.close();
+        }
+
+        @Override
+        public boolean isClosed() {
+            return connection.isClosed();
+        }
+
+        @Override
+        public String toString() {
+            return connection.toString();
+        }
+    }
 }
@@ -19,6 +19,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.pravega.client.EventStreamClientFactory;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
 import io.pravega.segmentstore.contracts.StreamSegmentStore;
+import io.pravega.shared.metrics.MetricsConfig;
 import java.util.concurrent.ScheduledExecutorService;
 import lombok.Data;
 import lombok.Getter;
@@ -42,14 +43,19 @@ public class AutoScaleMonitor implements AutoCloseable {
                             @NonNull AutoScalerConfig configuration) {
         this.executor = ExecutorServiceHelpers.newScheduledThreadPool(configuration.getThreadPoolSize(), "auto-scaler", Thread.MIN_PRIORITY);
         this.processor = new AutoScaleProcessor(configuration, clientFactory, this.executor);
-        this.statsRecorder = new SegmentStatsRecorderImpl(this.processor, store, this.executor);
+        this.statsRecorder = new SegmentStatsRecorderImpl(this.processor, store, MetricsConfig.builder().build(), this.executor);
         this.tableSegmentStatsRecorder = new TableSegmentStatsRecorderImpl();
     }
 
     public AutoScaleMonitor(@NonNull StreamSegmentStore store, @NonNull AutoScalerConfig configuration) {
+        this(store, configuration, MetricsConfig.builder().build());
+    }
+
+    public AutoScaleMonitor(@NonNull StreamSegmentStore store, @NonNull AutoScalerConfig configuration,
+                            @NonNull MetricsConfig metricsConfig) {
         this.executor = ExecutorServiceHelpers.newScheduledThreadPool(configuration.getThreadPoolSize(), "auto-scaler", Thread.MIN_PRIORITY);
         this.processor = new AutoScaleProcessor(configuration, this.executor);
-        this.statsRecorder = new SegmentStatsRecorderImpl(this.processor, store, this.executor);
+        this.statsRecorder = new SegmentStatsRecorderImpl(this.processor, store, metricsConfig, this.executor);
         this.tableSegmentStatsRecorder = new TableSegmentStatsRecorderImpl();
     }
 
@@ -34,7 +34,8 @@ import io.pravega.shared.controller.event.AutoScaleEvent;
 import io.pravega.shared.controller.event.ControllerEventSerializer;
 import java.net.URI;
 import java.nio.ByteBuffer;
-import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -57,17 +58,15 @@ public class AutoScaleProcessor implements AutoCloseable {
     private static final TagLogger log = new TagLogger(LoggerFactory.getLogger(AutoScaleProcessor.class));
     private static final EventSerializer SERIALIZER = new EventSerializer();
 
-    private static final long TWO_MINUTES = Duration.ofMinutes(2).toMillis();
-    private static final long FIVE_MINUTES = Duration.ofMinutes(5).toMillis();
-    private static final long TEN_MINUTES = Duration.ofMinutes(10).toMillis();
-    private static final long TWENTY_MINUTES = Duration.ofMinutes(20).toMillis();
     private static final int MAX_CACHE_SIZE = 1000000;
+    private static final int CACHE_CONCURRENCY_LEVEL = 16; // Every append batch on every connection looks up this cache.
 
     private final EventStreamClientFactory clientFactory;
     private final SimpleCache<String, Pair<Long, Long>> cache;
     private final CompletableFuture<EventStreamWriter<AutoScaleEvent>> writer;
     private final AtomicBoolean startInitWriter;
     private final AutoScalerConfig configuration;
+    private final ScalePolicy policy;
     private final Supplier<Long> requestIdGenerator = RandomFactory.create()::nextLong;
     private final ScheduledFuture<?> cacheCleanup;
 
@@ -116,9 +115,15 @@ public class AutoScaleProcessor implements AutoCloseable {
         this.writer = new CompletableFuture<>();
         this.clientFactory = clientFactory;
         this.startInitWriter = new AtomicBoolean(false);
+        this.policy = configuration.isPredictiveEnabled()
+                ? new PredictiveScalePolicy(configuration)
+                : new ThresholdScalePolicy(configuration);
         
         if (simpleCache == null) {
-            this.cache = new SimpleCache<>(MAX_CACHE_SIZE, configuration.getCacheExpiry(), (k, v) -> triggerScaleDown(k, true));
+            this.cache = new SimpleCache<>(MAX_CACHE_SIZE, CACHE_CONCURRENCY_LEVEL, configuration.getCacheExpiry(), (k, v) -> {
+                this.policy.forget(k);
+                triggerScaleDown(k, true);
+            });
         } else {
             this.cache = simpleCache;
         }
@@ -212,7 +217,7 @@ public class AutoScaleProcessor implements AutoCloseable {
         return uriScheme.equals("tls") || uriScheme.equals("pravegas");
     }
 
-    private void triggerScaleUp(String streamSegmentName, int numOfSplits) {
+    private void triggerScaleUp(String streamSegmentName, int numOfSplits, List<Double> keyLoadQuantiles) {
         Pair<Long, Long> pair = cache.get(streamSegmentName);
         long lastRequestTs = 0;
 
@@ -227,7 +232,7 @@ public class AutoScaleProcessor implements AutoCloseable {
 
             Segment segment = Segment.fromScopedName(streamSegmentName);
             AutoScaleEvent event = new AutoScaleEvent(segment.getScope(), segment.getStreamName(), segment.getSegmentId(),
-                    AutoScaleEvent.UP, timestamp, numOfSplits, false, requestId);
+                    AutoScaleEvent.UP, timestamp, numOfSplits, false, requestId, keyLoadQuantiles);
             // Mute scale for timestamp for both scale up and down
             writeRequest(event, () -> cache.put(streamSegmentName, new ImmutablePair<>(timestamp, timestamp)));
         }
@@ -273,34 +278,44 @@ public class AutoScaleProcessor implements AutoCloseable {
     }
 
     void report(String streamSegmentName, long targetRate, long startTime, double twoMinuteRate, double fiveMinuteRate, double tenMinuteRate, double twentyMinuteRate) {
+        report(streamSegmentName, targetRate, startTime, twoMinuteRate, fiveMinuteRate, tenMinuteRate, twentyMinuteRate,
+                Collections.emptyList());
+    }
+
+    /**
+     * Evaluates the rates of a segment and triggers a scale if needed.
+     *
+     * @param streamSegmentName The name of the segment.
+     * @param targetRate        The target rate of the segment.
+     * @param startTime         The time at which the rates started to be computed.
+     * @param twoMinuteRate     The two minute rate.
+     * @param fiveMinuteRate    The five minute rate.
+     * @param tenMinuteRate     The ten minute rate.
+     * @param twentyMinuteRate  The twenty minute rate.
+     * @param keyLoadQuantiles  Positions in the key space that divide the recent load of the segment into equal parts, to
+     *                          be used as split points if the segment is scaled up. May be empty.
+     */
+    void report(String streamSegmentName, long targetRate, long startTime, double twoMinuteRate, double fiveMinuteRate,
+                double tenMinuteRate, double twentyMinuteRate, List<Double> keyLoadQuantiles) {
         log.info("received traffic for {} with twoMinute rate = {} and targetRate = {}", streamSegmentName, twoMinuteRate, targetRate);
         cache.get(streamSegmentName);
         // note: we are working on caller's thread. We should not do any blocking computation here and return as quickly as
         // possible.
         // So we will decide whether to scale or not and then unblock by asynchronously calling 'writeEvent'
         long currentTime = getTimeMillis();
-        if (currentTime - startTime > configuration.getCooldownDuration().toMillis()) {
-            log.debug("cool down period elapsed for {}", streamSegmentName);
-
-            // report to see if a scale operation needs to be performed.
-            if ((twoMinuteRate > 5.0 * targetRate && currentTime - startTime > TWO_MINUTES) ||
-                    (fiveMinuteRate > 2.0 * targetRate && currentTime - startTime > FIVE_MINUTES) ||
-                    (tenMinuteRate > targetRate && currentTime - startTime > TEN_MINUTES)) {
-                int numOfSplits = Math.max(2, (int) (Double.max(Double.max(twoMinuteRate, fiveMinuteRate), tenMinuteRate) / targetRate));
-                log.debug("triggering scale up for {} with number of splits {}", streamSegmentName, numOfSplits);
-
-                triggerScaleUp(streamSegmentName, numOfSplits);
-            }
-
-            if (twoMinuteRate < targetRate &&
-                    fiveMinuteRate < targetRate &&
-                    tenMinuteRate < targetRate &&
-                    twentyMinuteRate < targetRate / 2.0 &&
-                    currentTime - startTime > TWENTY_MINUTES) {
+        ScalePolicy.Decision decision = policy.evaluate(streamSegmentName, targetRate, startTime, twoMinuteRate, fiveMinuteRate,
+                tenMinuteRate, twentyMinuteRate, currentTime);
+        switch (decision.getDirection()) {
+            case UP:
+                log.debug("triggering scale up for {} with number of splits {}", streamSegmentName, decision.getNumOfSplits());
+                triggerScaleUp(streamSegmentName, decision.getNumOfSplits(), keyLoadQuantiles);
+                break;
+            case DOWN:
                 log.debug("triggering scale down for {}", streamSegmentName);
-
                 triggerScaleDown(streamSegmentName, false);
-            }
+                break;
+            default:
+                break;
         }
     }
 
@@ -311,6 +326,7 @@ public class AutoScaleProcessor implements AutoCloseable {
 
     void notifySealed(String segmentStreamName) {
         cache.remove(segmentStreamName);
+        policy.forget(segmentStreamName);
     }
 
     @VisibleForTesting
@@ -39,6 +39,10 @@ public class AutoScalerConfig {
     public static final Property<String> TOKEN_SIGNING_KEY = Property.named("security.auth.token.signingKey.basis", "secret", "tokenSigningKey");
     public static final Property<Boolean> VALIDATE_HOSTNAME = Property.named("controller.connect.security.tls.validateHostName.enable", true, "validateHostName");
     public static final Property<Integer> THREAD_POOL_SIZE = Property.named("threadPool.size", 10, "threadPoolSize");
+    public static final Property<Boolean> PREDICTIVE_ENABLED = Property.named("predictive.enable", false);
+    public static final Property<Integer> PREDICTIVE_HORIZON_IN_SECONDS = Property.named("predictive.horizon.seconds", 10 * 60);
+    public static final Property<Integer> PREDICTIVE_SEASON_IN_SECONDS = Property.named("predictive.season.seconds", 24 * 60 * 60);
+    public static final Property<Integer> PREDICTIVE_SEASON_BUCKETS = Property.named("predictive.season.buckets", 24);
 
     public static final String COMPONENT_CODE = "autoScale";
 
@@ -117,6 +121,31 @@ public class AutoScalerConfig {
     @Getter
     private final int threadPoolSize;
 
+    /**
+     * Whether scale decisions are based on forecasted segment rates (see {@link PredictiveScalePolicy}) instead of on
+     * the current rates crossing fixed thresholds.
+     */
+    @Getter
+    private final boolean predictiveEnabled;
+
+    /**
+     * How far ahead the predictive policy looks when deciding whether a segment will be overloaded.
+     */
+    @Getter
+    private final Duration predictiveHorizon;
+
+    /**
+     * Length of the recurring (e.g., daily) load pattern learned by the predictive policy.
+     */
+    @Getter
+    private final Duration predictiveSeason;
+
+    /**
+     * Number of buckets the season is divided into. Each bucket learns its own load factor.
+     */
+    @Getter
+    private final int predictiveSeasonBuckets;
+
     private AutoScalerConfig(TypedProperties properties) throws ConfigurationException {
         this.internalRequestStream = properties.get(REQUEST_STREAM);
         this.cooldownDuration = Duration.ofSeconds(properties.getInt(COOLDOWN_IN_SECONDS));
@@ -133,6 +162,17 @@ public class AutoScalerConfig {
         if (this.threadPoolSize <= 0) {
             throw new ConfigurationException(String.format("Property '%s' must be a non-negative integer.", THREAD_POOL_SIZE));
         }
+        this.predictiveEnabled = properties.getBoolean(PREDICTIVE_ENABLED);
+        this.predictiveHorizon = Duration.ofSeconds(properties.getInt(PREDICTIVE_HORIZON_IN_SECONDS));
+        this.predictiveSeason = Duration.ofSeconds(properties.getInt(PREDICTIVE_SEASON_IN_SECONDS));
+        this.predictiveSeasonBuckets = properties.getInt(PREDICTIVE_SEASON_BUCKETS);
+        if (this.predictiveHorizon.isNegative() || this.predictiveHorizon.isZero()) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer.", PREDICTIVE_HORIZON_IN_SECONDS));
+        }
+        if (this.predictiveSeasonBuckets <= 0 || this.predictiveSeason.getSeconds() < this.predictiveSeasonBuckets) {
+            throw new ConfigurationException(String.format("Property '%s' must be a positive integer no greater than '%s'.",
+                    PREDICTIVE_SEASON_BUCKETS, PREDICTIVE_SEASON_IN_SECONDS));
+        }
     }
 
     public static ConfigBuilder<AutoScalerConfig> builder() {
@@ -158,7 +198,11 @@ public class AutoScalerConfig {
                 .append(String.format("tokenSigningKey is %s, ",
                         Strings.isNullOrEmpty(tokenSigningKey) ? "unspecified" : "specified"))
                 .append(String.format("validateHostName: %b, ", validateHostName))
-                .append(String.format("threadPoolSize: %d", threadPoolSize))
+                .append(String.format("threadPoolSize: %d, ", threadPoolSize))
+                .append(String.format("predictiveEnabled: %b, ", predictiveEnabled))
+                .append(String.format("predictiveHorizon: %s, ", (predictiveHorizon != null) ? predictiveHorizon.toString() : "null"))
+                .append(String.format("predictiveSeason: %s, ", (predictiveSeason != null) ? predictiveSeason.toString() : "null"))
+                .append(String.format("predictiveSeasonBuckets: %d", predictiveSeasonBuckets))
                 .append(")")
                 .toString();
     }
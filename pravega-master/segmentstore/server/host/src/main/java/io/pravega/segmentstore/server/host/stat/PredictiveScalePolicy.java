@@ -0,0 +1,142 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.pravega.client.segment.impl.Segment;
+import java.time.Duration;
+import javax.annotation.concurrent.GuardedBy;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+
+/**
+ * Scale policy that splits segments ahead of the load they are forecasted to receive, and merges them only after both
+ * their recent rates and their forecasted rates have stayed well below the target rate for several consecutive reports.
+ *
+ * Rates are forecasted with a {@link RateForecaster} per segment, which learns the recurring (e.g., daily) load pattern of
+ * each stream. A segment is split if either its current (two minute) rate or its forecasted peak rate over the configured
+ * horizon exceeds the target rate. A segment is merged only if its rates are below about a third of the target rate, so that
+ * the merged segment (with about twice the rate) stays well below the target rate, and only after several consecutive
+ * agreeing reports. This keeps segments from flapping between splits and merges. Until a segment has enough
+ * observations to be forecasted, the {@link ThresholdScalePolicy} is used.
+ */
+class PredictiveScalePolicy implements ScalePolicy {
+    /**
+     * Smoothing factors. The level is smoothed over a much longer period than the reporting interval so that it does not
+     * absorb the seasonal pattern, which is learned by the seasonal factors instead.
+     */
+    private static final double LEVEL_SMOOTHING = 0.05;
+    private static final double TREND_SMOOTHING = 0.01;
+    private static final double SEASONAL_SMOOTHING = 0.2;
+    private static final int MIN_OBSERVATIONS = 3;
+    private static final int SCALE_DOWN_REPORTS = 3;
+    private static final double SCALE_DOWN_THRESHOLD = 0.35;
+    private static final Duration FORECAST_STEP = Duration.ofMinutes(1);
+    private static final long TWENTY_MINUTES = Duration.ofMinutes(20).toMillis();
+    private static final int MAX_STREAMS = 100000;
+    private static final int MAX_SEGMENTS = 1000000;
+
+    private final AutoScalerConfig configuration;
+    private final ThresholdScalePolicy fallback;
+    private final Cache<String, RateForecaster.SeasonalProfile> profiles;
+    private final Cache<String, SegmentState> segments;
+
+    PredictiveScalePolicy(@NonNull AutoScalerConfig configuration) {
+        this.configuration = configuration;
+        this.fallback = new ThresholdScalePolicy(configuration);
+        // Profiles need to survive at least a full season without scale events to be of any use.
+        this.profiles = CacheBuilder.newBuilder()
+                                    .maximumSize(MAX_STREAMS)
+                                    .expireAfterAccess(configuration.getPredictiveSeason().multipliedBy(2))
+                                    .build();
+        this.segments = CacheBuilder.newBuilder()
+                                    .maximumSize(MAX_SEGMENTS)
+                                    .expireAfterAccess(configuration.getCacheExpiry())
+                                    .build();
+    }
+
+    @Override
+    public Decision evaluate(String streamSegmentName, long targetRate, long startTime, double twoMinuteRate, double fiveMinuteRate,
+                             double tenMinuteRate, double twentyMinuteRate, long currentTime) {
+        SegmentState state = getState(streamSegmentName);
+        synchronized (state) {
+            state.forecaster.observe(currentTime, twoMinuteRate);
+            if (currentTime - startTime <= this.configuration.getCooldownDuration().toMillis()) {
+                return Decision.NONE;
+            }
+            if (state.forecaster.getObservationCount() < MIN_OBSERVATIONS || targetRate <= 0) {
+                return this.fallback.evaluate(streamSegmentName, targetRate, startTime, twoMinuteRate, fiveMinuteRate,
+                        tenMinuteRate, twentyMinuteRate, currentTime);
+            }
+
+            long horizon = this.configuration.getPredictiveHorizon().toMillis();
+            double expectedRate = Math.max(twoMinuteRate, state.forecaster.forecastPeak(currentTime + horizon, FORECAST_STEP));
+            if (expectedRate > targetRate) {
+                state.lowReports = 0;
+                return Decision.up(Math.max(2, (int) Math.ceil(expectedRate / targetRate)));
+            }
+
+            // Only merge if the segment is not expected to need splitting again soon: look twice as far ahead.
+            double lowThreshold = targetRate * SCALE_DOWN_THRESHOLD;
+            if (currentTime - startTime > TWENTY_MINUTES
+                    && Math.max(Math.max(twoMinuteRate, fiveMinuteRate), Math.max(tenMinuteRate, twentyMinuteRate)) < lowThreshold
+                    && state.forecaster.forecastPeak(currentTime + 2 * horizon, FORECAST_STEP) < lowThreshold) {
+                state.lowReports++;
+            } else {
+                state.lowReports = 0;
+            }
+
+            if (state.lowReports >= SCALE_DOWN_REPORTS) {
+                state.lowReports = 0;
+                return Decision.DOWN;
+            }
+            return Decision.NONE;
+        }
+    }
+
+    @Override
+    public void forget(String streamSegmentName) {
+        this.segments.invalidate(streamSegmentName);
+    }
+
+    @VisibleForTesting
+    RateForecaster.SeasonalProfile getProfile(String streamSegmentName) {
+        return this.profiles.getIfPresent(Segment.fromScopedName(streamSegmentName).getScopedStreamName());
+    }
+
+    @SneakyThrows
+    private SegmentState getState(String streamSegmentName) {
+        return this.segments.get(streamSegmentName, () -> {
+            String stream = Segment.fromScopedName(streamSegmentName).getScopedStreamName();
+            RateForecaster.SeasonalProfile profile = this.profiles.get(stream, () -> new RateForecaster.SeasonalProfile(
+                    this.configuration.getPredictiveSeason(), this.configuration.getPredictiveSeasonBuckets(), SEASONAL_SMOOTHING));
+            return new SegmentState(new RateForecaster(profile, LEVEL_SMOOTHING, TREND_SMOOTHING));
+        });
+    }
+
+    private static class SegmentState {
+        @GuardedBy("this")
+        private final RateForecaster forecaster;
+        @GuardedBy("this")
+        private int lowReports;
+
+        SegmentState(RateForecaster forecaster) {
+            this.forecaster = forecaster;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import com.google.common.base.Preconditions;
+import java.time.Duration;
+import java.util.Arrays;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+
+/**
+ * Forecasts the rate of a segment using multiplicative Holt-Winters (triple exponential) smoothing.
+ *
+ * The forecast is the product of a level, a trend and a seasonal factor. The level and trend are tracked per segment.
+ * The seasonal factors describe how the load of a stream varies over a recurring period (e.g., a day) and are shared by
+ * all the segments of the stream (see {@link SeasonalProfile}), so that segments created by a scale operation can
+ * anticipate the load pattern of their stream right away.
+ *
+ * Observations may arrive at irregular intervals, so the trend is tracked per minute and scaled by the elapsed time.
+ */
+@NotThreadSafe
+class RateForecaster {
+    private static final double MILLIS_PER_MINUTE = Duration.ofMinutes(1).toMillis();
+    private final SeasonalProfile profile;
+    private final double levelSmoothing;
+    private final double trendSmoothing;
+    private double level;
+    private double trend;
+    private long lastTime;
+    @Getter
+    private int observationCount;
+
+    /**
+     * Creates a new instance of the RateForecaster class.
+     *
+     * @param profile        The seasonal profile of the segment's stream.
+     * @param levelSmoothing Smoothing factor for the level, in (0, 1].
+     * @param trendSmoothing Smoothing factor for the trend, in [0, 1].
+     */
+    RateForecaster(SeasonalProfile profile, double levelSmoothing, double trendSmoothing) {
+        Preconditions.checkArgument(levelSmoothing > 0 && levelSmoothing <= 1, "levelSmoothing must be in (0, 1].");
+        Preconditions.checkArgument(trendSmoothing >= 0 && trendSmoothing <= 1, "trendSmoothing must be in [0, 1].");
+        this.profile = Preconditions.checkNotNull(profile, "profile");
+        this.levelSmoothing = levelSmoothing;
+        this.trendSmoothing = trendSmoothing;
+    }
+
+    /**
+     * Includes the given observation in the forecast.
+     *
+     * @param time Time of the observation.
+     * @param rate Observed rate.
+     */
+    void observe(long time, double rate) {
+        double factor = this.profile.getFactor(time);
+        if (this.observationCount == 0) {
+            this.level = rate / factor;
+            this.trend = 0;
+        } else {
+            double minutes = Math.max(0, time - this.lastTime) / MILLIS_PER_MINUTE;
+            double previousLevel = this.level;
+            this.level = Math.max(0, this.levelSmoothing * (rate / factor)
+                    + (1 - this.levelSmoothing) * (previousLevel + this.trend * minutes));
+            if (minutes > 0) {
+                this.trend = this.trendSmoothing * (this.level - previousLevel) / minutes + (1 - this.trendSmoothing) * this.trend;
+            }
+        }
+
+        this.profile.update(time, rate, this.level);
+        this.lastTime = time;
+        this.observationCount++;
+    }
+
+    /**
+     * Forecasts the rate at the given time.
+     *
+     * @param time Time to forecast the rate at. Should not precede the last observation.
+     * @return The forecasted rate, or 0 if there have been no observations.
+     */
+    double forecast(long time) {
+        if (this.observationCount == 0) {
+            return 0;
+        }
+        double minutes = Math.max(0, time - this.lastTime) / MILLIS_PER_MINUTE;
+        return Math.max(0, (this.level + this.trend * minutes) * this.profile.getFactor(time));
+    }
+
+    /**
+     * Forecasts the highest rate between the last observation and the given time.
+     *
+     * @param until End of the forecast interval.
+     * @param step  Interval between forecasted points.
+     * @return The highest forecasted rate.
+     */
+    double forecastPeak(long until, Duration step) {
+        double peak = forecast(this.lastTime);
+        for (long time = this.lastTime + step.toMillis(); time <= until; time += step.toMillis()) {
+            peak = Math.max(peak, forecast(time));
+        }
+        return Math.max(peak, forecast(until));
+    }
+
+    /**
+     * The recurring load pattern of a stream, as a factor (relative to the deseasonalized level) for each of a fixed
+     * number of buckets of a season.
+     */
+    @ThreadSafe
+    static class SeasonalProfile {
+        private static final double MIN_FACTOR = 0.05;
+        private static final double MAX_FACTOR = 20;
+        private final long bucketMillis;
+        private final double smoothing;
+        @GuardedBy("this")
+        private final double[] factors;
+
+        /**
+         * Creates a new instance of the SeasonalProfile class.
+         *
+         * @param season      Length of the season.
+         * @param bucketCount Number of buckets the season is divided into.
+         * @param smoothing   Smoothing factor for the seasonal factors, in [0, 1]. A value of 0 disables seasonality.
+         */
+        SeasonalProfile(Duration season, int bucketCount, double smoothing) {
+            Preconditions.checkArgument(bucketCount > 0 && season.toMillis() >= bucketCount, "Invalid season or bucketCount.");
+            Preconditions.checkArgument(smoothing >= 0 && smoothing <= 1, "smoothing must be in [0, 1].");
+            this.bucketMillis = season.toMillis() / bucketCount;
+            this.smoothing = smoothing;
+            this.factors = new double[bucketCount];
+            Arrays.fill(this.factors, 1.0);
+        }
+
+        synchronized double getFactor(long time) {
+            return this.factors[getBucket(time)];
+        }
+
+        synchronized void update(long time, double rate, double level) {
+            if (level <= 0) {
+                // Nothing can be learned about the relative load from an idle segment.
+                return;
+            }
+            int bucket = getBucket(time);
+            double factor = this.smoothing * (rate / level) + (1 - this.smoothing) * this.factors[bucket];
+            this.factors[bucket] = Math.min(MAX_FACTOR, Math.max(MIN_FACTOR, factor));
+        }
+
+        private int getBucket(long time) {
+            return (int) ((time / this.bucketMillis) % this.factors.length);
+        }
+    }
+}
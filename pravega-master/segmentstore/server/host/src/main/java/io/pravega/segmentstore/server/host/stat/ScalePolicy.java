@@ -0,0 +1,71 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Decides, based on the rates reported for a segment, whether the segment should be split or merged.
+ */
+interface ScalePolicy {
+    /**
+     * Evaluates the rates reported for a segment.
+     *
+     * @param streamSegmentName Fully qualified name of the segment.
+     * @param targetRate        The target rate of the segment's stream.
+     * @param startTime         Time at which the segment started being tracked.
+     * @param twoMinuteRate     Two minute rate of the segment.
+     * @param fiveMinuteRate    Five minute rate of the segment.
+     * @param tenMinuteRate     Ten minute rate of the segment.
+     * @param twentyMinuteRate  Twenty minute rate of the segment.
+     * @param currentTime       Current time.
+     * @return The scale decision for the segment.
+     */
+    Decision evaluate(String streamSegmentName, long targetRate, long startTime, double twoMinuteRate, double fiveMinuteRate,
+                      double tenMinuteRate, double twentyMinuteRate, long currentTime);
+
+    /**
+     * Discards any state held for the given segment, as it is no longer going to be evaluated.
+     *
+     * @param streamSegmentName Fully qualified name of the segment.
+     */
+    default void forget(String streamSegmentName) {
+    }
+
+    /**
+     * The outcome of a {@link #evaluate} call.
+     */
+    @Data
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    class Decision {
+        static final Decision NONE = new Decision(Direction.NONE, 0);
+        static final Decision DOWN = new Decision(Direction.DOWN, 0);
+        private final Direction direction;
+        private final int numOfSplits;
+
+        static Decision up(int numOfSplits) {
+            return new Decision(Direction.UP, numOfSplits);
+        }
+    }
+
+    enum Direction {
+        NONE,
+        UP,
+        DOWN
+    }
+}
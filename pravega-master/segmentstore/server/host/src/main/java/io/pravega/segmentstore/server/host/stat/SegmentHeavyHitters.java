@@ -0,0 +1,300 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Data;
+import lombok.NonNull;
+
+/**
+ * Heavy-hitters sketch that keeps track of the busiest Segments using a fixed amount of memory, regardless of how many
+ * Segments are being written to or read from.
+ *
+ * This is an implementation of the Space-Saving algorithm: at most {@link #getCapacity()} Segments are tracked at any
+ * time. When a Segment that is not tracked is recorded and the sketch is full, it takes the place of the tracked
+ * Segment with the smallest load, inheriting that load as its (over)estimation error. Any Segment whose load exceeds
+ * 1/capacity of the total load is guaranteed to be tracked.
+ *
+ * The load of a Segment is the number of bytes written to and read from it. Throughput and write latency are
+ * accumulated separately (from the moment the Segment started being tracked), so they are exact for the tracked
+ * Segments, but may undercount a Segment's traffic prior to it being tracked.
+ *
+ * Reads are recorded on the read path, so they do not update the sketch directly (which would require a lock). They are
+ * accumulated per Segment instead, and folded into the sketch by {@link #getTopAndReset}.
+ */
+@ThreadSafe
+class SegmentHeavyHitters {
+    //region Members
+
+    private static final Comparator<SegmentLoad> HEAVIEST_FIRST = Comparator.comparingLong(SegmentLoad::getLoad).reversed();
+
+    @GuardedBy("this")
+    private final HashMap<String, Entry> entries;
+    /**
+     * Min-heap of the tracked entries, ordered by load, so the lightest entry can be evicted in O(log(capacity)).
+     */
+    @GuardedBy("this")
+    private final Entry[] heap;
+    @GuardedBy("this")
+    private int size;
+    /**
+     * Bytes read from each Segment that have not yet been folded into the sketch.
+     */
+    private final ConcurrentHashMap<String, LongAdder> pendingReads;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link SegmentHeavyHitters} class.
+     *
+     * @param capacity The maximum number of Segments to track.
+     */
+    SegmentHeavyHitters(int capacity) {
+        Preconditions.checkArgument(capacity > 0, "capacity must be a positive number.");
+        this.entries = new HashMap<>(capacity * 2);
+        this.heap = new Entry[capacity];
+        this.size = 0;
+        this.pendingReads = new ConcurrentHashMap<>();
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Gets the maximum number of Segments that are tracked.
+     *
+     * @return The capacity.
+     */
+    int getCapacity() {
+        return this.heap.length;
+    }
+
+    /**
+     * Records writes to a Segment.
+     *
+     * @param segmentName  The name of the Segment.
+     * @param bytes        The number of bytes written.
+     * @param events       The number of events written.
+     * @param appendCount  The number of appends that the writes were made of.
+     * @param latencyNanos The sum of the latencies of these appends, in nanoseconds.
+     */
+    synchronized void recordWrite(@NonNull String segmentName, long bytes, int events, int appendCount, long latencyNanos) {
+        Entry e = getOrTrack(segmentName, bytes);
+        e.writeBytes += bytes;
+        e.writeEvents += events;
+        e.appendCount += appendCount;
+        e.appendLatencyNanos += latencyNanos;
+    }
+
+    /**
+     * Records a read from a Segment. This does not acquire any lock; the read is accounted for in the sketch upon the
+     * next invocation of {@link #getTopAndReset}.
+     *
+     * @param segmentName The name of the Segment.
+     * @param bytes       The number of bytes read.
+     */
+    void recordRead(@NonNull String segmentName, long bytes) {
+        LongAdder pending = this.pendingReads.get(segmentName);
+        if (pending == null) {
+            pending = this.pendingReads.computeIfAbsent(segmentName, s -> new LongAdder());
+        }
+
+        pending.add(bytes);
+    }
+
+    /**
+     * Gets the heaviest tracked Segments and resets the sketch, so that the next call only reflects the load recorded
+     * after this one.
+     *
+     * @param count The maximum number of Segments to return.
+     * @return A List of {@link SegmentLoad}s, heaviest first.
+     */
+    List<SegmentLoad> getTopAndReset(int count) {
+        Preconditions.checkArgument(count >= 0, "count must be a non-negative number.");
+        Entry[] snapshot;
+        synchronized (this) {
+            foldPendingReads();
+            snapshot = Arrays.copyOf(this.heap, this.size);
+            Arrays.fill(this.heap, 0, this.size, null);
+            this.entries.clear();
+            this.size = 0;
+        }
+
+        List<SegmentLoad> result = new ArrayList<>(snapshot.length);
+        for (Entry e : snapshot) {
+            result.add(e.toSegmentLoad());
+        }
+
+        result.sort(HEAVIEST_FIRST);
+        return result.size() <= count ? result : new ArrayList<>(result.subList(0, count));
+    }
+
+    @GuardedBy("this")
+    private void foldPendingReads() {
+        for (Map.Entry<String, LongAdder> r : this.pendingReads.entrySet()) {
+            long bytes = r.getValue().sumThenReset();
+            if (bytes == 0) {
+                // Not read from since the last fold. Stop holding on to it so that we only keep recently read Segments.
+                this.pendingReads.remove(r.getKey(), r.getValue());
+            } else {
+                Entry e = getOrTrack(r.getKey(), bytes);
+                e.readBytes += bytes;
+            }
+        }
+    }
+
+    @GuardedBy("this")
+    private Entry getOrTrack(String segmentName, long load) {
+        Entry e = this.entries.get(segmentName);
+        if (e == null && this.size < this.heap.length) {
+            // There is still room for it; add it as a leaf and move it up to where it belongs.
+            e = new Entry(segmentName, 0);
+            e.load = load;
+            this.heap[this.size] = e;
+            siftUp(this.size++);
+            this.entries.put(segmentName, e);
+            return e;
+        } else if (e == null) {
+            // Evict the lightest Segment and let the new one take its place. We reuse the Entry instance.
+            e = this.heap[0];
+            this.entries.remove(e.segmentName);
+            e.reset(segmentName, e.load);
+            this.entries.put(segmentName, e);
+        }
+
+        e.load += load;
+        siftDown(e.heapIndex);
+        return e;
+    }
+
+    @GuardedBy("this")
+    private void siftUp(int index) {
+        Entry e = this.heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (this.heap[parent].load <= e.load) {
+                break;
+            }
+
+            this.heap[index] = this.heap[parent];
+            this.heap[index].heapIndex = index;
+            index = parent;
+        }
+
+        this.heap[index] = e;
+        e.heapIndex = index;
+    }
+
+    @GuardedBy("this")
+    private void siftDown(int index) {
+        // Loads of tracked entries only ever increase, so they can only move down the heap.
+        Entry e = this.heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= this.size) {
+                break;
+            }
+
+            if (child + 1 < this.size && this.heap[child + 1].load < this.heap[child].load) {
+                child++;
+            }
+
+            if (e.load <= this.heap[child].load) {
+                break;
+            }
+
+            this.heap[index] = this.heap[child];
+            this.heap[index].heapIndex = index;
+            index = child;
+        }
+
+        this.heap[index] = e;
+        e.heapIndex = index;
+    }
+
+    //endregion
+
+    //region Helper Classes
+
+    /**
+     * The load recorded for a single Segment.
+     */
+    @Data
+    static class SegmentLoad {
+        private final String segmentName;
+        /**
+         * The estimated load (bytes written and read) of the Segment. This is an upper bound; the actual load is at
+         * least {@link #getLoad()} - {@link #getLoadError()}.
+         */
+        private final long load;
+        /**
+         * The maximum amount by which {@link #getLoad()} overestimates the actual load.
+         */
+        private final long loadError;
+        private final long writeBytes;
+        private final long writeEvents;
+        private final long readBytes;
+        private final long appendCount;
+        private final long appendLatencyNanos;
+    }
+
+    private static class Entry {
+        private String segmentName;
+        private long load;
+        private long loadError;
+        private long writeBytes;
+        private long writeEvents;
+        private long readBytes;
+        private long appendCount;
+        private long appendLatencyNanos;
+        private int heapIndex;
+
+        Entry(String segmentName, long initialLoad) {
+            reset(segmentName, initialLoad);
+        }
+
+        void reset(String segmentName, long initialLoad) {
+            this.segmentName = segmentName;
+            this.load = initialLoad;
+            this.loadError = initialLoad;
+            this.writeBytes = 0;
+            this.writeEvents = 0;
+            this.readBytes = 0;
+            this.appendCount = 0;
+            this.appendLatencyNanos = 0;
+        }
+
+        SegmentLoad toSegmentLoad() {
+            return new SegmentLoad(this.segmentName, this.load, this.loadError, this.writeBytes, this.writeEvents,
+                    this.readBytes, this.appendCount, this.appendLatencyNanos);
+        }
+    }
+
+    //endregion
+}
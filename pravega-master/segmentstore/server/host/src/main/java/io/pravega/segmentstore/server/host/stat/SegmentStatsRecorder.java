@@ -15,6 +15,7 @@
  */
 package io.pravega.segmentstore.server.host.stat;
 
+import io.pravega.shared.segment.KeyHashSketch;
 import java.time.Duration;
 
 public interface SegmentStatsRecorder extends AutoCloseable {
@@ -62,6 +63,14 @@ public interface SegmentStatsRecorder extends AutoCloseable {
      */
     void recordAppend(String streamSegmentName, long dataLength, int numOfEvents, Duration elapsed);
 
+    /**
+     * Method to record how the events written to a segment are distributed over the hashes of their routing keys.
+     *
+     * @param streamSegmentName segment name.
+     * @param keyHashes         routing key hashes of the events written by a writer since its last report.
+     */
+    void recordKeyHashes(String streamSegmentName, KeyHashSketch keyHashes);
+
     /**
      * Method to notify merge of transaction.
      *
@@ -117,6 +126,10 @@ public interface SegmentStatsRecorder extends AutoCloseable {
             public void recordAppend(String streamSegmentName, long dataLength, int numOfEvents, Duration elapsed) {
             }
 
+            @Override
+            public void recordKeyHashes(String streamSegmentName, KeyHashSketch keyHashes) {
+            }
+
             @Override
             public void merge(String streamSegmentName, long dataLength, int numOfEvents, long txnCreationTime) {
             }
@@ -26,14 +26,18 @@ import io.pravega.segmentstore.contracts.StreamSegmentStore;
 import io.pravega.shared.NameUtils;
 import io.pravega.shared.metrics.Counter;
 import io.pravega.shared.metrics.DynamicLogger;
+import io.pravega.shared.metrics.MetricsConfig;
 import io.pravega.shared.metrics.MetricsProvider;
 import io.pravega.shared.metrics.OpStatsLogger;
 import io.pravega.shared.metrics.StatsLogger;
+import io.pravega.shared.segment.KeyHashSketch;
 import io.pravega.shared.segment.ScaleType;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -41,6 +45,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NonNull;
@@ -53,6 +58,10 @@ import static io.pravega.shared.MetricsNames.SEGMENT_CREATE_LATENCY;
 import static io.pravega.shared.MetricsNames.SEGMENT_READ_BYTES;
 import static io.pravega.shared.MetricsNames.SEGMENT_READ_LATENCY;
 import static io.pravega.shared.MetricsNames.SEGMENT_READ_SIZE;
+import static io.pravega.shared.MetricsNames.SEGMENT_TOP_READ_BYTES;
+import static io.pravega.shared.MetricsNames.SEGMENT_TOP_WRITE_BYTES;
+import static io.pravega.shared.MetricsNames.SEGMENT_TOP_WRITE_EVENTS;
+import static io.pravega.shared.MetricsNames.SEGMENT_TOP_WRITE_LATENCY;
 import static io.pravega.shared.MetricsNames.SEGMENT_WRITE_BYTES;
 import static io.pravega.shared.MetricsNames.SEGMENT_WRITE_EVENTS;
 import static io.pravega.shared.MetricsNames.SEGMENT_WRITE_LATENCY;
@@ -71,8 +80,13 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
     // If cache overflows beyond this, entries will be evicted in order of last accessed.
     // So we will lose relevant traffic history if we have 100k active 'stream segments' across containers
     // where traffic is flowing concurrently.
+    private static final int CACHE_CONCURRENCY_LEVEL = 16; // Accessed on every append batch, from all connections.
 
     private static final int MAX_APPEND_QUEUE_PROCESS_BATCH_SIZE = 10000;
+    // Routing key hashes reported by writers lose half of their weight every 5 minutes, so that split points follow the
+    // recent load.
+    private static final Duration KEY_HASH_HALF_LIFE = Duration.ofMinutes(5);
+    private static final int KEY_LOAD_QUANTILES = 16;
     private static final Duration TIMEOUT = Duration.ofMinutes(1);
     private static final StatsLogger STATS_LOGGER = MetricsProvider.createStatsLogger("segmentstore");
     private final Counter globalSegmentWriteBytes = STATS_LOGGER.createCounter(globalMetricName(SEGMENT_WRITE_BYTES));
@@ -93,18 +107,49 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
     private final ScheduledFuture<?> cacheCleanup;
     private final ScheduledExecutorService executor;
     private final BlockingDrainingQueue<AppendInfo> appendQueue;
+    /**
+     * If positive, per-segment metrics are only reported for this many of the busiest segments, as determined by
+     * {@link #topSegments}.
+     */
+    private final int topSegmentCount;
+    private final SegmentHeavyHitters topSegments;
+    private final ScheduledFuture<?> topSegmentsReport;
+    /**
+     * The segments whose metrics have been reported by the last invocation of {@link #reportTopSegments}.
+     */
+    @GuardedBy("reportedTopSegments")
+    private final Set<String> reportedTopSegments;
 
-    SegmentStatsRecorderImpl(AutoScaleProcessor reporter, StreamSegmentStore store, ScheduledExecutorService executor) {
-        this(reporter, store, DEFAULT_REPORTING_DURATION, DEFAULT_EXPIRY_DURATION, executor);
+    SegmentStatsRecorderImpl(AutoScaleProcessor reporter, StreamSegmentStore store, MetricsConfig metricsConfig,
+                             ScheduledExecutorService executor) {
+        this(reporter, store, DEFAULT_REPORTING_DURATION, DEFAULT_EXPIRY_DURATION, metricsConfig, executor);
+    }
+
+    @VisibleForTesting
+    SegmentStatsRecorderImpl(AutoScaleProcessor reporter, StreamSegmentStore store,
+                             Duration reportingDuration, Duration expiryDuration, ScheduledExecutorService executor) {
+        this(reporter, store, reportingDuration, expiryDuration, MetricsConfig.builder().build(), executor);
     }
 
     @VisibleForTesting
     SegmentStatsRecorderImpl(@NonNull AutoScaleProcessor reporter, @NonNull StreamSegmentStore store,
-                             @NonNull Duration reportingDuration, @NonNull Duration expiryDuration, @NonNull ScheduledExecutorService executor) {
+                             @NonNull Duration reportingDuration, @NonNull Duration expiryDuration,
+                             @NonNull MetricsConfig metricsConfig, @NonNull ScheduledExecutorService executor) {
         this.executor = executor;
+        this.topSegmentCount = metricsConfig.getSegmentMetricsTopK();
+        this.reportedTopSegments = new HashSet<>();
+        if (this.topSegmentCount > 0) {
+            this.topSegments = new SegmentHeavyHitters(metricsConfig.getSegmentMetricsSketchSize());
+            long reportMillis = metricsConfig.getOutputFrequencySeconds().toMillis();
+            this.topSegmentsReport = executor.scheduleAtFixedRate(this::reportTopSegments, reportMillis, reportMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.topSegments = null;
+            this.topSegmentsReport = null;
+        }
+
         this.pendingCacheLoads = Collections.synchronizedSet(new HashSet<>());
 
-        this.cache = new SimpleCache<>(MAX_CACHE_SIZE, expiryDuration, (segment, context) -> context.close());
+        this.cache = new SimpleCache<>(MAX_CACHE_SIZE, CACHE_CONCURRENCY_LEVEL, expiryDuration, (segment, context) -> context.close());
 
         this.cacheCleanup = executor.scheduleAtFixedRate(cache::cleanUp, CACHE_CLEANUP_INTERVAL.toMillis(), 2, TimeUnit.MINUTES);
         this.reportingDuration = reportingDuration;
@@ -137,6 +182,13 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
     public void close() {
         this.appendQueue.close();
         this.cacheCleanup.cancel(true);
+        if (this.topSegmentsReport != null) {
+            this.topSegmentsReport.cancel(true);
+            synchronized (this.reportedTopSegments) {
+                this.reportedTopSegments.forEach(this::freezeTopSegmentMetrics);
+                this.reportedTopSegments.clear();
+            }
+        }
         this.createStreamSegment.close();
         this.readStreamSegment.close();
         this.writeStreamSegment.close();
@@ -170,7 +222,7 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
                         long policyRate = prop.getAttributes().getOrDefault(Attributes.SCALE_POLICY_RATE, Long.MIN_VALUE);
                         if (policyType >= 0 && policyRate >= 0) {
                             val sa = SegmentAggregates.forPolicy(ScaleType.fromValue((byte) policyType), (int) policyRate);
-                            cache.put(streamSegmentName, new SegmentWriteContext(streamSegmentName, sa));
+                            cache.put(streamSegmentName, new SegmentWriteContext(streamSegmentName, sa, isReportingAllSegments()));
                         }
                         pendingCacheLoads.remove(streamSegmentName);
                     }, executor);
@@ -183,7 +235,7 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
         this.createStreamSegment.reportSuccessEvent(elapsed);
         SegmentAggregates sa = SegmentAggregates.forPolicy(ScaleType.fromValue(type), targetRate);
         if (!NameUtils.isTransactionSegment(streamSegmentName)) {
-            cache.put(streamSegmentName, new SegmentWriteContext(streamSegmentName, sa));
+            cache.put(streamSegmentName, new SegmentWriteContext(streamSegmentName, sa, isReportingAllSegments()));
         }
         if (sa.isScalingEnabled()) {
             reporter.notifyCreated(streamSegmentName);
@@ -270,6 +322,8 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
 
                     si.bytes += a.getDataLength();
                     si.events += a.getNumOfEvents();
+                    si.appends++;
+                    si.latencyNanos += a.getElapsed().toNanos();
                 }
             }
 
@@ -278,6 +332,10 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
             for (val e : bySegment.entrySet()) {
                 String segmentName = e.getKey();
                 SegmentWrite si = e.getValue();
+                if (this.topSegments != null) {
+                    this.topSegments.recordWrite(segmentName, si.bytes, si.events, si.appends, si.latencyNanos);
+                }
+
                 val context = getWriteContext(e.getKey());
                 if (context != null) {
                     context.recordWrite(si.bytes, si.events);
@@ -287,7 +345,7 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
                     // we do not know about and hence we can get null and ignore.
                     val aggregates = context.getSegmentAggregates();
                     if (aggregates.update(si.bytes, si.events)) {
-                        reportIfNeeded(segmentName, aggregates);
+                        reportIfNeeded(segmentName, context, aggregates);
                     }
                 }
             }
@@ -296,6 +354,14 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
         }
     }
 
+    @Override
+    public void recordKeyHashes(String streamSegmentName, KeyHashSketch keyHashes) {
+        SegmentWriteContext context = getWriteContext(streamSegmentName);
+        if (context != null && context.getSegmentAggregates().isScalingEnabled()) {
+            context.recordKeyHashes(keyHashes, System.currentTimeMillis());
+        }
+    }
+
     /**
      * Method called with txn stats whenever a txn is committed.
      *
@@ -306,12 +372,16 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
      */
     @Override
     public void merge(String streamSegmentName, long dataLength, int numOfEvents, long txnCreationTime) {
+        if (this.topSegments != null) {
+            this.topSegments.recordWrite(streamSegmentName, dataLength, numOfEvents, 0, 0);
+        }
+
         SegmentWriteContext context = getWriteContext(streamSegmentName);
         if (context != null) {
             context.recordWrite(dataLength, numOfEvents);
             val aggregates = context.getSegmentAggregates();
             if (aggregates.updateTx(dataLength, numOfEvents, txnCreationTime)) {
-                reportIfNeededAsync(streamSegmentName, aggregates);
+                reportIfNeededAsync(streamSegmentName, context, aggregates);
             }
         }
     }
@@ -324,28 +394,75 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
     @Override
     public void read(String segment, int length) {
         this.globalSegmentReadBytes.add(length);
-        this.dynamicLogger.incCounterValue(SEGMENT_READ_BYTES, length, segmentTags(segment));
+        if (isReportingAllSegments()) {
+            this.dynamicLogger.incCounterValue(SEGMENT_READ_BYTES, length, segmentTags(segment));
+        } else {
+            this.topSegments.recordRead(segment, length);
+        }
         this.readSizeDistribution.reportSuccessValue(length);
     }
 
-    private void reportIfNeededAsync(String streamSegmentName, SegmentAggregates aggregates) {
+    private boolean isReportingAllSegments() {
+        return this.topSegments == null;
+    }
+
+    /**
+     * Reports the metrics of the busiest segments since the last invocation of this method (the amount of data and
+     * events written and read, and the average write latency) and stops reporting the segments that are no longer
+     * among the busiest ones. This keeps the number of reported per-segment metrics bounded by {@link #topSegmentCount}.
+     */
+    @VisibleForTesting
+    void reportTopSegments() {
+        try {
+            val top = this.topSegments.getTopAndReset(this.topSegmentCount);
+            synchronized (this.reportedTopSegments) {
+                val previous = new HashSet<>(this.reportedTopSegments);
+                this.reportedTopSegments.clear();
+                for (val s : top) {
+                    String[] tags = segmentTags(s.getSegmentName());
+                    this.dynamicLogger.reportGaugeValue(SEGMENT_TOP_WRITE_BYTES, s.getWriteBytes(), tags);
+                    this.dynamicLogger.reportGaugeValue(SEGMENT_TOP_WRITE_EVENTS, s.getWriteEvents(), tags);
+                    this.dynamicLogger.reportGaugeValue(SEGMENT_TOP_READ_BYTES, s.getReadBytes(), tags);
+                    double latencyMillis = s.getAppendCount() == 0 ? 0 : (double) s.getAppendLatencyNanos() / s.getAppendCount() / 1_000_000;
+                    this.dynamicLogger.reportGaugeValue(SEGMENT_TOP_WRITE_LATENCY, latencyMillis, tags);
+                    this.reportedTopSegments.add(s.getSegmentName());
+                    previous.remove(s.getSegmentName());
+                }
+
+                previous.forEach(this::freezeTopSegmentMetrics);
+            }
+        } catch (Exception ex) {
+            log.warn("Unable to report top segment metrics.", ex);
+        }
+    }
+
+    private void freezeTopSegmentMetrics(String segmentName) {
+        String[] tags = segmentTags(segmentName);
+        this.dynamicLogger.freezeGaugeValue(SEGMENT_TOP_WRITE_BYTES, tags);
+        this.dynamicLogger.freezeGaugeValue(SEGMENT_TOP_WRITE_EVENTS, tags);
+        this.dynamicLogger.freezeGaugeValue(SEGMENT_TOP_READ_BYTES, tags);
+        this.dynamicLogger.freezeGaugeValue(SEGMENT_TOP_WRITE_LATENCY, tags);
+    }
+
+    private void reportIfNeededAsync(String streamSegmentName, SegmentWriteContext context, SegmentAggregates aggregates) {
         if (aggregates.reportIfNeeded(reportingDuration)) {
-            this.executor.execute(() -> report(streamSegmentName, aggregates));
+            this.executor.execute(() -> report(streamSegmentName, context, aggregates));
         }
     }
 
-    private void reportIfNeeded(String streamSegmentName, SegmentAggregates aggregates) {
+    private void reportIfNeeded(String streamSegmentName, SegmentWriteContext context, SegmentAggregates aggregates) {
         if (aggregates.reportIfNeeded(reportingDuration)) {
-            report(streamSegmentName, aggregates);
+            report(streamSegmentName, context, aggregates);
         }
     }
 
-    private void report(String streamSegmentName, SegmentAggregates aggregates) {
+    private void report(String streamSegmentName, SegmentWriteContext context, SegmentAggregates aggregates) {
         try {
             reporter.report(streamSegmentName,
                     aggregates.getTargetRate(), aggregates.getStartTime(),
                     aggregates.getTwoMinuteRate(), aggregates.getFiveMinuteRate(),
-                    aggregates.getTenMinuteRate(), aggregates.getTwentyMinuteRate());
+                    aggregates.getTenMinuteRate(), aggregates.getTwentyMinuteRate(),
+                    context.getKeyLoadQuantiles());
         } catch (Exception ex) {
             log.error("Unable to report Segment Aggregates for '{}'.", streamSegmentName, ex);
         }
@@ -357,9 +474,17 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
         return context == null ? null : context.getSegmentAggregates();
     }
 
+    @VisibleForTesting
+    List<Double> getKeyLoadQuantiles(String streamSegmentName) {
+        SegmentWriteContext context = cache.get(streamSegmentName);
+        return context == null ? null : context.getKeyLoadQuantiles();
+    }
+
     private static class SegmentWrite {
         long bytes = 0;
         int events = 0;
+        int appends = 0;
+        long latencyNanos = 0;
     }
 
     @Data
@@ -376,23 +501,55 @@ class SegmentStatsRecorderImpl implements SegmentStatsRecorder {
         @Getter
         @Setter
         private volatile SegmentAggregates segmentAggregates;
+        @GuardedBy("this")
+        private final KeyHashSketch keyHashes = new KeyHashSketch();
+        @GuardedBy("this")
+        private long lastKeyHashesTime = -1;
 
-        SegmentWriteContext(String segmentName, SegmentAggregates segmentAggregates) {
+        SegmentWriteContext(String segmentName, SegmentAggregates segmentAggregates, boolean reportMetrics) {
             this.segmentAggregates = segmentAggregates;
-            String[] tags = segmentTags(segmentName);
-            this.writeBytes = STATS_LOGGER.createCounter(SEGMENT_WRITE_BYTES, tags);
-            this.writeEvents = STATS_LOGGER.createCounter(SEGMENT_WRITE_EVENTS, tags);
+            if (reportMetrics) {
+                String[] tags = segmentTags(segmentName);
+                this.writeBytes = STATS_LOGGER.createCounter(SEGMENT_WRITE_BYTES, tags);
+                this.writeEvents = STATS_LOGGER.createCounter(SEGMENT_WRITE_EVENTS, tags);
+            } else {
+                // Metrics for this segment are reported by reportTopSegments(), if it is busy enough.
+                this.writeBytes = null;
+                this.writeEvents = null;
+            }
         }
 
         void recordWrite(long bytes, int events) {
-            this.writeBytes.add(bytes);
-            this.writeEvents.add(events);
+            if (this.writeBytes != null) {
+                this.writeBytes.add(bytes);
+                this.writeEvents.add(events);
+            }
+        }
+
+        synchronized void recordKeyHashes(KeyHashSketch newKeyHashes, long currentTime) {
+            if (this.lastKeyHashesTime >= 0) {
+                long elapsed = Math.max(0, currentTime - this.lastKeyHashesTime);
+                this.keyHashes.decay(Math.pow(0.5, (double) elapsed / KEY_HASH_HALF_LIFE.toMillis()));
+            }
+            this.keyHashes.addAll(newKeyHashes);
+            this.lastKeyHashesTime = currentTime;
+        }
+
+        synchronized List<Double> getKeyLoadQuantiles() {
+            double[] quantiles = this.keyHashes.getQuantiles(KEY_LOAD_QUANTILES);
+            List<Double> result = new ArrayList<>(quantiles.length);
+            for (double q : quantiles) {
+                result.add(q);
+            }
+            return result;
         }
 
         @Override
         public void close() {
-            this.writeBytes.close();
-            this.writeEvents.close();
+            if (this.writeBytes != null) {
+                this.writeBytes.close();
+                this.writeEvents.close();
+            }
         }
     }
 }
@@ -0,0 +1,60 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import java.time.Duration;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Scale policy that splits a segment once its rates have exceeded the target rate for long enough, and merges it once
+ * its rates have stayed well below the target rate for twenty minutes.
+ */
+@RequiredArgsConstructor
+class ThresholdScalePolicy implements ScalePolicy {
+    private static final long TWO_MINUTES = Duration.ofMinutes(2).toMillis();
+    private static final long FIVE_MINUTES = Duration.ofMinutes(5).toMillis();
+    private static final long TEN_MINUTES = Duration.ofMinutes(10).toMillis();
+    private static final long TWENTY_MINUTES = Duration.ofMinutes(20).toMillis();
+
+    @NonNull
+    private final AutoScalerConfig configuration;
+
+    @Override
+    public Decision evaluate(String streamSegmentName, long targetRate, long startTime, double twoMinuteRate, double fiveMinuteRate,
+                             double tenMinuteRate, double twentyMinuteRate, long currentTime) {
+        if (currentTime - startTime <= configuration.getCooldownDuration().toMillis()) {
+            return Decision.NONE;
+        }
+
+        if ((twoMinuteRate > 5.0 * targetRate && currentTime - startTime > TWO_MINUTES) ||
+                (fiveMinuteRate > 2.0 * targetRate && currentTime - startTime > FIVE_MINUTES) ||
+                (tenMinuteRate > targetRate && currentTime - startTime > TEN_MINUTES)) {
+            int numOfSplits = Math.max(2, (int) (Double.max(Double.max(twoMinuteRate, fiveMinuteRate), tenMinuteRate) / targetRate));
+            return Decision.up(numOfSplits);
+        }
+
+        if (twoMinuteRate < targetRate &&
+                fiveMinuteRate < targetRate &&
+                tenMinuteRate < targetRate &&
+                twentyMinuteRate < targetRate / 2.0 &&
+                currentTime - startTime > TWENTY_MINUTES) {
+            return Decision.DOWN;
+        }
+
+        return Decision.NONE;
+    }
+}
@@ -16,6 +16,7 @@
 package io.pravega.segmentstore.server.host;
 
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.common.io.FileHelpers;
 import io.pravega.segmentstore.server.store.ServiceBuilder;
 import io.pravega.segmentstore.server.store.ServiceBuilderConfig;
 import io.pravega.segmentstore.server.store.ServiceConfig;
@@ -23,6 +24,8 @@ import io.pravega.segmentstore.storage.ConfigSetup;
 import io.pravega.segmentstore.storage.StorageFactory;
 import io.pravega.segmentstore.storage.StorageLayoutType;
 import io.pravega.segmentstore.storage.chunklayer.ChunkedSegmentStorageConfig;
+import io.pravega.segmentstore.storage.chunklayer.TieredChunkStorageConfig;
+import io.pravega.segmentstore.storage.chunklayer.TieredStorageFactory;
 import io.pravega.segmentstore.storage.mocks.InMemorySimpleStorageFactory;
 import io.pravega.segmentstore.storage.mocks.InMemoryStorageFactory;
 import io.pravega.segmentstore.storage.mocks.SlowStorageFactory;
@@ -40,6 +43,8 @@ import lombok.val;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.concurrent.ScheduledExecutorService;
 
 import static org.junit.Assert.assertTrue;
@@ -104,7 +109,7 @@ public class StorageLoaderTest {
         val extraConfig = StorageExtraConfig.builder()
                 .with(StorageExtraConfig.STORAGE_NO_OP_MODE, false)
                 .build();
-        when(configSetup.getConfig(any())).thenReturn(extraConfig, FileSystemStorageConfig.builder().build());
+        when(configSetup.getConfig(any())).thenReturn(extraConfig, TieredChunkStorageConfig.builder().build(), FileSystemStorageConfig.builder().build());
         Assert.assertNull(getStorageFactory(configSetup, storageType, "FILESYSTEM", StorageLayoutType.ROLLING_STORAGE));
     }
 
@@ -115,7 +120,7 @@ public class StorageLoaderTest {
         val extraConfig = StorageExtraConfig.builder()
                 .with(StorageExtraConfig.STORAGE_NO_OP_MODE, false)
                 .build();
-        when(configSetup.getConfig(any())).thenReturn(extraConfig, ChunkedSegmentStorageConfig.DEFAULT_CONFIG, FileSystemStorageConfig.builder().build());
+        when(configSetup.getConfig(any())).thenReturn(extraConfig, TieredChunkStorageConfig.builder().build(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG, FileSystemStorageConfig.builder().build());
 
         val factory  = getStorageFactory(configSetup, storageType, "FILESYSTEM", StorageLayoutType.CHUNKED_STORAGE);
         assertTrue(factory instanceof FileSystemSimpleStorageFactory);
@@ -128,7 +133,7 @@ public class StorageLoaderTest {
         val extraConfig = StorageExtraConfig.builder()
                 .with(StorageExtraConfig.STORAGE_NO_OP_MODE, false)
                 .build();
-        when(configSetup.getConfig(any())).thenReturn(extraConfig, HDFSStorageConfig.builder().build());
+        when(configSetup.getConfig(any())).thenReturn(extraConfig, TieredChunkStorageConfig.builder().build(), HDFSStorageConfig.builder().build());
         Assert.assertNull(getStorageFactory(configSetup, storageType, "HDFS", StorageLayoutType.ROLLING_STORAGE));
     }
 
@@ -139,7 +144,7 @@ public class StorageLoaderTest {
         val extraConfig = StorageExtraConfig.builder()
                 .with(StorageExtraConfig.STORAGE_NO_OP_MODE, false)
                 .build();
-        when(configSetup.getConfig(any())).thenReturn(extraConfig, ChunkedSegmentStorageConfig.DEFAULT_CONFIG, HDFSStorageConfig.builder().build());
+        when(configSetup.getConfig(any())).thenReturn(extraConfig, TieredChunkStorageConfig.builder().build(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG, HDFSStorageConfig.builder().build());
         val factory = getStorageFactory(configSetup, storageType, "HDFS", StorageLayoutType.CHUNKED_STORAGE);
         assertTrue(factory instanceof HDFSSimpleStorageFactory);
     }
@@ -157,7 +162,7 @@ public class StorageLoaderTest {
         val extraConfig = StorageExtraConfig.builder()
                 .with(StorageExtraConfig.STORAGE_NO_OP_MODE, false)
                 .build();
-        when(configSetup.getConfig(any())).thenReturn(extraConfig, config);
+        when(configSetup.getConfig(any())).thenReturn(extraConfig, TieredChunkStorageConfig.builder().build(), config);
 
         Assert.assertNull(getStorageFactory(configSetup, storageType, "EXTENDEDS3", StorageLayoutType.ROLLING_STORAGE));
     }
@@ -174,7 +179,7 @@ public class StorageLoaderTest {
         val extraConfig = StorageExtraConfig.builder()
                 .with(StorageExtraConfig.STORAGE_NO_OP_MODE, false)
                 .build();
-        when(configSetup.getConfig(any())).thenReturn(extraConfig, ChunkedSegmentStorageConfig.DEFAULT_CONFIG, config);
+        when(configSetup.getConfig(any())).thenReturn(extraConfig, TieredChunkStorageConfig.builder().build(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG, config);
 
         val factory = getStorageFactory(configSetup, storageType, "EXTENDEDS3", StorageLayoutType.CHUNKED_STORAGE);
         assertTrue(factory instanceof ExtendedS3SimpleStorageFactory);
@@ -247,6 +252,47 @@ public class StorageLoaderTest {
         builder.close();
     }
 
+    @Test(timeout = 120000)
+    public void testTieredModeWithInMemoryStorage() throws Exception {
+        @Cleanup("shutdownNow")
+        ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "test");
+        File hotTierRoot = Files.createTempDirectory("hot").toFile();
+        try {
+            ServiceBuilderConfig.Builder configBuilder = ServiceBuilderConfig
+                    .builder()
+                    .include(TieredChunkStorageConfig.builder()
+                            .with(TieredChunkStorageConfig.ENABLED, true)
+                            .with(TieredChunkStorageConfig.HOT_TIER_ROOT, hotTierRoot.getAbsolutePath()))
+                    .include(ServiceConfig.builder()
+                            .with(ServiceConfig.CONTAINER_COUNT, 1)
+                            .with(ServiceConfig.STORAGE_IMPLEMENTATION, ServiceConfig.StorageType.INMEMORY.name()));
+
+            ServiceBuilder builder = ServiceBuilder.newInMemoryBuilder(configBuilder.build())
+                    .withStorageFactory(setup -> {
+                        StorageLoader loader = new StorageLoader();
+                        expectedFactory = loader.load(setup, "INMEMORY", StorageLayoutType.CHUNKED_STORAGE, executor);
+                        return expectedFactory;
+                    });
+            builder.initialize();
+            assertTrue(expectedFactory instanceof TieredStorageFactory);
+            assertTrue(((TieredStorageFactory) expectedFactory).getInner() instanceof InMemorySimpleStorageFactory);
+            builder.close();
+
+            // Rolling storage is not wrapped.
+            builder = ServiceBuilder.newInMemoryBuilder(configBuilder.build())
+                    .withStorageFactory(setup -> {
+                        StorageLoader loader = new StorageLoader();
+                        expectedFactory = loader.load(setup, "INMEMORY", StorageLayoutType.ROLLING_STORAGE, executor);
+                        return expectedFactory;
+                    });
+            builder.initialize();
+            assertTrue(expectedFactory instanceof InMemoryStorageFactory);
+            builder.close();
+        } finally {
+            FileHelpers.deleteFileOrDirectory(hotTierRoot);
+        }
+    }
+
     private StorageFactory getStorageFactory(ConfigSetup setup, ServiceConfig.StorageType storageType, String name, StorageLayoutType storageLayoutType) {
         @Cleanup("shutdownNow")
         ScheduledExecutorService executor = ExecutorServiceHelpers.newScheduledThreadPool(1, "test");
@@ -16,6 +16,7 @@
 package io.pravega.segmentstore.server.host.handler;
 
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.StreamSegmentStore;
 import io.pravega.segmentstore.contracts.tables.TableStore;
 import io.pravega.segmentstore.server.store.ServiceBuilder;
@@ -84,4 +85,36 @@ public class AdminRequestProcessorImplTest extends PravegaRequestProcessorTest {
         processor.listStorageChunks(new WireCommands.ListStorageChunks("dummy", "", 1));
         order.verify(connection).send(new WireCommands.StorageChunksListed(1, List.of(chunkInfo)));
     }
+
+    @Test(timeout = 60000)
+    public void testGetSlowestOperations() throws DurableDataLogException {
+        @Cleanup
+        ServiceBuilder serviceBuilder = newInlineExecutionInMemoryBuilder(getBuilderConfig());
+        serviceBuilder.initialize();
+
+        int containerId = 1;
+        OperationLatencyBreakdown latency = OperationLatencyBreakdown.builder()
+                .operationType("StreamSegmentAppendOperation")
+                .sequenceNumber(2)
+                .segmentId(3)
+                .totalNanos(100)
+                .queueNanos(10)
+                .throttleNanos(20)
+                .batchingNanos(30)
+                .durableWriteNanos(25)
+                .memoryCommitNanos(15)
+                .build();
+        WireCommands.OperationLatencyInfo latencyInfo = new WireCommands.OperationLatencyInfo("StreamSegmentAppendOperation",
+                2, 3, 100, 10, 20, 30, 25, 15);
+        StreamSegmentStore store = mock(StreamSegmentStore.class);
+        when(store.getSlowestOperations(containerId, TIMEOUT)).thenReturn(CompletableFuture.completedFuture(List.of(latency)));
+
+        ServerConnection connection = mock(ServerConnection.class);
+        InOrder order = inOrder(connection);
+        AdminRequestProcessor processor = new AdminRequestProcessorImpl(store, mock(TableStore.class), connection,
+                new IndexAppendProcessor(serviceBuilder.getLowPriorityExecutor(), store));
+
+        processor.getSlowestOperations(new WireCommands.GetSlowestOperations(containerId, "", 1));
+        order.verify(connection).send(new WireCommands.SlowestOperationsListed(1, List.of(latencyInfo)));
+    }
 }
@@ -18,11 +18,20 @@ package io.pravega.segmentstore.server.host.handler;
 import io.pravega.shared.protocol.netty.RequestProcessor;
 import io.pravega.shared.protocol.netty.WireCommand;
 import io.pravega.test.common.AssertExtensions;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.Cleanup;
 import lombok.Getter;
 import lombok.val;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Unit tests for the {@link ConnectionTracker} class.
@@ -138,6 +147,43 @@ public class ConnectionTrackerTests {
         Assert.assertFalse("Expected a connection resume when connection dropped below limit .", c2.isPaused());
     }
 
+    /**
+     * Verifies {@link TrackedConnection#throttle}.
+     */
+    @Test
+    public void testTrackedConnectionThrottle() {
+        val allLimit = ConnectionTracker.LOW_WATERMARK * 4;
+        val singleLimit = ConnectionTracker.LOW_WATERMARK * 2;
+        val baseTracker = new ConnectionTracker(allLimit, singleLimit);
+        val c = new MockConnection();
+        @Cleanup
+        val t = new TrackedConnection(c, baseTracker);
+        val executor = mock(ScheduledExecutorService.class);
+        val endThrottle = ArgumentCaptor.forClass(Runnable.class);
+
+        t.throttle(10, executor);
+        t.throttle(20, executor);
+        verify(executor, times(2)).schedule(endThrottle.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        Assert.assertTrue("Expected a connection pause when throttled.", c.isPaused());
+
+        // The ConnectionTracker would resume it, but it must stay paused while throttled.
+        t.adjustOutstandingBytes(1);
+        Assert.assertTrue("Not expecting a connection resume while throttled.", c.isPaused());
+
+        endThrottle.getAllValues().get(0).run();
+        Assert.assertTrue("Not expecting a connection resume while still throttled.", c.isPaused());
+        Assert.assertTrue(t.isThrottled());
+
+        // Throttling is over, but the connection is over its limit, so it must remain paused.
+        t.adjustOutstandingBytes(singleLimit + 1);
+        endThrottle.getAllValues().get(1).run();
+        Assert.assertFalse(t.isThrottled());
+        Assert.assertTrue("Expected a connection pause when connection over limit.", c.isPaused());
+
+        t.adjustOutstandingBytes(-singleLimit);
+        Assert.assertFalse("Expected a connection resume when connection dropped below limit.", c.isPaused());
+    }
+
     private static class MockConnection implements ServerConnection {
         @Getter
         private boolean paused = false;
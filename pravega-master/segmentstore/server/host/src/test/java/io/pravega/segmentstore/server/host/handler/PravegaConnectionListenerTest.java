@@ -15,8 +15,13 @@
  */
 package io.pravega.segmentstore.server.host.handler;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.pravega.common.io.filesystem.FileModificationEventWatcher;
 import io.pravega.common.io.filesystem.FileModificationMonitor;
@@ -33,6 +38,8 @@ import io.pravega.shared.protocol.netty.AppendDecoder;
 import io.pravega.shared.protocol.netty.CommandDecoder;
 import io.pravega.shared.protocol.netty.CommandEncoder;
 import io.pravega.shared.protocol.netty.ExceptionLoggingHandler;
+import io.pravega.shared.protocol.netty.WireCommand;
+import io.pravega.shared.protocol.netty.WireCommands;
 import io.pravega.test.common.InlineExecutor;
 import io.pravega.test.common.NoOpScheduledExecutor;
 import io.pravega.test.common.SecurityConfigDefaults;
@@ -41,8 +48,11 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.pravega.test.common.TestUtils;
@@ -217,10 +227,60 @@ public class PravegaConnectionListenerTest {
         List<ChannelHandler> stack = listener.createEncodingStack("connection");
         // Check that the order of encoders is the right one.
         Assert.assertTrue(stack.get(0) instanceof ExceptionLoggingHandler);
-        Assert.assertTrue(stack.get(1) instanceof CommandEncoder);
-        Assert.assertTrue(stack.get(2) instanceof LengthFieldBasedFrameDecoder);
-        Assert.assertTrue(stack.get(3) instanceof CommandDecoder);
-        Assert.assertTrue(stack.get(4) instanceof AppendDecoder);
+        Assert.assertTrue(stack.get(1) instanceof FlushConsolidationHandler);
+        Assert.assertTrue(stack.get(2) instanceof CommandEncoder);
+        Assert.assertTrue(stack.get(3) instanceof LengthFieldBasedFrameDecoder);
+        Assert.assertTrue(stack.get(4) instanceof CommandDecoder);
+        Assert.assertTrue(stack.get(5) instanceof AppendDecoder);
+    }
+
+    /**
+     * Verifies that replies sent in quick succession on the same connection are written with as few flushes as possible.
+     */
+    @Test(timeout = 5000)
+    public void testRepliesFlushedTogether() throws Exception {
+        final int replyCount = PravegaConnectionListener.MAX_CONSOLIDATED_FLUSHES + 1;
+        StreamSegmentStore store = mock(StreamSegmentStore.class);
+        @Cleanup("shutdown")
+        ScheduledExecutorService executor = new InlineExecutor();
+        @Cleanup
+        PravegaConnectionListener listener = new PravegaConnectionListener(false, 6622,
+                store, mock(TableStore.class), NoOpScheduledExecutor.get(), new IndexAppendProcessor(executor, store));
+
+        AtomicInteger flushCount = new AtomicInteger();
+        List<ChannelHandler> stack = new ArrayList<>();
+        stack.add(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void flush(ChannelHandlerContext ctx) throws Exception {
+                flushCount.incrementAndGet();
+                super.flush(ctx);
+            }
+        });
+        stack.addAll(listener.createEncodingStack("connection"));
+        ServerConnectionInboundHandler connection = new ServerConnectionInboundHandler();
+        stack.add(connection);
+        @Cleanup("finishAndReleaseAll")
+        EmbeddedChannel channel = new EmbeddedChannel(stack.toArray(new ChannelHandler[0]));
+
+        UUID writerId = UUID.randomUUID();
+        for (int i = 0; i < replyCount; i++) {
+            connection.send(new WireCommands.DataAppended(i, writerId, i, i - 1, i * 10L));
+        }
+
+        Assert.assertTrue("Not expecting anything to be written before the event loop runs.", channel.outboundMessages().isEmpty());
+        channel.runPendingTasks();
+
+        // One flush once MAX_CONSOLIDATED_FLUSHES replies have been written, and one for the remaining reply.
+        Assert.assertEquals(2, flushCount.get());
+        for (int i = 0; i < replyCount; i++) {
+            ByteBuf encoded = channel.readOutbound();
+            Assert.assertNotNull("Missing reply " + i, encoded);
+            WireCommand decoded = CommandDecoder.parseCommand(encoded);
+            encoded.release();
+            Assert.assertEquals(new WireCommands.DataAppended(i, writerId, i, i - 1, i * 10L), decoded);
+        }
+
+        Assert.assertNull(channel.readOutbound());
     }
 
     @Test(timeout = 5000)
@@ -77,6 +77,8 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -122,6 +124,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -638,6 +641,54 @@ public class PravegaRequestProcessorTest {
         // so createSegmentStats may record 1 or 2 createSegment operation here.
     }
 
+    @Test(timeout = 20000)
+    public void testCreateSealDeleteSegmentsBatch() throws Exception {
+        String segment1 = "scope/stream/testSegmentsBatch1";
+        String segment2 = "scope/stream/testSegmentsBatch2";
+        List<String> segments = Arrays.asList(segment1, segment2);
+        @Cleanup
+        ServiceBuilder serviceBuilder = newInlineExecutionInMemoryBuilder(getBuilderConfig());
+        serviceBuilder.initialize();
+        StreamSegmentStore store = serviceBuilder.createStreamSegmentService();
+        ServerConnection connection = mock(ServerConnection.class);
+        InOrder order = inOrder(connection);
+        val recorderMock = mock(SegmentStatsRecorder.class);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store, mock(TableStore.class), new TrackedConnection(connection),
+                recorderMock, TableSegmentStatsRecorder.noOp(), new PassingTokenVerifier(), false,
+                new IndexAppendProcessor(serviceBuilder.getLowPriorityExecutor(), store));
+
+        // Segments that are already in the requested state do not fail the batch.
+        processor.createSegment(new WireCommands.CreateSegment(1, segment1, WireCommands.CreateSegment.NO_SCALE, 0, "", 0));
+        processor.createSegmentsBatch(new WireCommands.CreateSegmentsBatch(2, segments, WireCommands.CreateSegment.NO_SCALE, 0, "", 1024L));
+        order.verify(connection).send(new WireCommands.SegmentCreated(1, segment1));
+        order.verify(connection).send(new WireCommands.SegmentsBatchCreated(2, segments));
+        verify(recorderMock, times(1)).createSegment(eq(segment1), eq(WireCommands.CreateSegment.NO_SCALE), eq(0), any());
+        verify(recorderMock, times(1)).createSegment(eq(segment2), eq(WireCommands.CreateSegment.NO_SCALE), eq(0), any());
+        Assert.assertEquals(1024L, (long) store.getStreamSegmentInfo(segment2, PravegaRequestProcessor.TIMEOUT).join()
+                .getAttributes().get(Attributes.ROLLOVER_SIZE));
+        assertFalse(store.getStreamSegmentInfo(getIndexSegmentName(segment2), PravegaRequestProcessor.TIMEOUT).join().isDeleted());
+
+        processor.sealSegment(new WireCommands.SealSegment(3, segment1, ""));
+        processor.sealSegmentsBatch(new WireCommands.SealSegmentsBatch(4, segments, ""));
+        order.verify(connection).send(new WireCommands.SegmentSealed(3, segment1));
+        order.verify(connection).send(new WireCommands.SegmentsBatchSealed(4, segments));
+        assertTrue(store.getStreamSegmentInfo(segment2, PravegaRequestProcessor.TIMEOUT).join().isSealed());
+
+        // A failure of any segment fails the whole batch.
+        processor.sealSegmentsBatch(new WireCommands.SealSegmentsBatch(5, Arrays.asList(segment1, "scope/stream/missing"), ""));
+        order.verify(connection).send(Mockito.any(WireCommands.NoSuchSegment.class));
+
+        processor.deleteSegmentsBatch(new WireCommands.DeleteSegmentsBatch(6, Arrays.asList(segment1, segment2, "scope/stream/missing"), ""));
+        order.verify(connection).send(new WireCommands.SegmentsBatchDeleted(6, Arrays.asList(segment1, segment2, "scope/stream/missing")));
+        for (String segment : segments) {
+            assertThrows(StreamSegmentNotExistsException.class, () -> store.getStreamSegmentInfo(segment, PravegaRequestProcessor.TIMEOUT).join());
+            assertThrows(StreamSegmentNotExistsException.class,
+                    () -> store.getStreamSegmentInfo(getIndexSegmentName(segment), PravegaRequestProcessor.TIMEOUT).join());
+        }
+        verify(recorderMock).deleteSegment(segment1);
+        verify(recorderMock).deleteSegment(segment2);
+    }
+
     @Test(timeout = 20000)
     public void testTransaction() throws Exception {
         String streamSegmentName = "scope/stream/testTxn";
@@ -791,6 +842,37 @@ public class PravegaRequestProcessorTest {
         order.verifyNoMoreInteractions();
     }
 
+    @Test(timeout = 20000)
+    public void testIndexSegmentUpdatedBeforeBatchMergeReply() throws Exception {
+        String streamSegmentName = "scope/stream/testTxn";
+        UUID txnid = UUID.randomUUID();
+        @Cleanup
+        ServiceBuilder serviceBuilder = newInlineExecutionInMemoryBuilder(getBuilderConfig());
+        serviceBuilder.initialize();
+        StreamSegmentStore store = spy(serviceBuilder.createStreamSegmentService());
+        ServerConnection connection = mock(ServerConnection.class);
+        IndexAppendProcessor indexAppendProcessor = spy(new IndexAppendProcessor(serviceBuilder.getLowPriorityExecutor(), store));
+        InOrder order = inOrder(indexAppendProcessor, connection);
+        PravegaRequestProcessor processor = new PravegaRequestProcessor(store,  mock(TableStore.class), connection, indexAppendProcessor);
+
+        processor.createSegment(new WireCommands.CreateSegment(requestId, streamSegmentName, WireCommands.CreateSegment.NO_SCALE, 0, "", 0));
+        order.verify(connection).send(new WireCommands.SegmentCreated(requestId, streamSegmentName));
+        String transactionName = NameUtils.getTransactionNameFromId(streamSegmentName, txnid);
+        processor.createSegment(new WireCommands.CreateSegment(requestId, transactionName, WireCommands.CreateSegment.NO_SCALE, 0, "", 0));
+        order.verify(connection).send(new WireCommands.SegmentCreated(requestId, transactionName));
+        assertTrue(append(transactionName, 1, store));
+
+        // Hold the index segment update and verify that the merge is not acknowledged until it completes.
+        CompletableFuture<Map<AttributeId, Long>> indexAttributes = new CompletableFuture<>();
+        doReturn(indexAttributes).when(store).getAttributes(eq(getIndexSegmentName(streamSegmentName)), any(), anyBoolean(), any());
+        processor.mergeSegmentsBatch(new WireCommands.MergeSegmentsBatch(requestId, streamSegmentName, ImmutableList.of(transactionName), ""));
+        verify(connection, never()).send(Mockito.any(WireCommands.SegmentsBatchMerged.class));
+
+        indexAttributes.complete(Map.of(Attributes.EXPECTED_INDEX_SEGMENT_EVENT_SIZE, 0L));
+        order.verify(indexAppendProcessor).processAppend(streamSegmentName, 0L);
+        order.verify(connection).send(new WireCommands.SegmentsBatchMerged(requestId, streamSegmentName, ImmutableList.of(transactionName), ImmutableList.of(1L)));
+    }
+
     @Test(timeout = 20000)
     public void testIndexSegmentUpdateOnTransientSegmentMerge() throws Exception {
         String streamSegmentName = "scope/stream/testTxn";
@@ -929,12 +1011,11 @@ public class PravegaRequestProcessorTest {
 
         doReturn(Futures.failedFuture(new StreamSegmentNotExistsException(streamSegmentName))).when(store).sealStreamSegment(
                 anyString(), any());
-        SegmentProperties segmentProperties = StreamSegmentInformation.builder().name(streamSegmentName).length(123).build();
-        doReturn(CompletableFuture.completedFuture(segmentProperties)).when(store).getStreamSegmentInfo(anyString(), any());
+        // The Segment Container reports sources that were already merged with the current length of the target.
         doReturn(Futures.failedFuture(new StreamSegmentNotExistsException(streamSegmentName)))
-                .doReturn(Futures.failedFuture(new StreamSegmentMergedException(streamSegmentName)))
-                .when(store).mergeStreamSegment(
-                anyString(), anyString(), any(), any());
+                .doReturn(CompletableFuture.completedFuture(List.of(new MergeStreamSegmentResult(123L, 0L, Collections.emptyMap()))))
+                .when(store).mergeStreamSegments(
+                anyString(), any(), any(), any());
         PravegaRequestProcessor processor = new PravegaRequestProcessor(store,  mock(TableStore.class), connection,
                 new IndexAppendProcessor(serviceBuilder.getLowPriorityExecutor(), store));
         processor.createSegment(new WireCommands.CreateSegment(requestId, transactionName, WireCommands.CreateSegment.NO_SCALE, 0, "", 0));
@@ -1857,9 +1938,15 @@ public class PravegaRequestProcessorTest {
                         e.getKey().getKeyVersion()))
                 .collect(Collectors.toList());
 
-        assertEquals("Expecting 2 entries left in the TableSegment", 2, results.size());
+        assertEquals("Expecting 2 entries left in the TableSegment and 1 removed key", 3, results.size());
         // Does not container entry removed.
         assertFalse(results.contains(e5));
+        // The removed key is reported with a NOT_EXISTS version.
+        val removed = results.stream().filter(e -> e.getKey().getVersion() == WireCommands.TableKey.NOT_EXISTS)
+                             .collect(Collectors.toList());
+        assertEquals(1, removed.size());
+        assertEquals(keys.get(1), removed.get(0).getKey().getKey());
+        assertEquals(0, removed.get(0).getValue().getLength());
     }
 
     @Test(timeout = 10000)
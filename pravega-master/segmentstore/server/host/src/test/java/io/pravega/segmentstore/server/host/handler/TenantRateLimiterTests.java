@@ -0,0 +1,109 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.handler;
+
+import io.pravega.shared.NameUtils;
+import io.pravega.test.common.AssertExtensions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link TenantRateLimiter} class.
+ */
+public class TenantRateLimiterTests {
+    private static final int RATE = 1000;
+
+    @Test
+    public void testConstructor() {
+        AssertExtensions.assertThrows(
+                "Constructor accepted a non-positive rate.",
+                () -> new TenantRateLimiter(0),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Verifies that a tenant may burst up to its rate and is then asked to back off until it paid back its debt.
+     */
+    @Test
+    public void testAcquire() {
+        val time = new AtomicLong();
+        val l = new TenantRateLimiter(RATE, time::get);
+
+        // Initial burst.
+        Assert.assertEquals(0, l.acquire("scope/stream/0", RATE / 2));
+        Assert.assertEquals(0, l.acquire("scope/stream/1", RATE / 2));
+
+        // Out of tokens: a quarter of the rate takes a quarter of a second to pay back.
+        Assert.assertEquals(250, l.acquire("scope/stream/0", RATE / 4));
+
+        // Other tenants are not affected.
+        Assert.assertEquals(0, l.acquire("scope2/stream/0", RATE));
+
+        // Refill.
+        time.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        Assert.assertEquals(0, l.acquire("scope/stream/0", 0));
+        Assert.assertEquals(100, l.acquire("scope/stream/0", RATE / 10));
+
+        // The bucket never holds more than one second's worth of tokens.
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Assert.assertEquals(0, l.acquire("scope/stream/0", RATE));
+        Assert.assertEquals(1, l.acquire("scope/stream/0", 1));
+    }
+
+    /**
+     * Verifies that the buckets of idle tenants are discarded, but only once they have paid back their debt.
+     */
+    @Test
+    public void testExpiration() {
+        val time = new AtomicLong();
+        val l = new TenantRateLimiter(RATE, time::get);
+        Assert.assertEquals(0, l.acquire("scope1/stream/0", RATE));
+        Assert.assertEquals(99000, l.acquire("scope2/stream/0", RATE * 100));
+        Assert.assertEquals(2, l.getTenantCount());
+
+        // Not yet expired.
+        time.addAndGet(TenantRateLimiter.BUCKET_EXPIRATION_NANOS - 1);
+        Assert.assertEquals(0, l.acquire("scope3/stream/0", 0));
+        Assert.assertEquals(3, l.getTenantCount());
+
+        // The first tenant is idle and its bucket is full, but the second one is still in debt.
+        time.addAndGet(1);
+        Assert.assertEquals(0, l.acquire("scope3/stream/0", 0));
+        Assert.assertEquals(2, l.getTenantCount());
+
+        // The second tenant has paid back its debt and the third one is idle too. A new bucket is created for the first one.
+        time.addAndGet(TenantRateLimiter.BUCKET_EXPIRATION_NANOS);
+        Assert.assertEquals(0, l.acquire("scope1/stream/0", RATE));
+        Assert.assertEquals(1, l.getTenantCount());
+        Assert.assertEquals(0, l.acquire("scope2/stream/0", RATE));
+        Assert.assertEquals(2, l.getTenantCount());
+    }
+
+    /**
+     * Verifies that internal Segments and Segments without a Scope are never throttled.
+     */
+    @Test
+    public void testExempt() {
+        val l = new TenantRateLimiter(RATE, () -> 0L);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(0, l.acquire(NameUtils.INTERNAL_SCOPE_NAME + "/stream/0", RATE));
+            Assert.assertEquals(0, l.acquire("segment", RATE));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import com.google.common.base.Preconditions;
+import io.pravega.shared.NameUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Replays a trace of the rate of a stream through a {@link ScalePolicy} and reports the resulting scale events and the
+ * number of minutes during which some segment of the stream was overloaded (received more than the target rate).
+ *
+ * The simulation runs with a one minute resolution. The load of the stream is spread over its segments according to the
+ * share of the key space they own, each segment computes exponentially weighted rates like {@link SegmentAggregates}
+ * and reports them periodically, scale requests are muted like {@link AutoScaleProcessor} does, and requested scale
+ * operations are applied after a fixed delay. Like the Controller, two neighbouring segments are merged once both have
+ * requested a scale down.
+ */
+@RequiredArgsConstructor
+class AutoScaleReplay {
+    private static final String SCOPE = "replay";
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final double[] RATE_WEIGHTS = {
+            1 - Math.exp(-1.0 / 2), 1 - Math.exp(-1.0 / 5), 1 - Math.exp(-1.0 / 10), 1 - Math.exp(-1.0 / 20)};
+    private final ScalePolicy policy;
+    private final long targetRate;
+    private final Duration reportingInterval;
+    private final Duration muteDuration;
+    private final Duration scaleDelay;
+
+    /**
+     * Reads a rate trace from a file that contains the rate of the stream for each minute, one per line.
+     *
+     * @param path Path of the file.
+     * @return The rate for each minute.
+     * @throws IOException If the file could not be read.
+     */
+    static double[] readTrace(Path path) throws IOException {
+        return Files.readAllLines(path).stream()
+                    .map(String::trim)
+                    .filter(l -> !l.isEmpty() && !l.startsWith("#"))
+                    .mapToDouble(Double::parseDouble)
+                    .toArray();
+    }
+
+    /**
+     * Replays the given trace.
+     *
+     * @param stream             Name of the stream.
+     * @param ratePerMinute      The rate of the stream for each minute.
+     * @param measureAfterMinute Overload minutes are only counted from this minute on (e.g., to skip the time needed to
+     *                           learn the load pattern).
+     * @return The outcome of the replay.
+     */
+    Result replay(String stream, double[] ratePerMinute, int measureAfterMinute) {
+        Preconditions.checkArgument(ratePerMinute.length > 0, "Empty trace.");
+        long reportingMinutes = Math.max(1, reportingInterval.toMinutes());
+        List<SimulatedSegment> segments = new ArrayList<>();
+        segments.add(new SimulatedSegment(NameUtils.getQualifiedStreamSegmentName(SCOPE, stream, 0L), 1.0, 0L));
+        long nextSegmentNumber = 1;
+        Result result = new Result();
+        long segmentMinutes = 0;
+        for (int minute = 0; minute < ratePerMinute.length; minute++) {
+            long now = minute * MINUTE;
+
+            // Apply the scale operations that are due.
+            List<SimulatedSegment> scaled = new ArrayList<>();
+            for (int i = 0; i < segments.size(); i++) {
+                SimulatedSegment s = segments.get(i);
+                if (s.splitTime >= 0 && s.splitTime <= now) {
+                    for (int j = 0; j < s.splits; j++) {
+                        scaled.add(new SimulatedSegment(NameUtils.getQualifiedStreamSegmentName(SCOPE, stream, nextSegmentNumber++),
+                                s.share / s.splits, now));
+                    }
+                    policy.forget(s.name);
+                    result.splits++;
+                } else if (i + 1 < segments.size() && s.mergeRequested && segments.get(i + 1).mergeRequested
+                        && segments.get(i + 1).splitTime < 0) {
+                    SimulatedSegment next = segments.get(++i);
+                    scaled.add(new SimulatedSegment(NameUtils.getQualifiedStreamSegmentName(SCOPE, stream, nextSegmentNumber++),
+                            s.share + next.share, now));
+                    policy.forget(s.name);
+                    policy.forget(next.name);
+                    result.merges++;
+                } else {
+                    scaled.add(s);
+                }
+            }
+            segments = scaled;
+
+            // Update the rates and check for overload.
+            boolean overloaded = false;
+            for (SimulatedSegment s : segments) {
+                double rate = ratePerMinute[minute] * s.share;
+                s.updateRates(rate);
+                overloaded |= rate > targetRate;
+            }
+            if (overloaded && minute >= measureAfterMinute) {
+                result.overloadMinutes++;
+            }
+            segmentMinutes += segments.size();
+            result.maxSegmentCount = Math.max(result.maxSegmentCount, segments.size());
+
+            // Report the rates.
+            if (minute % reportingMinutes == 0) {
+                for (SimulatedSegment s : segments) {
+                    ScalePolicy.Decision decision = policy.evaluate(s.name, targetRate, s.startTime, s.rates[0], s.rates[1],
+                            s.rates[2], s.rates[3], now);
+                    if (decision.getDirection() == ScalePolicy.Direction.UP && now - s.lastScaleUpRequest > muteDuration.toMillis()
+                            && s.splitTime < 0) {
+                        s.lastScaleUpRequest = now;
+                        s.lastScaleDownRequest = now;
+                        s.mergeRequested = false;
+                        s.splitTime = now + scaleDelay.toMillis();
+                        s.splits = decision.getNumOfSplits();
+                    } else if (decision.getDirection() == ScalePolicy.Direction.DOWN
+                            && now - s.lastScaleDownRequest > muteDuration.toMillis()) {
+                        s.lastScaleDownRequest = now;
+                        s.mergeRequested = true;
+                    }
+                }
+            }
+        }
+
+        result.averageSegmentCount = (double) segmentMinutes / ratePerMinute.length;
+        return result;
+    }
+
+    @Data
+    static class Result {
+        private int splits;
+        private int merges;
+        private int overloadMinutes;
+        private int maxSegmentCount;
+        private double averageSegmentCount;
+
+        @Override
+        public String toString() {
+            return String.format("Splits: %d, Merges: %d, Overload minutes: %d, Segments: %.2f average, %d max",
+                    splits, merges, overloadMinutes, averageSegmentCount, maxSegmentCount);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class SimulatedSegment {
+        private final String name;
+        private final double share;
+        private final long startTime;
+        private final double[] rates = new double[RATE_WEIGHTS.length];
+        private long lastScaleUpRequest = Long.MIN_VALUE / 2;
+        private long lastScaleDownRequest = Long.MIN_VALUE / 2;
+        private boolean mergeRequested;
+        private long splitTime = -1;
+        private int splits;
+
+        void updateRates(double rate) {
+            for (int i = 0; i < rates.length; i++) {
+                rates[i] = rates[i] == 0 ? rate : rates[i] + RATE_WEIGHTS[i] * (rate - rates[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import io.pravega.shared.NameUtils;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Random;
+import lombok.val;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for the {@link PredictiveScalePolicy} and {@link RateForecaster} classes.
+ */
+public class PredictiveScalePolicyTest {
+    private static final String SCOPE = "scope";
+    private static final String STREAM = "stream";
+    private static final long MINUTE = Duration.ofMinutes(1).toMillis();
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final int TRACE_DAYS = 6;
+    private static final long TARGET_RATE = 1000;
+
+    /**
+     * Tests that the forecaster learns a recurring load pattern.
+     */
+    @Test
+    public void testSeasonalForecast() {
+        Duration season = Duration.ofHours(4);
+        val profile = new RateForecaster.SeasonalProfile(season, 4, 0.5);
+        val forecaster = new RateForecaster(profile, 0.05, 0.01);
+        assertEquals(0, forecaster.forecast(0), 0);
+
+        // The rate is 100 during the first half of the season and 400 during the second half.
+        long time = 0;
+        for (; time < 3 * season.toMillis(); time += 10 * MINUTE) {
+            forecaster.observe(time, (time % season.toMillis()) < 2 * HOUR ? 100 : 400);
+        }
+
+        double low = forecaster.forecast(3 * season.toMillis() + 30 * MINUTE);
+        double high = forecaster.forecast(3 * season.toMillis() + 2 * HOUR + 30 * MINUTE);
+        assertTrue("Unexpected forecast " + low, low > 50 && low < 150);
+        assertTrue("Unexpected forecast " + high, high > 300 && high < 500);
+        assertTrue(forecaster.forecastPeak(3 * season.toMillis() + 3 * HOUR, Duration.ofMinutes(10)) >= high);
+    }
+
+    /**
+     * Tests that segments that do not have enough observations yet are evaluated by the threshold policy.
+     */
+    @Test
+    public void testFallback() {
+        val policy = new PredictiveScalePolicy(AutoScalerConfig.builder().build());
+        long startTime = -30 * MINUTE;
+        assertEquals(ScalePolicy.Decision.up(100), policy.evaluate(segment(0), 10, startTime, 1001, 500, 200, 200, 0));
+        assertEquals(ScalePolicy.Decision.NONE, policy.evaluate(segment(1), 10, startTime, 10, 10, 10, 10, 0));
+    }
+
+    /**
+     * Tests that a segment is only merged after several consecutive reports agree that its load is (and will stay) low.
+     */
+    @Test
+    public void testScaleDownHysteresis() {
+        val policy = new PredictiveScalePolicy(AutoScalerConfig.builder().build());
+        String segment = segment(0);
+
+        // Reports during the cool down period and in the first twenty minutes never trigger a scale.
+        for (long time = 2 * MINUTE; time <= 20 * MINUTE; time += 2 * MINUTE) {
+            assertEquals(ScalePolicy.Decision.NONE, policy.evaluate(segment, TARGET_RATE, 0, 200, 200, 200, 200, time));
+        }
+
+        assertEquals(ScalePolicy.Decision.NONE, policy.evaluate(segment, TARGET_RATE, 0, 200, 200, 200, 200, 22 * MINUTE));
+        assertEquals(ScalePolicy.Decision.NONE, policy.evaluate(segment, TARGET_RATE, 0, 200, 200, 200, 200, 24 * MINUTE));
+        assertEquals(ScalePolicy.Decision.DOWN, policy.evaluate(segment, TARGET_RATE, 0, 200, 200, 200, 200, 26 * MINUTE));
+
+        // A single report with a higher rate starts the count over.
+        assertEquals(ScalePolicy.Decision.NONE, policy.evaluate(segment, TARGET_RATE, 0, 200, 200, 200, 200, 28 * MINUTE));
+        assertEquals(ScalePolicy.Decision.NONE, policy.evaluate(segment, TARGET_RATE, 0, 500, 200, 200, 200, 30 * MINUTE));
+        assertEquals(ScalePolicy.Decision.NONE, policy.evaluate(segment, TARGET_RATE, 0, 200, 200, 200, 200, 32 * MINUTE));
+        assertEquals(ScalePolicy.Decision.NONE, policy.evaluate(segment, TARGET_RATE, 0, 200, 200, 200, 200, 34 * MINUTE));
+        assertEquals(ScalePolicy.Decision.DOWN, policy.evaluate(segment, TARGET_RATE, 0, 200, 200, 200, 200, 36 * MINUTE));
+    }
+
+    /**
+     * Replays a few days of a daily load pattern through both policies and verifies that the predictive policy keeps
+     * segments from being overloaded much better, without noticeably more scale operations.
+     */
+    @Test(timeout = 60000)
+    public void testReplay() {
+        double[] trace = generateDailyTrace(TRACE_DAYS, new Random(0));
+        int measureAfter = (int) Duration.ofDays(1).toMinutes();
+        val threshold = replay(new ThresholdScalePolicy(createConfig(false)), trace, measureAfter);
+        val predictive = replay(new PredictiveScalePolicy(createConfig(true)), trace, measureAfter);
+
+        assertTrue(String.format("Threshold: %s; Predictive: %s", threshold, predictive),
+                predictive.getOverloadMinutes() * 2 < threshold.getOverloadMinutes());
+        assertTrue(String.format("Threshold: %s; Predictive: %s", threshold, predictive),
+                predictive.getSplits() + predictive.getMerges() <= 1.25 * (threshold.getSplits() + threshold.getMerges()));
+    }
+
+    /**
+     * Replays a rate trace through both policies and prints the outcome. The trace is read from the file given by the
+     * "replay.trace" system property (one rate per minute, per line) or, if not set, a daily load pattern is generated.
+     */
+    @Test
+    @Ignore("Benchmark")
+    public void replayTrace() throws Exception {
+        String tracePath = System.getProperty("replay.trace");
+        double[] trace = tracePath == null
+                ? generateDailyTrace(14, new Random(0))
+                : AutoScaleReplay.readTrace(Paths.get(tracePath));
+        int measureAfter = (int) Math.min(Duration.ofDays(1).toMinutes(), trace.length / 2);
+        System.out.println(String.format("Trace: %d minutes. Overload minutes counted after minute %d.", trace.length, measureAfter));
+        System.out.println("Threshold:  " + replay(new ThresholdScalePolicy(createConfig(false)), trace, measureAfter));
+        System.out.println("Predictive: " + replay(new PredictiveScalePolicy(createConfig(true)), trace, measureAfter));
+    }
+
+    private AutoScaleReplay.Result replay(ScalePolicy policy, double[] trace, int measureAfter) {
+        val config = createConfig(false);
+        return new AutoScaleReplay(policy, TARGET_RATE, Duration.ofMinutes(2), config.getMuteDuration(), Duration.ofMinutes(1))
+                .replay(STREAM, trace, measureAfter);
+    }
+
+    private AutoScalerConfig createConfig(boolean predictive) {
+        return AutoScalerConfig.builder().with(AutoScalerConfig.PREDICTIVE_ENABLED, predictive).build();
+    }
+
+    /**
+     * Generates a daily load pattern that varies between 0.3 and 4.1 times the target rate, with noise and a short
+     * burst every morning.
+     */
+    private double[] generateDailyTrace(int days, Random random) {
+        int minutesPerDay = (int) Duration.ofDays(1).toMinutes();
+        double[] trace = new double[days * minutesPerDay];
+        for (int minute = 0; minute < trace.length; minute++) {
+            int minuteOfDay = minute % minutesPerDay;
+            double phase = 2 * Math.PI * minuteOfDay / minutesPerDay;
+            trace[minute] = TARGET_RATE * (2.2 + 1.9 * Math.sin(phase - Math.PI / 2)) * (1 + 0.05 * random.nextGaussian());
+            if (minuteOfDay >= 600 && minuteOfDay < 630) {
+                trace[minute] *= 1.8;
+            }
+        }
+        return trace;
+    }
+
+    private String segment(long segmentId) {
+        return NameUtils.getQualifiedStreamSegmentName(SCOPE, STREAM, segmentId);
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.host.stat;
+
+import java.util.ArrayList;
+import java.util.Random;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link SegmentHeavyHitters} class.
+ */
+public class SegmentHeavyHittersTest {
+    private static final int CAPACITY = 20;
+
+    /**
+     * Tests that exact values are reported when there are fewer segments than the capacity of the sketch.
+     */
+    @Test
+    public void testExact() {
+        val s = new SegmentHeavyHitters(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            s.recordWrite(getSegmentName(i), i * 10, i, 1, i * 1000);
+            s.recordRead(getSegmentName(i), i);
+        }
+
+        val top = s.getTopAndReset(5);
+        Assert.assertEquals(5, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            int expected = CAPACITY - 1 - i;
+            val load = top.get(i);
+            Assert.assertEquals(getSegmentName(expected), load.getSegmentName());
+            Assert.assertEquals(expected * 11, load.getLoad());
+            Assert.assertEquals(0, load.getLoadError());
+            Assert.assertEquals(expected * 10, load.getWriteBytes());
+            Assert.assertEquals(expected, load.getWriteEvents());
+            Assert.assertEquals(expected, load.getReadBytes());
+            Assert.assertEquals(1, load.getAppendCount());
+            Assert.assertEquals(expected * 1000, load.getAppendLatencyNanos());
+        }
+
+        // Verify that the sketch has been reset.
+        Assert.assertTrue(s.getTopAndReset(5).isEmpty());
+    }
+
+    /**
+     * Tests that the heaviest segments are found among a much larger number of lighter ones.
+     */
+    @Test
+    public void testHeavyHitters() {
+        final int heavyCount = 5;
+        final int lightCount = 10000;
+        val rnd = new Random(0);
+        val s = new SegmentHeavyHitters(CAPACITY);
+        for (int i = 0; i < 100000; i++) {
+            if (i % 2 == 0) {
+                // Half of the load goes to the heavy segments, so each of them gets 10% of the total. Anything above
+                // 1/CAPACITY (5%) is guaranteed to be tracked.
+                s.recordWrite(getSegmentName(rnd.nextInt(heavyCount)), 100, 1, 1, 0);
+            } else {
+                s.recordRead(getSegmentName(heavyCount + rnd.nextInt(lightCount)), 100);
+            }
+        }
+
+        val top = s.getTopAndReset(heavyCount);
+        Assert.assertEquals(heavyCount, top.size());
+        for (val load : top) {
+            int index = Integer.parseInt(load.getSegmentName().substring(load.getSegmentName().lastIndexOf('/') + 1));
+            Assert.assertTrue("Unexpected segment among the heaviest ones: " + load, index < heavyCount);
+            Assert.assertTrue(load.getLoad() >= load.getWriteBytes() + load.getReadBytes());
+            Assert.assertTrue(load.getLoad() - load.getLoadError() <= load.getWriteBytes() + load.getReadBytes());
+        }
+
+        for (int i = 1; i < top.size(); i++) {
+            Assert.assertTrue(top.get(i - 1).getLoad() >= top.get(i).getLoad());
+        }
+    }
+
+    /**
+     * Tests that concurrent reads are all accounted for once the sketch is reported.
+     */
+    @Test(timeout = 30000)
+    public void testConcurrentReads() throws Exception {
+        final int threadCount = 4;
+        final int readsPerThread = 10000;
+        val s = new SegmentHeavyHitters(CAPACITY);
+        val threads = new ArrayList<Thread>();
+        for (int t = 0; t < threadCount; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < readsPerThread; i++) {
+                    s.recordRead(getSegmentName(i % CAPACITY), 1);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        for (val t : threads) {
+            t.join();
+        }
+
+        val top = s.getTopAndReset(CAPACITY);
+        Assert.assertEquals(CAPACITY, top.size());
+        for (val load : top) {
+            Assert.assertEquals(threadCount * readsPerThread / CAPACITY, load.getReadBytes());
+            Assert.assertEquals(load.getReadBytes(), load.getLoad());
+            Assert.assertEquals(0, load.getLoadError());
+        }
+
+        // Reads that were already reported must not be reported again.
+        Assert.assertTrue(s.getTopAndReset(CAPACITY).isEmpty());
+        s.recordRead(getSegmentName(0), 10);
+        val next = s.getTopAndReset(CAPACITY);
+        Assert.assertEquals(1, next.size());
+        Assert.assertEquals(10, next.get(0).getReadBytes());
+    }
+
+    private String getSegmentName(int index) {
+        return "scope/stream/" + index;
+    }
+}
@@ -29,6 +29,7 @@ import io.pravega.shared.metrics.MetricRegistryUtils;
 import io.pravega.shared.metrics.MetricsConfig;
 import io.pravega.shared.metrics.MetricsProvider;
 import io.pravega.shared.protocol.netty.WireCommands;
+import io.pravega.shared.segment.KeyHashSketch;
 import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.SerializedClassRunner;
 import io.pravega.test.common.ThreadPooledTestSuite;
@@ -44,6 +45,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 
 import static io.pravega.shared.MetricsNames.SEGMENT_READ_BYTES;
+import static io.pravega.shared.MetricsNames.SEGMENT_TOP_READ_BYTES;
+import static io.pravega.shared.MetricsNames.SEGMENT_TOP_WRITE_BYTES;
+import static io.pravega.shared.MetricsNames.SEGMENT_TOP_WRITE_EVENTS;
+import static io.pravega.shared.MetricsNames.SEGMENT_TOP_WRITE_LATENCY;
 import static io.pravega.shared.MetricsNames.SEGMENT_WRITE_BYTES;
 import static io.pravega.shared.MetricsNames.SEGMENT_WRITE_EVENTS;
 import static io.pravega.shared.MetricsNames.globalMetricName;
@@ -51,6 +56,7 @@ import static io.pravega.shared.MetricsTags.segmentTags;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -100,6 +106,28 @@ public class SegmentStatsRecorderTest extends ThreadPooledTestSuite {
         AssertExtensions.assertGreaterThan("", 0, (long) context.statsRecorder.getSegmentAggregates(segmentName).getTwoMinuteRate());
     }
 
+    @Test(timeout = 10000)
+    public void testRecordKeyHashes() {
+        val segmentName = getStreamSegmentName();
+        @Cleanup
+        val context = new TestContext(segmentName, Duration.ofSeconds(10), false);
+        context.statsRecorder.createSegment(segmentName, WireCommands.CreateSegment.IN_EVENTS_PER_SEC, 10, Duration.ofSeconds(1));
+        assertTrue(context.statsRecorder.getKeyLoadQuantiles(segmentName).isEmpty());
+
+        // Most of the load is on the upper half of the key space.
+        val keyHashes = new KeyHashSketch();
+        for (int i = 0; i < 100; i++) {
+            keyHashes.add(i / 100.0, i < 50 ? 1 : 9);
+        }
+        context.statsRecorder.recordKeyHashes(segmentName, keyHashes);
+        val quantiles = context.statsRecorder.getKeyLoadQuantiles(segmentName);
+        assertEquals(15, quantiles.size());
+        for (int i = 1; i < quantiles.size(); i++) {
+            assertTrue(quantiles.get(i - 1) <= quantiles.get(i));
+        }
+        assertTrue("Expected the median to be in the upper half of the key space.", quantiles.get(7) > 0.5);
+    }
+
     @Test(timeout = 10000)
     public void testExpireSegment() throws Exception {
         val segmentName = getStreamSegmentName();
@@ -211,6 +239,53 @@ public class SegmentStatsRecorderTest extends ThreadPooledTestSuite {
         assertNull(context.statsRecorder.getSegmentAggregates(txnName1));
     }
 
+    @Test(timeout = 10000)
+    public void testTopSegmentMetrics() {
+        val hotSegment = getStreamSegmentName();
+        val coldSegment = getStreamSegmentName();
+        val metricsConfig = MetricsConfig.builder()
+                .with(MetricsConfig.SEGMENT_METRICS_TOP_K, 1)
+                .with(MetricsConfig.SEGMENT_METRICS_SKETCH_SIZE, 10)
+                .with(MetricsConfig.OUTPUT_FREQUENCY, 3600) // We will be reporting manually.
+                .build();
+        @Cleanup
+        val statsRecorder = new SegmentStatsRecorderImpl(mock(AutoScaleProcessor.class), mock(StreamSegmentStore.class),
+                Duration.ofSeconds(10000), Duration.ofSeconds(10), metricsConfig, executorService());
+        val elapsed = Duration.ofMillis(4);
+        statsRecorder.createSegment(hotSegment, WireCommands.CreateSegment.IN_EVENTS_PER_SEC, 10, elapsed);
+        statsRecorder.createSegment(coldSegment, WireCommands.CreateSegment.IN_EVENTS_PER_SEC, 10, elapsed);
+        statsRecorder.recordAppend(hotSegment, 1000L, 10, elapsed);
+        statsRecorder.read(hotSegment, 500);
+        statsRecorder.recordAppend(coldSegment, 10L, 1, elapsed);
+        statsRecorder.read(coldSegment, 5);
+
+        // Global metrics are always reported, but per-segment counters are not.
+        assertEquals(1010L, getCounterValue(globalMetricName(SEGMENT_WRITE_BYTES), null));
+        assertEquals(505L, getCounterValue(globalMetricName(SEGMENT_READ_BYTES), null));
+        assertEquals(NO_COUNTER_VALUE, getCounterValue(SEGMENT_WRITE_BYTES, hotSegment));
+        assertEquals(NO_COUNTER_VALUE, getCounterValue(SEGMENT_READ_BYTES, hotSegment));
+
+        // Only the busiest segment is reported.
+        statsRecorder.reportTopSegments();
+        assertEquals(1000, getGaugeValue(SEGMENT_TOP_WRITE_BYTES, hotSegment));
+        assertEquals(10, getGaugeValue(SEGMENT_TOP_WRITE_EVENTS, hotSegment));
+        assertEquals(500, getGaugeValue(SEGMENT_TOP_READ_BYTES, hotSegment));
+        assertEquals(elapsed.toMillis(), getGaugeValue(SEGMENT_TOP_WRITE_LATENCY, hotSegment));
+        assertEquals(NO_COUNTER_VALUE, getGaugeValue(SEGMENT_TOP_WRITE_BYTES, coldSegment));
+
+        // Each report only reflects the traffic since the previous one. Segments that are no longer among the busiest
+        // ones are no longer reported.
+        statsRecorder.recordAppend(coldSegment, 100L, 1, elapsed);
+        statsRecorder.reportTopSegments();
+        assertEquals(100, getGaugeValue(SEGMENT_TOP_WRITE_BYTES, coldSegment));
+        assertEquals(NO_COUNTER_VALUE, getGaugeValue(SEGMENT_TOP_WRITE_BYTES, hotSegment));
+        assertEquals(NO_COUNTER_VALUE, getGaugeValue(SEGMENT_TOP_WRITE_LATENCY, hotSegment));
+    }
+
+    private long getGaugeValue(String gauge, String segment) {
+        val g = MetricRegistryUtils.getGauge(gauge, segmentTags(segment));
+        return g == null ? NO_COUNTER_VALUE : (long) g.value();
+    }
 
     private long getCounterValue(String counter, String segment) {
         val c = MetricRegistryUtils.getCounter(counter, segment == null ? new String[0] : segmentTags(segment));
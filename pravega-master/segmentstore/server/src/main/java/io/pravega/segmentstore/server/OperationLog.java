@@ -15,11 +15,13 @@
  */
 package io.pravega.segmentstore.server;
 
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationPriority;
 import io.pravega.segmentstore.storage.DurableDataLogException;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 
@@ -72,6 +74,14 @@ public interface OperationLog extends Container {
      */
     CompletableFuture<Queue<Operation>> read(int maxCount, Duration timeout);
 
+    /**
+     * Gets the slowest {@link Operation}s that have been sampled for latency tracing, along with the time they spent in
+     * each processing stage.
+     *
+     * @return A List of {@link OperationLatencyBreakdown}s, slowest first.
+     */
+    List<OperationLatencyBreakdown> getSlowestOperations();
+
     /**
      * Waits until the OperationLog enters an Online State.
      *
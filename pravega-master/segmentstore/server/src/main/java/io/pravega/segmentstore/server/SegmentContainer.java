@@ -17,12 +17,14 @@ package io.pravega.segmentstore.server;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.SegmentApi;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.server.logs.MetadataUpdateException;
 import io.pravega.segmentstore.server.logs.operations.OperationPriority;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import javax.annotation.Nullable;
 
@@ -139,4 +141,12 @@ public interface SegmentContainer extends SegmentApi, Container {
     @VisibleForTesting
     @Beta
     CompletableFuture<Void> flushToStorage(Duration timeout);
+
+    /**
+     * Gets the slowest operations processed by this {@link SegmentContainer} that have been sampled for latency tracing,
+     * along with the time they spent in each processing stage.
+     *
+     * @return A List of {@link OperationLatencyBreakdown}s, slowest first.
+     */
+    List<OperationLatencyBreakdown> getSlowestOperations();
 }
@@ -15,8 +15,10 @@
  */
 package io.pravega.segmentstore.server;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import io.pravega.common.concurrent.ExecutorServiceHelpers;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
 import io.pravega.segmentstore.storage.cache.CacheState;
 import io.pravega.shared.MetricsNames;
@@ -32,12 +34,16 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import lombok.val;
 
 import static io.pravega.shared.MetricsNames.globalMetricName;
+import static io.pravega.shared.MetricsTags.containerScopeTags;
 import static io.pravega.shared.MetricsTags.containerTag;
 import static io.pravega.shared.MetricsTags.eventProcessorTag;
 import static io.pravega.shared.MetricsTags.throttlerTag;
@@ -147,6 +153,12 @@ public final class SegmentStoreMetrics {
      * OperationProcessor metrics.
      */
     public final static class OperationProcessor implements AutoCloseable {
+        /**
+         * Per-tenant metrics are closed if their tenant has not reported anything for this long.
+         */
+        @VisibleForTesting
+        static final long TENANT_METRICS_EXPIRATION_NANOS = TimeUnit.MINUTES.toNanos(5);
+
         /**
          * Number of items in the Operation Queue.
          */
@@ -189,12 +201,34 @@ public final class SegmentStoreMetrics {
          */
         private final OpStatsLogger processOperationsLatency;
         private final OpStatsLogger processOperationsBatchSize;
+
+        /**
+         * Per-stage latencies (in microseconds) of operations sampled for latency tracing.
+         */
+        private final OpStatsLogger queueStageLatency;
+        private final OpStatsLogger throttleStageLatency;
+        private final OpStatsLogger batchingStageLatency;
+        private final OpStatsLogger durableWriteStageLatency;
+        private final OpStatsLogger memoryCommitStageLatency;
+        /**
+         * Amount of time an operation spends in the queue, per tenant (Scope). Only reported if fair queuing is enabled.
+         */
+        private final ConcurrentHashMap<String, TenantStats> tenantQueueWaitTime = new ConcurrentHashMap<>();
+        private final AtomicLong nextTenantExpirationNanos;
+        private final LongSupplier nanoTime;
         private final int containerId;
         private final String[] containerTag;
         private final Set<String> throttlers = Collections.synchronizedSet(new HashSet<>());
 
         public OperationProcessor(int containerId) {
+            this(containerId, System::nanoTime);
+        }
+
+        @VisibleForTesting
+        OperationProcessor(int containerId, LongSupplier nanoTime) {
             this.containerId = containerId;
+            this.nanoTime = nanoTime;
+            this.nextTenantExpirationNanos = new AtomicLong(nanoTime.getAsLong() + TENANT_METRICS_EXPIRATION_NANOS);
             this.containerTag = containerTag(containerId);
             this.operationQueueSize = STATS_LOGGER.createStats(MetricsNames.OPERATION_QUEUE_SIZE, this.containerTag);
             this.operationsInFlight = STATS_LOGGER.createStats(MetricsNames.OPERATION_PROCESSOR_IN_FLIGHT, this.containerTag);
@@ -205,6 +239,11 @@ public final class SegmentStoreMetrics {
             this.memoryCommitCount = STATS_LOGGER.createStats(MetricsNames.OPERATION_COMMIT_MEMORY_COUNT, this.containerTag);
             this.processOperationsLatency = STATS_LOGGER.createStats(MetricsNames.PROCESS_OPERATIONS_LATENCY, this.containerTag);
             this.processOperationsBatchSize = STATS_LOGGER.createStats(MetricsNames.PROCESS_OPERATIONS_BATCH_SIZE, this.containerTag);
+            this.queueStageLatency = STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_QUEUE_LATENCY, this.containerTag);
+            this.throttleStageLatency = STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_THROTTLE_LATENCY, this.containerTag);
+            this.batchingStageLatency = STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_BATCHING_LATENCY, this.containerTag);
+            this.durableWriteStageLatency = STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_DURABLE_WRITE_LATENCY, this.containerTag);
+            this.memoryCommitStageLatency = STATS_LOGGER.createStats(MetricsNames.OPERATION_STAGE_MEMORY_COMMIT_LATENCY, this.containerTag);
         }
 
         @Override
@@ -218,6 +257,12 @@ public final class SegmentStoreMetrics {
             this.memoryCommitCount.close();
             this.processOperationsLatency.close();
             this.processOperationsBatchSize.close();
+            this.queueStageLatency.close();
+            this.throttleStageLatency.close();
+            this.batchingStageLatency.close();
+            this.durableWriteStageLatency.close();
+            this.memoryCommitStageLatency.close();
+            this.tenantQueueWaitTime.values().forEach(s -> s.queueWaitTime.close());
             for (String throttler : throttlers) {
                 DYNAMIC_LOGGER.freezeGaugeValue(MetricsNames.OPERATION_PROCESSOR_DELAY_MILLIS, throttlerTag(containerId, throttler));
             }
@@ -242,6 +287,43 @@ public final class SegmentStoreMetrics {
             this.operationQueueWaitTime.reportSuccessValue(queueWaitTimeMillis);
         }
 
+        public void tenantQueueWaitTime(String tenant, long queueWaitTimeMillis) {
+            long nowNanos = this.nanoTime.getAsLong();
+            expireIdleTenants(nowNanos);
+            // Refresh the last report time from within compute() so that the metric cannot be expired concurrently.
+            this.tenantQueueWaitTime
+                    .compute(tenant, (t, stats) -> {
+                        stats = stats == null ? new TenantStats(STATS_LOGGER.createStats(MetricsNames.OPERATION_QUEUE_TENANT_WAIT_TIME,
+                                containerScopeTags(this.containerId, t))) : stats;
+                        stats.lastReportNanos = nowNanos;
+                        return stats;
+                    })
+                    .queueWaitTime.reportSuccessValue(queueWaitTimeMillis);
+        }
+
+        @VisibleForTesting
+        int getTenantCount() {
+            return this.tenantQueueWaitTime.size();
+        }
+
+        private void expireIdleTenants(long nowNanos) {
+            long next = this.nextTenantExpirationNanos.get();
+            if (nowNanos - next < 0 || !this.nextTenantExpirationNanos.compareAndSet(next, nowNanos + TENANT_METRICS_EXPIRATION_NANOS)) {
+                return;
+            }
+
+            for (String tenant : this.tenantQueueWaitTime.keySet()) {
+                this.tenantQueueWaitTime.computeIfPresent(tenant, (t, stats) -> {
+                    if (nowNanos - stats.lastReportNanos < TENANT_METRICS_EXPIRATION_NANOS) {
+                        return stats;
+                    }
+
+                    stats.queueWaitTime.close();
+                    return null;
+                });
+            }
+        }
+
         public void memoryCommit(int commitCount, Duration elapsed) {
             this.memoryCommitCount.reportSuccessValue(commitCount);
             this.memoryCommitLatency.reportSuccessEvent(elapsed);
@@ -273,6 +355,14 @@ public final class SegmentStoreMetrics {
             }
         }
 
+        public void operationTraced(OperationLatencyBreakdown latency) {
+            this.queueStageLatency.reportSuccessValue(TimeUnit.NANOSECONDS.toMicros(latency.getQueueNanos()));
+            this.throttleStageLatency.reportSuccessValue(TimeUnit.NANOSECONDS.toMicros(latency.getThrottleNanos()));
+            this.batchingStageLatency.reportSuccessValue(TimeUnit.NANOSECONDS.toMicros(latency.getBatchingNanos()));
+            this.durableWriteStageLatency.reportSuccessValue(TimeUnit.NANOSECONDS.toMicros(latency.getDurableWriteNanos()));
+            this.memoryCommitStageLatency.reportSuccessValue(TimeUnit.NANOSECONDS.toMicros(latency.getMemoryCommitNanos()));
+        }
+
         public void operationsFailed(Collection<CompletableOperation> operations) {
             if (!operations.isEmpty()) {
                 long millis = operations.stream().mapToLong(o -> o.getTimer().getElapsedMillis()).sum();
@@ -290,6 +380,15 @@ public final class SegmentStoreMetrics {
         public void reportOperationLogSize(int logSize, int containerId) {
             DYNAMIC_LOGGER.reportGaugeValue(MetricsNames.OPERATION_LOG_SIZE, logSize, containerTag(containerId));
         }
+
+        private static class TenantStats {
+            private final OpStatsLogger queueWaitTime;
+            private volatile long lastReportNanos;
+
+            TenantStats(OpStatsLogger queueWaitTime) {
+                this.queueWaitTime = queueWaitTime;
+            }
+        }
     }
 
     //endregion
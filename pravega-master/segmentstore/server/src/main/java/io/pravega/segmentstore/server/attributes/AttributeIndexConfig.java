@@ -32,6 +32,7 @@ public class AttributeIndexConfig {
     private static final int MAX_INDEX_PAGE_SIZE_VALUE = Short.MAX_VALUE; // Max allowed by BTreeIndex.
     public static final Property<Integer> MAX_INDEX_PAGE_SIZE = Property.named("indexPage.size.bytes.max", MAX_INDEX_PAGE_SIZE_VALUE, "maxIndexPageSizeBytes");
     private static final int MIN_INDEX_PAGE_SIZE_VALUE = 1024;
+    public static final Property<Boolean> KEY_PREFIX_COMPRESSION = Property.named("indexPage.keyPrefixCompression.enable", false);
     private static final String COMPONENT_CODE = "attributeindex";
 
     //endregion
@@ -44,6 +45,13 @@ public class AttributeIndexConfig {
     @Getter
     private final int maxIndexPageSize;
 
+    /**
+     * Whether modified index pages should store the prefix shared by all their keys only once. Pages written with this
+     * enabled cannot be read by Segment Stores that do not support it, so this should only be enabled once all of them do.
+     */
+    @Getter
+    private final boolean keyPrefixCompression;
+
     /**
      * The Attribute Segment Rolling Policy. If not explicitly defined in the configuration, it will be auto-calculated
      * based on the SnapshotTriggerSize and ReadBlockSize.
@@ -73,6 +81,8 @@ public class AttributeIndexConfig {
             throw new ConfigurationException(String.format("Property '%s' must be at least %s and at most %s; found '%d'.",
                     MAX_INDEX_PAGE_SIZE, MIN_INDEX_PAGE_SIZE_VALUE, MAX_INDEX_PAGE_SIZE_VALUE, this.maxIndexPageSize));
         }
+
+        this.keyPrefixCompression = properties.getBoolean(KEY_PREFIX_COMPRESSION);
     }
 
     /**
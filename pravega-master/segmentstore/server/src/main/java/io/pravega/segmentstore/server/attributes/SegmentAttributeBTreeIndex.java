@@ -100,6 +100,10 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
             .retryingOn(StreamSegmentTruncatedException.class)
             .throwingOn(Exception.class);
 
+    /**
+     * Maximum number of Attributes to combine into a single index update when executing {@link #bulkUpdate}.
+     */
+    private static final int MAX_BULK_UPDATE_COUNT = 64 * 1024;
     private static final int DEFAULT_KEY_LENGTH = Attributes.ATTRIBUTE_ID_LENGTH.byteCount();
     private static final int VALUE_LENGTH = Long.BYTES;
     private final SegmentMetadata segmentMetadata;
@@ -148,6 +152,7 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
                                .keyLength(this.keySerializer.getKeyLength())
                                .valueLength(VALUE_LENGTH)
                                .maxPageSize(this.config.getMaxIndexPageSize())
+                               .keyPrefixCompression(this.config.isKeyPrefixCompression())
                                .executor(this.executor)
                                .getLength(this::getLength)
                                .readPage(this::readPage)
@@ -379,6 +384,79 @@ class SegmentAttributeBTreeIndex implements AttributeIndex, CacheManager.Client,
 
     //endregion
 
+    //region Bulk Operations
+
+    /**
+     * Bulk-loads the given Attributes into this index, which must be empty. This is much more efficient than loading them
+     * via {@link #update} as every index page is written exactly once. See {@link BTreeIndex#bulkLoad} for details.
+     *
+     * This operation is not retried if a concurrent update is detected (since the given iterator cannot be replayed), and
+     * no other updates should be made to this index while it is in progress.
+     *
+     * @param attributes An {@link AsyncIterator} returning Lists of Attributes to load. These must be sorted by
+     *                   {@link AttributeId}, without duplicates (i.e., as returned by {@link #iterator}) and must not
+     *                   contain null (or {@link Attributes#NULL_ATTRIBUTE_VALUE}) values.
+     * @param timeout    Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain the value that should be set as
+     * {@link Attributes#ATTRIBUTE_SEGMENT_ROOT_POINTER} for the segment (same as {@link #update}), or null if there was
+     * nothing to load.
+     */
+    public CompletableFuture<Long> bulkLoad(@NonNull AsyncIterator<List<Map.Entry<AttributeId, Long>>> attributes, @NonNull Duration timeout) {
+        ensureInitialized();
+        val entries = attributes.thenApply(batch -> batch.stream().map(this::serialize).collect(Collectors.toList()));
+        return this.index.bulkLoad(entries, timeout)
+                         .exceptionally(this::handleIndexOperationException);
+    }
+
+    /**
+     * Applies the updates returned by the given {@link AsyncIterator}. Consecutive batches are combined into as few index
+     * updates as possible (each touching every affected index page only once), instead of updating the index once for
+     * each batch. If the same Attribute is updated in multiple batches, the last value wins.
+     *
+     * This operation is not atomic: each combined index update is applied (and retried, see {@link #update}) separately.
+     * If it fails, any combined updates that have been applied up to that point will remain in the index.
+     *
+     * @param values  An {@link AsyncIterator} returning batches of Attributes to update. A null value (or
+     *                {@link Attributes#NULL_ATTRIBUTE_VALUE}) will remove the Attribute from the index.
+     * @param timeout Timeout for the operation.
+     * @return A CompletableFuture that, when completed, will contain the value that should be set as
+     * {@link Attributes#ATTRIBUTE_SEGMENT_ROOT_POINTER} for the segment (same as {@link #update}), or null if there
+     * was nothing to update.
+     */
+    public CompletableFuture<Long> bulkUpdate(@NonNull AsyncIterator<Map<AttributeId, Long>> values, @NonNull Duration timeout) {
+        ensureInitialized();
+        TimeoutTimer timer = new TimeoutTimer(timeout);
+        val pending = new HashMap<AttributeId, Long>();
+        val result = new AtomicReference<Long>();
+        val canContinue = new AtomicBoolean(true);
+        return Futures.loop(
+                canContinue::get,
+                () -> values.getNext().thenCompose(batch -> {
+                    if (batch == null) {
+                        canContinue.set(false);
+                    } else {
+                        pending.putAll(batch);
+                        if (pending.size() < MAX_BULK_UPDATE_COUNT) {
+                            // Keep accumulating.
+                            return CompletableFuture.completedFuture(null);
+                        }
+                    }
+
+                    val toApply = new HashMap<AttributeId, Long>(pending);
+                    pending.clear();
+                    return update(toApply, timer.getRemaining())
+                            .thenAccept(rootPointer -> {
+                                if (rootPointer != null) {
+                                    result.set(rootPointer);
+                                }
+                            });
+                }),
+                this.executor)
+                .thenApply(v -> result.get());
+    }
+
+    //endregion
+
     //region Helpers
 
     /**
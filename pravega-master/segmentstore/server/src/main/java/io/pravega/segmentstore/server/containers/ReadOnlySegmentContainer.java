@@ -29,6 +29,7 @@ import io.pravega.segmentstore.contracts.AttributeUpdate;
 import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
 import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.SegmentType;
@@ -42,6 +43,7 @@ import io.pravega.segmentstore.storage.ReadOnlyStorage;
 import io.pravega.segmentstore.storage.StorageFactory;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -169,6 +171,12 @@ class ReadOnlySegmentContainer extends AbstractIdleService implements SegmentCon
         throw new UnsupportedOperationException("flushToStorage is not supported on " + getClass().getSimpleName());
     }
 
+    @Override
+    public List<OperationLatencyBreakdown> getSlowestOperations() {
+        // Nothing is written through this container.
+        return Collections.emptyList();
+    }
+
     @Override
     public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfo(String streamSegmentName, Duration timeout) {
         throw new UnsupportedOperationException("getExtendedChunkInfo is not supported on " + getClass().getSimpleName());
@@ -210,6 +218,13 @@ class ReadOnlySegmentContainer extends AbstractIdleService implements SegmentCon
         return unsupported("mergeStreamSegment");
     }
 
+    @Override
+    public CompletableFuture<List<MergeStreamSegmentResult>> mergeStreamSegments(String targetStreamSegment, List<String> sourceStreamSegments,
+                                                                                 List<AttributeUpdateCollection> attributeUpdates,
+                                                                                 Duration timeout) {
+        return unsupported("mergeStreamSegments");
+    }
+
     @Override
     public CompletableFuture<Long> sealStreamSegment(String streamSegmentName, Duration timeout) {
         return unsupported("sealStreamSegment");
@@ -38,6 +38,7 @@ import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.BadAttributeUpdateException;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
 import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.SegmentType;
@@ -358,10 +359,12 @@ class StreamSegmentContainer extends AbstractService implements SegmentContainer
                 .thenComposeAsync(v -> {
                     val chunkedSegmentStorage = ChunkedSegmentStorage.getReference(this.storage);
                     if (null != chunkedSegmentStorage) {
+                        // GarbageCollector limits concurrency on its own, so read enough tasks to fill a batch delete request.
+                        val storageConfig = chunkedSegmentStorage.getConfig();
                         StorageEventProcessor eventProcessor = new StorageEventProcessor(this.metadata.getContainerId(),
                                 this.containerEventProcessor,
                                 batch -> chunkedSegmentStorage.getGarbageCollector().processBatch(batch),
-                                chunkedSegmentStorage.getConfig().getGarbageCollectionMaxConcurrency());
+                                Math.max(storageConfig.getGarbageCollectionMaxConcurrency(), storageConfig.getGarbageCollectionDeleteBatchSize()));
                         return chunkedSegmentStorage.finishBootstrap(eventProcessor);
                     }
                     return CompletableFuture.completedFuture(null);
@@ -752,6 +755,67 @@ class StreamSegmentContainer extends AbstractService implements SegmentContainer
                 }, this.executor);
     }
 
+    @Override
+    public CompletableFuture<List<MergeStreamSegmentResult>> mergeStreamSegments(String targetStreamSegment, List<String> sourceStreamSegments,
+                                                                                 List<AttributeUpdateCollection> attributeUpdates,
+                                                                                 Duration timeout) {
+        ensureRunning();
+        Preconditions.checkArgument(attributeUpdates == null || attributeUpdates.size() == sourceStreamSegments.size(),
+                "attributeUpdates must have the same number of elements as sourceStreamSegments.");
+
+        logRequest("mergeStreamSegments", targetStreamSegment, sourceStreamSegments);
+        TimeoutTimer timer = new TimeoutTimer(timeout);
+
+        // Resolve the Ids of all the Segments first. Only once we have all of them can we queue up the Merges (and the Seals
+        // that precede them) one after the other, without waiting for any of them to complete, which ensures the DurableLog
+        // processes them in the order in which they were given to us. A Source Segment that does not exist (anymore) was
+        // already merged (or deleted) by a previous attempt, so we skip it.
+        return this.metadataStore.getOrAssignSegmentId(targetStreamSegment, timer.getRemaining(), targetSegmentId ->
+                Futures.allOfWithResults(sourceStreamSegments.stream()
+                        .map(source -> Futures.exceptionallyExpecting(
+                                this.metadataStore.getOrAssignSegmentId(source, timer.getRemaining()),
+                                ex -> isSourceAlreadyMerged(ex, source), null))
+                        .collect(Collectors.toList()))
+                        .thenCompose(sourceSegmentIds -> {
+                            List<CompletableFuture<MergeStreamSegmentResult>> merges = new ArrayList<>(sourceSegmentIds.size());
+                            for (int i = 0; i < sourceSegmentIds.size(); i++) {
+                                Long sourceSegmentId = sourceSegmentIds.get(i);
+                                if (sourceSegmentId == null) {
+                                    merges.add(CompletableFuture.completedFuture(null));
+                                    continue;
+                                }
+
+                                String source = sourceStreamSegments.get(i);
+                                this.metrics.mergeSegment();
+                                merges.add(Futures.exceptionallyExpecting(
+                                        mergeStreamSegment(targetSegmentId, sourceSegmentId,
+                                                attributeUpdates == null ? null : attributeUpdates.get(i), timer),
+                                        ex -> isSourceAlreadyMerged(ex, source), null));
+                            }
+
+                            return Futures.allOfWithResults(merges)
+                                    .thenApplyAsync(results -> {
+                                        // Same as for single merges: clear the SegmentInfo of all the Sources, without waiting on it.
+                                        for (int i = 0; i < sourceSegmentIds.size(); i++) {
+                                            if (sourceSegmentIds.get(i) != null) {
+                                                this.metadataStore.clearSegmentInfo(sourceStreamSegments.get(i), timer.getRemaining());
+                                            }
+                                        }
+
+                                        long targetLength = this.metadata.getStreamSegmentMetadata(targetSegmentId).getLength();
+                                        return results.stream()
+                                                .map(r -> r != null ? r : new MergeStreamSegmentResult(targetLength, 0, Collections.emptyMap()))
+                                                .collect(Collectors.toList());
+                                    }, this.executor);
+                        }));
+    }
+
+    private boolean isSourceAlreadyMerged(Throwable ex, String sourceStreamSegment) {
+        return ex instanceof StreamSegmentMergedException
+                || (ex instanceof StreamSegmentNotExistsException
+                && sourceStreamSegment.equals(((StreamSegmentNotExistsException) ex).getStreamSegmentName()));
+    }
+
     private CompletableFuture<MergeStreamSegmentResult> mergeStreamSegment(long targetSegmentId, long sourceSegmentId,
                                                                            AttributeUpdateCollection attributeUpdates,
                                                                            TimeoutTimer timer) {
@@ -884,6 +948,11 @@ class StreamSegmentContainer extends AbstractService implements SegmentContainer
                 .thenAcceptAsync(x -> log.info("{}: Completed flush to storage for container ID: {}", this.traceObjectId, containerId));
     }
 
+    @Override
+    public List<OperationLatencyBreakdown> getSlowestOperations() {
+        return this.durableLog.getSlowestOperations();
+    }
+
     private CompletableFuture<Void> saveEpochInfo(int containerId, long containerEpoch, long operationSequenceNumber, Duration timeout) {
         if (!(storage instanceof ChunkedSegmentStorage)) {
             return CompletableFuture.completedFuture(null);
@@ -26,6 +26,7 @@ import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.concurrent.Services;
 import io.pravega.common.util.Retry;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.StreamingException;
 import io.pravega.segmentstore.server.ContainerOfflineException;
 import io.pravega.segmentstore.server.IllegalContainerStateException;
@@ -46,6 +47,7 @@ import io.pravega.segmentstore.storage.DurableDataLogFactory;
 import io.pravega.segmentstore.storage.LogAddress;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -111,7 +113,9 @@ public class DurableLog extends AbstractService implements OperationLog {
         this.memoryStateUpdater = new MemoryStateUpdater(this.inMemoryOperationLog, readIndex);
         MetadataCheckpointPolicy checkpointPolicy = new MetadataCheckpointPolicy(config, this::queueMetadataCheckpoint, this.executor);
         ThrottlerPolicy throttlerPolicy = new ThrottlerPolicy(config);
-        this.operationProcessor = new OperationProcessor(this.metadata, this.memoryStateUpdater, this.durableDataLog, checkpointPolicy, throttlerPolicy, executor);
+        this.operationProcessor = new OperationProcessor(this.metadata, this.memoryStateUpdater, this.durableDataLog, checkpointPolicy,
+                throttlerPolicy, config.getLatencyTraceSamplingRate(), config.getLatencyTraceSlowOperationCount(),
+                config.getAppendCoalesceMaxLength(), config.isTenantFairQueuingEnabled() ? config.getTenantWeights() : null, executor);
         Services.onStop(this.operationProcessor, this::queueStoppedHandler, this::queueFailedHandler, this.executor);
         this.closed = new AtomicBoolean();
         this.delayedStart = new CompletableFuture<>();
@@ -378,6 +382,11 @@ public class DurableLog extends AbstractService implements OperationLog {
         return result;
     }
 
+    @Override
+    public List<OperationLatencyBreakdown> getSlowestOperations() {
+        return this.operationProcessor.getSlowestOperations();
+    }
+
     @Override
     public CompletableFuture<Void> awaitOnline() {
         Exceptions.checkNotClosed(this.closed.get(), this);
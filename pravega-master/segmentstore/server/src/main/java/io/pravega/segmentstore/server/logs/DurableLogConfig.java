@@ -21,7 +21,11 @@ import io.pravega.common.util.InvalidPropertyValueException;
 import io.pravega.common.util.Property;
 import io.pravega.common.util.TypedProperties;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Getter;
+import lombok.val;
 
 /**
  * Durable Log Configuration.
@@ -37,6 +41,11 @@ public class DurableLogConfig {
     public static final Property<Integer> MAX_DELAY_MILLIS = Property.named("throttler.max.delay.millis", 25000);
     public static final Property<Integer> OPERATION_LOG_TARGET_SIZE = Property.named("throttler.operation.log.size.target", (int) (1_000_000 * 0.95));
     public static final Property<Integer> OPERATION_LOG_MAX_SIZE = Property.named("throttler.operation.log.size.max", 1_000_000);
+    public static final Property<Integer> LATENCY_TRACE_SAMPLING_RATE = Property.named("latency.trace.sampling.rate", 1000);
+    public static final Property<Integer> LATENCY_TRACE_SLOW_OPERATION_COUNT = Property.named("latency.trace.slow.operation.count", 32);
+    public static final Property<Integer> APPEND_COALESCE_MAX_LENGTH = Property.named("append.coalesce.length.max", 0);
+    public static final Property<Boolean> TENANT_FAIR_QUEUING_ENABLE = Property.named("tenant.fair.queuing.enable", false);
+    public static final Property<String> TENANT_WEIGHTS = Property.named("tenant.weights", "");
     private static final String COMPONENT_CODE = "durablelog";
 
     //endregion
@@ -91,6 +100,42 @@ public class DurableLogConfig {
     @Getter
     private final int operationLogTargetSize;
 
+    /**
+     * One in how many operations to trace the per-stage latency breakdown of. 0 disables tracing.
+     */
+    @Getter
+    private final int latencyTraceSamplingRate;
+
+    /**
+     * The number of slowest traced operations to retain for inspection.
+     */
+    @Getter
+    private final int latencyTraceSlowOperationCount;
+
+    /**
+     * The maximum length of an append that may be packed, along with other consecutive appends to different Segments,
+     * into a single DurableDataLog record. 0 disables this. Segment Store instances that do not support such records
+     * will not be able to recover a DurableDataLog that contains them.
+     */
+    @Getter
+    private final int appendCoalesceMaxLength;
+
+    /**
+     * Whether Operations with the same priority are queued fairly across tenants (Scopes), so that a tenant with many
+     * pending Operations cannot hold back the Operations of other tenants. Operations on the same Segment are always
+     * processed in the order in which they were received, but Operations belonging to different tenants may be reordered.
+     */
+    @Getter
+    private final boolean tenantFairQueuingEnabled;
+
+    /**
+     * The weights of the tenants (Scopes) for fair queuing. A tenant gets a share of the processed Operations proportional
+     * to its weight. Tenants that are not in this map have a weight of 1. Configured as a comma-separated list of
+     * "scope:weight" pairs.
+     */
+    @Getter
+    private final Map<String, Integer> tenantWeights;
+
     //endregion
 
     //region Constructor
@@ -126,6 +171,45 @@ public class DurableLogConfig {
                     OPERATION_LOG_TARGET_SIZE, this.operationLogTargetSize,
                     OPERATION_LOG_MAX_SIZE, this.operationLogMaxSize));
         }
+
+        // Latency tracing configuration.
+        this.latencyTraceSamplingRate = properties.getNonNegativeInt(LATENCY_TRACE_SAMPLING_RATE);
+        this.latencyTraceSlowOperationCount = properties.getNonNegativeInt(LATENCY_TRACE_SLOW_OPERATION_COUNT);
+
+        // Append coalescing configuration.
+        this.appendCoalesceMaxLength = properties.getNonNegativeInt(APPEND_COALESCE_MAX_LENGTH);
+
+        // Tenant fair queuing configuration.
+        this.tenantFairQueuingEnabled = properties.getBoolean(TENANT_FAIR_QUEUING_ENABLE);
+        this.tenantWeights = parseTenantWeights(properties.get(TENANT_WEIGHTS));
+    }
+
+    private static Map<String, Integer> parseTenantWeights(String value) throws ConfigurationException {
+        val result = new HashMap<String, Integer>();
+        for (String pair : value.split(",")) {
+            if (pair.trim().isEmpty()) {
+                continue;
+            }
+
+            String[] tokens = pair.split(":");
+            int weight = -1;
+            if (tokens.length == 2) {
+                try {
+                    weight = Integer.parseInt(tokens[1].trim());
+                } catch (NumberFormatException ex) {
+                    // Handled below.
+                }
+            }
+
+            if (weight <= 0 || tokens[0].trim().isEmpty()) {
+                throw new InvalidPropertyValueException(String.format("Property '%s' must be a comma-separated list of "
+                        + "'scope:weight' pairs, with positive weights. Invalid value: '%s'.", TENANT_WEIGHTS, pair));
+            }
+
+            result.put(tokens[0].trim(), weight);
+        }
+
+        return Collections.unmodifiableMap(result);
     }
 
     /**
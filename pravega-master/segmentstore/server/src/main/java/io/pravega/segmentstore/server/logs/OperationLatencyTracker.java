@@ -0,0 +1,211 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * Samples operations going through the {@link OperationProcessor} and tracks how much time they spend in each stage of
+ * the write pipeline (queueing, throttling, batching into Data Frames, writing to the DurableDataLog and applying to
+ * the in-memory state).
+ *
+ * Each sampled operation is reported to the per-stage latency histograms in {@link SegmentStoreMetrics.OperationProcessor}
+ * and the slowest ones are retained (with their full breakdown) so they may be inspected on demand.
+ *
+ * The stage timestamps are recorded on the {@link CompletableOperation}s themselves, so no allocations are made for
+ * operations that are not sampled; the overhead is bounded by the sampling rate.
+ */
+@ThreadSafe
+class OperationLatencyTracker {
+    //region Members
+
+    private static final Comparator<OperationLatencyBreakdown> SLOWEST_FIRST =
+            Comparator.comparingLong(OperationLatencyBreakdown::getTotalNanos).reversed();
+
+    /**
+     * One in how many operations is traced. 0 means tracing is disabled.
+     */
+    @Getter
+    private final int samplingRate;
+    private final SegmentStoreMetrics.OperationProcessor metrics;
+    private final AtomicLong totalThrottleNanos;
+    @GuardedBy("slowest")
+    private final OperationLatencyBreakdown[] slowest;
+    @GuardedBy("slowest")
+    private int slowestCount;
+    /**
+     * The smallest total latency of a retained slow operation, once the slowest-operations buffer is full. Used to
+     * quickly discard faster operations without acquiring the lock.
+     */
+    private volatile long slowestThresholdNanos;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the {@link OperationLatencyTracker} class.
+     *
+     * @param samplingRate       One in how many operations to trace. 0 disables tracing, 1 traces every operation.
+     * @param slowOperationCount The number of slowest traced operations to retain.
+     * @param metrics            The {@link SegmentStoreMetrics.OperationProcessor} to report per-stage latencies to.
+     */
+    OperationLatencyTracker(int samplingRate, int slowOperationCount, @NonNull SegmentStoreMetrics.OperationProcessor metrics) {
+        Preconditions.checkArgument(samplingRate >= 0, "samplingRate must be a non-negative number.");
+        Preconditions.checkArgument(slowOperationCount >= 0, "slowOperationCount must be a non-negative number.");
+        this.samplingRate = samplingRate;
+        this.metrics = metrics;
+        this.totalThrottleNanos = new AtomicLong();
+        this.slowest = new OperationLatencyBreakdown[slowOperationCount];
+        this.slowestCount = 0;
+        this.slowestThresholdNanos = 0;
+    }
+
+    //endregion
+
+    //region Tracing
+
+    /**
+     * Gets a value indicating whether any operations are traced.
+     *
+     * @return True if enabled, false otherwise.
+     */
+    boolean isEnabled() {
+        return this.samplingRate > 0;
+    }
+
+    /**
+     * Decides whether the given operation should be sampled and, if so, begins tracing it.
+     *
+     * @param operation The {@link CompletableOperation} that is about to be queued up.
+     */
+    void sample(CompletableOperation operation) {
+        if (this.samplingRate == 1 || (this.samplingRate > 1 && ThreadLocalRandom.current().nextInt(this.samplingRate) == 0)) {
+            operation.startTrace(this.totalThrottleNanos.get());
+        }
+    }
+
+    /**
+     * Records the fact that the given operation has been picked up from the operation queue.
+     *
+     * @param operation The {@link CompletableOperation}.
+     */
+    void dequeued(CompletableOperation operation) {
+        operation.traceDequeued(this.totalThrottleNanos.get());
+    }
+
+    /**
+     * Keeps track of how long the given throttling delay takes, in order to attribute it to any operations that are
+     * waiting in the queue at the time.
+     *
+     * @param throttleFuture A CompletableFuture that will complete when the throttling delay is over.
+     * @return The same CompletableFuture.
+     */
+    CompletableFuture<Void> throttling(CompletableFuture<Void> throttleFuture) {
+        if (isEnabled() && !throttleFuture.isDone()) {
+            long startNanos = System.nanoTime();
+            throttleFuture.whenComplete((r, ex) -> this.totalThrottleNanos.addAndGet(System.nanoTime() - startNanos));
+        }
+
+        return throttleFuture;
+    }
+
+    /**
+     * Records the fact that the effects of the given operation have been applied to the in-memory state. If the operation
+     * is traced, its latency breakdown is reported to the metrics and, if slow enough, retained.
+     *
+     * @param operation The {@link CompletableOperation}.
+     */
+    void committed(CompletableOperation operation) {
+        if (!operation.isTraced()) {
+            return;
+        }
+
+        OperationLatencyBreakdown latency = operation.getLatencyBreakdown();
+        if (latency != null) {
+            record(latency);
+        }
+    }
+
+    /**
+     * Reports the given latency breakdown to the metrics and, if slow enough, retains it.
+     *
+     * @param latency The {@link OperationLatencyBreakdown} to record.
+     */
+    @VisibleForTesting
+    void record(OperationLatencyBreakdown latency) {
+        this.metrics.operationTraced(latency);
+        if (this.slowest.length > 0 && latency.getTotalNanos() > this.slowestThresholdNanos) {
+            synchronized (this.slowest) {
+                if (this.slowestCount < this.slowest.length) {
+                    this.slowest[this.slowestCount++] = latency;
+                } else {
+                    int fastest = indexOfFastest();
+                    if (this.slowest[fastest].getTotalNanos() < latency.getTotalNanos()) {
+                        this.slowest[fastest] = latency;
+                    }
+                }
+
+                if (this.slowestCount == this.slowest.length) {
+                    this.slowestThresholdNanos = this.slowest[indexOfFastest()].getTotalNanos();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the slowest traced operations, slowest first.
+     *
+     * @return A List of {@link OperationLatencyBreakdown}s.
+     */
+    List<OperationLatencyBreakdown> getSlowestOperations() {
+        OperationLatencyBreakdown[] result;
+        synchronized (this.slowest) {
+            result = Arrays.copyOf(this.slowest, this.slowestCount);
+        }
+
+        Arrays.sort(result, SLOWEST_FIRST);
+        return Arrays.asList(result);
+    }
+
+    @GuardedBy("slowest")
+    private int indexOfFastest() {
+        int result = 0;
+        for (int i = 1; i < this.slowestCount; i++) {
+            if (this.slowest[i].getTotalNanos() < this.slowest[result].getTotalNanos()) {
+                result = i;
+            }
+        }
+
+        return result;
+    }
+
+    //endregion
+}
@@ -25,24 +25,32 @@ import io.pravega.common.concurrent.Futures;
 import io.pravega.common.function.Callbacks;
 import io.pravega.common.util.BlockingDrainingQueue;
 import io.pravega.common.util.PriorityBlockingDrainingQueue;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.server.CacheUtilizationProvider;
 import io.pravega.segmentstore.server.IllegalContainerStateException;
+import io.pravega.segmentstore.server.SegmentMetadata;
+import io.pravega.segmentstore.server.SegmentOperation;
 import io.pravega.segmentstore.server.SegmentStoreMetrics;
 import io.pravega.segmentstore.server.ServiceHaltException;
 import io.pravega.segmentstore.server.UpdateableContainerMetadata;
 import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
+import io.pravega.segmentstore.server.logs.operations.MultiSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationPriority;
 import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
+import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
 import io.pravega.segmentstore.storage.DataLogWriterNotPrimaryException;
 import io.pravega.segmentstore.storage.DurableDataLog;
 import io.pravega.segmentstore.storage.cache.CacheFullException;
+import io.pravega.shared.NameUtils;
 import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -69,6 +77,8 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
     private static final int MAX_READ_AT_ONCE = 1000;
     private static final int MAX_COMMIT_QUEUE_SIZE = 50;
     private static final Duration PROCESSOR_TIMEOUT = Duration.ofSeconds(5);
+    private static final int MAX_COALESCED_APPEND_COUNT = 1000;
+    private static final int MAX_COALESCED_APPEND_LENGTH = 1024 * 1024;
 
     private final UpdateableContainerMetadata metadata;
     private final MemoryStateUpdater stateUpdater;
@@ -84,6 +94,9 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
     private final SegmentStoreMetrics.OperationProcessor metrics;
     private final Throttler throttler;
     private final CacheUtilizationProvider cacheUtilizationProvider;
+    private final OperationLatencyTracker latencyTracker;
+    private final int appendCoalesceMaxLength;
+    private final Map<String, Integer> tenantWeights;
 
     //endregion
 
@@ -102,17 +115,48 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
      */
     OperationProcessor(UpdateableContainerMetadata metadata, MemoryStateUpdater stateUpdater, DurableDataLog durableDataLog,
                        MetadataCheckpointPolicy checkpointPolicy, ThrottlerPolicy throttlerPolicy, ScheduledExecutorService executor) {
+        this(metadata, stateUpdater, durableDataLog, checkpointPolicy, throttlerPolicy, 0, 0, 0, null, executor);
+    }
+
+    /**
+     * Creates a new instance of the OperationProcessor class.
+     *
+     * @param metadata                  The ContainerMetadata for the Container to process operations for.
+     * @param stateUpdater              A MemoryStateUpdater that is used to update in-memory structures upon successful Operation committal.
+     * @param durableDataLog            The DataFrameLog to write DataFrames to.
+     * @param checkpointPolicy          The Checkpoint Policy for Metadata.
+     * @param throttlerPolicy           Configuration parameters for ThrottlerCalculator.
+     * @param latencyTraceSamplingRate  One in how many Operations to trace the latency breakdown of. 0 disables tracing.
+     * @param latencyTraceSlowOperationCount The number of slowest traced Operations to retain.
+     * @param appendCoalesceMaxLength   The maximum length of a {@link StreamSegmentAppendOperation} that may be packed
+     *                                  into a {@link MultiSegmentAppendOperation}. 0 disables this.
+     * @param tenantWeights             (Optional) If provided, Operations with the same priority are queued fairly across
+     *                                  tenants (Scopes), each tenant being weighted by its value in this map (1 if
+     *                                  absent). If null, Operations with the same priority are processed in FIFO order.
+     * @param executor                  An Executor to use for async operations.
+     * @throws NullPointerException If any of the arguments are null.
+     */
+    OperationProcessor(UpdateableContainerMetadata metadata, MemoryStateUpdater stateUpdater, DurableDataLog durableDataLog,
+                       MetadataCheckpointPolicy checkpointPolicy, ThrottlerPolicy throttlerPolicy, int latencyTraceSamplingRate,
+                       int latencyTraceSlowOperationCount, int appendCoalesceMaxLength, Map<String, Integer> tenantWeights,
+                       ScheduledExecutorService executor) {
         super(String.format("OperationProcessor[%d]", metadata.getContainerId()), executor);
         Preconditions.checkNotNull(durableDataLog, "durableDataLog");
+        Preconditions.checkArgument(appendCoalesceMaxLength >= 0, "appendCoalesceMaxLength must be a non-negative number.");
+        this.appendCoalesceMaxLength = appendCoalesceMaxLength;
+        this.tenantWeights = tenantWeights;
         this.metadata = metadata;
         this.stateUpdater = Preconditions.checkNotNull(stateUpdater, "stateUpdater");
         this.metadataUpdater = new OperationMetadataUpdater(this.metadata);
-        this.operationQueue = new PriorityBlockingDrainingQueue<>(OperationPriority.getMaxPriorityValue());
+        this.operationQueue = tenantWeights == null
+                ? new PriorityBlockingDrainingQueue<>(OperationPriority.getMaxPriorityValue())
+                : new PriorityBlockingDrainingQueue<>(OperationPriority.getMaxPriorityValue(), this::getTenantWeight);
         this.commitQueue = new BlockingDrainingQueue<>();
         this.state = new QueueProcessingState(checkpointPolicy);
         val args = new DataFrameBuilder.Args(this.state::frameSealed, this.state::commit, this.state::fail, this.executor);
         this.dataFrameBuilder = new DataFrameBuilder<>(durableDataLog, OperationSerializer.DEFAULT, args);
         this.metrics = new SegmentStoreMetrics.OperationProcessor(this.metadata.getContainerId());
+        this.latencyTracker = new OperationLatencyTracker(latencyTraceSamplingRate, latencyTraceSlowOperationCount, this.metrics);
         this.cacheUtilizationProvider = stateUpdater.getCacheUtilizationProvider();
         val throttlerCalculator = ThrottlerCalculator
                 .builder()
@@ -145,7 +189,7 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         // OperationProcessor starts and is shut down as soon as doStop() is invoked.
         val queueProcessor = Futures
                 .loop(this::isRunning,
-                        () -> getThrottler().throttle()
+                        () -> this.latencyTracker.throttling(getThrottler().throttle())
                                 .thenComposeAsync(v -> this.operationQueue.take(getFetchCount(), PROCESSOR_TIMEOUT, this.executor), this.executor)
                                 .handleAsync((items, ex) -> handleProcessItems(items, this::processOperations, ex, "queueProcessor"), this.executor),
                         this.executor);
@@ -269,7 +313,12 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
                 if (this.operationQueue.isClosed()) {
                     getThrottler().notifyThrottleSourceChanged();
                 }
-                this.operationQueue.add(new CompletableOperation(operation, priority, result));
+                CompletableOperation completableOperation = new CompletableOperation(operation, priority, result);
+                if (this.tenantWeights != null) {
+                    completableOperation.setTenant(getTenant(operation));
+                }
+                this.latencyTracker.sample(completableOperation);
+                this.operationQueue.add(completableOperation);
             } catch (Throwable e) {
                 if (Exceptions.mustRethrow(e)) {
                     throw e;
@@ -289,6 +338,16 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         return result;
     }
 
+    /**
+     * Gets the slowest Operations traced by this OperationProcessor, along with the time they spent in each processing
+     * stage.
+     *
+     * @return A List of {@link OperationLatencyBreakdown}s, slowest first. This will be empty if tracing is disabled.
+     */
+    List<OperationLatencyBreakdown> getSlowestOperations() {
+        return this.latencyTracker.getSlowestOperations();
+    }
+
     /**
      * Gets the maximum number of Operations to fetch from the operation queue. This is calculated based on the estimated
      * cache insertion capacity and its goal is to reduce the number of operations we have in flight as we near the
@@ -351,7 +410,12 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
                 // Process the current set of operations.
                 while (!operations.isEmpty()) {
                     CompletableOperation o = operations.poll();
-                    this.metrics.operationQueueWaitTime(o.getTimer().getElapsedMillis());
+                    if (canCoalesce(o) && canCoalesce(operations.peek())) {
+                        count += processCoalescedAppends(o, operations);
+                        continue;
+                    }
+
+                    operationDequeued(o);
                     try {
                         processOperation(o);
                         this.state.addPending(o);
@@ -440,6 +504,158 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
         log.trace("{}: DataFrameBuilder.Append {}.", this.traceObjectId, entry);
     }
 
+    /**
+     * Processes a run of small {@link StreamSegmentAppendOperation}s, starting with the given one and continuing with as
+     * many as can be coalesced from the head of the given queue, by packing them into a single {@link MultiSegmentAppendOperation}.
+     * Each append is still pre-processed, assigned a Sequence Number and accepted individually, so a failure of one of
+     * them (i.e., Segment sealed, conditional update failed) is isolated to itself.
+     *
+     * Since appends are pre-processed before any of them is accepted (to preserve the ordering of {@link #processOperation}),
+     * only one append per Segment may be packed at once; the run ends at the first append to a Segment already in it.
+     *
+     * @param first      The first operation to process.
+     * @param operations The queue to pick further operations from.
+     * @return The number of operations that were successfully processed.
+     * @throws Exception If an exception occurred which prevents any further operations from being processed.
+     */
+    private int processCoalescedAppends(CompletableOperation first, Queue<CompletableOperation> operations) throws Exception {
+        val toProcess = new ArrayList<CompletableOperation>();
+        val segmentIds = new HashSet<Long>();
+        long length = 0;
+        CompletableOperation o = first;
+        while (true) {
+            operationDequeued(o);
+            toProcess.add(o);
+            segmentIds.add(((StreamSegmentAppendOperation) o.getOperation()).getStreamSegmentId());
+            length += o.getOperation().getCacheLength();
+            CompletableOperation next = operations.peek();
+            if (toProcess.size() >= MAX_COALESCED_APPEND_COUNT || length >= MAX_COALESCED_APPEND_LENGTH || !canCoalesce(next)
+                    || segmentIds.contains(((StreamSegmentAppendOperation) next.getOperation()).getStreamSegmentId())) {
+                break;
+            }
+
+            o = operations.poll();
+        }
+
+        val processed = new ArrayList<CompletableOperation>(toProcess.size());
+        synchronized (this.stateLock) {
+            // Update Metadata and Operations with any missing data (offsets, lengths, etc).
+            for (CompletableOperation p : toProcess) {
+                try {
+                    Preconditions.checkState(!p.isDone(), "The Operation has already been processed.");
+                    this.metadataUpdater.preProcessOperation(p.getOperation());
+                    processed.add(p);
+                } catch (Throwable ex) {
+                    failCoalescedAppends(Collections.singletonList(p), ex, toProcess);
+                }
+            }
+
+            if (processed.isEmpty()) {
+                return 0;
+            }
+
+            // Assign consecutive sequence numbers and serialize all the appends as a single entry.
+            val appends = new ArrayList<StreamSegmentAppendOperation>(processed.size());
+            for (CompletableOperation p : processed) {
+                p.getOperation().setSequenceNumber(this.metadataUpdater.nextOperationSequenceNumber());
+                appends.add((StreamSegmentAppendOperation) p.getOperation());
+            }
+
+            Operation entry = appends.get(0);
+            if (appends.size() > 1) {
+                // The record takes the Sequence Number of the last append, so that recovery picks up from there.
+                entry = new MultiSegmentAppendOperation(appends);
+                entry.setSequenceNumber(appends.get(appends.size() - 1).getSequenceNumber());
+            }
+
+            try {
+                this.dataFrameBuilder.append(entry);
+            } catch (Throwable ex) {
+                // None of these appends made it into the DataFrameBuilder.
+                failCoalescedAppends(processed, ex, toProcess);
+                return 0;
+            }
+
+            val iterator = processed.iterator();
+            while (iterator.hasNext()) {
+                CompletableOperation p = iterator.next();
+                try {
+                    this.metadataUpdater.acceptOperation(p.getOperation());
+                } catch (Throwable ex) {
+                    iterator.remove();
+                    failCoalescedAppends(Collections.singletonList(p), ex, processed);
+                }
+            }
+        }
+
+        log.trace("{}: DataFrameBuilder.Append {} coalesced appends.", this.traceObjectId, processed.size());
+        processed.forEach(this.state::addPending);
+        return processed.size();
+    }
+
+    /**
+     * Fails the given coalesced appends. If the failure is fatal, all the other appends in the same run that have not
+     * yet completed are failed too and the exception is rethrown, since they will not be processed anymore.
+     */
+    private void failCoalescedAppends(List<CompletableOperation> failed, Throwable ex, List<CompletableOperation> run) {
+        Throwable cause = Exceptions.unwrap(ex);
+        failed.forEach(o -> this.state.failOperation(o, cause));
+        if (isFatalException(cause)) {
+            run.stream().filter(o -> !o.isDone()).forEach(o -> this.state.failOperation(o, cause));
+            throw Exceptions.sneakyThrow(cause);
+        }
+    }
+
+    /**
+     * Determines whether the given operation may be packed, along with other operations, into a {@link MultiSegmentAppendOperation}.
+     *
+     * @param operation The operation to check. May be null.
+     * @return True if the operation may be packed, false otherwise.
+     */
+    private boolean canCoalesce(CompletableOperation operation) {
+        return this.appendCoalesceMaxLength > 0
+                && operation != null
+                && operation.getOperation() instanceof StreamSegmentAppendOperation
+                && operation.getOperation().getCacheLength() <= this.appendCoalesceMaxLength;
+    }
+
+    /**
+     * Records the fact that the given operation has been picked up from the operation queue.
+     *
+     * @param operation The operation.
+     */
+    private void operationDequeued(CompletableOperation operation) {
+        long queueWaitTimeMillis = operation.getTimer().getElapsedMillis();
+        this.metrics.operationQueueWaitTime(queueWaitTimeMillis);
+        if (operation.getTenant() != null) {
+            this.metrics.tenantQueueWaitTime(operation.getTenant(), queueWaitTimeMillis);
+        }
+        this.latencyTracker.dequeued(operation);
+    }
+
+    /**
+     * Determines the tenant (Scope) that the given operation belongs to, for fair queuing purposes.
+     *
+     * @param operation The operation.
+     * @return The name of the Scope of the operation's Segment, or null if it does not apply to a (mapped) Segment or if
+     * the Segment's name is not qualified by a Scope.
+     */
+    private String getTenant(Operation operation) {
+        if (operation instanceof SegmentOperation) {
+            SegmentMetadata sm = this.metadata.getStreamSegmentMetadata(((SegmentOperation) operation).getStreamSegmentId());
+            if (sm != null) {
+                return NameUtils.extractScopeName(sm.getName());
+            }
+        }
+
+        return null;
+    }
+
+    private int getTenantWeight(Object tenant) {
+        Integer weight = tenant == null ? null : this.tenantWeights.get(tenant);
+        return weight == null ? 1 : weight;
+    }
+
     /**
      * Closes the Operation Queue and fails all Operations in it with the given exception.
      *
@@ -493,6 +709,9 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
                 Timer memoryCommitTimer = new Timer();
                 this.stateUpdater.process(items.stream().flatMap(List::stream).map(CompletableOperation::getOperation).iterator(),
                         this.state::notifyOperationCommitted);
+                if (this.latencyTracker.isEnabled()) {
+                    items.forEach(l -> l.forEach(this.latencyTracker::committed));
+                }
                 this.metrics.memoryCommit(items.size(), memoryCommitTimer.getElapsed());
                 this.metrics.reportOperationLogSize(this.stateUpdater.getInMemoryOperationLogSize(), this.metadata.getContainerId());
                 items = this.commitQueue.poll(MAX_COMMIT_QUEUE_SIZE);
@@ -592,6 +811,10 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
          */
         void frameSealed(DataFrameBuilder.CommitArgs commitArgs) {
             synchronized (stateLock) {
+                if (latencyTracker.isEnabled()) {
+                    this.nextFrameOperations.forEach(CompletableOperation::traceFrameSealed);
+                }
+
                 commitArgs.setMetadataTransactionId(OperationProcessor.this.metadataUpdater.sealTransaction());
                 commitArgs.setOperations(Collections.unmodifiableList(this.nextFrameOperations));
                 this.nextFrameOperations = new ArrayList<>();
@@ -637,6 +860,9 @@ class OperationProcessor extends AbstractThreadPoolService implements AutoClosea
 
                     // Collect operations to commit.
                     toAck = collectCompletionCandidates(commitArgs);
+                    if (latencyTracker.isEnabled()) {
+                        toAck.forEach(l -> l.forEach(CompletableOperation::traceDurable));
+                    }
 
                     // Commit metadata updates.
                     OperationProcessor.this.metadataUpdater.commit(commitArgs.getMetadataTransactionId());
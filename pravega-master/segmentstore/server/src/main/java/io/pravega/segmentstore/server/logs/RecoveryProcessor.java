@@ -26,6 +26,7 @@ import io.pravega.segmentstore.server.ServiceHaltException;
 import io.pravega.segmentstore.server.UpdateableContainerMetadata;
 import io.pravega.segmentstore.server.logs.operations.CheckpointOperationBase;
 import io.pravega.segmentstore.server.logs.operations.MetadataCheckpointOperation;
+import io.pravega.segmentstore.server.logs.operations.MultiSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationSerializer;
 import io.pravega.segmentstore.server.logs.operations.StreamSegmentAppendOperation;
@@ -199,8 +200,19 @@ class RecoveryProcessor {
     }
 
     protected void recoverOperation(DataFrameRecord<Operation> dataFrameRecord, OperationMetadataUpdater metadataUpdater) throws ServiceHaltException {
-        // Update Metadata Sequence Number.
         Operation operation = dataFrameRecord.getItem();
+        if (operation instanceof MultiSegmentAppendOperation) {
+            // This record packs multiple appends, each with its own Sequence Number. Recover them individually.
+            for (StreamSegmentAppendOperation append : ((MultiSegmentAppendOperation) operation).getAppends()) {
+                recoverOperation(append, metadataUpdater);
+            }
+        } else {
+            recoverOperation(operation, metadataUpdater);
+        }
+    }
+
+    private void recoverOperation(Operation operation, OperationMetadataUpdater metadataUpdater) throws ServiceHaltException {
+        // Update Metadata Sequence Number.
         metadataUpdater.setOperationSequenceNumber(operation.getSequenceNumber());
 
         // Compute integrity check for recovered Appends.
@@ -22,10 +22,13 @@ import io.pravega.common.Exceptions;
 import io.pravega.common.Timer;
 import io.pravega.common.function.Callbacks;
 import io.pravega.common.util.PriorityBlockingDrainingQueue;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
+import io.pravega.segmentstore.server.SegmentOperation;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -35,6 +38,8 @@ import lombok.extern.slf4j.Slf4j;
 public class CompletableOperation implements PriorityBlockingDrainingQueue.Item {
     //region Members
 
+    private static final long NOT_TRACED = -1;
+
     private final Operation operation;
     @Getter
     private final OperationPriority priority;
@@ -43,6 +48,21 @@ public class CompletableOperation implements PriorityBlockingDrainingQueue.Item
     @Getter
     private final AbstractTimer timer;
     private boolean done;
+    /**
+     * The tenant (Scope) that this operation belongs to, if known. Used for fair queuing.
+     */
+    @Getter
+    @Setter
+    private String tenant;
+
+    // Latency tracing. These are only set if this operation has been sampled for tracing (traceStartNanos != NOT_TRACED).
+    // Each stage is recorded by the thread that owns the operation at that time; the hand-offs between these threads
+    // (queues and locks) make the previous values visible to the next stage.
+    private long traceStartNanos = NOT_TRACED;
+    private long traceThrottleNanos;
+    private long traceDequeuedNanos;
+    private long traceFrameSealedNanos;
+    private long traceDurableNanos;
 
     //endregion
 
@@ -132,5 +152,91 @@ public class CompletableOperation implements PriorityBlockingDrainingQueue.Item
         return this.priority.getValue();
     }
 
+    @Override
+    public Object getFairnessKey() {
+        return this.tenant;
+    }
+
+    //endregion
+
+    //region Latency Tracing
+
+    /**
+     * Marks this operation as sampled for latency tracing. The remaining stages will only be recorded if this has been
+     * invoked.
+     *
+     * @param totalThrottleNanos The total amount of time the Operation Processor has spent throttling so far. Used to
+     *                           determine how much of this operation's queue time was due to throttling.
+     */
+    public void startTrace(long totalThrottleNanos) {
+        this.traceStartNanos = System.nanoTime();
+        this.traceThrottleNanos = totalThrottleNanos;
+    }
+
+    /**
+     * Gets a value indicating whether this operation has been sampled for latency tracing.
+     *
+     * @return True if traced, false otherwise.
+     */
+    public boolean isTraced() {
+        return this.traceStartNanos != NOT_TRACED;
+    }
+
+    /**
+     * Records the time when this operation was picked up from the operation queue, if traced.
+     *
+     * @param totalThrottleNanos The total amount of time the Operation Processor has spent throttling so far.
+     */
+    public void traceDequeued(long totalThrottleNanos) {
+        if (isTraced()) {
+            this.traceDequeuedNanos = System.nanoTime();
+            this.traceThrottleNanos = Math.min(totalThrottleNanos - this.traceThrottleNanos, this.traceDequeuedNanos - this.traceStartNanos);
+        }
+    }
+
+    /**
+     * Records the time when the Data Frame containing this operation was sealed, if traced.
+     */
+    public void traceFrameSealed() {
+        if (isTraced()) {
+            this.traceFrameSealedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Records the time when the Data Frame containing this operation was durably written, if traced.
+     */
+    public void traceDurable() {
+        if (isTraced()) {
+            this.traceDurableNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Creates an {@link OperationLatencyBreakdown} for this operation, assuming its effects have just been applied to the
+     * in-memory state.
+     *
+     * @return The {@link OperationLatencyBreakdown}, or null if this operation is not traced or has not gone through
+     * all the stages.
+     */
+    public OperationLatencyBreakdown getLatencyBreakdown() {
+        if (!isTraced() || this.traceDequeuedNanos == 0 || this.traceFrameSealedNanos == 0 || this.traceDurableNanos == 0) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        return OperationLatencyBreakdown.builder()
+                .operationType(this.operation.getClass().getSimpleName())
+                .sequenceNumber(this.operation.getSequenceNumber())
+                .segmentId(this.operation instanceof SegmentOperation ? ((SegmentOperation) this.operation).getStreamSegmentId() : -1)
+                .totalNanos(now - this.traceStartNanos)
+                .queueNanos(this.traceDequeuedNanos - this.traceStartNanos - this.traceThrottleNanos)
+                .throttleNanos(this.traceThrottleNanos)
+                .batchingNanos(this.traceFrameSealedNanos - this.traceDequeuedNanos)
+                .durableWriteNanos(this.traceDurableNanos - this.traceFrameSealedNanos)
+                .memoryCommitNanos(now - this.traceDurableNanos)
+                .build();
+    }
+
     //endregion
 }
@@ -0,0 +1,156 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs.operations;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.io.serialization.RevisionDataInput;
+import io.pravega.common.io.serialization.RevisionDataOutput;
+import io.pravega.common.util.ByteArraySegment;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Log Operation that packs multiple {@link StreamSegmentAppendOperation}s (usually small ones, to different Segments)
+ * into a single record in the DurableDataLog, which saves on per-record overhead.
+ *
+ * This operation is only used for serialization: each of its component {@link StreamSegmentAppendOperation}s is
+ * processed individually (i.e., metadata updates, In-Memory Log and Read Index) and has its own Sequence Number. These
+ * Sequence Numbers are consecutive and the last one is the Sequence Number of this operation.
+ */
+public class MultiSegmentAppendOperation extends Operation {
+    //region Members
+
+    private List<StreamSegmentAppendOperation> appends;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the MultiSegmentAppendOperation class.
+     *
+     * @param appends The {@link StreamSegmentAppendOperation}s to pack. By the time this operation is serialized, these
+     *                must have been assigned consecutive Sequence Numbers (in order), the last of which must be the
+     *                Sequence Number of this operation.
+     */
+    public MultiSegmentAppendOperation(@NonNull List<StreamSegmentAppendOperation> appends) {
+        Preconditions.checkArgument(!appends.isEmpty(), "appends must not be empty.");
+        this.appends = Collections.unmodifiableList(appends);
+    }
+
+    /**
+     * Deserialization constructor.
+     */
+    private MultiSegmentAppendOperation() {
+    }
+
+    //endregion
+
+    //region MultiSegmentAppendOperation Implementation
+
+    /**
+     * Gets the {@link StreamSegmentAppendOperation}s packed in this operation, in order.
+     *
+     * @return An unmodifiable List of {@link StreamSegmentAppendOperation}s.
+     */
+    public List<StreamSegmentAppendOperation> getAppends() {
+        return this.appends;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s, AppendCount = %d", super.toString(), this.appends.size());
+    }
+
+    //endregion
+
+    static class Serializer extends OperationSerializer<MultiSegmentAppendOperation> {
+        private static final int APPEND_STATIC_LENGTH = 2 * Long.BYTES;
+        private final StreamSegmentAppendOperation.Serializer appendSerializer = new StreamSegmentAppendOperation.Serializer();
+
+        @Override
+        protected OperationBuilder<MultiSegmentAppendOperation> newBuilder() {
+            return new OperationBuilder<>(new MultiSegmentAppendOperation());
+        }
+
+        @Override
+        protected byte getWriteVersion() {
+            return 0;
+        }
+
+        @Override
+        protected void declareVersions() {
+            version(0).revision(0, this::write00, this::read00);
+        }
+
+        @Override
+        protected void beforeSerialization(MultiSegmentAppendOperation o) {
+            super.beforeSerialization(o);
+            long firstSequenceNumber = getFirstSequenceNumber(o.getSequenceNumber(), o.appends.size());
+            for (int i = 0; i < o.appends.size(); i++) {
+                StreamSegmentAppendOperation a = o.appends.get(i);
+                Preconditions.checkState(a.getSequenceNumber() == firstSequenceNumber + i,
+                        "Sequence Number of %s is not consecutive or does not match the one of the MultiSegmentAppendOperation.", a);
+                Preconditions.checkState(a.streamSegmentOffset >= 0, "StreamSegment Offset has not been assigned for %s.", a);
+            }
+        }
+
+        private long getFirstSequenceNumber(long lastSequenceNumber, int appendCount) {
+            return lastSequenceNumber - appendCount + 1;
+        }
+
+        private void write00(MultiSegmentAppendOperation o, RevisionDataOutput target) throws IOException {
+            // The Sequence Numbers of the appends are not serialized; they are derived from this operation's.
+            target.length(Long.BYTES + target.getCollectionLength(o.appends, a -> getAppendLength(a, target)));
+            target.writeLong(o.getSequenceNumber());
+            target.writeCollection(o.appends, this::writeAppend00);
+        }
+
+        private int getAppendLength(StreamSegmentAppendOperation a, RevisionDataOutput target) {
+            int dataLength = a.data.getLength();
+            return APPEND_STATIC_LENGTH + target.getCompactIntLength(dataLength) + dataLength
+                    + this.appendSerializer.getAttributesLength10(a.attributeUpdates, target);
+        }
+
+        private void writeAppend00(RevisionDataOutput target, StreamSegmentAppendOperation a) throws IOException {
+            target.writeLong(a.getStreamSegmentId());
+            target.writeLong(a.streamSegmentOffset);
+            target.writeBuffer(a.data);
+            this.appendSerializer.writeAttributes10(a.attributeUpdates, target);
+        }
+
+        private void read00(RevisionDataInput source, OperationBuilder<MultiSegmentAppendOperation> b) throws IOException {
+            b.instance.setSequenceNumber(source.readLong());
+            List<StreamSegmentAppendOperation> appends = source.readCollection(this::readAppend00, ArrayList::new);
+            long firstSequenceNumber = getFirstSequenceNumber(b.instance.getSequenceNumber(), appends.size());
+            for (int i = 0; i < appends.size(); i++) {
+                appends.get(i).setSequenceNumber(firstSequenceNumber + i);
+            }
+
+            b.instance.appends = Collections.unmodifiableList(appends);
+        }
+
+        private StreamSegmentAppendOperation readAppend00(RevisionDataInput source) throws IOException {
+            long segmentId = source.readLong();
+            long offset = source.readLong();
+            ByteArraySegment data = new ByteArraySegment(source.readArray()); // No need to invoke BufferView.retain() here.
+            return new StreamSegmentAppendOperation(segmentId, offset, data, this.appendSerializer.readAttributes10(source));
+        }
+    }
+}
@@ -277,27 +277,71 @@ public class StreamSegmentAppendOperation extends StorageOperation implements At
 
         private void write(StreamSegmentAppendOperation o, RevisionDataOutput target, int attributeUUIDLength,
                            RevisionDataOutput.ElementSerializer<AttributeUpdate> serializeAttributeUUID) throws IOException {
-            int attributesLength;
-            if (o.attributeUpdates == null) {
-                attributesLength = 2 * target.getCompactIntLength(0); // UUIDs and Variables are stored separately.
-            } else {
-                attributesLength = target.getCollectionLength(o.attributeUpdates.getUUIDAttributeUpdates().size(), attributeUUIDLength);
-                attributesLength += o.attributeUpdates.hasVariableAttributeIds()
-                        ? target.getCollectionLength(o.attributeUpdates.getVariableAttributeUpdates(), au -> getAttributeUpdateLengthVariable(target, au))
-                        : target.getCompactIntLength(0);
-            }
+            int attributesLength = getAttributesLength(o.attributeUpdates, target, attributeUUIDLength);
             int dataLength = o.getData().getLength();
             target.length(STATIC_LENGTH + target.getCompactIntLength(dataLength) + dataLength + attributesLength);
             target.writeLong(o.getSequenceNumber());
             target.writeLong(o.getStreamSegmentId());
             target.writeLong(o.streamSegmentOffset);
             target.writeBuffer(o.data);
-            if (o.attributeUpdates == null) {
+            writeAttributes(o.attributeUpdates, target, serializeAttributeUUID);
+        }
+
+        /**
+         * Calculates the serialization length of the given Attribute Updates, as written by {@link #writeAttributes10}.
+         *
+         * @param attributeUpdates The Attribute Updates. May be null.
+         * @param target           The {@link RevisionDataOutput} the Attribute Updates will be written to.
+         * @return The serialization length.
+         */
+        int getAttributesLength10(AttributeUpdateCollection attributeUpdates, RevisionDataOutput target) {
+            return getAttributesLength(attributeUpdates, target, ATTRIBUTE_UPDATE_LENGTH_UUID_V1);
+        }
+
+        /**
+         * Serializes the given Attribute Updates using the Version 1 encoding.
+         *
+         * @param attributeUpdates The Attribute Updates. May be null.
+         * @param target           The {@link RevisionDataOutput} to write to.
+         * @throws IOException If an IO Exception occurred.
+         */
+        void writeAttributes10(AttributeUpdateCollection attributeUpdates, RevisionDataOutput target) throws IOException {
+            writeAttributes(attributeUpdates, target, this::writeAttributeUpdateUUID10);
+        }
+
+        /**
+         * Deserializes Attribute Updates that have been serialized using {@link #writeAttributes10}.
+         *
+         * @param source The {@link RevisionDataInput} to read from.
+         * @return An {@link AttributeUpdateCollection}.
+         * @throws IOException If an IO Exception occurred.
+         */
+        AttributeUpdateCollection readAttributes10(RevisionDataInput source) throws IOException {
+            AttributeUpdateCollection result = source.readCollection(this::readAttributeUpdateUUID10, AttributeUpdateCollection::new);
+            source.readCollection(this::readAttributeUpdateVariable10, () -> result);
+            return result;
+        }
+
+        private int getAttributesLength(AttributeUpdateCollection attributeUpdates, RevisionDataOutput target, int attributeUUIDLength) {
+            if (attributeUpdates == null) {
+                return 2 * target.getCompactIntLength(0); // UUIDs and Variables are stored separately.
+            }
+
+            int attributesLength = target.getCollectionLength(attributeUpdates.getUUIDAttributeUpdates().size(), attributeUUIDLength);
+            attributesLength += attributeUpdates.hasVariableAttributeIds()
+                    ? target.getCollectionLength(attributeUpdates.getVariableAttributeUpdates(), au -> getAttributeUpdateLengthVariable(target, au))
+                    : target.getCompactIntLength(0);
+            return attributesLength;
+        }
+
+        private void writeAttributes(AttributeUpdateCollection attributeUpdates, RevisionDataOutput target,
+                                     RevisionDataOutput.ElementSerializer<AttributeUpdate> serializeAttributeUUID) throws IOException {
+            if (attributeUpdates == null) {
                 target.writeCollection(null, serializeAttributeUUID);
                 target.writeCollection(null, this::writeAttributeUpdateVariable10);
             } else {
-                target.writeCollection(o.attributeUpdates.getUUIDAttributeUpdates(), serializeAttributeUUID);
-                target.writeCollection(o.attributeUpdates.getVariableAttributeUpdates(), this::writeAttributeUpdateVariable10);
+                target.writeCollection(attributeUpdates.getUUIDAttributeUpdates(), serializeAttributeUUID);
+                target.writeCollection(attributeUpdates.getVariableAttributeUpdates(), this::writeAttributeUpdateVariable10);
             }
         }
 
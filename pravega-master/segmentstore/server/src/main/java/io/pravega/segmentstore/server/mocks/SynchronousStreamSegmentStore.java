@@ -29,6 +29,7 @@ import io.pravega.segmentstore.contracts.AttributeUpdate;
 import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
 import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.SegmentType;
@@ -81,6 +82,13 @@ public class SynchronousStreamSegmentStore implements StreamSegmentStore {
         return result;
     }
 
+    @Override
+    public CompletableFuture<List<OperationLatencyBreakdown>> getSlowestOperations(int containerId, Duration timeout) {
+        CompletableFuture<List<OperationLatencyBreakdown>> result = impl.getSlowestOperations(containerId, timeout);
+        Futures.await(result);
+        return result;
+    }
+
     @Override
     public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfo(String streamSegmentName, Duration timeout) {
         CompletableFuture<List<ExtendedChunkInfo>> result = impl.getExtendedChunkInfo(streamSegmentName, timeout);
@@ -125,6 +133,15 @@ public class SynchronousStreamSegmentStore implements StreamSegmentStore {
         return result;
     }
 
+    @Override
+    public CompletableFuture<List<MergeStreamSegmentResult>> mergeStreamSegments(String targetStreamSegment, List<String> sourceStreamSegments,
+                                                                                 List<AttributeUpdateCollection> attributeUpdates,
+                                                                                 Duration timeout) {
+        CompletableFuture<List<MergeStreamSegmentResult>> result = impl.mergeStreamSegments(targetStreamSegment, sourceStreamSegments, attributeUpdates, timeout);
+        Futures.await(result);
+        return result;
+    }
+
     @Override
     public CompletableFuture<Long> sealStreamSegment(String streamSegmentName, Duration timeout) {
         CompletableFuture<Long> result = impl.sealStreamSegment(streamSegmentName, timeout);
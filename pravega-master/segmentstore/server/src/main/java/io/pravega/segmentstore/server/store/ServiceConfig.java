@@ -100,6 +100,9 @@ public class ServiceConfig {
     public static final Property<Integer> DEFAULT_SINGLE_CONNECTION_MAX_OUTSTANDING_BYTES = Property.named("default.single.connections.max.outstanding.bytes",
             128 * 1024 * 1024);
 
+    // Tenant (Scope) append rate limit. 0 means unlimited. Throttling pauses the whole connection, including other Scopes on it.
+    public static final Property<Integer> TENANT_APPEND_RATE_MAX_BYTES = Property.named("tenant.append.rate.bytes.max", 0);
+
 
     public static final String COMPONENT_CODE = "pravegaservice";
 
@@ -362,6 +365,14 @@ public class ServiceConfig {
 
     @Getter
     private final int defaultSingleConnectionsMaxOutstandingBytes;
+
+    /**
+     * The maximum rate (bytes per second) at which each tenant (Scope) may append data to this Segment Store, across all
+     * of its connections. Bursts of up to one second's worth of data are allowed. 0 means unlimited.
+     * Throttling pauses reading from the whole connection, so appends to other Scopes that share it are stalled as well.
+     */
+    @Getter
+    private final int tenantAppendRateMaxBytes;
     //endregion
 
     //region Constructor
@@ -443,6 +454,7 @@ public class ServiceConfig {
         this.adminGatewayPort = properties.getInt(ADMIN_GATEWAY_PORT);
         this.defaultAllConnectionsMaxOutstandingBytes = properties.getInt(DEFAULT_ALL_CONNECTIONS_MAX_OUTSTANDING_BYTES);
         this.defaultSingleConnectionsMaxOutstandingBytes = properties.getInt(DEFAULT_SINGLE_CONNECTION_MAX_OUTSTANDING_BYTES);
+        this.tenantAppendRateMaxBytes = properties.getNonNegativeInt(TENANT_APPEND_RATE_MAX_BYTES);
     }
 
     /**
@@ -492,6 +504,7 @@ public class ServiceConfig {
                 .append(String.format("enableTlsReload: %b, ", enableTlsReload))
                 .append(String.format("cachePolicy is %s, ", (cachePolicy != null) ? cachePolicy.toString() : "null"))
                 .append(String.format("replyWithStackTraceOnError: %b, ", replyWithStackTraceOnError))
+                .append(String.format("tenantAppendRateMaxBytes: %d, ", tenantAppendRateMaxBytes))
                 .append(String.format("instanceId: %s", instanceId))
                 .append(String.format("enableAdminGateway: %b, ", enableAdminGateway))
                 .append(String.format("adminGatewayPort: %s", adminGatewayPort))
@@ -21,6 +21,7 @@ import io.pravega.segmentstore.contracts.AttributeUpdate;
 import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
 import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.SegmentType;
@@ -96,6 +97,14 @@ public class StreamSegmentService extends SegmentContainerCollection implements
                 "flushToStorage");
     }
 
+    @Override
+    public CompletableFuture<List<OperationLatencyBreakdown>> getSlowestOperations(int containerId, Duration timeout) {
+        return invoke(
+                containerId,
+                container -> CompletableFuture.completedFuture(container.getSlowestOperations()),
+                "getSlowestOperations");
+    }
+
     @Override
     public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfo(String streamSegmentName, Duration timeout) {
         return invoke(
@@ -146,6 +155,16 @@ public class StreamSegmentService extends SegmentContainerCollection implements
                 "mergeStreamSegment", targetStreamSegment, sourceStreamSegment);
     }
 
+    @Override
+    public CompletableFuture<List<MergeStreamSegmentResult>> mergeStreamSegments(String targetStreamSegment, List<String> sourceStreamSegments,
+                                                                                 List<AttributeUpdateCollection> attributeUpdates,
+                                                                                 Duration timeout) {
+        return invoke(
+                targetStreamSegment,
+                container -> container.mergeStreamSegments(targetStreamSegment, sourceStreamSegments, attributeUpdates, timeout),
+                "mergeStreamSegments", targetStreamSegment, sourceStreamSegments);
+    }
+
     @Override
     public CompletableFuture<Long> sealStreamSegment(String streamSegmentName, Duration timeout) {
         return invoke(
@@ -24,8 +24,7 @@ import io.pravega.segmentstore.contracts.tables.TableEntry;
 import io.pravega.segmentstore.contracts.tables.TableKey;
 import io.pravega.segmentstore.contracts.tables.TableStore;
 import java.util.Collection;
-import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -90,24 +89,32 @@ public class EntrySerializer {
         return serializeUpdate(entries, e -> TableKey.NO_VERSION);
     }
 
-    private BufferView serializeUpdate(@NonNull Collection<TableEntry> entries, Function<TableKey, Long> getVersion) {
+    private BufferView serializeUpdate(@NonNull Collection<TableEntry> entries, ToLongFunction<TableKey> getVersion) {
+        int length = 0;
+        for (TableEntry e : entries) {
+            Preconditions.checkArgument(e.getKey().getKey().getLength() <= MAX_KEY_LENGTH, "Key too large.");
+            int serializationLength = getUpdateLength(e);
+            Preconditions.checkArgument(serializationLength <= MAX_SERIALIZATION_LENGTH, "Key+Value serialization too large.");
+            length += serializationLength;
+        }
+
+        Preconditions.checkArgument(length <= MAX_BATCH_SIZE, "Update batch size cannot exceed %s. Given %s.", MAX_BATCH_SIZE, length);
+
+        // Serialize all the headers into a single buffer and reference the keys and values as they are, so that only the
+        // headers are copied.
+        val headers = new ByteArraySegment(new byte[entries.size() * HEADER_LENGTH]);
         val builder = BufferView.builder(entries.size() * 3);
-        entries.forEach(e -> serializeUpdate(e, getVersion, builder::add));
-        Preconditions.checkArgument(builder.getLength() <= MAX_BATCH_SIZE, "Update batch size cannot exceed %s. Given %s.", MAX_BATCH_SIZE, builder.getLength());
-        return builder.build();
-    }
+        int headerOffset = 0;
+        for (TableEntry e : entries) {
+            val key = e.getKey().getKey();
+            val value = e.getValue();
+            builder.add(writeHeader(headers, headerOffset, key.getLength(), value.getLength(), getVersion.applyAsLong(e.getKey())));
+            builder.add(key);
+            builder.add(value);
+            headerOffset += HEADER_LENGTH;
+        }
 
-    private void serializeUpdate(@NonNull TableEntry entry, Function<TableKey, Long> getVersion, Consumer<BufferView> acceptBuffer) {
-        val key = entry.getKey().getKey();
-        val value = entry.getValue();
-        Preconditions.checkArgument(key.getLength() <= MAX_KEY_LENGTH, "Key too large.");
-        int serializationLength = getUpdateLength(entry);
-        Preconditions.checkArgument(serializationLength <= MAX_SERIALIZATION_LENGTH, "Key+Value serialization too large.");
-
-        // Serialize Header.
-        acceptBuffer.accept(serializeHeader(key.getLength(), value.getLength(), getVersion.apply(entry.getKey())));
-        acceptBuffer.accept(key);
-        acceptBuffer.accept(value);
+        return builder.build();
     }
 
     /**
@@ -144,18 +151,20 @@ public class EntrySerializer {
      */
     @VisibleForTesting
     public BufferView serializeRemoval(@NonNull Collection<TableKey> keys) {
+        val headers = new ByteArraySegment(new byte[keys.size() * HEADER_LENGTH]);
         val builder = BufferView.builder(keys.size() * 2);
-        keys.forEach(k -> serializeRemoval(k, builder::add));
-        return builder.build();
-    }
-
-    private void serializeRemoval(@NonNull TableKey tableKey, Consumer<BufferView> acceptBuffer) {
-        val key = tableKey.getKey();
-        Preconditions.checkArgument(key.getLength() <= MAX_KEY_LENGTH, "Key too large.");
+        int headerOffset = 0;
+        for (TableKey k : keys) {
+            val key = k.getKey();
+            Preconditions.checkArgument(key.getLength() <= MAX_KEY_LENGTH, "Key too large.");
+
+            // Serialize Header. Not caring about explicit versions since we do not reinsert removals upon compaction.
+            builder.add(writeHeader(headers, headerOffset, key.getLength(), NO_VALUE, TableKey.NO_VERSION));
+            builder.add(key);
+            headerOffset += HEADER_LENGTH;
+        }
 
-        // Serialize Header. Not caring about explicit versions since we do not reinsert removals upon compaction.
-        acceptBuffer.accept(serializeHeader(key.getLength(), NO_VALUE, TableKey.NO_VERSION));
-        acceptBuffer.accept(key);
+        return builder.build();
     }
 
     //endregion
@@ -179,13 +188,12 @@ public class EntrySerializer {
         return new Header(version, keyLength, valueLength, entryVersion);
     }
 
-    private BufferView serializeHeader(int keyLength, int valueLength, long entryVersion) {
-        ByteArraySegment data = new ByteArraySegment(new byte[HEADER_LENGTH]);
-        data.set(VERSION_POSITION, CURRENT_SERIALIZATION_VERSION);
-        data.setInt(KEY_POSITION, keyLength);
-        data.setInt(VALUE_POSITION, valueLength);
-        data.setLong(ENTRY_VERSION_POSITION, entryVersion);
-        return data;
+    private BufferView writeHeader(ByteArraySegment headers, int offset, int keyLength, int valueLength, long entryVersion) {
+        headers.set(offset + VERSION_POSITION, CURRENT_SERIALIZATION_VERSION);
+        headers.setInt(offset + KEY_POSITION, keyLength);
+        headers.setInt(offset + VALUE_POSITION, valueLength);
+        headers.setLong(offset + ENTRY_VERSION_POSITION, entryVersion);
+        return headers.slice(offset, HEADER_LENGTH);
     }
 
     private void validateHeader(int keyLength, int valueLength) throws SerializationException {
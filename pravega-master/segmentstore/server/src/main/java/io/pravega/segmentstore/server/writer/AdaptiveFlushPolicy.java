@@ -0,0 +1,220 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.writer;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.AbstractTimer;
+import java.time.Duration;
+import java.util.function.Supplier;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Calculates the flush thresholds for a single Segment.
+ *
+ * The time threshold is always {@link WriterConfig#getFlushThresholdTime()}: the DurableLog cannot be truncated past data
+ * that has not been flushed yet, so raising it would increase DurableLog truncation lag regardless of Cache utilization.
+ *
+ * If {@link WriterConfig#isAdaptiveFlushEnabled()} is false, the size threshold is the static one from {@link WriterConfig}.
+ * Otherwise, it is derived from the following:
+ * <ul>
+ * <li> Cache headroom: how far the Cache is below its target utilization. With full headroom, the size threshold is raised
+ * towards {@link WriterConfig#getAdaptiveFlushMaxThresholdBytes()}, so that Segments produce fewer, larger chunks. As the
+ * Cache approaches its target utilization, it falls back to its configured value.
+ * <li> Ingestion rate and Storage write latency: the size threshold is never lower than the amount of data the Segment
+ * ingests while a write to Storage is in progress (with some headroom), so that high-rate Segments on high-latency
+ * Storage flush larger chunks instead of falling behind.
+ * </ul>
+ */
+@ThreadSafe
+class AdaptiveFlushPolicy {
+    //region Members
+
+    /**
+     * The weight of the most recent sample when updating the ingestion rate and write latency averages.
+     */
+    private static final double SMOOTHING_FACTOR = 0.2;
+    /**
+     * The minimum amount of time to collect ingested bytes for before calculating a new ingestion rate sample.
+     */
+    private static final long RATE_SAMPLE_NANOS = Duration.ofSeconds(1).toNanos();
+    /**
+     * How many times the data ingested during a single Storage write the size threshold should accommodate.
+     */
+    private static final int LATENCY_HEADROOM = 2;
+    private static final double NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final WriterConfig config;
+    private final AbstractTimer timer;
+    private final Supplier<Double> getRelativeCacheUtilization;
+    @GuardedBy("this")
+    private long sampleStartNanos;
+    @GuardedBy("this")
+    private long sampleBytes;
+    @GuardedBy("this")
+    private double ingestionRate;
+    @GuardedBy("this")
+    private double writeLatencyMillis;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the AdaptiveFlushPolicy class.
+     *
+     * @param config                      The {@link WriterConfig} to use.
+     * @param timer                       The {@link AbstractTimer} to use to determine elapsed time.
+     * @param getRelativeCacheUtilization A {@link Supplier} that returns the Cache utilization relative to its target
+     *                                    (see {@link WriterDataSource#getRelativeCacheUtilization()}).
+     */
+    AdaptiveFlushPolicy(WriterConfig config, AbstractTimer timer, Supplier<Double> getRelativeCacheUtilization) {
+        this.config = Preconditions.checkNotNull(config, "config");
+        this.timer = Preconditions.checkNotNull(timer, "timer");
+        this.getRelativeCacheUtilization = Preconditions.checkNotNull(getRelativeCacheUtilization, "getRelativeCacheUtilization");
+        this.sampleStartNanos = timer.getElapsedNanos();
+        this.sampleBytes = 0;
+        this.ingestionRate = -1;
+        this.writeLatencyMillis = 0;
+    }
+
+    //endregion
+
+    //region Operations
+
+    /**
+     * Records that the given number of bytes have been appended to the Segment.
+     *
+     * @param length The number of bytes appended.
+     */
+    synchronized void recordAppend(long length) {
+        if (!this.config.isAdaptiveFlushEnabled()) {
+            return;
+        }
+
+        this.sampleBytes += length;
+        long now = this.timer.getElapsedNanos();
+        long elapsed = now - this.sampleStartNanos;
+        if (elapsed >= RATE_SAMPLE_NANOS) {
+            double sampleRate = this.sampleBytes * NANOS_PER_SECOND / elapsed;
+            this.ingestionRate = this.ingestionRate < 0 ? sampleRate : smooth(this.ingestionRate, sampleRate);
+            this.sampleStartNanos = now;
+            this.sampleBytes = 0;
+        }
+    }
+
+    /**
+     * Records that a write to Storage has completed.
+     *
+     * @param latency The amount of time the write took.
+     */
+    synchronized void recordWrite(Duration latency) {
+        if (!this.config.isAdaptiveFlushEnabled()) {
+            return;
+        }
+
+        long millis = latency.toMillis();
+        this.writeLatencyMillis = this.writeLatencyMillis == 0 ? millis : smooth(this.writeLatencyMillis, millis);
+    }
+
+    /**
+     * Gets the ingestion rate for the Segment, in bytes per second. If no data was appended during the last sampling
+     * interval, this is lowered accordingly so that a Segment that became idle is not treated as a high-rate one.
+     *
+     * @return The ingestion rate, or 0 if not enough data has been collected yet.
+     */
+    synchronized double getIngestionRate() {
+        if (this.ingestionRate < 0) {
+            return 0;
+        }
+
+        long elapsed = this.timer.getElapsedNanos() - this.sampleStartNanos;
+        if (elapsed >= RATE_SAMPLE_NANOS) {
+            return Math.min(this.ingestionRate, this.sampleBytes * NANOS_PER_SECOND / elapsed);
+        }
+
+        return this.ingestionRate;
+    }
+
+    /**
+     * Gets the average Storage write latency observed for the Segment.
+     *
+     * @return The write latency, in milliseconds.
+     */
+    synchronized double getWriteLatencyMillis() {
+        return this.writeLatencyMillis;
+    }
+
+    /**
+     * Gets the minimum number of bytes to accumulate before flushing.
+     *
+     * @return The size threshold.
+     */
+    int getFlushThresholdBytes() {
+        int base = this.config.getFlushThresholdBytes();
+        if (!this.config.isAdaptiveFlushEnabled()) {
+            return base;
+        }
+
+        int max = this.config.getAdaptiveFlushMaxThresholdBytes();
+        double threshold = base + (max - base) * getCacheHeadroom();
+        double keepUpThreshold = getIngestionRate() * getWriteLatencyMillis() / 1000 * LATENCY_HEADROOM;
+        return (int) Math.min(max, Math.max(threshold, keepUpThreshold));
+    }
+
+    /**
+     * Gets the minimum amount of time to wait for before flushing. This is never adjusted, so that flushing is not delayed
+     * beyond what the DurableLog truncation relies on.
+     *
+     * @return The time threshold.
+     */
+    Duration getFlushThresholdTime() {
+        return this.config.getFlushThresholdTime();
+    }
+
+    /**
+     * Gets the maximum number of bytes that can be flushed with a single write operation. This is never less than the
+     * current size threshold, otherwise the size threshold could never be reached.
+     *
+     * @return The maximum flush size.
+     */
+    int getMaxFlushSizeBytes() {
+        if (!this.config.isAdaptiveFlushEnabled()) {
+            return this.config.getMaxFlushSizeBytes();
+        }
+
+        return Math.max(this.config.getMaxFlushSizeBytes(), getFlushThresholdBytes());
+    }
+
+    /**
+     * Gets a value in the interval [0, 1] indicating how far below its target utilization the Cache is. 1 means the
+     * Cache is empty and 0 means it is at or above its target utilization.
+     */
+    private double getCacheHeadroom() {
+        return Math.max(0, Math.min(1, 1 - this.getRelativeCacheUtilization.get()));
+    }
+
+    private double smooth(double average, double sample) {
+        return average + SMOOTHING_FACTOR * (sample - average);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Rate = %.0f B/s, WriteLatency = %.0f ms", this.ingestionRate, this.writeLatencyMillis);
+    }
+
+    //endregion
+}
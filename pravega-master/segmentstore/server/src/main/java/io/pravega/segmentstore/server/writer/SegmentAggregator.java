@@ -100,6 +100,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
     private final AtomicReference<AggregatorState> state;
     private final AtomicReference<ReconciliationState> reconciliationState;
     private final AggregatedAppendIntegrityChecker dataIntegrityChecker;
+    private final AdaptiveFlushPolicy flushPolicy;
 
     //endregion
 
@@ -135,6 +136,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
         this.reconciliationState = new AtomicReference<>();
         this.handle = new AtomicReference<>();
         this.dataIntegrityChecker = new AggregatedAppendIntegrityChecker(this.metadata.getContainerId(), this.metadata.getId());
+        this.flushPolicy = new AdaptiveFlushPolicy(this.config, this.timer, this.dataSource::getRelativeCacheUtilization);
     }
 
     //endregion
@@ -192,6 +194,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
      * <ul>
      * <li> There is more data in the SegmentAggregator than the configuration allows (getOutstandingLength >= FlushThresholdBytes)
      * <li> Too much time has passed since the last call to flush() (getElapsedSinceLastFlush >= FlushThresholdTime)
+     * <li> If adaptive flushing is enabled, the size threshold above is determined by {@link AdaptiveFlushPolicy}.
      * <li> The SegmentAggregator contains a StreamSegmentSealOperation or MergeSegmentOperation (hasSealPending == true)
      * <li> The SegmentAggregator is currently in a Reconciliation State (recovering from an inconsistency in Storage).
      * </ul>
@@ -217,8 +220,8 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
     private boolean exceedsThresholds() {
         boolean isFirstAppend = this.operations.size() > 0 && isAppendOperation(this.operations.getFirst());
         long length = isFirstAppend ? this.operations.getFirst().getLength() : 0;
-        return length >= this.config.getFlushThresholdBytes()
-                || (length > 0 && getElapsedSinceLastFlush().compareTo(this.config.getFlushThresholdTime()) >= 0);
+        return length >= this.flushPolicy.getFlushThresholdBytes()
+                || (length > 0 && getElapsedSinceLastFlush().compareTo(this.flushPolicy.getFlushThresholdTime()) >= 0);
     }
 
     /**
@@ -429,6 +432,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
             // Track new append for integrity checks, if necessary,
             this.dataIntegrityChecker.addAppendIntegrityInfo(operation.getStreamSegmentId(), operation.getStreamSegmentOffset(),
                     operation.getLength(), ((CachedStreamSegmentAppendOperation) operation).getContentHash());
+            this.flushPolicy.recordAppend(operation.getLength());
             // Aggregate the Append Operation.
             AggregatedAppendOperation aggregatedAppend = getOrCreateAggregatedAppend(
                     operation.getStreamSegmentOffset(), operation.getSequenceNumber());
@@ -480,9 +484,11 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
             log.debug("{}: Skipping {} bytes from the beginning of '{}' since it has already been partially written to Storage.", this.traceObjectId, delta, operation);
         }
 
+        int maxFlushSize = this.flushPolicy.getMaxFlushSizeBytes();
         while (remainingLength > 0) {
-            // All append lengths are integers, so it's safe to cast here.
-            int lengthToAdd = (int) Math.min(this.config.getMaxFlushSizeBytes() - aggregatedAppend.getLength(), remainingLength);
+            // All append lengths are integers, so it's safe to cast here. The max flush size may have been lowered since
+            // the AggregatedAppend was created, in which case nothing more can be added to it.
+            int lengthToAdd = (int) Math.min(Math.max(0, maxFlushSize - aggregatedAppend.getLength()), remainingLength);
             aggregatedAppend.increaseLength(lengthToAdd);
             remainingLength -= lengthToAdd;
             if (remainingLength > 0) {
@@ -511,7 +517,7 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
         AggregatedAppendOperation aggregatedAppend = null;
         if (this.operations.size() > 0) {
             StorageOperation last = this.operations.getLast();
-            if (last.getLength() < this.config.getMaxFlushSizeBytes() && isAppendOperation(last)) {
+            if (last.getLength() < this.flushPolicy.getMaxFlushSizeBytes() && isAppendOperation(last)) {
                 aggregatedAppend = (AggregatedAppendOperation) last;
                 if (aggregatedAppend.isSealed()) {
                     aggregatedAppend = null;
@@ -780,7 +786,11 @@ class SegmentAggregator implements WriterSegmentProcessor, AutoCloseable {
             flush = CompletableFuture.completedFuture(null);
         } else {
             flush = createSegmentIfNecessary(
-                    () -> this.storage.write(this.handle.get(), this.metadata.getStorageLength(), flushData.getReader(), flushData.getLength(), timer.getRemaining()),
+                    () -> {
+                        Duration writeStart = this.timer.getElapsed();
+                        return this.storage.write(this.handle.get(), this.metadata.getStorageLength(), flushData.getReader(), flushData.getLength(), timer.getRemaining())
+                                .thenRun(() -> this.flushPolicy.recordWrite(this.timer.getElapsed().minus(writeStart)));
+                    },
                     timer.getRemaining());
         }
 
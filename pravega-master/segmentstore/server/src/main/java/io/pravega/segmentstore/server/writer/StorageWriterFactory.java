@@ -25,6 +25,7 @@ import io.pravega.segmentstore.contracts.AttributeUpdateType;
 import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.SegmentType;
 import io.pravega.segmentstore.contracts.StreamSegmentNotExistsException;
+import io.pravega.segmentstore.server.CacheUtilizationProvider;
 import io.pravega.segmentstore.server.OperationLog;
 import io.pravega.segmentstore.server.ReadIndex;
 import io.pravega.segmentstore.server.SegmentMetadata;
@@ -176,6 +177,12 @@ public class StorageWriterFactory implements WriterFactory {
             }
         }
 
+        @Override
+        public double getRelativeCacheUtilization() {
+            CacheUtilizationProvider cacheUtilization = this.readIndex.getCacheUtilizationProvider();
+            return cacheUtilization.getCacheUtilization() / cacheUtilization.getCacheTargetUtilization();
+        }
+
         //endregion
     }
 
@@ -40,6 +40,8 @@ public class WriterConfig {
     public static final Property<Long> ACK_TIMEOUT_MILLIS = Property.named("ack.timeout.milliseconds", 15 * 1000L, "ackTimeoutMillis");
     public static final Property<Long> SHUTDOWN_TIMEOUT_MILLIS = Property.named("shutDown.timeout.milliseconds", 10 * 1000L, "shutdownTimeoutMillis");
     public static final Property<Long> MAX_ROLLOVER_SIZE = Property.named("rollover.size.bytes.max", 134217728L, "maxRolloverSizeBytes");
+    public static final Property<Boolean> ADAPTIVE_FLUSH_ENABLED = Property.named("flush.adaptive.enable", false);
+    public static final Property<Integer> ADAPTIVE_FLUSH_THRESHOLD_BYTES_MAX = Property.named("flush.adaptive.threshold.bytes.max", 64 * 1024 * 1024);
     private static final String COMPONENT_CODE = "writer";
 
     //endregion
@@ -119,6 +121,20 @@ public class WriterConfig {
     @Getter
     private final long maxRolloverSize;
 
+    /**
+     * Whether the flush size threshold is adjusted for each Segment based on its ingestion rate, the Cache utilization and
+     * the observed Storage write latency. See {@link AdaptiveFlushPolicy}.
+     */
+    @Getter
+    private final boolean adaptiveFlushEnabled;
+
+    /**
+     * The maximum value the flush size threshold may be raised to when adaptive flushing is enabled. This is never less
+     * than {@link #getFlushThresholdBytes()}.
+     */
+    @Getter
+    private final int adaptiveFlushMaxThresholdBytes;
+
     //endregion
 
     //region Constructor
@@ -163,6 +179,8 @@ public class WriterConfig {
         this.ackTimeout = Duration.ofMillis(properties.getLong(ACK_TIMEOUT_MILLIS));
         this.shutdownTimeout = Duration.ofMillis(properties.getLong(SHUTDOWN_TIMEOUT_MILLIS));
         this.maxRolloverSize = Math.max(0, properties.getLong(MAX_ROLLOVER_SIZE));
+        this.adaptiveFlushEnabled = properties.getBoolean(ADAPTIVE_FLUSH_ENABLED);
+        this.adaptiveFlushMaxThresholdBytes = Math.max(this.flushThresholdBytes, properties.getInt(ADAPTIVE_FLUSH_THRESHOLD_BYTES_MAX));
     }
 
     /**
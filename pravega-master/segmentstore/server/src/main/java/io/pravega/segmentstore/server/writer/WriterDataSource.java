@@ -150,4 +150,14 @@ interface WriterDataSource {
      * @return The mapped StreamSegmentMetadata, or null if none is.
      */
     UpdateableSegmentMetadata getStreamSegmentMetadata(long streamSegmentId);
+
+    /**
+     * Gets a value indicating how close the Cache is to its target utilization. A value of 0 indicates the Cache is empty,
+     * a value of 1 indicates it is at its target utilization and values greater than 1 indicate it exceeds it.
+     *
+     * @return The Cache utilization, relative to its target utilization.
+     */
+    default double getRelativeCacheUtilization() {
+        return 0;
+    }
 }
@@ -34,6 +34,7 @@ import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Cleanup;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -236,6 +237,33 @@ public class SegmentStoreMetricsTests {
         assertNull(MetricRegistryUtils.getGauge(MetricsNames.OPERATION_LOG_SIZE, containerTag));
     }
 
+    @Test
+    public void testTenantQueueWaitTimeExpiration() {
+        final int containerId = new Random().nextInt(Integer.MAX_VALUE);
+        val time = new AtomicLong();
+        @Cleanup
+        val op = new SegmentStoreMetrics.OperationProcessor(containerId, time::get);
+        op.tenantQueueWaitTime("scope1", 10);
+        op.tenantQueueWaitTime("scope2", 20);
+        assertEquals(2, op.getTenantCount());
+        assertEquals(10, (long) MetricRegistryUtils.getTimer(MetricsNames.OPERATION_QUEUE_TENANT_WAIT_TIME,
+                containerScopeTags(containerId, "scope1")).totalTime(TimeUnit.MILLISECONDS));
+
+        // Only the tenant that has not reported anything for the whole expiration period is removed.
+        time.addAndGet(SegmentStoreMetrics.OperationProcessor.TENANT_METRICS_EXPIRATION_NANOS - 1);
+        op.tenantQueueWaitTime("scope2", 20);
+        time.addAndGet(1);
+        op.tenantQueueWaitTime("scope3", 30);
+        assertEquals(2, op.getTenantCount());
+        assertNull(MetricRegistryUtils.getTimer(MetricsNames.OPERATION_QUEUE_TENANT_WAIT_TIME, containerScopeTags(containerId, "scope1")));
+        assertEquals(40, (long) MetricRegistryUtils.getTimer(MetricsNames.OPERATION_QUEUE_TENANT_WAIT_TIME,
+                containerScopeTags(containerId, "scope2")).totalTime(TimeUnit.MILLISECONDS));
+
+        op.close();
+        assertNull(MetricRegistryUtils.getTimer(MetricsNames.OPERATION_QUEUE_TENANT_WAIT_TIME, containerScopeTags(containerId, "scope2")));
+        assertNull(MetricRegistryUtils.getTimer(MetricsNames.OPERATION_QUEUE_TENANT_WAIT_TIME, containerScopeTags(containerId, "scope3")));
+    }
+
     @Test
     public void testTableSegmentCreditsMetrics() throws Exception {
         String segmentName = "_system/test/segment";
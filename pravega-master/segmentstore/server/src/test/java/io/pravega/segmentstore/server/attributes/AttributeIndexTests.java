@@ -16,6 +16,7 @@
 package io.pravega.segmentstore.server.attributes;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.io.StreamHelpers;
 import io.pravega.common.util.BufferView;
@@ -51,11 +52,13 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.Duration;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
@@ -165,6 +168,95 @@ public class AttributeIndexTests extends ThreadPooledTestSuite {
         }
     }
 
+    /**
+     * Tests the ability to bulk-load Attributes into an empty index using {@link SegmentAttributeBTreeIndex#bulkLoad}.
+     */
+    @Test
+    public void testBulkLoad() {
+        final int count = 10000;
+        final int batchSize = 100;
+        @Cleanup
+        val context = new TestContext(DEFAULT_CONFIG);
+        populateSegments(context);
+        val idx = (SegmentAttributeBTreeIndex) context.index.forSegment(SEGMENT_ID, TIMEOUT).join();
+
+        // Bulk loads require the Attributes to be sorted by AttributeId.
+        val expectedValues = new HashMap<AttributeId, Long>();
+        val attributes = IntStream.range(0, count)
+                .mapToObj(i -> (Map.Entry<AttributeId, Long>) new AbstractMap.SimpleImmutableEntry<>(AttributeId.uuid(i, i), (long) i))
+                .sorted(Map.Entry.comparingByKey())
+                .collect(Collectors.toList());
+        attributes.forEach(e -> expectedValues.put(e.getKey(), e.getValue()));
+        val batches = Iterators.partition(attributes.iterator(), batchSize);
+        val rootPointer = idx.bulkLoad(() -> CompletableFuture.completedFuture(batches.hasNext() ? batches.next() : null), TIMEOUT).join();
+        Assert.assertNotNull("Expected a Root Pointer.", rootPointer);
+        Assert.assertEquals("Unexpected count.", count, idx.getCount());
+        checkIndex(idx, expectedValues);
+
+        // Reload the index (this forces data to be read from Storage) and verify it can be updated.
+        context.index.cleanup(null);
+        val idx2 = (SegmentAttributeBTreeIndex) context.index.forSegment(SEGMENT_ID, TIMEOUT).join();
+        checkIndex(idx2, expectedValues);
+        val updates = new HashMap<AttributeId, Long>();
+        for (int i = 0; i < count; i += 2) {
+            updates.put(AttributeId.uuid(i, i), i % 4 == 0 ? null : (long) -i);
+            expectedValues.put(AttributeId.uuid(i, i), i % 4 == 0 ? Attributes.NULL_ATTRIBUTE_VALUE : (long) -i);
+        }
+
+        idx2.update(updates, TIMEOUT).join();
+        checkIndex(idx2, expectedValues);
+
+        // The index is no longer empty, so it cannot be bulk-loaded again.
+        AssertExtensions.assertThrows(
+                "Expected a non-empty index to be rejected.",
+                () -> idx2.bulkLoad(() -> CompletableFuture.completedFuture(null), TIMEOUT),
+                ex -> ex instanceof IllegalStateException);
+    }
+
+    /**
+     * Tests the ability to apply a sequence of update batches using {@link SegmentAttributeBTreeIndex#bulkUpdate}.
+     */
+    @Test
+    public void testBulkUpdate() {
+        final int attributeCount = 1000;
+        final int batchSize = 50;
+        final int batchCount = 100;
+        @Cleanup
+        val context = new TestContext(DEFAULT_CONFIG);
+        populateSegments(context);
+        val idx = (SegmentAttributeBTreeIndex) context.index.forSegment(SEGMENT_ID, TIMEOUT).join();
+
+        // Generate the batches. Attributes may be updated (or removed) multiple times and the last update must win.
+        val rnd = new Random(0);
+        val expectedValues = new HashMap<AttributeId, Long>();
+        val batches = new ArrayList<Map<AttributeId, Long>>();
+        for (int i = 0; i < batchCount; i++) {
+            val batch = new HashMap<AttributeId, Long>();
+            for (int j = 0; j < batchSize; j++) {
+                val attributeId = AttributeId.uuid(0, rnd.nextInt(attributeCount));
+                Long value = rnd.nextInt(10) == 0 ? null : rnd.nextLong();
+                batch.put(attributeId, value);
+                expectedValues.put(attributeId, value == null ? Attributes.NULL_ATTRIBUTE_VALUE : value);
+            }
+
+            batches.add(batch);
+        }
+
+        val iterator = batches.iterator();
+        val rootPointer = idx.bulkUpdate(() -> CompletableFuture.completedFuture(iterator.hasNext() ? iterator.next() : null), TIMEOUT).join();
+        Assert.assertNotNull("Expected a Root Pointer.", rootPointer);
+        checkIndex(idx, expectedValues);
+
+        // Reload the index and verify again.
+        context.index.cleanup(null);
+        val idx2 = (SegmentAttributeBTreeIndex) context.index.forSegment(SEGMENT_ID, TIMEOUT).join();
+        checkIndex(idx2, expectedValues);
+
+        // Nothing to update.
+        Assert.assertNull("Not expecting a Root Pointer when there is nothing to update.",
+                idx2.bulkUpdate(() -> CompletableFuture.completedFuture(null), TIMEOUT).join());
+    }
+
     /**
      * Tests the ability to Seal an Attribute Segment (create a final snapshot and disallow new changes).
      */
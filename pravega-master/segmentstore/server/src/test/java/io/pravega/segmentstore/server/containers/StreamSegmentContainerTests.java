@@ -21,6 +21,7 @@ import com.google.common.util.concurrent.Runnables;
 import com.google.common.util.concurrent.Service;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectClosedException;
+import io.pravega.common.Timer;
 import io.pravega.common.TimeoutTimer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.util.BufferView;
@@ -36,6 +37,7 @@ import io.pravega.segmentstore.contracts.BadAttributeUpdateException;
 import io.pravega.segmentstore.contracts.BadOffsetException;
 import io.pravega.segmentstore.contracts.DynamicAttributeUpdate;
 import io.pravega.segmentstore.contracts.DynamicAttributeValue;
+import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.ReadResultEntry;
 import io.pravega.segmentstore.contracts.ReadResultEntryType;
@@ -164,6 +166,7 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.Assert;
+import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.Timeout;
@@ -1630,6 +1633,119 @@ public class StreamSegmentContainerTests extends ThreadPooledTestSuite {
         context.container.stopAsync().awaitTerminated();
     }
 
+    /**
+     * Tests {@link StreamSegmentContainer#mergeStreamSegments}: sources must be merged in the given order, with their
+     * attribute updates, and sources that were already merged (or do not exist) must be skipped.
+     */
+    @Test
+    public void testBatchMerge() throws Exception {
+        final int transactionCount = 10;
+        @Cleanup
+        TestContext context = createContext();
+        context.container.startAsync().awaitRunning();
+        final String parentSegment = "parentSegment";
+        context.container.createStreamSegment(parentSegment, getSegmentType(parentSegment), null, TIMEOUT)
+                .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+        // Create the transactions. Every other transaction is left empty, and one of them is never created.
+        ByteArrayOutputStream expectedContents = new ByteArrayOutputStream();
+        List<String> transactions = new ArrayList<>();
+        List<AttributeUpdateCollection> attributeUpdates = new ArrayList<>();
+        for (int i = 0; i < transactionCount; i++) {
+            String txnName = NameUtils.getTransactionNameFromId(parentSegment, UUID.randomUUID());
+            transactions.add(txnName);
+            attributeUpdates.add(AttributeUpdateCollection.from(new AttributeUpdate(Attributes.EVENT_COUNT, AttributeUpdateType.Accumulate, 1)));
+            if (i == transactionCount - 1) {
+                continue;
+            }
+
+            context.container.createStreamSegment(txnName, getSegmentType(txnName), null, TIMEOUT)
+                    .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            if (i % 2 == 0) {
+                RefCountByteArraySegment appendData = getAppendData(txnName, i);
+                context.container.append(txnName, appendData, null, TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+                appendData.copyTo(expectedContents);
+            }
+        }
+
+        List<MergeStreamSegmentResult> results = context.container.mergeStreamSegments(parentSegment, transactions, attributeUpdates, TIMEOUT)
+                .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        Assert.assertEquals(transactionCount, results.size());
+        long expectedLength = 0;
+        for (int i = 0; i < transactionCount - 1; i++) {
+            Assert.assertEquals("Unexpected merged length for " + i, i % 2 == 0, results.get(i).getMergedDataLength() > 0);
+            if (i % 2 == 0) {
+                // Empty sources are deleted instead of merged, so only non-empty ones have a well-defined target length.
+                expectedLength += results.get(i).getMergedDataLength();
+                Assert.assertEquals("Unexpected target length after merge " + i, expectedLength, results.get(i).getTargetSegmentLength());
+            }
+        }
+        Assert.assertEquals(expectedContents.size(), expectedLength);
+        Assert.assertEquals("Non-existent source should have been skipped.", 0, results.get(transactionCount - 1).getMergedDataLength());
+        Assert.assertEquals(expectedLength, results.get(transactionCount - 1).getTargetSegmentLength());
+
+        // Only the attribute updates of the merged sources should have been applied.
+        Assert.assertEquals(transactionCount - 1, (long) context.container.getAttributes(parentSegment,
+                Collections.singletonList(Attributes.EVENT_COUNT), true, TIMEOUT).join().get(Attributes.EVENT_COUNT));
+        for (String txnName : transactions) {
+            AssertExtensions.assertSuppliedFutureThrows("Transaction should not exist anymore.",
+                    () -> context.container.getStreamSegmentInfo(txnName, TIMEOUT),
+                    ex -> ex instanceof StreamSegmentNotExistsException);
+        }
+        checkReadIndex(Collections.singletonMap(parentSegment, expectedContents),
+                Collections.singletonMap(parentSegment, expectedLength), context);
+
+        // Retrying the same batch should skip all the sources.
+        results = context.container.mergeStreamSegments(parentSegment, transactions, null, TIMEOUT)
+                .get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        for (MergeStreamSegmentResult r : results) {
+            Assert.assertEquals(0, r.getMergedDataLength());
+            Assert.assertEquals(expectedLength, r.getTargetSegmentLength());
+        }
+
+        context.container.stopAsync().awaitTerminated();
+    }
+
+    /**
+     * Compares the throughput of merging many small transactions one at a time (as required to preserve their order
+     * without batching) against merging all of them with a single call to {@link StreamSegmentContainer#mergeStreamSegments}.
+     */
+    @Test
+    @Ignore("Benchmark")
+    public void benchmarkBatchMerge() throws Exception {
+        final int transactionCount = 2000;
+        @Cleanup
+        TestContext context = createContext();
+        context.container.startAsync().awaitRunning();
+
+        for (boolean batch : new boolean[]{false, true}) {
+            final String parentSegment = "parentSegment_" + batch;
+            context.container.createStreamSegment(parentSegment, getSegmentType(parentSegment), null, TIMEOUT).join();
+            List<String> transactions = new ArrayList<>();
+            for (int i = 0; i < transactionCount; i++) {
+                String txnName = NameUtils.getTransactionNameFromId(parentSegment, UUID.randomUUID());
+                context.container.createStreamSegment(txnName, getSegmentType(txnName), null, TIMEOUT).join();
+                context.container.append(txnName, getAppendData(txnName, i), null, TIMEOUT).join();
+                transactions.add(txnName);
+            }
+
+            Timer timer = new Timer();
+            if (batch) {
+                context.container.mergeStreamSegments(parentSegment, transactions, null, TIMEOUT).join();
+            } else {
+                for (String txnName : transactions) {
+                    context.container.mergeStreamSegment(parentSegment, txnName, TIMEOUT).join();
+                }
+            }
+            long elapsedMillis = Math.max(1, timer.getElapsedMillis());
+            System.out.println(String.format("%s: Transactions = %d, Elapsed = %d ms, Throughput = %.1f txn/s",
+                    batch ? "Batch merge" : "Individual merges", transactionCount, elapsedMillis,
+                    transactionCount * 1000.0 / elapsedMillis));
+        }
+
+        context.container.stopAsync().awaitTerminated();
+    }
+
     /**
      * Tests the ability to perform future (tail) reads. Scenarios tested include:
      * * Regular appends
@@ -709,6 +709,68 @@ public class DurableLogTests extends OperationLogTestBase {
         }
     }
 
+    /**
+     * Tests the DurableLog recovery process when small appends to different StreamSegments have been packed into
+     * MultiSegmentAppendOperations.
+     */
+    @Test
+    public void testRecoveryWithCoalescedAppends() throws Exception {
+        int streamSegmentCount = 50;
+        int appendsPerStreamSegment = 20;
+        DurableLogConfig config = ContainerSetup.createDurableLogConfig(null, null, 1024);
+
+        // Setup a DurableLog and start it.
+        @Cleanup
+        TestDurableDataLogFactory dataLogFactory = new TestDurableDataLogFactory(new InMemoryDurableDataLogFactory(MAX_DATA_LOG_APPEND_SIZE, executorService()));
+        @Cleanup
+        Storage storage = InMemoryStorageFactory.newStorage(executorService());
+        storage.initialize(1);
+
+        Set<Long> streamSegmentIds;
+        List<OperationWithCompletion> completionFutures;
+        List<Operation> originalOperations;
+
+        // First DurableLog. We use this for generating data.
+        UpdateableContainerMetadata metadata = new MetadataBuilder(CONTAINER_ID).build();
+        @Cleanup
+        CacheStorage cacheStorage = new DirectMemoryCache(Integer.MAX_VALUE);
+        @Cleanup
+        CacheManager cacheManager = new CacheManager(CachePolicy.INFINITE, cacheStorage, executorService());
+        try (
+                ReadIndex readIndex = new ContainerReadIndex(DEFAULT_READ_INDEX_CONFIG, metadata, storage, cacheManager, executorService());
+                DurableLog durableLog = new DurableLog(config, metadata, dataLogFactory, readIndex, executorService())) {
+            durableLog.startAsync().awaitRunning();
+
+            // Generate some test data and process it.
+            streamSegmentIds = createStreamSegmentsWithOperations(streamSegmentCount, durableLog);
+            List<Operation> operations = generateInterleavedAppends(streamSegmentIds, appendsPerStreamSegment);
+            completionFutures = processOperations(operations, durableLog);
+            OperationWithCompletion.allOf(completionFutures).join();
+
+            // Get a list of all the operations, before recovery.
+            originalOperations = readUpToSequenceNumber(durableLog, metadata.getOperationSequenceNumber());
+
+            // Stop the processor.
+            durableLog.stopAsync().awaitTerminated();
+        }
+
+        // Second DurableLog. We use this for recovery.
+        metadata = new MetadataBuilder(CONTAINER_ID).build();
+        try (
+                ReadIndex readIndex = new ContainerReadIndex(DEFAULT_READ_INDEX_CONFIG, metadata, storage, cacheManager, executorService());
+                DurableLog durableLog = new DurableLog(config, metadata, dataLogFactory, readIndex, executorService())) {
+            durableLog.startAsync().awaitRunning();
+
+            List<Operation> recoveredOperations = readUpToSequenceNumber(durableLog, metadata.getOperationSequenceNumber());
+            assertRecoveredOperationsMatch(originalOperations, recoveredOperations);
+            performMetadataChecks(streamSegmentIds, new HashSet<>(), new HashMap<>(), completionFutures, metadata, false, false);
+            performReadIndexChecks(completionFutures, readIndex);
+
+            // Stop the processor.
+            durableLog.stopAsync().awaitTerminated();
+        }
+    }
+
     /**
      * Tests the DurableLog recovery process in a scenario when there are failures during the process
      * (these may or may not be DataCorruptionExceptions).
@@ -1741,6 +1803,11 @@ public class DurableLogTests extends OperationLogTestBase {
         }
 
         static DurableLogConfig createDurableLogConfig(Integer checkpointMinCommitCount, Long checkpointMinTotalCommitLength) {
+            return createDurableLogConfig(checkpointMinCommitCount, checkpointMinTotalCommitLength, 0);
+        }
+
+        static DurableLogConfig createDurableLogConfig(Integer checkpointMinCommitCount, Long checkpointMinTotalCommitLength,
+                                                       int appendCoalesceMaxLength) {
             if (checkpointMinCommitCount == null) {
                 checkpointMinCommitCount = Integer.MAX_VALUE;
             }
@@ -1755,6 +1822,7 @@ public class DurableLogTests extends OperationLogTestBase {
                     .with(DurableLogConfig.CHECKPOINT_COMMIT_COUNT, checkpointMinCommitCount)
                     .with(DurableLogConfig.CHECKPOINT_TOTAL_COMMIT_LENGTH, checkpointMinTotalCommitLength)
                     .with(DurableLogConfig.START_RETRY_DELAY_MILLIS, START_RETRY_DELAY_MILLIS)
+                    .with(DurableLogConfig.APPEND_COALESCE_MAX_LENGTH, appendCoalesceMaxLength)
                     .build();
         }
     }
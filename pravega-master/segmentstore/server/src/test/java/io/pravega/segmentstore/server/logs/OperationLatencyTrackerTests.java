@@ -0,0 +1,164 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs;
+
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
+import io.pravega.segmentstore.server.SegmentStoreMetrics;
+import io.pravega.segmentstore.server.logs.operations.CompletableOperation;
+import io.pravega.segmentstore.server.logs.operations.MetadataCheckpointOperation;
+import io.pravega.segmentstore.server.logs.operations.OperationPriority;
+import io.pravega.test.common.AssertExtensions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link OperationLatencyTracker} class.
+ */
+public class OperationLatencyTrackerTests {
+    private static final int CONTAINER_ID = 1;
+    private static final int SLOW_OPERATION_COUNT = 10;
+    private SegmentStoreMetrics.OperationProcessor metrics;
+
+    @Before
+    public void setUp() {
+        this.metrics = new SegmentStoreMetrics.OperationProcessor(CONTAINER_ID);
+    }
+
+    @After
+    public void tearDown() {
+        this.metrics.close();
+    }
+
+    /**
+     * Tests that operations are sampled according to the sampling rate.
+     */
+    @Test
+    public void testSampling() {
+        val count = 1000;
+        val disabled = new OperationLatencyTracker(0, SLOW_OPERATION_COUNT, this.metrics);
+        val all = new OperationLatencyTracker(1, SLOW_OPERATION_COUNT, this.metrics);
+        val some = new OperationLatencyTracker(10, SLOW_OPERATION_COUNT, this.metrics);
+        Assert.assertFalse(disabled.isEnabled());
+        Assert.assertTrue(all.isEnabled());
+
+        int someCount = 0;
+        for (int i = 0; i < count; i++) {
+            val o1 = newOperation();
+            disabled.sample(o1);
+            Assert.assertFalse(o1.isTraced());
+
+            val o2 = newOperation();
+            all.sample(o2);
+            Assert.assertTrue(o2.isTraced());
+
+            val o3 = newOperation();
+            some.sample(o3);
+            someCount += o3.isTraced() ? 1 : 0;
+        }
+
+        AssertExtensions.assertGreaterThan("Expected some operations to be sampled.", 0, someCount);
+        AssertExtensions.assertLessThan("Expected most operations not to be sampled.", count / 2, someCount);
+
+        AssertExtensions.assertThrows(
+                "Expected a negative sampling rate to be rejected.",
+                () -> new OperationLatencyTracker(-1, SLOW_OPERATION_COUNT, this.metrics),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests that traced operations that made it through all the stages are recorded, and others are not.
+     */
+    @Test
+    public void testCommitted() {
+        val tracker = new OperationLatencyTracker(1, SLOW_OPERATION_COUNT, this.metrics);
+
+        // Not traced.
+        tracker.committed(newOperation());
+
+        // Traced, but never written.
+        val notWritten = newOperation();
+        tracker.sample(notWritten);
+        tracker.dequeued(notWritten);
+        tracker.committed(notWritten);
+        Assert.assertEquals(0, tracker.getSlowestOperations().size());
+
+        // Traced and written.
+        val written = newOperation();
+        tracker.sample(written);
+        tracker.dequeued(written);
+        written.traceFrameSealed();
+        written.traceDurable();
+        tracker.committed(written);
+        val slowest = tracker.getSlowestOperations();
+        Assert.assertEquals(1, slowest.size());
+        Assert.assertEquals(written.getOperation().getSequenceNumber(), slowest.get(0).getSequenceNumber());
+    }
+
+    /**
+     * Tests that only the slowest operations are retained, and they are returned slowest first.
+     */
+    @Test
+    public void testSlowestOperations() {
+        val count = 1000;
+        val tracker = new OperationLatencyTracker(1, SLOW_OPERATION_COUNT, this.metrics);
+        val latencies = new ArrayList<OperationLatencyBreakdown>();
+        for (int i = 0; i < count; i++) {
+            latencies.add(newLatency(i, i * 1000L));
+        }
+
+        Collections.shuffle(latencies);
+        latencies.forEach(tracker::record);
+
+        val expected = latencies.stream()
+                .sorted(Comparator.comparingLong(OperationLatencyBreakdown::getTotalNanos).reversed())
+                .limit(SLOW_OPERATION_COUNT)
+                .collect(Collectors.toList());
+        Assert.assertEquals(expected, tracker.getSlowestOperations());
+
+        // Nothing is retained if we do not want to.
+        val noRetention = new OperationLatencyTracker(1, 0, this.metrics);
+        latencies.forEach(noRetention::record);
+        Assert.assertEquals(0, noRetention.getSlowestOperations().size());
+    }
+
+    private CompletableOperation newOperation() {
+        val op = new MetadataCheckpointOperation();
+        op.setSequenceNumber(1);
+        return new CompletableOperation(op, OperationPriority.Normal, new CompletableFuture<>());
+    }
+
+    private OperationLatencyBreakdown newLatency(long sequenceNumber, long totalNanos) {
+        return OperationLatencyBreakdown.builder()
+                .operationType("Test")
+                .sequenceNumber(sequenceNumber)
+                .segmentId(-1)
+                .totalNanos(totalNanos)
+                .queueNanos(totalNanos / 5)
+                .throttleNanos(totalNanos / 5)
+                .batchingNanos(totalNanos / 5)
+                .durableWriteNanos(totalNanos / 5)
+                .memoryCommitNanos(totalNanos - 4 * (totalNanos / 5))
+                .build();
+    }
+}
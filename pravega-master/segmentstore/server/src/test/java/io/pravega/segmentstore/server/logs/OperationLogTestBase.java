@@ -225,6 +225,24 @@ abstract class OperationLogTestBase extends ThreadPooledTestSuite {
         return result;
     }
 
+    /**
+     * Generates a List of StreamSegmentAppend Operations which alternate between the given StreamSegments, so that no
+     * two consecutive appends are made to the same StreamSegment.
+     */
+    List<Operation> generateInterleavedAppends(Collection<Long> streamSegmentIds, int appendsPerStreamSegment) {
+        List<Operation> result = new ArrayList<>();
+        int appendId = 0;
+        for (int i = 0; i < appendsPerStreamSegment; i++) {
+            for (long streamSegmentId : streamSegmentIds) {
+                val attributes = AttributeUpdateCollection.from(new AttributeUpdate(AttributeId.randomUUID(), AttributeUpdateType.Replace, i));
+                result.add(new StreamSegmentAppendOperation(streamSegmentId, generateAppendData(appendId), attributes));
+                appendId++;
+            }
+        }
+
+        return result;
+    }
+
     protected ByteArraySegment generateAppendData(int appendId) {
         return new ByteArraySegment(String.format("Append_%d", appendId).getBytes());
     }
@@ -36,6 +36,7 @@ import io.pravega.segmentstore.server.TruncationMarkerRepository;
 import io.pravega.segmentstore.server.UpdateableContainerMetadata;
 import io.pravega.segmentstore.server.logs.operations.CheckpointOperationBase;
 import io.pravega.segmentstore.server.logs.operations.MetadataCheckpointOperation;
+import io.pravega.segmentstore.server.logs.operations.MultiSegmentAppendOperation;
 import io.pravega.segmentstore.server.logs.operations.Operation;
 import io.pravega.segmentstore.server.logs.operations.OperationComparer;
 import io.pravega.segmentstore.server.logs.operations.OperationPriority;
@@ -105,6 +106,7 @@ public class OperationProcessorTests extends OperationLogTestBase {
     private static final int CONTAINER_ID = 1234567;
     private static final int MAX_DATA_LOG_APPEND_SIZE = 8 * 1024;
     private static final int METADATA_CHECKPOINT_EVERY = 100;
+    private static final int COALESCED_APPEND_MAX_LENGTH = 1024;
     @Rule
     public Timeout globalTimeout = Timeout.seconds(TIMEOUT.getSeconds());
 
@@ -230,6 +232,84 @@ public class OperationProcessorTests extends OperationLogTestBase {
         operationProcessor.stopAsync().awaitTerminated();
     }
 
+    /**
+     * Tests the ability of the OperationProcessor to pack small appends to different StreamSegments into
+     * {@link MultiSegmentAppendOperation}s, while still processing (and failing) each of them individually.
+     */
+    @Test
+    public void testWithCoalescedAppends() throws Exception {
+        int streamSegmentCount = 10;
+        int appendsPerStreamSegment = 20;
+        long sealedStreamSegmentId = 6; // We are going to prematurely seal this StreamSegment.
+
+        @Cleanup
+        TestContext context = new TestContext();
+
+        // Generate some test data.
+        HashSet<Long> streamSegmentIds = createStreamSegmentsInMetadata(streamSegmentCount, context.metadata);
+        context.metadata.getStreamSegmentMetadata(sealedStreamSegmentId).markSealed();
+        List<Operation> operations = generateInterleavedAppends(streamSegmentIds, appendsPerStreamSegment);
+
+        // Setup a ThrottledOperationProcessor with a ManualThrottler (so we can control when operations are picked up)
+        // and start it.
+        @Cleanup
+        TestDurableDataLog dataLog = TestDurableDataLog.create(CONTAINER_ID, MAX_DATA_LOG_APPEND_SIZE, executorService());
+        dataLog.initialize(TIMEOUT);
+        @Cleanup
+        val throttler = new ManualThrottler(Runnables.doNothing(), new NoOpCalculator(), () -> false, executorService());
+        @Cleanup
+        val operationProcessor = new ThrottledOperationProcessor(context.metadata, context.stateUpdater,
+                dataLog, getNoOpCheckpointPolicy(), getDefaultThrottlerSettings(), COALESCED_APPEND_MAX_LENGTH, executorService(), throttler);
+        operationProcessor.startAsync().awaitRunning();
+
+        // Block processing until all the operations are queued up, so that they are picked up together.
+        AssertExtensions.assertEventuallyEquals(true, throttler::isCurrentlyThrottling, TIMEOUT.toMillis());
+        List<OperationWithCompletion> completionFutures = processOperations(operations, operationProcessor);
+        throttler.setThrottleEnabled(false);
+        throttler.completeDelayFuture();
+
+        // Verify that the appends to the sealed StreamSegment failed, while the others succeeded.
+        for (OperationWithCompletion oc : completionFutures) {
+            if (((StorageOperation) oc.operation).getStreamSegmentId() == sealedStreamSegmentId) {
+                AssertExtensions.assertSuppliedFutureThrows("Unexpected exception for failed Operation.",
+                        () -> oc.completion, ex -> ex instanceof StreamSegmentSealedException);
+            } else {
+                oc.completion.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        // Verify that the appends have been written to the DurableDataLog in order, and that most of them have been packed.
+        val successfulOps = completionFutures.stream()
+                                             .filter(oc -> !oc.completion.isCompletedExceptionally())
+                                             .map(oc -> oc.operation)
+                                             .collect(Collectors.toList());
+        val writtenOps = new ArrayList<Operation>();
+        int multiSegmentAppendCount = 0;
+        @Cleanup
+        DataFrameReader<Operation> dataFrameReader = new DataFrameReader<>(dataLog, new OperationSerializer(), CONTAINER_ID);
+        DataFrameRecord<Operation> dataFrameRecord;
+        while ((dataFrameRecord = dataFrameReader.getNext()) != null) {
+            if (dataFrameRecord.getItem() instanceof MultiSegmentAppendOperation) {
+                multiSegmentAppendCount++;
+                writtenOps.addAll(((MultiSegmentAppendOperation) dataFrameRecord.getItem()).getAppends());
+            } else {
+                writtenOps.add(dataFrameRecord.getItem());
+            }
+        }
+
+        AssertExtensions.assertGreaterThan("Expected appends to be coalesced.", 0, multiSegmentAppendCount);
+        Assert.assertEquals("Unexpected number of appends written.", successfulOps.size(), writtenOps.size());
+        for (int i = 0; i < successfulOps.size(); i++) {
+            OperationComparer.DEFAULT.assertEquals(successfulOps.get(i), writtenOps.get(i));
+        }
+
+        HashSet<Long> streamSegmentsWithNoContents = new HashSet<>();
+        streamSegmentsWithNoContents.add(sealedStreamSegmentId);
+        performMetadataChecks(streamSegmentIds, streamSegmentsWithNoContents, new HashMap<>(), completionFutures, context.metadata, false, false);
+        performReadIndexChecks(completionFutures, context.readIndex);
+        operationProcessor.stopAsync().awaitTerminated();
+    }
+
     /**
      * Tests the ability of the OperationProcessor to process Operations when Serialization errors happen.
      */
@@ -1005,7 +1085,14 @@ public class OperationProcessorTests extends OperationLogTestBase {
                                     DurableDataLog durableDataLog, MetadataCheckpointPolicy checkpointPolicy,
                                     ThrottlerPolicy throttlerPolicy, ScheduledExecutorService executor,
                                     Throttler throttler) {
-            super(metadata, stateUpdater, durableDataLog, checkpointPolicy, throttlerPolicy, executor);
+            this(metadata, stateUpdater, durableDataLog, checkpointPolicy, throttlerPolicy, 0, executor, throttler);
+        }
+
+        ThrottledOperationProcessor(UpdateableContainerMetadata metadata, MemoryStateUpdater stateUpdater,
+                                    DurableDataLog durableDataLog, MetadataCheckpointPolicy checkpointPolicy,
+                                    ThrottlerPolicy throttlerPolicy, int appendCoalesceMaxLength, ScheduledExecutorService executor,
+                                    Throttler throttler) {
+            super(metadata, stateUpdater, durableDataLog, checkpointPolicy, throttlerPolicy, 0, 0, appendCoalesceMaxLength, null, executor);
             this.throttler = throttler;
         }
     }
@@ -19,6 +19,7 @@ import io.pravega.test.common.AssertExtensions;
 import io.pravega.test.common.IntentionalException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.val;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -79,4 +80,55 @@ public class CompletableOperationTests {
             Assert.assertEquals("Unexpected priority level for " + p, p.getValue(), co.getPriorityValue());
         }
     }
+
+    /**
+     * Tests the latency tracing stages and {@link CompletableOperation#getLatencyBreakdown()}.
+     */
+    @Test
+    public void testLatencyTracing() {
+        val segmentId = 123L;
+        val op = new StreamSegmentSealOperation(segmentId);
+        op.setSequenceNumber(VALID_SEQ_NO);
+
+        // Operations that are not sampled do not record anything.
+        val notTraced = new CompletableOperation(op, OperationPriority.Normal, new CompletableFuture<>());
+        notTraced.traceDequeued(0);
+        notTraced.traceFrameSealed();
+        notTraced.traceDurable();
+        Assert.assertFalse(notTraced.isTraced());
+        Assert.assertNull(notTraced.getLatencyBreakdown());
+
+        // Operations that have not gone through all the stages do not have a breakdown.
+        val traced = new CompletableOperation(op, OperationPriority.Normal, new CompletableFuture<>());
+        traced.startTrace(1000);
+        Assert.assertTrue(traced.isTraced());
+        traced.traceDequeued(1000);
+        traced.traceFrameSealed();
+        Assert.assertNull(traced.getLatencyBreakdown());
+
+        traced.traceDurable();
+        val latency = traced.getLatencyBreakdown();
+        Assert.assertNotNull(latency);
+        Assert.assertEquals(op.getClass().getSimpleName(), latency.getOperationType());
+        Assert.assertEquals(VALID_SEQ_NO, latency.getSequenceNumber());
+        Assert.assertEquals(segmentId, latency.getSegmentId());
+        Assert.assertEquals("No throttling expected.", 0, latency.getThrottleNanos());
+        Assert.assertTrue(latency.getQueueNanos() >= 0);
+        Assert.assertTrue(latency.getBatchingNanos() >= 0);
+        Assert.assertTrue(latency.getDurableWriteNanos() >= 0);
+        Assert.assertTrue(latency.getMemoryCommitNanos() >= 0);
+        Assert.assertEquals("Expected stages to add up to the total.", latency.getTotalNanos(),
+                latency.getQueueNanos() + latency.getThrottleNanos() + latency.getBatchingNanos()
+                        + latency.getDurableWriteNanos() + latency.getMemoryCommitNanos());
+
+        // Throttling cannot account for more than the time spent in the queue.
+        val throttled = new CompletableOperation(new MetadataCheckpointOperation(), OperationPriority.Normal, new CompletableFuture<>());
+        throttled.startTrace(0);
+        throttled.traceDequeued(Long.MAX_VALUE);
+        throttled.traceFrameSealed();
+        throttled.traceDurable();
+        val throttledLatency = throttled.getLatencyBreakdown();
+        Assert.assertEquals(-1, throttledLatency.getSegmentId());
+        Assert.assertEquals(0, throttledLatency.getQueueNanos());
+    }
 }
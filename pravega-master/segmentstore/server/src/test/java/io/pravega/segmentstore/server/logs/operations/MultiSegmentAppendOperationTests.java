@@ -0,0 +1,94 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.logs.operations;
+
+import io.pravega.common.MathHelpers;
+import io.pravega.common.util.ByteArraySegment;
+import io.pravega.test.common.AssertExtensions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for MultiSegmentAppendOperation class.
+ */
+public class MultiSegmentAppendOperationTests extends OperationTestsBase<MultiSegmentAppendOperation> {
+    private static final int MAX_APPEND_COUNT = 100;
+    private static final int MAX_LENGTH = 1024;
+
+    @Override
+    protected MultiSegmentAppendOperation createOperation(Random random) {
+        int appendCount = random.nextInt(MAX_APPEND_COUNT) + 1;
+        val appends = new ArrayList<StreamSegmentAppendOperation>();
+        for (int i = 0; i < appendCount; i++) {
+            byte[] data = new byte[random.nextInt(MAX_LENGTH)];
+            random.nextBytes(data);
+
+            // Alternate between appends with and without attributes.
+            val attributes = i % 2 == 0 ? StreamSegmentAppendOperationTests.createAttributes() : null;
+            appends.add(new StreamSegmentAppendOperation(random.nextLong(), new ByteArraySegment(data), attributes));
+        }
+
+        return new MultiSegmentAppendOperation(appends);
+    }
+
+    @Override
+    protected boolean isPreSerializationConfigRequired(MultiSegmentAppendOperation operation) {
+        return operation.getAppends().stream().anyMatch(a -> a.getStreamSegmentOffset() < 0 || a.getSequenceNumber() < 0);
+    }
+
+    @Override
+    protected void configurePreSerialization(MultiSegmentAppendOperation operation, Random random) {
+        val appends = operation.getAppends();
+        if (appends.stream().anyMatch(a -> a.getStreamSegmentOffset() < 0)) {
+            appends.forEach(a -> a.setStreamSegmentOffset(MathHelpers.abs(random.nextLong())));
+        } else if (appends.get(0).getSequenceNumber() < 0) {
+            long firstSequenceNumber = operation.getSequenceNumber() - appends.size() + 1;
+            for (int i = 0; i < appends.size(); i++) {
+                appends.get(i).setSequenceNumber(firstSequenceNumber + i);
+            }
+        } else if (isPreSerializationConfigRequired(operation)) {
+            Assert.fail("isPreSerializationConfigRequired returned true but there is nothing to be done.");
+        }
+    }
+
+    /**
+     * Tests that appends with Sequence Numbers that do not match the one of the MultiSegmentAppendOperation cannot
+     * be serialized.
+     */
+    @Test
+    public void testInvalidSequenceNumbers() {
+        val append1 = new StreamSegmentAppendOperation(1L, 0L, new ByteArraySegment(new byte[1]), null);
+        val append2 = new StreamSegmentAppendOperation(2L, 0L, new ByteArraySegment(new byte[1]), null);
+        append1.setSequenceNumber(10);
+        append2.setSequenceNumber(12);
+        val op = new MultiSegmentAppendOperation(Arrays.asList(append1, append2));
+        op.setSequenceNumber(12);
+        AssertExtensions.assertThrows(
+                "Serialization was possible with non-consecutive Sequence Numbers.",
+                () -> new OperationSerializer().serialize(op),
+                ex -> ex instanceof IllegalStateException);
+
+        AssertExtensions.assertThrows(
+                "MultiSegmentAppendOperation was created with no appends.",
+                () -> new MultiSegmentAppendOperation(Collections.emptyList()),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+}
@@ -87,6 +87,8 @@ public class OperationComparer {
             assertSame(message, (StorageOperation) expected, (StorageOperation) actual);
         } else if (expected instanceof MetadataOperation) {
             assertSame(message, (MetadataOperation) expected, (MetadataOperation) actual);
+        } else if (expected instanceof MultiSegmentAppendOperation) {
+            assertSame(message, (MultiSegmentAppendOperation) expected, (MultiSegmentAppendOperation) actual);
         } else {
             Assert.fail(message + " No comparison implemented for operation " + expected);
         }
@@ -118,6 +120,13 @@ public class OperationComparer {
         }
     }
 
+    private void assertSame(String message, MultiSegmentAppendOperation expected, MultiSegmentAppendOperation actual) {
+        Assert.assertEquals(message + " Unexpected append count.", expected.getAppends().size(), actual.getAppends().size());
+        for (int i = 0; i < expected.getAppends().size(); i++) {
+            assertSame(message + " Append " + i + ":", (Operation) expected.getAppends().get(i), actual.getAppends().get(i));
+        }
+    }
+
     private void assertSame(String message, StreamSegmentSealOperation expected, StreamSegmentSealOperation actual) {
         Assert.assertEquals(message + " Unexpected StreamSegmentOffset.", expected.getStreamSegmentOffset(), actual.getStreamSegmentOffset());
     }
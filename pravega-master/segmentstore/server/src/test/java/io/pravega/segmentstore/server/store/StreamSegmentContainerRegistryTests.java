@@ -27,6 +27,7 @@ import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
 import io.pravega.segmentstore.contracts.ContainerNotFoundException;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
 import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.SegmentType;
@@ -428,6 +429,13 @@ public class StreamSegmentContainerRegistryTests extends ThreadPooledTestSuite {
             return null;
         }
 
+        @Override
+        public CompletableFuture<List<MergeStreamSegmentResult>> mergeStreamSegments(String targetStreamSegment, List<String> sourceStreamSegments,
+                                                                                     List<AttributeUpdateCollection> attributeUpdates,
+                                                                                     Duration timeout) {
+            return null;
+        }
+
         @Override
         public CompletableFuture<Long> sealStreamSegment(String streamSegmentName, Duration timeout) {
             return null;
@@ -463,6 +471,11 @@ public class StreamSegmentContainerRegistryTests extends ThreadPooledTestSuite {
             return null;
         }
 
+        @Override
+        public List<OperationLatencyBreakdown> getSlowestOperations() {
+            return null;
+        }
+
         @Override
         public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfo(String streamSegmentName, Duration timeout) {
             return null;
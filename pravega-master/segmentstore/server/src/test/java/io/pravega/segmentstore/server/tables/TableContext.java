@@ -26,6 +26,7 @@ import io.pravega.segmentstore.contracts.AttributeUpdateType;
 import io.pravega.segmentstore.contracts.Attributes;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
 import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.SegmentType;
@@ -221,6 +222,11 @@ public class TableContext implements AutoCloseable {
             throw new UnsupportedOperationException("Not Expected");
         }
 
+        @Override
+        public List<OperationLatencyBreakdown> getSlowestOperations() {
+            throw new UnsupportedOperationException("Not Expected");
+        }
+
         @Override
         public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfo(String streamSegmentName, Duration timeout) {
             throw new UnsupportedOperationException("Not Expected");
@@ -317,6 +323,13 @@ public class TableContext implements AutoCloseable {
             throw new UnsupportedOperationException("Not Expected");
         }
 
+        @Override
+        public CompletableFuture<List<MergeStreamSegmentResult>> mergeStreamSegments(String targetSegmentName, List<String> sourceSegmentNames,
+                                                                                     List<AttributeUpdateCollection> attributeUpdates,
+                                                                                     Duration timeout) {
+            throw new UnsupportedOperationException("Not Expected");
+        }
+
         @Override
         public CompletableFuture<Long> sealStreamSegment(String streamSegmentName, Duration timeout) {
             throw new UnsupportedOperationException("Not Expected");
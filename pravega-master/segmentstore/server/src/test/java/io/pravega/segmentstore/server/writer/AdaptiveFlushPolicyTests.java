@@ -0,0 +1,154 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.writer;
+
+import io.pravega.segmentstore.server.ManualTimer;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link AdaptiveFlushPolicy} class.
+ */
+public class AdaptiveFlushPolicyTests {
+    private static final int THRESHOLD_BYTES = 1000;
+    private static final long THRESHOLD_MILLIS = 1000;
+    private static final int MAX_FLUSH_SIZE_BYTES = 1500;
+    private static final int ADAPTIVE_MAX_BYTES = 10000;
+
+    /**
+     * Tests that the static thresholds are used when adaptive flushing is disabled.
+     */
+    @Test
+    public void testDisabled() {
+        val timer = new ManualTimer();
+        val policy = new AdaptiveFlushPolicy(createConfig(false), timer, () -> 0.0);
+        policy.recordWrite(Duration.ofSeconds(10));
+        for (int i = 0; i < 10; i++) {
+            timer.setElapsedMillis(i * 1000);
+            policy.recordAppend(ADAPTIVE_MAX_BYTES);
+        }
+
+        Assert.assertEquals(0, policy.getIngestionRate(), 0);
+        Assert.assertEquals(0, policy.getWriteLatencyMillis(), 0);
+        Assert.assertEquals(THRESHOLD_BYTES, policy.getFlushThresholdBytes());
+        Assert.assertEquals(THRESHOLD_MILLIS, policy.getFlushThresholdTime().toMillis());
+        Assert.assertEquals(MAX_FLUSH_SIZE_BYTES, policy.getMaxFlushSizeBytes());
+    }
+
+    /**
+     * Tests that the size threshold is raised when the cache has headroom and falls back to the configured value when the
+     * cache reaches its target utilization. The time threshold is never raised, as that would delay DurableLog truncation.
+     */
+    @Test
+    public void testCacheHeadroom() {
+        val cacheUtilization = new AtomicReference<Double>(0.0);
+        val policy = new AdaptiveFlushPolicy(createConfig(true), new ManualTimer(), cacheUtilization::get);
+
+        // Empty cache: use the maximum.
+        Assert.assertEquals(ADAPTIVE_MAX_BYTES, policy.getFlushThresholdBytes());
+        Assert.assertEquals(THRESHOLD_MILLIS, policy.getFlushThresholdTime().toMillis());
+        Assert.assertEquals(ADAPTIVE_MAX_BYTES, policy.getMaxFlushSizeBytes());
+
+        // Half-way to the target: half-way between the configured value and the maximum.
+        cacheUtilization.set(0.5);
+        Assert.assertEquals((THRESHOLD_BYTES + ADAPTIVE_MAX_BYTES) / 2, policy.getFlushThresholdBytes());
+        Assert.assertEquals(THRESHOLD_MILLIS, policy.getFlushThresholdTime().toMillis());
+
+        // At or above target: use the configured values.
+        for (double u : new double[]{1.0, 1.5}) {
+            cacheUtilization.set(u);
+            Assert.assertEquals(THRESHOLD_BYTES, policy.getFlushThresholdBytes());
+            Assert.assertEquals(THRESHOLD_MILLIS, policy.getFlushThresholdTime().toMillis());
+            Assert.assertEquals(MAX_FLUSH_SIZE_BYTES, policy.getMaxFlushSizeBytes());
+        }
+    }
+
+    /**
+     * Tests that the size threshold accommodates the data ingested during a Storage write, even if the cache is full.
+     */
+    @Test
+    public void testIngestionRateAndLatency() {
+        val timer = new ManualTimer();
+        val policy = new AdaptiveFlushPolicy(createConfig(true), timer, () -> 1.0);
+
+        // 2000 bytes per second.
+        for (int i = 1; i <= 10; i++) {
+            timer.setElapsedMillis(i * 1000);
+            policy.recordAppend(2000);
+        }
+
+        Assert.assertEquals(2000, policy.getIngestionRate(), 1);
+
+        // Fast writes: the configured threshold is sufficient.
+        policy.recordWrite(Duration.ofMillis(100));
+        Assert.assertEquals(THRESHOLD_BYTES, policy.getFlushThresholdBytes());
+
+        // 1 second writes: need to flush at least 2 * 2000 bytes at once to keep up.
+        for (int i = 0; i < 100; i++) {
+            policy.recordWrite(Duration.ofSeconds(1));
+        }
+
+        Assert.assertEquals(1000, policy.getWriteLatencyMillis(), 1);
+        Assert.assertEquals(4000, policy.getFlushThresholdBytes(), 10);
+        Assert.assertEquals(policy.getFlushThresholdBytes(), policy.getMaxFlushSizeBytes());
+        Assert.assertEquals(THRESHOLD_MILLIS, policy.getFlushThresholdTime().toMillis());
+
+        // Very slow writes: never exceed the maximum.
+        for (int i = 0; i < 100; i++) {
+            policy.recordWrite(Duration.ofSeconds(100));
+        }
+
+        Assert.assertEquals(ADAPTIVE_MAX_BYTES, policy.getFlushThresholdBytes());
+
+        // The segment becomes idle: the rate decays.
+        timer.setElapsedMillis(20 * 1000);
+        Assert.assertEquals(0, policy.getIngestionRate(), 0);
+        Assert.assertEquals(THRESHOLD_BYTES, policy.getFlushThresholdBytes());
+    }
+
+    /**
+     * Tests that the time threshold never goes above the configured value, whatever the cache utilization, ingestion rate
+     * or Storage write latency (i.e., also when the Storage Writer, and thus DurableLog truncation, is falling behind).
+     */
+    @Test
+    public void testTimeThresholdNotRaised() {
+        val timer = new ManualTimer();
+        val cacheUtilization = new AtomicReference<Double>(0.0);
+        val policy = new AdaptiveFlushPolicy(createConfig(true), timer, cacheUtilization::get);
+        for (int i = 1; i <= 10; i++) {
+            timer.setElapsedMillis(i * 1000);
+            policy.recordAppend(10);
+            policy.recordWrite(Duration.ofSeconds(i * 10));
+            for (double u : new double[]{0.0, 0.5, 1.0, 2.0}) {
+                cacheUtilization.set(u);
+                Assert.assertEquals(THRESHOLD_MILLIS, policy.getFlushThresholdTime().toMillis());
+            }
+        }
+    }
+
+    private WriterConfig createConfig(boolean adaptive) {
+        return WriterConfig.builder()
+                .with(WriterConfig.FLUSH_THRESHOLD_BYTES, THRESHOLD_BYTES)
+                .with(WriterConfig.FLUSH_THRESHOLD_MILLIS, THRESHOLD_MILLIS)
+                .with(WriterConfig.MAX_FLUSH_SIZE_BYTES, MAX_FLUSH_SIZE_BYTES)
+                .with(WriterConfig.ADAPTIVE_FLUSH_ENABLED, adaptive)
+                .with(WriterConfig.ADAPTIVE_FLUSH_THRESHOLD_BYTES_MAX, ADAPTIVE_MAX_BYTES)
+                .build();
+    }
+}
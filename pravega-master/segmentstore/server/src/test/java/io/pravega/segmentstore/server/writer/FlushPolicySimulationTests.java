@@ -0,0 +1,149 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.server.writer;
+
+import io.pravega.segmentstore.server.ManualTimer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.junit.Ignore;
+import org.junit.Test;
+
+/**
+ * Simulates the flushing of a set of Segments with various ingestion rates using both the static flush thresholds and
+ * {@link AdaptiveFlushPolicy} and reports the number of chunks written to Storage, their average size and the tiering
+ * lag (how long data stays in the Cache before it is written to Storage, which bounds DurableLog truncations).
+ *
+ * The simulation uses a simple model for Storage (fixed per-write latency plus a throughput-bound component) and for the
+ * Cache (the sum of all unflushed bytes, relative to {@link #CACHE_TARGET_BYTES}). Results are only meaningful when
+ * compared against each other.
+ *
+ * This is marked as @Ignore since this is not a real unit test (no correctness checking).
+ */
+@Ignore
+public class FlushPolicySimulationTests {
+    private static final long SIMULATION_MILLIS = 60 * 60 * 1000L;
+    private static final long STEP_MILLIS = 100;
+    private static final long CACHE_TARGET_BYTES = 1024 * 1024 * 1024L;
+    private static final long STORAGE_LATENCY_MILLIS = 50;
+    private static final long STORAGE_BYTES_PER_SECOND = 100 * 1024 * 1024L;
+
+    // Segment count and ingestion rate (bytes/second) for each segment class.
+    private static final int[][] SEGMENT_CLASSES = new int[][]{
+            {500, 1024},
+            {50, 100 * 1024},
+            {5, 5 * 1024 * 1024}};
+
+    @Test
+    public void testSimulation() {
+        for (boolean adaptive : new boolean[]{false, true}) {
+            val config = WriterConfig.builder()
+                    .with(WriterConfig.ADAPTIVE_FLUSH_ENABLED, adaptive)
+                    .build();
+            System.out.println(String.format("Adaptive=%s: %s", adaptive, simulate(config)));
+        }
+    }
+
+    private Result simulate(WriterConfig config) {
+        val timer = new ManualTimer();
+        val cachedBytes = new long[1];
+        val segments = new ArrayList<SimulatedSegment>();
+        for (int[] segmentClass : SEGMENT_CLASSES) {
+            for (int i = 0; i < segmentClass[0]; i++) {
+                val policy = new AdaptiveFlushPolicy(config, timer, () -> (double) cachedBytes[0] / CACHE_TARGET_BYTES);
+                segments.add(new SimulatedSegment(policy, segmentClass[1]));
+            }
+        }
+
+        val result = new Result();
+        for (long now = 0; now < SIMULATION_MILLIS; now += STEP_MILLIS) {
+            timer.setElapsedMillis(now);
+            for (val s : segments) {
+                if (s.writeCompletionTime >= 0 && s.writeCompletionTime <= now) {
+                    // The pending write has completed.
+                    long latency = s.writeCompletionTime - s.writeStartTime;
+                    s.policy.recordWrite(Duration.ofMillis(latency));
+                    result.recordChunk(s.writeLength, s.writeCompletionTime - s.firstUnflushedTime);
+                    cachedBytes[0] -= s.writeLength;
+                    s.bufferedBytes -= s.writeLength;
+                    s.firstUnflushedTime = s.bufferedBytes == 0 ? -1 : s.writeCompletionTime - s.bufferedBytes * 1000 / s.rate;
+                    s.lastFlushTime = s.writeCompletionTime;
+                    s.writeCompletionTime = -1;
+                }
+
+                long appended = s.rate * STEP_MILLIS / 1000;
+                if (appended > 0) {
+                    if (s.bufferedBytes == 0) {
+                        s.firstUnflushedTime = now;
+                    }
+                    s.bufferedBytes += appended;
+                    cachedBytes[0] += appended;
+                    s.policy.recordAppend(appended);
+                }
+
+                boolean shouldFlush = s.bufferedBytes >= s.policy.getFlushThresholdBytes()
+                        || (s.bufferedBytes > 0 && now - s.lastFlushTime >= s.policy.getFlushThresholdTime().toMillis());
+                if (s.writeCompletionTime < 0 && shouldFlush) {
+                    s.writeLength = Math.min(s.bufferedBytes, s.policy.getMaxFlushSizeBytes());
+                    s.writeStartTime = now;
+                    s.writeCompletionTime = now + STORAGE_LATENCY_MILLIS + s.writeLength * 1000 / STORAGE_BYTES_PER_SECOND;
+                }
+            }
+
+            result.maxCachedBytes = Math.max(result.maxCachedBytes, cachedBytes[0]);
+        }
+
+        return result;
+    }
+
+    @RequiredArgsConstructor
+    private static class SimulatedSegment {
+        final AdaptiveFlushPolicy policy;
+        final long rate;
+        long bufferedBytes = 0;
+        long firstUnflushedTime = -1;
+        long lastFlushTime = 0;
+        long writeStartTime = -1;
+        long writeCompletionTime = -1;
+        long writeLength = 0;
+    }
+
+    private static class Result {
+        private final List<Long> lags = new ArrayList<>();
+        private long chunkCount;
+        private long totalBytes;
+        private long maxCachedBytes;
+
+        void recordChunk(long length, long lagMillis) {
+            this.chunkCount++;
+            this.totalBytes += length;
+            this.lags.add(lagMillis);
+        }
+
+        @Override
+        public String toString() {
+            this.lags.sort(Long::compare);
+            long avgLag = (long) this.lags.stream().mapToLong(l -> l).average().orElse(0);
+            long p99Lag = this.lags.isEmpty() ? 0 : this.lags.get((int) (this.lags.size() * 0.99));
+            long maxLag = this.lags.isEmpty() ? 0 : this.lags.get(this.lags.size() - 1);
+            return String.format("Chunks = %d, AvgChunkSize = %d KB, TieringLag(avg/p99/max) = %d/%d/%d ms, MaxCached = %d MB",
+                    this.chunkCount, this.chunkCount == 0 ? 0 : this.totalBytes / this.chunkCount / 1024,
+                    avgLag, p99Lag, maxLag, this.maxCachedBytes / 1024 / 1024);
+        }
+    }
+}
@@ -60,5 +60,23 @@ public class WriterConfigTest {
 
         Assert.assertEquals(10 * 1000L, (long) WriterConfig.SHUTDOWN_TIMEOUT_MILLIS.getDefaultValue());
         Assert.assertEquals("shutDown.timeout.milliseconds", WriterConfig.SHUTDOWN_TIMEOUT_MILLIS.getName());
+
+        Assert.assertFalse(WriterConfig.ADAPTIVE_FLUSH_ENABLED.getDefaultValue());
+        Assert.assertEquals("flush.adaptive.enable", WriterConfig.ADAPTIVE_FLUSH_ENABLED.getName());
+
+        Assert.assertEquals(64 * 1024 * 1024, (int) WriterConfig.ADAPTIVE_FLUSH_THRESHOLD_BYTES_MAX.getDefaultValue());
+        Assert.assertEquals("flush.adaptive.threshold.bytes.max", WriterConfig.ADAPTIVE_FLUSH_THRESHOLD_BYTES_MAX.getName());
+    }
+
+    @Test
+    public void testAdaptiveFlushBounds() {
+        // The adaptive maximum may never be lower than the static threshold.
+        WriterConfig config = WriterConfig.builder()
+                .with(WriterConfig.FLUSH_THRESHOLD_BYTES, 1000)
+                .with(WriterConfig.FLUSH_THRESHOLD_MILLIS, 1000L)
+                .with(WriterConfig.ADAPTIVE_FLUSH_THRESHOLD_BYTES_MAX, 100)
+                .build();
+        Assert.assertFalse(config.isAdaptiveFlushEnabled());
+        Assert.assertEquals(1000, config.getAdaptiveFlushMaxThresholdBytes());
     }
 }
@@ -23,6 +23,8 @@ import io.pravega.common.LoggerHelpers;
 import io.pravega.common.Timer;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -224,6 +226,76 @@ public abstract class AsyncBaseChunkStorage implements ChunkStorage {
         return returnFuture;
     }
 
+    /**
+     * Deletes multiple chunks.
+     * If the implementation does not support batch deletes then each chunk is deleted with a separate, concurrent request.
+     *
+     * @param handles List of ChunkHandles of the chunks to delete.
+     * @return A CompletableFuture that, when completed, will contain a map of chunk name to cause of failure for each chunk
+     * that could not be deleted.
+     * If the operation failed, it will be completed with the appropriate exception. Notable Exceptions:
+     * {@link ChunkStorageException} In case of I/O related exceptions.
+     */
+    @Override
+    final public CompletableFuture<Map<String, Throwable>> deleteBatch(List<ChunkHandle> handles) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        // Validate parameters
+        Preconditions.checkArgument(null != handles, "handles must not be null");
+        for (val handle : handles) {
+            Preconditions.checkArgument(null != handle, "handle must not be null");
+            checkChunkName(handle.getChunkName());
+            Preconditions.checkArgument(!handle.isReadOnly(), "handle must not be readonly. Chunk=%s", handle.getChunkName());
+        }
+        if (!supportsBatchDelete()) {
+            return ChunkStorage.super.deleteBatch(handles);
+        }
+
+        val traceId = LoggerHelpers.traceEnter(log, "deleteBatch", handles.size());
+        val opContext = new OperationContext();
+
+        // Call concrete implementation.
+        val returnFuture = doDeleteBatchAsync(handles, opContext);
+        returnFuture.thenAcceptAsync(failures -> {
+            // Record metrics.
+            val elapsed = opContext.getInclusiveLatency();
+            ChunkStorageMetrics.DELETE_BATCH_LATENCY.reportSuccessEvent(elapsed);
+            ChunkStorageMetrics.DELETE_COUNT.add(handles.size() - failures.size());
+
+            log.debug("DeleteBatch - chunks={}, failed={}, latency={}.", handles.size(), failures.size(), elapsed.toMillis());
+            LoggerHelpers.traceLeave(log, "deleteBatch", traceId, handles.size());
+        }, executor);
+
+        return returnFuture;
+    }
+
+    /**
+     * Lists the names of all chunks.
+     *
+     * @return A CompletableFuture that, when completed, will contain the names of all chunks.
+     * @throws CompletionException If the operation failed, it will be completed with the appropriate exception. Notable Exceptions:
+     * {@link ChunkStorageException} In case of I/O related exceptions.
+     * {@link UnsupportedOperationException} If this operation is not supported by this provider.
+     */
+    @Override
+    final public CompletableFuture<List<String>> listChunks() {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        if (!supportsListing()) {
+            return ChunkStorage.super.listChunks();
+        }
+
+        val traceId = LoggerHelpers.traceEnter(log, "listChunks");
+        val opContext = new OperationContext();
+
+        // Call concrete implementation.
+        val returnFuture = doListChunksAsync(opContext);
+        returnFuture.thenAcceptAsync(chunkNames -> {
+            log.debug("ListChunks - chunks={}, latency={}.", chunkNames.size(), opContext.getInclusiveLatency().toMillis());
+            LoggerHelpers.traceLeave(log, "listChunks", traceId, chunkNames.size());
+        }, executor);
+
+        return returnFuture;
+    }
+
     /**
      * Opens chunk for Read.
      *
@@ -610,6 +682,36 @@ public abstract class AsyncBaseChunkStorage implements ChunkStorage {
      */
     abstract protected CompletableFuture<Void> doDeleteAsync(ChunkHandle handle, OperationContext opContext);
 
+    /**
+     * Deletes multiple chunks using a single request (or as few requests as possible) to the underlying storage.
+     * This method is only invoked when {@link ChunkStorage#supportsBatchDelete()} returns true.
+     *
+     * @param handles List of ChunkHandles of the chunks to delete.
+     * @param opContext Context for the given operation.
+     * @return A CompletableFuture that, when completed, will contain a map of chunk name to cause of failure for each chunk
+     * that could not be deleted.
+     * @throws UnsupportedOperationException If this operation is not supported by this provider.
+     * @throws CompletionException If the operation failed, it will be completed with the appropriate exception. Notable Exceptions:
+     * {@link ChunkStorageException} In case of I/O related exceptions.
+     */
+    protected CompletableFuture<Map<String, Throwable>> doDeleteBatchAsync(List<ChunkHandle> handles, OperationContext opContext) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Lists the names of all chunks.
+     * This method is only invoked when {@link ChunkStorage#supportsListing()} returns true.
+     *
+     * @param opContext Context for the given operation.
+     * @return A CompletableFuture that, when completed, will contain the names of all chunks.
+     * @throws UnsupportedOperationException If this operation is not supported by this provider.
+     * @throws CompletionException If the operation failed, it will be completed with the appropriate exception. Notable Exceptions:
+     * {@link ChunkStorageException} In case of I/O related exceptions.
+     */
+    protected CompletableFuture<List<String>> doListChunksAsync(OperationContext opContext) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Opens chunk for Read.
      *
@@ -19,6 +19,8 @@ import com.google.common.annotations.Beta;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
@@ -97,6 +99,16 @@ public abstract class BaseChunkStorage extends AsyncBaseChunkStorage {
         }, opContext);
     }
 
+    @Override
+    protected CompletableFuture<Map<String, Throwable>> doDeleteBatchAsync(List<ChunkHandle> handles, OperationContext opContext) {
+        return execute(() -> doDeleteBatch(handles), opContext);
+    }
+
+    @Override
+    protected CompletableFuture<List<String>> doListChunksAsync(OperationContext opContext) {
+        return execute(this::doListChunks, opContext);
+    }
+
     @Override
     protected CompletableFuture<ChunkHandle> doOpenReadAsync(String chunkName, OperationContext opContext) {
         return execute(() -> doOpenRead(chunkName), opContext);
@@ -199,6 +211,31 @@ public abstract class BaseChunkStorage extends AsyncBaseChunkStorage {
      */
     abstract protected void doDelete(ChunkHandle handle) throws ChunkStorageException;
 
+    /**
+     * Deletes multiple chunks using as few requests to the underlying storage as possible.
+     * This method is only invoked when {@link ChunkStorage#supportsBatchDelete()} returns true.
+     *
+     * @param handles List of ChunkHandles of the chunks to delete.
+     * @return Map of chunk name to cause of failure for each chunk that could not be deleted.
+     * @throws ChunkStorageException         Throws ChunkStorageException in case of I/O related exceptions.
+     * @throws UnsupportedOperationException If this operation is not supported by this provider.
+     */
+    protected Map<String, Throwable> doDeleteBatch(List<ChunkHandle> handles) throws ChunkStorageException, UnsupportedOperationException {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Lists the names of all chunks.
+     * This method is only invoked when {@link ChunkStorage#supportsListing()} returns true.
+     *
+     * @return List of chunk names.
+     * @throws ChunkStorageException         Throws ChunkStorageException in case of I/O related exceptions.
+     * @throws UnsupportedOperationException If this operation is not supported by this provider.
+     */
+    protected List<String> doListChunks() throws ChunkStorageException, UnsupportedOperationException {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Opens chunk for Read.
      *
@@ -16,10 +16,17 @@
 package io.pravega.segmentstore.storage.chunklayer;
 
 import com.google.common.annotations.Beta;
+import io.pravega.common.Exceptions;
+import io.pravega.common.concurrent.Futures;
+import lombok.val;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Defines an abstraction for Permanent Storage.
@@ -44,6 +51,11 @@ import java.util.concurrent.CompletionException;
  * If this is true then concat operation concat will be invoked otherwise append functionality is invoked.</li>
  * <li>In addition {@link ChunkStorage} may provide ability to truncate chunks at given offsets (either at front end or at tail end).
  * This is indicated by {@link ChunkStorage#supportsTruncation()}. </li>
+ * <li>{@link ChunkStorage} may provide ability to delete many chunks using a single request to underlying storage.
+ * This is indicated by {@link ChunkStorage#supportsBatchDelete()}. When not supported, {@link ChunkStorage#deleteBatch(List)}
+ * falls back to issuing a separate (concurrent) delete request for each chunk.</li>
+ * <li>{@link ChunkStorage} may provide ability to enumerate the chunks it contains.
+ * This is indicated by {@link ChunkStorage#supportsListing()}.</li>
  * </ul>
  * There are some obvious constraints - If ChunkStorage supports concat but not natively then it must support append .
  *
@@ -101,6 +113,25 @@ public interface ChunkStorage extends AutoCloseable, StatsReporter {
         return true;
     }
 
+    /**
+     * Gets a value indicating whether this Storage implementation supports deleting multiple storage objects using a
+     * single request to the underlying storage (Eg. S3 multi-object delete).
+     *
+     * @return True if {@link ChunkStorage#deleteBatch(List)} is implemented natively. False otherwise.
+     */
+    default boolean supportsBatchDelete() {
+        return false;
+    }
+
+    /**
+     * Gets a value indicating whether this Storage implementation can enumerate the chunks it contains.
+     *
+     * @return True if {@link ChunkStorage#listChunks()} is implemented. False otherwise.
+     */
+    default boolean supportsListing() {
+        return false;
+    }
+
 
     /**
      * Determines whether named file/object exists in underlying storage.
@@ -145,6 +176,53 @@ public interface ChunkStorage extends AutoCloseable, StatsReporter {
      */
     CompletableFuture<Void> delete(ChunkHandle handle);
 
+    /**
+     * Deletes multiple chunks.
+     * Implementations that support native bulk deletes (see {@link ChunkStorage#supportsBatchDelete()}) may split the
+     * given list into as many requests as required by the underlying storage.
+     * The default implementation invokes {@link ChunkStorage#delete(ChunkHandle)} for all chunks concurrently and waits
+     * for all of them to complete.
+     * Failure to delete any individual chunk does not fail the whole operation, instead it is reported in the returned map.
+     * Note that some storage providers do not report missing objects during bulk deletes, therefore chunks that do not
+     * exist may either be reported with {@link ChunkNotFoundException} or treated as successfully deleted.
+     *
+     * @param handles List of ChunkHandles of the storage objects to delete.
+     * @return A CompletableFuture that, when completed, will contain a map of chunk name to cause of failure for each chunk
+     * that could not be deleted. The map is empty if all chunks were deleted.
+     * If the operation failed as a whole, it will be completed with the appropriate exception. Notable Exceptions:
+     * {@link ChunkStorageException} In case of I/O related exceptions.
+     */
+    default CompletableFuture<Map<String, Throwable>> deleteBatch(List<ChunkHandle> handles) {
+        val failures = new ConcurrentHashMap<String, Throwable>();
+        val futures = new ArrayList<CompletableFuture<Void>>();
+        for (val handle : handles) {
+            CompletableFuture<Void> future;
+            try {
+                future = delete(handle);
+            } catch (Exception e) {
+                future = Futures.failedFuture(e);
+            }
+            futures.add(future.exceptionally(e -> {
+                failures.put(handle.getChunkName(), Exceptions.unwrap(e));
+                return null;
+            }));
+        }
+        return Futures.allOf(futures).thenApply(v -> failures);
+    }
+
+    /**
+     * Lists the names of all chunks in this storage.
+     * This method is only supported when {@link ChunkStorage#supportsListing()} returns true.
+     *
+     * @return A CompletableFuture that, when completed, will contain the names of all chunks.
+     * If the operation failed, it will be completed with the appropriate exception. Notable Exceptions:
+     * {@link ChunkStorageException} In case of I/O related exceptions.
+     * {@link UnsupportedOperationException} If this operation is not supported by this provider.
+     */
+    default CompletableFuture<List<String>> listChunks() {
+        return Futures.failedFuture(new UnsupportedOperationException("listChunks"));
+    }
+
     /**
      * Opens storage object for Read.
      *
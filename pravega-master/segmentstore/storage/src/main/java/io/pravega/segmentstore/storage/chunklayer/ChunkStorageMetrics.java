@@ -34,6 +34,7 @@ public class ChunkStorageMetrics {
     static final OpStatsLogger CREATE_LATENCY = STATS_LOGGER.createStats(MetricsNames.STORAGE_CREATE_LATENCY);
     static final OpStatsLogger DELETE_LATENCY = STATS_LOGGER.createStats(MetricsNames.STORAGE_DELETE_LATENCY);
     static final OpStatsLogger CONCAT_LATENCY = STATS_LOGGER.createStats(MetricsNames.STORAGE_CONCAT_LATENCY);
+    static final OpStatsLogger DELETE_BATCH_LATENCY = STATS_LOGGER.createStats(MetricsNames.STORAGE_DELETE_BATCH_LATENCY);
 
     static final OpStatsLogger SLTS_READ_LATENCY = STATS_LOGGER.createStats(MetricsNames.SLTS_READ_LATENCY);
     static final OpStatsLogger SLTS_WRITE_LATENCY = STATS_LOGGER.createStats(MetricsNames.SLTS_WRITE_LATENCY);
@@ -72,12 +73,28 @@ public class ChunkStorageMetrics {
     static final Counter SLTS_GC_CHUNK_DELETED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_CHUNK_DELETED);
     static final Counter SLTS_GC_CHUNK_RETRY = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_CHUNK_RETRY);
     static final Counter SLTS_GC_CHUNK_FAILED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_CHUNK_FAILED);
+    static final OpStatsLogger SLTS_GC_CHUNK_DELETE_BATCH_SIZE = STATS_LOGGER.createStats(MetricsNames.SLTS_GC_CHUNK_DELETE_BATCH_SIZE);
+    static final OpStatsLogger SLTS_GC_CHUNK_DELETE_BATCH_LATENCY = STATS_LOGGER.createStats(MetricsNames.SLTS_GC_CHUNK_DELETE_BATCH_LATENCY);
+    static final OpStatsLogger SLTS_GC_CHUNK_DELETE_INSTANT_TPUT = STATS_LOGGER.createStats(MetricsNames.SLTS_GC_CHUNK_DELETE_INSTANT_TPUT);
 
     static final Counter SLTS_GC_SEGMENT_QUEUED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_SEGMENT_QUEUED);
     static final Counter SLTS_GC_SEGMENT_PROCESSED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_SEGMENT_PROCESSED);
     static final Counter SLTS_GC_SEGMENT_RETRY = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_SEGMENT_RETRY);
     static final Counter SLTS_GC_SEGMENT_FAILED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_SEGMENT_FAILED);
 
+    static final Counter SLTS_TIERING_CHUNK_MIGRATED = STATS_LOGGER.createCounter(MetricsNames.SLTS_TIERING_CHUNK_MIGRATED);
+    static final Counter SLTS_TIERING_BYTES_MIGRATED = STATS_LOGGER.createCounter(MetricsNames.SLTS_TIERING_BYTES_MIGRATED);
+    static final Counter SLTS_TIERING_CHUNK_RECALLED = STATS_LOGGER.createCounter(MetricsNames.SLTS_TIERING_CHUNK_RECALLED);
+    static final Counter SLTS_TIERING_MIGRATION_FAILED = STATS_LOGGER.createCounter(MetricsNames.SLTS_TIERING_MIGRATION_FAILED);
+    static final OpStatsLogger SLTS_TIERING_MIGRATION_LATENCY = STATS_LOGGER.createStats(MetricsNames.SLTS_TIERING_MIGRATION_LATENCY);
+
+    static final Counter SLTS_PACK_COUNT = STATS_LOGGER.createCounter(MetricsNames.SLTS_PACK_COUNT);
+    static final Counter SLTS_PACK_FAILED = STATS_LOGGER.createCounter(MetricsNames.SLTS_PACK_FAILED);
+    static final OpStatsLogger SLTS_PACK_RANGE_COUNT = STATS_LOGGER.createStats(MetricsNames.SLTS_PACK_RANGE_COUNT);
+    static final OpStatsLogger SLTS_PACK_SIZE = STATS_LOGGER.createStats(MetricsNames.SLTS_PACK_SIZE);
+    static final OpStatsLogger SLTS_PACK_WRITE_LATENCY = STATS_LOGGER.createStats(MetricsNames.SLTS_PACK_WRITE_LATENCY);
+    static final Counter SLTS_GC_PACK_QUEUED = STATS_LOGGER.createCounter(MetricsNames.SLTS_GC_PACK_QUEUED);
+
     static final OpStatsLogger SLTS_NUM_CHUNKS_READ = STATS_LOGGER.createStats(MetricsNames.SLTS_NUM_CHUNKS_READ);
     static final OpStatsLogger SLTS_SYSTEM_NUM_CHUNKS_READ = STATS_LOGGER.createStats(MetricsNames.SLTS_SYSTEM_NUM_CHUNKS_READ);
     static final OpStatsLogger SLTS_NUM_CHUNKS_ADDED = STATS_LOGGER.createStats(MetricsNames.SLTS_NUM_CHUNKS_ADDED);
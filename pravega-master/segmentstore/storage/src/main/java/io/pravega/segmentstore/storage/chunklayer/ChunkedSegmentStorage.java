@@ -159,6 +159,12 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
     @Getter
     private final GarbageCollector garbageCollector;
 
+    /**
+     * {@link PackWriter} that packs small chunks into shared pack chunks. Null if packing is disabled.
+     */
+    @Getter
+    private final PackWriter packWriter;
+
     private final ScheduledFuture<?> reporter;
     private ScheduledFuture<?> storageChecker;
 
@@ -193,6 +199,17 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
                 System::currentTimeMillis,
                 duration -> Futures.delayedFuture(duration, executor));
 
+        this.packWriter = config.isPackingEnabled()
+                ? new PackWriter(containerId,
+                        chunkStorage,
+                        metadataStore,
+                        garbageCollector,
+                        config,
+                        executor,
+                        () -> this.epoch,
+                        duration -> Futures.delayedFuture(duration, executor))
+                : null;
+
         this.systemJournal = new SystemJournal(containerId,
                 chunkStorage,
                 metadataStore,
@@ -323,6 +340,10 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
                         val lastChunk = (ChunkMetadata) storageMetadata;
                         Preconditions.checkState(null != lastChunk, "last chunk metadata must not be null.");
                         Preconditions.checkState(null != lastChunk.getName(), "Name of last chunk must not be null.");
+                        if (lastChunk.isPacked()) {
+                            // Packed chunks are never appended to, so there is nothing to reconcile.
+                            return CompletableFuture.completedFuture(true);
+                        }
                         log.debug("{} claimOwnership - current last chunk - segment={}, last chunk={}, Length={}.",
                                 logPrefix,
                                 segmentMetadata.getName(),
@@ -806,6 +827,7 @@ public class ChunkedSegmentStorage implements Storage, StatsReporter {
 
     @Override
     public void close() {
+        close("packWriter", this.packWriter);
         close("metadataStore", this.metadataStore);
         close("garbageCollector", this.garbageCollector);
         // taskQueue is per instance so safe to close this here.
@@ -53,9 +53,14 @@ public class ChunkedSegmentStorageConfig {
     public static final Property<Integer> GARBAGE_COLLECTION_SLEEP = Property.named("garbage.collection.sleep.millis", 10);
     public static final Property<Integer> GARBAGE_COLLECTION_MAX_ATTEMPTS = Property.named("garbage.collection.attempts.max", 3);
     public static final Property<Integer> GARBAGE_COLLECTION_MAX_TXN_BATCH_SIZE = Property.named("garbage.collection.txn.batch.size.max", 5000);
+    public static final Property<Integer> GARBAGE_COLLECTION_MAX_DELETE_BATCH_SIZE = Property.named("garbage.collection.delete.batch.size.max", 1000);
+    public static final Property<Integer> GARBAGE_COLLECTION_MAX_DELETE_RATE = Property.named("garbage.collection.delete.rate.max", 0);
 
     public static final Property<Integer> MAX_METADATA_ENTRIES_IN_BUFFER = Property.named("metadata.buffer.size.max", 1024);
     public static final Property<Integer> MAX_METADATA_ENTRIES_IN_CACHE = Property.named("metadata.cache.size.max", 5000);
+    public static final Property<Integer> MAX_METADATA_CACHE_SIZE_BYTES = Property.named("metadata.cache.size.bytes.max", 0);
+    public static final Property<Boolean> METADATA_GROUP_COMMIT_ENABLED = Property.named("metadata.commit.group.enable", false);
+    public static final Property<Integer> MAX_METADATA_GROUP_COMMIT_SIZE = Property.named("metadata.commit.group.size.max", 1000);
 
     public static final Property<Integer> JOURNAL_SNAPSHOT_UPDATE_FREQUENCY = Property.named("journal.snapshot.update.frequency.minutes", 5);
     public static final Property<Integer> MAX_PER_SNAPSHOT_UPDATE_COUNT = Property.named("journal.snapshot.update.count.max", 100);
@@ -78,6 +83,11 @@ public class ChunkedSegmentStorageConfig {
 
     public static final Property<Integer> MIN_TRUNCATE_RELOCATION_PERCENT = Property.named("truncate.relocate.percent.min", 80);
 
+    public static final Property<Boolean> PACKING_ENABLED = Property.named("packing.enable", false);
+    public static final Property<Integer> MAX_PACKED_CHUNK_SIZE = Property.named("packing.chunk.size.bytes.max", 64 * 1024);
+    public static final Property<Integer> MAX_PACK_SIZE = Property.named("packing.pack.size.bytes.max", 8 * 1024 * 1024);
+    public static final Property<Integer> PACKING_DELAY = Property.named("packing.delay.millis", 10);
+
     /**
      * Default configuration for {@link ChunkedSegmentStorage}.
      */
@@ -98,8 +108,13 @@ public class ChunkedSegmentStorageConfig {
             .garbageCollectionSleep(Duration.ofMillis(10))
             .garbageCollectionMaxAttempts(3)
             .garbageCollectionTransactionBatchSize(5000)
+            .garbageCollectionDeleteBatchSize(1000)
+            .garbageCollectionDeleteRate(0)
             .indexBlockSize(1024 * 1024 * 1024)
             .maxEntriesInCache(5000)
+            .maxCacheSizeInBytes(0)
+            .groupCommitEnabled(false)
+            .maxGroupCommitSize(1000)
             .maxEntriesInTxnBuffer(1024)
             .journalSnapshotInfoUpdateFrequency(Duration.ofMinutes(5))
             .maxJournalUpdatesPerSnapshot(100)
@@ -115,6 +130,10 @@ public class ChunkedSegmentStorageConfig {
             .minSizeForTruncateRelocationInbytes(64 * 1024 * 1024L)
             .maxSizeForTruncateRelocationInbytes(1 * 1024 * 1024 * 1024L)
             .minPercentForTruncateRelocation(80)
+            .packingEnabled(false)
+            .maxPackedChunkSize(64 * 1024)
+            .maxPackSize(8 * 1024 * 1024)
+            .packingDelay(Duration.ofMillis(10))
             .build();
 
     static final String COMPONENT_CODE = "storage";
@@ -205,6 +224,30 @@ public class ChunkedSegmentStorageConfig {
     @Getter
     final private int minPercentForTruncateRelocation;
 
+    /**
+     * Whether small writes that require a new chunk are packed together with writes to other segments into shared pack chunks.
+     */
+    @Getter
+    final private boolean packingEnabled;
+
+    /**
+     * Maximum size of a write that is eligible to be stored inside a pack chunk.
+     */
+    @Getter
+    final private int maxPackedChunkSize;
+
+    /**
+     * Maximum size of a pack chunk.
+     */
+    @Getter
+    final private int maxPackSize;
+
+    /**
+     * Amount of time to wait for more writes before writing a pack chunk.
+     */
+    @Getter
+    final private Duration packingDelay;
+
     @Getter
     final private int lateWarningThresholdInMillis;
 
@@ -246,6 +289,18 @@ public class ChunkedSegmentStorageConfig {
     @Getter
     final private int garbageCollectionTransactionBatchSize;
 
+    /**
+     * Max number of chunks to delete using a single batch delete request to {@link ChunkStorage}.
+     */
+    @Getter
+    final private int garbageCollectionDeleteBatchSize;
+
+    /**
+     * Max number of chunks deleted per second by garbage collection. Zero means no limit.
+     */
+    @Getter
+    final private int garbageCollectionDeleteRate;
+
     /**
      * Maximum number of metadata entries to keep in recent transaction buffer.
      */
@@ -258,6 +313,25 @@ public class ChunkedSegmentStorageConfig {
     @Getter
     final private int maxEntriesInCache;
 
+    /**
+     * Maximum estimated size in bytes of metadata entries to keep in cache. Zero means cache is bounded by
+     * {@link #getMaxEntriesInCache()} instead.
+     */
+    @Getter
+    final private int maxCacheSizeInBytes;
+
+    /**
+     * Whether metadata store writes from concurrent transactions are combined into a single write.
+     */
+    @Getter
+    final private boolean groupCommitEnabled;
+
+    /**
+     * Maximum number of metadata entries to write in a single combined write when group commit is enabled.
+     */
+    @Getter
+    final private int maxGroupCommitSize;
+
     /**
      * Duration between two system journal snapshot.
      */
@@ -349,6 +423,8 @@ public class ChunkedSegmentStorageConfig {
         this.garbageCollectionSleep = Duration.ofMillis(properties.getPositiveInt(GARBAGE_COLLECTION_SLEEP));
         this.garbageCollectionMaxAttempts = properties.getPositiveInt(GARBAGE_COLLECTION_MAX_ATTEMPTS);
         this.garbageCollectionTransactionBatchSize = properties.getPositiveInt(GARBAGE_COLLECTION_MAX_TXN_BATCH_SIZE);
+        this.garbageCollectionDeleteBatchSize = properties.getPositiveInt(GARBAGE_COLLECTION_MAX_DELETE_BATCH_SIZE);
+        this.garbageCollectionDeleteRate = properties.getNonNegativeInt(GARBAGE_COLLECTION_MAX_DELETE_RATE);
         this.journalSnapshotInfoUpdateFrequency = Duration.ofMinutes(properties.getPositiveInt(JOURNAL_SNAPSHOT_UPDATE_FREQUENCY));
         this.maxJournalUpdatesPerSnapshot =  properties.getPositiveInt(MAX_PER_SNAPSHOT_UPDATE_COUNT);
         this.maxJournalReadAttempts = properties.getPositiveInt(MAX_JOURNAL_READ_ATTEMPTS);
@@ -360,6 +436,9 @@ public class ChunkedSegmentStorageConfig {
         this.indexBlockSize = properties.getPositiveLong(READ_INDEX_BLOCK_SIZE);
         this.maxEntriesInTxnBuffer = properties.getPositiveInt(MAX_METADATA_ENTRIES_IN_BUFFER);
         this.maxEntriesInCache = properties.getPositiveInt(MAX_METADATA_ENTRIES_IN_CACHE);
+        this.maxCacheSizeInBytes = properties.getNonNegativeInt(MAX_METADATA_CACHE_SIZE_BYTES);
+        this.groupCommitEnabled = properties.getBoolean(METADATA_GROUP_COMMIT_ENABLED);
+        this.maxGroupCommitSize = properties.getPositiveInt(MAX_METADATA_GROUP_COMMIT_SIZE);
         this.maxSafeStorageSize = properties.getPositiveLong(MAX_SAFE_SIZE);
         this.safeStorageSizeCheckEnabled = properties.getBoolean(ENABLE_SAFE_SIZE_CHECK);
         this.safeStorageSizeCheckFrequencyInSeconds = properties.getPositiveInt(SAFE_SIZE_CHECK_FREQUENCY);
@@ -367,6 +446,10 @@ public class ChunkedSegmentStorageConfig {
         this.minSizeForTruncateRelocationInbytes = properties.getPositiveLong(MIN_TRUNCATE_RELOCATION_SIZE_BYTES);
         this.maxSizeForTruncateRelocationInbytes = properties.getPositiveLong(MAX_TRUNCATE_RELOCATION_SIZE_BYTES);
         this.minPercentForTruncateRelocation = properties.getPositiveInt(MIN_TRUNCATE_RELOCATION_PERCENT);
+        this.packingEnabled = properties.getBoolean(PACKING_ENABLED);
+        this.maxPackedChunkSize = properties.getPositiveInt(MAX_PACKED_CHUNK_SIZE);
+        this.maxPackSize = properties.getPositiveInt(MAX_PACK_SIZE);
+        this.packingDelay = Duration.ofMillis(properties.getNonNegativeInt(PACKING_DELAY));
     }
 
     /**
@@ -290,6 +290,11 @@ class DefragmentOperation implements Callable<CompletableFuture<Void>> {
 
                     nextChunkName = target.getNextChunk();
 
+                    // Packed chunks share the pack chunk with other chunks and can not be concatenated.
+                    if (target.isPacked()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+
                     // Skip over when first chunk is smaller than min concat size or is greater than max concat size.
                     if (!chunkedSegmentStorage.shouldAppend()) {
                         if (target.getLength() <= chunkedSegmentStorage.getConfig().getMinSizeLimitForConcat()
@@ -318,7 +323,7 @@ class DefragmentOperation implements Callable<CompletableFuture<Void>> {
     }
 
     private boolean shouldContinue() {
-        if (null == nextChunkName) {
+        if (null == nextChunkName || next.isPacked()) {
             return false;
         }
         // Make sure target size is below max rolling size.
@@ -16,8 +16,10 @@
 package io.pravega.segmentstore.storage.chunklayer;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectBuilder;
+import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.common.concurrent.MultiKeySequentialProcessor;
 import io.pravega.common.io.serialization.RevisionDataInput;
@@ -26,6 +28,7 @@ import io.pravega.common.io.serialization.VersionedSerializer;
 import io.pravega.segmentstore.storage.metadata.ChunkMetadata;
 import io.pravega.segmentstore.storage.metadata.ChunkMetadataStore;
 import io.pravega.segmentstore.storage.metadata.MetadataTransaction;
+import io.pravega.segmentstore.storage.metadata.PackMetadata;
 import io.pravega.segmentstore.storage.metadata.SegmentMetadata;
 import io.pravega.shared.NameUtils;
 import lombok.Builder;
@@ -49,6 +52,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -56,12 +60,18 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_CHUNK_DELETED;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_CHUNK_DELETE_BATCH_LATENCY;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_CHUNK_DELETE_BATCH_SIZE;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_CHUNK_DELETE_INSTANT_TPUT;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_CHUNK_FAILED;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_CHUNK_NEW;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_CHUNK_QUEUED;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_CHUNK_RETRY;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_PACK_QUEUED;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_SEGMENT_FAILED;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_SEGMENT_PROCESSED;
 import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_GC_SEGMENT_QUEUED;
@@ -79,11 +89,15 @@ import static io.pravega.shared.MetricsNames.SLTS_GC_QUEUE_SIZE;
  * <li>Background task that scans all LTS to find unaccounted chunks that are deemed garbage (not yet implemented)</li>
  * </ol>
  *
- * The background task throttles itself in two ways.
+ * The background task throttles itself in following ways.
  * <ol>
  * <li>It limits number of concurrent deletes at a time, so that it doesn't interfere with foreground Storage calls. </li>
  * <li>It limits the number of items in the queue.</li>
+ * <li>It optionally limits the number of chunks deleted per second.</li>
  * </ol>
+ *
+ * Garbage chunks are deleted in batches using {@link ChunkStorage#deleteBatch(List)}, so that storage bindings that support
+ * multi-object deletes can reclaim many chunks with a single request.
  */
 @Slf4j
 public class GarbageCollector implements AutoCloseable, StatsReporter {
@@ -435,35 +449,101 @@ public class GarbageCollector implements AutoCloseable, StatsReporter {
 
     /**
      * Process a batch of tasks.
+     * Chunk deletion tasks are grouped together and deleted using batch delete requests to {@link ChunkStorage}, other
+     * tasks are processed individually with at most {@link ChunkedSegmentStorageConfig#getGarbageCollectionMaxConcurrency()}
+     * tasks running concurrently.
      *
      * @param batch List of {@link TaskInfo} to process.
      * @return A CompletableFuture that, when completed, will indicate the operation succeeded.
      * If the operation failed, it will contain the cause of the failure.
      */
     public CompletableFuture<Void> processBatch(List<TaskInfo> batch) {
-        ArrayList<CompletableFuture<Void>> futures = new ArrayList<>();
+        val chunkTasks = new ArrayList<TaskInfo>();
+        val otherTasks = new ArrayList<TaskInfo>();
         for (val infoToDelete : batch) {
             if (metadataStore.isTransactionActive(infoToDelete.transactionId)) {
                 log.debug("{}: deleteGarbage - transaction is still active - re-queuing {}.", traceObjectId, infoToDelete.transactionId);
                 taskQueue.addTask(taskQueueName, infoToDelete);
+            } else if (infoToDelete.taskType == TaskInfo.DELETE_CHUNK || infoToDelete.taskType == TaskInfo.DELETE_JOURNAL) {
+                chunkTasks.add(infoToDelete);
             } else {
-                val f = executeSerialized(() -> processTask(infoToDelete), infoToDelete.name);
-                val now = currentTimeSupplier.get();
-                if (infoToDelete.scheduledTime > currentTimeSupplier.get()) {
-                    futures.add(delaySupplier.apply(Duration.ofMillis(infoToDelete.scheduledTime - now))
-                            .thenComposeAsync(v -> f, storageExecutor));
-                } else {
-                    futures.add(f);
-                }
+                otherTasks.add(infoToDelete);
             }
         }
-        return Futures.allOf(futures)
+        return CompletableFuture.allOf(processTasks(otherTasks), processChunkTasks(chunkTasks))
                 .thenRunAsync(() -> {
                     queueSize.addAndGet(-batch.size());
                     SLTS_GC_TASK_PROCESSED.add(batch.size());
                 }, storageExecutor);
     }
 
+    /**
+     * Processes given tasks individually, in groups of at most max concurrency tasks at a time.
+     */
+    private CompletableFuture<Void> processTasks(List<TaskInfo> tasks) {
+        return Futures.loop(Lists.partition(tasks, config.getGarbageCollectionMaxConcurrency()),
+                group -> {
+                    val futures = new ArrayList<CompletableFuture<Void>>();
+                    for (val infoToDelete : group) {
+                        val f = executeSerialized(() -> processTask(infoToDelete), infoToDelete.name);
+                        futures.add(waitUntilScheduled(f, infoToDelete.scheduledTime));
+                    }
+                    return Futures.allOf(futures).thenApply(v -> true);
+                },
+                storageExecutor);
+    }
+
+    /**
+     * Processes given chunk deletion tasks, one batch delete request at a time.
+     * If max delete rate is configured then waits long enough after each request so that the rate is not exceeded.
+     */
+    private CompletableFuture<Void> processChunkTasks(List<TaskInfo> tasks) {
+        return Futures.loop(Lists.partition(tasks, config.getGarbageCollectionDeleteBatchSize()),
+                group -> {
+                    val chunkNames = group.stream().map(TaskInfo::getName).distinct().toArray(String[]::new);
+                    val scheduledTime = group.stream().mapToLong(TaskInfo::getScheduledTime).max().orElse(0);
+                    val startTime = currentTimeSupplier.get();
+                    val f = executeSerialized(() -> deleteChunks(group, chunkNames), getKeysToSerialize(chunkNames));
+                    return waitUntilScheduled(f, scheduledTime)
+                            .thenComposeAsync(v -> throttle(chunkNames.length, startTime), storageExecutor)
+                            .thenApply(v -> true);
+                },
+                storageExecutor);
+    }
+
+    /**
+     * Gets the keys to serialize deletion of given chunks on. Deletions of packed chunks are also serialized on the
+     * name of their pack chunk as they all update the same {@link PackMetadata}.
+     */
+    private String[] getKeysToSerialize(String[] chunkNames) {
+        return Stream.concat(Arrays.stream(chunkNames),
+                        Arrays.stream(chunkNames)
+                                .filter(NameUtils::isPackedChunkName)
+                                .map(NameUtils::getPackNameFromPackedChunkName))
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private CompletableFuture<Void> waitUntilScheduled(CompletableFuture<Void> future, long scheduledTime) {
+        val now = currentTimeSupplier.get();
+        if (scheduledTime > now) {
+            return delaySupplier.apply(Duration.ofMillis(scheduledTime - now))
+                    .thenComposeAsync(v -> future, storageExecutor);
+        }
+        return future;
+    }
+
+    private CompletableFuture<Void> throttle(int chunkCount, long startTime) {
+        if (config.getGarbageCollectionDeleteRate() > 0) {
+            val minDuration = 1000L * chunkCount / config.getGarbageCollectionDeleteRate();
+            val elapsed = currentTimeSupplier.get() - startTime;
+            if (minDuration > elapsed) {
+                return delaySupplier.apply(Duration.ofMillis(minDuration - elapsed));
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Executes the given Callable asynchronously and returns a CompletableFuture that will be completed with the result.
      * The operations are serialized on the segmentNames provided.
@@ -516,82 +596,177 @@ public class GarbageCollector implements AutoCloseable, StatsReporter {
     }
 
     private CompletableFuture<Void> deleteChunk(TaskInfo infoToDelete) {
-        val chunkToDelete = infoToDelete.name;
-        val failed = new AtomicReference<Throwable>();
-        val txn = metadataStore.beginTransaction(false, chunkToDelete);
-        return txn.get(infoToDelete.name)
-                .thenComposeAsync(metadata -> {
-                    val chunkMetadata = (ChunkMetadata) metadata;
-                    // Delete if the chunk is not present at all in the metadata or is present but marked as inactive.
-                    val shouldDeleteChunk = null == chunkMetadata || !chunkMetadata.isActive();
-                    val shouldDeleteMetadata = new AtomicBoolean(null != metadata && !chunkMetadata.isActive());
-
-                    // Delete chunk from storage.
-                    if (shouldDeleteChunk) {
-                        return chunkStorage.delete(ChunkHandle.writeHandle(chunkToDelete))
-                                .handleAsync((v, e) -> {
-                                    if (e != null) {
-                                        val ex = Exceptions.unwrap(e);
-                                        if (ex instanceof ChunkNotFoundException) {
-                                            // Ignore - nothing to do here.
-                                            log.debug("{}: deleteGarbage - Could not delete garbage chunk={}.", traceObjectId, chunkToDelete);
-                                        } else {
-                                            log.warn("{}: deleteGarbage - Could not delete garbage chunk={}.", traceObjectId, chunkToDelete);
-                                            shouldDeleteMetadata.set(false);
-                                            failed.set(e);
-                                        }
-                                    } else {
-                                        SLTS_GC_CHUNK_DELETED.inc();
-                                        log.debug("{}: deleteGarbage - deleted chunk={}.", traceObjectId, chunkToDelete);
-                                    }
-                                    return v;
-                                }, storageExecutor)
-                                .thenRunAsync(() -> {
-                                    if (shouldDeleteMetadata.get()) {
-                                        txn.delete(chunkToDelete);
-                                        log.debug("{}: deleteGarbage - deleted metadata for chunk={}.", traceObjectId, chunkToDelete);
-                                    }
-                                }, storageExecutor)
-                                .thenComposeAsync(v -> txn.commit(), storageExecutor)
-                                .handleAsync((v, e) -> {
-                                    if (e != null) {
-                                        log.error(String.format("%s deleteGarbage - Could not delete metadata for garbage chunk=%s.",
-                                                traceObjectId, chunkToDelete), e);
-                                        failed.set(e);
-                                    }
-                                    return v;
-                                }, storageExecutor);
-                    } else {
-                        log.debug("{}: deleteGarbage - Chunk is not marked as garbage chunk={}.", traceObjectId, chunkToDelete);
-                        return CompletableFuture.completedFuture(null);
+        return deleteChunks(Collections.singletonList(infoToDelete), new String[]{infoToDelete.name});
+    }
+
+    /**
+     * Deletes given garbage chunks using a single batch delete request and then deletes their metadata in a single transaction.
+     */
+    private CompletableFuture<Void> deleteChunks(List<TaskInfo> infosToDelete, String[] chunkNames) {
+        val failed = new ConcurrentHashMap<String, Throwable>();
+        val chunksToDelete = Collections.synchronizedList(new ArrayList<String>());
+        val packedChunksToRelease = Collections.synchronizedList(new ArrayList<String>());
+        val metadataToDelete = Collections.synchronizedSet(new HashSet<String>());
+        val txn = metadataStore.beginTransaction(false, chunkNames);
+        val futures = new ArrayList<CompletableFuture<Void>>();
+        for (val chunkName : chunkNames) {
+            futures.add(txn.get(chunkName)
+                    .thenAcceptAsync(metadata -> {
+                        if (metadata instanceof PackMetadata) {
+                            // Pack chunks are deleted only after all the ranges in them are released.
+                            if (((PackMetadata) metadata).getLiveRangeCount() == 0) {
+                                chunksToDelete.add(chunkName);
+                                metadataToDelete.add(chunkName);
+                            } else {
+                                log.debug("{}: deleteGarbage - Pack is still in use pack={}.", traceObjectId, chunkName);
+                            }
+                            return;
+                        }
+                        val chunkMetadata = (ChunkMetadata) metadata;
+                        // Delete if the chunk is not present at all in the metadata or is present but marked as inactive.
+                        if (null == chunkMetadata || !chunkMetadata.isActive()) {
+                            // Packed chunks do not exist on the storage, instead their range in the pack chunk is released.
+                            if (NameUtils.isPackedChunkName(chunkName)) {
+                                packedChunksToRelease.add(chunkName);
+                            } else {
+                                chunksToDelete.add(chunkName);
+                            }
+                            if (null != chunkMetadata) {
+                                metadataToDelete.add(chunkName);
+                            }
+                        } else {
+                            log.debug("{}: deleteGarbage - Chunk is not marked as garbage chunk={}.", traceObjectId, chunkName);
+                        }
+                    }, storageExecutor));
+        }
+        val timer = new Timer();
+        return Futures.allOf(futures)
+                .thenComposeAsync(v -> releasePackedChunks(txn, packedChunksToRelease), storageExecutor)
+                .thenComposeAsync(v -> {
+                    if (chunksToDelete.isEmpty()) {
+                        return CompletableFuture.completedFuture(Collections.<String, Throwable>emptyMap());
                     }
+                    val handles = chunksToDelete.stream().map(ChunkHandle::writeHandle).collect(Collectors.toList());
+                    return chunkStorage.deleteBatch(handles);
                 }, storageExecutor)
-                .thenComposeAsync(v -> {
-                    if (failed.get() != null) {
-                        if (infoToDelete.getAttempts() < config.getGarbageCollectionMaxAttempts()) {
-                            log.debug("{}: deleteGarbage - adding back chunk={}.", traceObjectId, chunkToDelete);
-                            SLTS_GC_CHUNK_RETRY.inc();
-                            return addChunkToGarbage(txn.getVersion(), chunkToDelete,
-                                    infoToDelete.getScheduledTime() + config.getGarbageCollectionDelay().toMillis(),
-                                    infoToDelete.getAttempts() + 1);
+                .thenComposeAsync(failures -> {
+                    int deletedCount = 0;
+                    for (val chunkToDelete : chunksToDelete) {
+                        val e = failures.get(chunkToDelete);
+                        if (null == e) {
+                            deletedCount++;
+                            log.debug("{}: deleteGarbage - deleted chunk={}.", traceObjectId, chunkToDelete);
+                        } else if (Exceptions.unwrap(e) instanceof ChunkNotFoundException) {
+                            // Ignore - nothing to do here.
+                            log.debug("{}: deleteGarbage - Could not delete garbage chunk={}.", traceObjectId, chunkToDelete);
                         } else {
-                            SLTS_GC_CHUNK_FAILED.inc();
-                            log.info("{}: deleteGarbage - could not delete after max attempts chunk={}.", traceObjectId, chunkToDelete);
-                            return failTask(infoToDelete);
-
+                            log.warn("{}: deleteGarbage - Could not delete garbage chunk={}.", traceObjectId, chunkToDelete);
+                            metadataToDelete.remove(chunkToDelete);
+                            failed.put(chunkToDelete, e);
                         }
                     }
-                    return CompletableFuture.completedFuture(null);
+                    if (!chunksToDelete.isEmpty()) {
+                        reportDeleteMetrics(chunksToDelete.size(), deletedCount, timer.getElapsed());
+                    }
+                    for (val chunkToDelete : metadataToDelete) {
+                        txn.delete(chunkToDelete);
+                        log.debug("{}: deleteGarbage - deleted metadata for chunk={}.", traceObjectId, chunkToDelete);
+                    }
+                    return txn.commit();
+                }, storageExecutor)
+                .handleAsync((v, e) -> {
+                    if (e != null) {
+                        log.error(String.format("%s deleteGarbage - Could not delete metadata for garbage chunks=%s.",
+                                traceObjectId, Arrays.toString(chunkNames)), e);
+                        for (val chunkName : chunkNames) {
+                            failed.putIfAbsent(chunkName, e);
+                        }
+                    }
+                    return v;
+                }, storageExecutor)
+                .thenComposeAsync(v -> {
+                    val retryFutures = new ArrayList<CompletableFuture<Void>>();
+                    for (val infoToDelete : infosToDelete) {
+                        if (failed.containsKey(infoToDelete.name)) {
+                            retryFutures.add(retryOrFailChunk(infoToDelete, txn.getVersion()));
+                        }
+                    }
+                    return Futures.allOf(retryFutures);
                 }, storageExecutor)
                 .whenCompleteAsync((v, ex) -> {
                     if (ex != null) {
-                        log.error(String.format("%s deleteGarbage - Could not find garbage chunk=%s.",
-                                traceObjectId, chunkToDelete), ex);
+                        log.error(String.format("%s deleteGarbage - Could not process garbage chunks=%s.",
+                                traceObjectId, Arrays.toString(chunkNames)), ex);
                     }
                     txn.close();
                 }, storageExecutor);
     }
 
+    /**
+     * Releases the ranges used by given packed chunks in their pack chunks. Pack chunks that have no more ranges in use
+     * are added to the list of garbage chunks.
+     */
+    private CompletableFuture<Void> releasePackedChunks(MetadataTransaction txn, List<String> packedChunkNames) {
+        if (packedChunkNames.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        val emptyPacks = Collections.synchronizedList(new ArrayList<String>());
+        val futures = new ArrayList<CompletableFuture<Void>>();
+        val chunksByPack = packedChunkNames.stream().collect(Collectors.groupingBy(NameUtils::getPackNameFromPackedChunkName));
+        for (val entry : chunksByPack.entrySet()) {
+            futures.add(txn.get(entry.getKey())
+                    .thenAcceptAsync(metadata -> {
+                        val packMetadata = (PackMetadata) metadata;
+                        if (null == packMetadata) {
+                            log.debug("{}: deleteGarbage - Pack already deleted pack={}.", traceObjectId, entry.getKey());
+                            return;
+                        }
+                        for (val chunkName : entry.getValue()) {
+                            packMetadata.releaseRange(NameUtils.getPackedChunkRangeIndex(chunkName));
+                        }
+                        txn.update(packMetadata);
+                        log.debug("{}: deleteGarbage - released packed chunks={} pack={} live ranges={}.",
+                                traceObjectId, entry.getValue(), entry.getKey(), packMetadata.getLiveRangeCount());
+                        if (packMetadata.getLiveRangeCount() == 0) {
+                            emptyPacks.add(packMetadata.getName());
+                        }
+                    }, storageExecutor));
+        }
+        return Futures.allOf(futures)
+                .thenComposeAsync(v -> {
+                    if (emptyPacks.isEmpty()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    SLTS_GC_PACK_QUEUED.add(emptyPacks.size());
+                    return addChunksToGarbage(txn.getVersion(), emptyPacks);
+                }, storageExecutor);
+    }
+
+    private CompletableFuture<Void> retryOrFailChunk(TaskInfo infoToDelete, long transactionId) {
+        val chunkToDelete = infoToDelete.name;
+        if (infoToDelete.getAttempts() < config.getGarbageCollectionMaxAttempts()) {
+            log.debug("{}: deleteGarbage - adding back chunk={}.", traceObjectId, chunkToDelete);
+            SLTS_GC_CHUNK_RETRY.inc();
+            return addChunkToGarbage(transactionId, chunkToDelete,
+                    infoToDelete.getScheduledTime() + config.getGarbageCollectionDelay().toMillis(),
+                    infoToDelete.getAttempts() + 1);
+        } else {
+            SLTS_GC_CHUNK_FAILED.inc();
+            log.info("{}: deleteGarbage - could not delete after max attempts chunk={}.", traceObjectId, chunkToDelete);
+            return failTask(infoToDelete);
+        }
+    }
+
+    private void reportDeleteMetrics(int requestedCount, int deletedCount, Duration elapsed) {
+        SLTS_GC_CHUNK_DELETED.add(deletedCount);
+        SLTS_GC_CHUNK_DELETE_BATCH_SIZE.reportSuccessValue(requestedCount);
+        SLTS_GC_CHUNK_DELETE_BATCH_LATENCY.reportSuccessEvent(elapsed);
+        if (elapsed.toMillis() > 0) {
+            val chunksPerSecond = 1000L * deletedCount / elapsed.toMillis();
+            SLTS_GC_CHUNK_DELETE_INSTANT_TPUT.reportSuccessValue(chunksPerSecond);
+        }
+    }
+
     @Override
     public void close() throws Exception {
         if (!this.closed.get()) {
@@ -0,0 +1,285 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import io.pravega.common.Exceptions;
+import io.pravega.common.ObjectClosedException;
+import io.pravega.common.Timer;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.segmentstore.storage.metadata.ChunkMetadataStore;
+import io.pravega.segmentstore.storage.metadata.PackMetadata;
+import io.pravega.shared.NameUtils;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import javax.annotation.concurrent.GuardedBy;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_PACK_COUNT;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_PACK_FAILED;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_PACK_RANGE_COUNT;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_PACK_SIZE;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_PACK_WRITE_LATENCY;
+
+/**
+ * Writes data of small chunks belonging to different segments into shared container level pack chunks.
+ * Writes submitted within {@link ChunkedSegmentStorageConfig#getPackingDelay()} of each other (or while another pack
+ * is being written) are combined into a single pack chunk of at most {@link ChunkedSegmentStorageConfig#getMaxPackSize()}
+ * bytes, which reduces the number of objects created on {@link ChunkStorage} for small, low throughput segments.
+ *
+ * Each write occupies a range inside the pack chunk and is identified by a packed chunk name derived from the name of
+ * the pack chunk and the index of the range (see {@link NameUtils#getPackedChunkName(String, int)}).
+ * The sequence of steps to write a pack is as follows.
+ * <ol>
+ * <li>{@link PackMetadata} is created with all ranges marked as in use.</li>
+ * <li>Each packed chunk name is tracked by {@link GarbageCollector} as a new chunk, exactly like regular new chunks.</li>
+ * <li>The pack chunk is written to {@link ChunkStorage} using a single create with content call.</li>
+ * </ol>
+ * If the write of the owning segment fails to commit (or the pack can not be written) then the {@link GarbageCollector}
+ * eventually releases the corresponding range and deletes the pack chunk once none of its ranges is in use.
+ */
+@Slf4j
+class PackWriter implements AutoCloseable {
+    private final ChunkStorage chunkStorage;
+    private final ChunkMetadataStore metadataStore;
+    private final GarbageCollector garbageCollector;
+    private final ChunkedSegmentStorageConfig config;
+    private final Executor executor;
+    private final int containerId;
+    private final Supplier<Long> epochSupplier;
+    private final Function<Duration, CompletableFuture<Void>> delaySupplier;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final Object lock = new Object();
+    @GuardedBy("lock")
+    private final ArrayDeque<PendingRange> pendingRanges = new ArrayDeque<>();
+    @GuardedBy("lock")
+    private boolean isWriteScheduled;
+
+    /**
+     * Creates a new instance of PackWriter.
+     *
+     * @param containerId      Container id.
+     * @param chunkStorage     ChunkStorage instance.
+     * @param metadataStore    Metadata store.
+     * @param garbageCollector Garbage collector.
+     * @param config           Configuration options.
+     * @param executor         Executor to use.
+     * @param epochSupplier    Supplier of current epoch of the container.
+     * @param delaySupplier    Function that supplies delayed futures.
+     */
+    PackWriter(int containerId, ChunkStorage chunkStorage, ChunkMetadataStore metadataStore, GarbageCollector garbageCollector,
+               ChunkedSegmentStorageConfig config, Executor executor, Supplier<Long> epochSupplier,
+               Function<Duration, CompletableFuture<Void>> delaySupplier) {
+        this.containerId = containerId;
+        this.chunkStorage = Preconditions.checkNotNull(chunkStorage, "chunkStorage");
+        this.metadataStore = Preconditions.checkNotNull(metadataStore, "metadataStore");
+        this.garbageCollector = Preconditions.checkNotNull(garbageCollector, "garbageCollector");
+        this.config = Preconditions.checkNotNull(config, "config");
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+        this.epochSupplier = Preconditions.checkNotNull(epochSupplier, "epochSupplier");
+        this.delaySupplier = Preconditions.checkNotNull(delaySupplier, "delaySupplier");
+    }
+
+    /**
+     * Writes given data into a pack chunk.
+     *
+     * @param transactionId Id of the transaction that will create the metadata for the packed chunk.
+     * @param data          Data to write.
+     * @return A CompletableFuture that, when completed, will contain the {@link PackedRange} that describes where the data
+     * is stored. If the operation failed, it will contain the cause of the failure.
+     */
+    CompletableFuture<PackedRange> write(long transactionId, byte[] data) {
+        Exceptions.checkNotClosed(this.closed.get(), this);
+        Preconditions.checkArgument(data.length > 0, "data must not be empty.");
+        Preconditions.checkArgument(data.length <= config.getMaxPackSize(), "data must not be larger than max pack size.");
+        val pendingRange = new PendingRange(transactionId, data);
+        boolean shouldSchedule;
+        synchronized (lock) {
+            pendingRanges.add(pendingRange);
+            shouldSchedule = !isWriteScheduled;
+            isWriteScheduled = true;
+        }
+        if (shouldSchedule) {
+            delaySupplier.apply(config.getPackingDelay())
+                    .thenRunAsync(this::writeNextPack, executor);
+        }
+        return pendingRange.result;
+    }
+
+    /**
+     * Writes the next pack chunk from pending ranges and keeps doing so until there are no pending ranges left.
+     */
+    private void writeNextPack() {
+        val batch = new ArrayList<PendingRange>();
+        synchronized (lock) {
+            long size = 0;
+            while (!pendingRanges.isEmpty()
+                    && (batch.isEmpty() || size + pendingRanges.peek().data.length <= config.getMaxPackSize())) {
+                val next = pendingRanges.poll();
+                size += next.data.length;
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                isWriteScheduled = false;
+                return;
+            }
+        }
+
+        CompletableFuture.completedFuture(null)
+                .thenComposeAsync(v -> writePack(batch), executor)
+                .whenCompleteAsync((v, ex) -> {
+                    if (null != ex) {
+                        SLTS_PACK_FAILED.inc();
+                        log.warn("{} writePack - failed to write pack. ranges={}.", getLogPrefix(), batch.size(), ex);
+                        batch.forEach(r -> r.result.completeExceptionally(Exceptions.unwrap(ex)));
+                    }
+                    if (closed.get()) {
+                        failPendingRanges();
+                    } else {
+                        writeNextPack();
+                    }
+                }, executor);
+    }
+
+    private CompletableFuture<Void> writePack(List<PendingRange> batch) {
+        val packName = NameUtils.getPackName(containerId, epochSupplier.get());
+        val ranges = new ArrayList<PackedRange>(batch.size());
+        int packLength = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            val length = batch.get(i).data.length;
+            ranges.add(new PackedRange(NameUtils.getPackedChunkName(packName, i), packName, packLength, length));
+            packLength += length;
+        }
+        val packData = new byte[packLength];
+        for (int i = 0; i < batch.size(); i++) {
+            System.arraycopy(batch.get(i).data, 0, packData, Math.toIntExact(ranges.get(i).getOffset()), ranges.get(i).getLength());
+        }
+
+        val timer = new Timer();
+        val txn = metadataStore.beginTransaction(false, packName);
+        txn.create(PackMetadata.newPack(packName, packLength, batch.size()));
+        return txn.commit()
+                .whenCompleteAsync((v, ex) -> txn.close(), executor)
+                .thenComposeAsync(v -> {
+                    val futures = new ArrayList<CompletableFuture<Void>>();
+                    for (int i = 0; i < batch.size(); i++) {
+                        futures.add(garbageCollector.trackNewChunk(batch.get(i).transactionId, ranges.get(i).getChunkName()));
+                    }
+                    return Futures.allOf(futures);
+                }, executor)
+                .thenComposeAsync(v -> chunkStorage.createWithContent(packName, packData.length, new ByteArrayInputStream(packData)), executor)
+                .thenAcceptAsync(handle -> {
+                    SLTS_PACK_COUNT.inc();
+                    SLTS_PACK_RANGE_COUNT.reportSuccessValue(batch.size());
+                    SLTS_PACK_SIZE.reportSuccessValue(packData.length);
+                    SLTS_PACK_WRITE_LATENCY.reportSuccessEvent(timer.getElapsed());
+                    log.debug("{} writePack - pack written. pack={}, ranges={}, length={}, latency={}.",
+                            getLogPrefix(), packName, batch.size(), packData.length, timer.getElapsedMillis());
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).result.complete(ranges.get(i));
+                    }
+                }, executor);
+    }
+
+    private void failPendingRanges() {
+        val toFail = new ArrayList<PendingRange>();
+        synchronized (lock) {
+            toFail.addAll(pendingRanges);
+            pendingRanges.clear();
+            isWriteScheduled = false;
+        }
+        toFail.forEach(r -> r.result.completeExceptionally(new ObjectClosedException(this)));
+    }
+
+    /**
+     * Gets the number of writes waiting to be written.
+     *
+     * @return Number of pending writes.
+     */
+    @VisibleForTesting
+    int getPendingRangeCount() {
+        synchronized (lock) {
+            return pendingRanges.size();
+        }
+    }
+
+    private String getLogPrefix() {
+        return String.format("PackWriter[%d]", containerId);
+    }
+
+    @Override
+    public void close() {
+        if (!this.closed.getAndSet(true)) {
+            boolean isIdle;
+            synchronized (lock) {
+                isIdle = !isWriteScheduled;
+            }
+            if (isIdle) {
+                failPendingRanges();
+            }
+        }
+    }
+
+    /**
+     * Describes the range inside a pack chunk where data of a packed chunk is stored.
+     */
+    @Data
+    static class PackedRange {
+        /**
+         * Name of the packed chunk.
+         */
+        private final String chunkName;
+
+        /**
+         * Name of the pack chunk that stores the data.
+         */
+        private final String packName;
+
+        /**
+         * Offset inside pack chunk.
+         */
+        private final long offset;
+
+        /**
+         * Length of the range.
+         */
+        private final int length;
+    }
+
+    /**
+     * Write waiting to be written to a pack chunk.
+     */
+    @RequiredArgsConstructor
+    private static class PendingRange {
+        private final long transactionId;
+        private final byte[] data;
+        private final CompletableFuture<PackedRange> result = new CompletableFuture<>();
+    }
+}
@@ -175,8 +175,9 @@ class ReadOperation implements Callable<CompletableFuture<Integer>> {
                         // Read data from the chunk.
                         return CompletableFuture.runAsync(() -> {
                             // Create parallel requests to read each chunk.
-                            chunkReadFutures.add(readChunk(chunkToReadFrom.getName(),
-                                    currentOffset.get() - startOffsetForCurrentChunk.get(),
+                            // Packed chunks are read from the range inside the pack chunk.
+                            chunkReadFutures.add(readChunk(chunkToReadFrom.getStorageChunkName(),
+                                    chunkToReadFrom.getStorageOffset(currentOffset.get() - startOffsetForCurrentChunk.get()),
                                     bytesToRead,
                                     currentBufferOffset.get()));
                             log.trace("{} read - reading chunk - op={}, segment={}, chunk={} offset={} length={} bufferOffset={}",
@@ -0,0 +1,627 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import io.pravega.common.Exceptions;
+import io.pravega.common.Timer;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.common.concurrent.MultiKeySequentialProcessor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_TIERING_BYTES_MIGRATED;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_TIERING_CHUNK_MIGRATED;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_TIERING_CHUNK_RECALLED;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_TIERING_MIGRATION_FAILED;
+import static io.pravega.segmentstore.storage.chunklayer.ChunkStorageMetrics.SLTS_TIERING_MIGRATION_LATENCY;
+import static io.pravega.shared.MetricsNames.SLTS_TIERING_HOT_CHUNK_COUNT;
+
+/**
+ * {@link ChunkStorage} implementation that stores chunks in two tiers.
+ * <ul>
+ * <li>The hot tier (Eg. local disk or NFS) receives all new chunks and serves reads of recently written data.</li>
+ * <li>The cold tier (Eg. object store) holds chunks that have not been modified for at least
+ * {@link TieredChunkStorageConfig#getMigrationAge()}.</li>
+ * </ul>
+ * A chunk keeps its name when it is moved between tiers, therefore the chunk metadata maintained by
+ * {@link ChunkedSegmentStorage} does not change. The location of each chunk is resolved by this class.
+ * A chunk is copied to its new tier before it is deleted from its old tier, so that it is always readable from at least
+ * one tier.
+ *
+ * Chunks are migrated by a background task started by {@link TieredChunkStorage#initialize()}. The task runs every
+ * {@link TieredChunkStorageConfig#getMigrationInterval()} and limits its bandwidth to
+ * {@link TieredChunkStorageConfig#getMaxMigrationRate()} bytes per second.
+ *
+ * Operations that modify a chunk (write, concat, truncate) are always performed in the hot tier. If the chunk was
+ * already migrated, it is first recalled to the hot tier.
+ * Migration and all operations that modify a chunk are serialized per chunk.
+ *
+ * The hot tier is the durable record of which chunks have not been migrated yet. During {@link TieredChunkStorage#initialize()}
+ * the chunks in the hot tier are listed (if supported by the hot tier, see {@link ChunkStorage#supportsListing()}) and
+ * are considered modified at that time, so they are migrated once they have not been modified for the migration age
+ * after the restart. A chunk that is left in both tiers by an interrupted migration or recall is read from the hot tier
+ * and its copy in the cold tier is replaced by the next migration.
+ * Deletes remove the chunk from both tiers.
+ */
+@Slf4j
+public class TieredChunkStorage implements ChunkStorage {
+    @Getter
+    private final ChunkStorage hotTier;
+
+    @Getter
+    private final ChunkStorage coldTier;
+
+    private final TieredChunkStorageConfig config;
+
+    private final ScheduledExecutorService executor;
+
+    private final Supplier<Long> currentTimeSupplier;
+
+    private final Function<Duration, CompletableFuture<Void>> delaySupplier;
+
+    /**
+     * Chunks known to be in the hot tier, mapped to the time they were last modified.
+     */
+    private final ConcurrentHashMap<String, Long> hotChunks = new ConcurrentHashMap<>();
+
+    /**
+     * Serializes migration and modifications of individual chunks.
+     */
+    private final MultiKeySequentialProcessor<String> chunkProcessor;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param hotTier  ChunkStorage to use for new chunks.
+     * @param coldTier ChunkStorage to migrate chunks to.
+     * @param config   Configuration options for this instance.
+     * @param executor ScheduledExecutorService to use.
+     */
+    public TieredChunkStorage(ChunkStorage hotTier, ChunkStorage coldTier, TieredChunkStorageConfig config,
+                              ScheduledExecutorService executor) {
+        this(hotTier, coldTier, config, executor,
+                System::currentTimeMillis,
+                duration -> Futures.delayedFuture(duration, executor));
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param hotTier             ChunkStorage to use for new chunks.
+     * @param coldTier            ChunkStorage to migrate chunks to.
+     * @param config              Configuration options for this instance.
+     * @param executor            ScheduledExecutorService to use.
+     * @param currentTimeSupplier Function that supplies current time.
+     * @param delaySupplier       Function that supplies delay future.
+     */
+    public TieredChunkStorage(ChunkStorage hotTier, ChunkStorage coldTier, TieredChunkStorageConfig config,
+                              ScheduledExecutorService executor,
+                              Supplier<Long> currentTimeSupplier,
+                              Function<Duration, CompletableFuture<Void>> delaySupplier) {
+        this.hotTier = Preconditions.checkNotNull(hotTier, "hotTier");
+        this.coldTier = Preconditions.checkNotNull(coldTier, "coldTier");
+        this.config = Preconditions.checkNotNull(config, "config");
+        this.executor = Preconditions.checkNotNull(executor, "executor");
+        this.currentTimeSupplier = Preconditions.checkNotNull(currentTimeSupplier, "currentTimeSupplier");
+        this.delaySupplier = Preconditions.checkNotNull(delaySupplier, "delaySupplier");
+        this.chunkProcessor = new MultiKeySequentialProcessor<>(executor);
+    }
+
+    /**
+     * Recovers the list of chunks in the hot tier and starts the background migration task.
+     */
+    public void initialize() {
+        recoverHotChunks()
+                .exceptionally(ex -> {
+                    log.warn("TieredChunkStorage: Unable to list chunks in hot tier. Chunks are migrated once accessed.", ex);
+                    return null;
+                })
+                .thenComposeAsync(v -> Futures.loop(
+                        () -> !closed.get(),
+                        () -> delaySupplier.apply(config.getMigrationInterval())
+                                .thenComposeAsync(v2 -> migrateEligibleChunks(), executor)
+                                .handleAsync((v2, ex) -> {
+                                    if (null != ex && !closed.get()) {
+                                        log.warn("TieredChunkStorage: Migration iteration failed.", ex);
+                                    }
+                                    return null;
+                                }, executor),
+                        executor), executor);
+    }
+
+    /**
+     * Adds all chunks found in the hot tier to the set of chunks to migrate. Their last modification time is not known,
+     * therefore the current time is used.
+     *
+     * @return A CompletableFuture that, when completed, will indicate that the operation completed.
+     */
+    @VisibleForTesting
+    CompletableFuture<Void> recoverHotChunks() {
+        if (!hotTier.supportsListing()) {
+            log.warn("TieredChunkStorage: Hot tier does not support listing. Chunks are migrated once accessed.");
+            return CompletableFuture.completedFuture(null);
+        }
+        return hotTier.listChunks()
+                .thenAcceptAsync(chunkNames -> {
+                    val now = currentTimeSupplier.get();
+                    chunkNames.forEach(chunkName -> hotChunks.putIfAbsent(chunkName, now));
+                    log.info("TieredChunkStorage: Found {} chunks in hot tier.", chunkNames.size());
+                }, executor);
+    }
+
+    //region capabilities
+
+    @Override
+    public boolean supportsTruncation() {
+        return hotTier.supportsTruncation();
+    }
+
+    @Override
+    public boolean supportsAppend() {
+        return hotTier.supportsAppend();
+    }
+
+    @Override
+    public boolean supportsConcat() {
+        return hotTier.supportsConcat();
+    }
+
+    @Override
+    public boolean supportsDataIntegrityCheck() {
+        return hotTier.supportsDataIntegrityCheck() && coldTier.supportsDataIntegrityCheck();
+    }
+
+    //endregion
+
+    //region ChunkStorage implementation
+
+    @Override
+    public CompletableFuture<Boolean> exists(String chunkName) {
+        checkChunkName(chunkName);
+        return hotTier.exists(chunkName)
+                .thenComposeAsync(inHotTier -> inHotTier ? CompletableFuture.completedFuture(true) : coldTier.exists(chunkName),
+                        executor);
+    }
+
+    @Override
+    public CompletableFuture<ChunkHandle> create(String chunkName) {
+        checkChunkName(chunkName);
+        return hotTier.create(chunkName)
+                .thenApplyAsync(handle -> {
+                    touch(chunkName);
+                    return handle;
+                }, executor);
+    }
+
+    @Override
+    public CompletableFuture<ChunkHandle> createWithContent(String chunkName, int length, InputStream data) {
+        checkChunkName(chunkName);
+        return hotTier.createWithContent(chunkName, length, data)
+                .thenApplyAsync(handle -> {
+                    touch(chunkName);
+                    return handle;
+                }, executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(ChunkHandle handle) {
+        checkHandle(handle);
+        val chunkName = handle.getChunkName();
+        // The chunk may be in both tiers if a migration or recall was interrupted.
+        return chunkProcessor.add(Collections.singletonList(chunkName),
+                () -> deleteIfFound(hotTier, handle)
+                        .thenCombine(deleteIfFound(coldTier, handle), (inHotTier, inColdTier) -> {
+                            hotChunks.remove(chunkName);
+                            if (!inHotTier && !inColdTier) {
+                                throw new CompletionException(new ChunkNotFoundException(chunkName, "TieredChunkStorage::delete"));
+                            }
+                            return null;
+                        }));
+    }
+
+    @Override
+    public CompletableFuture<ChunkHandle> openRead(String chunkName) {
+        checkChunkName(chunkName);
+        return executeOnTier(chunkName, tier -> tier.openRead(chunkName));
+    }
+
+    @Override
+    public CompletableFuture<ChunkHandle> openWrite(String chunkName) {
+        checkChunkName(chunkName);
+        return chunkProcessor.add(Collections.singletonList(chunkName),
+                () -> ensureInHotTier(chunkName)
+                        .thenComposeAsync(v -> hotTier.openWrite(chunkName), executor));
+    }
+
+    @Override
+    public CompletableFuture<ChunkInfo> getInfo(String chunkName) {
+        checkChunkName(chunkName);
+        return executeOnTier(chunkName, tier -> tier.getInfo(chunkName));
+    }
+
+    @Override
+    public CompletableFuture<Integer> read(ChunkHandle handle, long fromOffset, int length, byte[] buffer, int bufferOffset) {
+        Preconditions.checkArgument(null != handle, "handle must not be null");
+        checkChunkName(handle.getChunkName());
+        return executeOnTier(handle.getChunkName(), tier -> tier.read(handle, fromOffset, length, buffer, bufferOffset));
+    }
+
+    @Override
+    public CompletableFuture<Integer> write(ChunkHandle handle, long offset, int length, InputStream data) {
+        checkHandle(handle);
+        val chunkName = handle.getChunkName();
+        return chunkProcessor.add(Collections.singletonList(chunkName),
+                () -> ensureInHotTier(chunkName)
+                        .thenComposeAsync(v -> hotTier.write(handle, offset, length, data), executor)
+                        .thenApplyAsync(bytesWritten -> {
+                            touch(chunkName);
+                            return bytesWritten;
+                        }, executor));
+    }
+
+    @Override
+    public CompletableFuture<Integer> concat(ConcatArgument[] chunks) {
+        Preconditions.checkArgument(null != chunks, "chunks must not be null");
+        for (val chunk : chunks) {
+            Preconditions.checkArgument(null != chunk, "chunk must not be null");
+            checkChunkName(chunk.getName());
+        }
+        val chunkNames = Arrays.stream(chunks).map(ConcatArgument::getName).distinct().collect(Collectors.toList());
+        return chunkProcessor.add(chunkNames,
+                () -> Futures.allOf(chunkNames.stream().map(this::ensureInHotTier).collect(Collectors.toList()))
+                        .thenComposeAsync(v -> hotTier.concat(chunks), executor)
+                        .thenApplyAsync(bytesConcatenated -> {
+                            touch(chunks[0].getName());
+                            return bytesConcatenated;
+                        }, executor));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> truncate(ChunkHandle handle, long offset) {
+        checkHandle(handle);
+        val chunkName = handle.getChunkName();
+        return chunkProcessor.add(Collections.singletonList(chunkName),
+                () -> ensureInHotTier(chunkName)
+                        .thenComposeAsync(v -> hotTier.truncate(handle, offset), executor)
+                        .thenApplyAsync(truncated -> {
+                            touch(chunkName);
+                            return truncated;
+                        }, executor));
+    }
+
+    @Override
+    public CompletableFuture<Void> setReadOnly(ChunkHandle handle, boolean isReadonly) {
+        Preconditions.checkArgument(null != handle, "handle must not be null");
+        checkChunkName(handle.getChunkName());
+        val chunkName = handle.getChunkName();
+        return chunkProcessor.add(Collections.singletonList(chunkName),
+                () -> getTier(chunkName)
+                        .thenComposeAsync(tier -> tier.setReadOnly(handle, isReadonly), executor));
+    }
+
+    @Override
+    public CompletableFuture<Long> getUsedSpace() {
+        return hotTier.getUsedSpace()
+                .thenCombine(coldTier.getUsedSpace(), Long::sum);
+    }
+
+    @Override
+    public void report() {
+        hotTier.report();
+        coldTier.report();
+        ChunkStorageMetrics.DYNAMIC_LOGGER.reportGaugeValue(SLTS_TIERING_HOT_CHUNK_COUNT, hotChunks.size());
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (!closed.getAndSet(true)) {
+            chunkProcessor.close();
+            hotTier.close();
+            coldTier.close();
+        }
+    }
+
+    //endregion
+
+    //region Migration
+
+    /**
+     * Migrates chunks that have not been modified for at least {@link TieredChunkStorageConfig#getMigrationAge()} from the
+     * hot tier to the cold tier, oldest first.
+     *
+     * @return A CompletableFuture that, when completed, will indicate that the operation completed.
+     */
+    @VisibleForTesting
+    CompletableFuture<Void> migrateEligibleChunks() {
+        val threshold = currentTimeSupplier.get() - config.getMigrationAge().toMillis();
+        val candidates = hotChunks.entrySet().stream()
+                .filter(e -> e.getValue() <= threshold)
+                .sorted(Map.Entry.comparingByValue())
+                .limit(config.getMaxChunksPerMigration())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        log.debug("TieredChunkStorage: Migrating {} chunks.", candidates.size());
+        return Futures.loop(candidates,
+                chunkName -> {
+                    val startTime = currentTimeSupplier.get();
+                    return migrateChunk(chunkName)
+                            .handleAsync((bytesMigrated, ex) -> {
+                                if (null != ex) {
+                                    log.warn("TieredChunkStorage: Unable to migrate chunk {}.", chunkName, ex);
+                                    SLTS_TIERING_MIGRATION_FAILED.inc();
+                                    return 0L;
+                                }
+                                return bytesMigrated;
+                            }, executor)
+                            .thenComposeAsync(bytesMigrated -> throttle(bytesMigrated, startTime), executor)
+                            .thenApply(v -> !closed.get());
+                },
+                executor);
+    }
+
+    /**
+     * Moves given chunk from the hot tier to the cold tier.
+     *
+     * @param chunkName Name of the chunk.
+     * @return A CompletableFuture that, when completed, will contain the number of bytes migrated.
+     */
+    private CompletableFuture<Long> migrateChunk(String chunkName) {
+        return chunkProcessor.add(Collections.singletonList(chunkName), () -> {
+            val lastModified = hotChunks.get(chunkName);
+            if (null == lastModified || lastModified > currentTimeSupplier.get() - config.getMigrationAge().toMillis()) {
+                // Deleted or modified after it was selected.
+                return CompletableFuture.completedFuture(0L);
+            }
+            val timer = new Timer();
+            val getInfoFuture = Futures.exceptionallyExpecting(hotTier.getInfo(chunkName),
+                    ex -> ex instanceof ChunkNotFoundException,
+                    null);
+            return getInfoFuture
+                    .thenComposeAsync(chunkInfo -> {
+                        if (null == chunkInfo) {
+                            // Deleted after it was listed.
+                            hotChunks.remove(chunkName);
+                            return CompletableFuture.completedFuture(0L);
+                        }
+                        if (!coldTier.supportsAppend() && chunkInfo.getLength() > config.getMaxCopySizeWithoutAppend()) {
+                            log.warn("TieredChunkStorage: Chunk {} ({} bytes) is too large to migrate to cold tier.", chunkName, chunkInfo.getLength());
+                            // Check again after migration age.
+                            touch(chunkName);
+                            return CompletableFuture.completedFuture(0L);
+                        }
+                        return copyToColdTier(chunkName, chunkInfo, timer);
+                    }, executor);
+        });
+    }
+
+    private CompletableFuture<Long> copyToColdTier(String chunkName, ChunkInfo chunkInfo, Timer timer) {
+        return deleteIfExists(coldTier, chunkName)
+                .thenComposeAsync(v -> copyChunk(hotTier, coldTier, chunkName, chunkInfo.getLength()), executor)
+                .thenComposeAsync(v -> hotTier.delete(ChunkHandle.writeHandle(chunkName)), executor)
+                .thenApplyAsync(v -> {
+                    hotChunks.remove(chunkName);
+                    SLTS_TIERING_CHUNK_MIGRATED.inc();
+                    SLTS_TIERING_BYTES_MIGRATED.add(chunkInfo.getLength());
+                    SLTS_TIERING_MIGRATION_LATENCY.reportSuccessEvent(timer.getElapsed());
+                    log.debug("TieredChunkStorage: Migrated chunk {} ({} bytes) to cold tier.", chunkName, chunkInfo.getLength());
+                    return chunkInfo.getLength();
+                }, executor);
+    }
+
+    /**
+     * Moves given chunk from the cold tier to the hot tier, if it is not already in the hot tier.
+     * Must be invoked by a task that is serialized by {@link #chunkProcessor}.
+     */
+    private CompletableFuture<Void> ensureInHotTier(String chunkName) {
+        if (hotChunks.containsKey(chunkName)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return hotTier.exists(chunkName)
+                .thenComposeAsync(inHotTier -> {
+                    if (inHotTier) {
+                        hotChunks.putIfAbsent(chunkName, currentTimeSupplier.get());
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    return coldTier.exists(chunkName)
+                            .thenComposeAsync(inColdTier -> inColdTier ? recallChunk(chunkName) : CompletableFuture.completedFuture(null),
+                                    executor);
+                }, executor);
+    }
+
+    private CompletableFuture<Void> recallChunk(String chunkName) {
+        return coldTier.getInfo(chunkName)
+                .thenComposeAsync(chunkInfo -> copyChunk(coldTier, hotTier, chunkName, chunkInfo.getLength()), executor)
+                .thenComposeAsync(v -> {
+                    touch(chunkName);
+                    SLTS_TIERING_CHUNK_RECALLED.inc();
+                    log.debug("TieredChunkStorage: Recalled chunk {} to hot tier.", chunkName);
+                    // The copy in the hot tier is used from now on. A leftover copy in the cold tier is replaced during next migration.
+                    return Futures.exceptionallyExpecting(coldTier.delete(ChunkHandle.writeHandle(chunkName)),
+                            ex -> {
+                                log.warn("TieredChunkStorage: Unable to delete recalled chunk {} from cold tier.", chunkName, ex);
+                                return true;
+                            },
+                            null);
+                }, executor);
+    }
+
+    private CompletableFuture<Void> throttle(long bytes, long startTime) {
+        if (config.getMaxMigrationRate() > 0) {
+            val minDuration = 1000L * bytes / config.getMaxMigrationRate();
+            val elapsed = currentTimeSupplier.get() - startTime;
+            if (minDuration > elapsed) {
+                return delaySupplier.apply(Duration.ofMillis(minDuration - elapsed));
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    //endregion
+
+    //region Helpers
+
+    /**
+     * Returns the tier that holds given chunk. Chunks that do not exist in the hot tier are assumed to be in the cold tier.
+     */
+    private CompletableFuture<ChunkStorage> getTier(String chunkName) {
+        if (hotChunks.containsKey(chunkName)) {
+            return CompletableFuture.completedFuture(hotTier);
+        }
+        return hotTier.exists(chunkName)
+                .thenApplyAsync(inHotTier -> {
+                    if (inHotTier) {
+                        hotChunks.putIfAbsent(chunkName, currentTimeSupplier.get());
+                        return hotTier;
+                    }
+                    return coldTier;
+                }, executor);
+    }
+
+    /**
+     * Executes given read-only operation on the tier that holds given chunk.
+     * If the chunk is migrated concurrently, the operation is retried on the cold tier.
+     */
+    private <T> CompletableFuture<T> executeOnTier(String chunkName, Function<ChunkStorage, CompletableFuture<T>> operation) {
+        return getTier(chunkName)
+                .thenComposeAsync(tier -> {
+                    if (tier == coldTier) {
+                        return operation.apply(coldTier);
+                    }
+                    return Futures.exceptionallyComposeExpecting(operation.apply(hotTier),
+                            ex -> ex instanceof ChunkNotFoundException,
+                            () -> operation.apply(coldTier));
+                }, executor);
+    }
+
+    private void touch(String chunkName) {
+        hotChunks.put(chunkName, currentTimeSupplier.get());
+    }
+
+    /**
+     * Deletes given chunk from given tier.
+     *
+     * @return A CompletableFuture that, when completed, will contain true if the chunk was deleted, false if it was not found.
+     */
+    private CompletableFuture<Boolean> deleteIfFound(ChunkStorage tier, ChunkHandle handle) {
+        return Futures.exceptionallyExpecting(tier.delete(handle).thenApply(v -> true),
+                ex -> ex instanceof ChunkNotFoundException,
+                false);
+    }
+
+    private CompletableFuture<Void> deleteIfExists(ChunkStorage tier, String chunkName) {
+        return tier.exists(chunkName)
+                .thenComposeAsync(exists -> exists ? tier.delete(ChunkHandle.writeHandle(chunkName)) : CompletableFuture.completedFuture(null),
+                        executor);
+    }
+
+    /**
+     * Copies given chunk from source to target.
+     * If target does not support appends, the whole chunk is read into memory and written using a single request. This
+     * is limited to chunks of at most {@link TieredChunkStorageConfig#getMaxCopySizeWithoutAppend()} bytes.
+     */
+    private CompletableFuture<Void> copyChunk(ChunkStorage source, ChunkStorage target, String chunkName, long length) {
+        if (length == 0) {
+            return target.create(chunkName).thenAccept(h -> { });
+        }
+        if (!target.supportsAppend() || length <= config.getCopyBufferSize()) {
+            if (!target.supportsAppend() && length > config.getMaxCopySizeWithoutAppend()) {
+                return Futures.failedFuture(new ChunkStorageException(chunkName,
+                        String.format("Chunk is too large to copy to storage that does not support appends. Length=%d, Max=%d",
+                                length, config.getMaxCopySizeWithoutAppend())));
+            }
+            val buffer = new byte[(int) length];
+            return readFully(source, chunkName, 0, buffer, buffer.length)
+                    .thenComposeAsync(v -> target.createWithContent(chunkName, buffer.length, new ByteArrayInputStream(buffer)), executor)
+                    .thenAccept(h -> { });
+        }
+
+        val buffer = new byte[config.getCopyBufferSize()];
+        val offset = new AtomicLong();
+        return target.create(chunkName)
+                .thenComposeAsync(handle -> Futures.loop(
+                        () -> offset.get() < length,
+                        () -> {
+                            val toCopy = (int) Math.min(buffer.length, length - offset.get());
+                            return readFully(source, chunkName, offset.get(), buffer, toCopy)
+                                    .thenComposeAsync(v -> target.write(handle, offset.get(), toCopy, new ByteArrayInputStream(buffer, 0, toCopy)), executor)
+                                    .thenAcceptAsync(offset::addAndGet, executor);
+                        },
+                        executor), executor);
+    }
+
+    private CompletableFuture<Void> readFully(ChunkStorage source, String chunkName, long fromOffset, byte[] buffer, int length) {
+        val handle = ChunkHandle.readHandle(chunkName);
+        val bytesRead = new AtomicInteger();
+        return Futures.loop(
+                () -> bytesRead.get() < length,
+                () -> source.read(handle, fromOffset + bytesRead.get(), length - bytesRead.get(), buffer, bytesRead.get())
+                        .thenAcceptAsync(n -> {
+                            Preconditions.checkState(n > 0, "Unexpected end of chunk %s at offset %s.", chunkName, fromOffset + bytesRead.get());
+                            bytesRead.addAndGet(n);
+                        }, executor),
+                executor);
+    }
+
+    private void checkHandle(ChunkHandle handle) {
+        Preconditions.checkArgument(null != handle, "handle must not be null");
+        checkChunkName(handle.getChunkName());
+        Preconditions.checkArgument(!handle.isReadOnly(), "handle must not be readonly. Chunk = %s", handle.getChunkName());
+    }
+
+    private void checkChunkName(String chunkName) {
+        Exceptions.checkNotClosed(closed.get(), this);
+        Preconditions.checkArgument(!Strings.isNullOrEmpty(chunkName), "chunk name must not be null or empty");
+    }
+
+    /**
+     * Gets the number of chunks known to be in the hot tier.
+     *
+     * @return Number of chunks.
+     */
+    @VisibleForTesting
+    int getHotChunkCount() {
+        return hotChunks.size();
+    }
+
+    //endregion
+}
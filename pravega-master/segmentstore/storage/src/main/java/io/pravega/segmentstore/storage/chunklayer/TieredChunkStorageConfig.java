@@ -0,0 +1,129 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import io.pravega.common.util.ConfigBuilder;
+import io.pravega.common.util.ConfigurationException;
+import io.pravega.common.util.Property;
+import io.pravega.common.util.TypedProperties;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuration for {@link TieredChunkStorage}.
+ */
+public class TieredChunkStorageConfig {
+    //region Config Names
+
+    public static final Property<Boolean> ENABLED = Property.named("tiering.enable", false);
+    public static final Property<String> HOT_TIER_ROOT = Property.named("tiering.hot.root", "/hot/");
+    public static final Property<Integer> MIGRATION_AGE_SECONDS = Property.named("tiering.migration.age.seconds", 3600);
+    public static final Property<Integer> MIGRATION_INTERVAL_SECONDS = Property.named("tiering.migration.interval.seconds", 60);
+    public static final Property<Long> MIGRATION_RATE_BYTES_MAX = Property.named("tiering.migration.rate.bytes.max", 0L);
+    public static final Property<Integer> MIGRATION_CHUNKS_MAX = Property.named("tiering.migration.chunks.max", 1000);
+    public static final Property<Integer> COPY_BUFFER_SIZE = Property.named("tiering.copy.buffer.size.bytes", 8 * 1024 * 1024);
+    public static final Property<Integer> MAX_COPY_SIZE_WITHOUT_APPEND = Property.named("tiering.copy.noappend.size.bytes.max", 128 * 1024 * 1024);
+    public static final String COMPONENT_CODE = "storage";
+
+    //endregion
+
+    //region Members
+
+    /**
+     * Whether chunks are stored in a hot tier before they are migrated to the configured storage implementation.
+     */
+    @Getter
+    private final boolean enabled;
+
+    /**
+     * Root of the file system path used as the hot tier. Each segment container uses its own sub directory.
+     * The path must be accessible from all segment stores (Eg. NFS), so that a container can be recovered on any of them.
+     */
+    @Getter
+    private final String hotTierRoot;
+
+    /**
+     * Minimum amount of time since the last modification of a chunk before it is migrated from the hot tier to the cold tier.
+     */
+    @Getter
+    private final Duration migrationAge;
+
+    /**
+     * Amount of time to wait between two consecutive migration iterations.
+     */
+    @Getter
+    private final Duration migrationInterval;
+
+    /**
+     * Maximum number of bytes to migrate per second. Zero means unlimited.
+     */
+    @Getter
+    private final long maxMigrationRate;
+
+    /**
+     * Maximum number of chunks to migrate in a single iteration.
+     */
+    @Getter
+    private final int maxChunksPerMigration;
+
+    /**
+     * Size of the buffer used to copy chunks between tiers.
+     */
+    @Getter
+    private final int copyBufferSize;
+
+    /**
+     * Maximum size of a chunk that can be copied to a tier that does not support appends. Such chunks are read into
+     * memory and written using a single request. Larger chunks are not migrated.
+     */
+    @Getter
+    private final int maxCopySizeWithoutAppend;
+
+    //endregion
+
+    //region Constructor
+
+    /**
+     * Creates a new instance of the TieredChunkStorageConfig class.
+     *
+     * @param properties The TypedProperties object to read Properties from.
+     */
+    private TieredChunkStorageConfig(TypedProperties properties) throws ConfigurationException {
+        this.enabled = properties.getBoolean(ENABLED);
+        this.hotTierRoot = properties.get(HOT_TIER_ROOT);
+        this.migrationAge = Duration.ofSeconds(properties.getNonNegativeInt(MIGRATION_AGE_SECONDS));
+        this.migrationInterval = Duration.ofSeconds(properties.getPositiveInt(MIGRATION_INTERVAL_SECONDS));
+        this.maxMigrationRate = properties.getLong(MIGRATION_RATE_BYTES_MAX);
+        if (this.maxMigrationRate < 0) {
+            throw new ConfigurationException(String.format("Property '%s' must be a non-negative long.", MIGRATION_RATE_BYTES_MAX));
+        }
+        this.maxChunksPerMigration = properties.getPositiveInt(MIGRATION_CHUNKS_MAX);
+        this.copyBufferSize = properties.getPositiveInt(COPY_BUFFER_SIZE);
+        this.maxCopySizeWithoutAppend = properties.getPositiveInt(MAX_COPY_SIZE_WITHOUT_APPEND);
+    }
+
+    /**
+     * Creates a new ConfigBuilder that can be used to create instances of this class.
+     *
+     * @return A new Builder for this class.
+     */
+    public static ConfigBuilder<TieredChunkStorageConfig> builder() {
+        return new ConfigBuilder<>(COMPONENT_CODE, TieredChunkStorageConfig::new);
+    }
+
+    //endregion
+}
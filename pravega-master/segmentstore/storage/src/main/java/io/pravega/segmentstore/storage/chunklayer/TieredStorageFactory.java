@@ -0,0 +1,88 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import io.pravega.segmentstore.storage.SimpleStorageFactory;
+import io.pravega.segmentstore.storage.Storage;
+import io.pravega.segmentstore.storage.metadata.ChunkMetadataStore;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.IntFunction;
+
+/**
+ * Factory for {@link Storage} implemented using {@link ChunkedSegmentStorage} and {@link TieredChunkStorage}.
+ * Chunk storage created by the inner {@link SimpleStorageFactory} is used as the cold tier. Each segment container gets
+ * its own hot tier, so that the chunks of a container can be listed and migrated by the container that owns them.
+ */
+@RequiredArgsConstructor
+public class TieredStorageFactory implements SimpleStorageFactory {
+    @NonNull
+    @Getter
+    private final ScheduledExecutorService executor;
+
+    @NonNull
+    @Getter
+    private final SimpleStorageFactory inner;
+
+    /**
+     * Function that creates the hot tier for the given container id.
+     */
+    @NonNull
+    private final IntFunction<ChunkStorage> hotTierFactory;
+
+    @NonNull
+    @Getter
+    private final TieredChunkStorageConfig config;
+
+    @Override
+    public Storage createStorageAdapter(int containerId, ChunkMetadataStore metadataStore) {
+        return new ChunkedSegmentStorage(containerId,
+                createChunkStorage(containerId),
+                metadataStore,
+                this.executor,
+                getChunkedSegmentStorageConfig());
+    }
+
+    @Override
+    public Storage createStorageAdapter() {
+        throw new UnsupportedOperationException("createStorageAdapter method is not supported for TieredStorageFactory, use the parameterized method instead.");
+    }
+
+    @Override
+    public ChunkedSegmentStorageConfig getChunkedSegmentStorageConfig() {
+        return inner.getChunkedSegmentStorageConfig();
+    }
+
+    @Override
+    public ChunkStorage createChunkStorage() {
+        throw new UnsupportedOperationException("createChunkStorage method is not supported for TieredStorageFactory, hot tier is created per container.");
+    }
+
+    /**
+     * Creates a new instance of {@link TieredChunkStorage} for the given container and starts its background migration.
+     *
+     * @param containerId Container ID.
+     * @return A new instance of {@link TieredChunkStorage}.
+     */
+    public TieredChunkStorage createChunkStorage(int containerId) {
+        TieredChunkStorage chunkStorage = new TieredChunkStorage(hotTierFactory.apply(containerId), inner.createChunkStorage(), config, executor);
+        chunkStorage.initialize();
+        return chunkStorage;
+    }
+}
@@ -228,6 +228,7 @@ class TruncateOperation implements Callable<CompletableFuture<Void>> {
         return chunkedSegmentStorage.getConfig().isRelocateOnTruncateEnabled()
             && chunkedSegmentStorage.shouldAppend()
             && !chunkedSegmentStorage.isSegmentInSystemScope(handle)
+            && !currentMetadata.isPacked()
             && currentMetadata.getLength() >  chunkedSegmentStorage.getConfig().getMinSizeForTruncateRelocationInbytes()
             && currentMetadata.getLength() <=  chunkedSegmentStorage.getConfig().getMaxSizeForTruncateRelocationInbytes()
             && getWastedSpacePercentage() >= chunkedSegmentStorage.getConfig().getMinPercentForTruncateRelocation();
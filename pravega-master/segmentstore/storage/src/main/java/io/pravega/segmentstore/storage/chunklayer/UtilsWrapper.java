@@ -21,8 +21,10 @@ import io.pravega.common.Exceptions;
 import io.pravega.common.concurrent.Futures;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
 import io.pravega.segmentstore.storage.metadata.BaseMetadataStore;
+import io.pravega.segmentstore.storage.metadata.ChunkMetadata;
 
 import io.pravega.segmentstore.storage.metadata.SegmentMetadata;
+import io.pravega.shared.NameUtils;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NonNull;
@@ -148,6 +150,7 @@ public class UtilsWrapper {
 
     /**
      * Copy the contents of given chunk to provided {@link OutputStream}.
+     * For packed chunks, only the range of the pack chunk that holds the data of the given chunk is copied.
      *
      * @param chunkName Name of the chunk.
      * @param outputStream Instance of {@link OutputStream} to copy to.
@@ -160,11 +163,11 @@ public class UtilsWrapper {
 
         byte[] buffer = new byte[bufferSize];
 
-        return chunkedSegmentStorage.getChunkStorage().getInfo(chunkName)
-                .thenComposeAsync(info -> {
-                    val bytesRemaining = new AtomicLong(info.getLength());
-                    val offsetToRead = new AtomicLong(0);
-                    return chunkedSegmentStorage.getChunkStorage().openRead(chunkName)
+        return getStorageRange(chunkName)
+                .thenComposeAsync(range -> {
+                    val bytesRemaining = new AtomicLong(range.getLength());
+                    val offsetToRead = new AtomicLong(range.getOffset());
+                    return chunkedSegmentStorage.getChunkStorage().openRead(range.getStorageChunkName())
                             .thenComposeAsync(handle -> Futures.loop(
                                     () -> bytesRemaining.get() > 0,
                                     () -> chunkedSegmentStorage.getChunkStorage().read(handle,
@@ -188,6 +191,29 @@ public class UtilsWrapper {
 
     }
 
+    /**
+     * Gets the range of the chunk in {@link ChunkStorage} that holds the data of the given chunk.
+     * Packed chunks only exist as a range inside their pack chunk, which is looked up in the metadata.
+     */
+    private CompletableFuture<StorageRange> getStorageRange(String chunkName) {
+        if (!NameUtils.isPackedChunkName(chunkName)) {
+            return chunkedSegmentStorage.getChunkStorage().getInfo(chunkName)
+                    .thenApplyAsync(info -> new StorageRange(chunkName, 0, info.getLength()), chunkedSegmentStorage.getExecutor());
+        }
+
+        return chunkedSegmentStorage.tryWith(
+                chunkedSegmentStorage.getMetadataStore().beginTransaction(true, chunkName),
+                txn -> txn.get(chunkName)
+                        .thenApplyAsync(storageMetadata -> {
+                            val chunkMetadata = (ChunkMetadata) storageMetadata;
+                            if (null == chunkMetadata) {
+                                throw new CompletionException(new ChunkNotFoundException(chunkName, "UtilsWrapper::getStorageRange"));
+                            }
+                            return new StorageRange(chunkMetadata.getStorageChunkName(), chunkMetadata.getStorageOffset(0), chunkMetadata.getLength());
+                        }, chunkedSegmentStorage.getExecutor()),
+                chunkedSegmentStorage.getExecutor());
+    }
+
     /**
      * Overwrites the given chunk on the storage with given data.
      *
@@ -217,6 +243,7 @@ public class UtilsWrapper {
     public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfoList(String streamSegmentName, boolean checkStorage) {
         Preconditions.checkNotNull(streamSegmentName, "streamSegmentName");
         val infoList = new Vector<ExtendedChunkInfo>();
+        val chunkMetadataList = new Vector<ChunkMetadata>();
         return chunkedSegmentStorage.executeSerialized(() -> chunkedSegmentStorage.tryWith(
                 chunkedSegmentStorage.getMetadataStore().beginTransaction(true, streamSegmentName),
                 txn ->  txn.get(streamSegmentName)
@@ -231,6 +258,7 @@ public class UtilsWrapper {
                                                     .startOffset(startOffset.get())
                                                     .lengthInMetadata(metadata.getLength())
                                             .build());
+                                    chunkMetadataList.add(metadata);
                                     startOffset.addAndGet(metadata.getLength());
                                 });
                                 return completedFuture(infoList);
@@ -238,14 +266,20 @@ public class UtilsWrapper {
                             .thenComposeAsync(v -> {
                                     val futures = new ArrayList<CompletableFuture<Void>>();
                                     if (checkStorage) {
-                                        for (val info : infoList) {
+                                        for (int i = 0; i < infoList.size(); i++) {
+                                            val info = infoList.get(i);
+                                            val chunkMetadata = chunkMetadataList.get(i);
+                                            // Packed chunks only exist as a range inside their pack chunk.
+                                            val storageChunkName = chunkMetadata.getStorageChunkName();
                                             futures.add(
-                                                chunkedSegmentStorage.getChunkStorage().exists(info.getChunkName())
+                                                chunkedSegmentStorage.getChunkStorage().exists(storageChunkName)
                                                     .thenComposeAsync(doesExist -> {
                                                         if (doesExist) {
-                                                            return chunkedSegmentStorage.getChunkStorage().getInfo(info.getChunkName())
+                                                            return chunkedSegmentStorage.getChunkStorage().getInfo(storageChunkName)
                                                                     .thenAcceptAsync(chunkInfo -> {
-                                                                        info.setLengthInStorage(chunkInfo.getLength());
+                                                                        info.setLengthInStorage(chunkMetadata.isPacked()
+                                                                                ? Math.max(0, Math.min(chunkMetadata.getLength(), chunkInfo.getLength() - chunkMetadata.getPackOffset()))
+                                                                                : chunkInfo.getLength());
                                                                         info.setExistsInStorage(true);
                                                                     }, chunkedSegmentStorage.getExecutor());
                                                         } else {
@@ -302,4 +336,14 @@ public class UtilsWrapper {
                     return v;
                 }, chunkedSegmentStorage.getExecutor());
     }
+
+    /**
+     * Range of a chunk in {@link ChunkStorage}.
+     */
+    @Data
+    private static class StorageRange {
+        private final String storageChunkName;
+        private final long offset;
+        private final long length;
+    }
 }
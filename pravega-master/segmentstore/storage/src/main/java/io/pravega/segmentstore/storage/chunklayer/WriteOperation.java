@@ -228,6 +228,10 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
         return Futures.loop(
                 () -> bytesRemaining.get() > 0,
                 () -> {
+                    // Small writes that require a new chunk are written into a shared pack chunk instead.
+                    if (shouldPack()) {
+                        return writeToPack(txn, inputStream, expectedContent);
+                    }
                     // Check if new chunk needs to be added.
                     // This could be either because there are no existing chunks or last chunk has reached max rolling length.
                     return openChunkToWrite(txn)
@@ -278,12 +282,25 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
                 }, chunkedSegmentStorage.getExecutor());
     }
 
-    private CompletableFuture<Void> openChunkToWrite(MetadataTransaction txn) {
-        if (null == lastChunkMetadata.get()
+    private boolean isNewChunkRequired() {
+        return null == lastChunkMetadata.get()
                 || (lastChunkMetadata.get().getLength() >= segmentMetadata.getMaxRollinglength())
+                || lastChunkMetadata.get().isPacked()
                 || isFirstWriteAfterFailover
                 || skipOverFailedChunk
-                || !chunkedSegmentStorage.shouldAppend()) {
+                || !chunkedSegmentStorage.shouldAppend();
+    }
+
+    private boolean shouldPack() {
+        return null != chunkedSegmentStorage.getPackWriter()
+                && !isSystemSegment
+                && bytesRemaining.get() <= chunkedSegmentStorage.getConfig().getMaxPackedChunkSize()
+                && bytesRemaining.get() <= segmentMetadata.getMaxRollinglength()
+                && isNewChunkRequired();
+    }
+
+    private CompletableFuture<Void> openChunkToWrite(MetadataTransaction txn) {
+        if (isNewChunkRequired()) {
             return addNewChunk(txn);
 
         } else {
@@ -313,7 +330,7 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
                                 // update first and last chunks.
                                 lastChunkMetadata.set(updateMetadataForChunkAddition(txn,
                                         segmentMetadata,
-                                        newChunkName,
+                                        ChunkMetadata.builder().name(newChunkName).build(),
                                         isFirstWriteAfterFailover,
                                         lastChunkMetadata.get()));
 
@@ -340,6 +357,65 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
         }, chunkedSegmentStorage.getExecutor());
     }
 
+    /**
+     * Writes all remaining data into a shared pack chunk and adds a new packed chunk that refers to it.
+     */
+    private CompletableFuture<Void> writeToPack(MetadataTransaction txn, InputStream inputStream, byte[] expectedContent) {
+        val writeSize = bytesRemaining.get();
+        val oldOffset = currentOffset.get();
+        val bytes = readNBytes(inputStream, writeSize);
+        Preconditions.checkState(bytes.length == writeSize, "bytes read (%s) must equal writeSize(%s). Segment=%s",
+                bytes.length, writeSize, segmentMetadata);
+        return chunkedSegmentStorage.getPackWriter().write(txn.getVersion(), bytes)
+                .thenComposeAsync(packedRange -> {
+                    CompletableFuture<Void> validation = CompletableFuture.completedFuture(null);
+                    if (shouldValidateData()) {
+                        validation = validateWrittenData(ChunkHandle.readHandle(packedRange.getPackName()), packedRange.getOffset(),
+                                totalBytesRead.get(), writeSize, expectedContent);
+                    }
+                    return validation.thenRunAsync(() -> {
+                        val newChunkName = packedRange.getChunkName();
+                        val newChunkMetadata = ChunkMetadata.builder()
+                                .name(newChunkName)
+                                .packName(packedRange.getPackName())
+                                .packOffset(packedRange.getOffset())
+                                .build();
+                        lastChunkMetadata.set(updateMetadataForChunkAddition(txn,
+                                segmentMetadata,
+                                newChunkMetadata,
+                                isFirstWriteAfterFailover,
+                                lastChunkMetadata.get()));
+                        newReadIndexEntries.add(new ChunkNameOffsetPair(segmentMetadata.getLength(), newChunkName));
+                        chunkHandle = ChunkHandle.readHandle(newChunkName);
+
+                        // Update the metadata for segment and chunk.
+                        segmentMetadata.setLength(segmentMetadata.getLength() + writeSize);
+                        newChunkMetadata.setLength(writeSize);
+                        txn.update(newChunkMetadata);
+                        txn.update(segmentMetadata);
+                        chunkedSegmentStorage.addBlockIndexEntriesForChunk(txn,
+                                segmentMetadata.getName(),
+                                newChunkName,
+                                segmentMetadata.getLastChunkStartOffset(),
+                                oldOffset,
+                                segmentMetadata.getLength());
+
+                        // Update iteration state
+                        bytesRemaining.addAndGet(-writeSize);
+                        currentOffset.addAndGet(writeSize);
+                        totalBytesRead.addAndGet(writeSize);
+                        isFirstWriteAfterFailover = false;
+                        skipOverFailedChunk = false;
+                        didSegmentLayoutChange = true;
+                        chunksAddedCount.incrementAndGet();
+
+                        log.debug("{} write - New packed chunk added - op={}, segment={}, chunk={}, pack={}, packOffset={}, offset={}.",
+                                chunkedSegmentStorage.getLogPrefix(), System.identityHashCode(this), handle.getSegmentName(),
+                                newChunkName, packedRange.getPackName(), packedRange.getOffset(), oldOffset);
+                    }, chunkedSegmentStorage.getExecutor());
+                }, chunkedSegmentStorage.getExecutor());
+    }
+
     private void checkState() {
         val streamSegmentName = handle.getSegmentName();
         chunkedSegmentStorage.checkSegmentExists(streamSegmentName, segmentMetadata);
@@ -365,12 +441,10 @@ class WriteOperation implements Callable<CompletableFuture<Void>> {
      */
     private ChunkMetadata updateMetadataForChunkAddition(MetadataTransaction txn,
                                                          SegmentMetadata segmentMetadata,
-                                                         String newChunkName,
+                                                         ChunkMetadata newChunkMetadata,
                                                          boolean isFirstWriteAfterFailover,
                                                          ChunkMetadata lastChunkMetadata) {
-        ChunkMetadata newChunkMetadata = ChunkMetadata.builder()
-                .name(newChunkName)
-                .build();
+        val newChunkName = newChunkMetadata.getName();
         newChunkMetadata.setActive(true);
         segmentMetadata.setLastChunk(newChunkName);
         if (lastChunkMetadata == null) {
@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ConcurrentHashMultiset;
+import io.pravega.common.Exceptions;
 import io.pravega.common.ObjectBuilder;
 import io.pravega.common.Timer;
 import io.pravega.common.concurrent.Futures;
@@ -33,6 +34,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -40,6 +42,7 @@ import lombok.val;
 import javax.annotation.concurrent.GuardedBy;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -58,6 +61,10 @@ import java.util.stream.Stream;
 
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.COMMIT_LATENCY;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.GET_LATENCY;
+import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.GROUP_COMMIT_KEY_COUNT;
+import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.GROUP_COMMIT_TXN_COUNT;
+import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_COMMIT_COUNT;
+import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_WRITE_COUNT;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_BUFFER_EVICTED_COUNT;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_FOUND_IN_BUFFER;
 import static io.pravega.segmentstore.storage.metadata.StorageMetadataMetrics.METADATA_FOUND_IN_CACHE;
@@ -125,6 +132,12 @@ import static io.pravega.shared.MetricsNames.STORAGE_METADATA_CACHE_SIZE;
  * <li>A record marked as pinned by calling {@link MetadataTransaction#markPinned(StorageMetadata)} is never written to underlying storage.</li>
  * <li>In addition transaction can be committed using {@link MetadataTransaction#commit(boolean, boolean)} to skip validation step that reads any recently evicted changes from underlying storage.</li>
  * </ul>
+ *
+ * When {@link ChunkedSegmentStorageConfig#isGroupCommitEnabled()} is true, changes from transactions that commit while a
+ * previous write to the underlying key-value store is in flight are combined and written with a single call to
+ * {@link BaseMetadataStore#writeAll(Collection)} once that write completes.
+ * If a combined write fails, the changes from each transaction are retried individually so that one failing
+ * transaction does not fail the others.
  */
 @Slf4j
 @Beta
@@ -134,6 +147,21 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
      */
     private static final int CACHE_EVICTION_RATIO = 10;
 
+    /**
+     * Estimated size of a {@link TransactionData} instance excluding its key and value.
+     */
+    private static final int TRANSACTION_DATA_OVERHEAD = 64;
+
+    /**
+     * Estimated size of a {@link StorageMetadata} instance excluding any strings it refers to.
+     */
+    private static final int METADATA_OVERHEAD = 48;
+
+    /**
+     * Estimated size of a {@link String} instance excluding its characters.
+     */
+    private static final int STRING_OVERHEAD = 40;
+
     /**
      * Indicates whether this instance is fenced or not.
      */
@@ -169,6 +197,18 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
      */
     private final Cache<String, TransactionData> cache;
 
+    /**
+     * Writes waiting to be combined into a single call to {@link #writeAll(Collection)} when group commit is enabled.
+     */
+    @GuardedBy("pendingWrites")
+    private final ArrayDeque<PendingWrite> pendingWrites = new ArrayDeque<>();
+
+    /**
+     * Whether a combined write is currently in flight.
+     */
+    @GuardedBy("pendingWrites")
+    private boolean isGroupWriteRunning;
+
     /**
      * Storage executor object.
      */
@@ -226,11 +266,51 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
         activeKeys = ConcurrentHashMultiset.create();
         maxEntriesInTxnBuffer = config.getMaxEntriesInTxnBuffer();
         maxEntriesInCache = config.getMaxEntriesInCache();
-        cache = CacheBuilder.newBuilder()
+        cache = createCache();
+    }
+
+    /**
+     * Creates the cache, bounded either by estimated size in bytes or by the number of entries.
+     */
+    private Cache<String, TransactionData> createCache() {
+        if (config.getMaxCacheSizeInBytes() > 0) {
+            return CacheBuilder.newBuilder()
+                    .maximumWeight(config.getMaxCacheSizeInBytes())
+                    .weigher((String key, TransactionData data) -> estimateSize(data))
+                    .build();
+        }
+        return CacheBuilder.newBuilder()
                 .maximumSize(maxEntriesInCache)
                 .build();
     }
 
+    /**
+     * Estimates the memory footprint of given {@link TransactionData} in bytes.
+     *
+     * @param data {@link TransactionData} to estimate size of.
+     * @return Estimated size in bytes.
+     */
+    @VisibleForTesting
+    static int estimateSize(TransactionData data) {
+        int size = TRANSACTION_DATA_OVERHEAD + estimateSize(data.getKey());
+        val value = data.getValue();
+        if (null != value) {
+            size += METADATA_OVERHEAD + estimateSize(value.getKey());
+            if (value instanceof ChunkMetadata) {
+                val chunkMetadata = (ChunkMetadata) value;
+                size += estimateSize(chunkMetadata.getNextChunk()) + estimateSize(chunkMetadata.getPackName());
+            } else if (value instanceof SegmentMetadata) {
+                val segmentMetadata = (SegmentMetadata) value;
+                size += estimateSize(segmentMetadata.getFirstChunk()) + estimateSize(segmentMetadata.getLastChunk());
+            }
+        }
+        return size;
+    }
+
+    private static int estimateSize(String value) {
+        return null == value ? 0 : STRING_OVERHEAD + 2 * value.length();
+    }
+
     /**
      * Begins a new transaction.
      *
@@ -338,6 +418,7 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
                     txn.getData().keySet().forEach(this::removeFromActiveKeySet);
                     if (txn.isCommitted()) {
                         txnData.clear();
+                        METADATA_COMMIT_COUNT.inc();
                     }
                     COMMIT_LATENCY.reportSuccessEvent(t.getElapsed());
                 }, executor);
@@ -431,7 +512,7 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
             log.trace("Persisting all modified keys (except pinned)");
             val toWriteList = modifiedValues.stream().filter(entry -> !entry.isPinned()).collect(Collectors.toList());
             if (toWriteList.size() > 0) {
-                return writeAll(toWriteList)
+                return writeGrouped(toWriteList)
                         .thenRunAsync(() -> {
                             log.trace("Done persisting all modified keys");
                             for (val writtenData : toWriteList) {
@@ -448,6 +529,103 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
         return CompletableFuture.completedFuture(null);
     }
 
+    /**
+     * Writes given values to the underlying store. If group commit is enabled, the values are combined with values from
+     * other concurrent transactions.
+     */
+    private CompletableFuture<Void> writeGrouped(List<TransactionData> toWrite) {
+        if (!config.isGroupCommitEnabled()) {
+            return writeToStore(toWrite);
+        }
+
+        val pendingWrite = new PendingWrite(toWrite);
+        boolean shouldStart;
+        synchronized (pendingWrites) {
+            pendingWrites.addLast(pendingWrite);
+            shouldStart = !isGroupWriteRunning;
+            isGroupWriteRunning = true;
+        }
+        if (shouldStart) {
+            executor.execute(this::writeNextGroup);
+        }
+        return pendingWrite.getResult();
+    }
+
+    /**
+     * Combines all pending writes (up to the configured limit) into a single write. Once done, continues with the next
+     * group, if any.
+     */
+    private void writeNextGroup() {
+        val group = new ArrayList<PendingWrite>();
+        synchronized (pendingWrites) {
+            int keyCount = 0;
+            while (!pendingWrites.isEmpty()
+                    && (group.isEmpty() || keyCount + pendingWrites.peekFirst().getData().size() <= config.getMaxGroupCommitSize())) {
+                val next = pendingWrites.removeFirst();
+                keyCount += next.getData().size();
+                group.add(next);
+            }
+            if (group.isEmpty()) {
+                isGroupWriteRunning = false;
+                return;
+            }
+        }
+
+        val toWrite = group.stream().flatMap(w -> w.getData().stream()).collect(Collectors.toList());
+        GROUP_COMMIT_TXN_COUNT.reportSuccessValue(group.size());
+        GROUP_COMMIT_KEY_COUNT.reportSuccessValue(toWrite.size());
+        writeToStore(toWrite)
+                .handleAsync((v, ex) -> {
+                    if (null == ex) {
+                        group.forEach(w -> w.getResult().complete(null));
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    if (group.size() == 1) {
+                        group.get(0).getResult().completeExceptionally(Exceptions.unwrap(ex));
+                        return CompletableFuture.<Void>completedFuture(null);
+                    }
+                    // Any one of the transactions could have caused the failure. Write each one individually so that
+                    // only the failing ones fail.
+                    log.debug("Combined write of {} transactions failed. Retrying individually.", group.size(), ex);
+                    return Futures.allOf(group.stream()
+                            .map(w -> writeToStore(w.getData()).handle((v1, ex1) -> {
+                                if (null == ex1) {
+                                    w.getResult().complete(null);
+                                } else {
+                                    w.getResult().completeExceptionally(Exceptions.unwrap(ex1));
+                                }
+                                return (Void) null;
+                            }))
+                            .collect(Collectors.toList()));
+                }, executor)
+                .thenCompose(f -> f)
+                .whenCompleteAsync((v, ex) -> writeNextGroup(), executor);
+    }
+
+    /**
+     * Gets the number of transactions waiting to be written as part of a combined write.
+     *
+     * @return Number of pending writes.
+     */
+    @VisibleForTesting
+    int getPendingWriteCount() {
+        synchronized (pendingWrites) {
+            return pendingWrites.size();
+        }
+    }
+
+    /**
+     * Calls {@link #writeAll(Collection)}, converting any synchronous exception into a failed future.
+     */
+    private CompletableFuture<Void> writeToStore(List<TransactionData> toWrite) {
+        METADATA_WRITE_COUNT.inc();
+        try {
+            return writeAll(toWrite);
+        } catch (Exception e) {
+            return Futures.failedFuture(e);
+        }
+    }
+
     /**
      * Executes external commit step.
      */
@@ -944,6 +1122,16 @@ abstract public class BaseMetadataStore implements ChunkMetadataStore {
         this.version.set(version);
     }
 
+    /**
+     * Values from a single transaction that are waiting to be written as part of a combined write.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    private static class PendingWrite {
+        private final List<TransactionData> data;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+    }
+
     /**
      * Stores the transaction data.
      */
@@ -37,6 +37,7 @@ import static com.google.common.base.Strings.nullToEmpty;
  * <li>Length of the chunk.</li>
  * <li>Name of the next chunk in list.</li>
  * <li>Status flags.</li>
+ * <li>Name of the pack chunk and offset inside it, if the data of this chunk is stored inside a shared pack chunk.</li>
  * </ul>
  */
 @Builder(toBuilder = true)
@@ -64,6 +65,16 @@ public class ChunkMetadata extends StorageMetadata {
      */
     private volatile int status;
 
+    /**
+     * Name of the pack chunk that contains data of this chunk. Null if this chunk is stored as a separate chunk.
+     */
+    private final String packName;
+
+    /**
+     * Offset inside the pack chunk at which data of this chunk starts. Only meaningful when {@link #packName} is not null.
+     */
+    private final long packOffset;
+
     /**
      * Retrieves the key associated with the metadata, which is the name of the chunk.
      *
@@ -116,6 +127,32 @@ public class ChunkMetadata extends StorageMetadata {
         return getFlag(StatusFlags.ACTIVE);
     }
 
+    /**
+     * Gets whether the data of this chunk is stored inside a shared pack chunk.
+     * Packed chunks are immutable and can not be appended to or concatenated.
+     * @return True if packed, false otherwise.
+     */
+    public boolean isPacked() {
+        return null != packName;
+    }
+
+    /**
+     * Gets the name of the chunk that actually stores the data of this chunk.
+     * @return Name of the pack chunk if this chunk is packed, name of this chunk otherwise.
+     */
+    public String getStorageChunkName() {
+        return isPacked() ? packName : name;
+    }
+
+    /**
+     * Gets the offset inside the chunk returned by {@link #getStorageChunkName()} for the given offset inside this chunk.
+     * @param offset Offset inside this chunk.
+     * @return Offset inside the chunk that actually stores the data.
+     */
+    public long getStorageOffset(long offset) {
+        return isPacked() ? packOffset + offset : offset;
+    }
+
     /**
      * Builder that implements {@link ObjectBuilder}.
      */
@@ -138,7 +175,8 @@ public class ChunkMetadata extends StorageMetadata {
 
         @Override
         protected void declareVersions() {
-            version(0).revision(0, this::write00, this::read00);
+            version(0).revision(0, this::write00, this::read00)
+                    .revision(1, this::write01, this::read01);
         }
 
         private void write00(ChunkMetadata object, RevisionDataOutput output) throws IOException {
@@ -154,5 +192,15 @@ public class ChunkMetadata extends StorageMetadata {
             b.nextChunk(emptyToNull(input.readUTF()));
             b.status(input.readCompactInt());
         }
+
+        private void write01(ChunkMetadata object, RevisionDataOutput output) throws IOException {
+            output.writeUTF(nullToEmpty(object.packName));
+            output.writeCompactLong(object.packOffset);
+        }
+
+        private void read01(RevisionDataInput input, ChunkMetadataBuilder b) throws IOException {
+            b.packName(emptyToNull(input.readUTF()));
+            b.packOffset(input.readCompactLong());
+        }
     }
 }
@@ -0,0 +1,171 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.metadata;
+
+import com.google.common.base.Preconditions;
+import io.pravega.common.ObjectBuilder;
+import io.pravega.common.io.serialization.RevisionDataInput;
+import io.pravega.common.io.serialization.RevisionDataOutput;
+import io.pravega.common.io.serialization.VersionedSerializer;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.val;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.IOException;
+import java.util.BitSet;
+
+/**
+ * Represents metadata of a pack chunk, which is a chunk shared by multiple small chunks. Each small chunk occupies a
+ * contiguous range of bytes inside the pack chunk.
+ * Following metadata is stored.
+ * <ul>
+ * <li>Name of the pack chunk.</li>
+ * <li>Length of the pack chunk.</li>
+ * <li>Number of ranges in the pack chunk.</li>
+ * <li>Set of ranges that are still in use.</li>
+ * </ul>
+ * The pack chunk can be deleted once none of its ranges is in use.
+ */
+@Builder(toBuilder = true)
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NotThreadSafe
+public class PackMetadata extends StorageMetadata {
+    /**
+     * Name of this pack chunk.
+     */
+    private final String name;
+
+    /**
+     * Length of the pack chunk.
+     */
+    private final long length;
+
+    /**
+     * Number of ranges in this pack chunk.
+     */
+    private final int rangeCount;
+
+    /**
+     * Indexes of ranges that are still in use.
+     */
+    private final BitSet liveRanges;
+
+    /**
+     * Retrieves the key associated with the metadata, which is the name of the pack chunk.
+     *
+     * @return Name of the pack chunk.
+     */
+    @Override
+    public String getKey() {
+        return name;
+    }
+
+    /**
+     * Creates a deep copy of this instance.
+     *
+     * @return Deep copy of this instance.
+     */
+    @Override
+    public StorageMetadata deepCopy() {
+        return toBuilder().liveRanges((BitSet) liveRanges.clone()).build();
+    }
+
+    /**
+     * Marks the range with given index as no longer in use.
+     * This operation is idempotent.
+     *
+     * @param rangeIndex Index of the range to release.
+     * @return True if the range was in use before this call, false otherwise.
+     */
+    public boolean releaseRange(int rangeIndex) {
+        Preconditions.checkArgument(rangeIndex >= 0 && rangeIndex < rangeCount,
+                "rangeIndex out of bounds. rangeIndex=%s rangeCount=%s", rangeIndex, rangeCount);
+        val wasLive = liveRanges.get(rangeIndex);
+        liveRanges.clear(rangeIndex);
+        return wasLive;
+    }
+
+    /**
+     * Gets the number of ranges that are still in use.
+     *
+     * @return Number of live ranges.
+     */
+    public int getLiveRangeCount() {
+        return liveRanges.cardinality();
+    }
+
+    /**
+     * Creates a new instance of {@link PackMetadata} with all ranges in use.
+     *
+     * @param name       Name of the pack chunk.
+     * @param length     Length of the pack chunk.
+     * @param rangeCount Number of ranges in the pack chunk.
+     * @return New instance.
+     */
+    public static PackMetadata newPack(String name, long length, int rangeCount) {
+        val liveRanges = new BitSet(rangeCount);
+        liveRanges.set(0, rangeCount);
+        return PackMetadata.builder()
+                .name(name)
+                .length(length)
+                .rangeCount(rangeCount)
+                .liveRanges(liveRanges)
+                .build();
+    }
+
+    /**
+     * Builder that implements {@link ObjectBuilder}.
+     */
+    public static class PackMetadataBuilder implements ObjectBuilder<PackMetadata> {
+    }
+
+    /**
+     * Serializer that implements {@link VersionedSerializer}.
+     */
+    public static class Serializer extends VersionedSerializer.WithBuilder<PackMetadata, PackMetadataBuilder> {
+        @Override
+        protected PackMetadataBuilder newBuilder() {
+            return PackMetadata.builder();
+        }
+
+        @Override
+        protected byte getWriteVersion() {
+            return 0;
+        }
+
+        @Override
+        protected void declareVersions() {
+            version(0).revision(0, this::write00, this::read00);
+        }
+
+        private void write00(PackMetadata object, RevisionDataOutput output) throws IOException {
+            output.writeUTF(object.name);
+            output.writeCompactLong(object.length);
+            output.writeCompactInt(object.rangeCount);
+            output.writeArray(object.liveRanges.toByteArray());
+        }
+
+        private void read00(RevisionDataInput input, PackMetadataBuilder b) throws IOException {
+            b.name(input.readUTF());
+            b.length(input.readCompactLong());
+            b.rangeCount(input.readCompactInt());
+            b.liveRanges(BitSet.valueOf(input.readArray()));
+        }
+    }
+}
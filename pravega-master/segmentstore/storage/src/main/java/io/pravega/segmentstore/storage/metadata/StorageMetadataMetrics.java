@@ -31,6 +31,11 @@ public class StorageMetadataMetrics {
 
     static final OpStatsLogger GET_LATENCY = STATS_LOGGER.createStats(MetricsNames.STORAGE_METADATA_GET_LATENCY);
     static final OpStatsLogger COMMIT_LATENCY = STATS_LOGGER.createStats(MetricsNames.STORAGE_METADATA_COMMIT_LATENCY);
+    static final OpStatsLogger GROUP_COMMIT_TXN_COUNT = STATS_LOGGER.createStats(MetricsNames.STORAGE_METADATA_GROUP_COMMIT_TXN_COUNT);
+    static final OpStatsLogger GROUP_COMMIT_KEY_COUNT = STATS_LOGGER.createStats(MetricsNames.STORAGE_METADATA_GROUP_COMMIT_KEY_COUNT);
+
+    static final Counter METADATA_COMMIT_COUNT = STATS_LOGGER.createCounter(MetricsNames.STORAGE_METADATA_COMMIT_COUNT);
+    static final Counter METADATA_WRITE_COUNT = STATS_LOGGER.createCounter(MetricsNames.STORAGE_METADATA_WRITE_COUNT);
 
     static final Counter METADATA_FOUND_IN_TXN = STATS_LOGGER.createCounter(MetricsNames.STORAGE_METADATA_TXN_HIT_COUNT);
     static final Counter METADATA_FOUND_IN_BUFFER = STATS_LOGGER.createCounter(MetricsNames.STORAGE_METADATA_BUFFER_HIT_COUNT);
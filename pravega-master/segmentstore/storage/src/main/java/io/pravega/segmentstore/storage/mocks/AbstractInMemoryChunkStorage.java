@@ -49,6 +49,13 @@ abstract public class AbstractInMemoryChunkStorage extends BaseChunkStorage {
     @Setter
     boolean shouldSupportConcat = false;
 
+    /**
+     * value to return when {@link AbstractInMemoryChunkStorage#supportsBatchDelete()} is called.
+     */
+    @Getter
+    @Setter
+    boolean shouldSupportBatchDelete = false;
+
     @Getter
     @Setter
     long usedSizeToReturn = 0;
@@ -87,6 +94,16 @@ abstract public class AbstractInMemoryChunkStorage extends BaseChunkStorage {
         return shouldSupportConcat;
     }
 
+    /**
+     * Gets a value indicating whether this Storage implementation supports deleting multiple objects in single request.
+     *
+     * @return True or false.
+     */
+    @Override
+    public boolean supportsBatchDelete() {
+        return shouldSupportBatchDelete;
+    }
+
     @Override
     protected long doGetUsedSpace(OperationContext opContext) {
         return usedSizeToReturn;
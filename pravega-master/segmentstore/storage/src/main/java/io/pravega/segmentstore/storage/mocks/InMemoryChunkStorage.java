@@ -28,12 +28,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 
@@ -106,6 +109,29 @@ public class InMemoryChunkStorage extends AbstractInMemoryChunkStorage {
         chunks.remove(handle.getChunkName());
     }
 
+    @Override
+    public boolean supportsListing() {
+        return true;
+    }
+
+    @Override
+    protected List<String> doListChunks() {
+        return new ArrayList<>(chunks.keySet());
+    }
+
+    @Override
+    protected Map<String, Throwable> doDeleteBatch(List<ChunkHandle> handles) {
+        val failures = new HashMap<String, Throwable>();
+        for (val handle : handles) {
+            try {
+                doDelete(handle);
+            } catch (ChunkStorageException e) {
+                failures.put(handle.getChunkName(), e);
+            }
+        }
+        return failures;
+    }
+
     @Override
     protected ChunkHandle doOpenRead(String chunkName) throws ChunkStorageException {
         if (chunks.containsKey(chunkName)) {
@@ -25,6 +25,8 @@ import lombok.Getter;
 
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
@@ -68,6 +70,11 @@ public class SlowChunkStorage implements ChunkStorage {
         return inner.supportsConcat();
     }
 
+    @Override
+    public boolean supportsBatchDelete() {
+        return inner.supportsBatchDelete();
+    }
+
     /**
      * Checks for the existence of the chunk in the chunkStorage.
      * @param chunkName Name of the storage object to check.
@@ -102,6 +109,12 @@ public class SlowChunkStorage implements ChunkStorage {
                 .thenComposeAsync(v -> inner.delete(handle), executorService);
     }
 
+    @Override
+    public CompletableFuture<Map<String, Throwable>> deleteBatch(List<ChunkHandle> handles) {
+        return Futures.delayedFuture(durationSupplier.get(), executorService)
+                .thenComposeAsync(v -> inner.deleteBatch(handles), executorService);
+    }
+
     @Override
     public CompletableFuture<ChunkHandle> openRead(String chunkName) {
         return Futures.delayedFuture(durationSupplier.get(), executorService)
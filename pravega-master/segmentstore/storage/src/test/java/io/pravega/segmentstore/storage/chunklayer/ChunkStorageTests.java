@@ -29,6 +29,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Random;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
@@ -76,6 +78,17 @@ public class ChunkStorageTests extends ThreadPooledTestSuite {
         return THREAD_POOL_SIZE;
     }
 
+    /**
+     * Makes subsequent batch deletes of the given chunk fail with an error other than {@link ChunkNotFoundException}.
+     * Derived classes whose underlying storage can simulate such failures should override this.
+     *
+     * @param chunkName Name of the chunk.
+     * @return True if the failure was injected, false if not supported.
+     */
+    protected boolean injectDeleteBatchFailure(String chunkName) {
+        return false;
+    }
+
     /**
      * Populate the data.
      *
@@ -704,6 +717,70 @@ public class ChunkStorageTests extends ThreadPooledTestSuite {
 
     }
 
+    /**
+     * Test deleting multiple chunks at once, including chunks that do not exist and chunks that can not be deleted.
+     */
+    @Test
+    public void testDeleteBatch() throws Exception {
+        val chunkNames = new ArrayList<String>();
+        val handles = new ArrayList<ChunkHandle>();
+        for (int i = 0; i < 5; i++) {
+            String chunkName = "testDeleteBatch" + i;
+            handles.add(chunkStorage.createWithContent(chunkName, 1, new ByteArrayInputStream(new byte[1])).get());
+            chunkNames.add(chunkName);
+        }
+        String missingChunkName = "testDeleteBatchMissing";
+        handles.add(ChunkHandle.writeHandle(missingChunkName));
+        String failingChunkName = chunkNames.get(2);
+        boolean failureInjected = injectDeleteBatchFailure(failingChunkName);
+
+        val failures = chunkStorage.deleteBatch(handles).get();
+        for (String chunkName : chunkNames) {
+            if (failureInjected && chunkName.equals(failingChunkName)) {
+                assertTrue(chunkStorage.exists(chunkName).get());
+                assertTrue(failures.get(chunkName) instanceof ChunkStorageException);
+                assertFalse(failures.get(chunkName) instanceof ChunkNotFoundException);
+            } else {
+                assertFalse(chunkStorage.exists(chunkName).get());
+                assertFalse(failures.containsKey(chunkName));
+            }
+        }
+
+        // Some storage providers do not report missing objects during bulk deletes.
+        if (failures.containsKey(missingChunkName)) {
+            assertTrue(failures.get(missingChunkName) instanceof ChunkNotFoundException);
+        }
+        assertTrue(failures.size() <= (failureInjected ? 2 : 1));
+
+        // Nothing to delete.
+        assertTrue(chunkStorage.deleteBatch(Collections.emptyList()).get().isEmpty());
+    }
+
+    /**
+     * Test listing chunks, including chunks with nested names.
+     */
+    @Test
+    public void testListChunks() throws Exception {
+        if (!chunkStorage.supportsListing()) {
+            AssertExtensions.assertFutureThrows("listChunks should throw UnsupportedOperationException.",
+                    chunkStorage.listChunks(),
+                    ex -> ex instanceof UnsupportedOperationException);
+            return;
+        }
+        val chunkNames = new ArrayList<String>();
+        chunkNames.add("testListChunks");
+        chunkNames.add("testListChunksDir/testListChunks");
+        for (String chunkName : chunkNames) {
+            chunkStorage.createWithContent(chunkName, 1, new ByteArrayInputStream(new byte[1])).get();
+        }
+        assertTrue(chunkStorage.listChunks().get().containsAll(chunkNames));
+
+        chunkStorage.delete(ChunkHandle.writeHandle(chunkNames.get(0))).get();
+        val listed = chunkStorage.listChunks().get();
+        assertFalse(listed.contains(chunkNames.get(0)));
+        assertTrue(listed.contains(chunkNames.get(1)));
+    }
+
     /**
      * Test one simple concat operation.
      */
@@ -59,6 +59,15 @@ public class ChunkedSegmentStorageConfigTests {
         props.setProperty(ChunkedSegmentStorageConfig.MAX_TRUNCATE_RELOCATION_SIZE_BYTES.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "22");
         props.setProperty(ChunkedSegmentStorageConfig.SELF_CHECK_DATA_INTEGRITY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "true");
         props.setProperty(ChunkedSegmentStorageConfig.SELF_CHECK_METADATA_INTEGRITY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "true");
+        props.setProperty(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_MAX_DELETE_BATCH_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "23");
+        props.setProperty(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_MAX_DELETE_RATE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "24");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_METADATA_CACHE_SIZE_BYTES.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "25");
+        props.setProperty(ChunkedSegmentStorageConfig.METADATA_GROUP_COMMIT_ENABLED.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "true");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_METADATA_GROUP_COMMIT_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "26");
+        props.setProperty(ChunkedSegmentStorageConfig.PACKING_ENABLED.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "true");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_PACKED_CHUNK_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "27");
+        props.setProperty(ChunkedSegmentStorageConfig.MAX_PACK_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "28");
+        props.setProperty(ChunkedSegmentStorageConfig.PACKING_DELAY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE), "29");
 
         TypedProperties typedProperties = new TypedProperties(props, "storage");
         ChunkedSegmentStorageConfig config = new ChunkedSegmentStorageConfig(typedProperties);
@@ -90,6 +99,15 @@ public class ChunkedSegmentStorageConfigTests {
         Assert.assertEquals(config.getMaxSizeForTruncateRelocationInbytes(), 22);
         Assert.assertEquals(config.isSelfCheckForDataEnabled(), true);
         Assert.assertEquals(config.isSelfCheckForMetadataEnabled(), true);
+        Assert.assertEquals(config.getGarbageCollectionDeleteBatchSize(), 23);
+        Assert.assertEquals(config.getGarbageCollectionDeleteRate(), 24);
+        Assert.assertEquals(config.getMaxCacheSizeInBytes(), 25);
+        Assert.assertTrue(config.isGroupCommitEnabled());
+        Assert.assertEquals(config.getMaxGroupCommitSize(), 26);
+        Assert.assertTrue(config.isPackingEnabled());
+        Assert.assertEquals(config.getMaxPackedChunkSize(), 27);
+        Assert.assertEquals(config.getMaxPackSize(), 28);
+        Assert.assertEquals(config.getPackingDelay().toMillis(), 29);
     }
 
     @Test
@@ -130,6 +148,15 @@ public class ChunkedSegmentStorageConfigTests {
         Assert.assertEquals(config.getMinPercentForTruncateRelocation(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMinPercentForTruncateRelocation());
         Assert.assertEquals(config.isSelfCheckForDataEnabled(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.isSelfCheckForDataEnabled());
         Assert.assertEquals(config.isSelfCheckForMetadataEnabled(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.isSelfCheckForMetadataEnabled());
+        Assert.assertEquals(config.getGarbageCollectionDeleteBatchSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getGarbageCollectionDeleteBatchSize());
+        Assert.assertEquals(config.getGarbageCollectionDeleteRate(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getGarbageCollectionDeleteRate());
+        Assert.assertEquals(config.getMaxCacheSizeInBytes(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxCacheSizeInBytes());
+        Assert.assertEquals(config.isGroupCommitEnabled(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.isGroupCommitEnabled());
+        Assert.assertEquals(config.getMaxGroupCommitSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxGroupCommitSize());
+        Assert.assertEquals(config.isPackingEnabled(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.isPackingEnabled());
+        Assert.assertEquals(config.getMaxPackedChunkSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxPackedChunkSize());
+        Assert.assertEquals(config.getMaxPackSize(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getMaxPackSize());
+        Assert.assertEquals(config.getPackingDelay(), ChunkedSegmentStorageConfig.DEFAULT_CONFIG.getPackingDelay());
     }
 
     @Test
@@ -149,12 +176,19 @@ public class ChunkedSegmentStorageConfigTests {
         testGetPositiveValue(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_SLEEP.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_MAX_ATTEMPTS.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_MAX_TXN_BATCH_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetPositiveValue(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_MAX_DELETE_BATCH_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetNonNegativeValue(ChunkedSegmentStorageConfig.GARBAGE_COLLECTION_MAX_DELETE_RATE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.JOURNAL_SNAPSHOT_UPDATE_FREQUENCY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_PER_SNAPSHOT_UPDATE_COUNT.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_JOURNAL_READ_ATTEMPTS.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_METADATA_ENTRIES_IN_BUFFER.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.READ_INDEX_BLOCK_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_METADATA_ENTRIES_IN_CACHE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetNonNegativeValue(ChunkedSegmentStorageConfig.MAX_METADATA_CACHE_SIZE_BYTES.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_METADATA_GROUP_COMMIT_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_PACKED_CHUNK_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_PACK_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
+        testGetNonNegativeValue(ChunkedSegmentStorageConfig.PACKING_DELAY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.MAX_SAFE_SIZE.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.SAFE_SIZE_CHECK_FREQUENCY.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
         testGetPositiveValue(ChunkedSegmentStorageConfig.MIN_TRUNCATE_RELOCATION_SIZE_BYTES.getFullName(ChunkedSegmentStorageConfig.COMPONENT_CODE));
@@ -41,6 +41,7 @@ import org.junit.rules.Timeout;
 
 import java.io.ByteArrayInputStream;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -590,6 +591,128 @@ public class GarbageCollectorTests extends ThreadPooledTestSuite {
         Assert.assertTrue(chunkStorage.exists("activeChunk").get());
     }
 
+    /**
+     * Test for a mix bag of chunks deleted using batch deletes.
+     */
+    @Test
+    public void testMixedChunkWithBatchDelete() throws Exception {
+        @Cleanup
+        ChunkStorage chunkStorage = getChunkStorage();
+        ((InMemoryChunkStorage) chunkStorage).setShouldSupportBatchDelete(true);
+        @Cleanup
+        ChunkMetadataStore metadataStore = getMetadataStore();
+        int containerId = CONTAINER_ID;
+
+        int dataSize = 1;
+        for (int i = 0; i < 3; i++) {
+            insertChunk(chunkStorage, "deletedChunk" + i, dataSize);
+            insertChunkMetadata(metadataStore, "deletedChunk" + i, dataSize, 0);
+        }
+
+        insertChunk(chunkStorage, "activeChunk", dataSize);
+        insertChunkMetadata(metadataStore, "activeChunk", dataSize, 1);
+
+        insertChunk(chunkStorage, "readOnlyChunk", dataSize);
+        insertChunkMetadata(metadataStore, "readOnlyChunk", dataSize, 0);
+        chunkStorage.setReadOnly(chunkStorage.openWrite("readOnlyChunk").get(), true).join();
+
+        Function<Duration, CompletableFuture<Void>> noDelay = d -> CompletableFuture.completedFuture(null);
+        val testTaskQueue = new InMemoryTaskQueueManager();
+
+        @Cleanup
+        GarbageCollector garbageCollector = new GarbageCollector(containerId,
+                chunkStorage,
+                metadataStore,
+                ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                        .garbageCollectionDelay(Duration.ofMillis(1))
+                        .garbageCollectionSleep(Duration.ofMillis(1))
+                        .garbageCollectionDeleteBatchSize(2)
+                        .build(),
+                executorService(),
+                System::currentTimeMillis,
+                noDelay);
+
+        // Now actually start run
+        garbageCollector.initialize(testTaskQueue).join();
+
+        Assert.assertNotNull(garbageCollector.getTaskQueue());
+        Assert.assertEquals(0, garbageCollector.getQueueSize().get());
+
+        // Add some garbage
+        val garbage = Arrays.asList("deletedChunk0", "activeChunk", "nonExistingChunk", "deletedChunk1", "readOnlyChunk", "deletedChunk2");
+        garbageCollector.addChunksToGarbage(TXN_ID, garbage).join();
+
+        // Validate state before
+        assertQueueEquals(garbageCollector.getTaskQueueName(), testTaskQueue, garbage.toArray(new String[0]));
+
+        val list = testTaskQueue.drain(garbageCollector.getTaskQueueName(), garbage.size());
+        Assert.assertEquals(0, testTaskQueue.getTaskQueueMap().get(garbageCollector.getTaskQueueName()).size());
+        Assert.assertEquals(garbage.size(), garbageCollector.getQueueSize().get());
+
+        garbageCollector.processBatch(list).join();
+
+        // Validate state after. Only the chunk that could not be deleted is re-queued.
+        assertQueueEquals(garbageCollector.getTaskQueueName(), testTaskQueue, new String[]{"readOnlyChunk"});
+        for (int i = 0; i < 3; i++) {
+            Assert.assertFalse(chunkStorage.exists("deletedChunk" + i).get());
+        }
+        Assert.assertTrue(chunkStorage.exists("activeChunk").get());
+        Assert.assertTrue(chunkStorage.exists("readOnlyChunk").get());
+    }
+
+    /**
+     * Test that chunk deletes are throttled according to configured rate.
+     */
+    @Test
+    public void testDeleteRateLimit() throws Exception {
+        @Cleanup
+        ChunkStorage chunkStorage = getChunkStorage();
+        @Cleanup
+        ChunkMetadataStore metadataStore = getMetadataStore();
+        int containerId = CONTAINER_ID;
+
+        int dataSize = 1;
+        val garbage = Arrays.asList("deletedChunk0", "deletedChunk1", "deletedChunk2", "deletedChunk3");
+        for (val chunkName : garbage) {
+            insertChunk(chunkStorage, chunkName, dataSize);
+            insertChunkMetadata(metadataStore, chunkName, dataSize, 0);
+        }
+
+        val delays = Collections.synchronizedList(new ArrayList<Duration>());
+        Function<Duration, CompletableFuture<Void>> recordingDelay = d -> {
+            delays.add(d);
+            return CompletableFuture.completedFuture(null);
+        };
+        val testTaskQueue = new InMemoryTaskQueueManager();
+
+        @Cleanup
+        GarbageCollector garbageCollector = new GarbageCollector(containerId,
+                chunkStorage,
+                metadataStore,
+                ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                        .garbageCollectionDelay(Duration.ZERO)
+                        .garbageCollectionSleep(Duration.ofMillis(1))
+                        .garbageCollectionDeleteBatchSize(garbage.size())
+                        .garbageCollectionDeleteRate(2)
+                        .build(),
+                executorService(),
+                () -> 0L,
+                recordingDelay);
+
+        garbageCollector.initialize(testTaskQueue).join();
+        garbageCollector.addChunksToGarbage(TXN_ID, garbage).join();
+
+        val list = testTaskQueue.drain(garbageCollector.getTaskQueueName(), garbage.size());
+        garbageCollector.processBatch(list).join();
+
+        // 4 chunks at 2 chunks per second must take at least 2 seconds.
+        Assert.assertTrue(delays.contains(Duration.ofSeconds(2)));
+        Assert.assertEquals(0, garbageCollector.getQueueSize().get());
+        for (val chunkName : garbage) {
+            Assert.assertFalse(chunkStorage.exists(chunkName).get());
+        }
+    }
+
     /**
      * Test for IO exception.
      */
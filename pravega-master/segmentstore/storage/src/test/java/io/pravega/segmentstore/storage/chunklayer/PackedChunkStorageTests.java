@@ -0,0 +1,346 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import io.pravega.common.Timer;
+import io.pravega.common.concurrent.Futures;
+import io.pravega.segmentstore.storage.SegmentRollingPolicy;
+import io.pravega.segmentstore.storage.metadata.PackMetadata;
+import io.pravega.segmentstore.storage.mocks.InMemoryChunkStorage;
+import io.pravega.segmentstore.storage.mocks.InMemoryMetadataStore;
+import io.pravega.segmentstore.storage.mocks.InMemoryTaskQueueManager;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Unit tests for packing of small chunks into shared pack chunks using {@link SimpleStorageTests}.
+ */
+public class PackedChunkStorageTests extends SimpleStorageTests {
+    @Override
+    protected ChunkStorage getChunkStorage() {
+        return new InMemoryChunkStorage(executorService());
+    }
+
+    @Override
+    protected ChunkedSegmentStorageConfig getDefaultConfig() {
+        return getPackingConfig();
+    }
+
+    static ChunkedSegmentStorageConfig getPackingConfig() {
+        return ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .packingEnabled(true)
+                .build();
+    }
+
+    /**
+     * Unit tests for packing of small chunks using {@link ChunkedRollingStorageTests}.
+     */
+    public static class PackedChunkRollingStorageTests extends ChunkedRollingStorageTests {
+        @Override
+        protected ChunkStorage getChunkStorage() {
+            return new InMemoryChunkStorage(executorService());
+        }
+
+        @Override
+        protected ChunkedSegmentStorageConfig getDefaultConfig() {
+            return getPackingConfig();
+        }
+    }
+
+    /**
+     * Unit tests for layout of packed chunks and their garbage collection.
+     */
+    public static class PackingTests extends ThreadPooledTestSuite {
+        private static final int CONTAINER_ID = 42;
+        private static final int THREAD_POOL_SIZE = 5;
+        private static final int MAX_PACKED_CHUNK_SIZE = 100;
+        private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+        private InMemoryChunkStorage chunkStorage;
+        private InMemoryMetadataStore metadataStore;
+        private InMemoryTaskQueueManager taskQueue;
+        private ChunkedSegmentStorage chunkedSegmentStorage;
+
+        @Override
+        protected int getThreadPoolSize() {
+            return THREAD_POOL_SIZE;
+        }
+
+        @Override
+        @After
+        public void after() throws Exception {
+            if (null != chunkedSegmentStorage) {
+                chunkedSegmentStorage.close();
+            }
+            super.after();
+        }
+
+        private void init(boolean packingEnabled) {
+            val config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                    .packingEnabled(packingEnabled)
+                    .maxPackedChunkSize(MAX_PACKED_CHUNK_SIZE)
+                    .packingDelay(Duration.ofMillis(100))
+                    .garbageCollectionDelay(Duration.ZERO)
+                    .build();
+            chunkStorage = new InMemoryChunkStorage(executorService());
+            metadataStore = new InMemoryMetadataStore(config, executorService());
+            taskQueue = new InMemoryTaskQueueManager();
+            chunkedSegmentStorage = new ChunkedSegmentStorage(CONTAINER_ID, chunkStorage, metadataStore, executorService(), config);
+            chunkedSegmentStorage.initialize(1);
+            chunkedSegmentStorage.getGarbageCollector().initialize(taskQueue).join();
+        }
+
+        /**
+         * Tests that concurrent small writes to different segments are stored in shared pack chunks.
+         */
+        @Test
+        public void testSmallWritesArePacked() throws Exception {
+            init(true);
+            val segmentCount = 10;
+            val data = writeToSegments(segmentCount, 10);
+
+            val packNames = new HashSet<String>();
+            for (int i = 0; i < segmentCount; i++) {
+                val chunks = TestUtils.getChunkList(metadataStore, getSegmentName(i));
+                Assert.assertEquals(1, chunks.size());
+                val chunk = chunks.get(0);
+                Assert.assertTrue(chunk.isPacked());
+                Assert.assertFalse(chunkStorage.exists(chunk.getName()).join());
+                Assert.assertTrue(chunkStorage.exists(chunk.getPackName()).join());
+                packNames.add(chunk.getPackName());
+                TestUtils.checkChunksExistInStorage(chunkStorage, metadataStore, getSegmentName(i));
+                Assert.assertArrayEquals(data.get(i), read(getSegmentName(i), data.get(i).length));
+            }
+            Assert.assertTrue("Expected fewer packs than segments. packs=" + packNames.size(), packNames.size() < segmentCount);
+        }
+
+        /**
+         * Tests that the admin utilities resolve packed chunks to their range inside the pack chunk.
+         */
+        @Test
+        public void testUtilsWrapperWithPackedChunks() throws Exception {
+            init(true);
+            val segmentCount = 5;
+            val data = writeToSegments(segmentCount, 10);
+            val wrapper = new UtilsWrapper(chunkedSegmentStorage, 4, TIMEOUT);
+            for (int i = 0; i < segmentCount; i++) {
+                val infoList = wrapper.getExtendedChunkInfoList(getSegmentName(i), true).join();
+                Assert.assertEquals(1, infoList.size());
+                val info = infoList.get(0);
+                Assert.assertTrue(info.isExistsInStorage());
+                Assert.assertEquals(data.get(i).length, info.getLengthInStorage());
+                Assert.assertEquals(info.getLengthInMetadata(), info.getLengthInStorage());
+
+                val contents = new ByteArrayOutputStream();
+                wrapper.copyFromChunk(info.getChunkName(), contents).join();
+                Assert.assertArrayEquals(data.get(i), contents.toByteArray());
+            }
+        }
+
+        /**
+         * Tests that writes larger than max packed chunk size are written to regular chunks.
+         */
+        @Test
+        public void testLargeWritesAreNotPacked() throws Exception {
+            init(true);
+            val data = writeToSegments(1, MAX_PACKED_CHUNK_SIZE + 1);
+            val chunks = TestUtils.getChunkList(metadataStore, getSegmentName(0));
+            Assert.assertEquals(1, chunks.size());
+            Assert.assertFalse(chunks.get(0).isPacked());
+            Assert.assertTrue(chunkStorage.exists(chunks.get(0).getName()).join());
+            Assert.assertArrayEquals(data.get(0), read(getSegmentName(0), data.get(0).length));
+        }
+
+        /**
+         * Tests that subsequent writes to a segment whose last chunk is packed create new chunks.
+         */
+        @Test
+        public void testWriteAfterPackedChunk() throws Exception {
+            init(true);
+            val segmentName = getSegmentName(0);
+            val handle = chunkedSegmentStorage.create(segmentName, SegmentRollingPolicy.NO_ROLLING, TIMEOUT).join();
+            val expected = populate(30);
+            for (int offset = 0; offset < expected.length; offset += 10) {
+                chunkedSegmentStorage.write(handle, offset, new ByteArrayInputStream(expected, offset, 10), 10, TIMEOUT).join();
+            }
+
+            val chunks = TestUtils.getChunkList(metadataStore, segmentName);
+            Assert.assertEquals(3, chunks.size());
+            for (val chunk : chunks) {
+                Assert.assertTrue(chunk.isPacked());
+                Assert.assertEquals(10, chunk.getLength());
+            }
+            TestUtils.checkSegmentLayout(metadataStore, segmentName, new long[]{10, 10, 10});
+            TestUtils.checkChunksExistInStorage(chunkStorage, metadataStore, segmentName);
+            Assert.assertArrayEquals(expected, read(segmentName, expected.length));
+
+            // Read across chunk boundaries.
+            val buffer = new byte[10];
+            val readHandle = chunkedSegmentStorage.openRead(segmentName).join();
+            Assert.assertEquals(10, (int) chunkedSegmentStorage.read(readHandle, 5, buffer, 0, 10, TIMEOUT).join());
+            for (int i = 0; i < 10; i++) {
+                Assert.assertEquals(expected[5 + i], buffer[i]);
+            }
+        }
+
+        /**
+         * Tests that pack chunk is deleted only after all segments that use it are deleted.
+         */
+        @Test
+        public void testGarbageCollection() throws Exception {
+            init(true);
+            val segmentCount = 3;
+            val data = writeToSegments(segmentCount, 10);
+            val packNames = new HashSet<String>();
+            for (int i = 0; i < segmentCount; i++) {
+                packNames.add(TestUtils.getChunkList(metadataStore, getSegmentName(i)).get(0).getPackName());
+            }
+            drainGarbage();
+
+            // Delete all but last segment.
+            for (int i = 0; i < segmentCount - 1; i++) {
+                val handle = chunkedSegmentStorage.openWrite(getSegmentName(i)).join();
+                chunkedSegmentStorage.delete(handle, TIMEOUT).join();
+            }
+            drainGarbage();
+
+            val lastChunk = TestUtils.getChunkList(metadataStore, getSegmentName(segmentCount - 1)).get(0);
+            Assert.assertTrue(chunkStorage.exists(lastChunk.getPackName()).join());
+            val packMetadata = (PackMetadata) TestUtils.get(metadataStore, lastChunk.getPackName());
+            Assert.assertNotNull(packMetadata);
+            Assert.assertEquals(1, packMetadata.getLiveRangeCount());
+            Assert.assertArrayEquals(data.get(segmentCount - 1), read(getSegmentName(segmentCount - 1), data.get(segmentCount - 1).length));
+
+            // Delete last segment.
+            val handle = chunkedSegmentStorage.openWrite(getSegmentName(segmentCount - 1)).join();
+            chunkedSegmentStorage.delete(handle, TIMEOUT).join();
+            drainGarbage();
+
+            for (val packName : packNames) {
+                Assert.assertFalse(chunkStorage.exists(packName).join());
+                Assert.assertNull(TestUtils.get(metadataStore, packName));
+            }
+        }
+
+        /**
+         * Tests that a range of a pack is released when the metadata for its chunk was never committed.
+         */
+        @Test
+        public void testGarbageCollectionOfOrphanRange() throws Exception {
+            init(true);
+            val packWriter = chunkedSegmentStorage.getPackWriter();
+            val range = packWriter.write(1, populate(10)).join();
+            Assert.assertTrue(chunkStorage.exists(range.getPackName()).join());
+            Assert.assertNull(TestUtils.get(metadataStore, range.getChunkName()));
+
+            drainGarbage();
+
+            Assert.assertFalse(chunkStorage.exists(range.getPackName()).join());
+            Assert.assertNull(TestUtils.get(metadataStore, range.getPackName()));
+        }
+
+        /**
+         * Compares number of objects created and read latency with and without packing.
+         */
+        @Ignore("Benchmark")
+        @Test
+        public void testPackingBenchmark() throws Exception {
+            val segmentCount = 200;
+            for (val packingEnabled : new boolean[]{false, true}) {
+                init(packingEnabled);
+                val data = writeToSegments(segmentCount, 50);
+                val objects = new HashSet<String>();
+                for (int i = 0; i < segmentCount; i++) {
+                    for (val chunk : TestUtils.getChunkList(metadataStore, getSegmentName(i))) {
+                        objects.add(chunk.getStorageChunkName());
+                    }
+                }
+                val timer = new Timer();
+                for (int i = 0; i < segmentCount; i++) {
+                    read(getSegmentName(i), data.get(i).length);
+                }
+                System.out.printf("packing=%s segments=%d objects=%d avgReadMicros=%d%n", packingEnabled, segmentCount,
+                        objects.size(), timer.getElapsedNanos() / segmentCount / 1000);
+                chunkedSegmentStorage.close();
+                chunkedSegmentStorage = null;
+            }
+        }
+
+        /**
+         * Creates given number of segments and concurrently writes given number of bytes to each of them.
+         */
+        private List<byte[]> writeToSegments(int segmentCount, int length) {
+            val data = new ArrayList<byte[]>();
+            val futures = new ArrayList<CompletableFuture<Void>>();
+            for (int i = 0; i < segmentCount; i++) {
+                val segmentData = populate(length + i);
+                data.add(segmentData);
+                val handle = chunkedSegmentStorage.create(getSegmentName(i), SegmentRollingPolicy.NO_ROLLING, TIMEOUT).join();
+                futures.add(chunkedSegmentStorage.write(handle, 0, new ByteArrayInputStream(segmentData), segmentData.length, TIMEOUT));
+            }
+            Futures.allOf(futures).join();
+            return data;
+        }
+
+        /**
+         * Processes all tasks in garbage collection queue including any tasks queued while processing.
+         */
+        private void drainGarbage() {
+            val garbageCollector = chunkedSegmentStorage.getGarbageCollector();
+            for (int i = 0; i < 10; i++) {
+                val batch = taskQueue.drain(garbageCollector.getTaskQueueName(), 1000);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                garbageCollector.processBatch(batch).join();
+            }
+        }
+
+        private byte[] read(String segmentName, int length) {
+            val buffer = new byte[length];
+            val handle = chunkedSegmentStorage.openRead(segmentName).join();
+            int bytesRead = 0;
+            while (bytesRead < length) {
+                bytesRead += chunkedSegmentStorage.read(handle, bytesRead, buffer, bytesRead, length - bytesRead, TIMEOUT).join();
+            }
+            return buffer;
+        }
+
+        private String getSegmentName(int i) {
+            return "segment" + i;
+        }
+
+        private byte[] populate(int length) {
+            val data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte) (length + i);
+            }
+            return data;
+        }
+    }
+}
@@ -316,13 +316,16 @@ public class TestUtils {
         HashSet<String> visited = new HashSet<>();
         val chunkList = getChunkList(metadataStore, segmentName);
         for (ChunkMetadata chunkMetadata : chunkList) {
-            Assert.assertTrue(chunkStorage.exists(chunkMetadata.getName()).get());
-            val info = chunkStorage.getInfo(chunkMetadata.getName()).get();
+            Assert.assertTrue(chunkStorage.exists(chunkMetadata.getStorageChunkName()).get());
+            val info = chunkStorage.getInfo(chunkMetadata.getStorageChunkName()).get();
             Assert.assertTrue(String.format("Actual %s, Expected %d", chunkMetadata, info.getLength()),
-                    chunkMetadata.getLength() <= info.getLength());
+                    chunkMetadata.getStorageOffset(chunkMetadata.getLength()) <= info.getLength());
             chunkCount++;
             Assert.assertTrue("Chunk length should be non negative", info.getLength() >= 0);
-            Assert.assertTrue(info.getLength() <= segmentMetadata.getMaxRollinglength());
+            if (!chunkMetadata.isPacked()) {
+                // Pack chunks are shared by multiple segments and are not bound by rolling length of any one of them.
+                Assert.assertTrue(info.getLength() <= segmentMetadata.getMaxRollinglength());
+            }
             Assert.assertTrue(info.getLength() >= chunkMetadata.getLength());
             Assert.assertFalse("All chunks should be unique", visited.contains(info.getName()));
             visited.add(info.getName());
@@ -0,0 +1,287 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.chunklayer;
+
+import io.pravega.segmentstore.storage.mocks.InMemoryChunkStorage;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.ThreadPooledTestSuite;
+import lombok.Cleanup;
+import lombok.val;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for {@link TieredChunkStorage} using {@link SimpleStorageTests}.
+ */
+public class TieredChunkStorageTests extends SimpleStorageTests {
+    @Override
+    protected ChunkStorage getChunkStorage() {
+        return newTieredChunkStorage(executorService());
+    }
+
+    static TieredChunkStorage newTieredChunkStorage(ScheduledExecutorService executorService) {
+        val coldTier = new InMemoryChunkStorage(executorService);
+        coldTier.setShouldSupportAppend(false);
+        return new TieredChunkStorage(new InMemoryChunkStorage(executorService), coldTier,
+                TieredChunkStorageConfig.builder().build(), executorService);
+    }
+
+    /**
+     * Unit tests for {@link TieredChunkStorage} using {@link ChunkedRollingStorageTests}.
+     */
+    public static class TieredChunkStorageRollingStorageTests extends ChunkedRollingStorageTests {
+        @Override
+        protected ChunkStorage getChunkStorage() {
+            return newTieredChunkStorage(executorService());
+        }
+    }
+
+    /**
+     * Unit tests for {@link TieredChunkStorage} using {@link ChunkStorageTests}.
+     */
+    public static class TieredChunkStorageTest extends ChunkStorageTests {
+        @Override
+        protected ChunkStorage createChunkStorage() {
+            return newTieredChunkStorage(executorService());
+        }
+    }
+
+    /**
+     * Unit tests for migration of chunks between tiers.
+     */
+    public static class TieredChunkStorageMigrationTests extends ThreadPooledTestSuite {
+        private static final int MIGRATION_AGE_SECONDS = 10;
+        private static final int COPY_BUFFER_SIZE = 4;
+        private static final long MIGRATION_RATE = 10;
+        private static final int THREAD_POOL_SIZE = 3;
+
+        private final AtomicLong currentTime = new AtomicLong();
+        private final List<Duration> delays = Collections.synchronizedList(new ArrayList<>());
+        private InMemoryChunkStorage hotTier;
+        private InMemoryChunkStorage coldTier;
+        private TieredChunkStorage chunkStorage;
+
+        @Override
+        protected int getThreadPoolSize() {
+            return THREAD_POOL_SIZE;
+        }
+
+        @Override
+        @Before
+        public void before() throws Exception {
+            super.before();
+            hotTier = new InMemoryChunkStorage(executorService());
+            coldTier = new InMemoryChunkStorage(executorService());
+            coldTier.setShouldSupportAppend(false);
+            val config = TieredChunkStorageConfig.builder()
+                    .with(TieredChunkStorageConfig.MIGRATION_AGE_SECONDS, MIGRATION_AGE_SECONDS)
+                    .with(TieredChunkStorageConfig.COPY_BUFFER_SIZE, COPY_BUFFER_SIZE)
+                    .with(TieredChunkStorageConfig.MIGRATION_RATE_BYTES_MAX, MIGRATION_RATE)
+                    .build();
+            chunkStorage = new TieredChunkStorage(hotTier, coldTier, config, executorService(),
+                    currentTime::get,
+                    duration -> {
+                        delays.add(duration);
+                        return CompletableFuture.completedFuture(null);
+                    });
+        }
+
+        @Override
+        @After
+        public void after() throws Exception {
+            chunkStorage.close();
+            super.after();
+        }
+
+        /**
+         * Tests that only chunks older than the migration age are migrated and that they remain readable.
+         */
+        @Test
+        public void testMigration() throws Exception {
+            val oldData = populate(10);
+            val newData = populate(5);
+            chunkStorage.createWithContent("old", oldData.length, new ByteArrayInputStream(oldData)).join();
+            currentTime.set(Duration.ofSeconds(MIGRATION_AGE_SECONDS).toMillis());
+            chunkStorage.createWithContent("new", newData.length, new ByteArrayInputStream(newData)).join();
+
+            chunkStorage.migrateEligibleChunks().join();
+
+            Assert.assertFalse(hotTier.exists("old").join());
+            Assert.assertTrue(coldTier.exists("old").join());
+            Assert.assertTrue(hotTier.exists("new").join());
+            Assert.assertFalse(coldTier.exists("new").join());
+            Assert.assertEquals(1, chunkStorage.getHotChunkCount());
+
+            Assert.assertTrue(chunkStorage.exists("old").join());
+            Assert.assertEquals(oldData.length, chunkStorage.getInfo("old").join().getLength());
+            Assert.assertArrayEquals(oldData, read("old", oldData.length));
+            Assert.assertArrayEquals(newData, read("new", newData.length));
+
+            // Bandwidth limit.
+            Assert.assertEquals(Collections.singletonList(Duration.ofMillis(1000L * oldData.length / MIGRATION_RATE)), delays);
+        }
+
+        /**
+         * Tests that a migrated chunk is recalled to the hot tier when it is modified.
+         */
+        @Test
+        public void testRecallOnWrite() throws Exception {
+            val data = populate(10);
+            val moreData = populate(3);
+            chunkStorage.createWithContent("chunk", data.length, new ByteArrayInputStream(data)).join();
+            currentTime.set(Duration.ofSeconds(MIGRATION_AGE_SECONDS).toMillis());
+            chunkStorage.migrateEligibleChunks().join();
+            Assert.assertTrue(coldTier.exists("chunk").join());
+
+            val handle = chunkStorage.openWrite("chunk").join();
+            chunkStorage.write(handle, data.length, moreData.length, new ByteArrayInputStream(moreData)).join();
+
+            Assert.assertTrue(hotTier.exists("chunk").join());
+            Assert.assertFalse(coldTier.exists("chunk").join());
+            val expected = new byte[data.length + moreData.length];
+            System.arraycopy(data, 0, expected, 0, data.length);
+            System.arraycopy(moreData, 0, expected, data.length, moreData.length);
+            Assert.assertArrayEquals(expected, read("chunk", expected.length));
+
+            // Recently modified, so it is not migrated again.
+            chunkStorage.migrateEligibleChunks().join();
+            Assert.assertTrue(hotTier.exists("chunk").join());
+        }
+
+        /**
+         * Tests that chunks can be deleted from either tier.
+         */
+        @Test
+        public void testDelete() throws Exception {
+            val data = populate(10);
+            chunkStorage.createWithContent("old", data.length, new ByteArrayInputStream(data)).join();
+            currentTime.set(Duration.ofSeconds(MIGRATION_AGE_SECONDS).toMillis());
+            chunkStorage.createWithContent("new", data.length, new ByteArrayInputStream(data)).join();
+            chunkStorage.migrateEligibleChunks().join();
+
+            chunkStorage.delete(ChunkHandle.writeHandle("old")).join();
+            chunkStorage.delete(ChunkHandle.writeHandle("new")).join();
+            Assert.assertFalse(chunkStorage.exists("old").join());
+            Assert.assertFalse(chunkStorage.exists("new").join());
+            Assert.assertEquals(0, chunkStorage.getHotChunkCount());
+
+            // Nothing left to migrate.
+            currentTime.addAndGet(Duration.ofSeconds(MIGRATION_AGE_SECONDS).toMillis());
+            chunkStorage.migrateEligibleChunks().join();
+            Assert.assertFalse(coldTier.exists("new").join());
+        }
+
+        /**
+         * Tests that a chunk left in both tiers (Eg. by an interrupted migration) is deleted from both tiers.
+         */
+        @Test
+        public void testDeleteFromBothTiers() throws Exception {
+            val data = populate(10);
+            chunkStorage.createWithContent("chunk", data.length, new ByteArrayInputStream(data)).join();
+            coldTier.createWithContent("chunk", data.length, new ByteArrayInputStream(data)).join();
+
+            chunkStorage.delete(ChunkHandle.writeHandle("chunk")).join();
+            Assert.assertFalse(hotTier.exists("chunk").join());
+            Assert.assertFalse(coldTier.exists("chunk").join());
+            Assert.assertEquals(0, chunkStorage.getHotChunkCount());
+
+            AssertExtensions.assertFutureThrows("delete should throw ChunkNotFoundException for missing chunk.",
+                    chunkStorage.delete(ChunkHandle.writeHandle("chunk")),
+                    ex -> ex instanceof ChunkNotFoundException);
+        }
+
+        /**
+         * Tests that chunks already in the hot tier after a restart are recovered and migrated without being accessed.
+         */
+        @Test
+        public void testExistingChunksInHotTier() throws Exception {
+            val data = populate(10);
+            hotTier.createWithContent("existing", data.length, new ByteArrayInputStream(data)).join();
+            hotTier.createWithContent("deleted", data.length, new ByteArrayInputStream(data)).join();
+            chunkStorage.recoverHotChunks().join();
+            Assert.assertEquals(2, chunkStorage.getHotChunkCount());
+
+            // Not modified for migration age since the restart.
+            chunkStorage.migrateEligibleChunks().join();
+            Assert.assertTrue(hotTier.exists("existing").join());
+
+            // Deleted outside of this instance after it was listed.
+            hotTier.delete(ChunkHandle.writeHandle("deleted")).join();
+            currentTime.set(Duration.ofSeconds(MIGRATION_AGE_SECONDS).toMillis());
+            chunkStorage.migrateEligibleChunks().join();
+            Assert.assertFalse(hotTier.exists("existing").join());
+            Assert.assertTrue(coldTier.exists("existing").join());
+            Assert.assertFalse(coldTier.exists("deleted").join());
+            Assert.assertEquals(0, chunkStorage.getHotChunkCount());
+            Assert.assertArrayEquals(data, read("existing", data.length));
+        }
+
+        /**
+         * Tests that chunks larger than the limit for copying to a cold tier without append support remain in the hot tier.
+         */
+        @Test
+        public void testChunkTooLargeForColdTier() throws Exception {
+            val config = TieredChunkStorageConfig.builder()
+                    .with(TieredChunkStorageConfig.MIGRATION_AGE_SECONDS, MIGRATION_AGE_SECONDS)
+                    .with(TieredChunkStorageConfig.MAX_COPY_SIZE_WITHOUT_APPEND, 5)
+                    .build();
+            @Cleanup
+            val limitedStorage = new TieredChunkStorage(new InMemoryChunkStorage(executorService()), coldTier, config, executorService(),
+                    currentTime::get,
+                    duration -> CompletableFuture.completedFuture(null));
+            val smallData = populate(5);
+            val largeData = populate(10);
+            limitedStorage.createWithContent("small", smallData.length, new ByteArrayInputStream(smallData)).join();
+            limitedStorage.createWithContent("large", largeData.length, new ByteArrayInputStream(largeData)).join();
+
+            currentTime.set(Duration.ofSeconds(MIGRATION_AGE_SECONDS).toMillis());
+            limitedStorage.migrateEligibleChunks().join();
+            Assert.assertTrue(coldTier.exists("small").join());
+            Assert.assertFalse(coldTier.exists("large").join());
+            Assert.assertEquals(1, limitedStorage.getHotChunkCount());
+            Assert.assertEquals(largeData.length, limitedStorage.getInfo("large").join().getLength());
+        }
+
+        private byte[] read(String chunkName, int length) {
+            val buffer = new byte[length];
+            val handle = chunkStorage.openRead(chunkName).join();
+            int bytesRead = 0;
+            while (bytesRead < length) {
+                bytesRead += chunkStorage.read(handle, bytesRead, length - bytesRead, buffer, bytesRead).join();
+            }
+            return buffer;
+        }
+
+        private byte[] populate(int length) {
+            val data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte) (length + i);
+            }
+            return data;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.segmentstore.storage.metadata;
+
+import io.pravega.common.concurrent.Futures;
+import io.pravega.segmentstore.storage.chunklayer.ChunkedSegmentStorageConfig;
+import io.pravega.segmentstore.storage.metadata.BaseMetadataStore.TransactionData;
+import io.pravega.segmentstore.storage.mocks.InMemoryMetadataStore;
+import io.pravega.segmentstore.storage.mocks.MockStorageMetadata;
+import io.pravega.test.common.AssertExtensions;
+import io.pravega.test.common.IntentionalException;
+import io.pravega.test.common.TestUtils;
+import lombok.val;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link BaseMetadataStore} with group commit and size based cache enabled.
+ * All tests in {@link ChunkMetadataStoreTests} are run with this configuration.
+ */
+public class ChunkMetadataStoreGroupCommitTests extends ChunkMetadataStoreTests {
+    private static final int MAX_GROUP_COMMIT_SIZE = 4;
+    private static final int MAX_CACHE_SIZE_BYTES = 1024 * 1024;
+    private static final int TXN_COUNT = 20;
+    private static final int CHECK_FREQUENCY_MILLIS = 10;
+    private static final long TIMEOUT_MILLIS = 30000;
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.before();
+        val config = ChunkedSegmentStorageConfig.DEFAULT_CONFIG.toBuilder()
+                .groupCommitEnabled(true)
+                .maxGroupCommitSize(MAX_GROUP_COMMIT_SIZE)
+                .maxCacheSizeInBytes(MAX_CACHE_SIZE_BYTES)
+                .build();
+        metadataStore = new InMemoryMetadataStore(config, executorService());
+    }
+
+    /**
+     * Tests that transactions committed while a write is in progress are combined into fewer writes.
+     */
+    @Test
+    public void testGroupCommit() throws Exception {
+        val testMetadataStore = (InMemoryMetadataStore) metadataStore;
+        val writeCount = new AtomicInteger();
+        val keysWritten = new AtomicInteger();
+        val maxKeysPerWrite = new AtomicInteger();
+        val blocker = new CompletableFuture<TransactionData>();
+        testMetadataStore.setWriteCallback(dataList -> {
+            writeCount.incrementAndGet();
+            keysWritten.addAndGet(dataList.size());
+            maxKeysPerWrite.accumulateAndGet(dataList.size(), Math::max);
+            return blocker;
+        });
+
+        val futures = new ArrayList<CompletableFuture<Void>>();
+        for (int i = 0; i < TXN_COUNT; i++) {
+            val key = "key" + i;
+            val txn = metadataStore.beginTransaction(false, key);
+            txn.create(new MockStorageMetadata(key, VALUE0));
+            futures.add(txn.commit().whenComplete((v, ex) -> txn.close()));
+        }
+
+        // Wait until the first write is blocked and all other transactions are waiting for it.
+        TestUtils.await(() -> keysWritten.get() + metadataStore.getPendingWriteCount() == TXN_COUNT, CHECK_FREQUENCY_MILLIS, TIMEOUT_MILLIS);
+
+        // Let all writes complete.
+        blocker.complete(null);
+        Futures.allOf(futures).join();
+
+        Assert.assertTrue("Expected fewer writes than transactions.", writeCount.get() < TXN_COUNT);
+        Assert.assertTrue("Group exceeded maximum size.", maxKeysPerWrite.get() <= MAX_GROUP_COMMIT_SIZE);
+        for (int i = 0; i < TXN_COUNT; i++) {
+            val key = "key" + i;
+            Assert.assertNotNull(testMetadataStore.getBackingStore().get(key));
+            try (MetadataTransaction txn = metadataStore.beginTransaction(true, key)) {
+                assertEquals(txn.get(key), key, VALUE0);
+            }
+        }
+    }
+
+    /**
+     * Tests that failure of a combined write only fails the transactions that cause the failure.
+     */
+    @Test
+    public void testGroupCommitPartialFailure() throws Exception {
+        val testMetadataStore = (InMemoryMetadataStore) metadataStore;
+        val blocker = new CompletableFuture<TransactionData>();
+        val writeCount = new AtomicInteger();
+        val keysWritten = new AtomicInteger();
+        testMetadataStore.setWriteCallback(dataList -> {
+            val f = writeCount.getAndIncrement() == 0 ? blocker : CompletableFuture.<TransactionData>completedFuture(null);
+            keysWritten.addAndGet(dataList.size());
+            return f.thenCompose(v -> {
+                if (dataList.stream().anyMatch(d -> d.getKey().equals(KEY1))) {
+                    return Futures.<TransactionData>failedFuture(new IntentionalException("Intentional"));
+                }
+                return CompletableFuture.<TransactionData>completedFuture(null);
+            });
+        });
+
+        // The first write is blocked, so that the remaining transactions are grouped together.
+        val futures = new ArrayList<CompletableFuture<Void>>();
+        for (String key : new String[]{KEY0, KEY1, KEY2, KEY3}) {
+            val txn = metadataStore.beginTransaction(false, key);
+            txn.create(new MockStorageMetadata(key, VALUE0));
+            futures.add(txn.commit().whenComplete((v, ex) -> txn.close()));
+        }
+
+        TestUtils.await(() -> keysWritten.get() + metadataStore.getPendingWriteCount() == futures.size(), CHECK_FREQUENCY_MILLIS, TIMEOUT_MILLIS);
+        blocker.complete(null);
+        for (int i = 0; i < futures.size(); i++) {
+            if (i == 1) {
+                AssertExtensions.assertFutureThrows("Commit should have failed.",
+                        futures.get(i),
+                        ex -> ex instanceof IntentionalException);
+            } else {
+                futures.get(i).join();
+            }
+        }
+
+        Assert.assertNull(testMetadataStore.getBackingStore().get(KEY1));
+        for (String key : new String[]{KEY0, KEY2, KEY3}) {
+            Assert.assertNotNull(testMetadataStore.getBackingStore().get(key));
+        }
+    }
+
+    /**
+     * Tests {@link BaseMetadataStore#estimateSize(TransactionData)}.
+     */
+    @Test
+    public void testEstimateSize() {
+        val empty = TransactionData.builder().key(KEY0).build();
+        val chunk = TransactionData.builder()
+                .key(KEY0)
+                .value(ChunkMetadata.builder().name(KEY0).build())
+                .build();
+        val chunkWithNext = TransactionData.builder()
+                .key(KEY0)
+                .value(ChunkMetadata.builder().name(KEY0).nextChunk(String.join("", Collections.nCopies(100, "x"))).build())
+                .build();
+        val segment = TransactionData.builder()
+                .key(KEY0)
+                .value(SegmentMetadata.builder().name(KEY0).firstChunk(KEY1).lastChunk(KEY2).build())
+                .build();
+
+        Assert.assertTrue(BaseMetadataStore.estimateSize(empty) > 2 * KEY0.length());
+        Assert.assertTrue(BaseMetadataStore.estimateSize(chunk) > BaseMetadataStore.estimateSize(empty));
+        Assert.assertTrue(BaseMetadataStore.estimateSize(chunkWithNext) >= BaseMetadataStore.estimateSize(chunk) + 200);
+        Assert.assertTrue(BaseMetadataStore.estimateSize(segment) > BaseMetadataStore.estimateSize(chunk));
+    }
+}
@@ -1562,7 +1562,7 @@ public class ChunkMetadataStoreTests extends ThreadPooledTestSuite {
         Assert.assertNull(data.get());
     }
 
-    private void assertEquals(CompletableFuture<StorageMetadata> data, String key, String value) throws Exception {
+    protected void assertEquals(CompletableFuture<StorageMetadata> data, String key, String value) throws Exception {
         assertEquals((MockStorageMetadata) data.get(), key, value);
     }
 
@@ -78,6 +78,40 @@ public class StorageMetadataSerializationTests {
                 .length(1)
                 .status(2)
                 .build());
+        // Packed chunk
+        testStorageMetadataSerialization(ChunkMetadata.builder()
+                .name("name")
+                .length(1)
+                .status(2)
+                .packName("packName")
+                .packOffset(3)
+                .build());
+    }
+
+    @Test
+    public void testPackMetadataSerialization() throws Exception {
+        val pack = PackMetadata.newPack("name", 1, 20);
+        testStorageMetadataSerialization(pack);
+        pack.releaseRange(3);
+        pack.releaseRange(19);
+        testStorageMetadataSerialization(pack);
+        for (int i = 0; i < 20; i++) {
+            pack.releaseRange(i);
+        }
+        testStorageMetadataSerialization(pack);
+    }
+
+    @Test
+    public void testPackMetadataDeepCopy() throws Exception {
+        val pack = PackMetadata.newPack("name", 1, 3);
+        testStorageMetadataDeepCopy(pack);
+
+        // Modifying the copy must not change the original.
+        val copy = (PackMetadata) pack.deepCopy();
+        Assert.assertTrue(copy.releaseRange(1));
+        Assert.assertFalse(copy.releaseRange(1));
+        Assert.assertEquals(2, copy.getLiveRangeCount());
+        Assert.assertEquals(3, pack.getLiveRangeCount());
     }
 
 
@@ -20,15 +20,16 @@ import io.pravega.common.io.serialization.RevisionDataInput;
 import io.pravega.common.io.serialization.RevisionDataOutput;
 import io.pravega.common.io.serialization.VersionedSerializer;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
 @Builder
 @Data
-@AllArgsConstructor
 public class AutoScaleEvent implements ControllerEvent {
     public static final byte UP = (byte) 0;
     public static final byte DOWN = (byte) 1;
@@ -43,6 +44,29 @@ public class AutoScaleEvent implements ControllerEvent {
     private final int numOfSplits;
     private final boolean silent;
     private final long requestId;
+    /**
+     * Positions in the key space that divide the recent load of the segment into equal parts, in ascending order. Used to
+     * choose split points when scaling up. Empty if the distribution of the load is not known.
+     */
+    private final List<Double> keyLoadQuantiles;
+
+    public AutoScaleEvent(String scope, String stream, long segmentId, byte direction, long timestamp, int numOfSplits,
+                          boolean silent, long requestId) {
+        this(scope, stream, segmentId, direction, timestamp, numOfSplits, silent, requestId, null);
+    }
+
+    public AutoScaleEvent(String scope, String stream, long segmentId, byte direction, long timestamp, int numOfSplits,
+                          boolean silent, long requestId, List<Double> keyLoadQuantiles) {
+        this.scope = scope;
+        this.stream = stream;
+        this.segmentId = segmentId;
+        this.direction = direction;
+        this.timestamp = timestamp;
+        this.numOfSplits = numOfSplits;
+        this.silent = silent;
+        this.requestId = requestId;
+        this.keyLoadQuantiles = keyLoadQuantiles == null ? Collections.emptyList() : keyLoadQuantiles;
+    }
 
     @Override
     public String getKey() {
@@ -78,7 +102,8 @@ public class AutoScaleEvent implements ControllerEvent {
 
         @Override
         protected void declareVersions() {
-            version(0).revision(0, this::write00, this::read00);
+            version(0).revision(0, this::write00, this::read00)
+                      .revision(1, this::write01, this::read01);
         }
 
         private void write00(AutoScaleEvent e, RevisionDataOutput target) throws IOException {
@@ -102,6 +127,14 @@ public class AutoScaleEvent implements ControllerEvent {
             b.silent(source.readBoolean());
             b.requestId(source.readLong());
         }
+
+        private void write01(AutoScaleEvent e, RevisionDataOutput target) throws IOException {
+            target.writeCollection(e.keyLoadQuantiles, RevisionDataOutput::writeDouble);
+        }
+
+        private void read01(RevisionDataInput source, AutoScaleEventBuilder b) throws IOException {
+            b.keyLoadQuantiles(source.readCollection(RevisionDataInput::readDouble, ArrayList::new));
+        }
     }
 
     //endregion
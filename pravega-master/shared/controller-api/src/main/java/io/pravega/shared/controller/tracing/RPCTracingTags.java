@@ -38,6 +38,9 @@ public final class RPCTracingTags {
     public static final String CHECK_SCALE = "checkScale";
     public static final String SEAL_STREAM = "sealStream";
     public static final String DELETE_STREAM = "deleteStream";
+    public static final String CREATE_STREAMS = "createStreams";
+    public static final String UPDATE_STREAMS = "updateStreams";
+    public static final String DELETE_STREAMS = "deleteStreams";
     public static final String GET_SEGMENTS = "getSegmentsAtTime";
     public static final String GET_SEGMENTS_IMMEDIATELY_FOLLOWING = "getSegmentsImmediatelyFollowing";
     public static final String GET_CURRENT_SEGMENTS = "getCurrentSegments";
@@ -48,6 +51,7 @@ public final class RPCTracingTags {
     public static final String CHECK_TRANSACTION_STATE = "checkTransactionState";
     public static final String LIST_COMPLETED_TRANSACTIONS = "listCompletedTransactions";
     public static final String NOTE_TIMESTAMP_FROM_WRITER = "noteTimestampFromWriter";
+    public static final String NOTE_TIMESTAMPS_FROM_WRITERS = "noteTimestampsFromWriters";
     public static final String REMOVE_WRITER = "removeWriter";
     public static final String CREATE_KEY_VALUE_TABLE = "createKeyValueTable";
     public static final String LIST_KEY_VALUE_TABLES = "listKeyValueTables";
@@ -66,4 +70,5 @@ public final class RPCTracingTags {
     public static final String GET_SEGMENTS_BETWEEN_STREAM_CUTS = "getSegmentsBetweenStreamCuts";
     public static final String IS_STREAMCUT_VALID = "isStreamCutValid";
     public static final String GET_CONTROLLER_TO_BUCKET_MAPPING = "getControllerToBucketMapping";
+    public static final String GET_CONTAINER_ROUTING_TABLE = "getContainerRoutingTable";
 }
@@ -132,6 +132,8 @@ public class ControllerEventSerializerTests {
     @Test
     public void testAutoScaleEvent() {
         testClass(() -> new AutoScaleEvent(SCOPE, STREAM, 12345L, AutoScaleEvent.DOWN, 434L, 2, true, 684L));
+        testClass(() -> new AutoScaleEvent(SCOPE, STREAM, 12345L, AutoScaleEvent.UP, 434L, 2, false, 684L,
+                Arrays.asList(0.1, 0.25, 0.3)));
     }
 
     @Test
@@ -40,6 +40,7 @@ package io.pravega.shared;
  * - controller.retention: metrics related to data retention, per stream (e.g., frequency, size of truncated data)
  * - controller.hosts: metrics related to Pravega servers in the cluster (e.g., number of servers, failures)
  * - controller.container: metrics related to container lifecycle (e.g., failovers)
+ * - controller.watermarking: metrics related to writer marks and watermark computation
  *
  * We have two types of metrics:
  * - Global metric: Values are directly associated to the metric name that appears in this file. They are convenient if
@@ -85,6 +86,15 @@ public final class MetricsNames {
     public static final String SEGMENT_READ_BYTES = PREFIX + "segmentstore.segment.read_bytes";                         // Counter and Per-segment Counter
     public static final String SEGMENT_WRITE_BYTES = PREFIX + "segmentstore.segment.write_bytes";                       // Counter and Per-segment Counter
     public static final String SEGMENT_WRITE_EVENTS = PREFIX + "segmentstore.segment.write_events";                     // Counter and Per-segment Counter
+    // Reported instead of the per-segment counters above, for the busiest segments only, if metrics.segmentMetrics.topK is set.
+    public static final String SEGMENT_TOP_WRITE_BYTES = PREFIX + "segmentstore.segment.top.write_bytes";               // Per-segment Gauge
+    public static final String SEGMENT_TOP_WRITE_EVENTS = PREFIX + "segmentstore.segment.top.write_events";             // Per-segment Gauge
+    public static final String SEGMENT_TOP_READ_BYTES = PREFIX + "segmentstore.segment.top.read_bytes";                 // Per-segment Gauge
+    public static final String SEGMENT_TOP_WRITE_LATENCY = PREFIX + "segmentstore.segment.top.write_latency_ms";        // Per-segment Gauge
+
+    // Tenant (Scope) append rate limiting stats
+    public static final String TENANT_APPEND_THROTTLE_COUNT = PREFIX + "segmentstore.tenant.append_throttle_count";     // Per-scope Counter
+    public static final String TENANT_APPEND_THROTTLE_DELAY = PREFIX + "segmentstore.tenant.append_throttle_delay_ms";  // Per-scope Counter
 
     // Table Segment stats
     public static final String TABLE_SEGMENT_UPDATE_LATENCY = PREFIX + "segmentstore.tablesegment.update_latency_ms";                         // Histogram
@@ -113,6 +123,7 @@ public final class MetricsNames {
     public static final String STORAGE_CREATE_LATENCY = PREFIX + "segmentstore.storage.create_latency_ms"; // Histogram
     public static final String STORAGE_DELETE_LATENCY = PREFIX + "segmentstore.storage.delete_latency_ms"; // Histogram
     public static final String STORAGE_CONCAT_LATENCY = PREFIX + "segmentstore.storage.concat_latency_ms"; // Histogram
+    public static final String STORAGE_DELETE_BATCH_LATENCY = PREFIX + "segmentstore.storage.delete_batch_latency_ms"; // Histogram
 
     public static final String STORAGE_READ_BYTES = PREFIX + "segmentstore.storage.read_bytes";          // Counter
     public static final String STORAGE_WRITE_BYTES = PREFIX + "segmentstore.storage.write_bytes";        // Counter
@@ -173,12 +184,29 @@ public final class MetricsNames {
     public static final String SLTS_GC_CHUNK_DELETED = PREFIX + "segmentstore.storage.slts.GC.chunk_deleted_count";     // Counter
     public static final String SLTS_GC_CHUNK_RETRY = PREFIX + "segmentstore.storage.slts.GC.chunk_retry_count";         // Counter
     public static final String SLTS_GC_CHUNK_FAILED = PREFIX + "segmentstore.storage.slts.GC.chunk_failed_count";       // Counter
+    public static final String SLTS_GC_CHUNK_DELETE_BATCH_SIZE = PREFIX + "segmentstore.storage.slts.GC.chunk_delete_batch_size";             // Histogram
+    public static final String SLTS_GC_CHUNK_DELETE_BATCH_LATENCY = PREFIX + "segmentstore.storage.slts.GC.chunk_delete_batch_latency_ms";   // Histogram
+    public static final String SLTS_GC_CHUNK_DELETE_INSTANT_TPUT = PREFIX + "segmentstore.storage.slts.GC.chunk_delete_instant_tput";       // Histogram
 
     public static final String SLTS_GC_SEGMENT_QUEUED = PREFIX + "segmentstore.storage.slts.GC.segment_queued_count";       // Counter
     public static final String SLTS_GC_SEGMENT_PROCESSED = PREFIX + "segmentstore.storage.slts.GC.segment_deleted_count";   // Counter
     public static final String SLTS_GC_SEGMENT_RETRY = PREFIX + "segmentstore.storage.slts.GC.segment_retry_count";         // Counter
     public static final String SLTS_GC_SEGMENT_FAILED = PREFIX + "segmentstore.storage.slts.GC.segment_failed_count";       // Counter
 
+    public static final String SLTS_TIERING_HOT_CHUNK_COUNT = PREFIX + "segmentstore.storage.slts.tiering.hot_chunk_count";           // Gauge
+    public static final String SLTS_TIERING_CHUNK_MIGRATED = PREFIX + "segmentstore.storage.slts.tiering.chunk_migrated_count";       // Counter
+    public static final String SLTS_TIERING_BYTES_MIGRATED = PREFIX + "segmentstore.storage.slts.tiering.migrated_bytes";             // Counter
+    public static final String SLTS_TIERING_CHUNK_RECALLED = PREFIX + "segmentstore.storage.slts.tiering.chunk_recalled_count";       // Counter
+    public static final String SLTS_TIERING_MIGRATION_FAILED = PREFIX + "segmentstore.storage.slts.tiering.migration_failed_count";   // Counter
+    public static final String SLTS_TIERING_MIGRATION_LATENCY = PREFIX + "segmentstore.storage.slts.tiering.migration_latency_ms";    // Histogram
+
+    public static final String SLTS_PACK_COUNT = PREFIX + "segmentstore.storage.slts.packing.pack_count";                     // Counter
+    public static final String SLTS_PACK_FAILED = PREFIX + "segmentstore.storage.slts.packing.pack_failed_count";             // Counter
+    public static final String SLTS_PACK_RANGE_COUNT = PREFIX + "segmentstore.storage.slts.packing.pack_range_count";         // Histogram
+    public static final String SLTS_PACK_SIZE = PREFIX + "segmentstore.storage.slts.packing.pack_size_bytes";                 // Histogram
+    public static final String SLTS_PACK_WRITE_LATENCY = PREFIX + "segmentstore.storage.slts.packing.pack_write_latency_ms";   // Histogram
+    public static final String SLTS_GC_PACK_QUEUED = PREFIX + "segmentstore.storage.slts.GC.pack_queued_count";                // Counter
+
     public static final String SLTS_STORAGE_USED_BYTES = PREFIX + "segmentstore.storage.used_bytes";
     public static final String SLTS_STORAGE_USED_PERCENTAGE = PREFIX + "segmentstore.storage.used_percentage";
 
@@ -189,6 +217,8 @@ public final class MetricsNames {
     public static final String STORAGE_METADATA_COMMIT_LATENCY = PREFIX + "segmentstore.storage.metadata_commit_latency_ms";            // Histogram
     public static final String STORAGE_METADATA_TABLE_GET_LATENCY = PREFIX + "segmentstore.storage.metadata_table_get_latency_ms";      // Histogram
     public static final String STORAGE_METADATA_TABLE_WRITE_LATENCY = PREFIX + "segmentstore.storage.metadata_table_write_latency_ms";  // Histogram
+    public static final String STORAGE_METADATA_GROUP_COMMIT_TXN_COUNT = PREFIX + "segmentstore.storage.metadata_group_commit_txn_count";  // Histogram
+    public static final String STORAGE_METADATA_GROUP_COMMIT_KEY_COUNT = PREFIX + "segmentstore.storage.metadata_group_commit_key_count";  // Histogram
 
     public static final String STORAGE_METADATA_TXN_HIT_COUNT = PREFIX + "segmentstore.storage.metadata_txn_hit_count";       // Counter
     public static final String STORAGE_METADATA_BUFFER_HIT_COUNT = PREFIX + "segmentstore.storage.metadata_buffer_hit_count"; // Counter
@@ -196,6 +226,8 @@ public final class MetricsNames {
     public static final String STORAGE_METADATA_STORE_HIT_COUNT = PREFIX + "segmentstore.storage.metadata_store_hit_count";   // Counter
     public static final String STORAGE_METADATA_MISS_COUNT = PREFIX + "segmentstore.storage.metadata_miss_count";             // Counter
     public static final String STORAGE_METADATA_BUFFER_EVICTED_COUNT = PREFIX + "segmentstore.storage.metadata_buffer_evicted_count";             // Counter
+    public static final String STORAGE_METADATA_COMMIT_COUNT = PREFIX + "segmentstore.storage.metadata_commit_count";         // Counter
+    public static final String STORAGE_METADATA_WRITE_COUNT = PREFIX + "segmentstore.storage.metadata_write_count";           // Counter
 
     public static final String STORAGE_METADATA_BUFFER_SIZE = PREFIX + "segmentstore.storage.metadata_buffer_record_count";         // Gauge
     public static final String STORAGE_METADATA_CACHE_SIZE = PREFIX + "segmentstore.storage.metadata_cache_record_count";           // Gauge
@@ -250,12 +282,18 @@ public final class MetricsNames {
     public static final String OPERATION_QUEUE_SIZE = PREFIX + "segmentstore.container.operation_queue.size";                                // Per-container Histogram
     public static final String OPERATION_PROCESSOR_IN_FLIGHT = PREFIX + "segmentstore.container.operation_processor.in_flight";              // Per-container Histogram
     public static final String OPERATION_QUEUE_WAIT_TIME = PREFIX + "segmentstore.container.operation_queue.wait_time";                      // Per-container Histogram
+    public static final String OPERATION_QUEUE_TENANT_WAIT_TIME = PREFIX + "segmentstore.container.operation_queue.tenant_wait_time";        // Per-container, per-scope Histogram
     public static final String OPERATION_PROCESSOR_DELAY_MILLIS = PREFIX + "segmentstore.container.operation_processor.delay_ms";            // Per-container Histogram
     public static final String OPERATION_COMMIT_LATENCY = PREFIX + "segmentstore.container.operation_commit.latency_ms";                     // Per-container Histogram
     public static final String OPERATION_LATENCY = PREFIX + "segmentstore.container.operation.latency_ms";                                   // Per-container Histogram
     public static final String OPERATION_COMMIT_MEMORY_COUNT = PREFIX + "segmentstore.container.operation_commit.memory_count";              // Per-container Histogram
     public static final String OPERATION_COMMIT_MEMORY_LATENCY = PREFIX + "segmentstore.container.operation_commit.memory_latency_ms";       // Per-container Histogram
     public static final String OPERATION_LOG_SIZE = PREFIX + "segmentstore.container.operation.log_size";                                    // Per-container Counter
+    public static final String OPERATION_STAGE_QUEUE_LATENCY = PREFIX + "segmentstore.container.operation_stage.queue_latency_us";           // Per-container Histogram
+    public static final String OPERATION_STAGE_THROTTLE_LATENCY = PREFIX + "segmentstore.container.operation_stage.throttle_latency_us";     // Per-container Histogram
+    public static final String OPERATION_STAGE_BATCHING_LATENCY = PREFIX + "segmentstore.container.operation_stage.batching_latency_us";     // Per-container Histogram
+    public static final String OPERATION_STAGE_DURABLE_WRITE_LATENCY = PREFIX + "segmentstore.container.operation_stage.durable_write_latency_us"; // Per-container Histogram
+    public static final String OPERATION_STAGE_MEMORY_COMMIT_LATENCY = PREFIX + "segmentstore.container.operation_stage.memory_commit_latency_us"; // Per-container Histogram
 
     // Segment container metadata
     public static final String ACTIVE_SEGMENT_COUNT = PREFIX + "segmentstore.container.active_segments";   // Per-container Gauge
@@ -332,6 +370,11 @@ public final class MetricsNames {
     public static final String CONTROLLER_EVENT_PROCESSOR_DELETE_TABLE_LATENCY = PREFIX + "controller.eventProcessors.deleteTable.write_latency_ms";      // Histogram
     public static final String CONTROLLER_EVENT_PROCESSOR_COMMIT_TRANSACTION_LATENCY = PREFIX + "controller.eventProcessors.transactions.commit.write_latency_ms";      // Histogram
 
+    // Controller EventProcessor framework request handler Metrics
+    public static final String CONTROLLER_EVENT_PROCESSOR_QUEUE_WAIT_LATENCY = PREFIX + "controller.eventProcessors.queue_wait_latency_ms";      // Per-event processor Histogram
+    public static final String CONTROLLER_EVENT_PROCESSOR_PROCESSING_LATENCY = PREFIX + "controller.eventProcessors.processing_latency_ms";      // Per-event processor Histogram
+    public static final String CONTROLLER_EVENT_PROCESSOR_PENDING_EVENTS = PREFIX + "controller.eventProcessors.pending_events";      // Per-event processor Gauge
+
     // Transaction request Operations
     public static final String CREATE_TRANSACTION = PREFIX + "controller.transactions.created";                                         // Counter and Per-stream Counter
     public static final String CREATE_TRANSACTION_LATENCY = PREFIX + "controller.transactions.created_latency_ms";                      // Histogram
@@ -367,6 +410,14 @@ public final class MetricsNames {
     public static final String RETENTION_FREQUENCY = PREFIX + "controller.retention.frequency";   // Per-stream Counter
     public static final String TRUNCATED_SIZE = PREFIX + "controller.retention.truncated_size";   // Per-stream Gauge
 
+    // Watermarking metrics
+    public static final String WATERMARKING_MARKS_RECEIVED = PREFIX + "controller.watermarking.marks_received";          // Counter
+    public static final String WATERMARKING_MARKS_COALESCED = PREFIX + "controller.watermarking.marks_coalesced";        // Counter
+    public static final String WATERMARKING_MARK_BATCH_SIZE = PREFIX + "controller.watermarking.mark_batch_size";        // Histogram
+    public static final String WATERMARKING_MARK_PERSIST_LATENCY = PREFIX + "controller.watermarking.mark_persist_latency_ms"; // Histogram
+    public static final String WATERMARKING_COMPUTATIONS = PREFIX + "controller.watermarking.computations";              // Counter
+    public static final String WATERMARKING_COMPUTATIONS_SKIPPED = PREFIX + "controller.watermarking.computations_skipped"; // Counter
+
     // Zookeeper connectivity metrics
     public static final String CONTROLLER_ZK_SESSION_EXPIRATION = PREFIX + "controller.zookeeper.session_expiration";  // Counter
 
@@ -73,6 +73,16 @@ public final class MetricsTags {
         return new String[] {TAG_CONTAINER, String.valueOf(containerId), TAG_THROTTLER, throttler};
     }
 
+    /**
+     * Generate container and scope tags (string array) to be associated with a per-tenant metric of a container.
+     * @param containerId container id.
+     * @param scope scope name.
+     * @return string array as the container and scope tags of metric.
+     */
+    public static String[] containerScopeTags(int containerId, String scope) {
+        return new String[] {TAG_CONTAINER, String.valueOf(containerId), TAG_SCOPE, scope};
+    }
+
     /**
      * Generate a host tag (string array) on the input hostname to be associated with a metric.
      * @param hostname hostname of the metric.
@@ -82,6 +92,15 @@ public final class MetricsTags {
         return new String[] {TAG_HOST, hostname};
     }
 
+    /**
+     * Generate a scope tag (string array) on the input scope name to be associated with a metric.
+     * @param scope scope name.
+     * @return string array as the scope tag of metric.
+     */
+    public static String[] scopeTag(String scope) {
+        return new String[] {TAG_SCOPE, scope};
+    }
+
     /**
      * Generate stream tags (string array) on the input scope and stream name to be associated with a metric.
      * @param scope scope of the stream.
@@ -113,6 +132,16 @@ public final class MetricsTags {
         return new String[] {TAG_CONTAINER, String.valueOf(containerId), TAG_EVENT_PROCESSOR, eventProcessorName};
     }
 
+    /**
+     * Generate EventProcessor tags (String array) given the event processor name.
+     *
+     * @param eventProcessorName  Name of the EventProcessor.
+     * @return                    String array with the EventProcessor tags.
+     */
+    public static String[] eventProcessorTag(String eventProcessorName) {
+        return new String[] {TAG_EVENT_PROCESSOR, eventProcessorName};
+    }
+
     /**
      * Generate segment tags (string array) on the input fully qualified segment name to be associated with a metric.
      * @param qualifiedSegmentName fully qualified segment name.
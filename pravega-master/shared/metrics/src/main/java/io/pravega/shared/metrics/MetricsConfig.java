@@ -43,6 +43,8 @@ public class MetricsConfig {
     public final static Property<Boolean> ENABLE_STATSD_REPORTER = Property.named("statsD.reporter.enable", false, "enableStatsDReporter");
     public final static Property<Boolean> ENABLE_INFLUXDB_REPORTER = Property.named("influxDB.reporter.enable", false, "enableInfluxDBReporter");
     public final static Property<Boolean> ENABLE_PROMETHEUS = Property.named("prometheus.enable", false);
+    public final static Property<Integer> SEGMENT_METRICS_TOP_K = Property.named("segmentMetrics.topK", 0);
+    public final static Property<Integer> SEGMENT_METRICS_SKETCH_SIZE = Property.named("segmentMetrics.sketch.size", 1000);
     public static final String COMPONENT_CODE = "metrics";
 
     //endregion
@@ -140,6 +142,20 @@ public class MetricsConfig {
     @Getter
     private final boolean enablePrometheus;
 
+    /**
+     * If positive, per-segment metrics are only reported for this many of the busiest segments (by bytes written and
+     * read), which are refreshed every {@link #getOutputFrequencySeconds()}. If 0, metrics are reported for every segment.
+     */
+    @Getter
+    private final int segmentMetricsTopK;
+
+    /**
+     * The number of segments tracked in order to determine the busiest {@link #getSegmentMetricsTopK()} ones. Larger
+     * values yield more accurate results at the expense of memory.
+     */
+    @Getter
+    private final int segmentMetricsSketchSize;
+
     //endregion
 
     //region Constructor
@@ -165,6 +181,12 @@ public class MetricsConfig {
         this.enableInfluxDBReporter = properties.getBoolean(ENABLE_INFLUXDB_REPORTER);
         this.enableStatsDReporter = properties.getBoolean(ENABLE_STATSD_REPORTER);
         this.enablePrometheus = properties.getBoolean(ENABLE_PROMETHEUS);
+        this.segmentMetricsTopK = properties.getNonNegativeInt(SEGMENT_METRICS_TOP_K);
+        this.segmentMetricsSketchSize = properties.getPositiveInt(SEGMENT_METRICS_SKETCH_SIZE);
+        if (this.segmentMetricsSketchSize < this.segmentMetricsTopK) {
+            throw new ConfigurationException(String.format("Property '%s' must be at least the value of '%s'.",
+                    SEGMENT_METRICS_SKETCH_SIZE, SEGMENT_METRICS_TOP_K));
+        }
     }
 
     /**
@@ -123,6 +123,23 @@ public class MetricsTagsTest {
         assertEquals("Cache", tags[3]);
     }
 
+    @Test
+    public void testContainerScopeTags() {
+        String[] tags = containerScopeTags(1, "scope");
+        assertEquals(MetricsTags.TAG_CONTAINER, tags[0]);
+        assertEquals("1", tags[1]);
+        assertEquals(MetricsTags.TAG_SCOPE, tags[2]);
+        assertEquals("scope", tags[3]);
+    }
+
+    @Test
+    public void testScopeTag() {
+        String[] tags = scopeTag("scope");
+        assertEquals(2, tags.length);
+        assertEquals(MetricsTags.TAG_SCOPE, tags[0]);
+        assertEquals("scope", tags[1]);
+    }
+
     @Test
     public void testTableSegmentTags() {
         String[] tags = segmentTags("_system/_tables/commonTables");
@@ -194,6 +211,11 @@ public class MetricsTagsTest {
         assertEquals("0", tags[1]);
         assertEquals(TAG_EVENT_PROCESSOR, tags[2]);
         assertEquals("myProcessor", tags[3]);
+
+        tags = eventProcessorTag("myProcessor");
+        assertEquals(2, tags.length);
+        assertEquals(TAG_EVENT_PROCESSOR, tags[0]);
+        assertEquals("myProcessor", tags[1]);
     }
 
     @Test
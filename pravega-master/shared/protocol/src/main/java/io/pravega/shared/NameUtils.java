@@ -177,6 +177,16 @@ public final class NameUtils {
      */
     private static final String BLOCK_INDEX_NAME_FORMAT_WITH_OFFSET = "%s.B-%d";
 
+    /**
+     * Format for name of pack chunk that contains data of multiple small chunks.
+     */
+    private static final String PACK_NAME_FORMAT = INTERNAL_CONTAINER_PREFIX + "_pack.epoch%d.container%d.%s";
+
+    /**
+     * Delimiter between the name of the pack chunk and the index of the range inside the pack for packed chunks.
+     */
+    private static final String PACKED_CHUNK_DELIMITER = "#range.";
+
     /**
      * Prefix for Container Metadata Segment name.
      */
@@ -470,6 +480,62 @@ public final class NameUtils {
         return String.format(BLOCK_INDEX_NAME_FORMAT_WITH_OFFSET, segmentName, offset);
     }
 
+    /**
+     * Gets the name of a new pack chunk for given container instance.
+     *
+     * @param containerId The Id of the Container.
+     * @param epoch       Epoch of the container instance.
+     * @return formatted pack chunk name.
+     */
+    public static String getPackName(int containerId, long epoch) {
+        return String.format(PACK_NAME_FORMAT, epoch, containerId, UUID.randomUUID());
+    }
+
+    /**
+     * Gets the name of the packed chunk stored at the given range of the given pack chunk.
+     *
+     * @param packName   The name of the pack chunk.
+     * @param rangeIndex Index of the range inside the pack chunk.
+     * @return formatted packed chunk name.
+     */
+    public static String getPackedChunkName(String packName, int rangeIndex) {
+        return packName + PACKED_CHUNK_DELIMITER + rangeIndex;
+    }
+
+    /**
+     * Checks whether given name is the name of a packed chunk.
+     *
+     * @param chunkName The name of the chunk.
+     * @return true if the name is a packed chunk name. False otherwise.
+     */
+    public static boolean isPackedChunkName(String chunkName) {
+        return chunkName.startsWith(INTERNAL_CONTAINER_PREFIX) && chunkName.contains(PACKED_CHUNK_DELIMITER);
+    }
+
+    /**
+     * Gets the name of the pack chunk that contains given packed chunk.
+     *
+     * @param packedChunkName The name of the packed chunk.
+     * @return The name of the pack chunk.
+     */
+    public static String getPackNameFromPackedChunkName(String packedChunkName) {
+        int index = packedChunkName.lastIndexOf(PACKED_CHUNK_DELIMITER);
+        Preconditions.checkArgument(index > 0, "Not a packed chunk name %s.", packedChunkName);
+        return packedChunkName.substring(0, index);
+    }
+
+    /**
+     * Gets the index of the range inside the pack chunk for given packed chunk.
+     *
+     * @param packedChunkName The name of the packed chunk.
+     * @return The index of the range.
+     */
+    public static int getPackedChunkRangeIndex(String packedChunkName) {
+        int index = packedChunkName.lastIndexOf(PACKED_CHUNK_DELIMITER);
+        Preconditions.checkArgument(index > 0, "Not a packed chunk name %s.", packedChunkName);
+        return Integer.parseInt(packedChunkName.substring(index + PACKED_CHUNK_DELIMITER.length()));
+    }
+
     /**
      * Checks whether given name is a Container Metadata Segment.
      *
@@ -719,6 +785,23 @@ public final class NameUtils {
         return retVal;
     }
 
+    /**
+     * Extracts the name of the Scope from a fully qualified Segment name (including Table Segments and internal Segments)
+     * without validating or parsing the rest of the name. This is cheap enough to be invoked for every operation.
+     *
+     * @param qualifiedName The fully qualified Segment name.
+     * @return The Scope name, or null if the name is not qualified by a Scope (it must have at least 3 "/"-separated tokens).
+     */
+    public static String extractScopeName(String qualifiedName) {
+        Preconditions.checkNotNull(qualifiedName);
+        int scopeEnd = qualifiedName.indexOf('/');
+        if (scopeEnd <= 0 || qualifiedName.indexOf('/', scopeEnd + 1) < 0) {
+            return null;
+        }
+
+        return qualifiedName.substring(0, scopeEnd);
+    }
+
     private static StringBuilder getScopedStreamNameInternal(String scope, String streamName) {
         StringBuilder sb = new StringBuilder();
         if (!Strings.isNullOrEmpty(scope)) {
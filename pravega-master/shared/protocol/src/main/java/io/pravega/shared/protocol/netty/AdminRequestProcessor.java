@@ -33,4 +33,11 @@ public interface AdminRequestProcessor extends RequestProcessor {
      * @param listStorageChunks {@link WireCommand} call to list storage chunks for the given segment.
      */
     void listStorageChunks(WireCommands.ListStorageChunks listStorageChunks);
+
+    /**
+     * Call to get the slowest traced operations, with their per-stage latency breakdown, for a particular container.
+     *
+     * @param getSlowestOperations {@link WireCommand} call to get the slowest operations for a container.
+     */
+    void getSlowestOperations(WireCommands.GetSlowestOperations getSlowestOperations);
 }
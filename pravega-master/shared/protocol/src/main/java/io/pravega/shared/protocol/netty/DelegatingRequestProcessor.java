@@ -71,6 +71,11 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().createSegment(createStreamsSegment);
     }
 
+    @Override
+    public void createSegmentsBatch(WireCommands.CreateSegmentsBatch createSegments) {
+        getNextRequestProcessor().createSegmentsBatch(createSegments);
+    }
+
     @Override
     public void updateSegmentPolicy(UpdateSegmentPolicy updateSegmentPolicy) {
         getNextRequestProcessor().updateSegmentPolicy(updateSegmentPolicy);
@@ -91,6 +96,11 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().sealSegment(sealSegment);
     }
 
+    @Override
+    public void sealSegmentsBatch(WireCommands.SealSegmentsBatch sealSegments) {
+        getNextRequestProcessor().sealSegmentsBatch(sealSegments);
+    }
+
     @Override
     public void truncateSegment(TruncateSegment truncateSegment) {
         getNextRequestProcessor().truncateSegment(truncateSegment);
@@ -101,11 +111,21 @@ public abstract class DelegatingRequestProcessor implements RequestProcessor {
         getNextRequestProcessor().deleteSegment(deleteSegment);
     }
 
+    @Override
+    public void deleteSegmentsBatch(WireCommands.DeleteSegmentsBatch deleteSegments) {
+        getNextRequestProcessor().deleteSegmentsBatch(deleteSegments);
+    }
+
     @Override
     public void keepAlive(KeepAlive keepAlive) {
         getNextRequestProcessor().keepAlive(keepAlive);
     }
 
+    @Override
+    public void keyHashDistribution(WireCommands.KeyHashDistribution keyHashDistribution) {
+        getNextRequestProcessor().keyHashDistribution(keyHashDistribution);
+    }
+
     @Override
     public void getTableSegmentInfo(WireCommands.GetTableSegmentInfo request) {
         getNextRequestProcessor().getTableSegmentInfo(request);
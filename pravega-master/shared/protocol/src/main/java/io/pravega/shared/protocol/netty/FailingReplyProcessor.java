@@ -126,6 +126,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
         throw new IllegalStateException("Unexpected operation: " + storageChunksListed);
     }
 
+    @Override
+    public void slowestOperationsListed(WireCommands.SlowestOperationsListed slowestOperationsListed) {
+        throw new IllegalStateException("Unexpected operation: " + slowestOperationsListed);
+    }
+
     @Override
     public void segmentAttribute(WireCommands.SegmentAttribute segmentAttribute) {
         throw new IllegalStateException("Unexpected operation: " + segmentAttribute);
@@ -141,6 +146,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
         throw new IllegalStateException("Unexpected operation: " + streamsSegmentCreated);
     }
 
+    @Override
+    public void segmentsBatchCreated(WireCommands.SegmentsBatchCreated segmentsCreated) {
+        throw new IllegalStateException("Unexpected operation: " + segmentsCreated);
+    }
+
     @Override
     public void segmentsMerged(SegmentsMerged segmentsMerged) {
         throw new IllegalStateException("Unexpected operation: " + segmentsMerged);
@@ -156,6 +166,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
         throw new IllegalStateException("Unexpected operation: " + segmentSealed);
     }
 
+    @Override
+    public void segmentsBatchSealed(WireCommands.SegmentsBatchSealed segmentsSealed) {
+        throw new IllegalStateException("Unexpected operation: " + segmentsSealed);
+    }
+
     @Override
     public void segmentTruncated(SegmentTruncated segmentTruncated) {
         throw new IllegalStateException("Unexpected operation: " + segmentTruncated);
@@ -166,6 +181,11 @@ public abstract class FailingReplyProcessor implements ReplyProcessor {
         throw new IllegalStateException("Unexpected operation: " + segmentDeleted);
     }
 
+    @Override
+    public void segmentsBatchDeleted(WireCommands.SegmentsBatchDeleted segmentsDeleted) {
+        throw new IllegalStateException("Unexpected operation: " + segmentsDeleted);
+    }
+
     @Override
     public void authTokenCheckFailed(WireCommands.AuthTokenCheckFailed authFailed) {
         throw new IllegalStateException("Unexpected operation: " + authFailed);
@@ -75,6 +75,11 @@ public class FailingRequestProcessor implements RequestProcessor {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void createSegmentsBatch(WireCommands.CreateSegmentsBatch createSegments) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void updateSegmentPolicy(UpdateSegmentPolicy updateSegmentPolicy) {
         throw new IllegalStateException("Unexpected operation");
@@ -135,6 +140,11 @@ public class FailingRequestProcessor implements RequestProcessor {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void sealSegmentsBatch(WireCommands.SealSegmentsBatch sealSegments) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void truncateSegment(TruncateSegment truncateSegment) {
         throw new IllegalStateException("Unexpected operation");
@@ -145,11 +155,21 @@ public class FailingRequestProcessor implements RequestProcessor {
         throw new IllegalStateException("Unexpected operation");
     }
 
+    @Override
+    public void deleteSegmentsBatch(WireCommands.DeleteSegmentsBatch deleteSegments) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void keepAlive(KeepAlive keepAlive) {
         // This method intentionally left blank.
     }
 
+    @Override
+    public void keyHashDistribution(WireCommands.KeyHashDistribution keyHashDistribution) {
+        throw new IllegalStateException("Unexpected operation");
+    }
+
     @Override
     public void readTableEntriesDelta(WireCommands.ReadTableEntriesDelta readTableEntriesDelta) {
         throw new IllegalStateException("Unexpected operation");
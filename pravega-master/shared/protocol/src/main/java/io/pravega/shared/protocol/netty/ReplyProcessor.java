@@ -52,6 +52,8 @@ public interface ReplyProcessor {
 
     void storageChunksListed(WireCommands.StorageChunksListed storageChunksListed);
 
+    void slowestOperationsListed(WireCommands.SlowestOperationsListed slowestOperationsListed);
+
     void segmentRead(WireCommands.SegmentRead segmentRead);
     
     void segmentAttributeUpdated(WireCommands.SegmentAttributeUpdated segmentAttributeUpdated);
@@ -62,16 +64,22 @@ public interface ReplyProcessor {
     
     void segmentCreated(WireCommands.SegmentCreated segmentCreated);
 
+    void segmentsBatchCreated(WireCommands.SegmentsBatchCreated segmentsCreated);
+
     void segmentsMerged(WireCommands.SegmentsMerged segmentsMerged);
     
     void segmentsBatchMerged(WireCommands.SegmentsBatchMerged segmentsMerged);
 
     void segmentSealed(WireCommands.SegmentSealed segmentSealed);
 
+    void segmentsBatchSealed(WireCommands.SegmentsBatchSealed segmentsSealed);
+
     void segmentTruncated(WireCommands.SegmentTruncated segmentTruncated);
 
     void segmentDeleted(WireCommands.SegmentDeleted segmentDeleted);
 
+    void segmentsBatchDeleted(WireCommands.SegmentsBatchDeleted segmentsDeleted);
+
     void operationUnsupported(WireCommands.OperationUnsupported operationUnsupported);
 
     void keepAlive(WireCommands.KeepAlive keepAlive);
@@ -53,18 +53,26 @@ public interface RequestProcessor {
 
     void createSegment(CreateSegment createSegment);
 
+    void createSegmentsBatch(WireCommands.CreateSegmentsBatch createSegments);
+
     void mergeSegments(MergeSegments mergeSegments);
     
     void mergeSegmentsBatch(WireCommands.MergeSegmentsBatch mergeSegments);
 
     void sealSegment(SealSegment sealSegment);
 
+    void sealSegmentsBatch(WireCommands.SealSegmentsBatch sealSegments);
+
     void truncateSegment(TruncateSegment truncateSegment);
 
     void deleteSegment(DeleteSegment deleteSegment);
 
+    void deleteSegmentsBatch(WireCommands.DeleteSegmentsBatch deleteSegments);
+
     void keepAlive(KeepAlive keepAlive);
 
+    void keyHashDistribution(WireCommands.KeyHashDistribution keyHashDistribution);
+
     void updateSegmentPolicy(UpdateSegmentPolicy updateSegmentPolicy);
 
     void getTableSegmentInfo(WireCommands.GetTableSegmentInfo getInfo);
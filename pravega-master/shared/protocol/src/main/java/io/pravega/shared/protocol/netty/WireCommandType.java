@@ -38,6 +38,9 @@ public enum WireCommandType {
     LIST_STORAGE_CHUNKS(-5, WireCommands.ListStorageChunks::readFrom),
     STORAGE_CHUNKS_LISTED(-6, WireCommands.StorageChunksListed::readFrom),
 
+    GET_SLOWEST_OPERATIONS(-7, WireCommands.GetSlowestOperations::readFrom),
+    SLOWEST_OPERATIONS_LISTED(-8, WireCommands.SlowestOperationsListed::readFrom),
+
     EVENT(0, null), // Is read manually.
 
     SETUP_APPEND(1, WireCommands.SetupAppend::readFrom),
@@ -126,6 +129,15 @@ public enum WireCommandType {
     MERGE_SEGMENTS_BATCH(90, WireCommands.MergeSegmentsBatch::readFrom),
     SEGMENTS_BATCH_MERGED(91, WireCommands.SegmentsBatchMerged::readFrom),
 
+    CREATE_SEGMENTS_BATCH(92, WireCommands.CreateSegmentsBatch::readFrom),
+    SEGMENTS_BATCH_CREATED(93, WireCommands.SegmentsBatchCreated::readFrom),
+    SEAL_SEGMENTS_BATCH(94, WireCommands.SealSegmentsBatch::readFrom),
+    SEGMENTS_BATCH_SEALED(95, WireCommands.SegmentsBatchSealed::readFrom),
+    DELETE_SEGMENTS_BATCH(96, WireCommands.DeleteSegmentsBatch::readFrom),
+    SEGMENTS_BATCH_DELETED(97, WireCommands.SegmentsBatchDeleted::readFrom),
+
+    KEY_HASH_DISTRIBUTION(98, WireCommands.KeyHashDistribution::readFrom),
+
     KEEP_ALIVE(100, WireCommands.KeepAlive::readFrom);
 
     private final int code;
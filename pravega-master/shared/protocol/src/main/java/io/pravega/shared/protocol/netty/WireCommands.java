@@ -63,7 +63,7 @@ import static io.netty.buffer.Unpooled.wrappedBuffer;
  * Incompatible changes should instead create a new WireCommand object.
  */
 public final class WireCommands {
-    public static final int WIRE_VERSION = 17;
+    public static final int WIRE_VERSION = 19;
     public static final int OLDEST_COMPATIBLE_VERSION = 5;
     public static final int TYPE_SIZE = 4;
     public static final int TYPE_PLUS_LENGTH_SIZE = 8;
@@ -86,6 +86,22 @@ public final class WireCommands {
         return MAPPING.get(value);
     }
 
+    private static void writeSegmentNames(DataOutput out, List<String> segments) throws IOException {
+        out.writeInt(segments.size());
+        for (String segment : segments) {
+            out.writeUTF(segment);
+        }
+    }
+
+    private static List<String> readSegmentNames(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<String> segments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            segments.add(in.readUTF());
+        }
+        return segments;
+    }
+
     @FunctionalInterface
     interface Constructor {
         WireCommand readFrom(EnhancedByteBufInputStream in, int length) throws IOException;
@@ -923,6 +939,104 @@ public final class WireCommands {
         }
     }
 
+    @Data
+    public static final class GetSlowestOperations implements Request, WireCommand {
+        final WireCommandType type = WireCommandType.GET_SLOWEST_OPERATIONS;
+        final int containerId;
+        @ToString.Exclude
+        final String delegationToken;
+        final long requestId;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            ((AdminRequestProcessor) cp).getSlowestOperations(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeInt(containerId);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+            out.writeLong(requestId);
+        }
+
+        public static WireCommand readFrom(ByteBufInputStream in, int length) throws IOException {
+            int containerId = in.readInt();
+            String delegationToken = in.readUTF();
+            long requestId = in.readLong();
+            return new GetSlowestOperations(containerId, delegationToken, requestId);
+        }
+    }
+
+    @Data
+    public static final class SlowestOperationsListed implements Reply, WireCommand {
+        final WireCommandType type = WireCommandType.SLOWEST_OPERATIONS_LISTED;
+        final long requestId;
+        final List<OperationLatencyInfo> operations;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.slowestOperationsListed(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeInt(operations.size());
+            for (OperationLatencyInfo operation : operations) {
+                operation.writeFields(out);
+            }
+        }
+
+        public static WireCommand readFrom(EnhancedByteBufInputStream in, int length) throws IOException {
+            long requestId = in.readLong();
+            int numberOfOperations = in.readInt();
+            List<OperationLatencyInfo> operations = new ArrayList<>(numberOfOperations);
+            for (int i = 0; i < numberOfOperations; i++) {
+                operations.add(OperationLatencyInfo.readFrom(in, in.available()));
+            }
+            return new SlowestOperationsListed(requestId, operations);
+        }
+    }
+
+    @Data
+    public static final class OperationLatencyInfo {
+        final String operationType;
+        final long sequenceNumber;
+        final long segmentId;
+        final long totalNanos;
+        final long queueNanos;
+        final long throttleNanos;
+        final long batchingNanos;
+        final long durableWriteNanos;
+        final long memoryCommitNanos;
+
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeUTF(operationType);
+            out.writeLong(sequenceNumber);
+            out.writeLong(segmentId);
+            out.writeLong(totalNanos);
+            out.writeLong(queueNanos);
+            out.writeLong(throttleNanos);
+            out.writeLong(batchingNanos);
+            out.writeLong(durableWriteNanos);
+            out.writeLong(memoryCommitNanos);
+        }
+
+        public static OperationLatencyInfo readFrom(EnhancedByteBufInputStream in, int length) throws IOException {
+            String operationType = in.readUTF();
+            long sequenceNumber = in.readLong();
+            long segmentId = in.readLong();
+            long totalNanos = in.readLong();
+            long queueNanos = in.readLong();
+            long throttleNanos = in.readLong();
+            long batchingNanos = in.readLong();
+            long durableWriteNanos = in.readLong();
+            long memoryCommitNanos = in.readLong();
+            return new OperationLatencyInfo(operationType, sequenceNumber, segmentId, totalNanos, queueNanos, throttleNanos,
+                    batchingNanos, durableWriteNanos, memoryCommitNanos);
+        }
+    }
+
     @Data
     public static final class ReadSegment implements Request, WireCommand {
         final WireCommandType type = WireCommandType.READ_SEGMENT;
@@ -1393,6 +1507,75 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Creates multiple Stream Segments, which are expected to be owned by the receiving Segment Store, with the same
+     * scaling policy and rollover size. Segments that already exist are considered created.
+     */
+    @Data
+    public static final class CreateSegmentsBatch implements Request, WireCommand {
+        /**
+         * The wire version at which this command was introduced.
+         */
+        public static final int MIN_WIRE_VERSION = 18;
+        final WireCommandType type = WireCommandType.CREATE_SEGMENTS_BATCH;
+        final long requestId;
+        final List<String> segments;
+        final byte scaleType;
+        final int targetRate;
+        @ToString.Exclude
+        final String delegationToken;
+        final long rolloverSizeBytes;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.createSegmentsBatch(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            writeSegmentNames(out, segments);
+            out.writeInt(targetRate);
+            out.writeByte(scaleType);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+            out.writeLong(rolloverSizeBytes);
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            List<String> segments = readSegmentNames(in);
+            int desiredRate = in.readInt();
+            byte scaleType = in.readByte();
+            String delegationToken = in.readUTF();
+            long rolloverSizeBytes = in.readLong();
+            return new CreateSegmentsBatch(requestId, segments, scaleType, desiredRate, delegationToken, rolloverSizeBytes);
+        }
+    }
+
+    @Data
+    public static final class SegmentsBatchCreated implements Reply, WireCommand {
+        final WireCommandType type = WireCommandType.SEGMENTS_BATCH_CREATED;
+        final long requestId;
+        final List<String> segments;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.segmentsBatchCreated(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            writeSegmentNames(out, segments);
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            List<String> segments = readSegmentNames(in);
+            return new SegmentsBatchCreated(requestId, segments);
+        }
+    }
+
     @Data
     public static final class CreateTransientSegment implements Request, WireCommand {
 
@@ -1760,6 +1943,66 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Seals multiple Stream Segments, which are expected to be owned by the receiving Segment Store. Segments that are
+     * already sealed are considered sealed.
+     */
+    @Data
+    public static final class SealSegmentsBatch implements Request, WireCommand {
+        /**
+         * The wire version at which this command was introduced.
+         */
+        public static final int MIN_WIRE_VERSION = 18;
+        final WireCommandType type = WireCommandType.SEAL_SEGMENTS_BATCH;
+        final long requestId;
+        final List<String> segments;
+        @ToString.Exclude
+        final String delegationToken;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.sealSegmentsBatch(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            writeSegmentNames(out, segments);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            List<String> segments = readSegmentNames(in);
+            String delegationToken = in.readUTF();
+            return new SealSegmentsBatch(requestId, segments, delegationToken);
+        }
+    }
+
+    @Data
+    public static final class SegmentsBatchSealed implements Reply, WireCommand {
+        final WireCommandType type = WireCommandType.SEGMENTS_BATCH_SEALED;
+        final long requestId;
+        final List<String> segments;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.segmentsBatchSealed(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            writeSegmentNames(out, segments);
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            List<String> segments = readSegmentNames(in);
+            return new SegmentsBatchSealed(requestId, segments);
+        }
+    }
+
     @Data
     public static final class TruncateSegment implements Request, WireCommand {
         final WireCommandType type = WireCommandType.TRUNCATE_SEGMENT;
@@ -1898,6 +2141,131 @@ public final class WireCommands {
         }
     }
 
+    /**
+     * Deletes multiple Stream Segments, which are expected to be owned by the receiving Segment Store. Segments that do
+     * not exist are considered deleted.
+     */
+    @Data
+    public static final class DeleteSegmentsBatch implements Request, WireCommand {
+        /**
+         * The wire version at which this command was introduced.
+         */
+        public static final int MIN_WIRE_VERSION = 18;
+        final WireCommandType type = WireCommandType.DELETE_SEGMENTS_BATCH;
+        final long requestId;
+        final List<String> segments;
+        @ToString.Exclude
+        final String delegationToken;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.deleteSegmentsBatch(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            writeSegmentNames(out, segments);
+            out.writeUTF(delegationToken == null ? "" : delegationToken);
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            List<String> segments = readSegmentNames(in);
+            String delegationToken = in.readUTF();
+            return new DeleteSegmentsBatch(requestId, segments, delegationToken);
+        }
+    }
+
+    @Data
+    public static final class SegmentsBatchDeleted implements Reply, WireCommand {
+        final WireCommandType type = WireCommandType.SEGMENTS_BATCH_DELETED;
+        final long requestId;
+        final List<String> segments;
+
+        @Override
+        public void process(ReplyProcessor cp) {
+            cp.segmentsBatchDeleted(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            writeSegmentNames(out, segments);
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            List<String> segments = readSegmentNames(in);
+            return new SegmentsBatchDeleted(requestId, segments);
+        }
+    }
+
+    /**
+     * Reports how the events written by a writer to a segment since its last report are distributed over the hashes of
+     * their routing keys. Sent by writers (only to Segment Stores that support it) after setting up appends on the
+     * segment. There is no reply.
+     */
+    @Data
+    public static final class KeyHashDistribution implements Request, WireCommand {
+        /**
+         * The wire version at which this command was introduced.
+         */
+        public static final int MIN_WIRE_VERSION = 19;
+        final WireCommandType type = WireCommandType.KEY_HASH_DISTRIBUTION;
+        final long requestId;
+        final UUID writerId;
+        final String segment;
+        /**
+         * Routing key hashes, in ascending order.
+         */
+        final double[] keyHashes;
+        /**
+         * The number of events written for each routing key hash.
+         */
+        final long[] eventCounts;
+
+        @Override
+        public void process(RequestProcessor cp) {
+            cp.keyHashDistribution(this);
+        }
+
+        @Override
+        public void writeFields(DataOutput out) throws IOException {
+            out.writeLong(requestId);
+            out.writeLong(writerId.getMostSignificantBits());
+            out.writeLong(writerId.getLeastSignificantBits());
+            out.writeUTF(segment);
+            out.writeInt(keyHashes.length);
+            for (int i = 0; i < keyHashes.length; i++) {
+                out.writeDouble(keyHashes[i]);
+                out.writeLong(eventCounts[i]);
+            }
+        }
+
+        public static WireCommand readFrom(DataInput in, int length) throws IOException {
+            long requestId = in.readLong();
+            UUID writerId = new UUID(in.readLong(), in.readLong());
+            String segment = in.readUTF();
+            int count = in.readInt();
+            if (count < 0 || count > length / (Double.BYTES + Long.BYTES)) {
+                throw new InvalidMessageException("Invalid number of key hashes: " + count);
+            }
+            double[] keyHashes = new double[count];
+            long[] eventCounts = new long[count];
+            for (int i = 0; i < count; i++) {
+                keyHashes[i] = in.readDouble();
+                eventCounts[i] = in.readLong();
+            }
+            return new KeyHashDistribution(requestId, writerId, segment, keyHashes, eventCounts);
+        }
+
+        @Override
+        public boolean mustLog() {
+            return false;
+        }
+    }
+
     @Data
     public static final class KeepAlive implements Request, Reply, WireCommand {
         final WireCommandType type = WireCommandType.KEEP_ALIVE;
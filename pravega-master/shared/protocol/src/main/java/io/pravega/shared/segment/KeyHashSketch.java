@@ -0,0 +1,230 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.shared.segment;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+
+/**
+ * A compact summary of how load is distributed over the hashes of routing keys (i.e., positions in the key space
+ * [0, 1) of a Stream).
+ *
+ * The sketch holds up to a fixed number of weighted centroids, sorted by position. When a new position does not fit,
+ * the two adjacent centroids whose merge moves the least weight by the smallest distance are merged together. As a
+ * result, heavy hitters (routing keys that carry a large share of the load) keep their exact position, while light keys
+ * are summarized coarsely.
+ *
+ * This class is not thread safe.
+ */
+public final class KeyHashSketch {
+    /**
+     * The default number of centroids in a sketch.
+     */
+    public static final int DEFAULT_CAPACITY = 32;
+    private final double[] positions;
+    private final double[] weights;
+    private int size;
+    private double totalWeight;
+
+    /**
+     * Creates a new instance of the KeyHashSketch class with {@link #DEFAULT_CAPACITY} centroids.
+     */
+    public KeyHashSketch() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance of the KeyHashSketch class.
+     *
+     * @param capacity The maximum number of centroids to keep.
+     */
+    public KeyHashSketch(int capacity) {
+        Preconditions.checkArgument(capacity >= 2, "capacity must be at least 2.");
+        this.positions = new double[capacity + 1];
+        this.weights = new double[capacity + 1];
+    }
+
+    /**
+     * Gets the number of centroids in this sketch.
+     *
+     * @return The number of centroids.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets a value indicating whether this sketch has recorded any load.
+     *
+     * @return True if the sketch is empty.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the total weight recorded in this sketch.
+     *
+     * @return The total weight.
+     */
+    public double getTotalWeight() {
+        return this.totalWeight;
+    }
+
+    /**
+     * Gets the positions of the centroids of this sketch, in ascending order.
+     *
+     * @return A new array with the positions.
+     */
+    public double[] getPositions() {
+        return Arrays.copyOf(this.positions, this.size);
+    }
+
+    /**
+     * Gets the weights of the centroids of this sketch, in the same order as {@link #getPositions()}.
+     *
+     * @return A new array with the weights.
+     */
+    public double[] getWeights() {
+        return Arrays.copyOf(this.weights, this.size);
+    }
+
+    /**
+     * Records load at the given position.
+     *
+     * @param position The position in the key space. Must be in [0, 1].
+     * @param weight   The load to record. Non-positive values are ignored.
+     */
+    public void add(double position, double weight) {
+        Preconditions.checkArgument(position >= 0.0 && position <= 1.0, "position must be in [0, 1].");
+        if (!(weight > 0)) {
+            return;
+        }
+
+        this.totalWeight += weight;
+        int index = Arrays.binarySearch(this.positions, 0, this.size, position);
+        if (index >= 0) {
+            this.weights[index] += weight;
+            return;
+        }
+
+        index = -index - 1;
+        System.arraycopy(this.positions, index, this.positions, index + 1, this.size - index);
+        System.arraycopy(this.weights, index, this.weights, index + 1, this.size - index);
+        this.positions[index] = position;
+        this.weights[index] = weight;
+        this.size++;
+        if (this.size == this.positions.length) {
+            compact();
+        }
+    }
+
+    /**
+     * Records all the load of the given sketch into this one.
+     *
+     * @param other The sketch to merge.
+     */
+    public void addAll(KeyHashSketch other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.positions[i], other.weights[i]);
+        }
+    }
+
+    /**
+     * Scales down all the weights in this sketch, so that recent load is favored over older load.
+     *
+     * @param factor The factor to multiply the weights by. Must be in [0, 1].
+     */
+    public void decay(double factor) {
+        Preconditions.checkArgument(factor >= 0.0 && factor <= 1.0, "factor must be in [0, 1].");
+        for (int i = 0; i < this.size; i++) {
+            this.weights[i] *= factor;
+        }
+        this.totalWeight *= factor;
+    }
+
+    /**
+     * Removes all the centroids from this sketch.
+     */
+    public void clear() {
+        this.size = 0;
+        this.totalWeight = 0;
+    }
+
+    /**
+     * Calculates the positions that divide the load recorded in this sketch into the given number of equal parts.
+     *
+     * Every centroid is considered to be centered at its position; the load between two adjacent centroids is
+     * interpolated linearly.
+     *
+     * @param parts The number of parts to divide the load into. Must be at least 2.
+     * @return An array of parts - 1 non-decreasing positions, or an empty array if this sketch is empty.
+     */
+    public double[] getQuantiles(int parts) {
+        Preconditions.checkArgument(parts >= 2, "parts must be at least 2.");
+        if (this.size == 0) {
+            return new double[0];
+        }
+
+        double[] result = new double[parts - 1];
+        int index = 0;
+        double before = 0; // Weight of all the centroids before index.
+        for (int k = 1; k < parts; k++) {
+            double target = this.totalWeight * k / parts;
+            while (index < this.size - 1 && before + this.weights[index] + this.weights[index + 1] / 2 <= target) {
+                before += this.weights[index];
+                index++;
+            }
+
+            // The target is now at or after the center of the current centroid (unless this is the first one) and before
+            // the center of the next one. Interpolate between the two.
+            double center = before + this.weights[index] / 2;
+            if (index == this.size - 1 || target <= center) {
+                result[k - 1] = this.positions[index];
+            } else {
+                double nextCenter = center + this.weights[index] / 2 + this.weights[index + 1] / 2;
+                double ratio = (target - center) / (nextCenter - center);
+                result[k - 1] = this.positions[index] + ratio * (this.positions[index + 1] - this.positions[index]);
+            }
+        }
+        return result;
+    }
+
+    private void compact() {
+        // Merge the pair of adjacent centroids that is the cheapest to merge.
+        int best = 0;
+        double bestCost = Double.MAX_VALUE;
+        for (int i = 0; i < this.size - 1; i++) {
+            double cost = (this.weights[i] + this.weights[i + 1]) * (this.positions[i + 1] - this.positions[i]);
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = i;
+            }
+        }
+
+        double weight = this.weights[best] + this.weights[best + 1];
+        this.positions[best] = (this.positions[best] * this.weights[best] + this.positions[best + 1] * this.weights[best + 1]) / weight;
+        this.weights[best] = weight;
+        System.arraycopy(this.positions, best + 2, this.positions, best + 1, this.size - best - 2);
+        System.arraycopy(this.weights, best + 2, this.weights, best + 1, this.size - best - 2);
+        this.size--;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("KeyHashSketch[Centroids = %d, Weight = %.1f]", this.size, this.totalWeight);
+    }
+}
@@ -183,6 +183,23 @@ public class NameUtilsTest {
         Assert.assertEquals(NameUtils.getSegmentReadIndexBlockName("segment", 10), "segment.B-10");
     }
 
+    @Test
+    public void testPackNames() {
+        val packName = NameUtils.getPackName(11, 12);
+        Assert.assertTrue(packName.startsWith("_system/containers/_pack.epoch12.container11."));
+        Assert.assertNotEquals(packName, NameUtils.getPackName(11, 12));
+        Assert.assertFalse(NameUtils.isPackedChunkName(packName));
+        Assert.assertFalse(NameUtils.isPackedChunkName(NameUtils.getSegmentChunkName("segment", 8, 9)));
+
+        val packedChunkName = NameUtils.getPackedChunkName(packName, 13);
+        Assert.assertTrue(NameUtils.isPackedChunkName(packedChunkName));
+        Assert.assertEquals(packName, NameUtils.getPackNameFromPackedChunkName(packedChunkName));
+        Assert.assertEquals(13, NameUtils.getPackedChunkRangeIndex(packedChunkName));
+        AssertExtensions.assertThrows("getPackNameFromPackedChunkName accepted invalid name.",
+                () -> NameUtils.getPackNameFromPackedChunkName(packName),
+                ex -> ex instanceof IllegalArgumentException);
+    }
+
     @Test
     public void testIsContainerMetadataSegmentName() {
         Assert.assertTrue(NameUtils.isMetadataSegmentName("_system/containers/metadata_1"));
@@ -222,6 +239,17 @@ public class NameUtilsTest {
         Assert.assertTrue(NameUtils.isTransientSegment(transientSegmentName) && !NameUtils.isTransactionSegment(transientSegmentName));
     }
 
+    @Test
+    public void testExtractScopeName() {
+        Assert.assertEquals("scope", NameUtils.extractScopeName(NameUtils.getQualifiedStreamSegmentName("scope", "stream", 123L)));
+        Assert.assertEquals("scope", NameUtils.extractScopeName(getSegmentName("#transaction.")));
+        Assert.assertEquals("scope", NameUtils.extractScopeName(NameUtils.getQualifiedTableSegmentName("scope", "kvt", 1L)));
+        Assert.assertEquals(NameUtils.INTERNAL_SCOPE_NAME, NameUtils.extractScopeName(NameUtils.getMetadataSegmentName(1)));
+        Assert.assertNull(NameUtils.extractScopeName("stream/0"));
+        Assert.assertNull(NameUtils.extractScopeName("segment"));
+        Assert.assertNull(NameUtils.extractScopeName("/stream/0"));
+    }
+
     private String getSegmentName(String delimiter) {
         return String.format("scope/stream/transactionSegment%s01234567890123456789012345678901", delimiter);
     }
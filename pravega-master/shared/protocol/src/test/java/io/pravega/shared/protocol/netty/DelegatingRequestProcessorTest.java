@@ -58,6 +58,7 @@ public class DelegatingRequestProcessorTest {
         rp.updateSegmentPolicy(new WireCommands.UpdateSegmentPolicy(0, "", (byte) 0, 0, ""));
         rp.deleteTableSegment(new WireCommands.DeleteTableSegment(0, "", false,  ""));
         rp.keepAlive(new WireCommands.KeepAlive());
+        rp.keyHashDistribution(new WireCommands.KeyHashDistribution(0, new UUID(0, 0), "", new double[0], new long[0]));
         rp.updateTableEntries(new WireCommands.UpdateTableEntries(0, "", "", null, 0));
         rp.removeTableKeys(new WireCommands.RemoveTableKeys(0, "", "", null, 0));
         rp.readTable(new WireCommands.ReadTable(0, "", "", null));
@@ -85,6 +86,7 @@ public class DelegatingRequestProcessorTest {
         verify(rp.getNextRequestProcessor(), times(1)).createTableSegment(any());
         verify(rp.getNextRequestProcessor(), times(1)).deleteTableSegment(any());
         verify(rp.getNextRequestProcessor(), times(1)).keepAlive(any());
+        verify(rp.getNextRequestProcessor(), times(1)).keyHashDistribution(any());
         verify(rp.getNextRequestProcessor(), times(1)).updateTableEntries(any());
         verify(rp.getNextRequestProcessor(), times(1)).removeTableKeys(any());
         verify(rp.getNextRequestProcessor(), times(1)).readTable(any());
@@ -101,7 +101,11 @@ public class FailingReplyProcessorTest {
         assertThrows(IllegalStateException.class, () -> rp.errorMessage(new ErrorMessage(0, "", "", ErrorMessage.ErrorCode.UNSPECIFIED)));
         assertThrows(IllegalStateException.class, () -> rp.storageFlushed(new StorageFlushed(0)));
         assertThrows(IllegalStateException.class, () -> rp.storageChunksListed(new WireCommands.StorageChunksListed(0, new ArrayList<>())));
+        assertThrows(IllegalStateException.class, () -> rp.slowestOperationsListed(new WireCommands.SlowestOperationsListed(0, new ArrayList<>())));
         assertThrows(IllegalStateException.class, () -> rp.offsetLocated(new WireCommands.OffsetLocated(0, "", 0)));
+        assertThrows(IllegalStateException.class, () -> rp.segmentsBatchCreated(new WireCommands.SegmentsBatchCreated(0, new ArrayList<>())));
+        assertThrows(IllegalStateException.class, () -> rp.segmentsBatchSealed(new WireCommands.SegmentsBatchSealed(0, new ArrayList<>())));
+        assertThrows(IllegalStateException.class, () -> rp.segmentsBatchDeleted(new WireCommands.SegmentsBatchDeleted(0, new ArrayList<>())));
     }
 
 }
@@ -40,6 +40,7 @@ import io.pravega.shared.protocol.netty.WireCommands.CreateTransientSegment;
 
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.UUID;
 
 import static io.pravega.test.common.AssertExtensions.assertThrows;
@@ -76,6 +77,10 @@ public class FailingRequestProcessorTest {
         assertThrows(IllegalStateException.class, () -> rp.createTableSegment(new CreateTableSegment(0, "", false, 0, "", 0)));
         assertThrows(IllegalStateException.class, () -> rp.readTableEntriesDelta(new ReadTableEntriesDelta(0, "", "", 0, 0)));
         assertThrows(IllegalStateException.class, () -> rp.createTransientSegment(new CreateTransientSegment(0, new UUID(0, 0), "", "")));
+        assertThrows(IllegalStateException.class, () -> rp.createSegmentsBatch(new WireCommands.CreateSegmentsBatch(0, Collections.emptyList(), (byte) 0, 0, "", 0)));
+        assertThrows(IllegalStateException.class, () -> rp.sealSegmentsBatch(new WireCommands.SealSegmentsBatch(0, Collections.emptyList(), "")));
+        assertThrows(IllegalStateException.class, () -> rp.deleteSegmentsBatch(new WireCommands.DeleteSegmentsBatch(0, Collections.emptyList(), "")));
+        assertThrows(IllegalStateException.class, () -> rp.keyHashDistribution(new WireCommands.KeyHashDistribution(0, new UUID(0, 0), "", new double[0], new long[0])));
         assertThrows(IllegalStateException.class, () -> rp.connectionDropped());
     }
 
@@ -618,6 +618,18 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.StorageChunksListed(l, chunks));
     }
 
+    @Test
+    public void testGetSlowestOperations() throws IOException {
+        testCommand(new WireCommands.GetSlowestOperations(i, "", l));
+    }
+
+    @Test
+    public void testSlowestOperationsListed() throws IOException {
+        List<WireCommands.OperationLatencyInfo> operations = Collections.singletonList(
+                new WireCommands.OperationLatencyInfo(testString1, l, l, l, l, l, l, l, l));
+        testCommand(new WireCommands.SlowestOperationsListed(l, operations));
+    }
+
     @Test
     public void testReadSegment() throws IOException {
         testCommand(new WireCommands.ReadSegment(testString1, l, i, "", l));
@@ -691,6 +703,16 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.SegmentCreated(l, testString1));
     }
 
+    @Test
+    public void testCreateSegmentsBatch() throws IOException {
+        testCommand(new WireCommands.CreateSegmentsBatch(l, ImmutableList.of(testString1, testString2), b, i, "", 1024L));
+    }
+
+    @Test
+    public void testSegmentsBatchCreated() throws IOException {
+        testCommand(new WireCommands.SegmentsBatchCreated(l, ImmutableList.of(testString1, testString2)));
+    }
+
     @Test
     public void testCreateTransientSegment() throws IOException {
         RequestProcessor rp = mock(RequestProcessor.class);
@@ -734,6 +756,16 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.SegmentSealed(l, testString1));
     }
 
+    @Test
+    public void testSealSegmentsBatch() throws IOException {
+        testCommand(new WireCommands.SealSegmentsBatch(l, ImmutableList.of(testString1, testString2), ""));
+    }
+
+    @Test
+    public void testSegmentsBatchSealed() throws IOException {
+        testCommand(new WireCommands.SegmentsBatchSealed(l, ImmutableList.of(testString1, testString2)));
+    }
+
     @Test
     public void testTruncateSegment() throws IOException {
         testCommand(new WireCommands.TruncateSegment(l, testString1, l + 1, ""));
@@ -765,6 +797,16 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.SegmentDeleted(l, testString1));
     }
 
+    @Test
+    public void testDeleteSegmentsBatch() throws IOException {
+        testCommand(new WireCommands.DeleteSegmentsBatch(l, ImmutableList.of(testString1, testString2), ""));
+    }
+
+    @Test
+    public void testSegmentsBatchDeleted() throws IOException {
+        testCommand(new WireCommands.SegmentsBatchDeleted(l, ImmutableList.of(testString1, testString2)));
+    }
+
     @Test
     public void testUpdateSegmentPolicy() throws IOException {
         testCommand(new WireCommands.UpdateSegmentPolicy(l, testString1, b, i, ""));
@@ -812,6 +854,12 @@ public class WireCommandsTest extends LeakDetectorTestSuite {
         testCommand(new WireCommands.KeepAlive());
     }
 
+    @Test
+    public void testKeyHashDistribution() throws IOException {
+        testCommand(new WireCommands.KeyHashDistribution(l, uuid, testString1, new double[]{0.1, 0.5, 0.75}, new long[]{1, 100, 7}));
+        testCommand(new WireCommands.KeyHashDistribution(l, uuid, testString1, new double[0], new long[0]));
+    }
+
     @Test
     public void testUpdateTableEntries() throws IOException {
         List<Map.Entry<WireCommands.TableKey, WireCommands.TableValue>> entries = Arrays.asList(
@@ -0,0 +1,99 @@
+/**
+ * Copyright Pravega Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.pravega.shared.segment;
+
+import io.pravega.test.common.AssertExtensions;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the {@link KeyHashSketch} class.
+ */
+public class KeyHashSketchTests {
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Tests adding, merging, decaying and clearing.
+     */
+    @Test
+    public void testAdd() {
+        KeyHashSketch sketch = new KeyHashSketch(4);
+        Assert.assertTrue(sketch.isEmpty());
+        Assert.assertEquals(0, sketch.getQuantiles(2).length);
+
+        sketch.add(0.5, 1);
+        sketch.add(0.1, 2);
+        sketch.add(0.5, 3);
+        sketch.add(0.9, 0); // ignored
+        Assert.assertArrayEquals(new double[]{0.1, 0.5}, sketch.getPositions(), DELTA);
+        Assert.assertArrayEquals(new double[]{2, 4}, sketch.getWeights(), DELTA);
+        Assert.assertEquals(6, sketch.getTotalWeight(), DELTA);
+
+        // Going over capacity merges the closest light centroids.
+        sketch.add(0.2, 1);
+        sketch.add(0.8, 1);
+        sketch.add(0.81, 1);
+        Assert.assertEquals(4, sketch.size());
+        Assert.assertArrayEquals(new double[]{0.1, 0.2, 0.5, 0.805}, sketch.getPositions(), DELTA);
+        Assert.assertEquals(9, sketch.getTotalWeight(), DELTA);
+
+        KeyHashSketch other = new KeyHashSketch();
+        other.addAll(sketch);
+        other.decay(0.5);
+        Assert.assertArrayEquals(sketch.getPositions(), other.getPositions(), DELTA);
+        Assert.assertArrayEquals(new double[]{1, 0.5, 2, 1}, other.getWeights(), DELTA);
+        Assert.assertEquals(4.5, other.getTotalWeight(), DELTA);
+
+        other.clear();
+        Assert.assertTrue(other.isEmpty());
+        Assert.assertEquals(0, other.getTotalWeight(), DELTA);
+
+        AssertExtensions.assertThrows("Invalid position.", () -> sketch.add(1.5, 1), ex -> ex instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows("Invalid factor.", () -> sketch.decay(2), ex -> ex instanceof IllegalArgumentException);
+        AssertExtensions.assertThrows("Invalid parts.", () -> sketch.getQuantiles(1), ex -> ex instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Tests that the quantiles divide the load into equal parts and follow heavy hitters.
+     */
+    @Test
+    public void testQuantiles() {
+        KeyHashSketch sketch = new KeyHashSketch();
+        sketch.add(0.3, 10);
+        Assert.assertArrayEquals(new double[]{0.3, 0.3, 0.3}, sketch.getQuantiles(4), DELTA);
+
+        // Uniform load.
+        sketch.clear();
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            sketch.add(random.nextDouble(), 1);
+        }
+        Assert.assertEquals(KeyHashSketch.DEFAULT_CAPACITY, sketch.size());
+        double[] quartiles = sketch.getQuantiles(4);
+        Assert.assertEquals(0.25, quartiles[0], 0.02);
+        Assert.assertEquals(0.5, quartiles[1], 0.02);
+        Assert.assertEquals(0.75, quartiles[2], 0.02);
+
+        // A key that carries most of the load pulls the median to its position, even once the sketch is full.
+        sketch.decay(0.5);
+        for (int i = 0; i < 100; i++) {
+            sketch.add(0.9, 1000);
+        }
+        Assert.assertEquals(0.9, sketch.getQuantiles(2)[0], 0.01);
+        Assert.assertEquals(0.75, sketch.getQuantiles(4)[0], 0.02);
+    }
+}
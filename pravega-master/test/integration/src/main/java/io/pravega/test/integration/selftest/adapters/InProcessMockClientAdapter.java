@@ -33,6 +33,7 @@ import io.pravega.segmentstore.contracts.AttributeUpdate;
 import io.pravega.segmentstore.contracts.AttributeUpdateCollection;
 import io.pravega.segmentstore.contracts.ExtendedChunkInfo;
 import io.pravega.segmentstore.contracts.MergeStreamSegmentResult;
+import io.pravega.segmentstore.contracts.OperationLatencyBreakdown;
 import io.pravega.segmentstore.contracts.ReadResult;
 import io.pravega.segmentstore.contracts.SegmentProperties;
 import io.pravega.segmentstore.contracts.SegmentType;
@@ -287,6 +288,11 @@ class InProcessMockClientAdapter extends ClientAdapterBase {
             throw new UnsupportedOperationException("flushToStorage");
         }
 
+        @Override
+        public CompletableFuture<List<OperationLatencyBreakdown>> getSlowestOperations(int containerId, Duration timeout) {
+            throw new UnsupportedOperationException("getSlowestOperations");
+        }
+
         @Override
         public CompletableFuture<List<ExtendedChunkInfo>> getExtendedChunkInfo(String streamSegmentName, Duration timeout) {
             throw new UnsupportedOperationException("getExtendedChunkInfo");
@@ -309,6 +315,13 @@ class InProcessMockClientAdapter extends ClientAdapterBase {
             throw new UnsupportedOperationException("mergeStreamSegment");
         }
 
+        @Override
+        public CompletableFuture<List<MergeStreamSegmentResult>> mergeStreamSegments(String target, List<String> sources,
+                                                                                     List<AttributeUpdateCollection> attributeUpdates,
+                                                                                     Duration timeout) {
+            throw new UnsupportedOperationException("mergeStreamSegments");
+        }
+
         @Override
         public CompletableFuture<Long> sealStreamSegment(String streamSegmentName, Duration timeout) {
             throw new UnsupportedOperationException("sealStreamSegment");
@@ -38,6 +38,7 @@ import io.pravega.segmentstore.server.host.stat.TableSegmentStatsRecorder;
 import io.pravega.segmentstore.server.store.ServiceBuilder;
 import io.pravega.segmentstore.server.store.ServiceBuilderConfig;
 import io.pravega.shared.NameUtils;
+import io.pravega.shared.segment.KeyHashSketch;
 import io.pravega.test.common.SecurityConfigDefaults;
 import io.pravega.test.common.TestUtils;
 import io.pravega.test.common.TestingServerStarter;
@@ -188,6 +189,11 @@ public class EndToEndStatsTest {
             }
         }
 
+        @Override
+        public void recordKeyHashes(String streamSegmentName, KeyHashSketch keyHashes) {
+
+        }
+
         @Override
         public void merge(String streamSegmentName, long dataLength, int numOfEvents, long txnCreationTime) {
             Counter eventCounter = registry.counter(SEGMENT_WRITE_EVENTS, segmentTags(streamSegmentName));